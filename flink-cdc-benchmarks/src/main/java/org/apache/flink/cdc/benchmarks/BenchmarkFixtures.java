@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The synthetic tables and events shared by the benchmarks, in the way of the {@code
+ * ValuesDataSourceHelper}. The events are generated from a fixed seed, so every run of a benchmark
+ * processes the same events.
+ */
+public class BenchmarkFixtures {
+
+    public static final TableId TABLE_ID =
+            TableId.tableId("default_namespace", "default_schema", "table1");
+
+    /** The number of events processed by every invocation of the benchmarks. */
+    public static final int EVENT_COUNT = 1000;
+
+    private static final long SEED = 20250101L;
+    private static final long BASE_TIMESTAMP_MILLIS = 1735689600000L;
+    private static final char[] ALPHANUMERIC =
+            "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+
+    private BenchmarkFixtures() {}
+
+    /** Returns the schema of the synthetic table, which covers the common column types. */
+    public static Schema schema(String... primaryKeys) {
+        return Schema.newBuilder()
+                .physicalColumn("id", DataTypes.BIGINT().notNull())
+                .physicalColumn("name", DataTypes.STRING())
+                .physicalColumn("score", DataTypes.INT())
+                .physicalColumn("price", DataTypes.DOUBLE())
+                .physicalColumn("amount", DataTypes.DECIMAL(10, 2))
+                .physicalColumn("enabled", DataTypes.BOOLEAN())
+                .physicalColumn("updated_at", DataTypes.TIMESTAMP(3))
+                .physicalColumn("description", DataTypes.STRING())
+                .primaryKey(primaryKeys.length == 0 ? new String[] {"id"} : primaryKeys)
+                .build();
+    }
+
+    public static CreateTableEvent createTableEvent(Schema schema) {
+        return new CreateTableEvent(TABLE_ID, schema);
+    }
+
+    /** Generates the internal field values of {@code count} rows of {@link #schema}. */
+    public static List<Object[]> generateRowFields(int count) {
+        Random random = new Random(SEED);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(
+                    new Object[] {
+                        (long) i,
+                        BinaryStringData.fromString("user_" + i),
+                        random.nextInt(100),
+                        random.nextDouble() * 100,
+                        DecimalData.fromUnscaledLong(random.nextInt(10_000_000), 10, 2),
+                        random.nextBoolean(),
+                        TimestampData.fromMillis(BASE_TIMESTAMP_MILLIS + i * 1000L),
+                        BinaryStringData.fromString(randomString(random, 32))
+                    });
+        }
+        return rows;
+    }
+
+    /** Generates {@code count} binary records of {@link #schema}. */
+    public static List<BinaryRecordData> generateRecords(int count) {
+        BinaryRecordDataGenerator generator = new BinaryRecordDataGenerator(columnTypes());
+        List<BinaryRecordData> records = new ArrayList<>(count);
+        for (Object[] rowFields : generateRowFields(count)) {
+            records.add(generator.generate(rowFields));
+        }
+        return records;
+    }
+
+    /**
+     * Generates {@code count} data change events of {@link #TABLE_ID}, in which 70% are inserts,
+     * 20% are updates and 10% are deletes.
+     */
+    public static List<DataChangeEvent> generateDataChangeEvents(int count) {
+        List<BinaryRecordData> records = generateRecords(count);
+        List<DataChangeEvent> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BinaryRecordData record = records.get(i);
+            switch (i % 10) {
+                case 7:
+                case 8:
+                    events.add(
+                            DataChangeEvent.updateEvent(
+                                    TABLE_ID, records.get((i + 1) % count), record));
+                    break;
+                case 9:
+                    events.add(DataChangeEvent.deleteEvent(TABLE_ID, record));
+                    break;
+                default:
+                    events.add(DataChangeEvent.insertEvent(TABLE_ID, record));
+            }
+        }
+        return events;
+    }
+
+    public static DataType[] columnTypes() {
+        return schema().getColumnDataTypes().toArray(new DataType[0]);
+    }
+
+    private static String randomString(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = ALPHANUMERIC[random.nextInt(ALPHANUMERIC.length)];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks;
+
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+import static org.apache.flink.cdc.benchmarks.BenchmarkFixtures.EVENT_COUNT;
+
+/** Benchmark for generating binary records by {@link BinaryRecordDataGenerator}. */
+public class BinaryRecordDataGeneratorBenchmark extends BenchmarkBase {
+
+    private BinaryRecordDataGenerator generator;
+    private List<Object[]> rowFields;
+
+    @Setup
+    public void setUp() {
+        generator = new BinaryRecordDataGenerator(BenchmarkFixtures.columnTypes());
+        rowFields = BenchmarkFixtures.generateRowFields(EVENT_COUNT);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENT_COUNT)
+    public void generate(Blackhole blackhole) {
+        for (Object[] fields : rowFields) {
+            blackhole.consume(generator.generate(fields));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks;
+
+import org.apache.flink.streaming.api.operators.Output;
+import org.apache.flink.streaming.api.watermark.Watermark;
+import org.apache.flink.streaming.runtime.streamrecord.LatencyMarker;
+import org.apache.flink.streaming.runtime.streamrecord.RecordAttributes;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+import org.apache.flink.streaming.runtime.watermarkstatus.WatermarkStatus;
+import org.apache.flink.util.OutputTag;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The output of the benchmarked operators, which hands the records to a {@link Blackhole} instead
+ * of copying or serializing them, so that only the operators themselves are measured.
+ */
+public class BlackholeOutput<T> implements Output<StreamRecord<T>> {
+
+    private Blackhole blackhole;
+
+    /** Sets the blackhole of the current benchmark invocation. */
+    public void setBlackhole(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void collect(StreamRecord<T> record) {
+        blackhole.consume(record.getValue());
+    }
+
+    @Override
+    public <X> void collect(OutputTag<X> outputTag, StreamRecord<X> record) {
+        blackhole.consume(record.getValue());
+    }
+
+    @Override
+    public void emitWatermark(Watermark mark) {}
+
+    @Override
+    public void emitWatermarkStatus(WatermarkStatus watermarkStatus) {}
+
+    @Override
+    public void emitLatencyMarker(LatencyMarker latencyMarker) {}
+
+    @Override
+    public void emitRecordAttributes(RecordAttributes recordAttributes) {}
+
+    @Override
+    public void close() {}
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks;
+
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.function.HashFunction;
+import org.apache.flink.cdc.common.function.HashFunctionProvider;
+import org.apache.flink.cdc.common.sink.BinaryDataChangeEventHashFunctionProvider;
+import org.apache.flink.cdc.common.sink.DefaultDataChangeEventHashFunctionProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+import static org.apache.flink.cdc.benchmarks.BenchmarkFixtures.EVENT_COUNT;
+import static org.apache.flink.cdc.benchmarks.BenchmarkFixtures.TABLE_ID;
+
+/**
+ * Benchmark for hashing the primary keys of data change events by the hash functions used to
+ * partition the events.
+ */
+public class HashFunctionBenchmark extends BenchmarkBase {
+
+    @Param({"default", "binary"})
+    public String hashFunctionType;
+
+    @Param({"id", "id,name", "name,updated_at,amount"})
+    public String primaryKeys;
+
+    private HashFunction<DataChangeEvent> hashFunction;
+    private List<DataChangeEvent> events;
+
+    @Setup
+    public void setUp() {
+        HashFunctionProvider<DataChangeEvent> provider =
+                "binary".equals(hashFunctionType)
+                        ? new BinaryDataChangeEventHashFunctionProvider()
+                        : new DefaultDataChangeEventHashFunctionProvider();
+        hashFunction =
+                provider.getHashFunction(
+                        TABLE_ID, BenchmarkFixtures.schema(primaryKeys.split(",")));
+        events = BenchmarkFixtures.generateDataChangeEvents(EVENT_COUNT);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENT_COUNT)
+    public void hash(Blackhole blackhole) {
+        for (DataChangeEvent event : events) {
+            blackhole.consume(hashFunction.hashcode(event));
+        }
+    }
+}
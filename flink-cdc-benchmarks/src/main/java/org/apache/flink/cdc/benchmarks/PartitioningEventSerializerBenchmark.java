@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks;
+
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.runtime.partitioning.PartitioningEvent;
+import org.apache.flink.cdc.runtime.serializer.event.CompactPartitioningEventSerializer;
+import org.apache.flink.cdc.runtime.serializer.event.PartitioningEventSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.flink.cdc.benchmarks.BenchmarkFixtures.EVENT_COUNT;
+
+/**
+ * Benchmark for serializing and deserializing the partitioned events sent from the partitioning
+ * operators to the schema operators, with the regular or the compact serializer.
+ */
+public class PartitioningEventSerializerBenchmark extends BenchmarkBase {
+
+    private static final int PARALLELISM = 4;
+
+    @Param({"regular", "compact"})
+    public String serializerType;
+
+    private TypeSerializer<PartitioningEvent> serializer;
+    private List<PartitioningEvent> events;
+    private DataOutputSerializer output;
+    private byte[] serializedEvents;
+    private DataInputDeserializer input;
+
+    @Setup
+    public void setUp() throws IOException {
+        serializer =
+                "compact".equals(serializerType)
+                        ? new CompactPartitioningEventSerializer()
+                        : PartitioningEventSerializer.INSTANCE;
+        events = new ArrayList<>(EVENT_COUNT);
+        List<DataChangeEvent> dataChangeEvents =
+                BenchmarkFixtures.generateDataChangeEvents(EVENT_COUNT);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            events.add(PartitioningEvent.ofRegular(dataChangeEvents.get(i), i % PARALLELISM));
+        }
+        output = new DataOutputSerializer(64 * 1024);
+        TypeSerializer<PartitioningEvent> upstreamSerializer = serializer.duplicate();
+        for (PartitioningEvent event : events) {
+            upstreamSerializer.serialize(event, output);
+        }
+        serializedEvents = output.getCopyOfBuffer();
+        input = new DataInputDeserializer();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENT_COUNT)
+    public void serialize(Blackhole blackhole) throws IOException {
+        output.clear();
+        for (PartitioningEvent event : events) {
+            serializer.serialize(event, output);
+        }
+        blackhole.consume(output.length());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENT_COUNT)
+    public void deserialize(Blackhole blackhole) throws IOException {
+        // the compact serializer expects the table ids to be announced to every new deserializer
+        TypeSerializer<PartitioningEvent> deserializer = serializer.duplicate();
+        input.setBuffer(serializedEvents);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            blackhole.consume(deserializer.deserialize(input));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks;
+
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.runtime.operators.transform.PostTransformOperator;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.runtime.operators.testutils.MockEnvironmentBuilder;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+import org.apache.flink.streaming.util.MockStreamConfig;
+import org.apache.flink.streaming.util.MockStreamTaskBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.flink.cdc.benchmarks.BenchmarkFixtures.EVENT_COUNT;
+import static org.apache.flink.cdc.benchmarks.BenchmarkFixtures.TABLE_ID;
+
+/**
+ * Benchmark for evaluating the projection and filter expressions of a transform rule by {@link
+ * PostTransformOperator}.
+ */
+public class PostTransformOperatorBenchmark extends BenchmarkBase {
+
+    private static final String PROJECTION =
+            "id, name, UPPER(name) AS upper_name, price * 2 AS double_price, score + 1 AS next_score, amount, updated_at";
+    private static final String FILTER = "score > 20 AND price < 80.0 AND name LIKE 'user_%'";
+
+    @Param({"projection", "filter", "projection_and_filter"})
+    public String transform;
+
+    private PostTransformOperator operator;
+    private BlackholeOutput<Event> output;
+    private List<StreamRecord<Event>> records;
+
+    @Setup
+    public void setUp(Blackhole blackhole) throws Exception {
+        String projection = "filter".equals(transform) ? "*" : PROJECTION;
+        String filter = "projection".equals(transform) ? null : FILTER;
+        operator =
+                PostTransformOperator.newBuilder()
+                        .addTransform(TABLE_ID.identifier(), projection, filter)
+                        .build();
+        // The operator emits into a blackhole, unlike a test harness which copies the events
+        output = new BlackholeOutput<>();
+        output.setBlackhole(blackhole);
+        operator.setup(
+                new MockStreamTaskBuilder(new MockEnvironmentBuilder().build()).build(),
+                new MockStreamConfig(new Configuration(), 1),
+                output);
+        operator.open();
+
+        Schema schema = BenchmarkFixtures.schema();
+        operator.processElement(new StreamRecord<>(BenchmarkFixtures.createTableEvent(schema)));
+
+        records = new ArrayList<>(EVENT_COUNT);
+        for (Event event : BenchmarkFixtures.generateDataChangeEvents(EVENT_COUNT)) {
+            records.add(new StreamRecord<>(event));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        operator.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENT_COUNT)
+    public void processDataChangeEvents(Blackhole blackhole) throws Exception {
+        output.setBlackhole(blackhole);
+        for (StreamRecord<Event> record : records) {
+            operator.processElement(record);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks;
+
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.runtime.operators.schema.common.SchemaDerivator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+import static org.apache.flink.cdc.benchmarks.BenchmarkFixtures.EVENT_COUNT;
+
+/**
+ * Benchmark for coercing the data change events of an upstream schema into the evolved schema by
+ * {@link SchemaDerivator#coerceDataRecord}.
+ */
+public class SchemaDerivatorBenchmark extends BenchmarkBase {
+
+    private static final String TIMEZONE = "UTC";
+
+    /**
+     * The evolved schema is either identical to the upstream schema, or has widened column types
+     * and an extra column, like the schemas merged from several upstream tables.
+     */
+    @Param({"identical", "widened"})
+    public String evolvedSchemaType;
+
+    private SchemaDerivator schemaDerivator;
+    private Schema upstreamSchema;
+    private Schema evolvedSchema;
+    private List<DataChangeEvent> events;
+
+    @Setup
+    public void setUp() {
+        schemaDerivator = new SchemaDerivator();
+        upstreamSchema = BenchmarkFixtures.schema();
+        evolvedSchema =
+                "identical".equals(evolvedSchemaType)
+                        ? BenchmarkFixtures.schema()
+                        : Schema.newBuilder()
+                                .physicalColumn("id", DataTypes.BIGINT().notNull())
+                                .physicalColumn("name", DataTypes.STRING())
+                                .physicalColumn("score", DataTypes.BIGINT())
+                                .physicalColumn("price", DataTypes.DOUBLE())
+                                .physicalColumn("amount", DataTypes.DECIMAL(20, 4))
+                                .physicalColumn("enabled", DataTypes.BOOLEAN())
+                                .physicalColumn("updated_at", DataTypes.TIMESTAMP(6))
+                                .physicalColumn("description", DataTypes.STRING())
+                                .physicalColumn("source_table", DataTypes.STRING())
+                                .primaryKey("id")
+                                .build();
+        events = BenchmarkFixtures.generateDataChangeEvents(EVENT_COUNT);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENT_COUNT)
+    public void coerceDataRecord(Blackhole blackhole) {
+        for (DataChangeEvent event : events) {
+            blackhole.consume(
+                    schemaDerivator.coerceDataRecord(
+                            TIMEZONE, event, upstreamSchema, evolvedSchema));
+        }
+    }
+}
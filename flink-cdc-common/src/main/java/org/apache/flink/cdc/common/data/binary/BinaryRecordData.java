@@ -216,6 +216,38 @@ public final class BinaryRecordData extends BinarySection implements RecordData,
         return BinarySegmentUtils.readRecordData(segments, numFields, offset, getLong(pos));
     }
 
+    /**
+     * Hashes the first {@code numBytes} bytes of a field stored in the fixed-length part, i.e. a
+     * primitive, a compact decimal, a date or a time, without deserializing it.
+     */
+    public int hashFixedLengthField(int pos, int numBytes) {
+        assertIndexIsValid(pos);
+        return MurmurHashUtils.hashBytes(segments[0], getFieldOffset(pos), numBytes);
+    }
+
+    /**
+     * Hashes the bytes of a field stored in the variable-length part, i.e. a string, a binary or a
+     * non-compact decimal, without deserializing it.
+     */
+    public int hashVariableLengthField(int pos) {
+        assertIndexIsValid(pos);
+        int fieldOffset = getFieldOffset(pos);
+        final long offsetAndLen = segments[0].getLong(fieldOffset);
+        return BinarySegmentUtils.hashBinary(segments, offset, fieldOffset, offsetAndLen);
+    }
+
+    /**
+     * Hashes a timestamp field, which is stored as the millisecond in the variable-length part and
+     * the nano of millisecond in the fixed-length part, without deserializing it.
+     */
+    public int hashTimestampField(int pos) {
+        assertIndexIsValid(pos);
+        final long offsetAndNanoOfMilli = segments[0].getLong(getFieldOffset(pos));
+        final int subOffset = (int) (offsetAndNanoOfMilli >> 32);
+        return 31 * BinarySegmentUtils.hash(segments, offset + subOffset, 8)
+                + (int) offsetAndNanoOfMilli;
+    }
+
     /** The bit is 1 when the field is null. Default is 0. */
     @Override
     public boolean anyNull() {
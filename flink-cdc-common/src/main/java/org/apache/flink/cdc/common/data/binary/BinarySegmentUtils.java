@@ -1066,6 +1066,37 @@ public final class BinarySegmentUtils {
         }
     }
 
+    /**
+     * Hash the binary in place, without copying it. The binary is located in the same way as {@link
+     * #readBinary}.
+     *
+     * @param segments the underlying MemorySegments
+     * @param baseOffset the base offset of current instance
+     * @param fieldOffset the offset of the field in the fixed-length part
+     * @param variablePartOffsetAndLen the offset and length of the binary, or the binary itself if
+     *     its length is less than 8
+     */
+    public static int hashBinary(
+            MemorySegment[] segments,
+            int baseOffset,
+            int fieldOffset,
+            long variablePartOffsetAndLen) {
+        long mark = variablePartOffsetAndLen & HIGHEST_FIRST_BIT;
+        if (mark == 0) {
+            final int subOffset = (int) (variablePartOffsetAndLen >> 32);
+            final int len = (int) variablePartOffsetAndLen;
+            return hash(segments, baseOffset + subOffset, len);
+        } else {
+            int len = (int) ((variablePartOffsetAndLen & HIGHEST_SECOND_TO_EIGHTH_BIT) >>> 56);
+            if (BinarySegmentUtils.LITTLE_ENDIAN) {
+                return hash(segments, fieldOffset, len);
+            } else {
+                // fieldOffset + 1 to skip header.
+                return hash(segments, fieldOffset + 1, len);
+            }
+        }
+    }
+
     /**
      * Get binary string, if len less than 8, will be include in variablePartOffsetAndLen.
      *
@@ -45,6 +45,38 @@ public class PipelineOptions {
                     .defaultValue(1)
                     .withDescription("Parallelism of the pipeline");
 
+    public static final ConfigOption<Integer> PIPELINE_SOURCE_PARALLELISM =
+            ConfigOptions.key("source.parallelism")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Parallelism of the source, the transforms and the schema operator, which are chained together. "
+                                    + "Defaults to the parallelism of the pipeline.");
+
+    public static final ConfigOption<Integer> PIPELINE_SINK_PARALLELISM =
+            ConfigOptions.key("sink.parallelism")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Parallelism of the sink and the operators after partitioning. "
+                                    + "Defaults to the parallelism of the pipeline.");
+
+    public static final ConfigOption<String> PIPELINE_SOURCE_SLOT_SHARING_GROUP =
+            ConfigOptions.key("source.slot-sharing-group")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The slot sharing group of the source, the transforms and the schema operator. "
+                                    + "By default they share the slots with the other operators of the pipeline.");
+
+    public static final ConfigOption<String> PIPELINE_SINK_SLOT_SHARING_GROUP =
+            ConfigOptions.key("sink.slot-sharing-group")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The slot sharing group of the sink and the operators after partitioning. "
+                                    + "By default they share the slots with the other operators of the pipeline.");
+
     public static final ConfigOption<SchemaChangeBehavior> PIPELINE_SCHEMA_CHANGE_BEHAVIOR =
             ConfigOptions.key("schema.change.behavior")
                     .enumType(SchemaChangeBehavior.class)
@@ -100,5 +132,62 @@ public class PipelineOptions {
                     .withDescription(
                             "The timeout time for SchemaOperator to wait downstream SchemaChangeEvent applying finished, the default value is 3 minutes.");
 
+    public static final ConfigOption<Boolean> PIPELINE_PARTITION_BINARY_HASH_ENABLED =
+            ConfigOptions.key("partition.binary-hash.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to partition data change events by hashing the primary keys directly from their binary representation, "
+                                    + "which avoids deserializing the primary keys of each event. It only takes effect for sinks using the default hash function. "
+                                    + "Note that the events are routed to different subtasks than with the default hash function, "
+                                    + "so this option should not be changed when restoring a job from a savepoint.");
+
+    public static final ConfigOption<Boolean> PIPELINE_PARTITION_COMPACT_SERIALIZATION_ENABLED =
+            ConfigOptions.key("partition.compact-serialization.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to encode the table ids and metadata keys of the data change events shuffled by partitioning as integer ids, "
+                                    + "which are announced in-band to each downstream subtask before their first use. "
+                                    + "It reduces the bytes sent over the network, but it can not be enabled together with unaligned checkpoints.");
+
+    public static final ConfigOption<Boolean> PIPELINE_PARTITION_SKEW_AWARE_ENABLED =
+            ConfigOptions.key("partition.skew-aware.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to spread the data change events of hot tables without primary keys across several sink subtasks in regular topology, "
+                                    + "instead of sending all the events of such a table to the same subtask. "
+                                    + "The load is estimated per window of events, and a hot table is spread by the hash code of its rows in proportion to its share of the load. "
+                                    + "The events of a table with primary keys are still routed by their primary keys, so the events of a key keep their order. "
+                                    + "The events of a table without primary keys might be written by different subtasks out of order, "
+                                    + "so it should only be enabled when such tables are append-only. "
+                                    + "It can only be enabled for sinks using the default hash function, and it can not be enabled together with changelog compaction.");
+
+    public static final ConfigOption<Boolean> PIPELINE_CHANGELOG_COMPACTION_ENABLED =
+            ConfigOptions.key("changelog-compaction.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to compact the data change events of each primary key before they are written into the sink, "
+                                    + "so that only the latest image of a frequently updated row is written between flushes. "
+                                    + "The buffered events are written before each checkpoint and schema change, so the sink still sees every committed row. "
+                                    + "Note that this option should not be changed when restoring a job from a savepoint.");
+
+    public static final ConfigOption<Integer> PIPELINE_CHANGELOG_COMPACTION_MAX_BUFFERED_RECORDS =
+            ConfigOptions.key("changelog-compaction.max-buffered-records")
+                    .intType()
+                    .defaultValue(10000)
+                    .withDescription(
+                            "The maximum number of compacted data change events buffered by each sink subtask before they are written into the sink.");
+
+    public static final ConfigOption<Duration> PIPELINE_CHANGELOG_COMPACTION_INTERVAL =
+            ConfigOptions.key("changelog-compaction.interval")
+                    .durationType()
+                    .defaultValue(Duration.ofSeconds(1))
+                    .withDescription(
+                            "The maximum time a compacted data change event is buffered before it is written into the sink. "
+                                    + "Zero means the events are only written on checkpoints, schema changes or when the buffer is full.");
+
     private PipelineOptions() {}
 }
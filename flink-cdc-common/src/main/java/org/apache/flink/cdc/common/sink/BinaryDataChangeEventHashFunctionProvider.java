@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.sink;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.RecordData.FieldGetter;
+import org.apache.flink.cdc.common.data.StringData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinarySegmentUtils;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.OperationType;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.function.HashFunction;
+import org.apache.flink.cdc.common.function.HashFunctionProvider;
+import org.apache.flink.cdc.common.pipeline.PipelineOptions;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypeChecks;
+import org.apache.flink.cdc.common.types.DecimalType;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.Objects;
+
+/**
+ * A {@link HashFunctionProvider} for data change event which hashes the primary key fields of
+ * {@link BinaryRecordData} directly from the underlying memory segments, without deserializing nor
+ * boxing them. The hash of the table id is computed once per table. Other implementations of {@link
+ * RecordData} hash the bytes which the fields would be written as to a {@link BinaryRecordData}, so
+ * a record hashes the same in every representation. Only the fields of other types, e.g. zoned
+ * timestamps and nested types, are hashed by the hash codes of their deserialized values.
+ *
+ * <p>The hash codes are different from the ones of {@link
+ * DefaultDataChangeEventHashFunctionProvider}, so this provider is only used when {@link
+ * PipelineOptions#PIPELINE_PARTITION_BINARY_HASH_ENABLED} is enabled.
+ */
+public class BinaryDataChangeEventHashFunctionProvider
+        implements HashFunctionProvider<DataChangeEvent> {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public HashFunction<DataChangeEvent> getHashFunction(@Nullable TableId tableId, Schema schema) {
+        return new BinaryDataChangeEventHashFunction(tableId, schema);
+    }
+
+    /** The {@link HashFunction} hashing the primary key fields of {@link BinaryRecordData}. */
+    static class BinaryDataChangeEventHashFunction implements HashFunction<DataChangeEvent> {
+
+        @Nullable private final TableId tableId;
+        private final int tableIdHash;
+        private final int[] primaryKeyPositions;
+        // the number of bytes to hash in the fixed-length part, or one of the kinds below
+        private final int[] primaryKeyKinds;
+        private final DataType[] primaryKeyTypes;
+        private final FieldGetter[] primaryKeyGetters;
+        // the buffer to write the fixed-length fields of other records to, as in the binary format
+        private final MemorySegment fixedLengthBuffer = MemorySegmentFactory.wrap(new byte[8]);
+        private final MemorySegment[] fixedLengthSegments = {fixedLengthBuffer};
+
+        private static final int VARIABLE_LENGTH = -1;
+        private static final int TIMESTAMP = -2;
+        private static final int GENERIC = -3;
+
+        public BinaryDataChangeEventHashFunction(@Nullable TableId tableId, Schema schema) {
+            this.tableId = tableId;
+            this.tableIdHash = tableId == null ? 0 : tableId.hashCode();
+            int primaryKeyCount = schema.primaryKeys().size();
+            this.primaryKeyPositions = new int[primaryKeyCount];
+            this.primaryKeyKinds = new int[primaryKeyCount];
+            this.primaryKeyTypes = new DataType[primaryKeyCount];
+            this.primaryKeyGetters = new FieldGetter[primaryKeyCount];
+            for (int i = 0; i < primaryKeyCount; i++) {
+                String primaryKey = schema.primaryKeys().get(i);
+                int position = schema.getColumnNames().indexOf(primaryKey);
+                if (position == -1) {
+                    throw new IllegalStateException(
+                            String.format(
+                                    "Unable to find column \"%s\" which is defined as primary key",
+                                    primaryKey));
+                }
+                DataType type = schema.getColumns().get(position).getType();
+                primaryKeyPositions[i] = position;
+                primaryKeyKinds[i] = kindOf(type);
+                primaryKeyTypes[i] = type;
+                primaryKeyGetters[i] = RecordData.createFieldGetter(type, position);
+            }
+        }
+
+        @Override
+        public int hashcode(DataChangeEvent event) {
+            int hash = tableId != null ? tableIdHash : event.tableId().hashCode();
+            RecordData data =
+                    event.op().equals(OperationType.DELETE) ? event.before() : event.after();
+            if (data instanceof BinaryRecordData) {
+                BinaryRecordData binaryData = (BinaryRecordData) data;
+                for (int i = 0; i < primaryKeyPositions.length; i++) {
+                    hash = 31 * hash + hashField(binaryData, i);
+                }
+            } else {
+                for (int i = 0; i < primaryKeyPositions.length; i++) {
+                    hash = 31 * hash + hashField(data, i);
+                }
+            }
+            return hash & 0x7FFFFFFF;
+        }
+
+        private int hashField(BinaryRecordData data, int index) {
+            int position = primaryKeyPositions[index];
+            if (data.isNullAt(position)) {
+                return 0;
+            }
+            int kind = primaryKeyKinds[index];
+            switch (kind) {
+                case VARIABLE_LENGTH:
+                    return data.hashVariableLengthField(position);
+                case TIMESTAMP:
+                    return data.hashTimestampField(position);
+                case GENERIC:
+                    return Objects.hashCode(primaryKeyGetters[index].getFieldOrNull(data));
+                default:
+                    return data.hashFixedLengthField(position, kind);
+            }
+        }
+
+        /**
+         * Hashes a field of other records the same as {@link #hashField(BinaryRecordData, int)}.
+         */
+        private int hashField(RecordData data, int index) {
+            int position = primaryKeyPositions[index];
+            if (data.isNullAt(position)) {
+                return 0;
+            }
+            DataType type = primaryKeyTypes[index];
+            switch (type.getTypeRoot()) {
+                case BOOLEAN:
+                    fixedLengthBuffer.putBoolean(0, data.getBoolean(position));
+                    return hashFixedLengthBuffer(1);
+                case TINYINT:
+                    fixedLengthBuffer.put(0, data.getByte(position));
+                    return hashFixedLengthBuffer(1);
+                case SMALLINT:
+                    fixedLengthBuffer.putShort(0, data.getShort(position));
+                    return hashFixedLengthBuffer(2);
+                case INTEGER:
+                case DATE:
+                case TIME_WITHOUT_TIME_ZONE:
+                    fixedLengthBuffer.putInt(0, data.getInt(position));
+                    return hashFixedLengthBuffer(4);
+                case FLOAT:
+                    fixedLengthBuffer.putFloat(0, data.getFloat(position));
+                    return hashFixedLengthBuffer(4);
+                case BIGINT:
+                    fixedLengthBuffer.putLong(0, data.getLong(position));
+                    return hashFixedLengthBuffer(8);
+                case DOUBLE:
+                    fixedLengthBuffer.putDouble(0, data.getDouble(position));
+                    return hashFixedLengthBuffer(8);
+                case DECIMAL:
+                    DecimalType decimalType = (DecimalType) type;
+                    DecimalData decimal =
+                            data.getDecimal(
+                                    position, decimalType.getPrecision(), decimalType.getScale());
+                    if (DecimalData.isCompact(decimalType.getPrecision())) {
+                        fixedLengthBuffer.putLong(0, decimal.toUnscaledLong());
+                        return hashFixedLengthBuffer(8);
+                    }
+                    return hashBytes(decimal.toUnscaledBytes());
+                case CHAR:
+                case VARCHAR:
+                    StringData string = data.getString(position);
+                    return string instanceof BinaryStringData
+                            ? string.hashCode()
+                            : hashBytes(string.toBytes());
+                case BINARY:
+                case VARBINARY:
+                    return hashBytes(data.getBinary(position));
+                case TIMESTAMP_WITHOUT_TIME_ZONE:
+                    TimestampData timestamp =
+                            data.getTimestamp(position, DataTypeChecks.getPrecision(type));
+                    return hashTimestamp(
+                            timestamp.getMillisecond(), timestamp.getNanoOfMillisecond());
+                case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                    LocalZonedTimestampData localZonedTimestamp =
+                            data.getLocalZonedTimestampData(
+                                    position, DataTypeChecks.getPrecision(type));
+                    return hashTimestamp(
+                            localZonedTimestamp.getEpochMillisecond(),
+                            localZonedTimestamp.getEpochNanoOfMillisecond());
+                default:
+                    return Objects.hashCode(primaryKeyGetters[index].getFieldOrNull(data));
+            }
+        }
+
+        private int hashFixedLengthBuffer(int numBytes) {
+            return BinarySegmentUtils.hash(fixedLengthSegments, 0, numBytes);
+        }
+
+        private static int hashBytes(byte[] bytes) {
+            return BinarySegmentUtils.hash(
+                    new MemorySegment[] {MemorySegmentFactory.wrap(bytes)}, 0, bytes.length);
+        }
+
+        private int hashTimestamp(long millisecond, int nanoOfMillisecond) {
+            fixedLengthBuffer.putLong(0, millisecond);
+            return 31 * hashFixedLengthBuffer(8) + nanoOfMillisecond;
+        }
+
+        private static int kindOf(DataType type) {
+            switch (type.getTypeRoot()) {
+                case BOOLEAN:
+                case TINYINT:
+                    return 1;
+                case SMALLINT:
+                    return 2;
+                case INTEGER:
+                case DATE:
+                case TIME_WITHOUT_TIME_ZONE:
+                case FLOAT:
+                    return 4;
+                case BIGINT:
+                case DOUBLE:
+                    return 8;
+                case DECIMAL:
+                    return DecimalData.isCompact(((DecimalType) type).getPrecision())
+                            ? 8
+                            : VARIABLE_LENGTH;
+                case CHAR:
+                case VARCHAR:
+                case BINARY:
+                case VARBINARY:
+                    return VARIABLE_LENGTH;
+                case TIMESTAMP_WITHOUT_TIME_ZONE:
+                case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                    return TIMESTAMP;
+                default:
+                    return GENERIC;
+            }
+        }
+    }
+}
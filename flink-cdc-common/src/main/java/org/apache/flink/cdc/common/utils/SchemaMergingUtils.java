@@ -469,8 +469,11 @@ public class SchemaMergingUtils {
                 "Failed to get precision of non-exact decimal type " + dataType);
     }
 
-    @VisibleForTesting
-    static Object coerceObject(
+    /**
+     * Coercing {@code originalField} of {@code originalType} into {@code destinationType}. Throws
+     * {@link IllegalArgumentException} if the field could not be coerced.
+     */
+    public static Object coerceObject(
             String timezone,
             Object originalField,
             DataType originalType,
@@ -18,11 +18,16 @@
 package org.apache.flink.cdc.composer.flink;
 
 import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
 import org.apache.flink.cdc.common.configuration.Configuration;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.function.HashFunctionProvider;
 import org.apache.flink.cdc.common.pipeline.PipelineOptions;
 import org.apache.flink.cdc.common.pipeline.SchemaChangeBehavior;
+import org.apache.flink.cdc.common.sink.BinaryDataChangeEventHashFunctionProvider;
 import org.apache.flink.cdc.common.sink.DataSink;
+import org.apache.flink.cdc.common.sink.DefaultDataChangeEventHashFunctionProvider;
 import org.apache.flink.cdc.common.source.DataSource;
 import org.apache.flink.cdc.composer.PipelineComposer;
 import org.apache.flink.cdc.composer.PipelineExecution;
@@ -84,7 +89,8 @@ public class FlinkPipelineComposer implements PipelineComposer {
                 StreamExecutionEnvironment.getExecutionEnvironment(), true);
     }
 
-    private FlinkPipelineComposer(StreamExecutionEnvironment env, boolean isBlocking) {
+    @VisibleForTesting
+    FlinkPipelineComposer(StreamExecutionEnvironment env, boolean isBlocking) {
         this.env = env;
         this.isBlocking = isBlocking;
     }
@@ -93,8 +99,9 @@ public class FlinkPipelineComposer implements PipelineComposer {
     public PipelineExecution compose(PipelineDef pipelineDef) {
         Configuration pipelineDefConfig = pipelineDef.getConfig();
 
-        int parallelism = pipelineDefConfig.get(PipelineOptions.PIPELINE_PARALLELISM);
-        env.getConfig().setParallelism(parallelism);
+        // The operators without an explicit parallelism, e.g. the pre-write and committing
+        // topologies of the sink, run with the sink parallelism
+        env.getConfig().setParallelism(getSinkParallelism(pipelineDefConfig));
 
         translate(env, pipelineDef);
 
@@ -107,14 +114,22 @@ public class FlinkPipelineComposer implements PipelineComposer {
 
     private void translate(StreamExecutionEnvironment env, PipelineDef pipelineDef) {
         Configuration pipelineDefConfig = pipelineDef.getConfig();
-        int parallelism = pipelineDefConfig.get(PipelineOptions.PIPELINE_PARALLELISM);
+        int sourceParallelism = getSourceParallelism(pipelineDefConfig);
+        int sinkParallelism = getSinkParallelism(pipelineDefConfig);
+        String sourceSlotSharingGroup =
+                pipelineDefConfig
+                        .getOptional(PipelineOptions.PIPELINE_SOURCE_SLOT_SHARING_GROUP)
+                        .orElse(null);
+        String sinkSlotSharingGroup =
+                pipelineDefConfig
+                        .getOptional(PipelineOptions.PIPELINE_SINK_SLOT_SHARING_GROUP)
+                        .orElse(null);
         SchemaChangeBehavior schemaChangeBehavior =
                 pipelineDefConfig.get(PipelineOptions.PIPELINE_SCHEMA_CHANGE_BEHAVIOR);
 
         // Initialize translators
         DataSourceTranslator sourceTranslator = new DataSourceTranslator();
         TransformTranslator transformTranslator = new TransformTranslator();
-        PartitioningTranslator partitioningTranslator = new PartitioningTranslator();
         SchemaOperatorTranslator schemaOperatorTranslator =
                 new SchemaOperatorTranslator(
                         schemaChangeBehavior,
@@ -132,10 +147,21 @@ public class FlinkPipelineComposer implements PipelineComposer {
                 sinkTranslator.createDataSink(pipelineDef.getSink(), pipelineDefConfig, env);
 
         boolean isParallelMetadataSource = dataSource.isParallelMetadataSource();
+        HashFunctionProvider<DataChangeEvent> hashFunctionProvider =
+                getHashFunctionProvider(dataSink, pipelineDefConfig, sinkParallelism);
+        PartitioningTranslator partitioningTranslator =
+                new PartitioningTranslator(
+                        isCompactPartitioningSerialization(pipelineDefConfig),
+                        isSkewAwarePartitioning(pipelineDefConfig, dataSink, sinkParallelism));
 
         // O ---> Source
         DataStream<Event> stream =
-                sourceTranslator.translate(pipelineDef.getSource(), dataSource, env, parallelism);
+                sourceTranslator.translate(
+                        pipelineDef.getSource(),
+                        dataSource,
+                        env,
+                        sourceParallelism,
+                        sourceSlotSharingGroup);
 
         // Source ---> PreTransform
         stream =
@@ -162,16 +188,14 @@ public class FlinkPipelineComposer implements PipelineComposer {
             // PostTransform -> Partitioning
             DataStream<PartitioningEvent> partitionedStream =
                     partitioningTranslator.translateDistributed(
-                            stream,
-                            parallelism,
-                            parallelism,
-                            dataSink.getDataChangeEventHashFunctionProvider(parallelism));
+                            stream, sourceParallelism, sinkParallelism, hashFunctionProvider);
 
             // Partitioning -> Schema Operator
             stream =
                     schemaOperatorTranslator.translateDistributed(
                             partitionedStream,
-                            parallelism,
+                            sinkParallelism,
+                            sinkSlotSharingGroup,
                             dataSink.getMetadataApplier()
                                     .setAcceptedSchemaEvolutionTypes(
                                             pipelineDef
@@ -185,7 +209,8 @@ public class FlinkPipelineComposer implements PipelineComposer {
             stream =
                     schemaOperatorTranslator.translateRegular(
                             stream,
-                            parallelism,
+                            sourceParallelism,
+                            sinkParallelism,
                             dataSink.getMetadataApplier()
                                     .setAcceptedSchemaEvolutionTypes(
                                             pipelineDef
@@ -197,10 +222,24 @@ public class FlinkPipelineComposer implements PipelineComposer {
             stream =
                     partitioningTranslator.translateRegular(
                             stream,
-                            parallelism,
-                            parallelism,
+                            sourceParallelism,
+                            sinkParallelism,
+                            sinkSlotSharingGroup,
                             schemaOperatorIDGenerator.generate(),
-                            dataSink.getDataChangeEventHashFunctionProvider(parallelism));
+                            hashFunctionProvider);
+        }
+
+        if (pipelineDefConfig.get(PipelineOptions.PIPELINE_CHANGELOG_COMPACTION_ENABLED)) {
+            // Partitioning -> Changelog Compaction
+            stream =
+                    sinkTranslator.translateChangelogCompaction(
+                            stream,
+                            pipelineDefConfig.get(
+                                    PipelineOptions
+                                            .PIPELINE_CHANGELOG_COMPACTION_MAX_BUFFERED_RECORDS),
+                            pipelineDefConfig.get(
+                                    PipelineOptions.PIPELINE_CHANGELOG_COMPACTION_INTERVAL),
+                            schemaOperatorIDGenerator.generate());
         }
 
         // Schema Operator -> Sink -> X
@@ -208,6 +247,75 @@ public class FlinkPipelineComposer implements PipelineComposer {
                 pipelineDef.getSink(), stream, dataSink, schemaOperatorIDGenerator.generate());
     }
 
+    private static int getSourceParallelism(Configuration pipelineDefConfig) {
+        return pipelineDefConfig
+                .getOptional(PipelineOptions.PIPELINE_SOURCE_PARALLELISM)
+                .orElse(pipelineDefConfig.get(PipelineOptions.PIPELINE_PARALLELISM));
+    }
+
+    private static int getSinkParallelism(Configuration pipelineDefConfig) {
+        return pipelineDefConfig
+                .getOptional(PipelineOptions.PIPELINE_SINK_PARALLELISM)
+                .orElse(pipelineDefConfig.get(PipelineOptions.PIPELINE_PARALLELISM));
+    }
+
+    private boolean isCompactPartitioningSerialization(Configuration pipelineDefConfig) {
+        boolean compactSerialization =
+                pipelineDefConfig.get(
+                        PipelineOptions.PIPELINE_PARTITION_COMPACT_SERIALIZATION_ENABLED);
+        // The in-flight events restored from unaligned checkpoints would miss the announcements
+        // of the ids they are referring to
+        if (compactSerialization && env.getCheckpointConfig().isUnalignedCheckpointsEnabled()) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Option \"%s\" can not be enabled together with unaligned checkpoints.",
+                            PipelineOptions.PIPELINE_PARTITION_COMPACT_SERIALIZATION_ENABLED
+                                    .key()));
+        }
+        return compactSerialization;
+    }
+
+    private static boolean isSkewAwarePartitioning(
+            Configuration pipelineDefConfig, DataSink dataSink, int parallelism) {
+        boolean skewAware =
+                pipelineDefConfig.get(PipelineOptions.PIPELINE_PARTITION_SKEW_AWARE_ENABLED);
+        if (!skewAware) {
+            return false;
+        }
+        // The changelog of a key is compacted in the subtask which receives all of its events
+        if (pipelineDefConfig.get(PipelineOptions.PIPELINE_CHANGELOG_COMPACTION_ENABLED)) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Option \"%s\" can not be enabled together with \"%s\".",
+                            PipelineOptions.PIPELINE_PARTITION_SKEW_AWARE_ENABLED.key(),
+                            PipelineOptions.PIPELINE_CHANGELOG_COMPACTION_ENABLED.key()));
+        }
+        // Sinks providing their own hash function rely on the subtask each event is routed to,
+        // e.g. the subtask owning the bucket of a key
+        if (dataSink.getDataChangeEventHashFunctionProvider(parallelism).getClass()
+                != DefaultDataChangeEventHashFunctionProvider.class) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Option \"%s\" can only be enabled for sinks using the default hash function.",
+                            PipelineOptions.PIPELINE_PARTITION_SKEW_AWARE_ENABLED.key()));
+        }
+        return true;
+    }
+
+    private HashFunctionProvider<DataChangeEvent> getHashFunctionProvider(
+            DataSink dataSink, Configuration pipelineDefConfig, int parallelism) {
+        HashFunctionProvider<DataChangeEvent> hashFunctionProvider =
+                dataSink.getDataChangeEventHashFunctionProvider(parallelism);
+        // Only replace the default hash function, sinks providing their own hash function rely on
+        // the routing of their keys
+        if (pipelineDefConfig.get(PipelineOptions.PIPELINE_PARTITION_BINARY_HASH_ENABLED)
+                && hashFunctionProvider.getClass()
+                        == DefaultDataChangeEventHashFunctionProvider.class) {
+            return new BinaryDataChangeEventHashFunctionProvider();
+        }
+        return hashFunctionProvider;
+    }
+
     private void addFrameworkJars() {
         try {
             Set<URI> frameworkJars = new HashSet<>();
@@ -33,8 +33,10 @@ import org.apache.flink.cdc.common.sink.FlinkSinkProvider;
 import org.apache.flink.cdc.composer.definition.SinkDef;
 import org.apache.flink.cdc.composer.flink.FlinkEnvironmentUtils;
 import org.apache.flink.cdc.composer.utils.FactoryDiscoveryUtils;
+import org.apache.flink.cdc.runtime.operators.sink.ChangelogCompactionOperator;
 import org.apache.flink.cdc.runtime.operators.sink.DataSinkFunctionOperator;
 import org.apache.flink.cdc.runtime.operators.sink.DataSinkWriterOperatorFactory;
+import org.apache.flink.cdc.runtime.typeutils.EventTypeInfo;
 import org.apache.flink.core.io.SimpleVersionedSerializer;
 import org.apache.flink.runtime.jobgraph.OperatorID;
 import org.apache.flink.streaming.api.connector.sink2.CommittableMessage;
@@ -50,6 +52,7 @@ import org.apache.flink.streaming.api.transformations.LegacySinkTransformation;
 import org.apache.flink.streaming.api.transformations.PhysicalTransformation;
 
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
 
 /** Translator used to build {@link DataSink} for given {@link DataStream}. */
 @Internal
@@ -57,6 +60,7 @@ public class DataSinkTranslator {
 
     private static final String SINK_WRITER_PREFIX = "Sink Writer: ";
     private static final String SINK_COMMITTER_PREFIX = "Sink Committer: ";
+    private static final String CHANGELOG_COMPACTION_NAME = "Changelog Compaction";
 
     public DataSink createDataSink(
             SinkDef sinkDef, Configuration pipelineConfig, StreamExecutionEnvironment env) {
@@ -77,6 +81,19 @@ public class DataSinkTranslator {
                         Thread.currentThread().getContextClassLoader()));
     }
 
+    /** Compacts the data change events of each primary key before they are written. */
+    public DataStream<Event> translateChangelogCompaction(
+            DataStream<Event> input,
+            int maxBufferedRecords,
+            Duration interval,
+            OperatorID schemaOperatorID) {
+        return input.transform(
+                CHANGELOG_COMPACTION_NAME,
+                new EventTypeInfo(),
+                new ChangelogCompactionOperator(
+                        schemaOperatorID, maxBufferedRecords, interval.toMillis()));
+    }
+
     public void translate(
             SinkDef sinkDef,
             DataStream<Event> input,
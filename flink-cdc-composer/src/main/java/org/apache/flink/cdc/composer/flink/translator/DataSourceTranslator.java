@@ -35,6 +35,8 @@ import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.streaming.api.datastream.DataStreamSource;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 
+import javax.annotation.Nullable;
+
 /** Translator used to build {@link DataSource} which will generate a {@link DataStream}. */
 @Internal
 public class DataSourceTranslator {
@@ -44,6 +46,32 @@ public class DataSourceTranslator {
             DataSource dataSource,
             StreamExecutionEnvironment env,
             int sourceParallelism) {
+        return translate(sourceDef, dataSource, env, sourceParallelism, null);
+    }
+
+    /**
+     * Translates the source into a stream running with the given parallelism. The operators chained
+     * after the source inherit its slot sharing group if {@code slotSharingGroup} is set.
+     */
+    public DataStreamSource<Event> translate(
+            SourceDef sourceDef,
+            DataSource dataSource,
+            StreamExecutionEnvironment env,
+            int sourceParallelism,
+            @Nullable String slotSharingGroup) {
+        DataStreamSource<Event> stream =
+                createSourceStream(sourceDef, dataSource, env, sourceParallelism);
+        if (slotSharingGroup != null) {
+            stream.slotSharingGroup(slotSharingGroup);
+        }
+        return stream;
+    }
+
+    private DataStreamSource<Event> createSourceStream(
+            SourceDef sourceDef,
+            DataSource dataSource,
+            StreamExecutionEnvironment env,
+            int sourceParallelism) {
         // Get source provider
         EventSourceProvider eventSourceProvider = dataSource.getEventSourceProvider();
         if (eventSourceProvider instanceof FlinkSourceProvider) {
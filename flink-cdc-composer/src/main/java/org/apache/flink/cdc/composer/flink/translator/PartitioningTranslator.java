@@ -31,6 +31,9 @@ import org.apache.flink.cdc.runtime.typeutils.EventTypeInfo;
 import org.apache.flink.cdc.runtime.typeutils.PartitioningEventTypeInfo;
 import org.apache.flink.runtime.jobgraph.OperatorID;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
+
+import javax.annotation.Nullable;
 
 /**
  * Translator used to build {@link RegularPrePartitionOperator} or {@link
@@ -40,21 +43,67 @@ import org.apache.flink.streaming.api.datastream.DataStream;
 @Internal
 public class PartitioningTranslator {
 
+    private final boolean compactSerialization;
+    private final boolean skewAware;
+
+    public PartitioningTranslator() {
+        this(false);
+    }
+
+    public PartitioningTranslator(boolean compactSerialization) {
+        this(compactSerialization, false);
+    }
+
+    public PartitioningTranslator(boolean compactSerialization, boolean skewAware) {
+        this.compactSerialization = compactSerialization;
+        this.skewAware = skewAware;
+    }
+
     public DataStream<Event> translateRegular(
             DataStream<Event> input,
             int upstreamParallelism,
             int downstreamParallelism,
             OperatorID schemaOperatorID,
             HashFunctionProvider<DataChangeEvent> hashFunctionProvider) {
-        return input.transform(
-                        "PrePartition",
-                        new PartitioningEventTypeInfo(),
-                        new RegularPrePartitionOperator(
-                                schemaOperatorID, downstreamParallelism, hashFunctionProvider))
-                .setParallelism(upstreamParallelism)
-                .partitionCustom(new EventPartitioner(), new PartitioningEventKeySelector())
-                .map(new PostPartitionProcessor(), new EventTypeInfo())
-                .name("PostPartition");
+        return translateRegular(
+                input,
+                upstreamParallelism,
+                downstreamParallelism,
+                null,
+                schemaOperatorID,
+                hashFunctionProvider);
+    }
+
+    /**
+     * Translates the partitioning of a regular topology. The partitioned events are processed in
+     * {@code downstreamSlotSharingGroup} if it is set, which is inherited by the following
+     * operators.
+     */
+    public DataStream<Event> translateRegular(
+            DataStream<Event> input,
+            int upstreamParallelism,
+            int downstreamParallelism,
+            @Nullable String downstreamSlotSharingGroup,
+            OperatorID schemaOperatorID,
+            HashFunctionProvider<DataChangeEvent> hashFunctionProvider) {
+        SingleOutputStreamOperator<Event> stream =
+                input.transform(
+                                "PrePartition",
+                                new PartitioningEventTypeInfo(compactSerialization),
+                                new RegularPrePartitionOperator(
+                                        schemaOperatorID,
+                                        downstreamParallelism,
+                                        hashFunctionProvider,
+                                        skewAware))
+                        .setParallelism(upstreamParallelism)
+                        .partitionCustom(new EventPartitioner(), new PartitioningEventKeySelector())
+                        .map(new PostPartitionProcessor(), new EventTypeInfo())
+                        .name("PostPartition")
+                        .setParallelism(downstreamParallelism);
+        if (downstreamSlotSharingGroup != null) {
+            stream.slotSharingGroup(downstreamSlotSharingGroup);
+        }
+        return stream;
     }
 
     public DataStream<PartitioningEvent> translateDistributed(
@@ -64,7 +113,7 @@ public class PartitioningTranslator {
             HashFunctionProvider<DataChangeEvent> hashFunctionProvider) {
         return input.transform(
                         "Partitioning",
-                        new PartitioningEventTypeInfo(),
+                        new PartitioningEventTypeInfo(compactSerialization),
                         new DistributedPrePartitionOperator(
                                 downstreamParallelism, hashFunctionProvider))
                 .setParallelism(upstreamParallelism)
@@ -31,6 +31,8 @@ import org.apache.flink.cdc.runtime.typeutils.EventTypeInfo;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 
+import javax.annotation.Nullable;
+
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -59,17 +61,59 @@ public class SchemaOperatorTranslator {
             int parallelism,
             MetadataApplier metadataApplier,
             List<RouteDef> routes) {
+        return translateRegular(input, parallelism, parallelism, metadataApplier, routes);
+    }
+
+    /**
+     * Translates the schema operator of a regular topology, whose downstream sink runs with {@code
+     * sinkParallelism}. The schema operator itself runs with the parallelism of its upstream.
+     */
+    public DataStream<Event> translateRegular(
+            DataStream<Event> input,
+            int parallelism,
+            int sinkParallelism,
+            MetadataApplier metadataApplier,
+            List<RouteDef> routes) {
         return addRegularSchemaOperator(
-                input, parallelism, metadataApplier, routes, schemaChangeBehavior, timezone);
+                input,
+                parallelism,
+                sinkParallelism,
+                metadataApplier,
+                routes,
+                schemaChangeBehavior,
+                timezone);
+    }
+
+    public DataStream<Event> translateDistributed(
+            DataStream<PartitioningEvent> input,
+            int parallelism,
+            MetadataApplier metadataApplier,
+            List<RouteDef> routes) {
+        return translateDistributed(input, parallelism, null, metadataApplier, routes);
     }
 
+    /**
+     * Translates the schema operator of a distributed topology, which is the first operator after
+     * partitioning and runs in {@code slotSharingGroup} if it is set.
+     */
     public DataStream<Event> translateDistributed(
             DataStream<PartitioningEvent> input,
             int parallelism,
+            @Nullable String slotSharingGroup,
             MetadataApplier metadataApplier,
             List<RouteDef> routes) {
-        return addDistributedSchemaOperator(
-                input, parallelism, metadataApplier, routes, schemaChangeBehavior, timezone);
+        SingleOutputStreamOperator<Event> stream =
+                addDistributedSchemaOperator(
+                        input,
+                        parallelism,
+                        metadataApplier,
+                        routes,
+                        schemaChangeBehavior,
+                        timezone);
+        if (slotSharingGroup != null) {
+            stream.slotSharingGroup(slotSharingGroup);
+        }
+        return stream;
     }
 
     public String getSchemaOperatorUid() {
@@ -79,6 +123,7 @@ public class SchemaOperatorTranslator {
     private DataStream<Event> addRegularSchemaOperator(
             DataStream<Event> input,
             int parallelism,
+            int sinkParallelism,
             MetadataApplier metadataApplier,
             List<RouteDef> routes,
             SchemaChangeBehavior schemaChangeBehavior,
@@ -100,12 +145,13 @@ public class SchemaOperatorTranslator {
                                 routingRules,
                                 rpcTimeOut,
                                 schemaChangeBehavior,
-                                timezone));
+                                timezone,
+                                sinkParallelism));
         stream.uid(schemaOperatorUid).setParallelism(parallelism);
         return stream;
     }
 
-    private DataStream<Event> addDistributedSchemaOperator(
+    private SingleOutputStreamOperator<Event> addDistributedSchemaOperator(
             DataStream<PartitioningEvent> input,
             int parallelism,
             MetadataApplier metadataApplier,
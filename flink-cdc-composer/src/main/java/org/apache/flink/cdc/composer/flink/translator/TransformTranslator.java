@@ -78,7 +78,11 @@ public class TransformTranslator {
                 .canContainDistributedTables(canContainDistributedTables);
 
         return input.transform(
-                "Transform:Schema", new EventTypeInfo(), preTransformFunctionBuilder.build());
+                        "Transform:Schema",
+                        new EventTypeInfo(),
+                        preTransformFunctionBuilder.build())
+                // Schemas are tracked per subtask, so the transforms stay chained to the upstream
+                .setParallelism(input.getParallelism());
     }
 
     public DataStream<Event> translatePostTransform(
@@ -113,7 +117,9 @@ public class TransformTranslator {
         postTransformFunctionBuilder.addUdfFunctions(
                 models.stream().map(this::modelToUDFTuple).collect(Collectors.toList()));
         return input.transform(
-                "Transform:Data", new EventTypeInfo(), postTransformFunctionBuilder.build());
+                        "Transform:Data", new EventTypeInfo(), postTransformFunctionBuilder.build())
+                // Schemas are tracked per subtask, so the transforms stay chained to the upstream
+                .setParallelism(input.getParallelism());
     }
 
     private Tuple3<String, String, Map<String, String>> modelToUDFTuple(ModelDef model) {
@@ -20,16 +20,27 @@ package org.apache.flink.cdc.composer.flink;
 import org.apache.flink.cdc.common.configuration.Configuration;
 import org.apache.flink.cdc.common.factories.DataSinkFactory;
 import org.apache.flink.cdc.common.factories.FactoryHelper;
+import org.apache.flink.cdc.common.pipeline.PipelineOptions;
 import org.apache.flink.cdc.common.sink.DataSink;
+import org.apache.flink.cdc.composer.definition.PipelineDef;
 import org.apache.flink.cdc.composer.definition.SinkDef;
+import org.apache.flink.cdc.composer.definition.SourceDef;
 import org.apache.flink.cdc.composer.utils.FactoryDiscoveryUtils;
 import org.apache.flink.cdc.composer.utils.factory.DataSinkFactory1;
+import org.apache.flink.cdc.connectors.values.factory.ValuesDataFactory;
+import org.apache.flink.cdc.connectors.values.source.ValuesDataSourceHelper;
+import org.apache.flink.cdc.connectors.values.source.ValuesDataSourceOptions;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.streaming.api.graph.StreamGraph;
+import org.apache.flink.streaming.api.graph.StreamNode;
 
 import org.apache.flink.shaded.guava31.com.google.common.collect.ImmutableMap;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+
 /** A test for the {@link FlinkPipelineComposer}. */
 class FlinkPipelineComposerTest {
 
@@ -58,4 +69,114 @@ class FlinkPipelineComposerTest {
         Assertions.assertTrue(dataSink instanceof DataSinkFactory1.TestDataSink);
         Assertions.assertEquals("0.0.0.0", ((DataSinkFactory1.TestDataSink) dataSink).getHost());
     }
+
+    @Test
+    void testComposeWithSourceAndSinkParallelism() {
+        Configuration sourceConfig = new Configuration();
+        sourceConfig.set(
+                ValuesDataSourceOptions.EVENT_SET_ID,
+                ValuesDataSourceHelper.EventSetId.SINGLE_SPLIT_SINGLE_TABLE);
+        SourceDef sourceDef =
+                new SourceDef(ValuesDataFactory.IDENTIFIER, "Value Source", sourceConfig);
+        SinkDef sinkDef =
+                new SinkDef(ValuesDataFactory.IDENTIFIER, "Value Sink", new Configuration());
+
+        Configuration pipelineConfig = new Configuration();
+        pipelineConfig.set(PipelineOptions.PIPELINE_PARALLELISM, 2);
+        pipelineConfig.set(PipelineOptions.PIPELINE_SOURCE_PARALLELISM, 1);
+        pipelineConfig.set(PipelineOptions.PIPELINE_SINK_PARALLELISM, 4);
+        pipelineConfig.set(PipelineOptions.PIPELINE_SOURCE_SLOT_SHARING_GROUP, "source");
+        pipelineConfig.set(PipelineOptions.PIPELINE_SINK_SLOT_SHARING_GROUP, "sink");
+        PipelineDef pipelineDef =
+                new PipelineDef(
+                        sourceDef,
+                        sinkDef,
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        pipelineConfig);
+
+        StreamExecutionEnvironment env = StreamExecutionEnvironment.getExecutionEnvironment();
+        new FlinkPipelineComposer(env, true).compose(pipelineDef);
+        StreamGraph streamGraph = env.getStreamGraph();
+
+        assertStreamNode(streamGraph, "Source: Value Source", 1, "source");
+        assertStreamNode(streamGraph, "SchemaOperator", 1, "source");
+        assertStreamNode(streamGraph, "PrePartition", 1, "source");
+        assertStreamNode(streamGraph, "PostPartition", 4, "sink");
+        assertStreamNode(streamGraph, "Sink Writer: Value Sink", 4, "sink");
+    }
+
+    @Test
+    void testSkewAwarePartitioningWithChangelogCompaction() {
+        SourceDef sourceDef =
+                new SourceDef(ValuesDataFactory.IDENTIFIER, "Value Source", new Configuration());
+        SinkDef sinkDef =
+                new SinkDef(ValuesDataFactory.IDENTIFIER, "Value Sink", new Configuration());
+        Configuration pipelineConfig = new Configuration();
+        pipelineConfig.set(PipelineOptions.PIPELINE_PARTITION_SKEW_AWARE_ENABLED, true);
+        pipelineConfig.set(PipelineOptions.PIPELINE_CHANGELOG_COMPACTION_ENABLED, true);
+        PipelineDef pipelineDef =
+                new PipelineDef(
+                        sourceDef,
+                        sinkDef,
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        pipelineConfig);
+
+        FlinkPipelineComposer composer =
+                new FlinkPipelineComposer(
+                        StreamExecutionEnvironment.getExecutionEnvironment(), true);
+        IllegalArgumentException exception =
+                Assertions.assertThrows(
+                        IllegalArgumentException.class, () -> composer.compose(pipelineDef));
+        Assertions.assertTrue(
+                exception.getMessage().contains("partition.skew-aware.enabled"),
+                exception.getMessage());
+    }
+
+    @Test
+    void testSkewAwarePartitioningWithCustomHashFunction() {
+        SourceDef sourceDef =
+                new SourceDef(ValuesDataFactory.IDENTIFIER, "Value Source", new Configuration());
+        // The sink of this factory provides its own hash function
+        SinkDef sinkDef = new SinkDef("data-source-factory-2", "Dummy Sink", new Configuration());
+        Configuration pipelineConfig = new Configuration();
+        pipelineConfig.set(PipelineOptions.PIPELINE_PARTITION_SKEW_AWARE_ENABLED, true);
+        PipelineDef pipelineDef =
+                new PipelineDef(
+                        sourceDef,
+                        sinkDef,
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        pipelineConfig);
+
+        FlinkPipelineComposer composer =
+                new FlinkPipelineComposer(
+                        StreamExecutionEnvironment.getExecutionEnvironment(), true);
+        IllegalArgumentException exception =
+                Assertions.assertThrows(
+                        IllegalArgumentException.class, () -> composer.compose(pipelineDef));
+        Assertions.assertTrue(
+                exception.getMessage().contains("default hash function"), exception.getMessage());
+    }
+
+    private static void assertStreamNode(
+            StreamGraph streamGraph,
+            String operatorName,
+            int parallelism,
+            String slotSharingGroup) {
+        StreamNode streamNode =
+                streamGraph.getStreamNodes().stream()
+                        .filter(node -> node.getOperatorName().equals(operatorName))
+                        .findFirst()
+                        .orElseThrow(
+                                () ->
+                                        new AssertionError(
+                                                "Operator " + operatorName + " is not found"));
+        Assertions.assertEquals(parallelism, streamNode.getParallelism());
+        Assertions.assertEquals(slotSharingGroup, streamNode.getSlotSharingGroup());
+    }
 }
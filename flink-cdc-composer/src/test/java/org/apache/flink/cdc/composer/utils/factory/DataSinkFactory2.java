@@ -18,7 +18,9 @@
 package org.apache.flink.cdc.composer.utils.factory;
 
 import org.apache.flink.cdc.common.configuration.ConfigOption;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.factories.DataSinkFactory;
+import org.apache.flink.cdc.common.function.HashFunctionProvider;
 import org.apache.flink.cdc.common.sink.DataSink;
 import org.apache.flink.cdc.common.sink.EventSinkProvider;
 import org.apache.flink.cdc.common.sink.MetadataApplier;
@@ -40,6 +42,12 @@ public class DataSinkFactory2 implements DataSinkFactory {
             public MetadataApplier getMetadataApplier() {
                 return null;
             }
+
+            @Override
+            public HashFunctionProvider<DataChangeEvent> getDataChangeEventHashFunctionProvider(
+                    int parallelism) {
+                return (tableId, schema) -> event -> 0;
+            }
         };
     }
 
@@ -62,14 +62,16 @@ public class DorisDataSink implements DataSink, Serializable {
                             dorisOptions,
                             readOptions,
                             executionOptions,
-                            new DorisEventSerializer(zoneId)));
+                            new DorisEventSerializer(
+                                    zoneId, executionOptions.getStreamLoadProp())));
         } else {
             return FlinkSinkProvider.of(
                     new DorisBatchSink<>(
                             dorisOptions,
                             readOptions,
                             executionOptions,
-                            new DorisEventSerializer(zoneId)));
+                            new DorisEventSerializer(
+                                    zoneId, executionOptions.getStreamLoadProp())));
         }
     }
 
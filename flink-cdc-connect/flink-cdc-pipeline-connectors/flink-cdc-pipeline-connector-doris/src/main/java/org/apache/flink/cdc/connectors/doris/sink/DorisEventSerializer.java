@@ -29,27 +29,41 @@ import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.utils.Preconditions;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
 
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonProcessingException;
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
-
+import org.apache.doris.flink.cfg.DorisExecutionOptions;
 import org.apache.doris.flink.sink.writer.serializer.DorisRecord;
 import org.apache.doris.flink.sink.writer.serializer.DorisRecordSerializer;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
-import static org.apache.doris.flink.sink.util.DeleteOperation.addDeleteSign;
+import static org.apache.doris.flink.sink.writer.LoadConstants.CSV;
+import static org.apache.doris.flink.sink.writer.LoadConstants.FIELD_DELIMITER_DEFAULT;
+import static org.apache.doris.flink.sink.writer.LoadConstants.FIELD_DELIMITER_KEY;
+import static org.apache.doris.flink.sink.writer.LoadConstants.FORMAT_KEY;
+import static org.apache.doris.flink.sink.writer.LoadConstants.LINE_DELIMITER_DEFAULT;
+import static org.apache.doris.flink.sink.writer.LoadConstants.LINE_DELIMITER_KEY;
 
 /** A serializer for Event to DorisRecord. */
 public class DorisEventSerializer implements DorisRecordSerializer<Event> {
-    private ObjectMapper objectMapper = new ObjectMapper();
+
+    /** The stream load property of the character enclosing the CSV values. */
+    static final String ENCLOSE_KEY = "enclose";
+
+    /** The stream load property of the character escaping the enclose character in CSV values. */
+    static final String ESCAPE_KEY = "escape";
+
     private Map<TableId, Schema> schemaMaps = new HashMap<>();
 
+    /** The encoders of the current schemas, which are created on the first record of a schema. */
+    private transient Map<TableId, DorisRecordEncoder> recordEncoders;
+
     /** Format DATE type data. */
     public static final DateTimeFormatter DATE_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd");
@@ -61,8 +75,47 @@ public class DorisEventSerializer implements DorisRecordSerializer<Event> {
     /** ZoneId from pipeline config to support timestamp with local time zone. */
     public final ZoneId pipelineZoneId;
 
+    /** Whether the records are encoded as CSV, otherwise JSON, by the format of stream load. */
+    private final boolean csv;
+
+    private final String fieldDelimiter;
+
+    private final String lineDelimiter;
+
+    @Nullable private final Character enclose;
+
+    @Nullable private final Character escape;
+
     public DorisEventSerializer(ZoneId zoneId) {
+        this(zoneId, DorisExecutionOptions.defaultsProperties());
+    }
+
+    public DorisEventSerializer(ZoneId zoneId, Properties streamLoadProp) {
         pipelineZoneId = zoneId;
+        csv = CSV.equalsIgnoreCase(streamLoadProp.getProperty(FORMAT_KEY, CSV));
+        fieldDelimiter =
+                DorisRecordEncoder.unescapeDelimiter(
+                        streamLoadProp.getProperty(FIELD_DELIMITER_KEY, FIELD_DELIMITER_DEFAULT));
+        lineDelimiter =
+                DorisRecordEncoder.unescapeDelimiter(
+                        streamLoadProp.getProperty(LINE_DELIMITER_KEY, LINE_DELIMITER_DEFAULT));
+        enclose = getCharProperty(streamLoadProp, ENCLOSE_KEY);
+        escape = getCharProperty(streamLoadProp, ESCAPE_KEY);
+    }
+
+    @Nullable
+    private static Character getCharProperty(Properties streamLoadProp, String key) {
+        String value = streamLoadProp.getProperty(key);
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        value = DorisRecordEncoder.unescapeDelimiter(value);
+        Preconditions.checkArgument(
+                value.length() == 1,
+                "The %s property of stream load must be a single character, but is %s.",
+                key,
+                value);
+        return value.charAt(0);
     }
 
     @Override
@@ -83,38 +136,54 @@ public class DorisEventSerializer implements DorisRecordSerializer<Event> {
                         SchemaUtils.applySchemaChangeEvent(
                                 schemaMaps.get(tableId), schemaChangeEvent));
             }
+            if (recordEncoders != null) {
+                recordEncoders.remove(tableId);
+            }
         }
         return null;
     }
 
-    private DorisRecord applyDataChangeEvent(DataChangeEvent event) throws JsonProcessingException {
+    private DorisRecord applyDataChangeEvent(DataChangeEvent event) {
         TableId tableId = event.tableId();
         Schema schema = schemaMaps.get(tableId);
         Preconditions.checkNotNull(schema, event.tableId() + " is not existed");
-        Map<String, Object> valueMap;
+        if (recordEncoders == null) {
+            recordEncoders = new HashMap<>();
+        }
+        DorisRecordEncoder recordEncoder =
+                recordEncoders.computeIfAbsent(
+                        tableId,
+                        id ->
+                                new DorisRecordEncoder(
+                                        schema,
+                                        pipelineZoneId,
+                                        csv,
+                                        fieldDelimiter,
+                                        lineDelimiter,
+                                        enclose,
+                                        escape));
+        byte[] row;
         OperationType op = event.op();
         switch (op) {
             case INSERT:
             case UPDATE:
             case REPLACE:
-                valueMap = serializerRecord(event.after(), schema);
-                addDeleteSign(valueMap, false);
+                row = recordEncoder.encode(event.after(), false);
                 break;
             case DELETE:
-                valueMap = serializerRecord(event.before(), schema);
-                addDeleteSign(valueMap, true);
+                row = recordEncoder.encode(event.before(), true);
                 break;
             default:
                 throw new UnsupportedOperationException("Unsupport Operation " + op);
         }
 
-        return DorisRecord.of(
-                tableId.getSchemaName(),
-                tableId.getTableName(),
-                objectMapper.writeValueAsString(valueMap).getBytes(StandardCharsets.UTF_8));
+        return DorisRecord.of(tableId.getSchemaName(), tableId.getTableName(), row);
     }
 
-    /** serializer RecordData to Doris Value. */
+    /**
+     * serializer RecordData to Doris Value. The records are encoded by {@link DorisRecordEncoder}
+     * without any map when serializing events.
+     */
     public Map<String, Object> serializerRecord(RecordData recordData, Schema schema) {
         List<Column> columns = schema.getColumns();
         Map<String, Object> record = new HashMap<>();
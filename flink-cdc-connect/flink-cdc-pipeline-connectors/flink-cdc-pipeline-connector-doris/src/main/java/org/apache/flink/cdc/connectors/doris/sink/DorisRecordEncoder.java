@@ -0,0 +1,408 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.doris.sink;
+
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypeChecks;
+import org.apache.flink.cdc.common.types.DecimalType;
+import org.apache.flink.cdc.common.types.ZonedTimestampType;
+import org.apache.flink.cdc.common.utils.Preconditions;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.annotation.Nullable;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.apache.doris.flink.sink.writer.LoadConstants.DORIS_DELETE_SIGN;
+import static org.apache.doris.flink.sink.writer.LoadConstants.NULL_VALUE;
+
+/**
+ * Encodes the {@link RecordData} of a specific {@link Schema} as a row of stream load, in JSON or
+ * CSV format, followed by the {@code __DORIS_DELETE_SIGN__} column. The column writers are created
+ * once per schema, and the columns are written directly from the record without any intermediate
+ * map.
+ *
+ * <p>The JSON rows are the same as the ones serialized by Jackson from the converted fields of
+ * {@link DorisRowConverter}. The CSV rows are separated by the column separator of stream load,
+ * with {@code \N} for null values, and their columns are in the order of the schema. A CSV value
+ * containing the column separator or the line delimiter, or equal to {@code \N}, can only be loaded
+ * if the enclose character of stream load is set, then the value is enclosed and its enclose and
+ * escape characters are escaped. Otherwise, such a value fails the encoding instead of being loaded
+ * into the wrong columns or rows.
+ */
+class DorisRecordEncoder {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Pattern HEX_ESCAPE = Pattern.compile("\\\\x([0-9a-fA-F]{2})");
+
+    private static final String ENCODED_DELETE_SIGN_NAME =
+            encodeJsonString(DORIS_DELETE_SIGN) + ":";
+
+    private final int arity;
+
+    private final boolean csv;
+
+    private final String fieldDelimiter;
+
+    private final String lineDelimiter;
+
+    @Nullable private final Character enclose;
+
+    @Nullable private final Character escape;
+
+    private final String[] fieldNames;
+
+    private final String[] encodedFieldNames;
+
+    private final FieldWriter[] fieldWriters;
+
+    private final StringBuilder reuseBuilder = new StringBuilder(256);
+
+    DorisRecordEncoder(Schema schema, ZoneId pipelineZoneId, boolean csv, String fieldDelimiter) {
+        this(schema, pipelineZoneId, csv, fieldDelimiter, "\n", null, null);
+    }
+
+    DorisRecordEncoder(
+            Schema schema,
+            ZoneId pipelineZoneId,
+            boolean csv,
+            String fieldDelimiter,
+            String lineDelimiter,
+            @Nullable Character enclose,
+            @Nullable Character escape) {
+        List<Column> columns = schema.getColumns();
+        this.arity = columns.size();
+        this.csv = csv;
+        this.fieldDelimiter = fieldDelimiter;
+        this.lineDelimiter = lineDelimiter;
+        this.enclose = enclose;
+        this.escape = escape;
+        this.fieldNames = new String[arity];
+        this.encodedFieldNames = new String[arity];
+        this.fieldWriters = new FieldWriter[arity];
+        for (int i = 0; i < arity; i++) {
+            fieldNames[i] = columns.get(i).getName();
+            encodedFieldNames[i] = encodeJsonString(columns.get(i).getName()) + ":";
+            fieldWriters[i] = createFieldWriter(columns.get(i).getType(), i, pipelineZoneId, csv);
+        }
+    }
+
+    /** Encodes a record, and marks it as deleted if {@code delete} is true. */
+    byte[] encode(RecordData record, boolean delete) {
+        Preconditions.checkState(
+                arity == record.getArity(), "Column size does not match the data size");
+        StringBuilder out = reuseBuilder;
+        out.setLength(0);
+        if (csv) {
+            for (int i = 0; i < arity; i++) {
+                if (record.isNullAt(i)) {
+                    out.append(NULL_VALUE);
+                } else {
+                    int start = out.length();
+                    fieldWriters[i].write(out, record);
+                    if (needsEnclosing(out, start)) {
+                        encloseCsvValue(out, start, i);
+                    }
+                }
+                out.append(fieldDelimiter);
+            }
+            out.append(delete ? '1' : '0');
+        } else {
+            out.append('{');
+            for (int i = 0; i < arity; i++) {
+                out.append(encodedFieldNames[i]);
+                if (record.isNullAt(i)) {
+                    out.append("null");
+                } else {
+                    fieldWriters[i].write(out, record);
+                }
+                out.append(',');
+            }
+            out.append(ENCODED_DELETE_SIGN_NAME).append(delete ? "\"1\"" : "\"0\"").append('}');
+        }
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns whether the CSV value written from {@code start} would be split by Doris, read as
+     * null, or unescaped if it is not enclosed.
+     */
+    private boolean needsEnclosing(StringBuilder out, int start) {
+        int length = out.length() - start;
+        if (length == NULL_VALUE.length() && out.indexOf(NULL_VALUE, start) == start) {
+            return true;
+        }
+        if (out.indexOf(fieldDelimiter, start) >= 0 || out.indexOf(lineDelimiter, start) >= 0) {
+            return true;
+        }
+        if (enclose != null) {
+            for (int i = start; i < out.length(); i++) {
+                char ch = out.charAt(i);
+                if (ch == enclose || (escape != null && ch == escape)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Encloses the CSV value written from {@code start}, escaping its enclose characters. */
+    private void encloseCsvValue(StringBuilder out, int start, int index) {
+        if (enclose == null) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The value of column %s contains the column separator or the line delimiter of stream load, "
+                                    + "or is the null value %s, so it can not be loaded in CSV format. "
+                                    + "Please set the enclose and escape properties of stream load, or load the rows in JSON format.",
+                            fieldNames[index], NULL_VALUE));
+        }
+        String value = out.substring(start);
+        out.setLength(start);
+        out.append(enclose.charValue());
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == enclose || (escape != null && ch == escape)) {
+                if (escape == null) {
+                    throw new IllegalArgumentException(
+                            String.format(
+                                    "The value of column %s contains the enclose character %s of stream load, "
+                                            + "so it can not be loaded in CSV format without the escape property of stream load.",
+                                    fieldNames[index], enclose));
+                }
+                out.append(escape.charValue());
+            }
+            out.append(ch);
+        }
+        out.append(enclose.charValue());
+    }
+
+    private static FieldWriter createFieldWriter(
+            DataType type, int index, ZoneId pipelineZoneId, boolean csv) {
+        switch (type.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return csv
+                        ? (out, val) -> out.append(val.getString(index).toString())
+                        : (out, val) -> appendJsonString(out, val.getString(index).toString());
+            case BOOLEAN:
+                return (out, val) -> out.append(val.getBoolean(index));
+            case BINARY:
+            case VARBINARY:
+                // byte arrays are serialized as base64 strings by Jackson
+                return quoteIfJson(
+                        (out, val) ->
+                                out.append(
+                                        Base64.getEncoder().encodeToString(val.getBinary(index))),
+                        csv);
+            case DECIMAL:
+                final int decimalPrecision = ((DecimalType) type).getPrecision();
+                final int decimalScale = ((DecimalType) type).getScale();
+                return (out, val) -> {
+                    BigDecimal decimal =
+                            val.getDecimal(index, decimalPrecision, decimalScale).toBigDecimal();
+                    out.append(csv ? decimal.toPlainString() : decimal.toString());
+                };
+            case TINYINT:
+                return (out, val) -> out.append(val.getByte(index));
+            case SMALLINT:
+                return (out, val) -> out.append(val.getShort(index));
+            case INTEGER:
+                return (out, val) -> out.append(val.getInt(index));
+            case BIGINT:
+                return (out, val) -> out.append(val.getLong(index));
+            case FLOAT:
+                return (out, val) -> {
+                    float value = val.getFloat(index);
+                    appendNumber(out, Float.toString(value), csv || Float.isFinite(value));
+                };
+            case DOUBLE:
+                return (out, val) -> {
+                    double value = val.getDouble(index);
+                    appendNumber(out, Double.toString(value), csv || Double.isFinite(value));
+                };
+            case DATE:
+                return quoteIfJson(
+                        (out, val) ->
+                                out.append(
+                                        LocalDate.ofEpochDay(val.getInt(index))
+                                                .format(DorisEventSerializer.DATE_FORMATTER)),
+                        csv);
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                final int timestampPrecision = DataTypeChecks.getPrecision(type);
+                return quoteIfJson(
+                        (out, val) ->
+                                out.append(
+                                        val.getTimestamp(index, timestampPrecision)
+                                                .toLocalDateTime()
+                                                .format(DorisEventSerializer.DATE_TIME_FORMATTER)),
+                        csv);
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int localZonedTimestampPrecision = DataTypeChecks.getPrecision(type);
+                return quoteIfJson(
+                        (out, val) ->
+                                out.append(
+                                        ZonedDateTime.ofInstant(
+                                                        val.getLocalZonedTimestampData(
+                                                                        index,
+                                                                        localZonedTimestampPrecision)
+                                                                .toInstant(),
+                                                        pipelineZoneId)
+                                                .toLocalDateTime()
+                                                .format(DorisEventSerializer.DATE_TIME_FORMATTER)),
+                        csv);
+            case TIMESTAMP_WITH_TIME_ZONE:
+                // java.sql.Timestamp is serialized as epoch milliseconds by Jackson
+                final int zonedPrecision = ((ZonedTimestampType) type).getPrecision();
+                return (out, val) ->
+                        out.append(val.getTimestamp(index, zonedPrecision).toTimestamp().getTime());
+            case TIME_WITHOUT_TIME_ZONE:
+                return quoteIfJson(
+                        (out, val) ->
+                                out.append(LocalTime.ofNanoOfDay(val.getInt(index) * 1_000_000L)),
+                        csv);
+            case ARRAY:
+            case MAP:
+            case ROW:
+                // The nested types are rare, so they are still converted and serialized by Jackson
+                DorisRowConverter.SerializationConverter converter =
+                        DorisRowConverter.createExternalConverter(type, pipelineZoneId);
+                return (out, val) -> {
+                    Object field = converter.serialize(index, val);
+                    if (csv && field instanceof String) {
+                        out.append((String) field);
+                    } else {
+                        out.append(writeValueAsString(field));
+                    }
+                };
+            default:
+                throw new UnsupportedOperationException("Unsupported type:" + type);
+        }
+    }
+
+    /**
+     * Unescapes the hexadecimal escapes of a column separator of stream load, such as {@code \x01},
+     * which are unescaped by Doris as well.
+     */
+    static String unescapeDelimiter(String delimiter) {
+        Matcher matcher = HEX_ESCAPE.matcher(delimiter);
+        StringBuffer unescaped = new StringBuffer();
+        while (matcher.find()) {
+            matcher.appendReplacement(
+                    unescaped,
+                    Matcher.quoteReplacement(
+                            String.valueOf((char) Integer.parseInt(matcher.group(1), 16))));
+        }
+        matcher.appendTail(unescaped);
+        return unescaped.toString();
+    }
+
+    private static FieldWriter quoteIfJson(FieldWriter writer, boolean csv) {
+        if (csv) {
+            return writer;
+        }
+        return (out, val) -> {
+            out.append('"');
+            writer.write(out, val);
+            out.append('"');
+        };
+    }
+
+    /** Appends a number, or quotes it in JSON as Jackson does for NaN and infinities. */
+    private static void appendNumber(StringBuilder out, String number, boolean plain) {
+        if (plain) {
+            out.append(number);
+        } else {
+            out.append('"').append(number).append('"');
+        }
+    }
+
+    private static String writeValueAsString(Object field) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(field);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String encodeJsonString(String str) {
+        StringBuilder out = new StringBuilder(str.length() + 2);
+        appendJsonString(out, str);
+        return out.toString();
+    }
+
+    /** Appends a quoted JSON string, with the characters escaped as Jackson does. */
+    static void appendJsonString(StringBuilder out, String str) {
+        out.append('"');
+        for (int i = 0; i < str.length(); i++) {
+            char ch = str.charAt(i);
+            switch (ch) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\b':
+                    out.append("\\b");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\f':
+                    out.append("\\f");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                default:
+                    if (ch < 0x20) {
+                        out.append("\\u00")
+                                .append(Character.toUpperCase(Character.forDigit(ch >> 4, 16)))
+                                .append(Character.toUpperCase(Character.forDigit(ch & 0xF, 16)));
+                    } else {
+                        out.append(ch);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+    /** Writes a non-null field of a record. */
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(StringBuilder out, RecordData val);
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.doris.sink;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.type.TypeReference;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Properties;
+
+/** A test for {@link DorisRecordEncoder}. */
+public class DorisRecordEncoderTest {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("GMT+08:00");
+
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT().notNull())
+                    .physicalColumn("name", DataTypes.VARCHAR(256))
+                    .physicalColumn("flag", DataTypes.BOOLEAN())
+                    .physicalColumn("tiny", DataTypes.TINYINT())
+                    .physicalColumn("small", DataTypes.SMALLINT())
+                    .physicalColumn("big", DataTypes.BIGINT())
+                    .physicalColumn("ratio", DataTypes.FLOAT())
+                    .physicalColumn("price", DataTypes.DOUBLE())
+                    .physicalColumn("amount", DataTypes.DECIMAL(10, 2))
+                    .physicalColumn("payload", DataTypes.BYTES())
+                    .physicalColumn("day", DataTypes.DATE())
+                    .physicalColumn("updated_at", DataTypes.TIMESTAMP(6))
+                    .physicalColumn("created_at", DataTypes.TIMESTAMP_LTZ(3))
+                    .physicalColumn("comment", DataTypes.STRING())
+                    .primaryKey("id")
+                    .build();
+
+    private static final Schema CSV_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.STRING().notNull())
+                    .physicalColumn("delimiter", DataTypes.STRING())
+                    .physicalColumn("line", DataTypes.STRING())
+                    .physicalColumn("separator", DataTypes.STRING())
+                    .physicalColumn("quote", DataTypes.STRING())
+                    .primaryKey("id")
+                    .build();
+
+    private static final Object[] FIELDS =
+            new Object[] {
+                1,
+                BinaryStringData.fromString("doris \"quoted\"\t\n\u0001"),
+                true,
+                (byte) 1,
+                (short) 32,
+                128L,
+                1.2F,
+                Double.NaN,
+                DecimalData.fromBigDecimal(new BigDecimal("-12.30"), 10, 2),
+                new byte[] {1, 2, 3},
+                (int) LocalDate.of(2021, 1, 1).toEpochDay(),
+                TimestampData.fromLocalDateTime(LocalDateTime.of(2021, 1, 1, 8, 1, 11, 123456000)),
+                LocalZonedTimestampData.fromInstant(Instant.parse("2021-01-01T08:01:11.123Z")),
+                null
+            };
+
+    @Test
+    public void testEncodeJson() throws Exception {
+        BinaryRecordData record = generate(FIELDS);
+        DorisRecordEncoder encoder = new DorisRecordEncoder(SCHEMA, ZONE_ID, false, "\t");
+        DorisEventSerializer serializer = new DorisEventSerializer(ZONE_ID);
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        // the same as the JSON serialized from the converted fields
+        for (boolean delete : new boolean[] {false, true}) {
+            Map<String, Object> expected = serializer.serializerRecord(record, SCHEMA);
+            expected.put("__DORIS_DELETE_SIGN__", delete ? "1" : "0");
+            String json = new String(encoder.encode(record, delete), StandardCharsets.UTF_8);
+            Assert.assertEquals(
+                    objectMapper.readValue(
+                            objectMapper.writeValueAsString(expected),
+                            new TypeReference<Map<String, Object>>() {}),
+                    objectMapper.readValue(json, new TypeReference<Map<String, Object>>() {}));
+        }
+        Assert.assertEquals(
+                "{\"id\":1,\"name\":\"doris \\\"quoted\\\"\\t\\n\\u0001\",\"flag\":true,\"tiny\":1,"
+                        + "\"small\":32,\"big\":128,\"ratio\":1.2,\"price\":\"NaN\",\"amount\":-12.30,"
+                        + "\"payload\":\"AQID\",\"day\":\"2021-01-01\","
+                        + "\"updated_at\":\"2021-01-01 08:01:11.123456\","
+                        + "\"created_at\":\"2021-01-01 16:01:11.123000\",\"comment\":null,"
+                        + "\"__DORIS_DELETE_SIGN__\":\"0\"}",
+                new String(encoder.encode(record, false), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testEncodeCsv() {
+        DorisRecordEncoder encoder =
+                new DorisRecordEncoder(
+                        SCHEMA, ZONE_ID, true, DorisRecordEncoder.unescapeDelimiter("\\x01"));
+        Object[] fields = FIELDS.clone();
+        fields[1] = BinaryStringData.fromString("doris");
+        Assert.assertEquals(
+                "1\u0001doris\u0001true\u00011\u000132\u0001128\u00011.2\u0001NaN\u0001-12.30\u0001"
+                        + "AQID\u00012021-01-01\u00012021-01-01 08:01:11.123456\u0001"
+                        + "2021-01-01 16:01:11.123000\u0001\\N\u00011",
+                new String(encoder.encode(generate(fields), true), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testEncodeCsvWithEnclose() throws Exception {
+        Properties streamLoadProp = new Properties();
+        streamLoadProp.setProperty("format", "csv");
+        streamLoadProp.setProperty("column_separator", ",");
+        streamLoadProp.setProperty("line_delimiter", "\\x02");
+        streamLoadProp.setProperty("enclose", "'");
+        streamLoadProp.setProperty("escape", "\\");
+        DorisEventSerializer serializer = new DorisEventSerializer(ZONE_ID, streamLoadProp);
+        TableId tableId = TableId.tableId("doris_database", "doris_table");
+        serializer.serialize(new CreateTableEvent(tableId, CSV_SCHEMA));
+
+        BinaryRecordData record =
+                generate(
+                        CSV_SCHEMA,
+                        new Object[] {
+                            BinaryStringData.fromString("doris"),
+                            BinaryStringData.fromString("a,b"),
+                            BinaryStringData.fromString("line\u0002break"),
+                            BinaryStringData.fromString("\\N"),
+                            BinaryStringData.fromString("it's C:\\doris")
+                        });
+        Assert.assertEquals(
+                "doris,'a,b','line\u0002break','\\\\N','it\\'s C:\\\\doris',0",
+                new String(
+                        serializer.serialize(DataChangeEvent.insertEvent(tableId, record)).getRow(),
+                        StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testEncodeCsvWithoutEnclose() {
+        DorisRecordEncoder encoder = new DorisRecordEncoder(CSV_SCHEMA, ZONE_ID, true, "\t");
+        Object[] fields =
+                new Object[] {
+                    BinaryStringData.fromString("doris"),
+                    BinaryStringData.fromString("it's"),
+                    BinaryStringData.fromString("C:\\doris"),
+                    null,
+                    null
+                };
+        Assert.assertEquals(
+                "doris\tit's\tC:\\doris\t\\N\t\\N\t0",
+                new String(
+                        encoder.encode(generate(CSV_SCHEMA, fields), false),
+                        StandardCharsets.UTF_8));
+
+        // the values which would be split or read as null by Doris are rejected
+        for (String value : new String[] {"a\tb", "line\nbreak", "\\N"}) {
+            fields[3] = BinaryStringData.fromString(value);
+            BinaryRecordData record = generate(CSV_SCHEMA, fields);
+            IllegalArgumentException thrown =
+                    Assert.assertThrows(
+                            IllegalArgumentException.class, () -> encoder.encode(record, false));
+            Assert.assertTrue(thrown.getMessage().contains("The value of column separator"));
+        }
+    }
+
+    private static BinaryRecordData generate(Object[] fields) {
+        return generate(SCHEMA, fields);
+    }
+
+    private static BinaryRecordData generate(Schema schema, Object[] fields) {
+        return new BinaryRecordDataGenerator(schema.getColumnDataTypes().toArray(new DataType[0]))
+                .generate(fields);
+    }
+}
@@ -18,10 +18,13 @@
 package org.apache.flink.cdc.connectors.elasticsearch.config;
 
 import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.connectors.elasticsearch.v2.AdaptiveBulkConfig;
 import org.apache.flink.cdc.connectors.elasticsearch.v2.NetworkConfig;
 
 import org.apache.http.HttpHost;
 
+import javax.annotation.Nullable;
+
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
@@ -44,6 +47,7 @@ public class ElasticsearchSinkOptions implements Serializable {
     private final String password;
     private final Map<TableId, String> shardingKey;
     private final String shardingSeparator;
+    @Nullable private final AdaptiveBulkConfig adaptiveBulkConfig;
 
     /** Constructor for ElasticsearchSinkOptions. */
     public ElasticsearchSinkOptions(
@@ -85,6 +89,36 @@ public class ElasticsearchSinkOptions implements Serializable {
             String password,
             Map<TableId, String> shardingKey,
             String shardingSeparator) {
+        this(
+                maxBatchSize,
+                maxInFlightRequests,
+                maxBufferedRequests,
+                maxBatchSizeInBytes,
+                maxTimeInBufferMS,
+                maxRecordSizeInBytes,
+                networkConfig,
+                version,
+                username,
+                password,
+                shardingKey,
+                shardingSeparator,
+                null);
+    }
+
+    public ElasticsearchSinkOptions(
+            int maxBatchSize,
+            int maxInFlightRequests,
+            int maxBufferedRequests,
+            long maxBatchSizeInBytes,
+            long maxTimeInBufferMS,
+            long maxRecordSizeInBytes,
+            NetworkConfig networkConfig,
+            int version,
+            String username,
+            String password,
+            Map<TableId, String> shardingKey,
+            String shardingSeparator,
+            @Nullable AdaptiveBulkConfig adaptiveBulkConfig) {
         this.maxBatchSize = maxBatchSize;
         this.maxInFlightRequests = maxInFlightRequests;
         this.maxBufferedRequests = maxBufferedRequests;
@@ -97,6 +131,7 @@ public class ElasticsearchSinkOptions implements Serializable {
         this.password = password;
         this.shardingKey = shardingKey;
         this.shardingSeparator = shardingSeparator;
+        this.adaptiveBulkConfig = adaptiveBulkConfig;
     }
 
     /** @return the maximum batch size */
@@ -158,4 +193,10 @@ public class ElasticsearchSinkOptions implements Serializable {
     public String getShardingSeparator() {
         return shardingSeparator;
     }
+
+    /** @return the adaptive bulk configuration, or null if the bulk limits are static */
+    @Nullable
+    public AdaptiveBulkConfig getAdaptiveBulkConfig() {
+        return adaptiveBulkConfig;
+    }
 }
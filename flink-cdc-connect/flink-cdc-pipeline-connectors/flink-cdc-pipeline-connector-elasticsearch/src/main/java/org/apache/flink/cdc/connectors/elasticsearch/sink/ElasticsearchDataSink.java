@@ -144,6 +144,9 @@ public class ElasticsearchDataSink<InputT> implements DataSink, Serializable {
         if (esOptions.getUsername() != null) {
             sinkBuilder.setUsername(esOptions.getUsername()).setPassword(esOptions.getPassword());
         }
+        if (esOptions.getAdaptiveBulkConfig() != null) {
+            sinkBuilder.setAdaptiveBulkConfig(esOptions.getAdaptiveBulkConfig());
+        }
         return FlinkSinkProvider.of(sinkBuilder.build());
     }
 
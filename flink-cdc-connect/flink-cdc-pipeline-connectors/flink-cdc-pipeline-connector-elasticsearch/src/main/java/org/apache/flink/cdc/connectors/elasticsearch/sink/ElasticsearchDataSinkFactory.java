@@ -25,6 +25,7 @@ import org.apache.flink.cdc.common.factories.FactoryHelper;
 import org.apache.flink.cdc.common.pipeline.PipelineOptions;
 import org.apache.flink.cdc.common.sink.DataSink;
 import org.apache.flink.cdc.connectors.elasticsearch.config.ElasticsearchSinkOptions;
+import org.apache.flink.cdc.connectors.elasticsearch.v2.AdaptiveBulkConfig;
 import org.apache.flink.cdc.connectors.elasticsearch.v2.NetworkConfig;
 import org.apache.flink.table.api.ValidationException;
 
@@ -40,6 +41,9 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.apache.flink.cdc.connectors.elasticsearch.sink.ElasticsearchDataSinkOptions.BULK_ADAPTIVE_ENABLED;
+import static org.apache.flink.cdc.connectors.elasticsearch.sink.ElasticsearchDataSinkOptions.BULK_ADAPTIVE_LATENCY_TARGET_MS;
+import static org.apache.flink.cdc.connectors.elasticsearch.sink.ElasticsearchDataSinkOptions.BULK_ADAPTIVE_MIN_BATCH_SIZE_IN_BYTES;
 import static org.apache.flink.cdc.connectors.elasticsearch.sink.ElasticsearchDataSinkOptions.HOSTS;
 import static org.apache.flink.cdc.connectors.elasticsearch.sink.ElasticsearchDataSinkOptions.MAX_BATCH_SIZE;
 import static org.apache.flink.cdc.connectors.elasticsearch.sink.ElasticsearchDataSinkOptions.MAX_BATCH_SIZE_IN_BYTES;
@@ -112,6 +116,12 @@ public class ElasticsearchDataSinkFactory implements DataSinkFactory {
 
         NetworkConfig networkConfig =
                 new NetworkConfig(hosts, username, password, null, null, null);
+        AdaptiveBulkConfig adaptiveBulkConfig =
+                cdcConfig.get(BULK_ADAPTIVE_ENABLED)
+                        ? new AdaptiveBulkConfig(
+                                cdcConfig.get(BULK_ADAPTIVE_LATENCY_TARGET_MS),
+                                cdcConfig.get(BULK_ADAPTIVE_MIN_BATCH_SIZE_IN_BYTES))
+                        : null;
         return new ElasticsearchSinkOptions(
                 cdcConfig.get(MAX_BATCH_SIZE),
                 cdcConfig.get(MAX_IN_FLIGHT_REQUESTS),
@@ -124,7 +134,8 @@ public class ElasticsearchDataSinkFactory implements DataSinkFactory {
                 username,
                 password,
                 shardingMaps,
-                shardingSeparator);
+                shardingSeparator,
+                adaptiveBulkConfig);
     }
 
     private List<HttpHost> parseHosts(String hostsStr) {
@@ -159,6 +170,9 @@ public class ElasticsearchDataSinkFactory implements DataSinkFactory {
         optionalOptions.add(PASSWORD);
         optionalOptions.add(SHARDING_SUFFIX_KEY);
         optionalOptions.add(SHARDING_SUFFIX_SEPARATOR);
+        optionalOptions.add(BULK_ADAPTIVE_ENABLED);
+        optionalOptions.add(BULK_ADAPTIVE_LATENCY_TARGET_MS);
+        optionalOptions.add(BULK_ADAPTIVE_MIN_BATCH_SIZE_IN_BYTES);
         return optionalOptions;
     }
 
@@ -77,6 +77,30 @@ public class ElasticsearchDataSinkOptions {
                     .defaultValue(10L * 1024L * 1024L)
                     .withDescription("The maximum size of a single record in bytes.");
 
+    /** Whether to size the bulk requests adaptively to the feedback of the cluster. */
+    public static final ConfigOption<Boolean> BULK_ADAPTIVE_ENABLED =
+            ConfigOptions.key("bulk.adaptive.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to decrease the batch size in bytes and the number of in-flight requests when Elasticsearch is slow or rejects requests, and to increase them back up to 'batch.size.max.bytes' and 'inflight.requests.max' otherwise. Only supported by Elasticsearch 8.");
+
+    /** The bulk latency above which the adaptive limits are decreased. */
+    public static final ConfigOption<Long> BULK_ADAPTIVE_LATENCY_TARGET_MS =
+            ConfigOptions.key("bulk.adaptive.latency.target.ms")
+                    .longType()
+                    .defaultValue(1000L)
+                    .withDescription(
+                            "The bulk request latency above which the adaptive batch size and in-flight requests are decreased.");
+
+    /** The lower bound of the adaptive batch size in bytes. */
+    public static final ConfigOption<Long> BULK_ADAPTIVE_MIN_BATCH_SIZE_IN_BYTES =
+            ConfigOptions.key("bulk.adaptive.batch.size.min.bytes")
+                    .longType()
+                    .defaultValue(256L * 1024L)
+                    .withDescription(
+                            "The lower bound of the adaptive batch size in bytes, which is also the step by which it is increased.");
+
     /** The version of Elasticsearch to connect to. */
     public static final ConfigOption<Integer> VERSION =
             ConfigOptions.key("version")
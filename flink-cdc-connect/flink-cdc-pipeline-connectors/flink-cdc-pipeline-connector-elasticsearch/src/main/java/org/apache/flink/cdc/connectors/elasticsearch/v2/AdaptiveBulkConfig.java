@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.flink.cdc.connectors.elasticsearch.v2;
+
+import java.io.Serializable;
+
+import static org.apache.flink.util.Preconditions.checkArgument;
+
+/**
+ * The configuration of the adaptive sizing of bulk requests, see {@link
+ * AdaptiveBulkRateLimitingStrategy}. The configured maximum batch size in bytes and maximum number
+ * of in-flight requests of the sink are the upper bounds of the adaptive limits.
+ */
+public class AdaptiveBulkConfig implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final long targetLatencyMs;
+
+    private final long minBatchSizeInBytes;
+
+    /**
+     * Constructs an AdaptiveBulkConfig.
+     *
+     * @param targetLatencyMs the bulk latency above which the limits are decreased.
+     * @param minBatchSizeInBytes the lower bound of the batch size in bytes, which is also the step
+     *     of the additive increase.
+     */
+    public AdaptiveBulkConfig(long targetLatencyMs, long minBatchSizeInBytes) {
+        checkArgument(targetLatencyMs > 0, "The target latency must be positive.");
+        checkArgument(minBatchSizeInBytes > 0, "The minimum batch size in bytes must be positive.");
+        this.targetLatencyMs = targetLatencyMs;
+        this.minBatchSizeInBytes = minBatchSizeInBytes;
+    }
+
+    public long getTargetLatencyMs() {
+        return targetLatencyMs;
+    }
+
+    public long getMinBatchSizeInBytes() {
+        return minBatchSizeInBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveBulkConfig{"
+                + "targetLatencyMs="
+                + targetLatencyMs
+                + ", minBatchSizeInBytes="
+                + minBatchSizeInBytes
+                + '}';
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.flink.cdc.connectors.elasticsearch.v2;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.connector.base.sink.writer.strategy.RateLimitingStrategy;
+import org.apache.flink.connector.base.sink.writer.strategy.RequestInfo;
+import org.apache.flink.connector.base.sink.writer.strategy.ResultInfo;
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.metrics.SimpleCounter;
+import org.apache.flink.util.ExceptionUtils;
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.transport.TransportException;
+import org.elasticsearch.client.ResponseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link RateLimitingStrategy} which adapts the size of the bulk requests and the number of
+ * in-flight bulk requests to the feedback of the Elasticsearch cluster, in the way of AIMD
+ * (additive increase, multiplicative decrease).
+ *
+ * <p>Both limits start at the configured maximums of the sink. A bulk request which is rejected
+ * with {@code 429 Too Many Requests}, either as a whole or for some of its items, which fails as a
+ * whole, or whose latency exceeds the target latency, halves both limits. Congestion signals of
+ * requests which were submitted before the last decrease are ignored, so that a burst of failures
+ * of the concurrent requests only decreases the limits once. A successful bulk request increases
+ * the limits by about one request and one minimum batch size in bytes per round trip, and a bulk
+ * request with other partial failures keeps the limits unchanged.
+ *
+ * <p>As the {@code AsyncSinkWriter} limits the batches in bytes by a fixed maximum, the adaptive
+ * batch size in bytes is applied as a limit of the number of records per batch, which is derived
+ * from the average size of the buffered records.
+ *
+ * <p>The limits are updated by the callbacks of the bulk requests and read by the mailbox thread of
+ * the writer, so the methods of this class are synchronized.
+ */
+public class AdaptiveBulkRateLimitingStrategy implements RateLimitingStrategy {
+    private static final Logger LOG =
+            LoggerFactory.getLogger(AdaptiveBulkRateLimitingStrategy.class);
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double RECORD_SIZE_SMOOTHING = 0.1;
+
+    private final int maxBatchSize;
+    private final int maxInFlightRequests;
+    private final long maxBatchSizeInBytes;
+    private final long minBatchSizeInBytes;
+    private final long targetLatencyNanos;
+
+    private double batchSizeInBytes;
+    private double inFlightRequestsLimit;
+    private double averageRecordSizeInBytes;
+    private int currentInFlightRequests;
+    private long lastDecreaseNanos = Long.MIN_VALUE;
+    private long lastLatencyMs;
+
+    private final Counter numBulkRejectionsCounter = new SimpleCounter();
+    private final Counter numBackoffsCounter = new SimpleCounter();
+
+    public AdaptiveBulkRateLimitingStrategy(
+            int maxBatchSize,
+            int maxInFlightRequests,
+            long maxBatchSizeInBytes,
+            AdaptiveBulkConfig config) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.maxBatchSizeInBytes = maxBatchSizeInBytes;
+        this.minBatchSizeInBytes = Math.min(config.getMinBatchSizeInBytes(), maxBatchSizeInBytes);
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(config.getTargetLatencyMs());
+        this.batchSizeInBytes = maxBatchSizeInBytes;
+        this.inFlightRequestsLimit = maxInFlightRequests;
+    }
+
+    /** Registers the gauges of the adaptive limits and the counters of the congestion signals. */
+    public void registerMetrics(MetricGroup metricGroup) {
+        metricGroup.gauge("adaptiveBatchSizeInBytes", (Gauge<Long>) this::getBatchSizeInBytes);
+        metricGroup.gauge("adaptiveMaxBatchSize", (Gauge<Integer>) this::getMaxBatchSize);
+        metricGroup.gauge(
+                "adaptiveMaxInFlightRequests", (Gauge<Integer>) this::getMaxInFlightRequests);
+        metricGroup.gauge("bulkLatencyMs", (Gauge<Long>) this::getLastLatencyMs);
+        metricGroup.counter("numBulkRejections", numBulkRejectionsCounter);
+        metricGroup.counter("numAdaptiveBackoffs", numBackoffsCounter);
+    }
+
+    /** Registers the size of a buffered record, which converts the batch size in bytes. */
+    public synchronized void registerRecordSize(long sizeInBytes) {
+        averageRecordSizeInBytes =
+                averageRecordSizeInBytes == 0
+                        ? sizeInBytes
+                        : averageRecordSizeInBytes
+                                + RECORD_SIZE_SMOOTHING * (sizeInBytes - averageRecordSizeInBytes);
+    }
+
+    /**
+     * Registers the response of a bulk request.
+     *
+     * @param submittedNanos the {@link System#nanoTime()} when the request was submitted.
+     * @param completedNanos the {@link System#nanoTime()} when the response was received.
+     * @param response the response of the bulk request.
+     */
+    public synchronized void registerBulkResponse(
+            long submittedNanos, long completedNanos, BulkResponse response) {
+        int rejectedItems = 0;
+        int failedItems = 0;
+        if (response.errors()) {
+            for (BulkResponseItem item : response.items()) {
+                if (item.status() == TOO_MANY_REQUESTS) {
+                    rejectedItems++;
+                } else if (item.error() != null) {
+                    failedItems++;
+                }
+            }
+        }
+        if (rejectedItems > 0) {
+            numBulkRejectionsCounter.inc();
+        }
+        long latencyNanos = completedNanos - submittedNanos;
+        lastLatencyMs = TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+        if (rejectedItems > 0 || latencyNanos > targetLatencyNanos) {
+            decrease(submittedNanos, completedNanos);
+        } else if (failedItems == 0) {
+            increase();
+        }
+    }
+
+    /**
+     * Registers the failure of a bulk request as a whole.
+     *
+     * @param submittedNanos the {@link System#nanoTime()} when the request was submitted.
+     * @param completedNanos the {@link System#nanoTime()} when the failure was received.
+     * @param error the failure of the bulk request.
+     */
+    public synchronized void registerBulkFailure(
+            long submittedNanos, long completedNanos, Throwable error) {
+        if (isRejection(error)) {
+            numBulkRejectionsCounter.inc();
+        }
+        lastLatencyMs = TimeUnit.NANOSECONDS.toMillis(completedNanos - submittedNanos);
+        decrease(submittedNanos, completedNanos);
+    }
+
+    private void increase() {
+        // Increase by about one step per round trip of all the in-flight requests
+        double step = 1.0 / inFlightRequestsLimit;
+        inFlightRequestsLimit = Math.min(maxInFlightRequests, inFlightRequestsLimit + step);
+        batchSizeInBytes =
+                Math.min(maxBatchSizeInBytes, batchSizeInBytes + minBatchSizeInBytes * step);
+    }
+
+    private void decrease(long submittedNanos, long completedNanos) {
+        if (submittedNanos < lastDecreaseNanos) {
+            return;
+        }
+        lastDecreaseNanos = completedNanos;
+        inFlightRequestsLimit = Math.max(1, inFlightRequestsLimit * DECREASE_FACTOR);
+        batchSizeInBytes = Math.max(minBatchSizeInBytes, batchSizeInBytes * DECREASE_FACTOR);
+        numBackoffsCounter.inc();
+        LOG.info(
+                "Decreased the bulk requests to {} byte(s) and {} in-flight request(s).",
+                getBatchSizeInBytes(),
+                getMaxInFlightRequests());
+    }
+
+    @Override
+    public synchronized void registerInFlightRequest(RequestInfo requestInfo) {
+        currentInFlightRequests++;
+    }
+
+    @Override
+    public synchronized void registerCompletedRequest(ResultInfo resultInfo) {
+        currentInFlightRequests = Math.max(0, currentInFlightRequests - 1);
+    }
+
+    @Override
+    public synchronized boolean shouldBlock(RequestInfo requestInfo) {
+        return currentInFlightRequests >= getMaxInFlightRequests();
+    }
+
+    @Override
+    public synchronized int getMaxBatchSize() {
+        if (averageRecordSizeInBytes == 0) {
+            return maxBatchSize;
+        }
+        long batchSize = (long) (batchSizeInBytes / averageRecordSizeInBytes);
+        return (int) Math.max(1, Math.min(maxBatchSize, batchSize));
+    }
+
+    @VisibleForTesting
+    synchronized long getBatchSizeInBytes() {
+        return (long) batchSizeInBytes;
+    }
+
+    @VisibleForTesting
+    synchronized int getMaxInFlightRequests() {
+        return (int) inFlightRequestsLimit;
+    }
+
+    @VisibleForTesting
+    synchronized long getLastLatencyMs() {
+        return lastLatencyMs;
+    }
+
+    @VisibleForTesting
+    long getNumBulkRejections() {
+        return numBulkRejectionsCounter.getCount();
+    }
+
+    /** Returns whether the failure of a bulk request is a {@code 429 Too Many Requests}. */
+    @VisibleForTesting
+    static boolean isRejection(Throwable error) {
+        return ExceptionUtils.findThrowable(
+                        error,
+                        t ->
+                                (t instanceof ElasticsearchException
+                                                && ((ElasticsearchException) t).status()
+                                                        == TOO_MANY_REQUESTS)
+                                        || (t instanceof TransportException
+                                                && ((TransportException) t).statusCode()
+                                                        == TOO_MANY_REQUESTS)
+                                        || (t instanceof ResponseException
+                                                && ((ResponseException) t)
+                                                                .getResponse()
+                                                                .getStatusLine()
+                                                                .getStatusCode()
+                                                        == TOO_MANY_REQUESTS))
+                .isPresent();
+    }
+}
@@ -28,6 +28,8 @@ import org.apache.flink.core.io.SimpleVersionedSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.Collection;
 import java.util.Collections;
 
@@ -43,6 +45,8 @@ public class Elasticsearch8AsyncSink<InputT> extends AsyncSinkBase<InputT, Opera
 
     @VisibleForTesting protected final NetworkConfig networkConfig;
 
+    @Nullable private final AdaptiveBulkConfig adaptiveBulkConfig;
+
     /**
      * Constructs an Elasticsearch8AsyncSink.
      *
@@ -65,6 +69,43 @@ public class Elasticsearch8AsyncSink<InputT> extends AsyncSinkBase<InputT, Opera
             long maxTimeInBufferMS,
             long maxRecordSizeInByte,
             NetworkConfig networkConfig) {
+        this(
+                converter,
+                maxBatchSize,
+                maxInFlightRequests,
+                maxBufferedRequests,
+                maxBatchSizeInBytes,
+                maxTimeInBufferMS,
+                maxRecordSizeInByte,
+                networkConfig,
+                null);
+    }
+
+    /**
+     * Constructs an Elasticsearch8AsyncSink whose bulk requests are sized adaptively.
+     *
+     * @param converter the converter that transforms input records to Elasticsearch operations.
+     * @param maxBatchSize the maximum number of records to be included in a single batch.
+     * @param maxInFlightRequests the maximum number of in-flight requests.
+     * @param maxBufferedRequests the maximum number of buffered requests.
+     * @param maxBatchSizeInBytes the maximum size of a batch in bytes.
+     * @param maxTimeInBufferMS the maximum time a request can stay in the buffer before being
+     *     flushed.
+     * @param maxRecordSizeInByte the maximum size of a single record in bytes.
+     * @param networkConfig the network configuration for Elasticsearch.
+     * @param adaptiveBulkConfig the adaptive sizing of the bulk requests, or null to keep the
+     *     limits static.
+     */
+    protected Elasticsearch8AsyncSink(
+            ElementConverter<InputT, Operation> converter,
+            int maxBatchSize,
+            int maxInFlightRequests,
+            int maxBufferedRequests,
+            long maxBatchSizeInBytes,
+            long maxTimeInBufferMS,
+            long maxRecordSizeInByte,
+            NetworkConfig networkConfig,
+            @Nullable AdaptiveBulkConfig adaptiveBulkConfig) {
         super(
                 converter,
                 maxBatchSize,
@@ -75,6 +116,7 @@ public class Elasticsearch8AsyncSink<InputT> extends AsyncSinkBase<InputT, Opera
                 maxRecordSizeInByte);
 
         this.networkConfig = networkConfig;
+        this.adaptiveBulkConfig = adaptiveBulkConfig;
     }
 
     /**
@@ -96,6 +138,7 @@ public class Elasticsearch8AsyncSink<InputT> extends AsyncSinkBase<InputT, Opera
                 getMaxTimeInBufferMS(),
                 getMaxRecordSizeInBytes(),
                 networkConfig,
+                adaptiveBulkConfig,
                 Collections.emptyList());
     }
 
@@ -119,6 +162,7 @@ public class Elasticsearch8AsyncSink<InputT> extends AsyncSinkBase<InputT, Opera
                 getMaxTimeInBufferMS(),
                 getMaxRecordSizeInBytes(),
                 networkConfig,
+                adaptiveBulkConfig,
                 recoveredState);
     }
 
@@ -82,6 +82,9 @@ public class Elasticsearch8AsyncSinkBuilder<InputT>
 
     private SerializableSupplier<HostnameVerifier> sslHostnameVerifier;
 
+    /** The adaptive sizing of the bulk requests, the limits are static if it is not set. */
+    private AdaptiveBulkConfig adaptiveBulkConfig;
+
     /**
      * setHosts set the hosts where the Elasticsearch cluster is reachable.
      *
@@ -206,6 +209,20 @@ public class Elasticsearch8AsyncSinkBuilder<InputT>
         return this;
     }
 
+    /**
+     * setAdaptiveBulkConfig enables the adaptive sizing of the bulk requests, which decreases the
+     * batch size in bytes and the number of in-flight requests when the Elasticsearch cluster is
+     * slow or rejects requests, and increases them back up to the configured maximums.
+     *
+     * @param adaptiveBulkConfig the adaptive bulk configuration
+     * @return {@code Elasticsearch8AsyncSinkBuilder}
+     */
+    public Elasticsearch8AsyncSinkBuilder<InputT> setAdaptiveBulkConfig(
+            AdaptiveBulkConfig adaptiveBulkConfig) {
+        this.adaptiveBulkConfig = checkNotNull(adaptiveBulkConfig);
+        return this;
+    }
+
     public static <T> Elasticsearch8AsyncSinkBuilder<T> builder() {
         return new Elasticsearch8AsyncSinkBuilder<>();
     }
@@ -226,7 +243,8 @@ public class Elasticsearch8AsyncSinkBuilder<InputT>
                 Optional.ofNullable(getMaxBatchSizeInBytes()).orElse(DEFAULT_MAX_BATCH_SIZE_IN_B),
                 Optional.ofNullable(getMaxTimeInBufferMS()).orElse(DEFAULT_MAX_TIME_IN_BUFFER_MS),
                 Optional.ofNullable(getMaxRecordSizeInBytes()).orElse(DEFAULT_MAX_RECORD_SIZE_IN_B),
-                buildNetworkConfig());
+                buildNetworkConfig(),
+                adaptiveBulkConfig);
     }
 
     private OperationConverter<InputT> buildOperationConverter(
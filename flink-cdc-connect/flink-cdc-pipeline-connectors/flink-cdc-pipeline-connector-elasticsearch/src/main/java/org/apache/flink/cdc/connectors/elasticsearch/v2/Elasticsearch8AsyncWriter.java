@@ -37,6 +37,8 @@ import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.net.ConnectException;
 import java.net.NoRouteToHostException;
 import java.util.ArrayList;
@@ -58,6 +60,9 @@ public class Elasticsearch8AsyncWriter<InputT> extends AsyncSinkWriter<InputT, O
 
     private final ElasticsearchAsyncClient esClient;
 
+    /** The adaptive sizing of the bulk requests, or null if the limits are static. */
+    @Nullable private final AdaptiveBulkRateLimitingStrategy adaptiveStrategy;
+
     private boolean close = false;
 
     private final Counter numRecordsOutErrorsCounter;
@@ -91,20 +96,79 @@ public class Elasticsearch8AsyncWriter<InputT> extends AsyncSinkWriter<InputT, O
             long maxRecordSizeInBytes,
             NetworkConfig networkConfig,
             Collection<BufferedRequestState<Operation>> state) {
+        this(
+                elementConverter,
+                context,
+                maxBatchSize,
+                maxInFlightRequests,
+                maxBufferedRequests,
+                maxBatchSizeInBytes,
+                maxTimeInBufferMS,
+                maxRecordSizeInBytes,
+                networkConfig,
+                (AdaptiveBulkConfig) null,
+                state);
+    }
+
+    public Elasticsearch8AsyncWriter(
+            ElementConverter<InputT, Operation> elementConverter,
+            Sink.InitContext context,
+            int maxBatchSize,
+            int maxInFlightRequests,
+            int maxBufferedRequests,
+            long maxBatchSizeInBytes,
+            long maxTimeInBufferMS,
+            long maxRecordSizeInBytes,
+            NetworkConfig networkConfig,
+            @Nullable AdaptiveBulkConfig adaptiveBulkConfig,
+            Collection<BufferedRequestState<Operation>> state) {
+        this(
+                elementConverter,
+                context,
+                maxBatchSize,
+                maxInFlightRequests,
+                maxBufferedRequests,
+                maxBatchSizeInBytes,
+                maxTimeInBufferMS,
+                maxRecordSizeInBytes,
+                networkConfig,
+                adaptiveBulkConfig == null
+                        ? null
+                        : new AdaptiveBulkRateLimitingStrategy(
+                                maxBatchSize,
+                                maxInFlightRequests,
+                                maxBatchSizeInBytes,
+                                adaptiveBulkConfig),
+                state);
+    }
+
+    private Elasticsearch8AsyncWriter(
+            ElementConverter<InputT, Operation> elementConverter,
+            Sink.InitContext context,
+            int maxBatchSize,
+            int maxInFlightRequests,
+            int maxBufferedRequests,
+            long maxBatchSizeInBytes,
+            long maxTimeInBufferMS,
+            long maxRecordSizeInBytes,
+            NetworkConfig networkConfig,
+            @Nullable AdaptiveBulkRateLimitingStrategy adaptiveStrategy,
+            Collection<BufferedRequestState<Operation>> state) {
         super(
                 elementConverter,
                 context,
-                AsyncSinkWriterConfiguration.builder()
-                        .setMaxBatchSize(maxBatchSize)
-                        .setMaxBatchSizeInBytes(maxBatchSizeInBytes)
-                        .setMaxInFlightRequests(maxInFlightRequests)
-                        .setMaxBufferedRequests(maxBufferedRequests)
-                        .setMaxTimeInBufferMS(maxTimeInBufferMS)
-                        .setMaxRecordSizeInBytes(maxRecordSizeInBytes)
-                        .build(),
+                createConfiguration(
+                        maxBatchSize,
+                        maxInFlightRequests,
+                        maxBufferedRequests,
+                        maxBatchSizeInBytes,
+                        maxTimeInBufferMS,
+                        maxRecordSizeInBytes,
+                        adaptiveStrategy),
                 state);
 
         this.esClient = networkConfig.createEsClient();
+        this.adaptiveStrategy = adaptiveStrategy;
         final SinkWriterMetricGroup metricGroup = context.metricGroup();
         checkNotNull(metricGroup);
 
@@ -112,6 +176,31 @@ public class Elasticsearch8AsyncWriter<InputT> extends AsyncSinkWriter<InputT, O
         this.numRecordsSendPartialFailureCounter =
                 metricGroup.counter("numRecordsSendPartialFailure");
         this.numRequestSubmittedCounter = metricGroup.counter("numRequestSubmitted");
+        if (adaptiveStrategy != null) {
+            adaptiveStrategy.registerMetrics(metricGroup);
+        }
+    }
+
+    private static AsyncSinkWriterConfiguration createConfiguration(
+            int maxBatchSize,
+            int maxInFlightRequests,
+            int maxBufferedRequests,
+            long maxBatchSizeInBytes,
+            long maxTimeInBufferMS,
+            long maxRecordSizeInBytes,
+            @Nullable AdaptiveBulkRateLimitingStrategy adaptiveStrategy) {
+        AsyncSinkWriterConfiguration.AsyncSinkWriterConfigurationBuilder builder =
+                AsyncSinkWriterConfiguration.builder()
+                        .setMaxBatchSize(maxBatchSize)
+                        .setMaxBatchSizeInBytes(maxBatchSizeInBytes)
+                        .setMaxInFlightRequests(maxInFlightRequests)
+                        .setMaxBufferedRequests(maxBufferedRequests)
+                        .setMaxTimeInBufferMS(maxTimeInBufferMS)
+                        .setMaxRecordSizeInBytes(maxRecordSizeInBytes);
+        if (adaptiveStrategy != null) {
+            builder.setRateLimitingStrategy(adaptiveStrategy);
+        }
+        return builder.build();
     }
 
     @Override
@@ -128,9 +217,20 @@ public class Elasticsearch8AsyncWriter<InputT> extends AsyncSinkWriter<InputT, O
             br.operations(new BulkOperation(operation.getBulkOperationVariant()));
         }
 
+        long submittedNanos = System.nanoTime();
         esClient.bulk(br.build())
                 .whenComplete(
                         (response, error) -> {
+                            if (adaptiveStrategy != null) {
+                                long completedNanos = System.nanoTime();
+                                if (error != null) {
+                                    adaptiveStrategy.registerBulkFailure(
+                                            submittedNanos, completedNanos, error);
+                                } else {
+                                    adaptiveStrategy.registerBulkResponse(
+                                            submittedNanos, completedNanos, response);
+                                }
+                            }
                             if (error != null) {
                                 handleFailedRequest(requestEntries, requestResult, error);
                             } else if (response.errors()) {
@@ -198,7 +298,11 @@ public class Elasticsearch8AsyncWriter<InputT> extends AsyncSinkWriter<InputT, O
 
     @Override
     protected long getSizeInBytes(Operation requestEntry) {
-        return new OperationSerializer().size(requestEntry);
+        long sizeInBytes = new OperationSerializer().size(requestEntry);
+        if (adaptiveStrategy != null) {
+            adaptiveStrategy.registerRecordSize(sizeInBytes);
+        }
+        return sizeInBytes;
     }
 
     @Override
@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.flink.cdc.connectors.elasticsearch.v2;
+
+import org.apache.flink.connector.base.sink.writer.strategy.BasicRequestInfo;
+import org.apache.flink.connector.base.sink.writer.strategy.BasicResultInfo;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.IndexOperation;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpHost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AdaptiveBulkRateLimitingStrategy}, which are fed with the responses of an
+ * in-process stub of the Elasticsearch bulk API.
+ */
+class AdaptiveBulkRateLimitingStrategyTest {
+
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_IN_FLIGHT_REQUESTS = 8;
+    private static final long MAX_BATCH_SIZE_IN_BYTES = 4 * 1024 * 1024;
+    private static final long MIN_BATCH_SIZE_IN_BYTES = 256 * 1024;
+    private static final long TARGET_LATENCY_MS = 100;
+
+    private static final String SUCCESSFUL_RESPONSE =
+            "{\"took\":1,\"errors\":false,\"items\":[{\"index\":{\"_index\":\"test\",\"_id\":\"1\","
+                    + "\"result\":\"created\",\"status\":201}}]}";
+    private static final String PARTIALLY_REJECTED_RESPONSE =
+            "{\"took\":1,\"errors\":true,\"items\":[{\"index\":{\"_index\":\"test\",\"_id\":\"1\","
+                    + "\"status\":429,\"error\":{\"type\":\"es_rejected_execution_exception\","
+                    + "\"reason\":\"rejected execution\"}}}]}";
+    private static final String PARTIALLY_FAILED_RESPONSE =
+            "{\"took\":1,\"errors\":true,\"items\":[{\"index\":{\"_index\":\"test\",\"_id\":\"1\","
+                    + "\"status\":400,\"error\":{\"type\":\"mapper_parsing_exception\","
+                    + "\"reason\":\"failed to parse\"}}}]}";
+    private static final String REJECTED_RESPONSE =
+            "{\"error\":{\"type\":\"es_rejected_execution_exception\","
+                    + "\"reason\":\"rejected execution\"},\"status\":429}";
+
+    private HttpServer server;
+    private ElasticsearchAsyncClient client;
+
+    private volatile int responseStatus;
+    private volatile String responseBody;
+    private volatile long responseDelayMs;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        respondWith(200, SUCCESSFUL_RESPONSE, 0);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(
+                "/",
+                exchange -> {
+                    try (InputStream requestBody = exchange.getRequestBody()) {
+                        while (requestBody.read() != -1) {
+                            // Drain the bulk request
+                        }
+                        Thread.sleep(responseDelayMs);
+                        byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+                        exchange.getResponseHeaders().add("Content-Type", "application/json");
+                        exchange.getResponseHeaders().add("X-Elastic-Product", "Elasticsearch");
+                        exchange.sendResponseHeaders(responseStatus, body.length);
+                        try (OutputStream out = exchange.getResponseBody()) {
+                            out.write(body);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        exchange.close();
+                    }
+                });
+        server.start();
+        client =
+                new NetworkConfig(
+                                Collections.singletonList(
+                                        new HttpHost(
+                                                server.getAddress().getHostString(),
+                                                server.getAddress().getPort())),
+                                null,
+                                null,
+                                null,
+                                null,
+                                null)
+                        .createEsClient();
+    }
+
+    @AfterEach
+    void stopServer() {
+        if (client != null) {
+            client.shutdown();
+        }
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void testSuccessfulRequestsKeepMaximumLimits() throws Exception {
+        AdaptiveBulkRateLimitingStrategy strategy = createStrategy();
+        for (int i = 0; i < 3; i++) {
+            sendBulkRequest(strategy);
+        }
+
+        assertThat(strategy.getBatchSizeInBytes()).isEqualTo(MAX_BATCH_SIZE_IN_BYTES);
+        assertThat(strategy.getMaxInFlightRequests()).isEqualTo(MAX_IN_FLIGHT_REQUESTS);
+        assertThat(strategy.getMaxBatchSize()).isEqualTo(MAX_BATCH_SIZE);
+    }
+
+    @Test
+    void testSlowRequestDecreasesLimits() throws Exception {
+        AdaptiveBulkRateLimitingStrategy strategy = createStrategy();
+        respondWith(200, SUCCESSFUL_RESPONSE, TARGET_LATENCY_MS * 2);
+        sendBulkRequest(strategy);
+
+        assertThat(strategy.getLastLatencyMs()).isGreaterThanOrEqualTo(TARGET_LATENCY_MS * 2);
+        assertThat(strategy.getBatchSizeInBytes()).isEqualTo(MAX_BATCH_SIZE_IN_BYTES / 2);
+        assertThat(strategy.getMaxInFlightRequests()).isEqualTo(MAX_IN_FLIGHT_REQUESTS / 2);
+        assertThat(strategy.getNumBulkRejections()).isZero();
+    }
+
+    @Test
+    void testRejectedItemsDecreaseLimits() throws Exception {
+        AdaptiveBulkRateLimitingStrategy strategy = createStrategy();
+        respondWith(200, PARTIALLY_REJECTED_RESPONSE, 0);
+        sendBulkRequest(strategy);
+
+        assertThat(strategy.getBatchSizeInBytes()).isEqualTo(MAX_BATCH_SIZE_IN_BYTES / 2);
+        assertThat(strategy.getMaxInFlightRequests()).isEqualTo(MAX_IN_FLIGHT_REQUESTS / 2);
+        assertThat(strategy.getNumBulkRejections()).isEqualTo(1);
+    }
+
+    @Test
+    void testRejectedRequestDecreasesLimits() throws Exception {
+        AdaptiveBulkRateLimitingStrategy strategy = createStrategy();
+        respondWith(429, REJECTED_RESPONSE, 0);
+        sendBulkRequest(strategy);
+
+        assertThat(strategy.getBatchSizeInBytes()).isEqualTo(MAX_BATCH_SIZE_IN_BYTES / 2);
+        assertThat(strategy.getMaxInFlightRequests()).isEqualTo(MAX_IN_FLIGHT_REQUESTS / 2);
+        assertThat(strategy.getNumBulkRejections()).isEqualTo(1);
+    }
+
+    @Test
+    void testPartiallyFailedRequestKeepsLimits() throws Exception {
+        AdaptiveBulkRateLimitingStrategy strategy = createStrategy();
+        respondWith(429, REJECTED_RESPONSE, 0);
+        sendBulkRequest(strategy);
+        respondWith(200, PARTIALLY_FAILED_RESPONSE, 0);
+        sendBulkRequest(strategy);
+
+        assertThat(strategy.getBatchSizeInBytes()).isEqualTo(MAX_BATCH_SIZE_IN_BYTES / 2);
+        assertThat(strategy.getMaxInFlightRequests()).isEqualTo(MAX_IN_FLIGHT_REQUESTS / 2);
+    }
+
+    @Test
+    void testConcurrentRejectionsDecreaseLimitsOnce() throws Exception {
+        AdaptiveBulkRateLimitingStrategy strategy = createStrategy();
+        respondWith(429, REJECTED_RESPONSE, 0);
+        long submittedNanos = System.nanoTime();
+        Throwable first = bulk().handle((response, error) -> error).get();
+        Throwable second = bulk().handle((response, error) -> error).get();
+        strategy.registerBulkFailure(submittedNanos, System.nanoTime(), first);
+        strategy.registerBulkFailure(submittedNanos, System.nanoTime(), second);
+
+        assertThat(strategy.getBatchSizeInBytes()).isEqualTo(MAX_BATCH_SIZE_IN_BYTES / 2);
+        assertThat(strategy.getMaxInFlightRequests()).isEqualTo(MAX_IN_FLIGHT_REQUESTS / 2);
+        assertThat(strategy.getNumBulkRejections()).isEqualTo(2);
+
+        // A rejection of a request submitted after the decrease decreases the limits again
+        sendBulkRequest(strategy);
+        assertThat(strategy.getBatchSizeInBytes()).isEqualTo(MAX_BATCH_SIZE_IN_BYTES / 4);
+        assertThat(strategy.getMaxInFlightRequests()).isEqualTo(MAX_IN_FLIGHT_REQUESTS / 4);
+    }
+
+    @Test
+    void testLimitsRecoverAdditively() throws Exception {
+        AdaptiveBulkRateLimitingStrategy strategy = createStrategy();
+        respondWith(429, REJECTED_RESPONSE, 0);
+        for (int i = 0; i < 6; i++) {
+            sendBulkRequest(strategy);
+        }
+        assertThat(strategy.getBatchSizeInBytes()).isEqualTo(MIN_BATCH_SIZE_IN_BYTES);
+        assertThat(strategy.getMaxInFlightRequests()).isEqualTo(1);
+
+        // One step per round trip of the in-flight requests
+        respondWith(200, SUCCESSFUL_RESPONSE, 0);
+        sendBulkRequest(strategy);
+        assertThat(strategy.getBatchSizeInBytes()).isEqualTo(2 * MIN_BATCH_SIZE_IN_BYTES);
+        assertThat(strategy.getMaxInFlightRequests()).isEqualTo(2);
+        for (int i = 0; i < 3; i++) {
+            sendBulkRequest(strategy);
+        }
+        assertThat(strategy.getMaxInFlightRequests()).isEqualTo(3);
+
+        for (int i = 0; i < 200; i++) {
+            sendBulkRequest(strategy);
+        }
+        assertThat(strategy.getBatchSizeInBytes()).isEqualTo(MAX_BATCH_SIZE_IN_BYTES);
+        assertThat(strategy.getMaxInFlightRequests()).isEqualTo(MAX_IN_FLIGHT_REQUESTS);
+    }
+
+    @Test
+    void testBatchSizeIsDerivedFromRecordSize() throws Exception {
+        AdaptiveBulkRateLimitingStrategy strategy = createStrategy();
+        strategy.registerRecordSize(1024);
+        assertThat(strategy.getMaxBatchSize()).isEqualTo(MAX_BATCH_SIZE);
+
+        respondWith(429, REJECTED_RESPONSE, 0);
+        for (int i = 0; i < 4; i++) {
+            sendBulkRequest(strategy);
+        }
+        assertThat(strategy.getBatchSizeInBytes()).isEqualTo(MIN_BATCH_SIZE_IN_BYTES);
+        assertThat(strategy.getMaxBatchSize()).isEqualTo(MIN_BATCH_SIZE_IN_BYTES / 1024);
+
+        strategy.registerRecordSize(10 * 1024 * 1024);
+        assertThat(strategy.getMaxBatchSize()).isEqualTo(1);
+    }
+
+    @Test
+    void testShouldBlockAtAdaptiveInFlightLimit() throws Exception {
+        AdaptiveBulkRateLimitingStrategy strategy = createStrategy();
+        respondWith(429, REJECTED_RESPONSE, 0);
+        for (int i = 0; i < 2; i++) {
+            sendBulkRequest(strategy);
+        }
+        assertThat(strategy.getMaxInFlightRequests()).isEqualTo(2);
+
+        BasicRequestInfo requestInfo = new BasicRequestInfo(1);
+        assertThat(strategy.shouldBlock(requestInfo)).isFalse();
+        strategy.registerInFlightRequest(requestInfo);
+        strategy.registerInFlightRequest(requestInfo);
+        assertThat(strategy.shouldBlock(requestInfo)).isTrue();
+        strategy.registerCompletedRequest(new BasicResultInfo(0, 1));
+        assertThat(strategy.shouldBlock(requestInfo)).isFalse();
+    }
+
+    private AdaptiveBulkRateLimitingStrategy createStrategy() {
+        return new AdaptiveBulkRateLimitingStrategy(
+                MAX_BATCH_SIZE,
+                MAX_IN_FLIGHT_REQUESTS,
+                MAX_BATCH_SIZE_IN_BYTES,
+                new AdaptiveBulkConfig(TARGET_LATENCY_MS, MIN_BATCH_SIZE_IN_BYTES));
+    }
+
+    private void respondWith(int status, String body, long delayMs) {
+        this.responseStatus = status;
+        this.responseBody = body;
+        this.responseDelayMs = delayMs;
+    }
+
+    private void sendBulkRequest(AdaptiveBulkRateLimitingStrategy strategy)
+            throws InterruptedException {
+        long submittedNanos = System.nanoTime();
+        try {
+            BulkResponse response = bulk().get();
+            strategy.registerBulkResponse(submittedNanos, System.nanoTime(), response);
+        } catch (ExecutionException e) {
+            strategy.registerBulkFailure(submittedNanos, System.nanoTime(), e.getCause());
+        }
+    }
+
+    private CompletableFuture<BulkResponse> bulk() {
+        Map<String, Object> document = Collections.singletonMap("id", 1);
+        return client.bulk(
+                BulkRequest.of(
+                        b ->
+                                b.operations(
+                                        new BulkOperation(
+                                                new IndexOperation.Builder<>()
+                                                        .index("test")
+                                                        .id("1")
+                                                        .document(document)
+                                                        .build()))));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.avro;
+
+import org.apache.flink.core.memory.MemorySegment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A reusable buffer of Avro binary encoded data. The values are written as they are encoded by the
+ * {@code BinaryEncoder} of Avro: the integers and longs are zig-zag encoded as variable-length
+ * integers, the floating points are little-endian, and the bytes and strings are prefixed by their
+ * lengths.
+ *
+ * @see <a href="https://avro.apache.org/docs/1.11.1/specification/#binary-encoding">Avro binary
+ *     encoding</a>
+ */
+public class AvroOutputBuffer {
+
+    private byte[] buffer;
+    private int position;
+
+    public AvroOutputBuffer() {
+        this(256);
+    }
+
+    public AvroOutputBuffer(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /** Discards the written bytes. */
+    public void reset() {
+        position = 0;
+    }
+
+    /** Returns a copy of the written bytes. */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    /** Writes bytes which are already Avro encoded, such as pre-encoded headers. */
+    public void writeRaw(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    public void writeBoolean(boolean value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) (value ? 1 : 0);
+    }
+
+    public void writeInt(int value) {
+        ensureCapacity(5);
+        int n = (value << 1) ^ (value >> 31);
+        while ((n & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((n & 0x7F) | 0x80);
+            n >>>= 7;
+        }
+        buffer[position++] = (byte) n;
+    }
+
+    public void writeLong(long value) {
+        ensureCapacity(10);
+        long n = (value << 1) ^ (value >> 63);
+        while ((n & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((n & 0x7F) | 0x80);
+            n >>>= 7;
+        }
+        buffer[position++] = (byte) n;
+    }
+
+    public void writeFloat(float value) {
+        ensureCapacity(4);
+        writeLittleEndian(Float.floatToRawIntBits(value), 4);
+    }
+
+    public void writeDouble(double value) {
+        ensureCapacity(8);
+        writeLittleEndian(Double.doubleToRawLongBits(value), 8);
+    }
+
+    /** Writes a long as 8 little-endian bytes, which is the encoding of schema fingerprints. */
+    public void writeFixedLong(long value) {
+        ensureCapacity(8);
+        writeLittleEndian(value, 8);
+    }
+
+    public void writeBytes(byte[] bytes) {
+        writeInt(bytes.length);
+        writeRaw(bytes);
+    }
+
+    public void writeString(String str) {
+        writeBytes(str.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Writes a string from its UTF-8 bytes in a memory segment, without decoding it. */
+    public void writeUtf8String(MemorySegment segment, int offset, int length) {
+        writeInt(length);
+        ensureCapacity(length);
+        segment.get(offset, buffer, position, length);
+        position += length;
+    }
+
+    private void writeLittleEndian(long value, int length) {
+        for (int i = 0; i < length; i++) {
+            buffer[position++] = (byte) (value >>> (i * 8));
+        }
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.avro;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An Avro schema generated from a CDC {@link org.apache.flink.cdc.common.schema.Schema}, which is
+ * identified by the CRC-64-AVRO fingerprint of its parsing canonical form. The fingerprint is the
+ * schema id of the Avro single object encoding, so a consumer resolves the schema of a message from
+ * its first 10 bytes.
+ *
+ * @see <a href="https://avro.apache.org/docs/1.11.1/specification/#single-object-encoding">Avro
+ *     single object encoding</a>
+ */
+public class AvroSchema implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final long EMPTY_FINGERPRINT = 0xc15d213aa4d7a795L;
+
+    private static final long[] FINGERPRINT_TABLE = new long[256];
+
+    static {
+        for (int i = 0; i < FINGERPRINT_TABLE.length; i++) {
+            long fingerprint = i;
+            for (int j = 0; j < 8; j++) {
+                fingerprint = (fingerprint >>> 1) ^ (EMPTY_FINGERPRINT & -(fingerprint & 1L));
+            }
+            FINGERPRINT_TABLE[i] = fingerprint;
+        }
+    }
+
+    private final String json;
+
+    private final String canonicalForm;
+
+    private final long fingerprint;
+
+    AvroSchema(String json, String canonicalForm) {
+        this.json = json;
+        this.canonicalForm = canonicalForm;
+        this.fingerprint = fingerprint(canonicalForm.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Returns the JSON of the schema, including the logical types and the defaults of fields. */
+    public String getJson() {
+        return json;
+    }
+
+    /** Returns the parsing canonical form of the schema. */
+    public String getCanonicalForm() {
+        return canonicalForm;
+    }
+
+    /** Returns the CRC-64-AVRO fingerprint of the parsing canonical form. */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /** Returns the fingerprint as 16 hexadecimal digits, which names the schema file. */
+    public String getFingerprintHex() {
+        return String.format("%016x", fingerprint);
+    }
+
+    /**
+     * Returns the header of the single object encoding, which is the marker {@code C3 01} followed
+     * by the little-endian fingerprint.
+     */
+    public byte[] encodeSingleObjectHeader() {
+        AvroOutputBuffer out = new AvroOutputBuffer(10);
+        out.writeRaw(new byte[] {(byte) 0xC3, 0x01});
+        out.writeFixedLong(fingerprint);
+        return out.toByteArray();
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+
+    static long fingerprint(byte[] bytes) {
+        long fingerprint = EMPTY_FINGERPRINT;
+        for (byte b : bytes) {
+            fingerprint = (fingerprint >>> 8) ^ FINGERPRINT_TABLE[(int) (fingerprint ^ b) & 0xff];
+        }
+        return fingerprint;
+    }
+}
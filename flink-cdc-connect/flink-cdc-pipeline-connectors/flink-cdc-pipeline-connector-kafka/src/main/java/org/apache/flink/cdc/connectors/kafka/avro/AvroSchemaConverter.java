@@ -0,0 +1,440 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.avro;
+
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.ArrayType;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypeRoot;
+import org.apache.flink.cdc.common.types.MapType;
+import org.apache.flink.cdc.common.types.RowType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getPrecision;
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getScale;
+
+/**
+ * Generates the Avro schemas of the records of a table from its CDC {@link Schema}. The records are
+ * named after the table id, the nullable columns are unions with {@code null} which default to
+ * {@code null}, and the temporal and decimal types are annotated with Avro logical types. The
+ * binary encoding of the generated schemas is written by {@link RecordDataAvroWriter}.
+ *
+ * <p>The characters which are not allowed in Avro names are replaced, so different column names may
+ * be sanitized to the same name. The fields of a record are then made unique by suffixing the later
+ * ones with {@code _1}, {@code _2} and so on, in the order of the columns.
+ *
+ * <p>Arrays and maps are Avro arrays and maps, whose nullable elements and values are unions with
+ * {@code null}, and the keys of maps must be strings. A row is a record named after its field with
+ * the suffix {@code Record}, in the namespace of the full name of the record containing the field.
+ */
+public class AvroSchemaConverter {
+
+    public static final String KEY_TABLE_ID_FIELD = "TableId";
+
+    private static final Node NULL = new PrimitiveNode("null", null);
+    private static final Node STRING = new PrimitiveNode("string", null);
+
+    private AvroSchemaConverter() {}
+
+    /**
+     * Creates the schema of the Debezium envelope of a table, whose {@code before} and {@code
+     * after} fields are the records of all columns.
+     */
+    public static AvroSchema createEnvelopeSchema(TableId tableId, Schema schema) {
+        String namespace = namespaceOf(tableId);
+        RecordNode value =
+                createRecordNode(
+                        namespace,
+                        "Value",
+                        schema,
+                        schema.getColumnNames(),
+                        Collections.emptySet());
+        RecordNode source =
+                new RecordNode(
+                        namespace,
+                        "Source",
+                        Arrays.asList(
+                                new FieldNode("db", new UnionNode(NULL, STRING), true),
+                                new FieldNode("table", STRING, false)));
+        RecordNode envelope =
+                new RecordNode(
+                        namespace,
+                        "Envelope",
+                        Arrays.asList(
+                                new FieldNode("before", new UnionNode(NULL, value), true),
+                                new FieldNode("after", new UnionNode(NULL, value), true),
+                                new FieldNode("op", STRING, false),
+                                new FieldNode("source", source, false)));
+        return toAvroSchema(envelope);
+    }
+
+    /**
+     * Creates the schema of the key of a table, which is the {@link #KEY_TABLE_ID_FIELD} followed
+     * by the primary key columns. A primary key column named {@link #KEY_TABLE_ID_FIELD} is
+     * suffixed like the other clashing names.
+     */
+    public static AvroSchema createKeySchema(TableId tableId, Schema schema) {
+        RecordNode key =
+                createRecordNode(
+                        namespaceOf(tableId),
+                        "Key",
+                        schema,
+                        schema.primaryKeys(),
+                        Collections.singleton(KEY_TABLE_ID_FIELD));
+        List<FieldNode> fields = new ArrayList<>();
+        fields.add(new FieldNode(KEY_TABLE_ID_FIELD, STRING, false));
+        fields.addAll(key.fields);
+        return toAvroSchema(new RecordNode(key.namespace, key.name, fields));
+    }
+
+    private static AvroSchema toAvroSchema(Node node) {
+        StringBuilder json = new StringBuilder();
+        node.write(json, new HashSet<>(), false);
+        StringBuilder canonicalForm = new StringBuilder();
+        node.write(canonicalForm, new HashSet<>(), true);
+        return new AvroSchema(json.toString(), canonicalForm.toString());
+    }
+
+    private static RecordNode createRecordNode(
+            String namespace,
+            String name,
+            Schema schema,
+            List<String> columnNames,
+            Set<String> reservedNames) {
+        List<DataType> types = new ArrayList<>(columnNames.size());
+        for (String columnName : columnNames) {
+            Column column =
+                    schema.getColumn(columnName)
+                            .orElseThrow(
+                                    () ->
+                                            new IllegalArgumentException(
+                                                    "Unknown column " + columnName));
+            types.add(column.getType());
+        }
+        return createRecordNode(namespace, name, columnNames, types, reservedNames);
+    }
+
+    private static RecordNode createRecordNode(
+            String namespace,
+            String name,
+            List<String> fieldNames,
+            List<DataType> types,
+            Set<String> reservedNames) {
+        String fullName = namespace.isEmpty() ? name : namespace + "." + name;
+        List<FieldNode> fields = new ArrayList<>(fieldNames.size());
+        Set<String> usedNames = new HashSet<>(reservedNames);
+        for (int i = 0; i < fieldNames.size(); i++) {
+            DataType type = types.get(i);
+            String fieldName = uniqueName(sanitizeName(fieldNames.get(i)), usedNames);
+            Node node = toNode(type, fullName, fieldName);
+            fields.add(
+                    type.isNullable()
+                            ? new FieldNode(fieldName, new UnionNode(NULL, node), true)
+                            : new FieldNode(fieldName, node, false));
+        }
+        return new RecordNode(namespace, name, fields);
+    }
+
+    /**
+     * Converts a type to a node, where the namespace and the field name name the record of a row
+     * type.
+     */
+    private static Node toNode(DataType type, String namespace, String fieldName) {
+        switch (type.getTypeRoot()) {
+            case ARRAY:
+                return new ArrayNode(
+                        nullableNode(((ArrayType) type).getElementType(), namespace, fieldName));
+            case MAP:
+                MapType mapType = (MapType) type;
+                if (!isString(mapType.getKeyType())) {
+                    throw new IllegalArgumentException(
+                            "Avro maps only support string keys, but the key type of "
+                                    + fieldName
+                                    + " is "
+                                    + mapType.getKeyType());
+                }
+                return new MapNode(nullableNode(mapType.getValueType(), namespace, fieldName));
+            case ROW:
+                RowType rowType = (RowType) type;
+                return createRecordNode(
+                        namespace,
+                        fieldName + "Record",
+                        rowType.getFieldNames(),
+                        rowType.getFieldTypes(),
+                        Collections.emptySet());
+            default:
+                return toNode(type);
+        }
+    }
+
+    private static Node nullableNode(DataType type, String namespace, String fieldName) {
+        Node node = toNode(type, namespace, fieldName);
+        return type.isNullable() ? new UnionNode(NULL, node) : node;
+    }
+
+    private static boolean isString(DataType type) {
+        return type.getTypeRoot() == DataTypeRoot.CHAR
+                || type.getTypeRoot() == DataTypeRoot.VARCHAR;
+    }
+
+    private static Node toNode(DataType type) {
+        // ordered by type root definition
+        switch (type.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return STRING;
+            case BOOLEAN:
+                return new PrimitiveNode("boolean", null);
+            case BINARY:
+            case VARBINARY:
+                return new PrimitiveNode("bytes", null);
+            case DECIMAL:
+                return new PrimitiveNode(
+                        "bytes",
+                        "\"logicalType\":\"decimal\",\"precision\":"
+                                + getPrecision(type)
+                                + ",\"scale\":"
+                                + getScale(type));
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+                return new PrimitiveNode("int", null);
+            case DATE:
+                return new PrimitiveNode("int", "\"logicalType\":\"date\"");
+            case TIME_WITHOUT_TIME_ZONE:
+                return new PrimitiveNode("int", "\"logicalType\":\"time-millis\"");
+            case BIGINT:
+                return new PrimitiveNode("long", null);
+            case FLOAT:
+                return new PrimitiveNode("float", null);
+            case DOUBLE:
+                return new PrimitiveNode("double", null);
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                return new PrimitiveNode(
+                        "long",
+                        isMillisPrecision(type)
+                                ? "\"logicalType\":\"local-timestamp-millis\""
+                                : "\"logicalType\":\"local-timestamp-micros\"");
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return new PrimitiveNode(
+                        "long",
+                        isMillisPrecision(type)
+                                ? "\"logicalType\":\"timestamp-millis\""
+                                : "\"logicalType\":\"timestamp-micros\"");
+            default:
+                throw new IllegalArgumentException("don't support type of " + type.getTypeRoot());
+        }
+    }
+
+    /** Returns whether the timestamps of a type are encoded as milliseconds or microseconds. */
+    static boolean isMillisPrecision(DataType type) {
+        return getPrecision(type) <= 3;
+    }
+
+    private static String namespaceOf(TableId tableId) {
+        StringBuilder namespace = new StringBuilder();
+        for (String part :
+                new String[] {
+                    tableId.getNamespace(), tableId.getSchemaName(), tableId.getTableName()
+                }) {
+            if (part != null) {
+                if (namespace.length() > 0) {
+                    namespace.append('.');
+                }
+                namespace.append(sanitizeName(part));
+            }
+        }
+        return namespace.toString();
+    }
+
+    /**
+     * Replaces the characters which are not allowed in Avro names with underscores, and prefixes
+     * the names starting with a digit with an underscore.
+     */
+    static String sanitizeName(String name) {
+        if (name.isEmpty()) {
+            return "_";
+        }
+        StringBuilder sanitized = new StringBuilder(name.length() + 1);
+        for (int i = 0; i < name.length(); i++) {
+            char ch = name.charAt(i);
+            boolean letter = (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || ch == '_';
+            boolean digit = ch >= '0' && ch <= '9';
+            if (i == 0 && digit) {
+                sanitized.append('_');
+            }
+            sanitized.append(letter || digit ? ch : '_');
+        }
+        return sanitized.toString();
+    }
+
+    /**
+     * Returns the name, suffixed with the smallest number making it unique among the used names,
+     * and adds it to them.
+     */
+    private static String uniqueName(String name, Set<String> usedNames) {
+        String uniqueName = name;
+        for (int i = 1; !usedNames.add(uniqueName); i++) {
+            uniqueName = name + "_" + i;
+        }
+        return uniqueName;
+    }
+
+    /** A node of an Avro schema, which is written as its JSON or parsing canonical form. */
+    private abstract static class Node {
+        abstract void write(StringBuilder out, Set<String> definedNames, boolean canonical);
+    }
+
+    private static class PrimitiveNode extends Node {
+        private final String type;
+        private final String logicalTypeAttributes;
+
+        private PrimitiveNode(String type, String logicalTypeAttributes) {
+            this.type = type;
+            this.logicalTypeAttributes = logicalTypeAttributes;
+        }
+
+        @Override
+        void write(StringBuilder out, Set<String> definedNames, boolean canonical) {
+            // The logical types are stripped from the parsing canonical form
+            if (canonical || logicalTypeAttributes == null) {
+                out.append('"').append(type).append('"');
+            } else {
+                out.append("{\"type\":\"")
+                        .append(type)
+                        .append("\",")
+                        .append(logicalTypeAttributes)
+                        .append('}');
+            }
+        }
+    }
+
+    private static class UnionNode extends Node {
+        private final List<Node> branches;
+
+        private UnionNode(Node... branches) {
+            this.branches = Collections.unmodifiableList(Arrays.asList(branches));
+        }
+
+        @Override
+        void write(StringBuilder out, Set<String> definedNames, boolean canonical) {
+            out.append('[');
+            for (int i = 0; i < branches.size(); i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                branches.get(i).write(out, definedNames, canonical);
+            }
+            out.append(']');
+        }
+    }
+
+    private static class ArrayNode extends Node {
+        private final Node items;
+
+        private ArrayNode(Node items) {
+            this.items = items;
+        }
+
+        @Override
+        void write(StringBuilder out, Set<String> definedNames, boolean canonical) {
+            out.append("{\"type\":\"array\",\"items\":");
+            items.write(out, definedNames, canonical);
+            out.append('}');
+        }
+    }
+
+    private static class MapNode extends Node {
+        private final Node values;
+
+        private MapNode(Node values) {
+            this.values = values;
+        }
+
+        @Override
+        void write(StringBuilder out, Set<String> definedNames, boolean canonical) {
+            out.append("{\"type\":\"map\",\"values\":");
+            values.write(out, definedNames, canonical);
+            out.append('}');
+        }
+    }
+
+    private static class FieldNode {
+        private final String name;
+        private final Node type;
+        private final boolean defaultNull;
+
+        private FieldNode(String name, Node type, boolean defaultNull) {
+            this.name = name;
+            this.type = type;
+            this.defaultNull = defaultNull;
+        }
+    }
+
+    private static class RecordNode extends Node {
+        private final String namespace;
+        private final String name;
+        private final List<FieldNode> fields;
+
+        private RecordNode(String namespace, String name, List<FieldNode> fields) {
+            this.namespace = namespace;
+            this.name = name;
+            this.fields = fields;
+        }
+
+        @Override
+        void write(StringBuilder out, Set<String> definedNames, boolean canonical) {
+            String fullName = namespace.isEmpty() ? name : namespace + "." + name;
+            // A named type is defined once, and referred by its full name afterwards
+            if (!definedNames.add(fullName)) {
+                out.append('"').append(fullName).append('"');
+                return;
+            }
+            if (canonical) {
+                out.append("{\"name\":\"").append(fullName).append("\",\"type\":\"record\"");
+            } else {
+                out.append("{\"type\":\"record\",\"name\":\"").append(name).append('"');
+                if (!namespace.isEmpty()) {
+                    out.append(",\"namespace\":\"").append(namespace).append('"');
+                }
+            }
+            out.append(",\"fields\":[");
+            for (int i = 0; i < fields.size(); i++) {
+                FieldNode field = fields.get(i);
+                if (i > 0) {
+                    out.append(',');
+                }
+                out.append("{\"name\":\"").append(field.name).append("\",\"type\":");
+                field.type.write(out, definedNames, canonical);
+                if (field.defaultNull && !canonical) {
+                    out.append(",\"default\":null");
+                }
+                out.append('}');
+            }
+            out.append("]}");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.avro;
+
+import org.apache.flink.core.fs.FSDataOutputStream;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A directory of a Flink {@link FileSystem}, where the generated {@link AvroSchema}s are written as
+ * files named by their fingerprints, such as {@code 8d7f3e2a1b4c5d6e.avsc}. The consumers resolve
+ * the schema id of a single object encoded message to the file of the schema.
+ *
+ * <p>Every schema is written to a temporary file and renamed, so the schema files are never
+ * partially visible, and the subtasks writing the same schema at the same time do not conflict.
+ */
+public class AvroSchemaDirectory implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String directory;
+
+    private transient Set<Long> writtenFingerprints;
+
+    public AvroSchemaDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    /** Writes the schema file if it has not been written. */
+    public void register(AvroSchema schema) throws IOException {
+        if (writtenFingerprints == null) {
+            writtenFingerprints = new HashSet<>();
+        }
+        if (writtenFingerprints.contains(schema.getFingerprint())) {
+            return;
+        }
+        String fileName = schema.getFingerprintHex() + ".avsc";
+        Path path = new Path(directory, fileName);
+        FileSystem fileSystem = path.getFileSystem();
+        if (!fileSystem.exists(path)) {
+            Path tempPath = new Path(directory, "." + fileName + "." + UUID.randomUUID());
+            try (FSDataOutputStream out =
+                    fileSystem.create(tempPath, FileSystem.WriteMode.NO_OVERWRITE)) {
+                out.write(schema.getJson().getBytes(StandardCharsets.UTF_8));
+            }
+            if (!fileSystem.rename(tempPath, path)) {
+                fileSystem.delete(tempPath, false);
+                if (!fileSystem.exists(path)) {
+                    throw new IOException("Could not write Avro schema file " + path);
+                }
+            }
+        }
+        writtenFingerprints.add(schema.getFingerprint());
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+}
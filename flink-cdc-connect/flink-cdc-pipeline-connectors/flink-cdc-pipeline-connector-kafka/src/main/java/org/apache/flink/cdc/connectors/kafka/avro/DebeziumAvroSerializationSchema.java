@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.avro;
+
+import org.apache.flink.api.common.serialization.SerializationSchema;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.SchemaChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.utils.SchemaUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Serialization schema from FlinkCDC pipeline internal data structure {@link Event} to the Debezium
+ * envelope in Avro. Every message is single object encoded: the schema id is the fingerprint of the
+ * envelope schema generated by {@link AvroSchemaConverter#createEnvelopeSchema}, which is
+ * regenerated on every {@link SchemaChangeEvent}. The generated schemas are logged, and written
+ * into the {@link AvroSchemaDirectory} if it is configured.
+ *
+ * @see <a href="https://debezium.io/">Debezium</a>
+ */
+public class DebeziumAvroSerializationSchema implements SerializationSchema<Event> {
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(DebeziumAvroSerializationSchema.class);
+
+    private static final byte[] OP_INSERT = encodeString("c"); // insert
+    private static final byte[] OP_DELETE = encodeString("d"); // delete
+    private static final byte[] OP_UPDATE = encodeString("u"); // update
+
+    /** A map of {@link TableId} and its {@link RecordDataAvroWriter} of the {@code Value}. */
+    private final Map<TableId, RecordDataAvroWriter> avroWriters;
+
+    /** A map of {@link TableId} and its encoded single object header. */
+    private final Map<TableId, byte[]> encodedHeaders;
+
+    /** A map of {@link TableId} and its encoded {@code source} field. */
+    private final Map<TableId, byte[]> encodedSources;
+
+    @Nullable private final AvroSchemaDirectory schemaDirectory;
+
+    private transient AvroOutputBuffer reuseOutputBuffer;
+
+    public DebeziumAvroSerializationSchema(@Nullable AvroSchemaDirectory schemaDirectory) {
+        this.schemaDirectory = schemaDirectory;
+        avroWriters = new HashMap<>();
+        encodedHeaders = new HashMap<>();
+        encodedSources = new HashMap<>();
+    }
+
+    @Override
+    public void open(InitializationContext context) {
+        reuseOutputBuffer = new AvroOutputBuffer();
+    }
+
+    @Override
+    public byte[] serialize(Event event) {
+        if (event instanceof SchemaChangeEvent) {
+            Schema schema;
+            SchemaChangeEvent schemaChangeEvent = (SchemaChangeEvent) event;
+            TableId tableId = schemaChangeEvent.tableId();
+            if (event instanceof CreateTableEvent) {
+                CreateTableEvent createTableEvent = (CreateTableEvent) event;
+                schema = createTableEvent.getSchema();
+            } else {
+                schema =
+                        SchemaUtils.applySchemaChangeEvent(
+                                avroWriters.get(tableId).getSchema(), schemaChangeEvent);
+            }
+            AvroSchema avroSchema = AvroSchemaConverter.createEnvelopeSchema(tableId, schema);
+            registerSchema(tableId, avroSchema);
+            avroWriters.put(tableId, new RecordDataAvroWriter(schema));
+            encodedHeaders.put(tableId, avroSchema.encodeSingleObjectHeader());
+            encodedSources.put(tableId, encodeSource(tableId));
+            return null;
+        }
+
+        DataChangeEvent dataChangeEvent = (DataChangeEvent) event;
+        try {
+            switch (dataChangeEvent.op()) {
+                case INSERT:
+                    return serialize(dataChangeEvent, null, dataChangeEvent.after(), OP_INSERT);
+                case DELETE:
+                    return serialize(dataChangeEvent, dataChangeEvent.before(), null, OP_DELETE);
+                case UPDATE:
+                case REPLACE:
+                    return serialize(
+                            dataChangeEvent,
+                            dataChangeEvent.before(),
+                            dataChangeEvent.after(),
+                            OP_UPDATE);
+                default:
+                    throw new UnsupportedOperationException(
+                            format(
+                                    "Unsupported operation '%s' for OperationType.",
+                                    dataChangeEvent.op()));
+            }
+        } catch (Throwable t) {
+            throw new RuntimeException(format("Could not serialize event '%s'.", event), t);
+        }
+    }
+
+    private byte[] serialize(
+            DataChangeEvent dataChangeEvent,
+            @Nullable RecordData before,
+            @Nullable RecordData after,
+            byte[] op) {
+        TableId tableId = dataChangeEvent.tableId();
+        RecordDataAvroWriter avroWriter = avroWriters.get(tableId);
+        AvroOutputBuffer out = reuseOutputBuffer;
+        out.reset();
+        out.writeRaw(encodedHeaders.get(tableId));
+        writeRecordField(out, avroWriter, before);
+        writeRecordField(out, avroWriter, after);
+        out.writeRaw(op);
+        out.writeRaw(encodedSources.get(tableId));
+        return out.toByteArray();
+    }
+
+    /** Writes a record field, which is a union of null and the {@code Value} record. */
+    private static void writeRecordField(
+            AvroOutputBuffer out, RecordDataAvroWriter avroWriter, @Nullable RecordData record) {
+        if (record == null) {
+            out.writeInt(0);
+        } else {
+            out.writeInt(1);
+            avroWriter.write(out, record);
+        }
+    }
+
+    private void registerSchema(TableId tableId, AvroSchema avroSchema) {
+        LOG.info(
+                "Generated Avro schema {} of table {}: {}",
+                avroSchema.getFingerprintHex(),
+                tableId,
+                avroSchema.getJson());
+        if (schemaDirectory != null) {
+            try {
+                schemaDirectory.register(avroSchema);
+            } catch (IOException e) {
+                throw new RuntimeException(
+                        format(
+                                "Could not write Avro schema of table '%s' into %s.",
+                                tableId, schemaDirectory.getDirectory()),
+                        e);
+            }
+        }
+    }
+
+    private static byte[] encodeSource(TableId tableId) {
+        AvroOutputBuffer out = new AvroOutputBuffer(64);
+        if (tableId.getSchemaName() != null) {
+            out.writeInt(1);
+            out.writeString(tableId.getSchemaName());
+        } else {
+            out.writeInt(0);
+        }
+        out.writeString(tableId.getTableName());
+        return out.toByteArray();
+    }
+
+    private static byte[] encodeString(String str) {
+        AvroOutputBuffer out = new AvroOutputBuffer(16);
+        out.writeString(str);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.avro;
+
+import org.apache.flink.cdc.common.data.ArrayData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.MapData;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.StringData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.ArrayType;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.MapType;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.core.memory.MemorySegment;
+
+import java.util.List;
+
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getFieldCount;
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getPrecision;
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getScale;
+
+/**
+ * Writes the columns of the {@link RecordData} of a specific {@link Schema} as an Avro record into
+ * an {@link AvroOutputBuffer}, in the binary encoding of the record schema generated by {@link
+ * AvroSchemaConverter}. The writers of the fields are created once per schema, and the fields are
+ * written directly from the record. The elements of arrays and the entries of maps are written in a
+ * single block, and the fields of rows by a writer of the row type.
+ */
+public class RecordDataAvroWriter {
+
+    private final Schema schema;
+
+    private final FieldWriter[] fieldWriters;
+
+    private final int[] fieldPositions;
+
+    private final boolean[] nullables;
+
+    /** Creates a writer of all columns of the schema. */
+    public RecordDataAvroWriter(Schema schema) {
+        this(schema, schema.getColumnNames());
+    }
+
+    /** Creates a writer of all fields of a row, which has no schema. */
+    private RecordDataAvroWriter(RowType rowType) {
+        List<DataType> fieldTypes = rowType.getFieldTypes();
+        this.schema = null;
+        this.fieldWriters = new FieldWriter[fieldTypes.size()];
+        this.fieldPositions = new int[fieldTypes.size()];
+        this.nullables = new boolean[fieldTypes.size()];
+        for (int i = 0; i < fieldTypes.size(); i++) {
+            fieldPositions[i] = i;
+            nullables[i] = fieldTypes.get(i).isNullable();
+            fieldWriters[i] = createFieldWriter(fieldTypes.get(i), i);
+        }
+    }
+
+    /** Creates a writer of the given columns of the schema, in the given order. */
+    public RecordDataAvroWriter(Schema schema, List<String> columnNames) {
+        this.schema = schema;
+        this.fieldWriters = new FieldWriter[columnNames.size()];
+        this.fieldPositions = new int[columnNames.size()];
+        this.nullables = new boolean[columnNames.size()];
+        List<String> allColumnNames = schema.getColumnNames();
+        for (int i = 0; i < columnNames.size(); i++) {
+            int fieldPos = allColumnNames.indexOf(columnNames.get(i));
+            if (fieldPos == -1) {
+                throw new IllegalArgumentException("Unknown column " + columnNames.get(i));
+            }
+            DataType fieldType = schema.getColumns().get(fieldPos).getType();
+            fieldPositions[i] = fieldPos;
+            nullables[i] = fieldType.isNullable();
+            fieldWriters[i] = createFieldWriter(fieldType, fieldPos);
+        }
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /** Writes the fields of the record, without any header. */
+    public void write(AvroOutputBuffer out, RecordData record) {
+        for (int i = 0; i < fieldWriters.length; i++) {
+            if (nullables[i]) {
+                // The nullable fields are unions of null and the type of the column
+                if (record.isNullAt(fieldPositions[i])) {
+                    out.writeInt(0);
+                    continue;
+                }
+                out.writeInt(1);
+            }
+            fieldWriters[i].write(out, record);
+        }
+    }
+
+    private static FieldWriter createFieldWriter(DataType fieldType, int fieldPos) {
+        // ordered by type root definition
+        switch (fieldType.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return (out, record) -> writeString(out, record.getString(fieldPos));
+            case BOOLEAN:
+                return (out, record) -> out.writeBoolean(record.getBoolean(fieldPos));
+            case BINARY:
+            case VARBINARY:
+                return (out, record) -> out.writeBytes(record.getBinary(fieldPos));
+            case DECIMAL:
+                final int decimalPrecision = getPrecision(fieldType);
+                final int decimalScale = getScale(fieldType);
+                return (out, record) ->
+                        out.writeBytes(
+                                record.getDecimal(fieldPos, decimalPrecision, decimalScale)
+                                        .toUnscaledBytes());
+            case TINYINT:
+                return (out, record) -> out.writeInt(record.getByte(fieldPos));
+            case SMALLINT:
+                return (out, record) -> out.writeInt(record.getShort(fieldPos));
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                return (out, record) -> out.writeInt(record.getInt(fieldPos));
+            case BIGINT:
+                return (out, record) -> out.writeLong(record.getLong(fieldPos));
+            case FLOAT:
+                return (out, record) -> out.writeFloat(record.getFloat(fieldPos));
+            case DOUBLE:
+                return (out, record) -> out.writeDouble(record.getDouble(fieldPos));
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                final int timestampPrecision = getPrecision(fieldType);
+                if (AvroSchemaConverter.isMillisPrecision(fieldType)) {
+                    return (out, record) ->
+                            out.writeLong(
+                                    record.getTimestamp(fieldPos, timestampPrecision)
+                                            .getMillisecond());
+                }
+                return (out, record) -> {
+                    TimestampData timestamp = record.getTimestamp(fieldPos, timestampPrecision);
+                    out.writeLong(
+                            toMicros(timestamp.getMillisecond(), timestamp.getNanoOfMillisecond()));
+                };
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int localZonedTimestampPrecision = getPrecision(fieldType);
+                if (AvroSchemaConverter.isMillisPrecision(fieldType)) {
+                    return (out, record) ->
+                            out.writeLong(
+                                    record.getLocalZonedTimestampData(
+                                                    fieldPos, localZonedTimestampPrecision)
+                                            .getEpochMillisecond());
+                }
+                return (out, record) -> {
+                    LocalZonedTimestampData timestamp =
+                            record.getLocalZonedTimestampData(
+                                    fieldPos, localZonedTimestampPrecision);
+                    out.writeLong(
+                            toMicros(
+                                    timestamp.getEpochMillisecond(),
+                                    timestamp.getEpochNanoOfMillisecond()));
+                };
+            case ARRAY:
+                final ArrayWriter arrayWriter =
+                        new ArrayWriter(((ArrayType) fieldType).getElementType());
+                return (out, record) -> arrayWriter.write(out, record.getArray(fieldPos));
+            case MAP:
+                final MapWriter mapWriter = new MapWriter((MapType) fieldType);
+                return (out, record) -> mapWriter.write(out, record.getMap(fieldPos));
+            case ROW:
+                final RecordDataAvroWriter rowWriter =
+                        new RecordDataAvroWriter((RowType) fieldType);
+                final int rowFieldCount = getFieldCount(fieldType);
+                return (out, record) ->
+                        rowWriter.write(out, record.getRow(fieldPos, rowFieldCount));
+            default:
+                throw new IllegalArgumentException(
+                        "don't support type of " + fieldType.getTypeRoot());
+        }
+    }
+
+    private static ElementWriter createElementWriter(DataType elementType) {
+        // ordered by type root definition
+        switch (elementType.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return (out, array, pos) -> writeString(out, array.getString(pos));
+            case BOOLEAN:
+                return (out, array, pos) -> out.writeBoolean(array.getBoolean(pos));
+            case BINARY:
+            case VARBINARY:
+                return (out, array, pos) -> out.writeBytes(array.getBinary(pos));
+            case DECIMAL:
+                final int decimalPrecision = getPrecision(elementType);
+                final int decimalScale = getScale(elementType);
+                return (out, array, pos) ->
+                        out.writeBytes(
+                                array.getDecimal(pos, decimalPrecision, decimalScale)
+                                        .toUnscaledBytes());
+            case TINYINT:
+                return (out, array, pos) -> out.writeInt(array.getByte(pos));
+            case SMALLINT:
+                return (out, array, pos) -> out.writeInt(array.getShort(pos));
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                return (out, array, pos) -> out.writeInt(array.getInt(pos));
+            case BIGINT:
+                return (out, array, pos) -> out.writeLong(array.getLong(pos));
+            case FLOAT:
+                return (out, array, pos) -> out.writeFloat(array.getFloat(pos));
+            case DOUBLE:
+                return (out, array, pos) -> out.writeDouble(array.getDouble(pos));
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                final int timestampPrecision = getPrecision(elementType);
+                final boolean timestampMillis = AvroSchemaConverter.isMillisPrecision(elementType);
+                return (out, array, pos) -> {
+                    TimestampData timestamp = array.getTimestamp(pos, timestampPrecision);
+                    out.writeLong(
+                            timestampMillis
+                                    ? timestamp.getMillisecond()
+                                    : toMicros(
+                                            timestamp.getMillisecond(),
+                                            timestamp.getNanoOfMillisecond()));
+                };
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int localZonedTimestampPrecision = getPrecision(elementType);
+                final boolean localZonedTimestampMillis =
+                        AvroSchemaConverter.isMillisPrecision(elementType);
+                return (out, array, pos) -> {
+                    LocalZonedTimestampData timestamp =
+                            array.getLocalZonedTimestamp(pos, localZonedTimestampPrecision);
+                    out.writeLong(
+                            localZonedTimestampMillis
+                                    ? timestamp.getEpochMillisecond()
+                                    : toMicros(
+                                            timestamp.getEpochMillisecond(),
+                                            timestamp.getEpochNanoOfMillisecond()));
+                };
+            case ARRAY:
+                final ArrayWriter arrayWriter =
+                        new ArrayWriter(((ArrayType) elementType).getElementType());
+                return (out, array, pos) -> arrayWriter.write(out, array.getArray(pos));
+            case MAP:
+                final MapWriter mapWriter = new MapWriter((MapType) elementType);
+                return (out, array, pos) -> mapWriter.write(out, array.getMap(pos));
+            case ROW:
+                final RecordDataAvroWriter rowWriter =
+                        new RecordDataAvroWriter((RowType) elementType);
+                final int rowFieldCount = getFieldCount(elementType);
+                return (out, array, pos) ->
+                        rowWriter.write(out, array.getRecord(pos, rowFieldCount));
+            default:
+                throw new IllegalArgumentException(
+                        "don't support type of " + elementType.getTypeRoot());
+        }
+    }
+
+    private static long toMicros(long millis, int nanoOfMillis) {
+        return millis * 1000 + nanoOfMillis / 1000;
+    }
+
+    private static void writeString(AvroOutputBuffer out, StringData str) {
+        if (str instanceof BinaryStringData) {
+            BinaryStringData binaryStr = (BinaryStringData) str;
+            binaryStr.ensureMaterialized();
+            MemorySegment[] segments = binaryStr.getSegments();
+            if (segments.length == 1) {
+                out.writeUtf8String(segments[0], binaryStr.getOffset(), binaryStr.getSizeInBytes());
+                return;
+            }
+        }
+        out.writeBytes(str.toBytes());
+    }
+
+    /** Writes a non-null field of a record as an Avro value. */
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(AvroOutputBuffer out, RecordData record);
+    }
+
+    /** Writes a non-null element of an array as an Avro value. */
+    @FunctionalInterface
+    private interface ElementWriter {
+        void write(AvroOutputBuffer out, ArrayData array, int pos);
+    }
+
+    /** Writes an array as an Avro array, whose nullable elements are unions with null. */
+    private static class ArrayWriter {
+        private final ElementWriter elementWriter;
+        private final boolean nullable;
+
+        private ArrayWriter(DataType elementType) {
+            this.elementWriter = createElementWriter(elementType);
+            this.nullable = elementType.isNullable();
+        }
+
+        private void write(AvroOutputBuffer out, ArrayData array) {
+            int size = array.size();
+            if (size > 0) {
+                out.writeLong(size);
+                for (int i = 0; i < size; i++) {
+                    writeElement(out, array, i, elementWriter, nullable);
+                }
+            }
+            out.writeLong(0);
+        }
+    }
+
+    /** Writes a map with string keys as an Avro map, whose nullable values are unions with null. */
+    private static class MapWriter {
+        private final ElementWriter valueWriter;
+        private final boolean nullable;
+
+        private MapWriter(MapType mapType) {
+            this.valueWriter = createElementWriter(mapType.getValueType());
+            this.nullable = mapType.getValueType().isNullable();
+        }
+
+        private void write(AvroOutputBuffer out, MapData map) {
+            int size = map.size();
+            if (size > 0) {
+                ArrayData keys = map.keyArray();
+                ArrayData values = map.valueArray();
+                out.writeLong(size);
+                for (int i = 0; i < size; i++) {
+                    if (keys.isNullAt(i)) {
+                        throw new IllegalArgumentException("Avro maps do not support null keys");
+                    }
+                    writeString(out, keys.getString(i));
+                    writeElement(out, values, i, valueWriter, nullable);
+                }
+            }
+            out.writeLong(0);
+        }
+    }
+
+    private static void writeElement(
+            AvroOutputBuffer out,
+            ArrayData array,
+            int pos,
+            ElementWriter elementWriter,
+            boolean nullable) {
+        if (nullable) {
+            if (array.isNullAt(pos)) {
+                out.writeInt(0);
+                return;
+            }
+            out.writeInt(1);
+        }
+        elementWriter.write(out, array, pos);
+    }
+}
@@ -20,6 +20,9 @@ package org.apache.flink.cdc.connectors.kafka.json;
 import org.apache.flink.annotation.Internal;
 import org.apache.flink.api.common.serialization.SerializationSchema;
 import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.connectors.kafka.avro.AvroFormatOptions;
+import org.apache.flink.cdc.connectors.kafka.avro.AvroSchemaDirectory;
+import org.apache.flink.cdc.connectors.kafka.avro.DebeziumAvroSerializationSchema;
 import org.apache.flink.cdc.connectors.kafka.json.canal.CanalJsonSerializationSchema;
 import org.apache.flink.cdc.connectors.kafka.json.debezium.DebeziumJsonSerializationSchema;
 import org.apache.flink.cdc.connectors.kafka.utils.JsonRowDataSerializationSchemaUtils;
@@ -35,7 +38,7 @@ import static org.apache.flink.formats.json.debezium.DebeziumJsonFormatOptions.J
 
 /**
  * Format factory for providing configured instances of {@link SerializationSchema} to convert
- * {@link Event} to json.
+ * {@link Event} to json, or to the binary formats of changelogs such as Avro.
  */
 @Internal
 public class ChangeLogJsonFormatFactory {
@@ -82,6 +85,14 @@ public class ChangeLogJsonFormatFactory {
                             encodeDecimalAsPlainNumber,
                             ignoreNullFields);
                 }
+            case DEBEZIUM_AVRO:
+                {
+                    return new DebeziumAvroSerializationSchema(
+                            formatOptions
+                                    .getOptional(AvroFormatOptions.SCHEMA_DIRECTORY)
+                                    .map(AvroSchemaDirectory::new)
+                                    .orElse(null));
+                }
             default:
                 {
                     throw new IllegalArgumentException(
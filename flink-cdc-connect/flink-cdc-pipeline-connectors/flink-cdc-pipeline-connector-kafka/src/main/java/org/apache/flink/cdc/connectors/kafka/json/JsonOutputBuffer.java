@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.json;
+
+import org.apache.flink.core.memory.MemorySegment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A reusable buffer of UTF-8 encoded JSON. The values are written as they are serialized by
+ * Jackson: strings are quoted and escaped, the characters out of the basic multilingual plane are
+ * escaped as surrogate pairs, and the other non-ASCII characters are kept as UTF-8 bytes.
+ */
+public class JsonOutputBuffer {
+
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX_CHARS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    /** The escape of each ASCII character, 0 for none, -1 for a unicode escape. */
+    private static final int[] ESCAPES = new int[128];
+
+    static {
+        for (int i = 0; i < 0x20; i++) {
+            ESCAPES[i] = -1;
+        }
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\t'] = 't';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\r'] = 'r';
+    }
+
+    private byte[] buffer;
+    private int position;
+
+    public JsonOutputBuffer() {
+        this(256);
+    }
+
+    public JsonOutputBuffer(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /** Discards the written bytes. */
+    public void reset() {
+        position = 0;
+    }
+
+    /** Returns a copy of the written bytes. */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    public void writeByte(char ch) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) ch;
+    }
+
+    /** Writes bytes which are already encoded as JSON, such as pre-encoded field names. */
+    public void writeRaw(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    public void writeNull() {
+        writeRaw(NULL);
+    }
+
+    /** Writes a string which only contains ASCII characters to be kept as they are. */
+    public void writeAscii(String str) {
+        int length = str.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[position++] = (byte) str.charAt(i);
+        }
+    }
+
+    /** Writes a string which only contains ASCII characters to be kept as they are, quoted. */
+    public void writeQuotedAscii(String str) {
+        writeByte('"');
+        writeAscii(str);
+        writeByte('"');
+    }
+
+    /** Writes a string value, quoted and escaped. */
+    public void writeString(String str) {
+        writeUtf8String(str.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Writes the UTF-8 bytes of a string value, quoted and escaped. */
+    public void writeUtf8String(byte[] bytes) {
+        ensureCapacity(bytes.length + 2);
+        buffer[position++] = '"';
+        writeEscaped(bytes, 0, bytes.length);
+        writeByte('"');
+    }
+
+    /** Writes the UTF-8 bytes of a string value in a memory segment, quoted and escaped. */
+    public void writeUtf8String(MemorySegment segment, int offset, int length) {
+        ensureCapacity(length + 2);
+        buffer[position++] = '"';
+        segment.get(offset, buffer, position, length);
+        int end = position + length;
+        for (int i = position; i < end; i++) {
+            if (needsEscape(buffer[i])) {
+                // The bytes are copied optimistically, escape the bytes from the first one
+                // which needs to be escaped
+                byte[] remaining = Arrays.copyOfRange(buffer, i, end);
+                position = i;
+                writeEscaped(remaining, 0, remaining.length);
+                writeByte('"');
+                return;
+            }
+        }
+        position = end;
+        writeByte('"');
+    }
+
+    private void writeEscaped(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            int b = bytes[i];
+            if (!needsEscape(bytes[i])) {
+                buffer[position++] = (byte) b;
+                continue;
+            }
+            // Every escaped character takes 12 bytes at most
+            ensureCapacity(end - i + 12);
+            if (b < 0) {
+                if (i + 3 >= end) {
+                    // A truncated sequence is kept as it is
+                    buffer[position++] = (byte) b;
+                    continue;
+                }
+                int codePoint =
+                        ((b & 0x07) << 18)
+                                | ((bytes[i + 1] & 0x3F) << 12)
+                                | ((bytes[i + 2] & 0x3F) << 6)
+                                | (bytes[i + 3] & 0x3F);
+                writeUnicodeEscape(Character.highSurrogate(codePoint));
+                writeUnicodeEscape(Character.lowSurrogate(codePoint));
+                i += 3;
+            } else if (ESCAPES[b] > 0) {
+                buffer[position++] = '\\';
+                buffer[position++] = (byte) ESCAPES[b];
+            } else {
+                writeUnicodeEscape((char) b);
+            }
+        }
+    }
+
+    private void writeUnicodeEscape(char ch) {
+        buffer[position++] = '\\';
+        buffer[position++] = 'u';
+        buffer[position++] = HEX_CHARS[(ch >> 12) & 0xF];
+        buffer[position++] = HEX_CHARS[(ch >> 8) & 0xF];
+        buffer[position++] = HEX_CHARS[(ch >> 4) & 0xF];
+        buffer[position++] = HEX_CHARS[ch & 0xF];
+    }
+
+    /**
+     * Returns whether a byte needs to be escaped, which is an ASCII character to be escaped or the
+     * first byte of a 4-byte UTF-8 sequence.
+     */
+    private static boolean needsEscape(byte b) {
+        return b >= 0 ? ESCAPES[b] != 0 : (b & 0xF8) == 0xF0;
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+        }
+    }
+
+    /** Encodes a field name as {@code "name":}, to be written with {@link #writeRaw}. */
+    public static byte[] encodeFieldName(String name) {
+        return encodeFieldName(name, false);
+    }
+
+    /**
+     * Encodes a field name as {@code "name":}, or {@code ,"name":} with the separator of the
+     * previous field, to be written with {@link #writeRaw}.
+     */
+    public static byte[] encodeFieldName(String name, boolean withSeparator) {
+        JsonOutputBuffer out = new JsonOutputBuffer(name.length() + 8);
+        if (withSeparator) {
+            out.writeByte(',');
+        }
+        out.writeString(name);
+        out.writeByte(':');
+        return out.toByteArray();
+    }
+
+    /** Encodes a string value, to be written with {@link #writeRaw}. */
+    public static byte[] encodeString(String str) {
+        JsonOutputBuffer out = new JsonOutputBuffer(str.length() + 8);
+        out.writeString(str);
+        return out.toByteArray();
+    }
+}
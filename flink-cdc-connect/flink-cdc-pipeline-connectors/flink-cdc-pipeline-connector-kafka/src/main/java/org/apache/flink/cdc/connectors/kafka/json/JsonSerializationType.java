@@ -19,6 +19,7 @@ package org.apache.flink.cdc.connectors.kafka.json;
 
 import org.apache.flink.api.common.serialization.SerializationSchema;
 import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.connectors.kafka.avro.DebeziumAvroSerializationSchema;
 import org.apache.flink.cdc.connectors.kafka.json.canal.CanalJsonSerializationSchema;
 import org.apache.flink.cdc.connectors.kafka.json.debezium.DebeziumJsonSerializationSchema;
 
@@ -29,7 +30,10 @@ public enum JsonSerializationType {
     DEBEZIUM_JSON("debezium-json"),
 
     /** Use {@link CanalJsonSerializationSchema} to serialize. */
-    CANAL_JSON("canal-json");
+    CANAL_JSON("canal-json"),
+
+    /** Use {@link DebeziumAvroSerializationSchema} to serialize. */
+    DEBEZIUM_AVRO("debezium-avro");
 
     private final String value;
 
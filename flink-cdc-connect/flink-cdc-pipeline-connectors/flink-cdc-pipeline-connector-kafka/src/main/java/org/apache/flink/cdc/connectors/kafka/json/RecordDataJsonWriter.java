@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.json;
+
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.StringData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.formats.common.TimestampFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.List;
+
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getPrecision;
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getScale;
+import static org.apache.flink.formats.common.TimeFormats.ISO8601_TIMESTAMP_FORMAT;
+import static org.apache.flink.formats.common.TimeFormats.ISO8601_TIMESTAMP_WITH_LOCAL_TIMEZONE_FORMAT;
+import static org.apache.flink.formats.common.TimeFormats.SQL_TIMESTAMP_FORMAT;
+import static org.apache.flink.formats.common.TimeFormats.SQL_TIMESTAMP_WITH_LOCAL_TIMEZONE_FORMAT;
+import static org.apache.flink.formats.common.TimeFormats.SQL_TIME_FORMAT;
+
+/**
+ * Writes the {@link RecordData} of a specific {@link Schema} as a JSON object into a {@link
+ * JsonOutputBuffer}, which is the same as the JSON object written by {@code
+ * JsonRowDataSerializationSchema} from the converted {@code RowData}. The field names are encoded
+ * and the writers of the fields are created once per schema, and the fields are written directly
+ * from the record without any intermediate {@code RowData} or JSON tree.
+ */
+public class RecordDataJsonWriter {
+
+    private final Schema schema;
+
+    private final byte[][] encodedFieldNames;
+
+    private final FieldWriter[] fieldWriters;
+
+    private final boolean ignoreNullFields;
+
+    public RecordDataJsonWriter(
+            Schema schema,
+            TimestampFormat timestampFormat,
+            boolean encodeDecimalAsPlainNumber,
+            boolean ignoreNullFields) {
+        this.schema = schema;
+        this.ignoreNullFields = ignoreNullFields;
+        List<Column> columns = schema.getColumns();
+        this.encodedFieldNames = new byte[columns.size()][];
+        this.fieldWriters = new FieldWriter[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            // The separator of the following fields is encoded with the name
+            encodedFieldNames[i] =
+                    JsonOutputBuffer.encodeFieldName(
+                            columns.get(i).getName(), i > 0 && !ignoreNullFields);
+            fieldWriters[i] =
+                    createFieldWriter(
+                            columns.get(i).getType(),
+                            i,
+                            timestampFormat,
+                            encodeDecimalAsPlainNumber);
+        }
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /** Writes the record as a JSON object. */
+    public void write(JsonOutputBuffer out, RecordData record) {
+        out.writeByte('{');
+        boolean first = true;
+        for (int i = 0; i < fieldWriters.length; i++) {
+            boolean isNull = record.isNullAt(i);
+            if (ignoreNullFields) {
+                if (isNull) {
+                    continue;
+                }
+                if (!first) {
+                    out.writeByte(',');
+                }
+                first = false;
+            }
+            out.writeRaw(encodedFieldNames[i]);
+            if (isNull) {
+                out.writeNull();
+            } else {
+                fieldWriters[i].write(out, record);
+            }
+        }
+        out.writeByte('}');
+    }
+
+    private static FieldWriter createFieldWriter(
+            DataType fieldType,
+            int fieldPos,
+            TimestampFormat timestampFormat,
+            boolean encodeDecimalAsPlainNumber) {
+        // ordered by type root definition
+        switch (fieldType.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return (out, record) -> writeString(out, record.getString(fieldPos));
+            case BOOLEAN:
+                return (out, record) ->
+                        out.writeAscii(record.getBoolean(fieldPos) ? "true" : "false");
+            case BINARY:
+            case VARBINARY:
+                return (out, record) ->
+                        out.writeQuotedAscii(
+                                Base64.getEncoder().encodeToString(record.getBinary(fieldPos)));
+            case DECIMAL:
+                final int decimalPrecision = getPrecision(fieldType);
+                final int decimalScale = getScale(fieldType);
+                return (out, record) -> {
+                    // The trailing zeros are stripped as the decimal nodes of Jackson
+                    BigDecimal decimal =
+                            normalize(
+                                    record.getDecimal(fieldPos, decimalPrecision, decimalScale)
+                                            .toBigDecimal());
+                    out.writeAscii(
+                            encodeDecimalAsPlainNumber
+                                    ? decimal.toPlainString()
+                                    : decimal.toString());
+                };
+            case TINYINT:
+                return (out, record) -> out.writeAscii(Byte.toString(record.getByte(fieldPos)));
+            case SMALLINT:
+                return (out, record) -> out.writeAscii(Short.toString(record.getShort(fieldPos)));
+            case INTEGER:
+                return (out, record) -> out.writeAscii(Integer.toString(record.getInt(fieldPos)));
+            case DATE:
+                return (out, record) ->
+                        out.writeQuotedAscii(
+                                DateTimeFormatter.ISO_LOCAL_DATE.format(
+                                        LocalDate.ofEpochDay(record.getInt(fieldPos))));
+            case TIME_WITHOUT_TIME_ZONE:
+                return (out, record) ->
+                        out.writeQuotedAscii(
+                                SQL_TIME_FORMAT.format(
+                                        LocalTime.ofSecondOfDay(record.getInt(fieldPos) / 1000L)));
+            case BIGINT:
+                return (out, record) -> out.writeAscii(Long.toString(record.getLong(fieldPos)));
+            case FLOAT:
+                return (out, record) -> {
+                    float value = record.getFloat(fieldPos);
+                    if (Float.isFinite(value)) {
+                        out.writeAscii(Float.toString(value));
+                    } else {
+                        out.writeQuotedAscii(Float.toString(value));
+                    }
+                };
+            case DOUBLE:
+                return (out, record) -> {
+                    double value = record.getDouble(fieldPos);
+                    if (Double.isFinite(value)) {
+                        out.writeAscii(Double.toString(value));
+                    } else {
+                        out.writeQuotedAscii(Double.toString(value));
+                    }
+                };
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                final int timestampPrecision = getPrecision(fieldType);
+                final DateTimeFormatter timestampFormatter =
+                        timestampFormat == TimestampFormat.ISO_8601
+                                ? ISO8601_TIMESTAMP_FORMAT
+                                : SQL_TIMESTAMP_FORMAT;
+                return (out, record) ->
+                        out.writeQuotedAscii(
+                                timestampFormatter.format(
+                                        record.getTimestamp(fieldPos, timestampPrecision)
+                                                .toLocalDateTime()));
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int localZonedTimestampPrecision = getPrecision(fieldType);
+                final DateTimeFormatter localZonedTimestampFormatter =
+                        timestampFormat == TimestampFormat.ISO_8601
+                                ? ISO8601_TIMESTAMP_WITH_LOCAL_TIMEZONE_FORMAT
+                                : SQL_TIMESTAMP_WITH_LOCAL_TIMEZONE_FORMAT;
+                return (out, record) ->
+                        out.writeQuotedAscii(
+                                localZonedTimestampFormatter.format(
+                                        record.getLocalZonedTimestampData(
+                                                        fieldPos, localZonedTimestampPrecision)
+                                                .toInstant()
+                                                .atOffset(ZoneOffset.UTC)));
+            default:
+                throw new IllegalArgumentException(
+                        "don't support type of " + fieldType.getTypeRoot());
+        }
+    }
+
+    private static BigDecimal normalize(BigDecimal decimal) {
+        return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+    }
+
+    private static void writeString(JsonOutputBuffer out, StringData str) {
+        if (str instanceof BinaryStringData) {
+            BinaryStringData binaryStr = (BinaryStringData) str;
+            binaryStr.ensureMaterialized();
+            MemorySegment[] segments = binaryStr.getSegments();
+            if (segments.length == 1) {
+                out.writeUtf8String(segments[0], binaryStr.getOffset(), binaryStr.getSizeInBytes());
+                return;
+            }
+        }
+        out.writeUtf8String(str.toBytes());
+    }
+
+    /** Writes a non-null field of a record as a JSON value. */
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(JsonOutputBuffer out, RecordData record);
+    }
+}
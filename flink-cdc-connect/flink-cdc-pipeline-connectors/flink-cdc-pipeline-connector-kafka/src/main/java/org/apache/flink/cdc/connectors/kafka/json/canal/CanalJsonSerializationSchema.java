@@ -18,34 +18,26 @@
 package org.apache.flink.cdc.connectors.kafka.json.canal;
 
 import org.apache.flink.api.common.serialization.SerializationSchema;
+import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.schema.Schema;
-import org.apache.flink.cdc.common.types.utils.DataTypeUtils;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
-import org.apache.flink.cdc.connectors.kafka.json.TableSchemaInfo;
-import org.apache.flink.cdc.connectors.kafka.utils.JsonRowDataSerializationSchemaUtils;
+import org.apache.flink.cdc.connectors.kafka.json.JsonOutputBuffer;
+import org.apache.flink.cdc.connectors.kafka.json.RecordDataJsonWriter;
 import org.apache.flink.formats.common.TimestampFormat;
 import org.apache.flink.formats.json.JsonFormatOptions;
-import org.apache.flink.formats.json.JsonRowDataSerializationSchema;
-import org.apache.flink.table.api.DataTypes;
-import org.apache.flink.table.data.GenericArrayData;
-import org.apache.flink.table.data.GenericRowData;
-import org.apache.flink.table.data.RowData;
-import org.apache.flink.table.data.StringData;
-import org.apache.flink.table.types.DataType;
-import org.apache.flink.table.types.logical.LogicalType;
-import org.apache.flink.table.types.logical.RowType;
+
+import javax.annotation.Nullable;
 
 import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.Map;
 
 import static java.lang.String.format;
-import static org.apache.flink.table.types.utils.TypeConversions.fromLogicalToDataType;
 
 /**
  * Serialization schema that serializes an object of FlinkCDC pipeline internal data structure
@@ -57,29 +49,35 @@ public class CanalJsonSerializationSchema implements SerializationSchema<Event>
 
     private static final long serialVersionUID = 1L;
 
-    private static final StringData OP_INSERT = StringData.fromString("INSERT");
-    private static final StringData OP_DELETE = StringData.fromString("DELETE");
-    private static final StringData OP_UPDATE = StringData.fromString("UPDATE");
+    private static final byte[] OP_INSERT = JsonOutputBuffer.encodeString("INSERT");
+    private static final byte[] OP_DELETE = JsonOutputBuffer.encodeString("DELETE");
+    private static final byte[] OP_UPDATE = JsonOutputBuffer.encodeString("UPDATE");
 
-    private transient GenericRowData reuseGenericRowData;
+    private static final byte[] OLD_FIELD = JsonOutputBuffer.encodeFieldName("old");
+    private static final byte[] DATA_FIELD = JsonOutputBuffer.encodeFieldName("data");
+    private static final byte[] TYPE_FIELD = JsonOutputBuffer.encodeFieldName("type", true);
+    private static final byte[] DATABASE_FIELD = JsonOutputBuffer.encodeFieldName("database");
+    private static final byte[] TABLE_FIELD = JsonOutputBuffer.encodeFieldName("table");
+    private static final byte[] PK_NAMES_FIELD = JsonOutputBuffer.encodeFieldName("pkNames");
 
-    /** The serializer to serialize Canal JSON data. */
-    private final Map<TableId, TableSchemaInfo> jsonSerializers;
+    private transient JsonOutputBuffer reuseOutputBuffer;
 
-    private final TimestampFormat timestampFormat;
+    /** The serializer to serialize Canal JSON data. */
+    private final Map<TableId, RecordDataJsonWriter> jsonSerializers;
 
-    private final JsonFormatOptions.MapNullKeyMode mapNullKeyMode;
+    /** A map of {@link TableId} and its encoded fields following the {@code type} field. */
+    private final Map<TableId, byte[]> encodedTableFields;
 
-    private final String mapNullKeyLiteral;
+    private final TimestampFormat timestampFormat;
 
     private final boolean encodeDecimalAsPlainNumber;
 
     private final boolean ignoreNullFields;
 
-    private final ZoneId zoneId;
-
-    private InitializationContext context;
-
+    /**
+     * Creates the serialization schema. The options of the null keys of maps are not used, as the
+     * map columns are not supported.
+     */
     public CanalJsonSerializationSchema(
             TimestampFormat timestampFormat,
             JsonFormatOptions.MapNullKeyMode mapNullKeyMode,
@@ -88,18 +86,15 @@ public class CanalJsonSerializationSchema implements SerializationSchema<Event>
             boolean encodeDecimalAsPlainNumber,
             boolean ignoreNullFields) {
         this.timestampFormat = timestampFormat;
-        this.mapNullKeyMode = mapNullKeyMode;
-        this.mapNullKeyLiteral = mapNullKeyLiteral;
         this.encodeDecimalAsPlainNumber = encodeDecimalAsPlainNumber;
-        this.zoneId = zoneId;
         jsonSerializers = new HashMap<>();
+        encodedTableFields = new HashMap<>();
         this.ignoreNullFields = ignoreNullFields;
     }
 
     @Override
     public void open(InitializationContext context) {
-        this.context = context;
-        reuseGenericRowData = new GenericRowData(6);
+        reuseOutputBuffer = new JsonOutputBuffer();
     }
 
     @Override
@@ -116,99 +111,30 @@ public class CanalJsonSerializationSchema implements SerializationSchema<Event>
                                 jsonSerializers.get(schemaChangeEvent.tableId()).getSchema(),
                                 schemaChangeEvent);
             }
-            LogicalType rowType =
-                    DataTypeUtils.toFlinkDataType(schema.toRowDataType()).getLogicalType();
-            JsonRowDataSerializationSchema jsonSerializer =
-                    JsonRowDataSerializationSchemaUtils.createSerializationSchema(
-                            createJsonRowType(fromLogicalToDataType(rowType)),
-                            timestampFormat,
-                            mapNullKeyMode,
-                            mapNullKeyLiteral,
-                            encodeDecimalAsPlainNumber,
-                            ignoreNullFields);
-            try {
-                jsonSerializer.open(context);
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
             jsonSerializers.put(
                     schemaChangeEvent.tableId(),
-                    new TableSchemaInfo(
-                            schemaChangeEvent.tableId(), schema, jsonSerializer, zoneId));
+                    new RecordDataJsonWriter(
+                            schema, timestampFormat, encodeDecimalAsPlainNumber, ignoreNullFields));
+            encodedTableFields.put(
+                    schemaChangeEvent.tableId(),
+                    encodeTableFields(schemaChangeEvent.tableId(), schema));
             return null;
         }
 
         DataChangeEvent dataChangeEvent = (DataChangeEvent) event;
-        reuseGenericRowData.setField(
-                3, StringData.fromString(dataChangeEvent.tableId().getSchemaName()));
-        reuseGenericRowData.setField(
-                4, StringData.fromString(dataChangeEvent.tableId().getTableName()));
-        reuseGenericRowData.setField(
-                5,
-                new GenericArrayData(
-                        jsonSerializers.get(dataChangeEvent.tableId()).getSchema().primaryKeys()
-                                .stream()
-                                .map(StringData::fromString)
-                                .toArray()));
         try {
             switch (dataChangeEvent.op()) {
                 case INSERT:
-                    reuseGenericRowData.setField(0, null);
-                    reuseGenericRowData.setField(
-                            1,
-                            new GenericArrayData(
-                                    new RowData[] {
-                                        jsonSerializers
-                                                .get(dataChangeEvent.tableId())
-                                                .getRowDataFromRecordData(
-                                                        dataChangeEvent.after(), false)
-                                    }));
-                    reuseGenericRowData.setField(2, OP_INSERT);
-                    return jsonSerializers
-                            .get(dataChangeEvent.tableId())
-                            .getSerializationSchema()
-                            .serialize(reuseGenericRowData);
+                    return serialize(dataChangeEvent, null, dataChangeEvent.after(), OP_INSERT);
                 case DELETE:
-                    reuseGenericRowData.setField(0, null);
-                    reuseGenericRowData.setField(
-                            1,
-                            new GenericArrayData(
-                                    new RowData[] {
-                                        jsonSerializers
-                                                .get(dataChangeEvent.tableId())
-                                                .getRowDataFromRecordData(
-                                                        dataChangeEvent.before(), false)
-                                    }));
-                    reuseGenericRowData.setField(2, OP_DELETE);
-                    return jsonSerializers
-                            .get(dataChangeEvent.tableId())
-                            .getSerializationSchema()
-                            .serialize(reuseGenericRowData);
+                    return serialize(dataChangeEvent, null, dataChangeEvent.before(), OP_DELETE);
                 case UPDATE:
                 case REPLACE:
-                    reuseGenericRowData.setField(
-                            0,
-                            new GenericArrayData(
-                                    new RowData[] {
-                                        jsonSerializers
-                                                .get(dataChangeEvent.tableId())
-                                                .getRowDataFromRecordData(
-                                                        dataChangeEvent.before(), false)
-                                    }));
-                    reuseGenericRowData.setField(
-                            1,
-                            new GenericArrayData(
-                                    new RowData[] {
-                                        jsonSerializers
-                                                .get(dataChangeEvent.tableId())
-                                                .getRowDataFromRecordData(
-                                                        dataChangeEvent.after(), false)
-                                    }));
-                    reuseGenericRowData.setField(2, OP_UPDATE);
-                    return jsonSerializers
-                            .get(dataChangeEvent.tableId())
-                            .getSerializationSchema()
-                            .serialize(reuseGenericRowData);
+                    return serialize(
+                            dataChangeEvent,
+                            dataChangeEvent.before(),
+                            dataChangeEvent.after(),
+                            OP_UPDATE);
                 default:
                     throw new UnsupportedOperationException(
                             format(
@@ -221,19 +147,68 @@ public class CanalJsonSerializationSchema implements SerializationSchema<Event>
     }
 
     /**
-     * Refer to <a
+     * Writes the Canal JSON of a data change event, refer to <a
      * href="https://nightlies.apache.org/flink/flink-docs-master/docs/connectors/table/formats/canal/#available-metadata">Canal
      * | Apache Flink</a> for more details.
      */
-    private static RowType createJsonRowType(DataType databaseSchema) {
-        return (RowType)
-                DataTypes.ROW(
-                                DataTypes.FIELD("old", DataTypes.ARRAY(databaseSchema)),
-                                DataTypes.FIELD("data", DataTypes.ARRAY(databaseSchema)),
-                                DataTypes.FIELD("type", DataTypes.STRING()),
-                                DataTypes.FIELD("database", DataTypes.STRING()),
-                                DataTypes.FIELD("table", DataTypes.STRING()),
-                                DataTypes.FIELD("pkNames", DataTypes.ARRAY(DataTypes.STRING())))
-                        .getLogicalType();
+    private byte[] serialize(
+            DataChangeEvent dataChangeEvent,
+            @Nullable RecordData old,
+            RecordData data,
+            byte[] type) {
+        RecordDataJsonWriter jsonWriter = jsonSerializers.get(dataChangeEvent.tableId());
+        JsonOutputBuffer out = reuseOutputBuffer;
+        out.reset();
+        out.writeByte('{');
+        if (old != null) {
+            out.writeRaw(OLD_FIELD);
+            writeRecordArray(out, jsonWriter, old);
+            out.writeByte(',');
+        } else if (!ignoreNullFields) {
+            out.writeRaw(OLD_FIELD);
+            out.writeNull();
+            out.writeByte(',');
+        }
+        out.writeRaw(DATA_FIELD);
+        writeRecordArray(out, jsonWriter, data);
+        out.writeRaw(TYPE_FIELD);
+        out.writeRaw(type);
+        out.writeRaw(encodedTableFields.get(dataChangeEvent.tableId()));
+        out.writeByte('}');
+        return out.toByteArray();
+    }
+
+    private static void writeRecordArray(
+            JsonOutputBuffer out, RecordDataJsonWriter jsonWriter, RecordData record) {
+        out.writeByte('[');
+        jsonWriter.write(out, record);
+        out.writeByte(']');
+    }
+
+    private byte[] encodeTableFields(TableId tableId, Schema schema) {
+        JsonOutputBuffer out = new JsonOutputBuffer();
+        if (tableId.getSchemaName() != null) {
+            out.writeByte(',');
+            out.writeRaw(DATABASE_FIELD);
+            out.writeString(tableId.getSchemaName());
+        } else if (!ignoreNullFields) {
+            out.writeByte(',');
+            out.writeRaw(DATABASE_FIELD);
+            out.writeNull();
+        }
+        out.writeByte(',');
+        out.writeRaw(TABLE_FIELD);
+        out.writeString(tableId.getTableName());
+        out.writeByte(',');
+        out.writeRaw(PK_NAMES_FIELD);
+        out.writeByte('[');
+        for (int i = 0; i < schema.primaryKeys().size(); i++) {
+            if (i > 0) {
+                out.writeByte(',');
+            }
+            out.writeString(schema.primaryKeys().get(i));
+        }
+        out.writeByte(']');
+        return out.toByteArray();
     }
 }
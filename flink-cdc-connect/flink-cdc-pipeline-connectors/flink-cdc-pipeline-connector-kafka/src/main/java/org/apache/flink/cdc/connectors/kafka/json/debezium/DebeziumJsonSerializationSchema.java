@@ -18,32 +18,26 @@
 package org.apache.flink.cdc.connectors.kafka.json.debezium;
 
 import org.apache.flink.api.common.serialization.SerializationSchema;
+import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.schema.Schema;
-import org.apache.flink.cdc.common.types.utils.DataTypeUtils;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
-import org.apache.flink.cdc.connectors.kafka.json.TableSchemaInfo;
-import org.apache.flink.cdc.connectors.kafka.utils.JsonRowDataSerializationSchemaUtils;
+import org.apache.flink.cdc.connectors.kafka.json.JsonOutputBuffer;
+import org.apache.flink.cdc.connectors.kafka.json.RecordDataJsonWriter;
 import org.apache.flink.formats.common.TimestampFormat;
 import org.apache.flink.formats.json.JsonFormatOptions;
-import org.apache.flink.formats.json.JsonRowDataSerializationSchema;
-import org.apache.flink.table.api.DataTypes;
-import org.apache.flink.table.data.GenericRowData;
-import org.apache.flink.table.data.StringData;
-import org.apache.flink.table.types.DataType;
-import org.apache.flink.table.types.logical.LogicalType;
-import org.apache.flink.table.types.logical.RowType;
+
+import javax.annotation.Nullable;
 
 import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.Map;
 
 import static java.lang.String.format;
-import static org.apache.flink.table.types.utils.TypeConversions.fromLogicalToDataType;
 
 /**
  * Serialization schema from FlinkCDC pipeline internal data structure {@link Event} to Debezium
@@ -54,31 +48,38 @@ import static org.apache.flink.table.types.utils.TypeConversions.fromLogicalToDa
 public class DebeziumJsonSerializationSchema implements SerializationSchema<Event> {
     private static final long serialVersionUID = 1L;
 
-    private static final StringData OP_INSERT = StringData.fromString("c"); // insert
-    private static final StringData OP_DELETE = StringData.fromString("d"); // delete
-    private static final StringData OP_UPDATE = StringData.fromString("u"); // update
+    private static final byte[] OP_INSERT = JsonOutputBuffer.encodeString("c"); // insert
+    private static final byte[] OP_DELETE = JsonOutputBuffer.encodeString("d"); // delete
+    private static final byte[] OP_UPDATE = JsonOutputBuffer.encodeString("u"); // update
+
+    private static final byte[] BEFORE_FIELD = JsonOutputBuffer.encodeFieldName("before");
+    private static final byte[] AFTER_FIELD = JsonOutputBuffer.encodeFieldName("after");
+    private static final byte[] OP_FIELD = JsonOutputBuffer.encodeFieldName("op");
+    private static final byte[] SOURCE_FIELD = JsonOutputBuffer.encodeFieldName("source", true);
+    private static final byte[] DB_FIELD = JsonOutputBuffer.encodeFieldName("db");
+    private static final byte[] TABLE_FIELD = JsonOutputBuffer.encodeFieldName("table");
 
     /**
-     * A map of {@link TableId} and its {@link SerializationSchema} to serialize Debezium JSON data.
+     * A map of {@link TableId} and its {@link RecordDataJsonWriter} to serialize Debezium JSON
+     * data.
      */
-    private final Map<TableId, TableSchemaInfo> jsonSerializers;
+    private final Map<TableId, RecordDataJsonWriter> jsonSerializers;
 
-    private transient GenericRowData reuseGenericRowData;
+    /** A map of {@link TableId} and its encoded {@code source} field. */
+    private final Map<TableId, byte[]> encodedSources;
 
-    private final TimestampFormat timestampFormat;
+    private transient JsonOutputBuffer reuseOutputBuffer;
 
-    private final JsonFormatOptions.MapNullKeyMode mapNullKeyMode;
-
-    private final String mapNullKeyLiteral;
+    private final TimestampFormat timestampFormat;
 
     private final boolean encodeDecimalAsPlainNumber;
 
     private final boolean ignoreNullFields;
 
-    private final ZoneId zoneId;
-
-    private InitializationContext context;
-
+    /**
+     * Creates the serialization schema. The options of the null keys of maps are not used, as the
+     * map columns are not supported.
+     */
     public DebeziumJsonSerializationSchema(
             TimestampFormat timestampFormat,
             JsonFormatOptions.MapNullKeyMode mapNullKeyMode,
@@ -87,18 +88,15 @@ public class DebeziumJsonSerializationSchema implements SerializationSchema<Even
             boolean encodeDecimalAsPlainNumber,
             boolean ignoreNullFields) {
         this.timestampFormat = timestampFormat;
-        this.mapNullKeyMode = mapNullKeyMode;
-        this.mapNullKeyLiteral = mapNullKeyLiteral;
         this.encodeDecimalAsPlainNumber = encodeDecimalAsPlainNumber;
-        this.zoneId = zoneId;
         jsonSerializers = new HashMap<>();
+        encodedSources = new HashMap<>();
         this.ignoreNullFields = ignoreNullFields;
     }
 
     @Override
     public void open(InitializationContext context) {
-        reuseGenericRowData = new GenericRowData(4);
-        this.context = context;
+        reuseOutputBuffer = new JsonOutputBuffer();
     }
 
     @Override
@@ -115,77 +113,29 @@ public class DebeziumJsonSerializationSchema implements SerializationSchema<Even
                                 jsonSerializers.get(schemaChangeEvent.tableId()).getSchema(),
                                 schemaChangeEvent);
             }
-            LogicalType rowType =
-                    DataTypeUtils.toFlinkDataType(schema.toRowDataType()).getLogicalType();
-            JsonRowDataSerializationSchema jsonSerializer =
-                    JsonRowDataSerializationSchemaUtils.createSerializationSchema(
-                            createJsonRowType(fromLogicalToDataType(rowType)),
-                            timestampFormat,
-                            mapNullKeyMode,
-                            mapNullKeyLiteral,
-                            encodeDecimalAsPlainNumber,
-                            ignoreNullFields);
-            try {
-                jsonSerializer.open(context);
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
             jsonSerializers.put(
                     schemaChangeEvent.tableId(),
-                    new TableSchemaInfo(
-                            schemaChangeEvent.tableId(), schema, jsonSerializer, zoneId));
+                    new RecordDataJsonWriter(
+                            schema, timestampFormat, encodeDecimalAsPlainNumber, ignoreNullFields));
+            encodedSources.put(
+                    schemaChangeEvent.tableId(), encodeSource(schemaChangeEvent.tableId()));
             return null;
         }
 
         DataChangeEvent dataChangeEvent = (DataChangeEvent) event;
-        reuseGenericRowData.setField(
-                3,
-                GenericRowData.of(
-                        StringData.fromString(dataChangeEvent.tableId().getSchemaName()),
-                        StringData.fromString(dataChangeEvent.tableId().getTableName())));
         try {
             switch (dataChangeEvent.op()) {
                 case INSERT:
-                    reuseGenericRowData.setField(0, null);
-                    reuseGenericRowData.setField(
-                            1,
-                            jsonSerializers
-                                    .get(dataChangeEvent.tableId())
-                                    .getRowDataFromRecordData(dataChangeEvent.after(), false));
-                    reuseGenericRowData.setField(2, OP_INSERT);
-                    return jsonSerializers
-                            .get(dataChangeEvent.tableId())
-                            .getSerializationSchema()
-                            .serialize(reuseGenericRowData);
+                    return serialize(dataChangeEvent, null, dataChangeEvent.after(), OP_INSERT);
                 case DELETE:
-                    reuseGenericRowData.setField(
-                            0,
-                            jsonSerializers
-                                    .get(dataChangeEvent.tableId())
-                                    .getRowDataFromRecordData(dataChangeEvent.before(), false));
-                    reuseGenericRowData.setField(1, null);
-                    reuseGenericRowData.setField(2, OP_DELETE);
-                    return jsonSerializers
-                            .get(dataChangeEvent.tableId())
-                            .getSerializationSchema()
-                            .serialize(reuseGenericRowData);
+                    return serialize(dataChangeEvent, dataChangeEvent.before(), null, OP_DELETE);
                 case UPDATE:
                 case REPLACE:
-                    reuseGenericRowData.setField(
-                            0,
-                            jsonSerializers
-                                    .get(dataChangeEvent.tableId())
-                                    .getRowDataFromRecordData(dataChangeEvent.before(), false));
-                    reuseGenericRowData.setField(
-                            1,
-                            jsonSerializers
-                                    .get(dataChangeEvent.tableId())
-                                    .getRowDataFromRecordData(dataChangeEvent.after(), false));
-                    reuseGenericRowData.setField(2, OP_UPDATE);
-                    return jsonSerializers
-                            .get(dataChangeEvent.tableId())
-                            .getSerializationSchema()
-                            .serialize(reuseGenericRowData);
+                    return serialize(
+                            dataChangeEvent,
+                            dataChangeEvent.before(),
+                            dataChangeEvent.after(),
+                            OP_UPDATE);
                 default:
                     throw new UnsupportedOperationException(
                             format(
@@ -198,21 +148,62 @@ public class DebeziumJsonSerializationSchema implements SerializationSchema<Even
     }
 
     /**
-     * Refer to <a
+     * Writes the Debezium JSON of a data change event, refer to <a
      * href="https://debezium.io/documentation/reference/1.9/connectors/mysql.html">Debezium
      * docs</a> for more details.
      */
-    private static RowType createJsonRowType(DataType databaseSchema) {
-        return (RowType)
-                DataTypes.ROW(
-                                DataTypes.FIELD("before", databaseSchema),
-                                DataTypes.FIELD("after", databaseSchema),
-                                DataTypes.FIELD("op", DataTypes.STRING()),
-                                DataTypes.FIELD(
-                                        "source",
-                                        DataTypes.ROW(
-                                                DataTypes.FIELD("db", DataTypes.STRING()),
-                                                DataTypes.FIELD("table", DataTypes.STRING()))))
-                        .getLogicalType();
+    private byte[] serialize(
+            DataChangeEvent dataChangeEvent,
+            @Nullable RecordData before,
+            @Nullable RecordData after,
+            byte[] op) {
+        RecordDataJsonWriter jsonWriter = jsonSerializers.get(dataChangeEvent.tableId());
+        JsonOutputBuffer out = reuseOutputBuffer;
+        out.reset();
+        out.writeByte('{');
+        writeRecordField(out, jsonWriter, BEFORE_FIELD, before);
+        writeRecordField(out, jsonWriter, AFTER_FIELD, after);
+        out.writeRaw(OP_FIELD);
+        out.writeRaw(op);
+        out.writeRaw(encodedSources.get(dataChangeEvent.tableId()));
+        out.writeByte('}');
+        return out.toByteArray();
+    }
+
+    /** Writes a record field followed by a separator, as the {@code op} field always follows. */
+    private void writeRecordField(
+            JsonOutputBuffer out,
+            RecordDataJsonWriter jsonWriter,
+            byte[] fieldName,
+            @Nullable RecordData record) {
+        if (record == null && ignoreNullFields) {
+            return;
+        }
+        out.writeRaw(fieldName);
+        if (record == null) {
+            out.writeNull();
+        } else {
+            jsonWriter.write(out, record);
+        }
+        out.writeByte(',');
+    }
+
+    private byte[] encodeSource(TableId tableId) {
+        JsonOutputBuffer out = new JsonOutputBuffer();
+        out.writeRaw(SOURCE_FIELD);
+        out.writeByte('{');
+        if (tableId.getSchemaName() != null) {
+            out.writeRaw(DB_FIELD);
+            out.writeString(tableId.getSchemaName());
+            out.writeByte(',');
+        } else if (!ignoreNullFields) {
+            out.writeRaw(DB_FIELD);
+            out.writeNull();
+            out.writeByte(',');
+        }
+        out.writeRaw(TABLE_FIELD);
+        out.writeString(tableId.getTableName());
+        out.writeByte('}');
+        return out.toByteArray();
     }
 }
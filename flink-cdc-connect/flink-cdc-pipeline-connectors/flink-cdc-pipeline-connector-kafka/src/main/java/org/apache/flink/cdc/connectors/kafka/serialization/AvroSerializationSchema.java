@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.serialization;
+
+import org.apache.flink.api.common.serialization.SerializationSchema;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.OperationType;
+import org.apache.flink.cdc.common.event.SchemaChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.utils.SchemaUtils;
+import org.apache.flink.cdc.connectors.kafka.avro.AvroOutputBuffer;
+import org.apache.flink.cdc.connectors.kafka.avro.AvroSchema;
+import org.apache.flink.cdc.connectors.kafka.avro.AvroSchemaConverter;
+import org.apache.flink.cdc.connectors.kafka.avro.AvroSchemaDirectory;
+import org.apache.flink.cdc.connectors.kafka.avro.RecordDataAvroWriter;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link SerializationSchema} to convert {@link Event} into byte of Avro format. The key is the
+ * table id followed by the primary keys, which is single object encoded with the key schema
+ * generated by {@link AvroSchemaConverter#createKeySchema}.
+ */
+public class AvroSerializationSchema implements SerializationSchema<Event> {
+
+    private static final long serialVersionUID = 1L;
+
+    /** A map of {@link TableId} and its {@link RecordDataAvroWriter} of the primary keys. */
+    private final Map<TableId, RecordDataAvroWriter> avroWriters;
+
+    /** A map of {@link TableId} and its encoded single object header and table id. */
+    private final Map<TableId, byte[]> encodedPrefixes;
+
+    @Nullable private final AvroSchemaDirectory schemaDirectory;
+
+    private transient AvroOutputBuffer reuseOutputBuffer;
+
+    public AvroSerializationSchema(@Nullable AvroSchemaDirectory schemaDirectory) {
+        this.schemaDirectory = schemaDirectory;
+        avroWriters = new HashMap<>();
+        encodedPrefixes = new HashMap<>();
+    }
+
+    @Override
+    public void open(InitializationContext context) {
+        reuseOutputBuffer = new AvroOutputBuffer();
+    }
+
+    @Override
+    public byte[] serialize(Event event) {
+        if (event instanceof SchemaChangeEvent) {
+            Schema schema;
+            SchemaChangeEvent schemaChangeEvent = (SchemaChangeEvent) event;
+            TableId tableId = schemaChangeEvent.tableId();
+            if (event instanceof CreateTableEvent) {
+                CreateTableEvent createTableEvent = (CreateTableEvent) event;
+                schema = createTableEvent.getSchema();
+            } else {
+                schema =
+                        SchemaUtils.applySchemaChangeEvent(
+                                avroWriters.get(tableId).getSchema(), schemaChangeEvent);
+            }
+            AvroSchema avroSchema = AvroSchemaConverter.createKeySchema(tableId, schema);
+            if (schemaDirectory != null) {
+                try {
+                    schemaDirectory.register(avroSchema);
+                } catch (IOException e) {
+                    throw new RuntimeException(
+                            String.format(
+                                    "Could not write Avro key schema of table '%s' into %s.",
+                                    tableId, schemaDirectory.getDirectory()),
+                            e);
+                }
+            }
+            avroWriters.put(tableId, new RecordDataAvroWriter(schema, schema.primaryKeys()));
+            AvroOutputBuffer prefix = new AvroOutputBuffer(64);
+            prefix.writeRaw(avroSchema.encodeSingleObjectHeader());
+            prefix.writeString(tableId.toString());
+            encodedPrefixes.put(tableId, prefix.toByteArray());
+            return null;
+        }
+        DataChangeEvent dataChangeEvent = (DataChangeEvent) event;
+        RecordData recordData =
+                dataChangeEvent.op().equals(OperationType.DELETE)
+                        ? dataChangeEvent.before()
+                        : dataChangeEvent.after();
+        AvroOutputBuffer out = reuseOutputBuffer;
+        out.reset();
+        out.writeRaw(encodedPrefixes.get(dataChangeEvent.tableId()));
+        avroWriters.get(dataChangeEvent.tableId()).write(out, recordData);
+        return out.toByteArray();
+    }
+}
@@ -36,6 +36,7 @@ import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 
+import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.AVRO_SCHEMA_DIRECTORY;
 import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.KEY_FORMAT;
 import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.PARTITION_STRATEGY;
 import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.PROPERTIES_PREFIX;
@@ -128,6 +129,7 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
         options.add(SINK_CUSTOM_HEADER);
         options.add(KafkaDataSinkOptions.DELIVERY_GUARANTEE);
         options.add(SINK_TABLE_ID_TO_TOPIC_MAPPING);
+        options.add(AVRO_SCHEMA_DIRECTORY);
         return options;
     }
 }
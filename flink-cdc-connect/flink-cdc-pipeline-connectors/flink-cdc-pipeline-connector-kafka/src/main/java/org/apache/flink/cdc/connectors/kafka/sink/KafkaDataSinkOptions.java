@@ -54,7 +54,7 @@ public class KafkaDataSinkOptions {
                     .defaultValue(KeyFormat.JSON)
                     .withDescription(
                             "Defines the format identifier for encoding key data, "
-                                    + "available options are `csv` and `json`, default option is `json`.");
+                                    + "available options are `csv`, `json` and `avro`, default option is `json`.");
 
     public static final ConfigOption<JsonSerializationType> VALUE_FORMAT =
             key("value.format")
@@ -62,7 +62,15 @@ public class KafkaDataSinkOptions {
                     .defaultValue(JsonSerializationType.DEBEZIUM_JSON)
                     .withDescription(
                             "Defines the format identifier for encoding value data, "
-                                    + "available options are `debezium-json` and `canal-json`, default option is `debezium-json`.");
+                                    + "available options are `debezium-json`, `canal-json` and `debezium-avro`, default option is `debezium-json`.");
+
+    public static final ConfigOption<String> AVRO_SCHEMA_DIRECTORY =
+            key("avro.schema-directory")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Optional. The directory where the Avro schemas generated for the `avro` key format and the `debezium-avro` value format are written, "
+                                    + "as files named by the 64-bit schema fingerprints in the headers of the messages.");
 
     public static final ConfigOption<String> TOPIC =
             key("topic")
@@ -25,7 +25,9 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 public enum KeyFormat {
     JSON("json"),
 
-    CSV("csv");
+    CSV("csv"),
+
+    AVRO("avro");
 
     private final String value;
 
@@ -19,6 +19,9 @@ package org.apache.flink.cdc.connectors.kafka.sink;
 
 import org.apache.flink.api.common.serialization.SerializationSchema;
 import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.connectors.kafka.avro.AvroFormatOptions;
+import org.apache.flink.cdc.connectors.kafka.avro.AvroSchemaDirectory;
+import org.apache.flink.cdc.connectors.kafka.serialization.AvroSerializationSchema;
 import org.apache.flink.cdc.connectors.kafka.serialization.CsvSerializationSchema;
 import org.apache.flink.cdc.connectors.kafka.serialization.JsonSerializationSchema;
 import org.apache.flink.cdc.connectors.kafka.utils.JsonRowDataSerializationSchemaUtils;
@@ -70,6 +73,14 @@ public class KeySerializationFactory {
                 {
                     return new CsvSerializationSchema(zoneId);
                 }
+            case AVRO:
+                {
+                    return new AvroSerializationSchema(
+                            formatOptions
+                                    .getOptional(AvroFormatOptions.SCHEMA_DIRECTORY)
+                                    .map(AvroSchemaDirectory::new)
+                                    .orElse(null));
+                }
             default:
                 {
                     throw new IllegalArgumentException("UnSupport key format of " + keyFormat);
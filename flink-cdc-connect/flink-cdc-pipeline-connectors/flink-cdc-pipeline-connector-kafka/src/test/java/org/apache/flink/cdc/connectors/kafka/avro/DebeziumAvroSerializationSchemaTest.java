@@ -0,0 +1,434 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.avro;
+
+import org.apache.flink.api.common.serialization.SerializationSchema;
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.GenericArrayData;
+import org.apache.flink.cdc.common.data.GenericMapData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.connectors.kafka.json.ChangeLogJsonFormatFactory;
+import org.apache.flink.cdc.connectors.kafka.json.JsonSerializationType;
+import org.apache.flink.cdc.connectors.kafka.json.MockInitializationContext;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.flink.configuration.Configuration;
+
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.util.Utf8;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Tests for {@link DebeziumAvroSerializationSchema}. */
+public class DebeziumAvroSerializationSchemaTest {
+
+    public static final TableId TABLE_1 =
+            TableId.tableId("default_namespace", "default_schema", "table1");
+
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.BIGINT().notNull())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("flag", DataTypes.BOOLEAN())
+                    .physicalColumn("tiny", DataTypes.TINYINT())
+                    .physicalColumn("small", DataTypes.SMALLINT())
+                    .physicalColumn("score", DataTypes.INT())
+                    .physicalColumn("ratio", DataTypes.FLOAT())
+                    .physicalColumn("price", DataTypes.DOUBLE())
+                    .physicalColumn("amount", DataTypes.DECIMAL(10, 2))
+                    .physicalColumn("payload", DataTypes.BYTES())
+                    .physicalColumn("day", DataTypes.DATE())
+                    .physicalColumn("moment", DataTypes.TIME())
+                    .physicalColumn("updated_at", DataTypes.TIMESTAMP(3))
+                    .physicalColumn("created_at", DataTypes.TIMESTAMP(6))
+                    .physicalColumn("1st-event", DataTypes.TIMESTAMP_LTZ(6))
+                    .primaryKey("id")
+                    .build();
+
+    @Test
+    public void testSerialize() throws Exception {
+        SerializationSchema<Event> serializationSchema =
+                ChangeLogJsonFormatFactory.createSerializationSchema(
+                        new Configuration(),
+                        JsonSerializationType.DEBEZIUM_AVRO,
+                        ZoneId.systemDefault());
+        serializationSchema.open(new MockInitializationContext());
+        Assertions.assertNull(serializationSchema.serialize(new CreateTableEvent(TABLE_1, SCHEMA)));
+        AvroSchema avroSchema = AvroSchemaConverter.createEnvelopeSchema(TABLE_1, SCHEMA);
+        org.apache.avro.Schema schema = parse(avroSchema);
+
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(SCHEMA.getColumnDataTypes().toArray(new DataType[0]));
+        Object[] fields =
+                new Object[] {
+                    1L,
+                    BinaryStringData.fromString("naïve 😀"),
+                    true,
+                    (byte) -3,
+                    (short) 300,
+                    -70000,
+                    1.5f,
+                    -2.25d,
+                    DecimalData.fromBigDecimal(new BigDecimal("-12345.67"), 10, 2),
+                    new byte[] {1, 2, 3},
+                    19000,
+                    3_600_123,
+                    TimestampData.fromMillis(1735689600123L),
+                    TimestampData.fromMillis(1735689600123L, 456789),
+                    LocalZonedTimestampData.fromInstant(
+                            Instant.ofEpochSecond(1735689600L, 123456789))
+                };
+        DataChangeEvent insertEvent =
+                DataChangeEvent.insertEvent(TABLE_1, generator.generate(fields));
+        GenericRecord envelope =
+                decode(schema, avroSchema, serializationSchema.serialize(insertEvent));
+        Assertions.assertNull(envelope.get("before"));
+        Assertions.assertEquals("c", envelope.get("op").toString());
+        GenericRecord source = (GenericRecord) envelope.get("source");
+        Assertions.assertEquals("default_schema", source.get("db").toString());
+        Assertions.assertEquals("table1", source.get("table").toString());
+
+        GenericRecord after = (GenericRecord) envelope.get("after");
+        Assertions.assertEquals(1L, after.get("id"));
+        Assertions.assertEquals("naïve 😀", after.get("name").toString());
+        Assertions.assertEquals(true, after.get("flag"));
+        Assertions.assertEquals(-3, after.get("tiny"));
+        Assertions.assertEquals(300, after.get("small"));
+        Assertions.assertEquals(-70000, after.get("score"));
+        Assertions.assertEquals(1.5f, after.get("ratio"));
+        Assertions.assertEquals(-2.25d, after.get("price"));
+        Assertions.assertEquals(
+                new BigDecimal("-12345.67"),
+                new BigDecimal(new BigInteger(toBytes(after.get("amount"))), 2));
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3}, toBytes(after.get("payload")));
+        Assertions.assertEquals(19000, after.get("day"));
+        Assertions.assertEquals(3_600_123, after.get("moment"));
+        Assertions.assertEquals(1735689600123L, after.get("updated_at"));
+        Assertions.assertEquals(1735689600123456L, after.get("created_at"));
+        Assertions.assertEquals(1735689600123456L, after.get("_1st_event"));
+
+        // delete with null fields
+        Object[] nullFields = new Object[fields.length];
+        nullFields[0] = 2L;
+        DataChangeEvent deleteEvent =
+                DataChangeEvent.deleteEvent(TABLE_1, generator.generate(nullFields));
+        envelope = decode(schema, avroSchema, serializationSchema.serialize(deleteEvent));
+        Assertions.assertNull(envelope.get("after"));
+        Assertions.assertEquals("d", envelope.get("op").toString());
+        GenericRecord before = (GenericRecord) envelope.get("before");
+        Assertions.assertEquals(2L, before.get("id"));
+        for (int i = 1; i < fields.length; i++) {
+            Assertions.assertNull(before.get(i));
+        }
+
+        // the schema is regenerated on schema changes
+        AddColumnEvent addColumnEvent =
+                new AddColumnEvent(
+                        TABLE_1,
+                        Collections.singletonList(
+                                new AddColumnEvent.ColumnWithPosition(
+                                        Column.physicalColumn("extra", DataTypes.STRING()))));
+        Assertions.assertNull(serializationSchema.serialize(addColumnEvent));
+        List<Column> evolvedColumns = new ArrayList<>(SCHEMA.getColumns());
+        evolvedColumns.add(Column.physicalColumn("extra", DataTypes.STRING()));
+        Schema evolvedSchema = SCHEMA.copy(evolvedColumns);
+        AvroSchema evolvedAvroSchema =
+                AvroSchemaConverter.createEnvelopeSchema(TABLE_1, evolvedSchema);
+        Assertions.assertNotEquals(avroSchema.getFingerprint(), evolvedAvroSchema.getFingerprint());
+        BinaryRecordDataGenerator evolvedGenerator =
+                new BinaryRecordDataGenerator(
+                        evolvedSchema.getColumnDataTypes().toArray(new DataType[0]));
+        Object[] evolvedFields = Arrays.copyOf(fields, fields.length + 1);
+        evolvedFields[fields.length] = BinaryStringData.fromString("extra");
+        DataChangeEvent updateEvent =
+                DataChangeEvent.updateEvent(
+                        TABLE_1,
+                        evolvedGenerator.generate(evolvedFields),
+                        evolvedGenerator.generate(evolvedFields));
+        envelope =
+                decode(
+                        parse(evolvedAvroSchema),
+                        evolvedAvroSchema,
+                        serializationSchema.serialize(updateEvent));
+        Assertions.assertEquals("u", envelope.get("op").toString());
+        Assertions.assertEquals(
+                "extra", ((GenericRecord) envelope.get("after")).get("extra").toString());
+    }
+
+    @Test
+    public void testSchemaDirectory(@TempDir File tempDir) throws Exception {
+        Configuration configuration = new Configuration();
+        configuration.set(AvroFormatOptions.SCHEMA_DIRECTORY, tempDir.toURI().toString());
+        SerializationSchema<Event> serializationSchema =
+                ChangeLogJsonFormatFactory.createSerializationSchema(
+                        configuration, JsonSerializationType.DEBEZIUM_AVRO, ZoneId.of("UTC"));
+        serializationSchema.open(new MockInitializationContext());
+        serializationSchema.serialize(new CreateTableEvent(TABLE_1, SCHEMA));
+        serializationSchema.serialize(new CreateTableEvent(TABLE_1, SCHEMA));
+
+        AvroSchema avroSchema = AvroSchemaConverter.createEnvelopeSchema(TABLE_1, SCHEMA);
+        String[] files = tempDir.list();
+        Assertions.assertArrayEquals(
+                new String[] {avroSchema.getFingerprintHex() + ".avsc"}, files);
+        Assertions.assertEquals(
+                avroSchema.getJson(),
+                new String(
+                        Files.readAllBytes(new File(tempDir, files[0]).toPath()),
+                        StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testClashingSanitizedNames() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("a-b", DataTypes.INT().notNull())
+                        .physicalColumn("a_b", DataTypes.INT())
+                        .physicalColumn("a.b", DataTypes.INT())
+                        .physicalColumn("a_b_1", DataTypes.INT())
+                        .physicalColumn("TableId", DataTypes.STRING().notNull())
+                        .primaryKey("TableId", "a-b")
+                        .build();
+
+        org.apache.avro.Schema value =
+                parse(AvroSchemaConverter.createEnvelopeSchema(TABLE_1, schema))
+                        .getField("after")
+                        .schema()
+                        .getTypes()
+                        .get(1);
+        Assertions.assertEquals(
+                Arrays.asList("a_b", "a_b_1", "a_b_2", "a_b_1_1", "TableId"), fieldNames(value));
+
+        org.apache.avro.Schema key = parse(AvroSchemaConverter.createKeySchema(TABLE_1, schema));
+        Assertions.assertEquals(Arrays.asList("TableId", "TableId_1", "a_b"), fieldNames(key));
+    }
+
+    @Test
+    public void testNestedTypes() throws Exception {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT().notNull())
+                        .physicalColumn("tags", DataTypes.ARRAY(DataTypes.STRING()))
+                        .physicalColumn(
+                                "scores", DataTypes.ARRAY(DataTypes.BIGINT().notNull()).notNull())
+                        .physicalColumn("attrs", DataTypes.MAP(DataTypes.STRING(), DataTypes.INT()))
+                        .physicalColumn(
+                                "address",
+                                DataTypes.ROW(
+                                        DataTypes.FIELD("street", DataTypes.STRING()),
+                                        DataTypes.FIELD("zip-code", DataTypes.INT())))
+                        .physicalColumn(
+                                "lines",
+                                DataTypes.ARRAY(
+                                        DataTypes.ROW(
+                                                DataTypes.FIELD("sku", DataTypes.STRING()),
+                                                DataTypes.FIELD(
+                                                        "amount", DataTypes.DECIMAL(10, 2)))))
+                        .physicalColumn("matrix", DataTypes.ARRAY(DataTypes.ARRAY(DataTypes.INT())))
+                        .primaryKey("id")
+                        .build();
+        AvroSchema avroSchema = AvroSchemaConverter.createEnvelopeSchema(TABLE_1, schema);
+        org.apache.avro.Schema parsedSchema = parse(avroSchema);
+        org.apache.avro.Schema value = parsedSchema.getField("after").schema().getTypes().get(1);
+        Assertions.assertEquals(
+                "default_namespace.default_schema.table1.Value.addressRecord",
+                value.getField("address").schema().getTypes().get(1).getFullName());
+
+        BinaryRecordDataGenerator addressGenerator =
+                new BinaryRecordDataGenerator(new DataType[] {DataTypes.STRING(), DataTypes.INT()});
+        BinaryRecordDataGenerator lineGenerator =
+                new BinaryRecordDataGenerator(
+                        new DataType[] {DataTypes.STRING(), DataTypes.DECIMAL(10, 2)});
+        Map<Object, Object> attrs = new HashMap<>();
+        attrs.put(BinaryStringData.fromString("a"), 1);
+        attrs.put(BinaryStringData.fromString("b"), null);
+        Object[] fields =
+                new Object[] {
+                    1,
+                    new GenericArrayData(
+                            new Object[] {
+                                BinaryStringData.fromString("x"),
+                                null,
+                                BinaryStringData.fromString("naïve")
+                            }),
+                    new GenericArrayData(new long[] {}),
+                    new GenericMapData(attrs),
+                    addressGenerator.generate(
+                            new Object[] {BinaryStringData.fromString("Main St"), 12345}),
+                    new GenericArrayData(
+                            new Object[] {
+                                lineGenerator.generate(
+                                        new Object[] {
+                                            BinaryStringData.fromString("sku-1"),
+                                            DecimalData.fromBigDecimal(
+                                                    new BigDecimal("9.99"), 10, 2)
+                                        }),
+                                lineGenerator.generate(new Object[] {null, null})
+                            }),
+                    new GenericArrayData(
+                            new Object[] {
+                                new GenericArrayData(new Object[] {1, null}),
+                                new GenericArrayData(new Object[] {})
+                            })
+                };
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(schema.getColumnDataTypes().toArray(new DataType[0]));
+        DebeziumAvroSerializationSchema serializationSchema =
+                new DebeziumAvroSerializationSchema(null);
+        serializationSchema.open(new MockInitializationContext());
+        serializationSchema.serialize(new CreateTableEvent(TABLE_1, schema));
+        GenericRecord after =
+                (GenericRecord)
+                        decode(
+                                        parsedSchema,
+                                        avroSchema,
+                                        serializationSchema.serialize(
+                                                DataChangeEvent.insertEvent(
+                                                        TABLE_1, generator.generate(fields))))
+                                .get("after");
+
+        Assertions.assertEquals(1, after.get("id"));
+        Assertions.assertEquals(
+                Arrays.asList("x", null, "naïve"), toStrings((List<?>) after.get("tags")));
+        Assertions.assertTrue(((List<?>) after.get("scores")).isEmpty());
+        Map<?, ?> decodedAttrs = (Map<?, ?>) after.get("attrs");
+        Assertions.assertEquals(2, decodedAttrs.size());
+        Assertions.assertEquals(1, decodedAttrs.get(new Utf8("a")));
+        Assertions.assertTrue(decodedAttrs.containsKey(new Utf8("b")));
+        Assertions.assertNull(decodedAttrs.get(new Utf8("b")));
+        GenericRecord address = (GenericRecord) after.get("address");
+        Assertions.assertEquals("Main St", address.get("street").toString());
+        Assertions.assertEquals(12345, address.get("zip_code"));
+        List<?> lines = (List<?>) after.get("lines");
+        Assertions.assertEquals(2, lines.size());
+        GenericRecord line = (GenericRecord) lines.get(0);
+        Assertions.assertEquals("sku-1", line.get("sku").toString());
+        Assertions.assertEquals(
+                new BigDecimal("9.99"),
+                new BigDecimal(new BigInteger(toBytes(line.get("amount"))), 2));
+        Assertions.assertNull(((GenericRecord) lines.get(1)).get("sku"));
+        Assertions.assertNull(((GenericRecord) lines.get(1)).get("amount"));
+        List<?> matrix = (List<?>) after.get("matrix");
+        Assertions.assertEquals(2, matrix.size());
+        Assertions.assertEquals(Arrays.asList(1, null), new ArrayList<>((List<?>) matrix.get(0)));
+        Assertions.assertTrue(((List<?>) matrix.get(1)).isEmpty());
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT())
+                        .physicalColumn("ts", DataTypes.TIMESTAMP_TZ(3))
+                        .build();
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> AvroSchemaConverter.createEnvelopeSchema(TABLE_1, schema));
+        Assertions.assertThrows(
+                IllegalArgumentException.class, () -> new RecordDataAvroWriter(schema));
+
+        // the keys of Avro maps are strings
+        Schema mapSchema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT())
+                        .physicalColumn("attrs", DataTypes.MAP(DataTypes.INT(), DataTypes.STRING()))
+                        .build();
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> AvroSchemaConverter.createEnvelopeSchema(TABLE_1, mapSchema));
+    }
+
+    /**
+     * Parses the generated schema with Avro, and checks its parsing canonical form and fingerprint
+     * against the ones of Avro.
+     */
+    static org.apache.avro.Schema parse(AvroSchema avroSchema) {
+        org.apache.avro.Schema schema =
+                new org.apache.avro.Schema.Parser().parse(avroSchema.getJson());
+        Assertions.assertEquals(
+                SchemaNormalization.toParsingForm(schema), avroSchema.getCanonicalForm());
+        Assertions.assertEquals(
+                SchemaNormalization.parsingFingerprint64(schema), avroSchema.getFingerprint());
+        return schema;
+    }
+
+    /** Decodes a single object encoded message, after checking its header. */
+    static GenericRecord decode(
+            org.apache.avro.Schema schema, AvroSchema avroSchema, byte[] message) throws Exception {
+        ByteBuffer header = ByteBuffer.wrap(message, 0, 10).order(ByteOrder.LITTLE_ENDIAN);
+        Assertions.assertEquals((byte) 0xC3, header.get());
+        Assertions.assertEquals((byte) 0x01, header.get());
+        Assertions.assertEquals(avroSchema.getFingerprint(), header.getLong());
+        return new GenericDatumReader<GenericRecord>(schema)
+                .read(
+                        null,
+                        DecoderFactory.get().binaryDecoder(message, 10, message.length - 10, null));
+    }
+
+    private static List<String> fieldNames(org.apache.avro.Schema schema) {
+        List<String> fieldNames = new ArrayList<>();
+        for (org.apache.avro.Schema.Field field : schema.getFields()) {
+            fieldNames.add(field.name());
+        }
+        return fieldNames;
+    }
+
+    private static List<String> toStrings(List<?> values) {
+        List<String> strings = new ArrayList<>();
+        for (Object value : values) {
+            strings.add(value == null ? null : value.toString());
+        }
+        return strings;
+    }
+
+    private static byte[] toBytes(Object value) {
+        ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.json;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.utils.DataTypeUtils;
+import org.apache.flink.cdc.connectors.kafka.utils.JsonRowDataSerializationSchemaUtils;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.flink.formats.common.TimestampFormat;
+import org.apache.flink.formats.json.JsonFormatOptions;
+import org.apache.flink.formats.json.JsonRowDataSerializationSchema;
+import org.apache.flink.table.types.logical.RowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+/** Tests for {@link RecordDataJsonWriter}. */
+public class RecordDataJsonWriterTest {
+
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("col1", DataTypes.STRING().notNull())
+                    .physicalColumn("boolean", DataTypes.BOOLEAN())
+                    .physicalColumn("binary", DataTypes.BINARY(3))
+                    .physicalColumn("varbinary", DataTypes.VARBINARY(10))
+                    .physicalColumn("tinyint", DataTypes.TINYINT())
+                    .physicalColumn("smallint", DataTypes.SMALLINT())
+                    .physicalColumn("int", DataTypes.INT())
+                    .physicalColumn("big_int", DataTypes.BIGINT())
+                    .physicalColumn("float", DataTypes.FLOAT())
+                    .physicalColumn("double", DataTypes.DOUBLE())
+                    .physicalColumn("decimal", DataTypes.DECIMAL(6, 3))
+                    .physicalColumn("big_decimal", DataTypes.DECIMAL(30, 12))
+                    .physicalColumn("char", DataTypes.CHAR(5))
+                    .physicalColumn("varchar", DataTypes.VARCHAR(10))
+                    .physicalColumn("date", DataTypes.DATE())
+                    .physicalColumn("time", DataTypes.TIME())
+                    .physicalColumn("timestamp", DataTypes.TIMESTAMP())
+                    .physicalColumn("timestamp_with_precision", DataTypes.TIMESTAMP(3))
+                    .physicalColumn("timestamp_ltz", DataTypes.TIMESTAMP_LTZ())
+                    .physicalColumn("timestamp_ltz_with_precision", DataTypes.TIMESTAMP_LTZ(3))
+                    .physicalColumn("null_string", DataTypes.STRING())
+                    .physicalColumn("quoted \"name\"", DataTypes.STRING())
+                    .primaryKey("col1")
+                    .build();
+
+    private static final BinaryRecordDataGenerator GENERATOR =
+            new BinaryRecordDataGenerator(SCHEMA.getColumnDataTypes().toArray(new DataType[0]));
+
+    @Test
+    public void testWriteAsJsonRowDataSerializationSchema() throws Exception {
+        List<BinaryRecordData> records =
+                Arrays.asList(
+                        GENERATOR.generate(
+                                new Object[] {
+                                    BinaryStringData.fromString("pk"),
+                                    true,
+                                    new byte[] {1, 2},
+                                    new byte[] {3, 4, -1, -2},
+                                    (byte) 1,
+                                    (short) 2,
+                                    3,
+                                    4L,
+                                    5.1f,
+                                    6.2,
+                                    DecimalData.fromBigDecimal(new BigDecimal("7.120"), 6, 3),
+                                    DecimalData.fromBigDecimal(
+                                            new BigDecimal("0.000000001200"), 30, 12),
+                                    BinaryStringData.fromString("test1"),
+                                    BinaryStringData.fromString("a\"b\\c\nd\te\u0001f/"),
+                                    100,
+                                    3_723_456,
+                                    TimestampData.fromLocalDateTime(
+                                            LocalDateTime.parse("2023-01-01T00:00:00")),
+                                    TimestampData.fromLocalDateTime(
+                                            LocalDateTime.parse("2023-01-01T12:34:56.789")),
+                                    LocalZonedTimestampData.fromInstant(
+                                            Instant.parse("2023-01-01T00:00:00.000Z")),
+                                    LocalZonedTimestampData.fromInstant(
+                                            Instant.parse("2023-01-01T00:00:00.123Z")),
+                                    null,
+                                    BinaryStringData.fromString("中文字符 and 😀")
+                                }),
+                        GENERATOR.generate(
+                                new Object[] {
+                                    BinaryStringData.fromString(""),
+                                    false,
+                                    null,
+                                    new byte[0],
+                                    Byte.MIN_VALUE,
+                                    Short.MAX_VALUE,
+                                    Integer.MIN_VALUE,
+                                    Long.MAX_VALUE,
+                                    Float.NaN,
+                                    Double.NEGATIVE_INFINITY,
+                                    DecimalData.fromBigDecimal(new BigDecimal("0.000"), 6, 3),
+                                    DecimalData.fromBigDecimal(
+                                            new BigDecimal("123456789012345678.000000000000"),
+                                            30,
+                                            12),
+                                    null,
+                                    BinaryStringData.fromString("\u007F\u0080"),
+                                    -1,
+                                    0,
+                                    null,
+                                    TimestampData.fromMillis(-1L),
+                                    null,
+                                    LocalZonedTimestampData.fromEpochMillis(0L),
+                                    null,
+                                    null
+                                }));
+
+        for (TimestampFormat timestampFormat : TimestampFormat.values()) {
+            for (boolean encodeDecimalAsPlainNumber : new boolean[] {true, false}) {
+                for (boolean ignoreNullFields : new boolean[] {true, false}) {
+                    RecordDataJsonWriter writer =
+                            new RecordDataJsonWriter(
+                                    SCHEMA,
+                                    timestampFormat,
+                                    encodeDecimalAsPlainNumber,
+                                    ignoreNullFields);
+                    JsonRowDataSerializationSchema expectedSerializer =
+                            JsonRowDataSerializationSchemaUtils.createSerializationSchema(
+                                    (RowType)
+                                            DataTypeUtils.toFlinkDataType(SCHEMA.toRowDataType())
+                                                    .getLogicalType(),
+                                    timestampFormat,
+                                    JsonFormatOptions.MapNullKeyMode.FAIL,
+                                    "null",
+                                    encodeDecimalAsPlainNumber,
+                                    ignoreNullFields);
+                    expectedSerializer.open(new MockInitializationContext());
+                    TableSchemaInfo tableSchemaInfo =
+                            new TableSchemaInfo(
+                                    TableId.parse("testDatabase.testTable"),
+                                    SCHEMA,
+                                    expectedSerializer,
+                                    ZoneId.of("UTC"));
+
+                    JsonOutputBuffer out = new JsonOutputBuffer(8);
+                    for (BinaryRecordData record : records) {
+                        out.reset();
+                        writer.write(out, record);
+                        Assertions.assertEquals(
+                                new String(
+                                        expectedSerializer.serialize(
+                                                tableSchemaInfo.getRowDataFromRecordData(
+                                                        record, false)),
+                                        StandardCharsets.UTF_8),
+                                new String(out.toByteArray(), StandardCharsets.UTF_8));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT())
+                        .physicalColumn("tags", DataTypes.ARRAY(DataTypes.STRING()))
+                        .build();
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new RecordDataJsonWriter(schema, TimestampFormat.SQL, false, false));
+    }
+}
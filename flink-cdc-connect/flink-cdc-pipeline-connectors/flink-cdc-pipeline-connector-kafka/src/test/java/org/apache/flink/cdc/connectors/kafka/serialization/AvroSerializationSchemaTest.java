@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.serialization;
+
+import org.apache.flink.api.common.serialization.SerializationSchema;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.connectors.kafka.avro.AvroSchema;
+import org.apache.flink.cdc.connectors.kafka.avro.AvroSchemaConverter;
+import org.apache.flink.cdc.connectors.kafka.json.MockInitializationContext;
+import org.apache.flink.cdc.connectors.kafka.sink.KeyFormat;
+import org.apache.flink.cdc.connectors.kafka.sink.KeySerializationFactory;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.flink.configuration.Configuration;
+
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+
+/** Tests for {@link AvroSerializationSchema}. */
+public class AvroSerializationSchemaTest {
+
+    public static final TableId TABLE_1 =
+            TableId.tableId("default_namespace", "default_schema", "table1");
+
+    @Test
+    public void testSerialize() throws Exception {
+        SerializationSchema<Event> serializationSchema =
+                KeySerializationFactory.createSerializationSchema(
+                        new Configuration(), KeyFormat.AVRO, ZoneId.systemDefault());
+        serializationSchema.open(new MockInitializationContext());
+
+        // create table
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("col1", DataTypes.STRING())
+                        .physicalColumn("col2", DataTypes.STRING())
+                        .primaryKey("col1")
+                        .build();
+        CreateTableEvent createTableEvent = new CreateTableEvent(TABLE_1, schema);
+        Assertions.assertNull(serializationSchema.serialize(createTableEvent));
+        AvroSchema avroSchema = AvroSchemaConverter.createKeySchema(TABLE_1, schema);
+        org.apache.avro.Schema keySchema =
+                new org.apache.avro.Schema.Parser().parse(avroSchema.getJson());
+        Assertions.assertEquals(
+                SchemaNormalization.parsingFingerprint64(keySchema), avroSchema.getFingerprint());
+
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(RowType.of(DataTypes.STRING(), DataTypes.STRING()));
+        DataChangeEvent insertEvent =
+                DataChangeEvent.insertEvent(
+                        TABLE_1,
+                        generator.generate(
+                                new Object[] {
+                                    BinaryStringData.fromString("1"),
+                                    BinaryStringData.fromString("x")
+                                }));
+        GenericRecord key = decode(keySchema, serializationSchema.serialize(insertEvent));
+        Assertions.assertEquals(
+                "default_namespace.default_schema.table1", key.get("TableId").toString());
+        Assertions.assertEquals("1", key.get("col1").toString());
+        Assertions.assertNull(key.getSchema().getField("col2"));
+
+        DataChangeEvent deleteEvent =
+                DataChangeEvent.deleteEvent(
+                        TABLE_1,
+                        generator.generate(
+                                new Object[] {
+                                    BinaryStringData.fromString("2"),
+                                    BinaryStringData.fromString("2")
+                                }));
+        key = decode(keySchema, serializationSchema.serialize(deleteEvent));
+        Assertions.assertEquals("2", key.get("col1").toString());
+    }
+
+    private static GenericRecord decode(org.apache.avro.Schema schema, byte[] message)
+            throws Exception {
+        // skip the header of the single object encoding
+        return new GenericDatumReader<GenericRecord>(schema)
+                .read(
+                        null,
+                        DecoderFactory.get().binaryDecoder(message, 10, message.length - 10, null));
+    }
+}
@@ -85,6 +85,7 @@ public class MaxComputeDataSinkFactory implements DataSinkFactory {
                                 factoryConfiguration.get(
                                         MaxComputeDataSinkOptions.BUCKET_BUFFER_SIZE))
                         .getBytes();
+        int numUpsertStream = factoryConfiguration.get(MaxComputeDataSinkOptions.UPSERT_STREAM_NUM);
 
         return MaxComputeWriteOptions.builder()
                 .withNumCommitThread(numCommitThread)
@@ -92,6 +93,7 @@ public class MaxComputeDataSinkFactory implements DataSinkFactory {
                 .withFlushConcurrent(flushConcurrent)
                 .withMaxBufferSize(maxBufferSize)
                 .withSlotBufferSize(maxSlotSize)
+                .withNumUpsertStream(numUpsertStream)
                 .build();
     }
 
@@ -124,6 +126,7 @@ public class MaxComputeDataSinkFactory implements DataSinkFactory {
         optionalOptions.add(MaxComputeDataSinkOptions.FLUSH_CONCURRENT_NUM);
         optionalOptions.add(MaxComputeDataSinkOptions.TOTAL_BUFFER_SIZE);
         optionalOptions.add(MaxComputeDataSinkOptions.BUCKET_BUFFER_SIZE);
+        optionalOptions.add(MaxComputeDataSinkOptions.UPSERT_STREAM_NUM);
 
         return optionalOptions;
     }
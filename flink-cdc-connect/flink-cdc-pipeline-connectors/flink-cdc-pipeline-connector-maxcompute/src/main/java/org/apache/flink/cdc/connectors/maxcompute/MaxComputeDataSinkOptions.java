@@ -107,4 +107,12 @@ public class MaxComputeDataSinkOptions {
                     .intType()
                     .defaultValue(4)
                     .withDescription("The number of concurrent with flush bucket data.");
+
+    public static final ConfigOption<Integer> UPSERT_STREAM_NUM =
+            ConfigOptions.key("upsert.stream-num")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of upsert streams opened by each sink writer for a session of a Delta table. "
+                                    + "The records are distributed to the streams by their buckets, and each stream is written and flushed by its own thread.");
 }
@@ -28,6 +28,7 @@ public class MaxComputeWriteOptions implements Serializable {
     private final long slotBufferSize;
     private final int numCommitThread;
     private final String compressAlgorithm;
+    private final int numUpsertStream;
 
     private MaxComputeWriteOptions(Builder builder) {
         this.flushConcurrent = builder.flushConcurrent;
@@ -35,6 +36,7 @@ public class MaxComputeWriteOptions implements Serializable {
         this.slotBufferSize = builder.slotBufferSize;
         this.numCommitThread = builder.numCommitThread;
         this.compressAlgorithm = builder.compressAlgorithm.getValue();
+        this.numUpsertStream = builder.numUpsertStream;
     }
 
     public static Builder builder() {
@@ -61,6 +63,10 @@ public class MaxComputeWriteOptions implements Serializable {
         return compressAlgorithm;
     }
 
+    public int getNumUpsertStream() {
+        return numUpsertStream;
+    }
+
     /** builder for maxcompute write options. */
     public static class Builder {
         private int flushConcurrent = 2;
@@ -68,6 +74,7 @@ public class MaxComputeWriteOptions implements Serializable {
         private long slotBufferSize = 1024 * 1024L;
         private int numCommitThread = 16;
         private CompressAlgorithm compressAlgorithm = CompressAlgorithm.ZLIB;
+        private int numUpsertStream = 1;
 
         public Builder withFlushConcurrent(int flushConcurrent) {
             this.flushConcurrent = flushConcurrent;
@@ -94,6 +101,11 @@ public class MaxComputeWriteOptions implements Serializable {
             return this;
         }
 
+        public Builder withNumUpsertStream(int numUpsertStream) {
+            this.numUpsertStream = numUpsertStream;
+            return this;
+        }
+
         public MaxComputeWriteOptions build() {
             return new MaxComputeWriteOptions(this);
         }
@@ -44,6 +44,7 @@ import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.OperationType;
 import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.function.HashFunction;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
 import org.apache.flink.cdc.connectors.maxcompute.common.Constant;
@@ -58,6 +59,7 @@ import org.apache.flink.cdc.connectors.maxcompute.utils.TypeConvertUtils;
 import org.apache.flink.cdc.connectors.maxcompute.writer.MaxComputeWriter;
 import org.apache.flink.cdc.runtime.operators.schema.common.CoordinationResponseUtils;
 import org.apache.flink.runtime.operators.coordination.CoordinationResponse;
+import org.apache.flink.util.ExceptionUtils;
 import org.apache.flink.util.Preconditions;
 
 import com.aliyun.odps.data.ArrayRecord;
@@ -81,6 +83,7 @@ public class MaxComputeEventWriter implements SinkWriter<Event> {
     private final MaxComputeWriteOptions writeOptions;
     private final Map<String, MaxComputeWriter> writerMap;
     private final Map<TableId, Schema> schemaCache;
+    private final Map<TableId, HashFunction<DataChangeEvent>> bucketFunctions;
 
     public MaxComputeEventWriter(
             MaxComputeOptions options,
@@ -92,6 +95,7 @@ public class MaxComputeEventWriter implements SinkWriter<Event> {
 
         this.writerMap = new HashMap<>();
         this.schemaCache = new HashMap<>();
+        this.bucketFunctions = new HashMap<>();
     }
 
     @Override
@@ -118,32 +122,52 @@ public class MaxComputeEventWriter implements SinkWriter<Event> {
             }
             MaxComputeWriter writer = writerMap.get(sessionId);
             ArrayRecord record = writer.newElement();
+            int bucket = bucketOf(dataChangeEvent);
 
             if (dataChangeEvent.op() != OperationType.DELETE) {
                 TypeConvertUtils.toMaxComputeRecord(
                         schemaCache.get(dataChangeEvent.tableId()),
                         dataChangeEvent.after(),
                         record);
-                writer.write(record);
+                writer.write(record, bucket);
             } else {
                 TypeConvertUtils.toMaxComputeRecord(
                         schemaCache.get(dataChangeEvent.tableId()),
                         dataChangeEvent.before(),
                         record);
-                writer.delete(record);
+                writer.delete(record, bucket);
             }
         } else if (element instanceof CreateTableEvent) {
             CreateTableEvent createTableEvent = (CreateTableEvent) element;
             schemaCache.put(createTableEvent.tableId(), createTableEvent.getSchema());
+            bucketFunctions.remove(createTableEvent.tableId());
         } else if (element instanceof SchemaChangeEvent) {
             SchemaChangeEvent schemaChangeEvent = (SchemaChangeEvent) element;
             TableId tableId = schemaChangeEvent.tableId();
             Schema newSchema =
                     SchemaUtils.applySchemaChangeEvent(schemaCache.get(tableId), schemaChangeEvent);
             schemaCache.put(tableId, newSchema);
+            bucketFunctions.remove(tableId);
         }
     }
 
+    /**
+     * Returns the bucket of the record, which is only required when the records of a session are
+     * written to several upsert streams.
+     */
+    private int bucketOf(DataChangeEvent dataChangeEvent) {
+        if (writeOptions.getNumUpsertStream() <= 1) {
+            return 0;
+        }
+        return bucketFunctions
+                .computeIfAbsent(
+                        dataChangeEvent.tableId(),
+                        tableId ->
+                                new MaxComputeHashFunctionProvider.MaxComputeHashFunction(
+                                        schemaCache.get(tableId), options.getBucketsNum()))
+                .hashcode(dataChangeEvent);
+    }
+
     @Override
     public void flush(boolean endOfInput) throws IOException, InterruptedException {
         SessionManageOperator operator = SessionManageOperator.instance;
@@ -189,6 +213,18 @@ public class MaxComputeEventWriter implements SinkWriter<Event> {
 
     @Override
     public void close() throws Exception {
-        // do nothing
+        Exception exception = null;
+        for (Map.Entry<String, MaxComputeWriter> entry : writerMap.entrySet()) {
+            try {
+                entry.getValue().close();
+            } catch (Exception e) {
+                LOG.warn("Failed to close the writer of session {}.", entry.getKey(), e);
+                exception = ExceptionUtils.firstOrSuppressed(e, exception);
+            }
+        }
+        writerMap.clear();
+        if (exception != null) {
+            throw exception;
+        }
     }
 }
@@ -136,4 +136,10 @@ public class BatchAppendWriter implements MaxComputeWriter {
             throw new IOException(e);
         }
     }
+
+    @Override
+    public void close() throws IOException {
+        // The upload session holds no connection, and closing the buffered writer would upload the
+        // buffered records as a block of the uncommitted session, so they are simply discarded
+    }
 }
@@ -23,6 +23,8 @@ import org.apache.flink.cdc.connectors.maxcompute.common.UncheckedOdpsException;
 import org.apache.flink.cdc.connectors.maxcompute.options.MaxComputeOptions;
 import org.apache.flink.cdc.connectors.maxcompute.options.MaxComputeWriteOptions;
 import org.apache.flink.cdc.connectors.maxcompute.utils.MaxComputeUtils;
+import org.apache.flink.util.ExceptionUtils;
+import org.apache.flink.util.concurrent.ExecutorThreadFactory;
 
 import com.aliyun.odps.OdpsException;
 import com.aliyun.odps.data.ArrayRecord;
@@ -34,22 +36,42 @@ import com.aliyun.odps.tunnel.streams.UpsertStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * MaxCompute upsert writer, use {@link UpsertSessionImpl} and {@link UpsertStream} to write data.
- * Each session corresponds to a stream.
+ * Each session corresponds to one stream by default. When more streams are configured, the records
+ * are distributed to the streams by their buckets, and every stream is written and flushed by its
+ * own thread, so that the encoding and the flushing of the streams overlap with each other and with
+ * the ingestion. A flush waits for all the streams, so the session is still committed only after
+ * all its records are flushed.
  */
 public class BatchUpsertWriter implements MaxComputeWriter {
 
     private static final Logger LOG = LoggerFactory.getLogger(BatchUpsertWriter.class);
 
+    /** The max number of records which are waiting to be written to an asynchronous stream. */
+    private static final int MAX_PENDING_RECORDS_PER_STREAM = 1024;
+
     private final MaxComputeOptions options;
     private final MaxComputeWriteOptions writeOptions;
     private final SessionIdentifier sessionIdentifier;
     private final TableTunnel tunnel;
+    private final AtomicReference<Throwable> asyncFailure;
     private UpsertSessionImpl upsertSession;
-    private UpsertStream upsertStream;
+    private UpsertStreamSlot[] streamSlots;
 
     public BatchUpsertWriter(
             MaxComputeOptions options,
@@ -61,6 +83,7 @@ public class BatchUpsertWriter implements MaxComputeWriter {
 
         this.tunnel = MaxComputeUtils.getTunnel(options, writeOptions);
         this.sessionIdentifier = sessionIdentifier;
+        this.asyncFailure = new AtomicReference<>();
 
         initOrReloadSession(sessionIdentifier);
     }
@@ -79,21 +102,48 @@ public class BatchUpsertWriter implements MaxComputeWriter {
                             .setUpsertId(sessionId)
                             .setConcurrentNum(writeOptions.getFlushConcurrent())
                             .build();
-            this.upsertStream =
-                    upsertSession
-                            .buildUpsertStream()
-                            .setListener(new UpsertStreamListener(upsertSession))
-                            .setMaxBufferSize(writeOptions.getMaxBufferSize())
-                            .setSlotBufferSize(writeOptions.getSlotBufferSize())
-                            .setCompressOption(
-                                    MaxComputeUtils.compressOptionOf(
-                                            writeOptions.getCompressAlgorithm()))
-                            .build();
+            // The streams are built on demand, as the coordinator only reloads the session to
+            // commit it
+            this.streamSlots = new UpsertStreamSlot[Math.max(1, writeOptions.getNumUpsertStream())];
         } catch (OdpsException e) {
             throw new UncheckedOdpsException(e);
         }
     }
 
+    private UpsertStream buildUpsertStream() throws OdpsException, IOException {
+        return upsertSession
+                .buildUpsertStream()
+                .setListener(new UpsertStreamListener(upsertSession))
+                .setMaxBufferSize(writeOptions.getMaxBufferSize())
+                .setSlotBufferSize(writeOptions.getSlotBufferSize())
+                .setCompressOption(
+                        MaxComputeUtils.compressOptionOf(writeOptions.getCompressAlgorithm()))
+                .build();
+    }
+
+    private UpsertStreamSlot slotOf(int bucket) throws IOException {
+        int index = Math.floorMod(bucket, streamSlots.length);
+        if (streamSlots[index] == null) {
+            try {
+                streamSlots[index] = new UpsertStreamSlot(buildUpsertStream(), index, isAsync());
+            } catch (OdpsException e) {
+                throw new IOException(e.getMessage() + "RequestId: " + e.getRequestId(), e);
+            }
+        }
+        return streamSlots[index];
+    }
+
+    private boolean isAsync() {
+        return streamSlots.length > 1;
+    }
+
+    private void checkAsyncFailure() throws IOException {
+        Throwable failure = asyncFailure.get();
+        if (failure != null) {
+            throw new IOException("Failed to write records to the upsert stream.", failure);
+        }
+    }
+
     @Override
     public SessionIdentifier getSessionIdentifier() {
         return sessionIdentifier;
@@ -106,28 +156,64 @@ public class BatchUpsertWriter implements MaxComputeWriter {
 
     @Override
     public void write(ArrayRecord record) throws IOException {
-        try {
-            upsertStream.upsert(record);
-        } catch (OdpsException e) {
-            throw new IOException(e.getMessage() + "RequestId: " + e.getRequestId(), e);
-        }
+        write(record, 0);
+    }
+
+    @Override
+    public void write(ArrayRecord record, int bucket) throws IOException {
+        slotOf(bucket).execute(upsertStream -> upsertStream.upsert(record));
     }
 
     @Override
     public void delete(ArrayRecord record) throws IOException {
-        try {
-            upsertStream.delete(record);
-        } catch (OdpsException e) {
-            throw new IOException(e.getMessage() + "RequestId: " + e.getRequestId(), e);
-        }
+        delete(record, 0);
+    }
+
+    @Override
+    public void delete(ArrayRecord record, int bucket) throws IOException {
+        slotOf(bucket).execute(upsertStream -> upsertStream.delete(record));
     }
 
     @Override
     public void flush() throws IOException {
+        if (!isAsync()) {
+            if (streamSlots[0] != null) {
+                streamSlots[0].execute(UpsertStream::flush);
+            }
+            return;
+        }
+
+        List<CompletableFuture<Void>> flushFutures = new ArrayList<>(streamSlots.length);
+        for (UpsertStreamSlot slot : streamSlots) {
+            if (slot != null) {
+                flushFutures.add(slot.flushAsync());
+            }
+        }
         try {
-            upsertStream.flush();
-        } catch (OdpsException e) {
-            throw new IOException(e.getMessage() + "RequestId: " + e.getRequestId(), e);
+            CompletableFuture.allOf(flushFutures.toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while flushing the upsert streams.");
+        } catch (ExecutionException e) {
+            // A failed write is the root cause of a failed flush, so it is reported first
+            checkAsyncFailure();
+            throw new IOException(
+                    "Failed to flush the upsert streams.",
+                    ExceptionUtils.stripException(e.getCause(), UncheckedIOException.class));
+        } finally {
+            // The writer is discarded once it is flushed, the threads of the streams are released
+            // and the streams are rebuilt if more records are written
+            closeStreamSlots();
+        }
+        checkAsyncFailure();
+    }
+
+    private void closeStreamSlots() {
+        for (int i = 0; i < streamSlots.length; i++) {
+            if (streamSlots[i] != null) {
+                streamSlots[i].close();
+                streamSlots[i] = null;
+            }
         }
     }
 
@@ -146,6 +232,98 @@ public class BatchUpsertWriter implements MaxComputeWriter {
         }
     }
 
+    @Override
+    public void close() throws IOException {
+        // The pending records are dropped, the session is left uncommitted and the coordinator
+        // decides whether to commit it
+        closeStreamSlots();
+        upsertSession.close();
+    }
+
+    /** Writes to an {@link UpsertStream}. */
+    @FunctionalInterface
+    private interface UpsertStreamOperation {
+        void apply(UpsertStream upsertStream) throws OdpsException, IOException;
+    }
+
+    /**
+     * An {@link UpsertStream} of the session. The operations of an asynchronous stream are applied
+     * in order by its own thread, and at most {@link #MAX_PENDING_RECORDS_PER_STREAM} records are
+     * waiting to be written to it.
+     */
+    private class UpsertStreamSlot {
+        private final UpsertStream upsertStream;
+        @Nullable private final ExecutorService executor;
+        @Nullable private final Semaphore pendingRecords;
+
+        UpsertStreamSlot(UpsertStream upsertStream, int index, boolean async) {
+            this.upsertStream = upsertStream;
+            this.executor =
+                    async
+                            ? Executors.newSingleThreadExecutor(
+                                    new ExecutorThreadFactory(
+                                            "maxcompute-upsert-stream-"
+                                                    + sessionIdentifier.getTable()
+                                                    + "-"
+                                                    + index))
+                            : null;
+            this.pendingRecords = async ? new Semaphore(MAX_PENDING_RECORDS_PER_STREAM) : null;
+        }
+
+        void execute(UpsertStreamOperation operation) throws IOException {
+            if (executor == null) {
+                apply(operation);
+                return;
+            }
+            checkAsyncFailure();
+            try {
+                pendingRecords.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while writing to the upsert stream.");
+            }
+            executor.execute(
+                    () -> {
+                        try {
+                            // Skip the remaining records once the session has failed
+                            if (asyncFailure.get() == null) {
+                                apply(operation);
+                            }
+                        } catch (Throwable t) {
+                            asyncFailure.compareAndSet(null, t);
+                        } finally {
+                            pendingRecords.release();
+                        }
+                    });
+        }
+
+        CompletableFuture<Void> flushAsync() {
+            return CompletableFuture.runAsync(
+                    () -> {
+                        try {
+                            apply(UpsertStream::flush);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    },
+                    executor);
+        }
+
+        void close() {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+
+        private void apply(UpsertStreamOperation operation) throws IOException {
+            try {
+                operation.apply(upsertStream);
+            } catch (OdpsException e) {
+                throw new IOException(e.getMessage() + "RequestId: " + e.getRequestId(), e);
+            }
+        }
+    }
+
     static class UpsertStreamListener extends UpsertSessionImpl.DefaultUpsertSteamListener {
 
         public UpsertStreamListener(UpsertSessionImpl session) {
@@ -48,11 +48,27 @@ public interface MaxComputeWriter {
 
     void write(ArrayRecord record) throws IOException;
 
+    /**
+     * Writes a record of the given bucket. The records of the same bucket are written in order,
+     * while the writer may write the records of different buckets in parallel.
+     */
+    default void write(ArrayRecord record, int bucket) throws IOException {
+        write(record);
+    }
+
     void delete(ArrayRecord record) throws IOException;
 
+    /** Deletes a record of the given bucket, see {@link #write(ArrayRecord, int)}. */
+    default void delete(ArrayRecord record, int bucket) throws IOException {
+        delete(record);
+    }
+
     void flush() throws IOException;
 
     void commit() throws IOException;
 
     String getId();
+
+    /** Releases the resources of the writer, the records which are not flushed are discarded. */
+    void close() throws IOException;
 }
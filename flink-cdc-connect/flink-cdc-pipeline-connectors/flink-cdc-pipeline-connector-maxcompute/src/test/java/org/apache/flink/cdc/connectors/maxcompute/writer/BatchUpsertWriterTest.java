@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.maxcompute.writer;
+
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.connectors.maxcompute.EmulatorTestBase;
+import org.apache.flink.cdc.connectors.maxcompute.common.SessionIdentifier;
+import org.apache.flink.cdc.connectors.maxcompute.options.MaxComputeWriteOptions;
+import org.apache.flink.cdc.connectors.maxcompute.utils.SchemaEvolutionUtils;
+
+import com.aliyun.odps.Instance;
+import com.aliyun.odps.OdpsException;
+import com.aliyun.odps.data.ArrayRecord;
+import com.aliyun.odps.data.Record;
+import com.aliyun.odps.task.SQLTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * e2e test of {@link BatchUpsertWriter} writing a session through several upsert streams, the
+ * records are read back after the session is committed.
+ */
+class BatchUpsertWriterTest extends EmulatorTestBase {
+
+    private static final String TEST_TABLE = "BATCH_UPSERT_WRITER_TEST_TABLE";
+
+    private static final int NUM_KEYS = 200;
+
+    @BeforeEach
+    void createTable() throws OdpsException {
+        SchemaEvolutionUtils.createTable(
+                testOptions,
+                TableId.tableId(TEST_TABLE),
+                Schema.newBuilder()
+                        .physicalColumn("PK", DataTypes.BIGINT())
+                        .physicalColumn("VAL", DataTypes.BIGINT())
+                        .primaryKey("PK")
+                        .build());
+    }
+
+    @AfterEach
+    void deleteTable() throws OdpsException {
+        odps.tables().delete(TEST_TABLE, true);
+    }
+
+    @Test
+    void testFlushWaitsForAllStreams() throws Exception {
+        MaxComputeWriteOptions writeOptions =
+                MaxComputeWriteOptions.builder()
+                        .withNumUpsertStream(4)
+                        .withSlotBufferSize(1024)
+                        .build();
+        BatchUpsertWriter coordinatorWriter = createSession(writeOptions);
+        BatchUpsertWriter writer = reloadSession(writeOptions, coordinatorWriter.getId());
+
+        // every key is updated several times and some keys are deleted at last, the operations
+        // of a key are routed to the same stream and must be applied in order
+        Map<Long, Long> expected = new HashMap<>();
+        for (int round = 0; round < 3; round++) {
+            for (long key = 0; key < NUM_KEYS; key++) {
+                long value = key * 10 + round;
+                writer.write(record(writer, key, value), (int) key);
+                expected.put(key, value);
+            }
+        }
+        for (long key = 0; key < NUM_KEYS; key += 7) {
+            writer.delete(record(writer, key, 0L), (int) key);
+            expected.remove(key);
+        }
+
+        // the session is committed right after the flush, so the records of all the streams must
+        // have been flushed when it returns
+        writer.flush();
+        coordinatorWriter.commit();
+        writer.close();
+
+        Assertions.assertEquals(expected, readTable());
+    }
+
+    @Test
+    void testConcurrentWritersOfOneSession() throws Exception {
+        MaxComputeWriteOptions writeOptions =
+                MaxComputeWriteOptions.builder().withNumUpsertStream(2).build();
+        BatchUpsertWriter coordinatorWriter = createSession(writeOptions);
+
+        // the sink subtasks reload the same session and write disjoint keys concurrently
+        int numWriters = 3;
+        List<BatchUpsertWriter> writers = new ArrayList<>();
+        for (int i = 0; i < numWriters; i++) {
+            writers.add(reloadSession(writeOptions, coordinatorWriter.getId()));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(numWriters);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < numWriters; i++) {
+                BatchUpsertWriter writer = writers.get(i);
+                int subtask = i;
+                futures.add(
+                        CompletableFuture.runAsync(
+                                () -> {
+                                    try {
+                                        for (long key = subtask;
+                                                key < NUM_KEYS;
+                                                key += numWriters) {
+                                            writer.write(record(writer, key, key), (int) key);
+                                        }
+                                        writer.flush();
+                                    } catch (Exception e) {
+                                        throw new RuntimeException(e);
+                                    }
+                                },
+                                executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        } finally {
+            executor.shutdownNow();
+        }
+        coordinatorWriter.commit();
+        for (BatchUpsertWriter writer : writers) {
+            writer.close();
+        }
+
+        Map<Long, Long> expected = new HashMap<>();
+        for (long key = 0; key < NUM_KEYS; key++) {
+            expected.put(key, key);
+        }
+        Assertions.assertEquals(expected, readTable());
+    }
+
+    private BatchUpsertWriter createSession(MaxComputeWriteOptions writeOptions) throws Exception {
+        return new BatchUpsertWriter(
+                testOptions,
+                writeOptions,
+                SessionIdentifier.of(testOptions.getProject(), null, TEST_TABLE, null));
+    }
+
+    private BatchUpsertWriter reloadSession(MaxComputeWriteOptions writeOptions, String sessionId)
+            throws Exception {
+        return new BatchUpsertWriter(
+                testOptions,
+                writeOptions,
+                SessionIdentifier.of(testOptions.getProject(), null, TEST_TABLE, null, sessionId));
+    }
+
+    private static ArrayRecord record(BatchUpsertWriter writer, long key, long value) {
+        ArrayRecord record = writer.newElement();
+        record.set(0, key);
+        record.set(1, value);
+        return record;
+    }
+
+    private Map<Long, Long> readTable() throws OdpsException {
+        Instance instance = SQLTask.run(odps, "SELECT PK, VAL FROM " + TEST_TABLE + ";");
+        instance.waitForSuccess();
+        Map<Long, Long> rows = new HashMap<>();
+        for (Record record : SQLTask.getResult(instance)) {
+            rows.put(record.getBigint(0), record.getBigint(1));
+        }
+        return rows;
+    }
+}
@@ -321,4 +321,21 @@ public class MySqlDataSourceOptions {
                     .defaultValue(false)
                     .withDescription(
                             "Whether to assign the unbounded chunks first during snapshot reading phase. This might help reduce the risk of the TaskManager experiencing an out-of-memory (OOM) error when taking a snapshot of the largest unbounded chunk.  Defaults to false.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.spill-threshold")
+                    .intType()
+                    .defaultValue(Integer.MAX_VALUE)
+                    .withDescription(
+                            "The maximum number of records of a snapshot chunk kept in memory while merging the binlog events of the chunk, the following records are spilled to the local temporary directory. This might help reduce the risk of the TaskManager experiencing an out-of-memory (OOM) error when reading large chunks. By default all the records are kept in memory.");
+
+    @Experimental
+    public static final ConfigOption<Integer>
+            SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTING_PARALLELISM =
+                    ConfigOptions.key("scan.incremental.snapshot.chunk.splitting-parallelism")
+                            .intType()
+                            .defaultValue(1)
+                            .withDescription(
+                                    "The number of tables split into chunks concurrently during snapshot reading phase, each with its own connection to the database. The chunks are still assigned in the order of the tables. This might help reduce the time to start reading when capturing many tables. Defaults to 1.");
 }
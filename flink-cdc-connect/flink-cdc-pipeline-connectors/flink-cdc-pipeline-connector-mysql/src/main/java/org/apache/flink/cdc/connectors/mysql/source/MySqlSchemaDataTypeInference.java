@@ -32,14 +32,27 @@ public class MySqlSchemaDataTypeInference extends DebeziumSchemaDataTypeInferenc
 
     private static final long serialVersionUID = 1L;
 
+    @Override
+    public boolean isValueDependent(Schema schema) {
+        if (isGeometry(schema)) {
+            return false;
+        }
+        return isValueDependentByDefault(schema);
+    }
+
+    @Override
     protected DataType inferStruct(Object value, Schema schema) {
         // the Geometry datatype in MySQL will be converted to
         // a String with Json format
-        if (Point.LOGICAL_NAME.equals(schema.name())
-                || Geometry.LOGICAL_NAME.equals(schema.name())) {
+        if (isGeometry(schema)) {
             return DataTypes.STRING();
         } else {
             return super.inferStruct(value, schema);
         }
     }
+
+    private static boolean isGeometry(Schema schema) {
+        return Point.LOGICAL_NAME.equals(schema.name())
+                || Geometry.LOGICAL_NAME.equals(schema.name());
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.starrocks.sink;
+
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.utils.Preconditions;
+
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Writes the {@link RecordData} of a specific {@link Schema} as a JSON row of stream load, followed
+ * by the {@code __op} column. The field names are encoded and the writers of the fields are created
+ * once per schema, and the fields are written directly from the record without any intermediate
+ * map.
+ *
+ * <p>The rows are the same as the ones written by {@code JsonWrapper} from the fields of {@link
+ * StarRocksUtils#createFieldGetter}: the null fields are omitted, and the NaN and infinite floating
+ * points are written as null.
+ */
+class StarRocksJsonRowWriter {
+
+    private static final String OP_FIELD = "\"__op\":";
+
+    private final Schema schema;
+
+    private final String[] encodedFieldNames;
+
+    private final FieldWriter[] fieldWriters;
+
+    private final StringBuilder reuseBuilder = new StringBuilder(256);
+
+    StarRocksJsonRowWriter(Schema schema, ZoneId zoneId) {
+        this.schema = schema;
+        List<Column> columns = schema.getColumns();
+        this.encodedFieldNames = new String[columns.size()];
+        this.fieldWriters = new FieldWriter[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            StringBuilder encodedFieldName = new StringBuilder();
+            appendJsonString(encodedFieldName, columns.get(i).getName());
+            encodedFieldNames[i] = encodedFieldName.append(':').toString();
+            fieldWriters[i] = createFieldWriter(columns.get(i).getType(), i, zoneId);
+        }
+    }
+
+    Schema getSchema() {
+        return schema;
+    }
+
+    /** Writes the record as a JSON row, whose {@code __op} is 1 for deletes or 0 for upserts. */
+    String write(RecordData record, boolean isDelete) {
+        Preconditions.checkArgument(fieldWriters.length == record.getArity());
+        StringBuilder out = reuseBuilder;
+        out.setLength(0);
+        out.append('{');
+        for (int i = 0; i < fieldWriters.length; i++) {
+            if (record.isNullAt(i)) {
+                continue;
+            }
+            out.append(encodedFieldNames[i]);
+            fieldWriters[i].write(out, record);
+            out.append(',');
+        }
+        out.append(OP_FIELD).append(isDelete ? '1' : '0').append('}');
+        return out.toString();
+    }
+
+    private static FieldWriter createFieldWriter(DataType fieldType, int fieldPos, ZoneId zoneId) {
+        // Also validates the type, and formats the temporal types and decimals
+        RecordData.FieldGetter fieldGetter =
+                StarRocksUtils.createFieldGetter(fieldType, fieldPos, zoneId);
+        // ordered by type root definition
+        switch (fieldType.getTypeRoot()) {
+            case BOOLEAN:
+                return (out, record) -> out.append(record.getBoolean(fieldPos));
+            case TINYINT:
+                return (out, record) -> out.append(record.getByte(fieldPos));
+            case SMALLINT:
+                return (out, record) -> out.append(record.getShort(fieldPos));
+            case INTEGER:
+                return (out, record) -> out.append(record.getInt(fieldPos));
+            case BIGINT:
+                return (out, record) -> out.append(record.getLong(fieldPos));
+            case FLOAT:
+                return (out, record) -> {
+                    float value = record.getFloat(fieldPos);
+                    out.append(Float.isFinite(value) ? Float.toString(value) : "null");
+                };
+            case DOUBLE:
+                return (out, record) -> {
+                    double value = record.getDouble(fieldPos);
+                    out.append(Double.isFinite(value) ? Double.toString(value) : "null");
+                };
+            case DECIMAL:
+                return (out, record) -> out.append(fieldGetter.getFieldOrNull(record));
+            default:
+                return (out, record) ->
+                        appendJsonString(out, (String) fieldGetter.getFieldOrNull(record));
+        }
+    }
+
+    /** Appends a quoted JSON string, with the quotes, backslashes and control chars escaped. */
+    static void appendJsonString(StringBuilder out, String str) {
+        out.append('"');
+        for (int i = 0; i < str.length(); i++) {
+            char ch = str.charAt(i);
+            switch (ch) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\b':
+                    out.append("\\b");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\f':
+                    out.append("\\f");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                default:
+                    if (ch < 0x20) {
+                        out.append("\\u00")
+                                .append(Character.forDigit(ch >> 4, 16))
+                                .append(Character.forDigit(ch & 0xF, 16));
+                    } else {
+                        out.append(ch);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+    /** Writes a non-null field of a record as a JSON value. */
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(StringBuilder out, RecordData record);
+    }
+}
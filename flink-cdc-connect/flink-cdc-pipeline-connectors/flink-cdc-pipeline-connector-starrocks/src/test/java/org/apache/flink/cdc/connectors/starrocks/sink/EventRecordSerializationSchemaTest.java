@@ -61,6 +61,7 @@ import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMap
 import com.starrocks.connector.flink.table.data.StarRocksRowData;
 import com.starrocks.connector.flink.table.sink.StarRocksSinkOptions;
 import com.starrocks.connector.flink.table.sink.v2.DefaultStarRocksSinkContext;
+import com.starrocks.connector.flink.tools.JsonWrapper;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -261,6 +262,51 @@ public class EventRecordSerializationSchemaTest {
                 Objects.requireNonNull(serializer.serialize(insertEvent3)));
     }
 
+    @Test
+    public void testNullAndEscapedFields() throws Exception {
+        TableId table = TableId.parse("test.tbl3");
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("col1", new IntType())
+                        .physicalColumn("col2", new VarCharType(20))
+                        .physicalColumn("col3", new FloatType())
+                        .physicalColumn("col4", new DecimalType(20, 5))
+                        .primaryKey("col1")
+                        .build();
+        assertNull(serializer.serialize(new CreateTableEvent(table, schema)));
+
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(schema.getColumnDataTypes().toArray(new DataType[0]));
+        DataChangeEvent insertEvent =
+                DataChangeEvent.insertEvent(
+                        table,
+                        generator.generate(
+                                new Object[] {
+                                    1,
+                                    BinaryStringData.fromString("a \"b\"\\\n\u0001"),
+                                    Float.NaN,
+                                    null
+                                }));
+        StarRocksRowData rowData = serializer.serialize(insertEvent);
+        // the null fields are omitted and NaN is written as null, as JsonWrapper does
+        assertEquals(
+                "{\"col1\":1,\"col2\":\"a \\\"b\\\"\\\\\\n\\u0001\",\"col3\":null,\"__op\":0}",
+                rowData.getRow());
+        verifySerializeResult(
+                table,
+                new JsonWrapper()
+                        .toJSONString(
+                                new TreeMap<String, Object>() {
+                                    {
+                                        put("col1", 1);
+                                        put("col2", "a \"b\"\\\n\u0001");
+                                        put("col3", Float.NaN);
+                                        put("__op", 0);
+                                    }
+                                }),
+                rowData);
+    }
+
     private void verifySerializeResult(
             TableId expectTable, String expectRow, StarRocksRowData actualRowData)
             throws Exception {
@@ -27,6 +27,7 @@ import org.apache.flink.cdc.common.sink.DataSink;
 import org.apache.flink.cdc.common.source.DataSource;
 import org.apache.flink.cdc.connectors.values.sink.ValuesDataSink;
 import org.apache.flink.cdc.connectors.values.sink.ValuesDataSinkOptions;
+import org.apache.flink.cdc.connectors.values.source.ValuesDataGeneratorConfig;
 import org.apache.flink.cdc.connectors.values.source.ValuesDataSource;
 import org.apache.flink.cdc.connectors.values.source.ValuesDataSourceHelper;
 import org.apache.flink.cdc.connectors.values.source.ValuesDataSourceOptions;
@@ -45,6 +46,10 @@ public class ValuesDataFactory implements DataSourceFactory, DataSinkFactory {
         FactoryHelper.createFactoryHelper(this, context).validate();
         ValuesDataSourceHelper.EventSetId eventType =
                 context.getFactoryConfiguration().get(ValuesDataSourceOptions.EVENT_SET_ID);
+        if (eventType == ValuesDataSourceHelper.EventSetId.GENERATED_EVENTS) {
+            return new ValuesDataSource(
+                    ValuesDataGeneratorConfig.fromConfiguration(context.getFactoryConfiguration()));
+        }
         int failAtPos =
                 context.getFactoryConfiguration()
                         .get(ValuesDataSourceOptions.FAILURE_INJECTION_INDEX);
@@ -77,6 +82,18 @@ public class ValuesDataFactory implements DataSourceFactory, DataSinkFactory {
         Set<ConfigOption<?>> options = new HashSet<>();
         options.add(ValuesDataSourceOptions.EVENT_SET_ID);
         options.add(ValuesDataSourceOptions.FAILURE_INJECTION_INDEX);
+        options.add(ValuesDataSourceOptions.GENERATOR_TABLE_COUNT);
+        options.add(ValuesDataSourceOptions.GENERATOR_COLUMN_TYPES);
+        options.add(ValuesDataSourceOptions.GENERATOR_STRING_LENGTH);
+        options.add(ValuesDataSourceOptions.GENERATOR_EVENT_COUNT);
+        options.add(ValuesDataSourceOptions.GENERATOR_EVENTS_PER_SECOND);
+        options.add(ValuesDataSourceOptions.GENERATOR_SPLIT_COUNT);
+        options.add(ValuesDataSourceOptions.GENERATOR_INSERT_WEIGHT);
+        options.add(ValuesDataSourceOptions.GENERATOR_UPDATE_WEIGHT);
+        options.add(ValuesDataSourceOptions.GENERATOR_DELETE_WEIGHT);
+        options.add(ValuesDataSourceOptions.GENERATOR_KEY_CARDINALITY);
+        options.add(ValuesDataSourceOptions.GENERATOR_KEY_SKEW);
+        options.add(ValuesDataSourceOptions.GENERATOR_SCHEMA_CHANGE_INTERVAL);
         options.add(ValuesDataSinkOptions.MATERIALIZED_IN_MEMORY);
         options.add(ValuesDataSinkOptions.PRINT_ENABLED);
         options.add(ValuesDataSinkOptions.SINK_API);
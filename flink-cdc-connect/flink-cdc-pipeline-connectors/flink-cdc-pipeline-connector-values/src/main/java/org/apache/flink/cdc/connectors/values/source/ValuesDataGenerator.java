@@ -0,0 +1,381 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.values.source;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.BinaryType;
+import org.apache.flink.cdc.common.types.CharType;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.DecimalType;
+import org.apache.flink.cdc.common.types.VarBinaryType;
+import org.apache.flink.cdc.common.types.VarCharType;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Generates the change events of a split of {@link
+ * ValuesDataSourceHelper.EventSetId#GENERATED_EVENTS} lazily, as configured by {@link
+ * ValuesDataGeneratorConfig}.
+ *
+ * <p>Every table is generated by the split of the index of the table modulo the split count, so
+ * that the schema changes of a table are ordered with its data changes. The events of a split are
+ * generated in rounds: the first round creates the tables of the split, and every following round
+ * emits one data change event of each table. Every {@link
+ * ValuesDataGeneratorConfig#getSchemaChangeInterval()} rounds, the round is prefixed by adding a
+ * column to each table. The position of the generator is the round and the offset within it, so a
+ * restored generator continues with the schema of the tables it has evolved.
+ */
+public class ValuesDataGenerator implements Iterator<Event> {
+
+    public static final String NAMESPACE = "default_namespace";
+    public static final String SCHEMA_NAME = "default_schema";
+    public static final String KEY_COLUMN = "id";
+
+    /** The metadata read by {@link OpTsMetadataColumn}. */
+    private static final String OP_TS = "op_ts";
+
+    private static final byte[] ALPHANUMERIC =
+            "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".getBytes();
+    private static final long BASE_EPOCH_MILLIS = 1704067200000L;
+    private static final int BASE_EPOCH_DAYS = 19723;
+    private static final long MILLIS_OF_YEAR = 365L * 24 * 3600 * 1000;
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final ValuesDataGeneratorConfig config;
+    private final List<DataType> columnTypes;
+    private final TableId[] tableIds;
+    private final long limit;
+    private final Random random;
+    private final KeySampler keySampler;
+    private final int totalWeight;
+
+    private final BinaryRecordDataGenerator[] recordDataGenerators;
+    private final long[] recordDataGeneratorVersions;
+
+    private long round;
+    private int offset;
+    private long emittedDataEvents;
+
+    public ValuesDataGenerator(
+            ValuesDataGeneratorConfig config,
+            int splitId,
+            long round,
+            int offset,
+            long emittedDataEvents) {
+        this.config = config;
+        this.columnTypes = config.getColumnTypes();
+        List<TableId> tables = new ArrayList<>();
+        for (int i = splitId; i < config.getTableCount(); i += config.getSplitCount()) {
+            tables.add(tableId(i));
+        }
+        this.tableIds = tables.toArray(new TableId[0]);
+        this.limit = getEventCountOfSplit(config, splitId);
+        // Generate different values after a restoration, as the events are not replayed anyway
+        this.random = new Random(31L * (31L * splitId + round) + offset);
+        this.keySampler = new KeySampler(config.getKeyCardinality(), config.getKeySkew());
+        this.totalWeight =
+                config.getInsertWeight() + config.getUpdateWeight() + config.getDeleteWeight();
+        this.recordDataGenerators = new BinaryRecordDataGenerator[tableIds.length];
+        this.recordDataGeneratorVersions = new long[tableIds.length];
+        this.round = round;
+        this.offset = offset;
+        this.emittedDataEvents = emittedDataEvents;
+    }
+
+    public static TableId tableId(int table) {
+        return TableId.tableId(NAMESPACE, SCHEMA_NAME, "table" + (table + 1));
+    }
+
+    /** Returns the number of data change events of the split, which are evenly distributed. */
+    public static long getEventCountOfSplit(ValuesDataGeneratorConfig config, int splitId) {
+        if (!config.isBounded()) {
+            return Long.MAX_VALUE;
+        }
+        long eventCount = config.getEventCount();
+        int splitCount = config.getSplitCount();
+        return eventCount / splitCount + (splitId < eventCount % splitCount ? 1 : 0);
+    }
+
+    /** Returns the schema of a generated table after the given number of added columns. */
+    public static Schema schemaOf(ValuesDataGeneratorConfig config, long version) {
+        Schema.Builder builder =
+                Schema.newBuilder()
+                        .physicalColumn(KEY_COLUMN, DataTypes.BIGINT().notNull())
+                        .primaryKey(KEY_COLUMN);
+        List<DataType> columnTypes = config.getColumnTypes();
+        for (int i = 0; i < columnTypes.size(); i++) {
+            builder.physicalColumn("col" + (i + 1), columnTypes.get(i));
+        }
+        for (long i = 1; i <= version; i++) {
+            builder.physicalColumn(addedColumnName(i), DataTypes.STRING());
+        }
+        return builder.build();
+    }
+
+    public long getRound() {
+        return round;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public long getEmittedDataEvents() {
+        return emittedDataEvents;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return round == 0 || emittedDataEvents < limit;
+    }
+
+    @Override
+    public Event next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Event event;
+        if (round == 0) {
+            event = new CreateTableEvent(tableIds[offset], schemaOf(config, 0));
+        } else {
+            long dataIndex = round - 1;
+            boolean evolving = isSchemaChangeRound(dataIndex);
+            if (evolving && offset < tableIds.length) {
+                long version = dataIndex / config.getSchemaChangeInterval();
+                event =
+                        new AddColumnEvent(
+                                tableIds[offset],
+                                Collections.singletonList(
+                                        AddColumnEvent.last(
+                                                Column.physicalColumn(
+                                                        addedColumnName(version),
+                                                        DataTypes.STRING()))));
+            } else {
+                int table = evolving ? offset - tableIds.length : offset;
+                event = generateDataChangeEvent(table, dataIndex);
+                emittedDataEvents++;
+            }
+        }
+        advance();
+        return event;
+    }
+
+    private void advance() {
+        offset++;
+        int roundSize =
+                round > 0 && isSchemaChangeRound(round - 1) ? 2 * tableIds.length : tableIds.length;
+        if (offset == roundSize) {
+            round++;
+            offset = 0;
+        }
+    }
+
+    private boolean isSchemaChangeRound(long dataIndex) {
+        long interval = config.getSchemaChangeInterval();
+        return interval > 0 && dataIndex > 0 && dataIndex % interval == 0;
+    }
+
+    private DataChangeEvent generateDataChangeEvent(int table, long dataIndex) {
+        long version =
+                config.getSchemaChangeInterval() > 0
+                        ? dataIndex / config.getSchemaChangeInterval()
+                        : 0;
+        if (recordDataGenerators[table] == null || recordDataGeneratorVersions[table] != version) {
+            recordDataGenerators[table] =
+                    new BinaryRecordDataGenerator(
+                            schemaOf(config, version)
+                                    .getColumnDataTypes()
+                                    .toArray(new DataType[0]));
+            recordDataGeneratorVersions[table] = version;
+        }
+
+        TableId tableId = tableIds[table];
+        long key = keySampler.sample(random);
+        int operation = random.nextInt(totalWeight);
+        if (operation < config.getInsertWeight()) {
+            return DataChangeEvent.insertEvent(
+                    tableId, generateRecord(table, key, version), generateMeta());
+        } else if (operation < config.getInsertWeight() + config.getUpdateWeight()) {
+            return DataChangeEvent.updateEvent(
+                    tableId,
+                    generateRecord(table, key, version),
+                    generateRecord(table, key, version),
+                    generateMeta());
+        } else {
+            return DataChangeEvent.deleteEvent(
+                    tableId, generateRecord(table, key, version), generateMeta());
+        }
+    }
+
+    private BinaryRecordData generateRecord(int table, long key, long version) {
+        Object[] fields = new Object[1 + columnTypes.size() + (int) version];
+        fields[0] = key;
+        for (int i = 0; i < columnTypes.size(); i++) {
+            fields[i + 1] = generateValue(columnTypes.get(i));
+        }
+        for (int i = 1 + columnTypes.size(); i < fields.length; i++) {
+            fields[i] = BinaryStringData.fromBytes(generateBytes(config.getStringLength(), true));
+        }
+        return recordDataGenerators[table].generate(fields);
+    }
+
+    private Object generateValue(DataType type) {
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+                return random.nextBoolean();
+            case TINYINT:
+                return (byte) random.nextInt();
+            case SMALLINT:
+                return (short) random.nextInt();
+            case INTEGER:
+                return random.nextInt();
+            case BIGINT:
+                return random.nextLong();
+            case FLOAT:
+                return random.nextFloat() * 1000;
+            case DOUBLE:
+                return random.nextDouble() * 1000;
+            case DECIMAL:
+                DecimalType decimalType = (DecimalType) type;
+                int precision = decimalType.getPrecision();
+                int scale = decimalType.getScale();
+                if (precision <= 18) {
+                    return DecimalData.fromUnscaledLong(
+                            Math.floorMod(random.nextLong(), POWERS_OF_TEN[precision]),
+                            precision,
+                            scale);
+                }
+                return DecimalData.fromBigDecimal(
+                        new BigDecimal(new BigInteger(60, random), scale), precision, scale);
+            case CHAR:
+                return BinaryStringData.fromBytes(
+                        generateBytes(((CharType) type).getLength(), true));
+            case VARCHAR:
+                return BinaryStringData.fromBytes(
+                        generateBytes(
+                                Math.min(
+                                        ((VarCharType) type).getLength(), config.getStringLength()),
+                                true));
+            case BINARY:
+                return generateBytes(((BinaryType) type).getLength(), false);
+            case VARBINARY:
+                return generateBytes(
+                        Math.min(((VarBinaryType) type).getLength(), config.getStringLength()),
+                        false);
+            case DATE:
+                return BASE_EPOCH_DAYS + random.nextInt(365);
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                return TimestampData.fromMillis(BASE_EPOCH_MILLIS + randomMillis());
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return LocalZonedTimestampData.fromEpochMillis(BASE_EPOCH_MILLIS + randomMillis());
+            default:
+                throw new UnsupportedOperationException("Unsupported column type " + type);
+        }
+    }
+
+    private long randomMillis() {
+        return (long) (random.nextDouble() * MILLIS_OF_YEAR);
+    }
+
+    private byte[] generateBytes(int length, boolean alphanumeric) {
+        byte[] bytes = new byte[length];
+        if (alphanumeric) {
+            for (int i = 0; i < length; i++) {
+                bytes[i] = ALPHANUMERIC[random.nextInt(ALPHANUMERIC.length)];
+            }
+        } else {
+            random.nextBytes(bytes);
+        }
+        return bytes;
+    }
+
+    /** Returns the metadata of a generated event, whose op_ts is the time of generation. */
+    private static Map<String, String> generateMeta() {
+        return Collections.singletonMap(OP_TS, String.valueOf(System.currentTimeMillis()));
+    }
+
+    private static String addedColumnName(long version) {
+        return "added_col" + version;
+    }
+
+    /**
+     * Samples the keys in [0, cardinality) from a Zipf-like distribution, which is approximated by
+     * inverting the cumulative distribution of the continuous power law {@code x^-skew} over [1,
+     * cardinality + 1). The keys are uniformly distributed if the skew is 0.
+     */
+    static class KeySampler {
+
+        private final long cardinality;
+        private final double skew;
+        private final double exponent;
+        private final double range;
+
+        KeySampler(long cardinality, double skew) {
+            this.cardinality = cardinality;
+            this.skew = skew;
+            if (skew == 1.0) {
+                this.exponent = 0;
+                this.range = Math.log(cardinality + 1.0);
+            } else {
+                this.exponent = 1 / (1 - skew);
+                this.range = Math.pow(cardinality + 1.0, 1 - skew) - 1;
+            }
+        }
+
+        long sample(Random random) {
+            double u = random.nextDouble();
+            double rank;
+            if (skew == 0) {
+                rank = u * cardinality;
+            } else if (skew == 1.0) {
+                rank = Math.exp(u * range) - 1;
+            } else {
+                rank = Math.pow(1 + u * range, exponent) - 1;
+            }
+            return Math.max(0, Math.min(cardinality - 1, (long) rank));
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.values.source;
+
+import org.apache.flink.cdc.common.configuration.Configuration;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.apache.flink.cdc.common.utils.Preconditions.checkArgument;
+
+/**
+ * The configurations of {@link ValuesDataGenerator}, which are read from the {@code generator.*}
+ * options of {@link ValuesDataSourceOptions}.
+ */
+public class ValuesDataGeneratorConfig implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Pattern TYPE_PATTERN =
+            Pattern.compile("(\\w+)\\s*(?:\\(\\s*(\\d+)\\s*(?:,\\s*(\\d+)\\s*)?\\))?");
+
+    private final int tableCount;
+    private final List<DataType> columnTypes;
+    private final int stringLength;
+    private final long eventCount;
+    private final long eventsPerSecond;
+    private final int splitCount;
+    private final int insertWeight;
+    private final int updateWeight;
+    private final int deleteWeight;
+    private final long keyCardinality;
+    private final double keySkew;
+    private final long schemaChangeInterval;
+
+    public ValuesDataGeneratorConfig(
+            int tableCount,
+            List<DataType> columnTypes,
+            int stringLength,
+            long eventCount,
+            long eventsPerSecond,
+            int splitCount,
+            int insertWeight,
+            int updateWeight,
+            int deleteWeight,
+            long keyCardinality,
+            double keySkew,
+            long schemaChangeInterval) {
+        checkArgument(tableCount > 0, "The table count must be positive, but is %s.", tableCount);
+        checkArgument(
+                splitCount > 0 && splitCount <= tableCount,
+                "The split count must be positive and not exceed the table count %s, but is %s.",
+                tableCount,
+                splitCount);
+        checkArgument(
+                stringLength >= 0,
+                "The string length must not be negative, but is %s.",
+                stringLength);
+        checkArgument(
+                eventCount >= 0, "The event count must not be negative, but is %s.", eventCount);
+        checkArgument(
+                eventsPerSecond >= 0,
+                "The events per second must not be negative, but is %s.",
+                eventsPerSecond);
+        checkArgument(
+                insertWeight >= 0
+                        && updateWeight >= 0
+                        && deleteWeight >= 0
+                        && insertWeight + updateWeight + deleteWeight > 0,
+                "The weights of the insert, update and delete events must not be negative "
+                        + "and must not be all 0, but are %s, %s and %s.",
+                insertWeight,
+                updateWeight,
+                deleteWeight);
+        checkArgument(
+                keyCardinality > 0,
+                "The key cardinality must be positive, but is %s.",
+                keyCardinality);
+        checkArgument(keySkew >= 0, "The key skew must not be negative, but is %s.", keySkew);
+        checkArgument(
+                schemaChangeInterval >= 0,
+                "The schema change interval must not be negative, but is %s.",
+                schemaChangeInterval);
+        this.tableCount = tableCount;
+        this.columnTypes = Collections.unmodifiableList(new ArrayList<>(columnTypes));
+        this.stringLength = stringLength;
+        this.eventCount = eventCount;
+        this.eventsPerSecond = eventsPerSecond;
+        this.splitCount = splitCount;
+        this.insertWeight = insertWeight;
+        this.updateWeight = updateWeight;
+        this.deleteWeight = deleteWeight;
+        this.keyCardinality = keyCardinality;
+        this.keySkew = keySkew;
+        this.schemaChangeInterval = schemaChangeInterval;
+    }
+
+    public static ValuesDataGeneratorConfig fromConfiguration(Configuration configuration) {
+        return new ValuesDataGeneratorConfig(
+                configuration.get(ValuesDataSourceOptions.GENERATOR_TABLE_COUNT),
+                parseColumnTypes(configuration.get(ValuesDataSourceOptions.GENERATOR_COLUMN_TYPES)),
+                configuration.get(ValuesDataSourceOptions.GENERATOR_STRING_LENGTH),
+                configuration
+                        .getOptional(ValuesDataSourceOptions.GENERATOR_EVENT_COUNT)
+                        .orElse(Long.MAX_VALUE),
+                configuration.get(ValuesDataSourceOptions.GENERATOR_EVENTS_PER_SECOND),
+                configuration.get(ValuesDataSourceOptions.GENERATOR_SPLIT_COUNT),
+                configuration.get(ValuesDataSourceOptions.GENERATOR_INSERT_WEIGHT),
+                configuration.get(ValuesDataSourceOptions.GENERATOR_UPDATE_WEIGHT),
+                configuration.get(ValuesDataSourceOptions.GENERATOR_DELETE_WEIGHT),
+                configuration.get(ValuesDataSourceOptions.GENERATOR_KEY_CARDINALITY),
+                configuration.get(ValuesDataSourceOptions.GENERATOR_KEY_SKEW),
+                configuration.get(ValuesDataSourceOptions.GENERATOR_SCHEMA_CHANGE_INTERVAL));
+    }
+
+    /** Parses the comma-separated column types, e.g. {@code BIGINT,VARCHAR(32),DECIMAL(10, 2)}. */
+    public static List<DataType> parseColumnTypes(String columnTypes) {
+        List<DataType> types = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i <= columnTypes.length(); i++) {
+            char c = i < columnTypes.length() ? columnTypes.charAt(i) : ',';
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                String type = columnTypes.substring(start, i).trim();
+                if (!type.isEmpty()) {
+                    types.add(parseColumnType(type));
+                }
+                start = i + 1;
+            }
+        }
+        return types;
+    }
+
+    private static DataType parseColumnType(String type) {
+        Matcher matcher = TYPE_PATTERN.matcher(type);
+        checkArgument(matcher.matches(), "Unsupported column type %s.", type);
+        String name = matcher.group(1).toUpperCase(Locale.ROOT);
+        Integer length = matcher.group(2) == null ? null : Integer.parseInt(matcher.group(2));
+        int scale = matcher.group(3) == null ? 0 : Integer.parseInt(matcher.group(3));
+        switch (name) {
+            case "BOOLEAN":
+                return DataTypes.BOOLEAN();
+            case "TINYINT":
+                return DataTypes.TINYINT();
+            case "SMALLINT":
+                return DataTypes.SMALLINT();
+            case "INT":
+            case "INTEGER":
+                return DataTypes.INT();
+            case "BIGINT":
+                return DataTypes.BIGINT();
+            case "FLOAT":
+                return DataTypes.FLOAT();
+            case "DOUBLE":
+                return DataTypes.DOUBLE();
+            case "DECIMAL":
+                return length == null ? DataTypes.DECIMAL(10, 0) : DataTypes.DECIMAL(length, scale);
+            case "CHAR":
+                return DataTypes.CHAR(length == null ? 1 : length);
+            case "VARCHAR":
+                return length == null ? DataTypes.STRING() : DataTypes.VARCHAR(length);
+            case "STRING":
+                return DataTypes.STRING();
+            case "BINARY":
+                return DataTypes.BINARY(length == null ? 1 : length);
+            case "VARBINARY":
+                return length == null ? DataTypes.BYTES() : DataTypes.VARBINARY(length);
+            case "BYTES":
+                return DataTypes.BYTES();
+            case "DATE":
+                return DataTypes.DATE();
+            case "TIMESTAMP":
+                return length == null ? DataTypes.TIMESTAMP() : DataTypes.TIMESTAMP(length);
+            case "TIMESTAMP_LTZ":
+                return length == null ? DataTypes.TIMESTAMP_LTZ() : DataTypes.TIMESTAMP_LTZ(length);
+            default:
+                throw new IllegalArgumentException("Unsupported column type " + type + ".");
+        }
+    }
+
+    public int getTableCount() {
+        return tableCount;
+    }
+
+    public List<DataType> getColumnTypes() {
+        return columnTypes;
+    }
+
+    public int getStringLength() {
+        return stringLength;
+    }
+
+    /** Returns the number of data change events to generate, or {@link Long#MAX_VALUE}. */
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    public boolean isBounded() {
+        return eventCount != Long.MAX_VALUE;
+    }
+
+    public long getEventsPerSecond() {
+        return eventsPerSecond;
+    }
+
+    public int getSplitCount() {
+        return splitCount;
+    }
+
+    public int getInsertWeight() {
+        return insertWeight;
+    }
+
+    public int getUpdateWeight() {
+        return updateWeight;
+    }
+
+    public int getDeleteWeight() {
+        return deleteWeight;
+    }
+
+    public long getKeyCardinality() {
+        return keyCardinality;
+    }
+
+    public double getKeySkew() {
+        return keySkew;
+    }
+
+    public long getSchemaChangeInterval() {
+        return schemaChangeInterval;
+    }
+}
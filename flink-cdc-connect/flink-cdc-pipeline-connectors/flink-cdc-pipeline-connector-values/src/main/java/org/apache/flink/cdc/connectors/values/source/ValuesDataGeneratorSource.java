@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.values.source;
+
+import org.apache.flink.api.connector.source.Boundedness;
+import org.apache.flink.api.connector.source.Source;
+import org.apache.flink.api.connector.source.SourceReader;
+import org.apache.flink.api.connector.source.SourceReaderContext;
+import org.apache.flink.api.connector.source.SplitEnumerator;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.api.connector.source.lib.util.IteratorSourceEnumerator;
+import org.apache.flink.api.connector.source.lib.util.IteratorSourceReader;
+import org.apache.flink.api.connector.source.lib.util.IteratorSourceSplit;
+import org.apache.flink.api.connector.source.util.ratelimit.RateLimitedSourceReader;
+import org.apache.flink.api.connector.source.util.ratelimit.RateLimiterStrategy;
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.apache.flink.table.api.TableException;
+import org.apache.flink.util.Preconditions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A flink {@link Source} generating change events lazily for load tests, whose splits are generated
+ * by {@link ValuesDataGenerator}.
+ */
+@Internal
+class ValuesDataGeneratorSource
+        implements Source<
+                Event,
+                ValuesDataGeneratorSource.GeneratorSplit,
+                Collection<ValuesDataGeneratorSource.GeneratorSplit>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final ValuesDataGeneratorConfig config;
+
+    ValuesDataGeneratorSource(ValuesDataGeneratorConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public Boundedness getBoundedness() {
+        return config.isBounded() ? Boundedness.BOUNDED : Boundedness.CONTINUOUS_UNBOUNDED;
+    }
+
+    @Override
+    public SplitEnumerator<GeneratorSplit, Collection<GeneratorSplit>> createEnumerator(
+            SplitEnumeratorContext<GeneratorSplit> enumContext) {
+        List<GeneratorSplit> splits = new ArrayList<>();
+        for (int i = 0; i < config.getSplitCount(); i++) {
+            splits.add(new GeneratorSplit(config, i, 0, 0, 0));
+        }
+        return new IteratorSourceEnumerator<>(enumContext, splits);
+    }
+
+    @Override
+    public SplitEnumerator<GeneratorSplit, Collection<GeneratorSplit>> restoreEnumerator(
+            SplitEnumeratorContext<GeneratorSplit> enumContext,
+            Collection<GeneratorSplit> checkpoint) {
+        return new IteratorSourceEnumerator<>(enumContext, checkpoint);
+    }
+
+    @Override
+    public SimpleVersionedSerializer<GeneratorSplit> getSplitSerializer() {
+        return new GeneratorSplitSerializer(config);
+    }
+
+    @Override
+    public SimpleVersionedSerializer<Collection<GeneratorSplit>>
+            getEnumeratorCheckpointSerializer() {
+        return new GeneratorEnumeratorSerializer(config);
+    }
+
+    @Override
+    public SourceReader<Event, GeneratorSplit> createReader(SourceReaderContext readerContext) {
+        // Every reader generates a single split at a time and never finishes it when unbounded, so
+        // the splits beyond the parallelism would never be generated
+        Preconditions.checkArgument(
+                config.getSplitCount() <= readerContext.currentParallelism(),
+                "The generator split count %s exceeds the source parallelism %s.",
+                config.getSplitCount(),
+                readerContext.currentParallelism());
+        IteratorSourceReader<Event, ValuesDataGenerator, GeneratorSplit> reader =
+                new IteratorSourceReader<>(readerContext);
+        if (config.getEventsPerSecond() <= 0) {
+            return reader;
+        }
+        // The rate is shared by the readers having a split, and the readers wait for their
+        // permits without blocking the task thread
+        return new RateLimitedSourceReader<>(
+                reader,
+                RateLimiterStrategy.perSecond(config.getEventsPerSecond())
+                        .createRateLimiter(config.getSplitCount()));
+    }
+
+    /** A split of the generated events, which is positioned by the state of the generator. */
+    static class GeneratorSplit implements IteratorSourceSplit<Event, ValuesDataGenerator> {
+
+        private final ValuesDataGeneratorConfig config;
+        private final int splitId;
+        private final long round;
+        private final int offset;
+        private final long emittedDataEvents;
+
+        GeneratorSplit(
+                ValuesDataGeneratorConfig config,
+                int splitId,
+                long round,
+                int offset,
+                long emittedDataEvents) {
+            this.config = config;
+            this.splitId = splitId;
+            this.round = round;
+            this.offset = offset;
+            this.emittedDataEvents = emittedDataEvents;
+        }
+
+        @Override
+        public ValuesDataGenerator getIterator() {
+            return new ValuesDataGenerator(config, splitId, round, offset, emittedDataEvents);
+        }
+
+        @Override
+        public IteratorSourceSplit<Event, ValuesDataGenerator> getUpdatedSplitForIterator(
+                ValuesDataGenerator iterator) {
+            return new GeneratorSplit(
+                    config,
+                    splitId,
+                    iterator.getRound(),
+                    iterator.getOffset(),
+                    iterator.getEmittedDataEvents());
+        }
+
+        @Override
+        public String splitId() {
+            return "generator_split_" + splitId;
+        }
+    }
+
+    private static void serializeGeneratorSplit(
+            DataOutputViewStreamWrapper view, GeneratorSplit split) throws IOException {
+        view.writeInt(split.splitId);
+        view.writeLong(split.round);
+        view.writeInt(split.offset);
+        view.writeLong(split.emittedDataEvents);
+    }
+
+    private static GeneratorSplit deserializeGeneratorSplit(
+            ValuesDataGeneratorConfig config, DataInputViewStreamWrapper view) throws IOException {
+        int splitId = view.readInt();
+        long round = view.readLong();
+        int offset = view.readInt();
+        long emittedDataEvents = view.readLong();
+        return new GeneratorSplit(config, splitId, round, offset, emittedDataEvents);
+    }
+
+    /** A serializer for {@link GeneratorSplit}. */
+    private static class GeneratorSplitSerializer
+            implements SimpleVersionedSerializer<GeneratorSplit> {
+
+        private static final int SPLIT_VERSION = 1;
+
+        private final ValuesDataGeneratorConfig config;
+
+        GeneratorSplitSerializer(ValuesDataGeneratorConfig config) {
+            this.config = config;
+        }
+
+        @Override
+        public int getVersion() {
+            return SPLIT_VERSION;
+        }
+
+        @Override
+        public byte[] serialize(GeneratorSplit split) throws IOException {
+            try (ByteArrayOutputStream bao = new ByteArrayOutputStream(32);
+                    DataOutputViewStreamWrapper view = new DataOutputViewStreamWrapper(bao)) {
+                serializeGeneratorSplit(view, split);
+                return bao.toByteArray();
+            }
+        }
+
+        @Override
+        public GeneratorSplit deserialize(int version, byte[] serialized) throws IOException {
+            if (version != SPLIT_VERSION) {
+                throw new TableException(
+                        String.format(
+                                "Can't serialized data with version %d because the serializer version is %d.",
+                                version, SPLIT_VERSION));
+            }
+            try (ByteArrayInputStream bis = new ByteArrayInputStream(serialized);
+                    DataInputViewStreamWrapper view = new DataInputViewStreamWrapper(bis)) {
+                return deserializeGeneratorSplit(config, view);
+            }
+        }
+    }
+
+    /** A serializer for a collection of {@link GeneratorSplit}. */
+    private static class GeneratorEnumeratorSerializer
+            implements SimpleVersionedSerializer<Collection<GeneratorSplit>> {
+
+        private static final int ENUMERATOR_VERSION = 1;
+
+        private final ValuesDataGeneratorConfig config;
+
+        GeneratorEnumeratorSerializer(ValuesDataGeneratorConfig config) {
+            this.config = config;
+        }
+
+        @Override
+        public int getVersion() {
+            return ENUMERATOR_VERSION;
+        }
+
+        @Override
+        public byte[] serialize(Collection<GeneratorSplit> splits) throws IOException {
+            try (ByteArrayOutputStream bao = new ByteArrayOutputStream(256);
+                    DataOutputViewStreamWrapper view = new DataOutputViewStreamWrapper(bao)) {
+                view.writeInt(splits.size());
+                for (GeneratorSplit split : splits) {
+                    serializeGeneratorSplit(view, split);
+                }
+                return bao.toByteArray();
+            }
+        }
+
+        @Override
+        public Collection<GeneratorSplit> deserialize(int version, byte[] serialized)
+                throws IOException {
+            if (version != ENUMERATOR_VERSION) {
+                throw new TableException(
+                        String.format(
+                                "Can't serialized data with version %d because the serializer version is %d.",
+                                version, ENUMERATOR_VERSION));
+            }
+            try (ByteArrayInputStream bis = new ByteArrayInputStream(serialized);
+                    DataInputViewStreamWrapper view = new DataInputViewStreamWrapper(bis)) {
+                List<GeneratorSplit> splits = new ArrayList<>();
+                int size = view.readInt();
+                for (int i = 0; i < size; i++) {
+                    splits.add(deserializeGeneratorSplit(config, view));
+                }
+                return splits;
+            }
+        }
+    }
+}
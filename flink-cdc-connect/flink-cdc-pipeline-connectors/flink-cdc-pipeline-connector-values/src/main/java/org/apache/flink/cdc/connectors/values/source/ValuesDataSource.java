@@ -35,6 +35,7 @@ import org.apache.flink.cdc.common.source.EventSourceProvider;
 import org.apache.flink.cdc.common.source.FlinkSourceProvider;
 import org.apache.flink.cdc.common.source.MetadataAccessor;
 import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
+import org.apache.flink.cdc.common.utils.Preconditions;
 import org.apache.flink.cdc.connectors.values.ValuesDatabase;
 import org.apache.flink.core.io.InputStatus;
 import org.apache.flink.core.io.SimpleVersionedSerializer;
@@ -42,6 +43,8 @@ import org.apache.flink.core.memory.DataInputViewStreamWrapper;
 import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
 import org.apache.flink.table.api.TableException;
 
+import javax.annotation.Nullable;
+
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -60,18 +63,32 @@ public class ValuesDataSource implements DataSource {
     /** index for {@link EventIteratorReader} to fail when reading. */
     private final int failAtPos;
 
+    /** configurations of the generated events, only used by GENERATED_EVENTS. */
+    @Nullable private final ValuesDataGeneratorConfig generatorConfig;
+
     public ValuesDataSource(ValuesDataSourceHelper.EventSetId eventSetId) {
-        this.eventSetId = eventSetId;
-        this.failAtPos = Integer.MAX_VALUE;
+        this(eventSetId, Integer.MAX_VALUE);
     }
 
     public ValuesDataSource(ValuesDataSourceHelper.EventSetId eventSetId, int failAtPos) {
         this.eventSetId = eventSetId;
         this.failAtPos = failAtPos;
+        this.generatorConfig = null;
+    }
+
+    public ValuesDataSource(ValuesDataGeneratorConfig generatorConfig) {
+        this.eventSetId = ValuesDataSourceHelper.EventSetId.GENERATED_EVENTS;
+        this.failAtPos = Integer.MAX_VALUE;
+        this.generatorConfig = generatorConfig;
     }
 
     @Override
     public EventSourceProvider getEventSourceProvider() {
+        if (eventSetId == ValuesDataSourceHelper.EventSetId.GENERATED_EVENTS) {
+            Preconditions.checkNotNull(
+                    generatorConfig, "The generator config is required to generate events.");
+            return FlinkSourceProvider.of(new ValuesDataGeneratorSource(generatorConfig));
+        }
         ValuesDataSourceHelper.setSourceEvents(eventSetId);
         return FlinkSourceProvider.of(new ValuesSource(failAtPos, eventSetId, false));
     }
@@ -54,7 +54,8 @@ public class ValuesDataSourceHelper {
         SINGLE_SPLIT_MULTI_TABLES,
         MULTI_SPLITS_SINGLE_TABLE,
         CUSTOM_SOURCE_EVENTS,
-        TRANSFORM_TABLE
+        TRANSFORM_TABLE,
+        GENERATED_EVENTS
     }
 
     public static final TableId TABLE_1 =
@@ -120,6 +121,11 @@ public class ValuesDataSourceHelper {
                     sourceEvents = transformTable();
                     break;
                 }
+            case GENERATED_EVENTS:
+                {
+                    // the events are generated lazily by ValuesDataGenerator
+                    break;
+                }
             default:
                 throw new IllegalArgumentException(eventType + " is not supported");
         }
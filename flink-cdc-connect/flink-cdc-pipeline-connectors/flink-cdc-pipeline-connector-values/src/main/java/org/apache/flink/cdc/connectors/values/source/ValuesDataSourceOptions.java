@@ -47,7 +47,9 @@ public class ValuesDataSourceOptions {
                                                     text(
                                                             "MULTI_SPLITS_SINGLE_TABLE: A predetermined case. Creating schema changes of single table and put them into multiple splits."),
                                                     text(
-                                                            "CUSTOM_SOURCE_EVENTS: Passed change events by the user through calling `setSourceEvents` method.")))
+                                                            "CUSTOM_SOURCE_EVENTS: Passed change events by the user through calling `setSourceEvents` method."),
+                                                    text(
+                                                            "GENERATED_EVENTS: Generating change events of synthetic tables lazily, which is configured by the `generator.*` options.")))
                                     .build());
 
     public static final ConfigOption<Integer> FAILURE_INJECTION_INDEX =
@@ -56,4 +58,96 @@ public class ValuesDataSourceOptions {
                     .defaultValue(Integer.MAX_VALUE)
                     .withDescription(
                             "Specific index of test events to fail, set a Integer.MAX_VALUE value by default to avoid failure.");
+
+    public static final ConfigOption<Integer> GENERATOR_TABLE_COUNT =
+            ConfigOptions.key("generator.table.count")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription("The number of tables to generate change events of.");
+
+    public static final ConfigOption<String> GENERATOR_COLUMN_TYPES =
+            ConfigOptions.key("generator.column.types")
+                    .stringType()
+                    .defaultValue(
+                            "STRING,INT,BIGINT,DOUBLE,DECIMAL(10, 2),BOOLEAN,DATE,TIMESTAMP(3)")
+                    .withDescription(
+                            "The comma-separated types of the columns of every generated table, "
+                                    + "which follow the BIGINT primary key column `id`. "
+                                    + "The supported types are BOOLEAN, TINYINT, SMALLINT, INT, BIGINT, FLOAT, DOUBLE, "
+                                    + "DECIMAL(p, s), CHAR(n), VARCHAR(n), STRING, BINARY(n), VARBINARY(n), BYTES, "
+                                    + "DATE, TIMESTAMP(p) and TIMESTAMP_LTZ(p).");
+
+    public static final ConfigOption<Integer> GENERATOR_STRING_LENGTH =
+            ConfigOptions.key("generator.string.length")
+                    .intType()
+                    .defaultValue(16)
+                    .withDescription(
+                            "The length of the generated values of STRING and BYTES columns, "
+                                    + "the other character and binary columns use the length of their types.");
+
+    public static final ConfigOption<Long> GENERATOR_EVENT_COUNT =
+            ConfigOptions.key("generator.event.count")
+                    .longType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The number of data change events to generate, "
+                                    + "the events are generated endlessly if it is not set.");
+
+    public static final ConfigOption<Long> GENERATOR_EVENTS_PER_SECOND =
+            ConfigOptions.key("generator.events-per-second")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "The total number of events to generate per second, "
+                                    + "the events are generated as fast as possible if it is 0.");
+
+    public static final ConfigOption<Integer> GENERATOR_SPLIT_COUNT =
+            ConfigOptions.key("generator.split.count")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of splits to generate events in parallel, which must not exceed the source parallelism. "
+                                    + "Every table is generated by a single split, so it must not exceed the number of tables.");
+
+    public static final ConfigOption<Integer> GENERATOR_INSERT_WEIGHT =
+            ConfigOptions.key("generator.insert.weight")
+                    .intType()
+                    .defaultValue(70)
+                    .withDescription("The relative weight of the generated insert events.");
+
+    public static final ConfigOption<Integer> GENERATOR_UPDATE_WEIGHT =
+            ConfigOptions.key("generator.update.weight")
+                    .intType()
+                    .defaultValue(20)
+                    .withDescription("The relative weight of the generated update events.");
+
+    public static final ConfigOption<Integer> GENERATOR_DELETE_WEIGHT =
+            ConfigOptions.key("generator.delete.weight")
+                    .intType()
+                    .defaultValue(10)
+                    .withDescription("The relative weight of the generated delete events.");
+
+    public static final ConfigOption<Long> GENERATOR_KEY_CARDINALITY =
+            ConfigOptions.key("generator.key.cardinality")
+                    .longType()
+                    .defaultValue(1_000_000L)
+                    .withDescription(
+                            "The number of distinct primary keys of every generated table.");
+
+    public static final ConfigOption<Double> GENERATOR_KEY_SKEW =
+            ConfigOptions.key("generator.key.skew")
+                    .doubleType()
+                    .defaultValue(0.0)
+                    .withDescription(
+                            "The exponent of the Zipf-like distribution of the generated primary keys, "
+                                    + "the keys are uniformly distributed if it is 0, "
+                                    + "and the smaller keys become hotter as it grows.");
+
+    public static final ConfigOption<Long> GENERATOR_SCHEMA_CHANGE_INTERVAL =
+            ConfigOptions.key("generator.schema-change.interval")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "The number of data change events of a table between two schema changes, "
+                                    + "which add a STRING column to the table. No schema change is generated if it is 0.");
 }
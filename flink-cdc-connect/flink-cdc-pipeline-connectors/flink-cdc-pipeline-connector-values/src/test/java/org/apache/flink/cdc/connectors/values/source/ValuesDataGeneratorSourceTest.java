@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.values.source;
+
+import org.apache.flink.api.common.eventtime.Watermark;
+import org.apache.flink.api.connector.source.ReaderOutput;
+import org.apache.flink.api.connector.source.SourceEvent;
+import org.apache.flink.api.connector.source.SourceOutput;
+import org.apache.flink.api.connector.source.SourceReader;
+import org.apache.flink.api.connector.source.SourceReaderContext;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.io.InputStatus;
+import org.apache.flink.metrics.groups.SourceReaderMetricGroup;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
+import org.apache.flink.table.api.TableException;
+import org.apache.flink.util.SimpleUserCodeClassLoader;
+import org.apache.flink.util.UserCodeClassLoader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/** Unit tests for {@link ValuesDataGeneratorSource}. */
+public class ValuesDataGeneratorSourceTest {
+
+    private static ValuesDataGeneratorConfig config(long eventsPerSecond, int splitCount) {
+        return new ValuesDataGeneratorConfig(
+                4,
+                Arrays.asList(DataTypes.INT(), DataTypes.STRING()),
+                8,
+                100,
+                eventsPerSecond,
+                splitCount,
+                70,
+                20,
+                10,
+                100,
+                0.0,
+                0);
+    }
+
+    @Test
+    public void testRateLimitedReaderDoesNotBlock() throws Exception {
+        // 2 readers share the rate of 4 events per second, so each one has a permit per 500ms
+        ValuesDataGeneratorSource source = new ValuesDataGeneratorSource(config(4, 2));
+        ListOutput output = new ListOutput();
+        try (SourceReader<Event, ValuesDataGeneratorSource.GeneratorSplit> reader =
+                source.createReader(new TestingReaderContext(2))) {
+            reader.start();
+            reader.addSplits(
+                    Collections.singletonList(
+                            new ValuesDataGeneratorSource.GeneratorSplit(
+                                    config(4, 2), 0, 0, 0, 0)));
+
+            reader.isAvailable().get(10, TimeUnit.SECONDS);
+            Assert.assertEquals(InputStatus.NOTHING_AVAILABLE, reader.pollNext(output));
+            Assert.assertEquals(1, output.events.size());
+
+            // the next event waits for its permit, which is not granted in the task thread
+            CompletableFuture<Void> available = reader.isAvailable();
+            long pollStart = System.nanoTime();
+            Assert.assertFalse(available.isDone());
+            available.get(10, TimeUnit.SECONDS);
+            Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pollStart) >= 300);
+            Assert.assertEquals(InputStatus.NOTHING_AVAILABLE, reader.pollNext(output));
+            Assert.assertEquals(2, output.events.size());
+        }
+    }
+
+    @Test
+    public void testSplitCountExceedingParallelismIsRejected() {
+        ValuesDataGeneratorSource source = new ValuesDataGeneratorSource(config(4, 3));
+        IllegalArgumentException exception =
+                Assert.assertThrows(
+                        IllegalArgumentException.class,
+                        () -> source.createReader(new TestingReaderContext(2)));
+        Assert.assertEquals(
+                "The generator split count 3 exceeds the source parallelism 2.",
+                exception.getMessage());
+    }
+
+    @Test
+    public void testReaderWithoutRateLimit() throws Exception {
+        ValuesDataGeneratorSource source = new ValuesDataGeneratorSource(config(0, 1));
+        ListOutput output = new ListOutput();
+        try (SourceReader<Event, ValuesDataGeneratorSource.GeneratorSplit> reader =
+                source.createReader(new TestingReaderContext(1))) {
+            reader.start();
+            reader.addSplits(
+                    Collections.singletonList(
+                            new ValuesDataGeneratorSource.GeneratorSplit(
+                                    config(0, 1), 0, 0, 0, 0)));
+            Assert.assertEquals(InputStatus.MORE_AVAILABLE, reader.pollNext(output));
+            Assert.assertEquals(InputStatus.MORE_AVAILABLE, reader.pollNext(output));
+            Assert.assertEquals(2, output.events.size());
+        }
+    }
+
+    @Test
+    public void testSerializersCheckVersion() throws Exception {
+        ValuesDataGeneratorSource source = new ValuesDataGeneratorSource(config(0, 2));
+        ValuesDataGeneratorSource.GeneratorSplit split =
+                new ValuesDataGeneratorSource.GeneratorSplit(config(0, 2), 1, 3, 2, 42);
+
+        byte[] serializedSplit = source.getSplitSerializer().serialize(split);
+        Assert.assertEquals(
+                split.splitId(),
+                source.getSplitSerializer()
+                        .deserialize(source.getSplitSerializer().getVersion(), serializedSplit)
+                        .splitId());
+        Assert.assertThrows(
+                TableException.class,
+                () -> source.getSplitSerializer().deserialize(2, serializedSplit));
+
+        byte[] serializedSplits =
+                source.getEnumeratorCheckpointSerializer()
+                        .serialize(Collections.singletonList(split));
+        Assert.assertEquals(
+                1,
+                source.getEnumeratorCheckpointSerializer()
+                        .deserialize(
+                                source.getEnumeratorCheckpointSerializer().getVersion(),
+                                serializedSplits)
+                        .size());
+        Assert.assertThrows(
+                TableException.class,
+                () -> source.getEnumeratorCheckpointSerializer().deserialize(2, serializedSplits));
+    }
+
+    /** A {@link SourceReaderContext} of a subtask with the given parallelism. */
+    private static class TestingReaderContext implements SourceReaderContext {
+
+        private final int parallelism;
+
+        private TestingReaderContext(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        @Override
+        public SourceReaderMetricGroup metricGroup() {
+            return UnregisteredMetricsGroup.createSourceReaderMetricGroup();
+        }
+
+        @Override
+        public Configuration getConfiguration() {
+            return new Configuration();
+        }
+
+        @Override
+        public String getLocalHostName() {
+            return "localhost";
+        }
+
+        @Override
+        public int getIndexOfSubtask() {
+            return 0;
+        }
+
+        @Override
+        public void sendSplitRequest() {}
+
+        @Override
+        public void sendSourceEventToCoordinator(SourceEvent sourceEvent) {}
+
+        @Override
+        public UserCodeClassLoader getUserCodeClassLoader() {
+            return SimpleUserCodeClassLoader.create(getClass().getClassLoader());
+        }
+
+        @Override
+        public int currentParallelism() {
+            return parallelism;
+        }
+    }
+
+    /** A {@link ReaderOutput} collecting the events. */
+    private static class ListOutput implements ReaderOutput<Event> {
+
+        private final List<Event> events = new ArrayList<>();
+
+        @Override
+        public void collect(Event record) {
+            events.add(record);
+        }
+
+        @Override
+        public void collect(Event record, long timestamp) {
+            events.add(record);
+        }
+
+        @Override
+        public void emitWatermark(Watermark watermark) {}
+
+        @Override
+        public void markIdle() {}
+
+        @Override
+        public void markActive() {}
+
+        @Override
+        public SourceOutput<Event> createOutputForSplit(String splitId) {
+            return this;
+        }
+
+        @Override
+        public void releaseOutputForSplit(String splitId) {}
+    }
+}
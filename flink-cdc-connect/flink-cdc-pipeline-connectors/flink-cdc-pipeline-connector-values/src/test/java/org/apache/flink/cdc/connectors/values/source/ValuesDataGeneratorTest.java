@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.values.source;
+
+import org.apache.flink.cdc.common.event.AddColumnEvent;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.SchemaChangeEvent;
+import org.apache.flink.cdc.common.types.DataTypes;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/** Unit tests for {@link ValuesDataGenerator}. */
+public class ValuesDataGeneratorTest {
+
+    private static ValuesDataGeneratorConfig config(long eventCount, long schemaChangeInterval) {
+        return new ValuesDataGeneratorConfig(
+                5,
+                ValuesDataGeneratorConfig.parseColumnTypes(
+                        "STRING,VARCHAR(8),DECIMAL(10, 2),DECIMAL(20, 4),TIMESTAMP(3),DATE,BYTES"),
+                16,
+                eventCount,
+                0,
+                2,
+                70,
+                20,
+                10,
+                100,
+                0.0,
+                schemaChangeInterval);
+    }
+
+    @Test
+    public void testParseColumnTypes() {
+        Assert.assertEquals(
+                Arrays.asList(
+                        DataTypes.BIGINT(),
+                        DataTypes.VARCHAR(32),
+                        DataTypes.DECIMAL(10, 2),
+                        DataTypes.TIMESTAMP_LTZ(6),
+                        DataTypes.INT()),
+                ValuesDataGeneratorConfig.parseColumnTypes(
+                        "bigint, VARCHAR(32),DECIMAL(10, 2), TIMESTAMP_LTZ(6),INT"));
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> ValuesDataGeneratorConfig.parseColumnTypes("BIGINT,MAP<INT, INT>"));
+    }
+
+    @Test
+    public void testGenerateEventsOfSplit() {
+        // The split 0 of 2 generates the tables 1, 3 and 5, and 51 of the 101 events
+        ValuesDataGenerator generator = new ValuesDataGenerator(config(101, 10), 0, 0, 0, 0);
+        List<Event> events = new ArrayList<>();
+        generator.forEachRemaining(events::add);
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(
+                    new CreateTableEvent(
+                            ValuesDataGenerator.tableId(2 * i),
+                            ValuesDataGenerator.schemaOf(config(101, 10), 0)),
+                    events.get(i));
+        }
+        Assert.assertEquals(
+                51, events.stream().filter(event -> event instanceof DataChangeEvent).count());
+        // The 17 rounds of data change events are prefixed by schema changes at round 10
+        Assert.assertEquals(
+                3, events.stream().filter(event -> event instanceof AddColumnEvent).count());
+        for (Event event : events) {
+            if (event instanceof DataChangeEvent) {
+                int arity = arityOf((DataChangeEvent) event);
+                Assert.assertTrue(arity == 8 || arity == 9);
+            }
+        }
+    }
+
+    @Test
+    public void testRestoreGenerator() {
+        ValuesDataGeneratorConfig config = config(200, 7);
+        List<Event> expected = new ArrayList<>();
+        new ValuesDataGenerator(config, 1, 0, 0, 0).forEachRemaining(expected::add);
+
+        // Restore the generator at every position, the restored events only differ in values
+        ValuesDataGenerator generator = new ValuesDataGenerator(config, 1, 0, 0, 0);
+        for (int position = 0; position < expected.size(); position++) {
+            ValuesDataGenerator restored =
+                    new ValuesDataGenerator(
+                            config,
+                            1,
+                            generator.getRound(),
+                            generator.getOffset(),
+                            generator.getEmittedDataEvents());
+            List<Event> actual = new ArrayList<>();
+            restored.forEachRemaining(actual::add);
+            Assert.assertEquals(expected.size() - position, actual.size());
+            for (int i = 0; i < actual.size(); i++) {
+                assertSameShape(expected.get(position + i), actual.get(i));
+            }
+            generator.next();
+        }
+        Assert.assertFalse(generator.hasNext());
+    }
+
+    @Test
+    public void testSampleSkewedKeys() {
+        Random random = new Random(0);
+        ValuesDataGenerator.KeySampler uniform = new ValuesDataGenerator.KeySampler(1000, 0.0);
+        ValuesDataGenerator.KeySampler skewed = new ValuesDataGenerator.KeySampler(1000, 1.2);
+        int uniformHotKeys = 0;
+        int skewedHotKeys = 0;
+        for (int i = 0; i < 10000; i++) {
+            long uniformKey = uniform.sample(random);
+            long skewedKey = skewed.sample(random);
+            Assert.assertTrue(uniformKey >= 0 && uniformKey < 1000);
+            Assert.assertTrue(skewedKey >= 0 && skewedKey < 1000);
+            uniformHotKeys += uniformKey < 10 ? 1 : 0;
+            skewedHotKeys += skewedKey < 10 ? 1 : 0;
+        }
+        // 1% of the uniform keys, but about a half of the skewed keys are the 10 hottest keys
+        Assert.assertTrue(uniformHotKeys < 200);
+        Assert.assertTrue(skewedHotKeys > 4000);
+    }
+
+    private static void assertSameShape(Event expected, Event actual) {
+        if (expected instanceof SchemaChangeEvent) {
+            Assert.assertEquals(expected, actual);
+        } else {
+            DataChangeEvent expectedEvent = (DataChangeEvent) expected;
+            Assert.assertTrue(actual instanceof DataChangeEvent);
+            DataChangeEvent actualEvent = (DataChangeEvent) actual;
+            Assert.assertEquals(expectedEvent.tableId(), actualEvent.tableId());
+            Assert.assertEquals(arityOf(expectedEvent), arityOf(actualEvent));
+        }
+    }
+
+    private static int arityOf(DataChangeEvent event) {
+        return event.after() != null ? event.after().getArity() : event.before().getArity();
+    }
+}
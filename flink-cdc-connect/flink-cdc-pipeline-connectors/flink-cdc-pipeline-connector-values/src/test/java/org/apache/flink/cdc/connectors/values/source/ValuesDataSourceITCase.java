@@ -19,7 +19,9 @@ package org.apache.flink.cdc.connectors.values.source;
 
 import org.apache.flink.api.common.eventtime.WatermarkStrategy;
 import org.apache.flink.api.common.restartstrategy.RestartStrategies;
+import org.apache.flink.cdc.common.configuration.Configuration;
 import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
@@ -36,6 +38,8 @@ import org.apache.flink.cdc.runtime.typeutils.EventTypeInfo;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.flink.util.CloseableIterator;
 
+import org.apache.flink.shaded.guava31.com.google.common.collect.ImmutableMap;
+
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -179,4 +183,43 @@ public class ValuesDataSourceITCase {
                 ValuesDatabase.getResults(
                         TableId.parse("default_namespace.default_schema.table1")));
     }
+
+    @Test
+    public void testGeneratedEvents() throws Exception {
+        ValuesDataGeneratorConfig config =
+                ValuesDataGeneratorConfig.fromConfiguration(
+                        Configuration.fromMap(
+                                ImmutableMap.<String, String>builder()
+                                        .put("generator.table.count", "4")
+                                        .put("generator.split.count", "2")
+                                        .put("generator.event.count", "1000")
+                                        .put("generator.schema-change.interval", "100")
+                                        .build()));
+        StreamExecutionEnvironment env = StreamExecutionEnvironment.getExecutionEnvironment();
+        env.setParallelism(2);
+        env.setRestartStrategy(RestartStrategies.noRestart());
+        FlinkSourceProvider sourceProvider =
+                (FlinkSourceProvider) new ValuesDataSource(config).getEventSourceProvider();
+        List<Event> events = new ArrayList<>();
+        env.fromSource(
+                        sourceProvider.getSource(),
+                        WatermarkStrategy.noWatermarks(),
+                        ValuesDataFactory.IDENTIFIER,
+                        new EventTypeInfo())
+                .executeAndCollect()
+                .forEachRemaining(events::add);
+
+        Assert.assertEquals(
+                4, events.stream().filter(event -> event instanceof CreateTableEvent).count());
+        // 250 events of each table with a column added every 100 events
+        Assert.assertEquals(
+                8, events.stream().filter(event -> event instanceof AddColumnEvent).count());
+        Assert.assertEquals(
+                1000, events.stream().filter(event -> event instanceof DataChangeEvent).count());
+        for (Event event : events) {
+            if (event instanceof DataChangeEvent) {
+                Assert.assertTrue(((DataChangeEvent) event).meta().containsKey("op_ts"));
+            }
+        }
+    }
 }
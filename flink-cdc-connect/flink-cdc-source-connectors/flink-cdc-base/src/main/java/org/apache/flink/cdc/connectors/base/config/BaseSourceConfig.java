@@ -39,6 +39,7 @@ public abstract class BaseSourceConfig implements SourceConfig {
     protected final boolean skipSnapshotBackfill;
     protected final boolean isScanNewlyAddedTableEnabled;
     protected final boolean assignUnboundedChunkFirst;
+    protected final int snapshotChunkSpillThreshold;
 
     // --------------------------------------------------------------------------------------------
     // Debezium Configurations
@@ -58,7 +59,8 @@ public abstract class BaseSourceConfig implements SourceConfig {
             boolean isScanNewlyAddedTableEnabled,
             Properties dbzProperties,
             Configuration dbzConfiguration,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int snapshotChunkSpillThreshold) {
         this.startupOptions = startupOptions;
         this.splitSize = splitSize;
         this.splitMetaGroupSize = splitMetaGroupSize;
@@ -71,6 +73,7 @@ public abstract class BaseSourceConfig implements SourceConfig {
         this.dbzProperties = dbzProperties;
         this.dbzConfiguration = dbzConfiguration;
         this.assignUnboundedChunkFirst = assignUnboundedChunkFirst;
+        this.snapshotChunkSpillThreshold = snapshotChunkSpillThreshold;
     }
 
     @Override
@@ -123,4 +126,9 @@ public abstract class BaseSourceConfig implements SourceConfig {
     public boolean isAssignUnboundedChunkFirst() {
         return assignUnboundedChunkFirst;
     }
+
+    @Override
+    public int getSnapshotChunkSpillThreshold() {
+        return snapshotChunkSpillThreshold;
+    }
 }
@@ -47,6 +47,7 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
     protected final int connectMaxRetries;
     protected final int connectionPoolSize;
     protected final String chunkKeyColumn;
+    protected final boolean chunkSamplingEnabled;
 
     public JdbcSourceConfig(
             StartupOptions startupOptions,
@@ -74,7 +75,9 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
             String chunkKeyColumn,
             boolean skipSnapshotBackfill,
             boolean isScanNewlyAddedTableEnabled,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int snapshotChunkSpillThreshold,
+            boolean chunkSamplingEnabled) {
         super(
                 startupOptions,
                 splitSize,
@@ -87,7 +90,8 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
                 isScanNewlyAddedTableEnabled,
                 dbzProperties,
                 dbzConfiguration,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                snapshotChunkSpillThreshold);
         this.driverClassName = driverClassName;
         this.hostname = hostname;
         this.port = port;
@@ -102,6 +106,7 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
         this.connectMaxRetries = connectMaxRetries;
         this.connectionPoolSize = connectionPoolSize;
         this.chunkKeyColumn = chunkKeyColumn;
+        this.chunkSamplingEnabled = chunkSamplingEnabled;
     }
 
     public abstract RelationalDatabaseConnectorConfig getDbzConnectorConfig();
@@ -158,6 +163,10 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
         return chunkKeyColumn;
     }
 
+    public boolean isChunkSamplingEnabled() {
+        return chunkSamplingEnabled;
+    }
+
     @Override
     public boolean isScanNewlyAddedTableEnabled() {
         return isScanNewlyAddedTableEnabled;
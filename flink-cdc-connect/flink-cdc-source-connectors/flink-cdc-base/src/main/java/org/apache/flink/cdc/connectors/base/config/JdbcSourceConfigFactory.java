@@ -62,6 +62,10 @@ public abstract class JdbcSourceConfigFactory implements Factory<JdbcSourceConfi
             JdbcSourceOptions.SCAN_NEWLY_ADDED_TABLE_ENABLED.defaultValue();
     protected boolean assignUnboundedChunkFirst =
             JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ASSIGN_ENDING_CHUNK_FIRST.defaultValue();
+    protected int snapshotChunkSpillThreshold =
+            JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD.defaultValue();
+    protected boolean chunkSamplingEnabled =
+            JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SAMPLING_ENABLED.defaultValue();
 
     /** Integer port number of the database server. */
     public JdbcSourceConfigFactory hostname(String hostname) {
@@ -263,6 +267,25 @@ public abstract class JdbcSourceConfigFactory implements Factory<JdbcSourceConfi
         return this;
     }
 
+    /**
+     * The maximum number of records of a snapshot chunk kept in memory while merging the change log
+     * events of the chunk, the following records are spilled to disk. Defaults to keeping all the
+     * records in memory.
+     */
+    public JdbcSourceConfigFactory snapshotChunkSpillThreshold(int snapshotChunkSpillThreshold) {
+        this.snapshotChunkSpillThreshold = snapshotChunkSpillThreshold;
+        return this;
+    }
+
+    /**
+     * Whether to compute the boundaries of the unevenly-sized chunks of a table from a single
+     * sampling query, instead of querying the end of every chunk one by one. Defaults to false.
+     */
+    public JdbcSourceConfigFactory chunkSamplingEnabled(boolean chunkSamplingEnabled) {
+        this.chunkSamplingEnabled = chunkSamplingEnabled;
+        return this;
+    }
+
     @Override
     public abstract JdbcSourceConfig create(int subtask);
 }
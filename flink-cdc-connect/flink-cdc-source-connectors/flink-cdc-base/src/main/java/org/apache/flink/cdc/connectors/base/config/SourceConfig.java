@@ -42,6 +42,8 @@ public interface SourceConfig extends Serializable {
 
     boolean isAssignUnboundedChunkFirst();
 
+    int getSnapshotChunkSpillThreshold();
+
     /** Factory for the {@code SourceConfig}. */
     @FunctionalInterface
     interface Factory<C extends SourceConfig> extends Serializable {
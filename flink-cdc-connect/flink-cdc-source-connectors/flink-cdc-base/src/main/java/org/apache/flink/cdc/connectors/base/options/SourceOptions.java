@@ -145,4 +145,20 @@ public class SourceOptions {
                     .defaultValue(false)
                     .withDescription(
                             "Whether to assign the unbounded chunks first during snapshot reading phase. This might help reduce the risk of the TaskManager experiencing an out-of-memory (OOM) error when taking a snapshot of the largest unbounded chunk.  Defaults to false.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.spill-threshold")
+                    .intType()
+                    .defaultValue(Integer.MAX_VALUE)
+                    .withDescription(
+                            "The maximum number of records of a snapshot chunk kept in memory while merging the change log events of the chunk, the following records are spilled to the local temporary directory. This might help reduce the risk of the TaskManager experiencing an out-of-memory (OOM) error when reading large chunks. By default all the records are kept in memory.");
+
+    @Experimental
+    public static final ConfigOption<Boolean> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SAMPLING_ENABLED =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.sampling.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to compute the boundaries of the unevenly-sized chunks of a table from a single sampling query, instead of querying the end of every chunk one by one. The sampling query reads a part of the table blocks with TABLESAMPLE or an equivalent clause for Postgres, SQL Server and Oracle, while it takes the every N-th row of the split key in a single full scan for the other databases. This might help reduce the time to split large tables whose split key is unevenly distributed, at the cost of less accurate chunk sizes. Defaults to false.");
 }
@@ -58,6 +58,10 @@ import static org.apache.flink.table.api.DataTypes.ROW;
 @Experimental
 public abstract class JdbcSourceChunkSplitter implements ChunkSplitter {
     private static final Logger LOG = LoggerFactory.getLogger(JdbcSourceChunkSplitter.class);
+
+    /** The number of sampled values per chunk when computing the chunk bounds by sampling. */
+    private static final int SAMPLES_PER_CHUNK = 16;
+
     protected final JdbcSourceConfig sourceConfig;
     protected final JdbcDataSourceDialect dialect;
 
@@ -113,6 +117,10 @@ public abstract class JdbcSourceChunkSplitter implements ChunkSplitter {
             Optional<List<SnapshotSplit>> evenlySplitChunks = trySplitAllEvenlySizedChunks(tableId);
             if (evenlySplitChunks.isPresent()) {
                 return evenlySplitChunks.get();
+            }
+            Optional<List<SnapshotSplit>> sampledChunks = trySplitAllSampledChunks(tableId);
+            if (sampledChunks.isPresent()) {
+                return sampledChunks.get();
             } else {
                 synchronized (lock) {
                     this.currentSplittingTableId = tableId;
@@ -196,6 +204,37 @@ public abstract class JdbcSourceChunkSplitter implements ChunkSplitter {
     protected abstract Long queryApproximateRowCnt(JdbcConnection jdbc, TableId tableId)
             throws SQLException;
 
+    /**
+     * Build the query of the split column values sampled from about one out of every <code>
+     * rowsPerSample</code> rows of the table, sorted by the split column.
+     *
+     * <p>By default, the every <code>rowsPerSample</code>-th row is taken with <code>ROW_NUMBER()
+     * </code>, which is a <b>full scan</b> of the split column of the table, usually of its index,
+     * in a single query. It gives exact chunk sizes and saves the round trip of every chunk, but it
+     * reads as many rows as splitting the chunks one by one. The dialects supporting <code>
+     * TABLESAMPLE</code> or an equivalent clause should override it to only read a part of the
+     * table instead.
+     *
+     * @param jdbc JDBC connection.
+     * @param tableId table identity.
+     * @param splitColumn column.
+     * @param rowsPerSample the number of rows per sampled value.
+     * @return the sampling query.
+     */
+    protected String buildSplitColumnSampleQuery(
+            JdbcConnection jdbc, TableId tableId, Column splitColumn, int rowsPerSample) {
+        String quotedColumn = jdbc.quotedColumnIdString(splitColumn.name());
+        return String.format(
+                "SELECT %s FROM (SELECT %s, ROW_NUMBER() OVER (ORDER BY %s) AS ROW_NUM FROM %s) T"
+                        + " WHERE MOD(ROW_NUM - 1, %s) = 0 ORDER BY %s",
+                quotedColumn,
+                quotedColumn,
+                quotedColumn,
+                jdbc.quotedTableIdString(tableId),
+                rowsPerSample,
+                quotedColumn);
+    }
+
     /**
      * Checks whether split column is evenly distributed across its range.
      *
@@ -351,6 +390,63 @@ public abstract class JdbcSourceChunkSplitter implements ChunkSplitter {
         }
     }
 
+    /**
+     * Try to split all chunks of the table at once from a sample of the split column, or else
+     * return empty.
+     *
+     * <p>This costs a single sampling query rather than one query per chunk for unevenly-sized
+     * chunks, but the chunk sizes are only approximate when the dialect samples the table randomly.
+     * The computed chunks are returned together, so they are kept in the checkpointed remaining
+     * splits and the table is not sampled again after restoring.
+     */
+    private Optional<List<SnapshotSplit>> trySplitAllSampledChunks(TableId tableId) {
+        if (!sourceConfig.isChunkSamplingEnabled()) {
+            return Optional.empty();
+        }
+        final int chunkSize = sourceConfig.getSplitSize();
+        final int rowsPerSample = Math.max(chunkSize / SAMPLES_PER_CHUNK, 1);
+        final int samplesPerChunk = Math.max(chunkSize / rowsPerSample, 1);
+        final List<Object> chunkBounds;
+        try {
+            chunkBounds =
+                    JdbcChunkUtils.querySampledChunkBounds(
+                            jdbcConnection,
+                            buildSplitColumnSampleQuery(
+                                    jdbcConnection, tableId, splitColumn, rowsPerSample),
+                            samplesPerChunk);
+        } catch (SQLException e) {
+            LOG.warn(
+                    "Failed to sample the split column of table {}, fall back to unevenly splitting chunks one by one",
+                    tableId,
+                    e);
+            return Optional.empty();
+        }
+        if (chunkBounds.isEmpty()) {
+            // too few rows are sampled to tell the chunk bounds
+            LOG.debug("Sampled no chunk bound of table {}", tableId);
+            return Optional.empty();
+        }
+        LOG.info(
+                "Use sampled chunks for table {}, the chunk size is {}, one out of {} rows is sampled, and {} chunks are split",
+                tableId,
+                chunkSize,
+                rowsPerSample,
+                chunkBounds.size() + 1);
+
+        final List<ChunkRange> chunks = new ArrayList<>();
+        Object chunkStart = null;
+        for (Object chunkEnd : chunkBounds) {
+            chunks.add(ChunkRange.of(chunkStart, chunkEnd));
+            chunkStart = chunkEnd;
+        }
+        if (sourceConfig.isAssignUnboundedChunkFirst()) {
+            chunks.add(0, ChunkRange.of(chunkStart, null));
+        } else {
+            chunks.add(ChunkRange.of(chunkStart, null));
+        }
+        return Optional.of(createSnapshotSplit(tableId, chunks));
+    }
+
     /** Analyze the meta information for given table. */
     private void analyzeTable(TableId tableId) {
         try {
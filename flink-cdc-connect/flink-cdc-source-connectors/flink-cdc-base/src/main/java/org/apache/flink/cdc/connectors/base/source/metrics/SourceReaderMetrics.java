@@ -96,6 +96,10 @@ public class SourceReaderMetrics {
         schemaChangeCounter = metricGroup.counter(NUM_DDL_RECORDS);
     }
 
+    public MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
     public long getFetchDelay() {
         return fetchDelay;
     }
@@ -24,6 +24,7 @@ import org.apache.flink.cdc.connectors.base.source.meta.split.SourceRecords;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitState;
 import org.apache.flink.cdc.connectors.base.source.metrics.SourceReaderMetrics;
 import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
+import org.apache.flink.cdc.debezium.event.DebeziumEventDeserializationSchema;
 import org.apache.flink.cdc.debezium.history.FlinkJsonTableChangeSerializer;
 import org.apache.flink.connector.base.source.reader.RecordEmitter;
 import org.apache.flink.util.Collector;
@@ -77,6 +78,10 @@ public class IncrementalSourceRecordEmitter<T>
         this.includeSchemaChanges = includeSchemaChanges;
         this.outputCollector = new OutputCollector<>();
         this.offsetFactory = offsetFactory;
+        if (debeziumDeserializationSchema instanceof DebeziumEventDeserializationSchema) {
+            ((DebeziumEventDeserializationSchema) debeziumDeserializationSchema)
+                    .registerMetrics(sourceReaderMetrics.getMetricGroup());
+        }
     }
 
     @Override
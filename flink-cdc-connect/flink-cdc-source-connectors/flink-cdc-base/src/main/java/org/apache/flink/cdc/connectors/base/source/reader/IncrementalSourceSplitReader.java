@@ -32,6 +32,7 @@ import org.apache.flink.cdc.connectors.base.source.reader.external.Fetcher;
 import org.apache.flink.cdc.connectors.base.source.reader.external.IncrementalSourceScanFetcher;
 import org.apache.flink.cdc.connectors.base.source.reader.external.IncrementalSourceStreamFetcher;
 import org.apache.flink.cdc.connectors.base.source.utils.hooks.SnapshotPhaseHooks;
+import org.apache.flink.configuration.ConfigurationUtils;
 import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
@@ -265,7 +266,10 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
         if (reusedScanFetcher == null) {
             reusedScanFetcher =
                     new IncrementalSourceScanFetcher(
-                            dataSourceDialect.createFetchTaskContext(sourceConfig), subtaskId);
+                            dataSourceDialect.createFetchTaskContext(sourceConfig),
+                            subtaskId,
+                            ConfigurationUtils.parseTempDirectories(
+                                    context.getSourceReaderContext().getConfiguration()));
         }
         return reusedScanFetcher;
     }
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.base.source.reader.external;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
+import org.apache.flink.cdc.connectors.base.source.meta.split.FinishedSnapshotSplitInfo;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
+import org.apache.flink.cdc.debezium.utils.AbstractFinishedSnapshotSplitIndex;
+
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.util.List;
+
+/**
+ * An index over the {@link FinishedSnapshotSplitInfo}s of one table, used by {@link
+ * IncrementalSourceStreamFetcher} to find the snapshot split that a change record belongs to. The
+ * split keys of the records are compared through {@link FetchTask.Context#isRecordBetween}.
+ */
+@Internal
+public class FinishedSnapshotSplitIndex
+        extends AbstractFinishedSnapshotSplitIndex<
+                FinishedSnapshotSplitInfo, SourceRecord, Offset> {
+
+    private final FetchTask.Context context;
+
+    public FinishedSnapshotSplitIndex(
+            List<FinishedSnapshotSplitInfo> splitInfos, FetchTask.Context context) {
+        super(splitInfos);
+        this.context = context;
+    }
+
+    @Override
+    protected int getChunkId(FinishedSnapshotSplitInfo split) {
+        return SnapshotSplit.extractChunkId(split.getSplitId());
+    }
+
+    @Override
+    protected Object[] getSplitStart(FinishedSnapshotSplitInfo split) {
+        return split.getSplitStart();
+    }
+
+    @Override
+    protected Object[] getSplitEnd(FinishedSnapshotSplitInfo split) {
+        return split.getSplitEnd();
+    }
+
+    @Override
+    protected boolean isKeyBetween(SourceRecord record, Object[] splitStart, Object[] splitEnd) {
+        return context.isRecordBetween(record, splitStart, splitEnd);
+    }
+
+    @Override
+    protected boolean isAfterHighWatermark(Offset position, FinishedSnapshotSplitInfo split) {
+        return position.isAfter(split.getHighWatermark());
+    }
+}
@@ -21,8 +21,10 @@ import org.apache.flink.cdc.common.annotation.VisibleForTesting;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceRecords;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import org.apache.flink.cdc.debezium.internal.SnapshotChunkBuffer;
 import org.apache.flink.util.FlinkRuntimeException;
 
+import org.apache.flink.shaded.guava31.com.google.common.collect.Iterators;
 import org.apache.flink.shaded.guava31.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import io.debezium.connector.base.ChangeEventQueue;
@@ -35,10 +37,9 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -62,6 +63,9 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
 
     private final FetchTask.Context taskContext;
     private final ExecutorService executorService;
+    private final String[] spillDirectories;
+    // the buffers of the chunks whose spilled records might not be fully read yet
+    private final List<SnapshotChunkBuffer> spilledBuffers = new ArrayList<>();
     private volatile ChangeEventQueue<DataChangeEvent> queue;
     private volatile Throwable readException;
 
@@ -70,9 +74,16 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
     private SnapshotSplit currentSnapshotSplit;
 
     private static final long READER_CLOSE_TIMEOUT_SECONDS = 30L;
+    private static final int SPILLED_RECORDS_BATCH_SIZE = 1024;
 
     public IncrementalSourceScanFetcher(FetchTask.Context taskContext, int subtaskId) {
+        this(taskContext, subtaskId, SnapshotChunkBuffer.getDefaultSpillDirectories());
+    }
+
+    public IncrementalSourceScanFetcher(
+            FetchTask.Context taskContext, int subtaskId, String[] spillDirectories) {
         this.taskContext = taskContext;
+        this.spillDirectories = spillDirectories;
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder()
                         .setNameFormat("debezium-snapshot-reader-" + subtaskId)
@@ -123,7 +134,13 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
             boolean reachChangeLogEnd = false;
             SourceRecord lowWatermark = null;
             SourceRecord highWatermark = null;
-            Map<Struct, SourceRecord> outputBuffer = new HashMap<>();
+            SnapshotChunkBuffer outputBuffer =
+                    new SnapshotChunkBuffer(
+                            taskContext.getSourceConfig().getSnapshotChunkSpillThreshold(),
+                            spillDirectories);
+            // the buffers are closed once fully read, the remaining ones are closed with the reader
+            spilledBuffers.removeIf(buffer -> buffer.isClosed() || !buffer.isSpilled());
+            spilledBuffers.add(outputBuffer);
             while (!reachChangeLogEnd) {
                 checkReadException();
                 List<DataChangeEvent> batch = queue.poll();
@@ -153,7 +170,7 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
                     } else {
                         if (isChangeRecordInChunkRange(record)) {
                             // rewrite overlapping snapshot records through the record key
-                            taskContext.rewriteOutputBuffer(outputBuffer, record);
+                            taskContext.rewriteOutputBuffer(outputBuffer.asMap(), record);
                         }
                     }
                 }
@@ -161,9 +178,23 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
             // snapshot split return its data once
             hasNextElement.set(false);
 
+            if (outputBuffer.isSpilled()) {
+                // read back the spilled records lazily in batches
+                return Iterators.concat(
+                        Iterators.singletonIterator(
+                                new SourceRecords(Collections.singletonList(lowWatermark))),
+                        Iterators.transform(
+                                outputBuffer.batchIterator(SPILLED_RECORDS_BATCH_SIZE),
+                                batch ->
+                                        new SourceRecords(
+                                                taskContext.formatMessageTimestamp(batch))),
+                        Iterators.singletonIterator(
+                                new SourceRecords(Collections.singletonList(highWatermark))));
+            }
+
             final List<SourceRecord> normalizedRecords = new ArrayList<>();
             normalizedRecords.add(lowWatermark);
-            normalizedRecords.addAll(taskContext.formatMessageTimestamp(outputBuffer.values()));
+            normalizedRecords.addAll(taskContext.formatMessageTimestamp(outputBuffer.records()));
             normalizedRecords.add(highWatermark);
 
             final List<SourceRecords> sourceRecordsSet = new ArrayList<>();
@@ -201,6 +232,9 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
     @Override
     public void close() {
         try {
+            spilledBuffers.forEach(SnapshotChunkBuffer::close);
+            spilledBuffers.clear();
+
             if (taskContext != null) {
                 taskContext.close();
             }
@@ -61,7 +61,7 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
 
     private FetchTask<SourceSplitBase> streamFetchTask;
     private StreamSplit currentStreamSplit;
-    private Map<TableId, List<FinishedSnapshotSplitInfo>> finishedSplitsInfo;
+    private Map<TableId, FinishedSnapshotSplitIndex> finishedSplitsIndex;
     // tableId -> the max splitHighWatermark
     private Map<TableId, Offset> maxSplitHighWatermarkMap;
 
@@ -183,16 +183,8 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
                 return true;
             }
             // only the table who captured snapshot splits need to filter
-            if (finishedSplitsInfo.containsKey(tableId)) {
-                for (FinishedSnapshotSplitInfo splitInfo : finishedSplitsInfo.get(tableId)) {
-                    if (taskContext.isRecordBetween(
-                                    sourceRecord,
-                                    splitInfo.getSplitStart(),
-                                    splitInfo.getSplitEnd())
-                            && position.isAfter(splitInfo.getHighWatermark())) {
-                        return true;
-                    }
-                }
+            if (finishedSplitsIndex.containsKey(tableId)) {
+                return finishedSplitsIndex.get(tableId).shouldEmit(sourceRecord, position);
             }
             // not in the monitored splits scope, do not emit
             return false;
@@ -251,7 +243,12 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
                 }
             }
         }
-        this.finishedSplitsInfo = splitsInfoMap;
+        Map<TableId, FinishedSnapshotSplitIndex> splitsIndexMap = new HashMap<>();
+        for (Map.Entry<TableId, List<FinishedSnapshotSplitInfo>> entry : splitsInfoMap.entrySet()) {
+            splitsIndexMap.put(
+                    entry.getKey(), new FinishedSnapshotSplitIndex(entry.getValue(), taskContext));
+        }
+        this.finishedSplitsIndex = splitsIndexMap;
         this.maxSplitHighWatermarkMap = tableIdOffsetPositionMap;
         this.pureStreamPhaseTables.clear();
     }
@@ -26,7 +26,9 @@ import io.debezium.relational.Table;
 import javax.annotation.Nullable;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -100,6 +102,39 @@ public class JdbcChunkUtils {
                 });
     }
 
+    /**
+     * Query the chunk bounds of the table from the sorted values of the split column, which are
+     * sampled by the given query. Every <code>samplesPerChunk</code>-th sampled value is a chunk
+     * bound, and the repeated ones are skipped, so the returned chunk bounds are strictly
+     * increasing in the order of the database.
+     *
+     * @param jdbc JDBC connection.
+     * @param sampleQuery query of the sampled values of the split column sorted by the split
+     *     column.
+     * @param samplesPerChunk the number of sampled values per chunk.
+     * @return the chunk bounds excluding the unbounded start and end.
+     */
+    public static List<Object> querySampledChunkBounds(
+            JdbcConnection jdbc, String sampleQuery, int samplesPerChunk) throws SQLException {
+        return jdbc.queryAndMap(
+                sampleQuery,
+                rs -> {
+                    List<Object> chunkBounds = new ArrayList<>();
+                    Object lastChunkBound = null;
+                    for (long sampleIndex = 0; rs.next(); sampleIndex++) {
+                        if (sampleIndex == 0 || sampleIndex % samplesPerChunk != 0) {
+                            continue;
+                        }
+                        Object chunkBound = rs.getObject(1);
+                        if (chunkBound != null && !Objects.equals(chunkBound, lastChunkBound)) {
+                            chunkBounds.add(chunkBound);
+                            lastChunkBound = chunkBound;
+                        }
+                    }
+                    return chunkBounds;
+                });
+    }
+
     /**
      * Get the column which is seen as chunk key.
      *
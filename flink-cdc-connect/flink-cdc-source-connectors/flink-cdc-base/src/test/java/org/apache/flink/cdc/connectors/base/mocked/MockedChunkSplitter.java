@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.base.mocked;
+
+import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfig;
+import org.apache.flink.cdc.connectors.base.dialect.JdbcDataSourceDialect;
+import org.apache.flink.cdc.connectors.base.options.StartupOptions;
+import org.apache.flink.cdc.connectors.base.source.assigner.splitter.JdbcSourceChunkSplitter;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.DataType;
+
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Properties;
+
+/**
+ * A {@link JdbcSourceChunkSplitter} for MySQL, which splits the given table through the given
+ * connection.
+ */
+public class MockedChunkSplitter extends JdbcSourceChunkSplitter {
+
+    public MockedChunkSplitter(JdbcSourceConfig sourceConfig, JdbcConnection jdbc, Table table) {
+        super(sourceConfig, createDialect(jdbc, table), null, null, null);
+    }
+
+    /** Creates the source config of a MySQL table for chunk splitting. */
+    public static MockedSourceConfig createSourceConfig(
+            TableId tableId, int splitSize, boolean chunkSamplingEnabled) {
+        return new MockedSourceConfig(
+                StartupOptions.initial(),
+                Collections.singletonList(tableId.catalog()),
+                Collections.singletonList(tableId.identifier()),
+                splitSize,
+                1,
+                1000.0d,
+                0.05d,
+                false,
+                false,
+                new Properties(),
+                null,
+                "com.mysql.cj.jdbc.Driver",
+                "localhost",
+                3306,
+                "user",
+                "password",
+                1024,
+                "UTC",
+                Duration.ofSeconds(30),
+                3,
+                1,
+                false,
+                chunkSamplingEnabled);
+    }
+
+    @Override
+    protected Object queryNextChunkMax(
+            JdbcConnection jdbc,
+            TableId tableId,
+            Column splitColumn,
+            int chunkSize,
+            Object includedLowerBound)
+            throws SQLException {
+        String quotedColumn = jdbc.quotedColumnIdString(splitColumn.name());
+        String query =
+                String.format(
+                        "SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s >= ? ORDER BY %s ASC LIMIT %s) AS T",
+                        quotedColumn,
+                        quotedColumn,
+                        jdbc.quotedTableIdString(tableId),
+                        quotedColumn,
+                        quotedColumn,
+                        chunkSize);
+        return jdbc.prepareQueryAndMap(
+                query,
+                ps -> ps.setObject(1, includedLowerBound),
+                rs -> rs.next() ? rs.getObject(1) : null);
+    }
+
+    @Override
+    protected Long queryApproximateRowCnt(JdbcConnection jdbc, TableId tableId)
+            throws SQLException {
+        return jdbc.queryAndMap(
+                "SELECT COUNT(*) FROM " + jdbc.quotedTableIdString(tableId),
+                rs -> rs.next() ? ((Number) rs.getObject(1)).longValue() : 0L);
+    }
+
+    @Override
+    protected DataType fromDbzColumn(Column splitColumn) {
+        switch (splitColumn.jdbcType()) {
+            case Types.INTEGER:
+                return DataTypes.INT();
+            case Types.BIGINT:
+                return DataTypes.BIGINT();
+            default:
+                return DataTypes.STRING();
+        }
+    }
+
+    private static JdbcDataSourceDialect createDialect(JdbcConnection jdbc, Table table) {
+        TableChanges.TableChange schema =
+                new TableChanges.TableChange(TableChanges.TableChangeType.CREATE, table);
+        return (JdbcDataSourceDialect)
+                Proxy.newProxyInstance(
+                        MockedChunkSplitter.class.getClassLoader(),
+                        new Class<?>[] {JdbcDataSourceDialect.class},
+                        (proxy, method, args) -> {
+                            switch (method.getName()) {
+                                case "openJdbcConnection":
+                                    return jdbc;
+                                case "queryTableSchema":
+                                    return schema;
+                                default:
+                                    throw new UnsupportedOperationException(method.getName());
+                            }
+                        });
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.base.mocked;
+
+import io.debezium.jdbc.JdbcConfiguration;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.TableId;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A {@link JdbcConnection} quoting like MySQL, which answers the queries with the rows of the given
+ * function instead of connecting to a database. The queries answered by null fail.
+ */
+public class MockedJdbcConnection extends JdbcConnection {
+
+    private final Function<String, List<Object[]>> rowsOfQuery;
+    private final List<String> queries = new ArrayList<>();
+
+    public MockedJdbcConnection(Function<String, List<Object[]>> rowsOfQuery) {
+        super(
+                JdbcConfiguration.create().build(),
+                config -> {
+                    throw new SQLException("The mocked connection is not connected.");
+                },
+                "`",
+                "`");
+        this.rowsOfQuery = rowsOfQuery;
+    }
+
+    /** Returns the queries run on the connection. */
+    public List<String> getQueries() {
+        return queries;
+    }
+
+    @Override
+    public <T> T queryAndMap(String query, ResultSetMapper<T> mapper) throws SQLException {
+        return mapper.apply(query(query));
+    }
+
+    @Override
+    public <T> T prepareQueryAndMap(
+            String preparedQueryString, StatementPreparer preparer, ResultSetMapper<T> mapper)
+            throws SQLException {
+        return mapper.apply(query(preparedQueryString));
+    }
+
+    @Override
+    public String quotedTableIdString(TableId tableId) {
+        return tableId.toQuotedString('`');
+    }
+
+    @Override
+    public synchronized void close() {}
+
+    private ResultSet query(String query) throws SQLException {
+        queries.add(query);
+        List<Object[]> rows = rowsOfQuery.apply(query);
+        if (rows == null) {
+            throw new SQLException("Failed to run the query " + query);
+        }
+        Iterator<Object[]> iterator = rows.iterator();
+        Object[][] current = new Object[1][];
+        return (ResultSet)
+                Proxy.newProxyInstance(
+                        MockedJdbcConnection.class.getClassLoader(),
+                        new Class<?>[] {ResultSet.class},
+                        (proxy, method, args) -> {
+                            switch (method.getName()) {
+                                case "next":
+                                    current[0] = iterator.hasNext() ? iterator.next() : null;
+                                    return current[0] != null;
+                                case "getObject":
+                                    return current[0][(int) args[0] - 1];
+                                case "close":
+                                    return null;
+                                default:
+                                    throw new UnsupportedOperationException(method.getName());
+                            }
+                        });
+    }
+}
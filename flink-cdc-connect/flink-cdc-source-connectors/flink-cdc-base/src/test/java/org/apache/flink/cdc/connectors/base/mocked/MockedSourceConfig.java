@@ -60,6 +60,56 @@ public class MockedSourceConfig extends JdbcSourceConfig {
             int connectMaxRetries,
             int connectionPoolSize,
             boolean isScanNewlyAddedTableEnabled) {
+        this(
+                startupOptions,
+                databaseList,
+                tableList,
+                splitSize,
+                splitMetaGroupSize,
+                distributionFactorUpper,
+                distributionFactorLower,
+                includeSchemaChanges,
+                closeIdleReaders,
+                dbzProperties,
+                dbzConfiguration,
+                driverClassName,
+                hostname,
+                port,
+                username,
+                password,
+                fetchSize,
+                serverTimeZone,
+                connectTimeout,
+                connectMaxRetries,
+                connectionPoolSize,
+                isScanNewlyAddedTableEnabled,
+                false);
+    }
+
+    public MockedSourceConfig(
+            StartupOptions startupOptions,
+            List<String> databaseList,
+            List<String> tableList,
+            int splitSize,
+            int splitMetaGroupSize,
+            double distributionFactorUpper,
+            double distributionFactorLower,
+            boolean includeSchemaChanges,
+            boolean closeIdleReaders,
+            Properties dbzProperties,
+            Configuration dbzConfiguration,
+            String driverClassName,
+            String hostname,
+            int port,
+            String username,
+            String password,
+            int fetchSize,
+            String serverTimeZone,
+            Duration connectTimeout,
+            int connectMaxRetries,
+            int connectionPoolSize,
+            boolean isScanNewlyAddedTableEnabled,
+            boolean chunkSamplingEnabled) {
         super(
                 startupOptions,
                 databaseList,
@@ -86,7 +136,9 @@ public class MockedSourceConfig extends JdbcSourceConfig {
                 null,
                 true,
                 isScanNewlyAddedTableEnabled,
-                false);
+                false,
+                Integer.MAX_VALUE,
+                chunkSamplingEnabled);
     }
 
     @Override
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.base.source.assigner.splitter;
+
+import org.apache.flink.cdc.connectors.base.mocked.MockedChunkSplitter;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.mysql.MySqlConnection;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Integration tests for the sampled chunks of {@link JdbcSourceChunkSplitter} on MySQL. */
+class JdbcSourceChunkSplitterITCase {
+
+    private static final String DATABASE = "chunk_sampling";
+    private static final TableId TABLE_ID = new TableId(DATABASE, null, "orders");
+    private static final int ROW_COUNT = 1000;
+    private static final int CHUNK_SIZE = 100;
+
+    private static final MySQLContainer<?> MYSQL_CONTAINER =
+            new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+                    .withDatabaseName(DATABASE)
+                    .withUsername("mysqluser")
+                    .withPassword("mysqlpw");
+
+    private static MySqlConnection jdbc;
+    private static Table table;
+
+    @BeforeAll
+    static void startContainer() throws Exception {
+        MYSQL_CONTAINER.start();
+        jdbc =
+                new MySqlConnection(
+                        new MySqlConnection.MySqlConnectionConfiguration(
+                                Configuration.create()
+                                        .with("database.hostname", MYSQL_CONTAINER.getHost())
+                                        .with(
+                                                "database.port",
+                                                MYSQL_CONTAINER.getMappedPort(
+                                                        MySQLContainer.MYSQL_PORT))
+                                        .with("database.user", "root")
+                                        .with("database.password", "mysqlpw")
+                                        .build()));
+        jdbc.connect();
+        // the random keys are unevenly distributed in their range, so they are not split evenly
+        jdbc.execute(
+                "CREATE TABLE `chunk_sampling`.`orders` (id VARCHAR(36) PRIMARY KEY, amount INT)");
+        StringBuilder insert = new StringBuilder("INSERT INTO `chunk_sampling`.`orders` VALUES ");
+        for (int i = 0; i < ROW_COUNT; i++) {
+            insert.append(i == 0 ? "" : ",")
+                    .append("('")
+                    .append(UUID.randomUUID())
+                    .append("',")
+                    .append(i)
+                    .append(")");
+        }
+        jdbc.execute(insert.toString());
+
+        Tables tables = new Tables();
+        jdbc.readSchema(
+                tables,
+                DATABASE,
+                null,
+                tableId -> tableId.table().equals(TABLE_ID.table()),
+                null,
+                false);
+        table = tables.forTable(TABLE_ID);
+    }
+
+    @AfterAll
+    static void stopContainer() throws Exception {
+        if (jdbc != null) {
+            jdbc.close();
+        }
+        MYSQL_CONTAINER.stop();
+    }
+
+    @Test
+    void testSplitSampledChunks() throws Exception {
+        MockedChunkSplitter splitter =
+                new MockedChunkSplitter(
+                        MockedChunkSplitter.createSourceConfig(TABLE_ID, CHUNK_SIZE, true),
+                        jdbc,
+                        table);
+        splitter.open();
+        List<SnapshotSplit> splits = new ArrayList<>(splitter.generateSplits(TABLE_ID));
+
+        // all the chunks are split at once from the sampled keys
+        assertThat(splitter.hasNextChunk()).isFalse();
+        assertChunksCoverTable(splits);
+        // one out of 6 rows is sampled and a chunk has 16 samples, so the chunks have 96 rows
+        for (int i = 0; i < splits.size() - 1; i++) {
+            assertThat(countRows(splits.get(i))).isEqualTo(96);
+        }
+    }
+
+    @Test
+    void testSplitChunksOneByOneWithoutSampling() throws Exception {
+        MockedChunkSplitter splitter =
+                new MockedChunkSplitter(
+                        MockedChunkSplitter.createSourceConfig(TABLE_ID, CHUNK_SIZE, false),
+                        jdbc,
+                        table);
+        splitter.open();
+        List<SnapshotSplit> splits = new ArrayList<>(splitter.generateSplits(TABLE_ID));
+        assertThat(splits).hasSize(1);
+        while (splitter.hasNextChunk()) {
+            splits.addAll(splitter.generateSplits(TABLE_ID));
+        }
+
+        assertChunksCoverTable(splits);
+    }
+
+    private static void assertChunksCoverTable(List<SnapshotSplit> splits) throws Exception {
+        assertThat(splits.size()).isGreaterThan(1);
+        assertThat(splits.get(0).getSplitStart()).isNull();
+        assertThat(splits.get(splits.size() - 1).getSplitEnd()).isNull();
+        long rows = 0;
+        for (int i = 0; i < splits.size(); i++) {
+            if (i > 0) {
+                assertThat(splits.get(i).getSplitStart())
+                        .isEqualTo(splits.get(i - 1).getSplitEnd());
+            }
+            rows += countRows(splits.get(i));
+        }
+        assertThat(rows).isEqualTo(ROW_COUNT);
+    }
+
+    private static long countRows(SnapshotSplit split) throws Exception {
+        Object start = split.getSplitStart() == null ? null : split.getSplitStart()[0];
+        Object end = split.getSplitEnd() == null ? null : split.getSplitEnd()[0];
+        return jdbc.prepareQueryAndMap(
+                "SELECT COUNT(*) FROM `chunk_sampling`.`orders`"
+                        + " WHERE (? IS NULL OR id >= ?) AND (? IS NULL OR id < ?)",
+                ps -> {
+                    ps.setObject(1, start);
+                    ps.setObject(2, start);
+                    ps.setObject(3, end);
+                    ps.setObject(4, end);
+                },
+                rs -> {
+                    rs.next();
+                    return rs.getLong(1);
+                });
+    }
+}
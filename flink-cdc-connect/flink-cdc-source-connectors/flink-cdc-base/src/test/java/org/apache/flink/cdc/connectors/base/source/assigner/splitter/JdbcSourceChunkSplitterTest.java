@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.base.source.assigner.splitter;
+
+import org.apache.flink.cdc.connectors.base.mocked.MockedChunkSplitter;
+import org.apache.flink.cdc.connectors.base.mocked.MockedJdbcConnection;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
+
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for the sampled chunks of {@link JdbcSourceChunkSplitter}. */
+class JdbcSourceChunkSplitterTest {
+
+    private static final TableId TABLE_ID = new TableId("test_db", null, "orders");
+
+    private static final Table TABLE =
+            Table.editor()
+                    .tableId(TABLE_ID)
+                    .addColumn(
+                            Column.editor()
+                                    .name("id")
+                                    .type("VARCHAR")
+                                    .jdbcType(Types.VARCHAR)
+                                    .length(32)
+                                    .create())
+                    .setPrimaryKeyNames("id")
+                    .create();
+
+    // with a chunk size of 32, one out of 2 rows is sampled and a chunk has 16 samples
+    private static final int CHUNK_SIZE = 32;
+
+    @Test
+    void testSplitSampledChunks() throws Exception {
+        MockedJdbcConnection jdbc = new MockedJdbcConnection(queries(samples(40)));
+        List<SnapshotSplit> splits = generateAllSplits(jdbc, true);
+
+        assertThat(splitBounds(splits))
+                .containsExactly(
+                        Arrays.asList(null, "k16"),
+                        Arrays.asList("k16", "k32"),
+                        Arrays.asList("k32", null));
+        // all the chunks are computed by the single sampling query
+        assertThat(jdbc.getQueries())
+                .filteredOn(query -> query.contains("ROW_NUMBER()"))
+                .containsExactly(
+                        "SELECT `id` FROM (SELECT `id`, ROW_NUMBER() OVER (ORDER BY `id`) AS ROW_NUM"
+                                + " FROM `test_db`.`orders`) T WHERE MOD(ROW_NUM - 1, 2) = 0"
+                                + " ORDER BY `id`");
+        assertThat(jdbc.getQueries()).noneMatch(query -> query.contains("LIMIT"));
+    }
+
+    @Test
+    void testFallBackWhenSamplingFails() throws Exception {
+        Function<String, List<Object[]>> answers = queries(null);
+        MockedJdbcConnection jdbc = new MockedJdbcConnection(answers);
+        List<SnapshotSplit> splits = generateAllSplits(jdbc, true);
+
+        // the chunks are split one by one
+        assertThat(splitBounds(splits))
+                .containsExactly(Arrays.asList(null, "k31"), Arrays.asList("k31", null));
+        assertThat(jdbc.getQueries()).anyMatch(query -> query.contains("ROW_NUMBER()"));
+        assertThat(jdbc.getQueries()).anyMatch(query -> query.contains("LIMIT"));
+    }
+
+    @Test
+    void testFallBackWhenTooFewSamples() throws Exception {
+        MockedJdbcConnection jdbc = new MockedJdbcConnection(queries(samples(10)));
+        List<SnapshotSplit> splits = generateAllSplits(jdbc, true);
+
+        assertThat(splitBounds(splits))
+                .containsExactly(Arrays.asList(null, "k31"), Arrays.asList("k31", null));
+    }
+
+    @Test
+    void testSamplingDisabled() throws Exception {
+        MockedJdbcConnection jdbc = new MockedJdbcConnection(queries(samples(40)));
+        List<SnapshotSplit> splits = generateAllSplits(jdbc, false);
+
+        assertThat(splitBounds(splits))
+                .containsExactly(Arrays.asList(null, "k31"), Arrays.asList("k31", null));
+        assertThat(jdbc.getQueries()).noneMatch(query -> query.contains("ROW_NUMBER()"));
+    }
+
+    private static List<SnapshotSplit> generateAllSplits(
+            MockedJdbcConnection jdbc, boolean chunkSamplingEnabled) throws Exception {
+        MockedChunkSplitter splitter =
+                new MockedChunkSplitter(
+                        MockedChunkSplitter.createSourceConfig(
+                                TABLE_ID, CHUNK_SIZE, chunkSamplingEnabled),
+                        jdbc,
+                        TABLE);
+        splitter.open();
+        List<SnapshotSplit> splits = new ArrayList<>(splitter.generateSplits(TABLE_ID));
+        while (splitter.hasNextChunk()) {
+            Collection<SnapshotSplit> next = splitter.generateSplits(TABLE_ID);
+            splits.addAll(next);
+        }
+        splitter.close();
+        return splits;
+    }
+
+    /**
+     * Answers the queries of the splitter on a table of the keys from "k00" to "k39", the sampling
+     * query is answered by the given samples.
+     */
+    private static Function<String, List<Object[]>> queries(List<Object[]> samples) {
+        return query -> {
+            if (query.contains("ROW_NUMBER()")) {
+                return samples;
+            } else if (query.contains("MAX(`id`) FROM (SELECT")) {
+                // the end of the chunks split one by one, so the second chunk is the last one
+                return Collections.singletonList(new Object[] {"k31"});
+            } else if (query.startsWith("SELECT MIN(`id`) FROM")) {
+                // the start of the second chunk is the only one before the max value
+                return Collections.singletonList(new Object[] {"k39"});
+            } else if (query.startsWith("SELECT MIN(`id`), MAX(`id`)")) {
+                return Collections.singletonList(new Object[] {"k00", "k39"});
+            } else if (query.startsWith("SELECT COUNT(*)")) {
+                return Collections.singletonList(new Object[] {40L});
+            }
+            return null;
+        };
+    }
+
+    private static List<Object[]> samples(int size) {
+        List<Object[]> samples = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            samples.add(new Object[] {String.format("k%02d", i)});
+        }
+        return samples;
+    }
+
+    private static List<List<Object>> splitBounds(List<SnapshotSplit> splits) {
+        List<List<Object>> bounds = new ArrayList<>();
+        for (SnapshotSplit split : splits) {
+            bounds.add(
+                    Arrays.asList(
+                            split.getSplitStart() == null ? null : split.getSplitStart()[0],
+                            split.getSplitEnd() == null ? null : split.getSplitEnd()[0]));
+        }
+        return bounds;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.base.source.utils;
+
+import org.apache.flink.cdc.connectors.base.mocked.MockedJdbcConnection;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link JdbcChunkUtils}. */
+class JdbcChunkUtilsTest {
+
+    @Test
+    void testSampledChunkBounds() throws SQLException {
+        MockedJdbcConnection jdbc =
+                new MockedJdbcConnection(query -> samples("a", "b", "c", "d", "e", "f", "g"));
+        // every third sample is a chunk bound, the first sample is the unbounded start
+        assertThat(JdbcChunkUtils.querySampledChunkBounds(jdbc, "sample", 3))
+                .containsExactly("d", "g");
+        assertThat(JdbcChunkUtils.querySampledChunkBounds(jdbc, "sample", 1))
+                .containsExactly("b", "c", "d", "e", "f", "g");
+        assertThat(jdbc.getQueries()).containsOnly("sample");
+    }
+
+    @Test
+    void testSampledChunkBoundsSkipRepeatedAndNullValues() throws SQLException {
+        MockedJdbcConnection jdbc =
+                new MockedJdbcConnection(
+                        query -> samples(null, "a", null, "b", "b", "b", "b", "c", "c", "d"));
+        // the repeated bounds would make empty chunks, the null bounds would be unbounded
+        assertThat(JdbcChunkUtils.querySampledChunkBounds(jdbc, "sample", 2))
+                .containsExactly("b", "c");
+    }
+
+    @Test
+    void testTooFewSamples() throws SQLException {
+        MockedJdbcConnection jdbc = new MockedJdbcConnection(query -> samples("a", "b", "c"));
+        assertThat(JdbcChunkUtils.querySampledChunkBounds(jdbc, "sample", 3)).isEmpty();
+    }
+
+    @Test
+    void testFailedSampleQuery() {
+        MockedJdbcConnection jdbc = new MockedJdbcConnection(query -> null);
+        assertThatThrownBy(() -> JdbcChunkUtils.querySampledChunkBounds(jdbc, "sample", 3))
+                .isInstanceOf(SQLException.class);
+    }
+
+    private static List<Object[]> samples(Object... values) {
+        return Arrays.stream(values)
+                .map(value -> new Object[] {value})
+                .collect(Collectors.toList());
+    }
+}
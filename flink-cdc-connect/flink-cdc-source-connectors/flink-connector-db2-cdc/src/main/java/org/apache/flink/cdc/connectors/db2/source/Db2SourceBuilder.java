@@ -241,6 +241,24 @@ public class Db2SourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The maximum number of records of a snapshot chunk kept in memory while merging the change log
+     * events of the chunk, the following records are spilled to disk.
+     */
+    public Db2SourceBuilder<T> snapshotChunkSpillThreshold(int snapshotChunkSpillThreshold) {
+        this.configFactory.snapshotChunkSpillThreshold(snapshotChunkSpillThreshold);
+        return this;
+    }
+
+    /**
+     * Whether to compute the boundaries of the unevenly-sized chunks of a table from a single
+     * sampling query, instead of querying the end of every chunk one by one.
+     */
+    public Db2SourceBuilder<T> chunkSamplingEnabled(boolean chunkSamplingEnabled) {
+        this.configFactory.chunkSamplingEnabled(chunkSamplingEnabled);
+        return this;
+    }
+
     /**
      * Build the {@link Db2IncrementalSource}.
      *
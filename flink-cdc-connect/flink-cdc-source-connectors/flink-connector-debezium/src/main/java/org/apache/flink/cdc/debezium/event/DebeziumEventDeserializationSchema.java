@@ -37,6 +37,9 @@ import org.apache.flink.cdc.debezium.table.DeserializationRuntimeConverter;
 import org.apache.flink.cdc.debezium.utils.TemporalConversions;
 import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
 import org.apache.flink.cdc.runtime.typeutils.EventTypeInfo;
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.metrics.SimpleCounter;
 import org.apache.flink.util.Collector;
 
 import io.debezium.data.Envelope;
@@ -59,9 +62,9 @@ import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /** Debezium event deserializer for {@link SourceRecord}. */
 @Internal
@@ -73,8 +76,9 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
     private static final Logger LOG =
             LoggerFactory.getLogger(DebeziumEventDeserializationSchema.class);
 
-    private static final Map<DataType, DeserializationRuntimeConverter> CONVERTERS =
-            new ConcurrentHashMap<>();
+    public static final String CONVERTER_PLAN_CACHE_HITS = "converterPlanCacheHits";
+
+    public static final String CONVERTER_PLAN_CACHE_MISSES = "converterPlanCacheMisses";
 
     /** The schema data type inference. */
     protected final SchemaDataTypeInference schemaDataTypeInference;
@@ -88,11 +92,30 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
         this.changelogMode = changelogMode;
     }
 
+    /** Cached converter plans, created lazily as the deserializer is shipped to the readers. */
+    private transient ConverterPlanCache converterPlanCache;
+
     @Override
     public void deserialize(SourceRecord record, Collector<Event> out) throws Exception {
         deserialize(record).forEach(out::collect);
     }
 
+    @Override
+    public List<? extends Event> deserialize(SourceRecord record) throws Exception {
+        if (isSchemaChangeRecord(record)) {
+            // the table schema may have changed, drop the plans compiled for the old schemas
+            getConverterPlanCache().invalidate();
+        }
+        return super.deserialize(record);
+    }
+
+    /** Registers the hit and miss counters of the converter plan cache to the metric group. */
+    public void registerMetrics(MetricGroup metricGroup) {
+        ConverterPlanCache cache = getConverterPlanCache();
+        metricGroup.counter(CONVERTER_PLAN_CACHE_HITS, cache.hits);
+        metricGroup.counter(CONVERTER_PLAN_CACHE_MISSES, cache.misses);
+    }
+
     @Override
     public List<DataChangeEvent> deserializeDataChangeRecord(SourceRecord record) throws Exception {
         Envelope.Operation op = Envelope.operationFor(record);
@@ -103,15 +126,15 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
         Map<String, String> meta = getMetadata(record);
 
         if (op == Envelope.Operation.CREATE || op == Envelope.Operation.READ) {
-            RecordData after = extractAfterDataRecord(value, valueSchema);
+            RecordData after = extractAfterDataRecord(tableId, value, valueSchema);
             return Collections.singletonList(DataChangeEvent.insertEvent(tableId, after, meta));
         } else if (op == Envelope.Operation.DELETE) {
-            RecordData before = extractBeforeDataRecord(value, valueSchema);
+            RecordData before = extractBeforeDataRecord(tableId, value, valueSchema);
             return Collections.singletonList(DataChangeEvent.deleteEvent(tableId, before, meta));
         } else if (op == Envelope.Operation.UPDATE) {
-            RecordData after = extractAfterDataRecord(value, valueSchema);
+            RecordData after = extractAfterDataRecord(tableId, value, valueSchema);
             if (changelogMode == DebeziumChangelogMode.ALL) {
-                RecordData before = extractBeforeDataRecord(value, valueSchema);
+                RecordData before = extractBeforeDataRecord(tableId, value, valueSchema);
                 return Collections.singletonList(
                         DataChangeEvent.updateEvent(tableId, before, after, meta));
             }
@@ -128,25 +151,68 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
         return new EventTypeInfo();
     }
 
-    private RecordData extractBeforeDataRecord(Struct value, Schema valueSchema) throws Exception {
+    private RecordData extractBeforeDataRecord(TableId tableId, Struct value, Schema valueSchema)
+            throws Exception {
         Schema beforeSchema = fieldSchema(valueSchema, Envelope.FieldName.BEFORE);
         Struct beforeValue = fieldStruct(value, Envelope.FieldName.BEFORE);
-        return extractDataRecord(beforeValue, beforeSchema);
+        return extractDataRecord(tableId, beforeValue, beforeSchema);
     }
 
-    private RecordData extractAfterDataRecord(Struct value, Schema valueSchema) throws Exception {
+    private RecordData extractAfterDataRecord(TableId tableId, Struct value, Schema valueSchema)
+            throws Exception {
         Schema afterSchema = fieldSchema(valueSchema, Envelope.FieldName.AFTER);
         Struct afterValue = fieldStruct(value, Envelope.FieldName.AFTER);
-        return extractDataRecord(afterValue, afterSchema);
+        return extractDataRecord(tableId, afterValue, afterSchema);
     }
 
-    private RecordData extractDataRecord(Struct value, Schema valueSchema) throws Exception {
-        DataType dataType = schemaDataTypeInference.infer(value, valueSchema);
-        return (RecordData) getOrCreateConverter(dataType).convert(value, valueSchema);
+    private RecordData extractDataRecord(TableId tableId, Struct value, Schema valueSchema)
+            throws Exception {
+        if (value == null) {
+            return null;
+        }
+        return getOrCreateConverterPlan(tableId, value, valueSchema).convert(value);
     }
 
-    private DeserializationRuntimeConverter getOrCreateConverter(DataType type) {
-        return CONVERTERS.computeIfAbsent(type, this::createConverter);
+    /**
+     * Returns the converter plan of the given table. A cached plan is reused as long as it was
+     * compiled for the very same kafka connect {@link Schema} instance (debezium creates a new one
+     * whenever the table schema changes) and, for schemas whose inferred type depends on the
+     * values, the inferred type of the current row is still the same.
+     */
+    private ConverterPlan getOrCreateConverterPlan(
+            TableId tableId, Struct value, Schema valueSchema) {
+        ConverterPlanCache cache = getConverterPlanCache();
+        ConverterPlan plan = cache.plans.get(tableId);
+        DataType dataType = null;
+        if (plan != null && plan.schema == valueSchema) {
+            if (!plan.valueDependent) {
+                cache.hits.inc();
+                return plan;
+            }
+            dataType = schemaDataTypeInference.infer(value, valueSchema);
+            if (dataType.equals(plan.rowType)) {
+                cache.hits.inc();
+                return plan;
+            }
+        }
+        cache.misses.inc();
+        if (dataType == null) {
+            dataType = schemaDataTypeInference.infer(value, valueSchema);
+        }
+        plan =
+                new ConverterPlan(
+                        valueSchema,
+                        (RowType) dataType,
+                        schemaDataTypeInference.isValueDependent(valueSchema));
+        cache.plans.put(tableId, plan);
+        return plan;
+    }
+
+    private ConverterPlanCache getConverterPlanCache() {
+        if (converterPlanCache == null) {
+            converterPlanCache = new ConverterPlanCache();
+        }
+        return converterPlanCache;
     }
 
     // -------------------------------------------------------------------------------------
@@ -408,6 +474,67 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
         return generator.generate(fields);
     }
 
+    // -------------------------------------------------------------------------------------
+    // Converter Plans
+    // -------------------------------------------------------------------------------------
+
+    /** The cached {@link ConverterPlan}s per table, together with the cache hit/miss counters. */
+    private static final class ConverterPlanCache {
+
+        private final Map<TableId, ConverterPlan> plans = new HashMap<>();
+        private final Counter hits = new SimpleCounter();
+        private final Counter misses = new SimpleCounter();
+
+        private void invalidate() {
+            plans.clear();
+        }
+    }
+
+    /**
+     * A converter from debezium {@link Struct} to {@link RecordData} compiled for one kafka connect
+     * {@link Schema}. The field converters, the resolved fields and the {@link
+     * BinaryRecordDataGenerator} are created once and reused for every row of the schema.
+     */
+    private final class ConverterPlan {
+
+        private final Schema schema;
+        private final RowType rowType;
+        private final boolean valueDependent;
+        private final Field[] fields;
+        private final DeserializationRuntimeConverter[] fieldConverters;
+        private final BinaryRecordDataGenerator generator;
+        private final Object[] reuseFieldValues;
+
+        private ConverterPlan(Schema schema, RowType rowType, boolean valueDependent) {
+            this.schema = schema;
+            this.rowType = rowType;
+            this.valueDependent = valueDependent;
+            this.fields = rowType.getFieldNames().stream().map(schema::field).toArray(Field[]::new);
+            this.fieldConverters =
+                    rowType.getFields().stream()
+                            .map(DataField::getType)
+                            .map(DebeziumEventDeserializationSchema.this::createConverter)
+                            .toArray(DeserializationRuntimeConverter[]::new);
+            this.generator = new BinaryRecordDataGenerator(rowType);
+            this.reuseFieldValues = new Object[fields.length];
+        }
+
+        private RecordData convert(Struct struct) throws Exception {
+            for (int i = 0; i < fields.length; i++) {
+                Field field = fields[i];
+                if (field == null) {
+                    reuseFieldValues[i] = null;
+                } else {
+                    Object fieldValue = struct.getWithoutDefault(field.name());
+                    reuseFieldValues[i] =
+                            convertField(fieldConverters[i], fieldValue, field.schema());
+                }
+            }
+            // the generator copies the values into a new record, the buffer can be reused
+            return generator.generate(reuseFieldValues);
+        }
+    }
+
     private static Object convertField(
             DeserializationRuntimeConverter fieldConverter, Object fieldValue, Schema fieldSchema)
             throws Exception {
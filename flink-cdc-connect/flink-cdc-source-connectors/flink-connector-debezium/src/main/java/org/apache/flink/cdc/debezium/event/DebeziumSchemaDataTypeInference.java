@@ -59,6 +59,41 @@ public class DebeziumSchemaDataTypeInference implements SchemaDataTypeInference,
                 : infer(value, schema, schema.type()).notNull();
     }
 
+    /**
+     * Returns whether the inferred type of the schema depends on the value.
+     *
+     * <p>Subclasses changing the inference must override this method to declare the schemas whose
+     * inferred type depends on the value, usually delegating the others to {@link
+     * #isValueDependentByDefault(Schema)}. Subclasses not overriding it are treated as value
+     * dependent for every schema, so their types are never cached.
+     */
+    @Override
+    public boolean isValueDependent(Schema schema) {
+        return getClass() != DebeziumSchemaDataTypeInference.class
+                || isValueDependentByDefault(schema);
+    }
+
+    /**
+     * Returns whether the type inferred by the methods of this class depends on the value. The
+     * fields of a struct are checked with {@link #isValueDependent(Schema)}.
+     */
+    protected boolean isValueDependentByDefault(Schema schema) {
+        switch (schema.type()) {
+            case STRING:
+                // the precision of zoned timestamp is inferred from the nanos of the value
+                return ZonedTimestamp.SCHEMA_NAME.equals(schema.name());
+            case STRUCT:
+                // the precision and scale of variable scale decimal are inferred from the value
+                return VariableScaleDecimal.LOGICAL_NAME.equals(schema.name())
+                        || schema.fields().stream().anyMatch(f -> isValueDependent(f.schema()));
+            case ARRAY:
+            case MAP:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     protected DataType infer(Object value, Schema schema, Schema.Type type) {
         switch (type) {
             case INT8:
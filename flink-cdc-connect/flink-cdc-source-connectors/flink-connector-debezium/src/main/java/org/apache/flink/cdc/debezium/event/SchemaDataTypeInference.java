@@ -34,4 +34,16 @@ public interface SchemaDataTypeInference {
      * @return the inferred data type
      */
     DataType infer(Object value, Schema schema);
+
+    /**
+     * Whether the {@link DataType} inferred from the given {@link Schema} may differ between
+     * values, e.g. the precision of a variable scale decimal. The type of a value independent
+     * schema only needs to be inferred once.
+     *
+     * @param schema the kafka connect schema
+     * @return true if the inferred data type depends on the value
+     */
+    default boolean isValueDependent(Schema schema) {
+        return true;
+    }
 }
@@ -0,0 +1,442 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.internal;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.configuration.ConfigurationUtils;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.apache.flink.util.Preconditions.checkArgument;
+
+/**
+ * A buffer of the records of a snapshot chunk, which are normalized with the backfilled change
+ * records before being emitted.
+ *
+ * <p>The records are indexed by their key and emitted in the order of their first insertion, i.e.
+ * the scan order of the chunk. A key may hold several records for tables without primary key.
+ *
+ * <p>At most {@code spillThreshold} records are kept on heap, the following records are written to
+ * a local spill file and only their file position is kept in memory. The keys of the records are
+ * always kept on heap, as they are needed to apply the backfilled changes.
+ *
+ * <p>The spill file is created in one of the given spill directories, which are usually the
+ * temporary directories of Flink ({@code io.tmp.dirs}). It is deleted once all the records have
+ * been iterated, or when the buffer is closed by its reader before.
+ */
+@Internal
+public class SnapshotChunkBuffer implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotChunkBuffer.class);
+
+    private static final String SPILL_FILE_PREFIX = "flink-cdc-snapshot-chunk-";
+
+    private final int spillThreshold;
+    private final String[] spillDirectories;
+    private final Map<Struct, Slot> index = new LinkedHashMap<>();
+
+    private int size;
+    private int inMemorySize;
+
+    // --------------------------------------------------------------------------------------------
+    // Spilling, created lazily once the spill threshold has been reached
+    // --------------------------------------------------------------------------------------------
+    @Nullable private Path spillFile;
+    @Nullable private FileChannel spillChannel;
+    @Nullable private SourceRecordSpillSerializer serializer;
+    @Nullable private DataOutputSerializer serializationBuffer;
+    @Nullable private DataInputDeserializer deserializationBuffer;
+    private long spillPosition;
+    private volatile boolean closed;
+
+    /** Creates a buffer spilling to the default temporary directories of Flink. */
+    public SnapshotChunkBuffer(int spillThreshold) {
+        this(spillThreshold, getDefaultSpillDirectories());
+    }
+
+    public SnapshotChunkBuffer(int spillThreshold, String[] spillDirectories) {
+        checkArgument(spillThreshold >= 0, "The spill threshold must not be negative.");
+        checkArgument(spillDirectories.length > 0, "The spill directories must not be empty.");
+        this.spillThreshold = spillThreshold;
+        this.spillDirectories = spillDirectories;
+    }
+
+    /** Returns the default temporary directories of Flink. */
+    public static String[] getDefaultSpillDirectories() {
+        return ConfigurationUtils.parseTempDirectories(new Configuration());
+    }
+
+    /** Puts the record of the given key, replacing all the records held by the key. */
+    public void put(Struct key, SourceRecord record) {
+        Slot slot = newSlot(record);
+        Slot previous = index.put(key, slot);
+        if (previous != null) {
+            release(previous);
+        }
+    }
+
+    /** Appends a record to the records held by the given key. */
+    public void add(Struct key, SourceRecord record) {
+        Slot slot = newSlot(record);
+        Slot last = index.get(key);
+        if (last == null) {
+            index.put(key, slot);
+            return;
+        }
+        while (last.next != null) {
+            last = last.next;
+        }
+        last.next = slot;
+    }
+
+    /** Removes all the records held by the given key, returns false if the key is absent. */
+    public boolean remove(Struct key) {
+        Slot removed = index.remove(key);
+        if (removed == null) {
+            return false;
+        }
+        release(removed);
+        return true;
+    }
+
+    /** Removes the first record held by the given key, returns false if the key is absent. */
+    public boolean removeFirst(Struct key) {
+        Slot first = index.get(key);
+        if (first == null) {
+            return false;
+        }
+        if (first.next == null) {
+            index.remove(key);
+        } else {
+            index.put(key, first.next);
+            first.next = null;
+        }
+        release(first);
+        return true;
+    }
+
+    public boolean containsKey(Struct key) {
+        return index.containsKey(key);
+    }
+
+    /** Returns the first record held by the given key, or null if the key is absent. */
+    @Nullable
+    public SourceRecord get(Struct key) {
+        Slot slot = index.get(key);
+        return slot == null ? null : read(slot);
+    }
+
+    /** Returns the number of buffered records. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns whether some records of the buffer have been spilled to disk. */
+    public boolean isSpilled() {
+        return spillChannel != null;
+    }
+
+    /** Returns whether the buffer has been closed, i.e. its spill file has been deleted. */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Returns a view of the buffer as a map from key to record. A key holding several records is
+     * mapped to its first record, and removing a key through the view removes all its records.
+     */
+    public Map<Struct, SourceRecord> asMap() {
+        return new MapView();
+    }
+
+    /** Returns all the buffered records. */
+    public List<SourceRecord> records() {
+        List<SourceRecord> records = new ArrayList<>(size);
+        Iterator<List<SourceRecord>> batches = batchIterator(Integer.MAX_VALUE);
+        while (batches.hasNext()) {
+            records.addAll(batches.next());
+        }
+        return records;
+    }
+
+    /**
+     * Returns an iterator over the buffered records in batches of at most {@code batchSize}
+     * records. The buffer is closed once the iterator is exhausted.
+     */
+    public Iterator<List<SourceRecord>> batchIterator(int batchSize) {
+        checkArgument(batchSize > 0, "The batch size must be positive.");
+        Iterator<Slot> slots = index.values().iterator();
+        return new Iterator<List<SourceRecord>>() {
+
+            @Nullable private Slot nextSlot;
+
+            @Override
+            public boolean hasNext() {
+                boolean hasNext = nextSlot != null || slots.hasNext();
+                if (!hasNext) {
+                    close();
+                }
+                return hasNext;
+            }
+
+            @Override
+            public List<SourceRecord> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<SourceRecord> batch = new ArrayList<>(Math.min(batchSize, size));
+                while (batch.size() < batchSize && (nextSlot != null || slots.hasNext())) {
+                    Slot slot = nextSlot != null ? nextSlot : slots.next();
+                    batch.add(read(slot));
+                    nextSlot = slot.next;
+                }
+                return batch;
+            }
+        };
+    }
+
+    /**
+     * Releases the records and deletes the spill file. The readers close the buffer if its records
+     * are not fully iterated, e.g. when the reader is closed in the middle of a chunk.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        index.clear();
+        size = 0;
+        inMemorySize = 0;
+        if (spillChannel != null) {
+            try {
+                spillChannel.close();
+                Files.deleteIfExists(spillFile);
+            } catch (IOException e) {
+                LOG.warn("Failed to delete the snapshot chunk spill file {}.", spillFile, e);
+            }
+            spillChannel = null;
+        }
+    }
+
+    // --------------------------------------------------------------------------------------------
+
+    private Slot newSlot(SourceRecord record) {
+        size++;
+        if (inMemorySize < spillThreshold) {
+            inMemorySize++;
+            return new Slot(record);
+        }
+        try {
+            return spill(record);
+        } catch (IOException e) {
+            throw new FlinkRuntimeException("Failed to spill the snapshot chunk record.", e);
+        }
+    }
+
+    private void release(Slot slot) {
+        for (Slot released = slot; released != null; released = released.next) {
+            size--;
+            if (released.record != null) {
+                inMemorySize--;
+            }
+        }
+    }
+
+    private Slot spill(SourceRecord record) throws IOException {
+        if (spillChannel == null) {
+            Path spillDirectory =
+                    Paths.get(
+                            spillDirectories[
+                                    ThreadLocalRandom.current().nextInt(spillDirectories.length)]);
+            spillFile = Files.createTempFile(spillDirectory, SPILL_FILE_PREFIX, ".spill");
+            spillChannel =
+                    FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            serializer = new SourceRecordSpillSerializer();
+            serializationBuffer = new DataOutputSerializer(1024);
+            deserializationBuffer = new DataInputDeserializer();
+            LOG.info(
+                    "The snapshot chunk has more than {} records, spilling records to {}.",
+                    spillThreshold,
+                    spillFile);
+        }
+        serializationBuffer.clear();
+        serializer.serialize(record, serializationBuffer);
+        int length = serializationBuffer.length();
+        ByteBuffer buffer = ByteBuffer.wrap(serializationBuffer.getSharedBuffer(), 0, length);
+        long position = spillPosition;
+        while (buffer.hasRemaining()) {
+            spillPosition += spillChannel.write(buffer, spillPosition);
+        }
+        return new Slot(position, length);
+    }
+
+    private SourceRecord read(Slot slot) {
+        if (slot.record != null) {
+            return slot.record;
+        }
+        return readSpilled(slot);
+    }
+
+    private synchronized SourceRecord readSpilled(Slot slot) {
+        if (closed) {
+            throw new IllegalStateException("The snapshot chunk buffer has been closed.");
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(slot.length);
+            while (buffer.hasRemaining()) {
+                if (spillChannel.read(buffer, slot.position + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of the spill file " + spillFile);
+                }
+            }
+            deserializationBuffer.setBuffer(buffer.array());
+            return serializer.deserialize(deserializationBuffer);
+        } catch (IOException e) {
+            throw new FlinkRuntimeException("Failed to read the spilled snapshot chunk record.", e);
+        }
+    }
+
+    /** A record held in memory, or the position of a record in the spill file. */
+    private static final class Slot {
+
+        @Nullable private final SourceRecord record;
+        private final long position;
+        private final int length;
+
+        /** The following record held by the same key. */
+        @Nullable private Slot next;
+
+        private Slot(SourceRecord record) {
+            this.record = record;
+            this.position = -1;
+            this.length = 0;
+        }
+
+        private Slot(long position, int length) {
+            this.record = null;
+            this.position = position;
+            this.length = length;
+        }
+    }
+
+    /** A map view of the buffer for the code written against {@code Map<Struct, SourceRecord>}. */
+    private final class MapView extends AbstractMap<Struct, SourceRecord> {
+
+        @Override
+        public SourceRecord put(Struct key, SourceRecord value) {
+            SourceRecord previous = SnapshotChunkBuffer.this.get(key);
+            SnapshotChunkBuffer.this.put(key, value);
+            return previous;
+        }
+
+        @Override
+        public SourceRecord remove(Object key) {
+            if (!(key instanceof Struct)) {
+                return null;
+            }
+            SourceRecord previous = SnapshotChunkBuffer.this.get((Struct) key);
+            SnapshotChunkBuffer.this.remove((Struct) key);
+            return previous;
+        }
+
+        @Override
+        public SourceRecord get(Object key) {
+            return key instanceof Struct ? SnapshotChunkBuffer.this.get((Struct) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Struct && SnapshotChunkBuffer.this.containsKey((Struct) key);
+        }
+
+        @Override
+        public int size() {
+            return index.size();
+        }
+
+        @Override
+        public Set<Entry<Struct, SourceRecord>> entrySet() {
+            return new AbstractSet<Entry<Struct, SourceRecord>>() {
+
+                @Override
+                public Iterator<Entry<Struct, SourceRecord>> iterator() {
+                    Iterator<Entry<Struct, Slot>> slots = index.entrySet().iterator();
+                    return new Iterator<Entry<Struct, SourceRecord>>() {
+
+                        @Nullable private Slot current;
+
+                        @Override
+                        public boolean hasNext() {
+                            return slots.hasNext();
+                        }
+
+                        @Override
+                        public Entry<Struct, SourceRecord> next() {
+                            Entry<Struct, Slot> entry = slots.next();
+                            current = entry.getValue();
+                            return new SimpleImmutableEntry<>(entry.getKey(), read(current));
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (current == null) {
+                                throw new IllegalStateException();
+                            }
+                            slots.remove();
+                            release(current);
+                            current = null;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return index.size();
+                }
+            };
+        }
+    }
+}
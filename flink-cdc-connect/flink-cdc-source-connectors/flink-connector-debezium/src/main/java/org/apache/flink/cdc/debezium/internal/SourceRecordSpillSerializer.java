@@ -0,0 +1,399 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.internal;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.header.Header;
+import org.apache.kafka.connect.header.Headers;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A serializer of the {@link SourceRecord}s spilled by {@link SnapshotChunkBuffer}.
+ *
+ * <p>Only the data is written to the spill file. The schemas, topics and source partitions are
+ * shared by many records of a chunk, so they are kept in memory and referenced by id, which also
+ * gives the deserialized records the very same {@link Schema} instances as the original ones. The
+ * schemas are looked up by identity, the topics and source partitions by value.
+ */
+@Internal
+public class SourceRecordSpillSerializer {
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte STRING_VALUE = 1;
+    private static final byte LONG_VALUE = 2;
+    private static final byte INT_VALUE = 3;
+    private static final byte BOOLEAN_VALUE = 4;
+
+    // schemas are shared by identity, while the topics and partitions of the records may be new
+    // instances of the same value, e.g. a new source partition map is created for every record
+    private final Dictionary<Schema> schemas = new Dictionary<>(new IdentityHashMap<>());
+    private final Dictionary<String> topics = new Dictionary<>(new HashMap<>());
+    private final Dictionary<Map<String, ?>> partitions = new Dictionary<>(new HashMap<>());
+
+    public void serialize(SourceRecord record, DataOutputView out) throws IOException {
+        out.writeInt(topics.idOf(record.topic()));
+        out.writeInt(partitions.idOf(record.sourcePartition()));
+        writeOffsetMap(record.sourceOffset(), out);
+        writeNullableInt(record.kafkaPartition(), out);
+        writeNullableLong(record.timestamp(), out);
+        out.writeInt(schemas.idOf(record.keySchema()));
+        writeValue(record.keySchema(), record.key(), out);
+        out.writeInt(schemas.idOf(record.valueSchema()));
+        writeValue(record.valueSchema(), record.value(), out);
+
+        Headers headers = record.headers();
+        out.writeInt(headers.size());
+        for (Header header : headers) {
+            out.writeUTF(header.key());
+            out.writeInt(schemas.idOf(header.schema()));
+            writeValue(header.schema(), header.value(), out);
+        }
+    }
+
+    @VisibleForTesting
+    int getNumberOfPartitions() {
+        return partitions.values.size();
+    }
+
+    public SourceRecord deserialize(DataInputView in) throws IOException {
+        String topic = topics.get(in.readInt());
+        Map<String, ?> partition = partitions.get(in.readInt());
+        Map<String, ?> offset = readOffsetMap(in);
+        Integer kafkaPartition = readNullableInt(in);
+        Long timestamp = readNullableLong(in);
+        Schema keySchema = schemas.get(in.readInt());
+        Object key = readValue(keySchema, in);
+        Schema valueSchema = schemas.get(in.readInt());
+        Object value = readValue(valueSchema, in);
+
+        int headerSize = in.readInt();
+        ConnectHeaders headers = new ConnectHeaders();
+        for (int i = 0; i < headerSize; i++) {
+            String headerKey = in.readUTF();
+            Schema headerSchema = schemas.get(in.readInt());
+            headers.add(headerKey, readValue(headerSchema, in), headerSchema);
+        }
+        return new SourceRecord(
+                partition,
+                offset,
+                topic,
+                kafkaPartition,
+                keySchema,
+                key,
+                valueSchema,
+                value,
+                timestamp,
+                headers);
+    }
+
+    // --------------------------------------------------------------------------------------------
+
+    private void writeValue(Schema schema, Object value, DataOutputView out) throws IOException {
+        if (value == null) {
+            out.writeBoolean(false);
+            return;
+        }
+        out.writeBoolean(true);
+        if (schema.name() != null) {
+            switch (schema.name()) {
+                case Decimal.LOGICAL_NAME:
+                    writeBytes(Decimal.fromLogical(schema, (BigDecimal) value), out);
+                    return;
+                case Date.LOGICAL_NAME:
+                case Time.LOGICAL_NAME:
+                case Timestamp.LOGICAL_NAME:
+                    out.writeLong(((java.util.Date) value).getTime());
+                    return;
+                default:
+                    break;
+            }
+        }
+        switch (schema.type()) {
+            case INT8:
+                out.writeByte((Byte) value);
+                break;
+            case INT16:
+                out.writeShort((Short) value);
+                break;
+            case INT32:
+                out.writeInt((Integer) value);
+                break;
+            case INT64:
+                out.writeLong((Long) value);
+                break;
+            case FLOAT32:
+                out.writeFloat((Float) value);
+                break;
+            case FLOAT64:
+                out.writeDouble((Double) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case STRING:
+                writeBytes(((String) value).getBytes(StandardCharsets.UTF_8), out);
+                break;
+            case BYTES:
+                if (value instanceof ByteBuffer) {
+                    ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    writeBytes(bytes, out);
+                } else {
+                    writeBytes((byte[]) value, out);
+                }
+                break;
+            case ARRAY:
+                List<?> list = (List<?>) value;
+                out.writeInt(list.size());
+                for (Object element : list) {
+                    writeValue(schema.valueSchema(), element, out);
+                }
+                break;
+            case MAP:
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(schema.keySchema(), entry.getKey(), out);
+                    writeValue(schema.valueSchema(), entry.getValue(), out);
+                }
+                break;
+            case STRUCT:
+                Struct struct = (Struct) value;
+                for (Field field : schema.fields()) {
+                    writeValue(field.schema(), struct.getWithoutDefault(field.name()), out);
+                }
+                break;
+            default:
+                throw new UnsupportedOperationException("Unsupported schema type " + schema);
+        }
+    }
+
+    private Object readValue(Schema schema, DataInputView in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        if (schema.name() != null) {
+            switch (schema.name()) {
+                case Decimal.LOGICAL_NAME:
+                    return Decimal.toLogical(schema, readBytes(in));
+                case Date.LOGICAL_NAME:
+                case Time.LOGICAL_NAME:
+                case Timestamp.LOGICAL_NAME:
+                    return new java.util.Date(in.readLong());
+                default:
+                    break;
+            }
+        }
+        switch (schema.type()) {
+            case INT8:
+                return in.readByte();
+            case INT16:
+                return in.readShort();
+            case INT32:
+                return in.readInt();
+            case INT64:
+                return in.readLong();
+            case FLOAT32:
+                return in.readFloat();
+            case FLOAT64:
+                return in.readDouble();
+            case BOOLEAN:
+                return in.readBoolean();
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(in);
+            case ARRAY:
+                int listSize = in.readInt();
+                List<Object> list = new ArrayList<>(listSize);
+                for (int i = 0; i < listSize; i++) {
+                    list.add(readValue(schema.valueSchema(), in));
+                }
+                return list;
+            case MAP:
+                int mapSize = in.readInt();
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < mapSize; i++) {
+                    map.put(readValue(schema.keySchema(), in), readValue(schema.valueSchema(), in));
+                }
+                return map;
+            case STRUCT:
+                Struct struct = new Struct(schema);
+                for (Field field : schema.fields()) {
+                    Object fieldValue = readValue(field.schema(), in);
+                    if (fieldValue != null) {
+                        struct.put(field, fieldValue);
+                    }
+                }
+                return struct;
+            default:
+                throw new UnsupportedOperationException("Unsupported schema type " + schema);
+        }
+    }
+
+    private static void writeOffsetMap(Map<String, ?> offset, DataOutputView out)
+            throws IOException {
+        if (offset == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(offset.size());
+        for (Map.Entry<String, ?> entry : offset.entrySet()) {
+            out.writeUTF(entry.getKey());
+            Object value = entry.getValue();
+            if (value == null) {
+                out.writeByte(NULL_VALUE);
+            } else if (value instanceof String) {
+                out.writeByte(STRING_VALUE);
+                writeBytes(((String) value).getBytes(StandardCharsets.UTF_8), out);
+            } else if (value instanceof Long) {
+                out.writeByte(LONG_VALUE);
+                out.writeLong((Long) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(INT_VALUE);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte(BOOLEAN_VALUE);
+                out.writeBoolean((Boolean) value);
+            } else {
+                throw new UnsupportedOperationException(
+                        "Unsupported source offset value type " + value.getClass().getName());
+            }
+        }
+    }
+
+    private static Map<String, ?> readOffsetMap(DataInputView in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Object> offset = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            String key = in.readUTF();
+            byte type = in.readByte();
+            switch (type) {
+                case NULL_VALUE:
+                    offset.put(key, null);
+                    break;
+                case STRING_VALUE:
+                    offset.put(key, new String(readBytes(in), StandardCharsets.UTF_8));
+                    break;
+                case LONG_VALUE:
+                    offset.put(key, in.readLong());
+                    break;
+                case INT_VALUE:
+                    offset.put(key, in.readInt());
+                    break;
+                case BOOLEAN_VALUE:
+                    offset.put(key, in.readBoolean());
+                    break;
+                default:
+                    throw new IOException("Unknown source offset value type " + type);
+            }
+        }
+        return offset;
+    }
+
+    private static void writeNullableInt(Integer value, DataOutputView out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readNullableInt(DataInputView in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static void writeNullableLong(Long value, DataOutputView out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readNullableLong(DataInputView in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutputView out) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputView in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * An in-memory dictionary which assigns ids to objects, either by identity or by value
+     * depending on the given map, null has id -1.
+     */
+    private static final class Dictionary<T> {
+
+        private final Map<T, Integer> ids;
+        private final List<T> values = new ArrayList<>();
+
+        private Dictionary(Map<T, Integer> ids) {
+            this.ids = ids;
+        }
+
+        private int idOf(T value) {
+            if (value == null) {
+                return -1;
+            }
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = values.size();
+                ids.put(value, id);
+                values.add(value);
+            }
+            return id;
+        }
+
+        private T get(int id) {
+            return id < 0 ? null : values.get(id);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.utils;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
+
+import javax.annotation.Nullable;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * An index over the finished snapshot splits of one table, used by the stream readers to find the
+ * snapshot split that a change record belongs to.
+ *
+ * <p>The splits of a table are disjoint key ranges, and the chunk id of a split grows with its key
+ * range, so the splits sorted by chunk id can be binary searched by their split end. Each lookup
+ * costs O(log n) instead of scanning all the splits of the table. The binary search relies on the
+ * split keys being compared in Java the same way as in the database, which doesn't hold for strings
+ * under a collation, so the splits of such keys are scanned linearly instead.
+ *
+ * <p>The index also tracks the splits that have entered the pure stream phase: as the stream offset
+ * only moves forward, once a record after the high watermark of a split has been seen, all
+ * following records of the split can be emitted without comparing the offsets again.
+ *
+ * @param <S> the type of the finished snapshot split info
+ * @param <K> the type of the key looked up, e.g. the chunk key or the change record
+ * @param <P> the type of the stream position
+ */
+@Internal
+public abstract class AbstractFinishedSnapshotSplitIndex<S, K, P> {
+
+    private final List<S> splits;
+    private final boolean[] pureStreamPhaseSplits;
+    private final boolean binarySearchable;
+
+    protected AbstractFinishedSnapshotSplitIndex(List<S> splitInfos) {
+        this.splits = new ArrayList<>(splitInfos);
+        this.splits.sort(Comparator.comparingInt(this::getChunkId));
+        this.pureStreamPhaseSplits = new boolean[splits.size()];
+        this.binarySearchable =
+                splits.stream()
+                        .allMatch(
+                                split ->
+                                        isOrderedInJava(getSplitStart(split))
+                                                && isOrderedInJava(getSplitEnd(split)));
+    }
+
+    /** Returns the chunk id of the split, which grows with its key range. */
+    protected abstract int getChunkId(S split);
+
+    @Nullable
+    protected abstract Object[] getSplitStart(S split);
+
+    @Nullable
+    protected abstract Object[] getSplitEnd(S split);
+
+    /**
+     * Returns whether the key is in the range from the split start (inclusive) to the split end
+     * (exclusive), where a null split start or end is unbounded.
+     */
+    protected abstract boolean isKeyBetween(
+            K key, @Nullable Object[] splitStart, @Nullable Object[] splitEnd);
+
+    /** Returns whether the position is after the high watermark of the split. */
+    protected abstract boolean isAfterHighWatermark(P position, S split);
+
+    /**
+     * Returns whether the change record with the given key and position should be emitted, i.e. the
+     * key belongs to a finished snapshot split and the position is after the high watermark of the
+     * split.
+     */
+    public boolean shouldEmit(K key, P position) {
+        int index = binarySearchable ? binarySearch(key) : linearScan(key);
+        if (index < 0) {
+            return false;
+        }
+        if (pureStreamPhaseSplits[index]) {
+            return true;
+        }
+        if (isAfterHighWatermark(position, splits.get(index))) {
+            pureStreamPhaseSplits[index] = true;
+            return true;
+        }
+        return false;
+    }
+
+    @VisibleForTesting
+    boolean isBinarySearchable() {
+        return binarySearchable;
+    }
+
+    /** Returns the index of the split which contains the given key, or -1 if absent. */
+    private int binarySearch(K key) {
+        if (splits.isEmpty()) {
+            return -1;
+        }
+        // find the first split whose split end is after the key, the range from the start of the
+        // first split to the end of the probed split grows monotonically with the probe
+        Object[] firstSplitStart = getSplitStart(splits.get(0));
+        int low = 0;
+        int high = splits.size() - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Object[] splitEnd = getSplitEnd(splits.get(mid));
+            if (splitEnd == null || isKeyBetween(key, firstSplitStart, splitEnd)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        S split = splits.get(low);
+        return isKeyBetween(key, getSplitStart(split), getSplitEnd(split)) ? low : -1;
+    }
+
+    private int linearScan(K key) {
+        for (int i = 0; i < splits.size(); i++) {
+            S split = splits.get(i);
+            if (isKeyBetween(key, getSplitStart(split), getSplitEnd(split))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Whether the values of the split key are ordered in Java as in the database. */
+    private static boolean isOrderedInJava(@Nullable Object[] splitKey) {
+        if (splitKey == null) {
+            return true;
+        }
+        for (Object value : splitKey) {
+            if (value != null
+                    && !(value instanceof Number
+                            || value instanceof Date
+                            || value instanceof Temporal)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
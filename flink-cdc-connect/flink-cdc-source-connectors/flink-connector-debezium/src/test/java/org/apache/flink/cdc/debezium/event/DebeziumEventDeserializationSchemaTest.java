@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.event;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.SchemaChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.debezium.table.DebeziumChangelogMode;
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
+
+import io.debezium.data.Envelope;
+import io.debezium.data.VariableScaleDecimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for the converter plans of {@link DebeziumEventDeserializationSchema}. */
+class DebeziumEventDeserializationSchemaTest {
+
+    private static final String TOPIC = "inventory.products";
+    private static final String SCHEMA_CHANGE_TOPIC = "schema-changes";
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct().field("db", Schema.STRING_SCHEMA).build();
+
+    private TestDeserializationSchema deserializer;
+    private Map<String, Counter> counters;
+
+    @BeforeEach
+    void setUp() {
+        deserializer = new TestDeserializationSchema();
+        counters = new HashMap<>();
+        deserializer.registerMetrics(
+                new UnregisteredMetricsGroup() {
+                    @Override
+                    public <C extends Counter> C counter(String name, C counter) {
+                        counters.put(name, counter);
+                        return counter;
+                    }
+                });
+    }
+
+    @Test
+    void testConverterPlanIsReusedForSameSchema() throws Exception {
+        Schema rowSchema =
+                SchemaBuilder.struct()
+                        .optional()
+                        .field("id", Schema.INT32_SCHEMA)
+                        .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                        .build();
+        Envelope envelope = envelope(rowSchema);
+
+        for (int i = 0; i < 3; i++) {
+            Struct row = new Struct(rowSchema).put("id", i).put("name", "product_" + i);
+            RecordData after = deserializeInsert(envelope, row);
+            assertThat(after.getArity()).isEqualTo(2);
+            assertThat(after.getInt(0)).isEqualTo(i);
+            assertThat(after.getString(1).toString()).isEqualTo("product_" + i);
+        }
+        assertCacheCounts(2, 1);
+    }
+
+    @Test
+    void testConverterPlanIsRecompiledAfterSchemaChange() throws Exception {
+        Schema rowSchema =
+                SchemaBuilder.struct().optional().field("id", Schema.INT32_SCHEMA).build();
+        Envelope envelope = envelope(rowSchema);
+        deserializeInsert(envelope, new Struct(rowSchema).put("id", 1));
+        deserializeInsert(envelope, new Struct(rowSchema).put("id", 2));
+        assertCacheCounts(1, 1);
+
+        // a schema change record drops the compiled plans
+        deserializer.deserialize(
+                new SourceRecord(
+                        Collections.emptyMap(),
+                        Collections.emptyMap(),
+                        SCHEMA_CHANGE_TOPIC,
+                        null,
+                        null));
+        deserializeInsert(envelope, new Struct(rowSchema).put("id", 3));
+        assertCacheCounts(1, 2);
+
+        // debezium hands over a new schema instance for the altered table
+        Schema alteredSchema =
+                SchemaBuilder.struct()
+                        .optional()
+                        .field("id", Schema.INT32_SCHEMA)
+                        .field("weight", Schema.OPTIONAL_FLOAT64_SCHEMA)
+                        .build();
+        RecordData after =
+                deserializeInsert(
+                        envelope(alteredSchema),
+                        new Struct(alteredSchema).put("id", 4).put("weight", 1.5));
+        assertThat(after.getArity()).isEqualTo(2);
+        assertThat(after.getInt(0)).isEqualTo(4);
+        assertThat(after.getDouble(1)).isEqualTo(1.5);
+        assertCacheCounts(1, 3);
+    }
+
+    @Test
+    void testConverterPlanOfValueDependentSchema() throws Exception {
+        Schema rowSchema =
+                SchemaBuilder.struct()
+                        .optional()
+                        .field("id", Schema.INT32_SCHEMA)
+                        .field("price", VariableScaleDecimal.optionalSchema())
+                        .build();
+        Envelope envelope = envelope(rowSchema);
+
+        RecordData after = deserializeInsert(envelope, decimalRow(rowSchema, 1, "1.5"));
+        assertThat(after.getDecimal(1, 2, 1))
+                .isEqualTo(DecimalData.fromBigDecimal(new BigDecimal("1.5"), 2, 1));
+        // the inferred type is the same, so the plan is reused
+        after = deserializeInsert(envelope, decimalRow(rowSchema, 2, "2.5"));
+        assertThat(after.getDecimal(1, 2, 1))
+                .isEqualTo(DecimalData.fromBigDecimal(new BigDecimal("2.5"), 2, 1));
+        assertCacheCounts(1, 1);
+
+        // the precision and scale of the value differ, so the plan is recompiled
+        after = deserializeInsert(envelope, decimalRow(rowSchema, 3, "10.25"));
+        assertThat(after.getDecimal(1, 4, 2))
+                .isEqualTo(DecimalData.fromBigDecimal(new BigDecimal("10.25"), 4, 2));
+        assertCacheCounts(1, 2);
+    }
+
+    private void assertCacheCounts(long hits, long misses) {
+        assertThat(
+                        counters.get(DebeziumEventDeserializationSchema.CONVERTER_PLAN_CACHE_HITS)
+                                .getCount())
+                .isEqualTo(hits);
+        assertThat(
+                        counters.get(DebeziumEventDeserializationSchema.CONVERTER_PLAN_CACHE_MISSES)
+                                .getCount())
+                .isEqualTo(misses);
+    }
+
+    private RecordData deserializeInsert(Envelope envelope, Struct row) throws Exception {
+        Struct value =
+                envelope.create(
+                        row, new Struct(SOURCE_SCHEMA).put("db", "inventory"), Instant.now());
+        List<? extends Event> events =
+                deserializer.deserialize(
+                        new SourceRecord(
+                                Collections.emptyMap(),
+                                Collections.emptyMap(),
+                                TOPIC,
+                                envelope.schema(),
+                                value));
+        assertThat(events).hasSize(1);
+        return ((DataChangeEvent) events.get(0)).after();
+    }
+
+    private static Envelope envelope(Schema rowSchema) {
+        return Envelope.defineSchema()
+                .withName(TOPIC + ".Envelope")
+                .withRecord(rowSchema)
+                .withSource(SOURCE_SCHEMA)
+                .build();
+    }
+
+    private static Struct decimalRow(Schema rowSchema, int id, String price) {
+        return new Struct(rowSchema)
+                .put("id", id)
+                .put(
+                        "price",
+                        VariableScaleDecimal.fromLogical(
+                                rowSchema.field("price").schema(), new BigDecimal(price)));
+    }
+
+    /** A deserializer which treats the records of a dedicated topic as schema changes. */
+    private static class TestDeserializationSchema extends DebeziumEventDeserializationSchema {
+
+        private static final long serialVersionUID = 1L;
+
+        TestDeserializationSchema() {
+            super(new DebeziumSchemaDataTypeInference(), DebeziumChangelogMode.ALL);
+        }
+
+        @Override
+        protected boolean isDataChangeRecord(SourceRecord record) {
+            return !isSchemaChangeRecord(record);
+        }
+
+        @Override
+        protected boolean isSchemaChangeRecord(SourceRecord record) {
+            return SCHEMA_CHANGE_TOPIC.equals(record.topic());
+        }
+
+        @Override
+        protected List<SchemaChangeEvent> deserializeSchemaChangeRecord(SourceRecord record) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected TableId getTableId(SourceRecord record) {
+            return TableId.parse(record.topic());
+        }
+
+        @Override
+        protected Map<String, String> getMetadata(SourceRecord record) {
+            return Collections.emptyMap();
+        }
+    }
+}
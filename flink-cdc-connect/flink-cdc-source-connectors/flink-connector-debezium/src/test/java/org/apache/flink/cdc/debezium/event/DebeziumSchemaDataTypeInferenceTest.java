@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.event;
+
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+
+import io.debezium.data.VariableScaleDecimal;
+import io.debezium.time.ZonedTimestamp;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for {@link DebeziumSchemaDataTypeInference#isValueDependent(Schema)}. */
+class DebeziumSchemaDataTypeInferenceTest {
+
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct()
+                    .field("id", Schema.INT32_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .build();
+
+    @Test
+    void testValueDependentSchemas() {
+        DebeziumSchemaDataTypeInference inference = new DebeziumSchemaDataTypeInference();
+        assertThat(inference.isValueDependent(ROW_SCHEMA)).isFalse();
+        assertThat(inference.isValueDependent(VariableScaleDecimal.optionalSchema())).isTrue();
+        assertThat(inference.isValueDependent(ZonedTimestamp.builder().build())).isTrue();
+        assertThat(
+                        inference.isValueDependent(
+                                SchemaBuilder.struct()
+                                        .field("id", Schema.INT32_SCHEMA)
+                                        .field("price", VariableScaleDecimal.optionalSchema())
+                                        .build()))
+                .isTrue();
+    }
+
+    @Test
+    void testUndeclaredOverriddenInferenceIsValueDependent() {
+        DebeziumSchemaDataTypeInference inference =
+                new DebeziumSchemaDataTypeInference() {
+                    @Override
+                    protected DataType inferInt32(Object value, Schema schema) {
+                        return value != null && (int) value > 0
+                                ? DataTypes.INT()
+                                : DataTypes.BIGINT();
+                    }
+                };
+        assertThat(inference.isValueDependent(Schema.INT32_SCHEMA)).isTrue();
+        assertThat(inference.isValueDependent(ROW_SCHEMA)).isTrue();
+        assertThat(inference.isValueDependent(Schema.STRING_SCHEMA)).isTrue();
+    }
+
+    @Test
+    void testOverriddenInferenceDeclaredValueIndependent() {
+        DebeziumSchemaDataTypeInference inference =
+                new DebeziumSchemaDataTypeInference() {
+                    @Override
+                    public boolean isValueDependent(Schema schema) {
+                        return schema.type() != Schema.Type.INT32
+                                && isValueDependentByDefault(schema);
+                    }
+
+                    @Override
+                    protected DataType inferInt32(Object value, Schema schema) {
+                        return DataTypes.BIGINT();
+                    }
+                };
+        assertThat(inference.isValueDependent(Schema.INT32_SCHEMA)).isFalse();
+        assertThat(inference.isValueDependent(ROW_SCHEMA)).isFalse();
+        assertThat(inference.isValueDependent(VariableScaleDecimal.optionalSchema())).isTrue();
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.internal;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link SnapshotChunkBuffer}. */
+public class SnapshotChunkBufferTest {
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("key").field("id", Schema.INT64_SCHEMA).build();
+
+    private static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("value")
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("price", Decimal.builder(2).optional().build())
+                    .field("ts", Timestamp.builder().optional().build())
+                    .field("payload", Schema.OPTIONAL_BYTES_SCHEMA)
+                    .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).optional().build())
+                    .build();
+
+    @TempDir File spillDirectory;
+
+    @Test
+    public void testSpilledRecordsKeepOrderAndContent() {
+        SnapshotChunkBuffer buffer = new SnapshotChunkBuffer(3);
+        List<SourceRecord> expected = new ArrayList<>();
+        for (long id = 0; id < 10; id++) {
+            SourceRecord record = record(id, "name-" + id);
+            buffer.put(key(id), record);
+            expected.add(record);
+        }
+        assertThat(buffer.isSpilled()).isTrue();
+        assertThat(buffer.size()).isEqualTo(10);
+
+        List<SourceRecord> actual = new ArrayList<>();
+        Iterator<List<SourceRecord>> batches = buffer.batchIterator(4);
+        List<Integer> batchSizes = new ArrayList<>();
+        while (batches.hasNext()) {
+            List<SourceRecord> batch = batches.next();
+            batchSizes.add(batch.size());
+            actual.addAll(batch);
+        }
+        assertThat(batchSizes).containsExactly(4, 4, 2);
+        assertThat(actual).isEqualTo(expected);
+        // the deserialized records share the schemas of the original records
+        assertThat(actual.get(9).valueSchema()).isSameAs(VALUE_SCHEMA);
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.isClosed()).isTrue();
+    }
+
+    @Test
+    public void testSpillToGivenDirectoriesAndDeleteOnClose() {
+        SnapshotChunkBuffer buffer =
+                new SnapshotChunkBuffer(1, new String[] {spillDirectory.getAbsolutePath()});
+        for (long id = 0; id < 5; id++) {
+            buffer.put(key(id), record(id, "name-" + id));
+        }
+        assertThat(spillDirectory.listFiles()).hasSize(1);
+
+        // the reader closes the buffer before all the records are read
+        Iterator<List<SourceRecord>> batches = buffer.batchIterator(2);
+        assertThat(names(batches.next())).containsExactly("name-0", "name-1");
+        buffer.close();
+        assertThat(buffer.isClosed()).isTrue();
+        assertThat(spillDirectory.listFiles()).isEmpty();
+        // closing again is a no-op
+        buffer.close();
+    }
+
+    @Test
+    public void testPartitionsAreSharedByValue() throws Exception {
+        SourceRecordSpillSerializer serializer = new SourceRecordSpillSerializer();
+        DataOutputSerializer out = new DataOutputSerializer(256);
+        for (long id = 0; id < 100; id++) {
+            // a new source partition map is created for every record
+            serializer.serialize(record(id, "name-" + id), out);
+        }
+        assertThat(serializer.getNumberOfPartitions()).isOne();
+
+        DataInputDeserializer in = new DataInputDeserializer(out.getCopyOfBuffer());
+        for (long id = 0; id < 100; id++) {
+            assertThat(serializer.deserialize(in)).isEqualTo(record(id, "name-" + id));
+        }
+    }
+
+    @Test
+    public void testUpsertSpilledRecords() {
+        SnapshotChunkBuffer buffer = new SnapshotChunkBuffer(2);
+        for (long id = 0; id < 6; id++) {
+            buffer.put(key(id), record(id, "name-" + id));
+        }
+        Map<Struct, SourceRecord> view = buffer.asMap();
+        assertThat(view.put(key(4), record(4, "updated"))).isEqualTo(record(4, "name-4"));
+        assertThat(view.put(key(6), record(6, "name-6"))).isNull();
+        assertThat(view.remove(key(1))).isEqualTo(record(1, "name-1"));
+        assertThat(view.remove(key(5))).isEqualTo(record(5, "name-5"));
+        assertThat(view.remove(key(7))).isNull();
+
+        assertThat(view.get(key(4))).isEqualTo(record(4, "updated"));
+        assertThat(buffer.containsKey(key(5))).isFalse();
+        assertThat(names(buffer.records()))
+                .containsExactly("name-0", "name-2", "name-3", "updated", "name-6");
+    }
+
+    @Test
+    public void testMapViewEntries() {
+        SnapshotChunkBuffer buffer = new SnapshotChunkBuffer(2);
+        for (long id = 0; id < 5; id++) {
+            buffer.put(key(id), record(id, "name-" + id));
+        }
+        Map<Struct, SourceRecord> view = buffer.asMap();
+        assertThat(view).hasSize(5);
+        List<String> names = new ArrayList<>();
+        for (Map.Entry<Struct, SourceRecord> entry : view.entrySet()) {
+            assertThat(entry.getKey()).isEqualTo(entry.getValue().key());
+            names.add(((Struct) entry.getValue().value()).getString("name"));
+        }
+        assertThat(names).containsExactly("name-0", "name-1", "name-2", "name-3", "name-4");
+
+        // removing through the entries releases the records of both memory and spill file
+        view.entrySet().removeIf(entry -> ((Struct) entry.getKey()).getInt64("id") % 2 == 0);
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(view.values()).containsExactly(record(1, "name-1"), record(3, "name-3"));
+        assertThat(view.keySet()).containsExactly(key(1), key(3));
+    }
+
+    @Test
+    public void testRecordsWithoutPrimaryKey() {
+        SnapshotChunkBuffer buffer = new SnapshotChunkBuffer(1);
+        SourceRecord duplicate = record(1, "duplicate");
+        Struct valueKey = (Struct) duplicate.value();
+        buffer.add(valueKey, duplicate);
+        buffer.add(key(2), record(2, "other"));
+        buffer.add(valueKey, duplicate);
+        buffer.add(valueKey, duplicate);
+
+        assertThat(buffer.removeFirst(valueKey)).isTrue();
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(names(buffer.records())).containsExactly("duplicate", "duplicate", "other");
+    }
+
+    private static Struct key(long id) {
+        return new Struct(KEY_SCHEMA).put("id", id);
+    }
+
+    private static SourceRecord record(long id, String name) {
+        Struct value =
+                new Struct(VALUE_SCHEMA)
+                        .put("id", id)
+                        .put("name", name)
+                        .put("price", new BigDecimal("12.30"))
+                        .put("ts", new Date(1700000000000L + id))
+                        .put("payload", new byte[] {1, 2, (byte) id})
+                        .put("tags", Arrays.asList("a", "b"));
+        Map<String, Object> offset = new HashMap<>();
+        offset.put("file", "mysql-bin.000001");
+        offset.put("pos", 100L + id);
+        ConnectHeaders headers = new ConnectHeaders();
+        headers.addString("origin", "snapshot");
+        Map<String, Object> partition = new HashMap<>();
+        partition.put("server", "mysql");
+        return new SourceRecord(
+                partition,
+                offset,
+                "topic",
+                null,
+                KEY_SCHEMA,
+                key(id),
+                VALUE_SCHEMA,
+                value,
+                null,
+                headers);
+    }
+
+    private static List<String> names(List<SourceRecord> records) {
+        return records.stream()
+                .map(record -> ((Struct) record.value()).getString("name"))
+                .collect(Collectors.toList());
+    }
+}
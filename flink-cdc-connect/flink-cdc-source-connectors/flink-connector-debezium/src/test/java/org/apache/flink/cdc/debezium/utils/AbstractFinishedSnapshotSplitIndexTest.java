@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for {@link AbstractFinishedSnapshotSplitIndex}. */
+class AbstractFinishedSnapshotSplitIndexTest {
+
+    @Test
+    void testLookupAcrossShuffledSplits() {
+        // [null, 100) [100, 200) ... [900, null) with high watermark 1000 + chunk id
+        List<TestSplit> splits = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            splits.add(
+                    new TestSplit(
+                            i,
+                            i == 0 ? null : new Object[] {i * 100L},
+                            i == 9 ? null : new Object[] {(i + 1) * 100L},
+                            1000 + i));
+        }
+        Collections.shuffle(splits);
+        TestIndex index = new TestIndex(splits);
+        assertThat(index.isBinarySearchable()).isTrue();
+
+        for (long key = -50; key < 1050; key += 25) {
+            int chunkId = (int) Math.min(9, Math.max(0, key / 100));
+            assertThat(index.shouldEmit(new Object[] {key}, 1000L + chunkId)).isFalse();
+        }
+        for (long key = -50; key < 1050; key += 25) {
+            int chunkId = (int) Math.min(9, Math.max(0, key / 100));
+            assertThat(index.shouldEmit(new Object[] {key}, 1001L + chunkId)).isTrue();
+        }
+    }
+
+    @Test
+    void testKeyOutOfFinishedSplits() {
+        // the split [100, 200) is not finished
+        TestIndex index =
+                new TestIndex(
+                        Arrays.asList(
+                                new TestSplit(0, null, new Object[] {100L}, 10),
+                                new TestSplit(2, new Object[] {200L}, null, 10)));
+
+        assertThat(index.shouldEmit(new Object[] {50L}, 11L)).isTrue();
+        assertThat(index.shouldEmit(new Object[] {150L}, 11L)).isFalse();
+        assertThat(index.shouldEmit(new Object[] {250L}, 11L)).isTrue();
+    }
+
+    @Test
+    void testSplitEntersPureStreamPhase() {
+        TestIndex index =
+                new TestIndex(Collections.singletonList(new TestSplit(0, null, null, 10)));
+
+        assertThat(index.shouldEmit(new Object[] {1L}, 5L)).isFalse();
+        assertThat(index.shouldEmit(new Object[] {1L}, 11L)).isTrue();
+        // the split has caught up, the offset is not compared anymore
+        assertThat(index.shouldEmit(new Object[] {2L}, 5L)).isTrue();
+    }
+
+    @Test
+    void testStringKeysAreScannedLinearly() {
+        // the splits are ordered by a case-insensitive collation in the database, which differs
+        // from the order of the strings in Java: "C" < "a" < "b"
+        TestIndex index =
+                new TestIndex(
+                        Arrays.asList(
+                                new TestSplit(0, null, new Object[] {"b"}, 10),
+                                new TestSplit(1, new Object[] {"b"}, new Object[] {"C"}, 100),
+                                new TestSplit(2, new Object[] {"C"}, null, 100)));
+        assertThat(index.isBinarySearchable()).isFalse();
+
+        // the first split containing "a" is found, a binary search would probe the last split
+        assertThat(index.shouldEmit(new Object[] {"a"}, 50L)).isTrue();
+    }
+
+    private static class TestSplit {
+        private final int chunkId;
+        private final Object[] splitStart;
+        private final Object[] splitEnd;
+        private final long highWatermark;
+
+        private TestSplit(int chunkId, Object[] splitStart, Object[] splitEnd, long highWatermark) {
+            this.chunkId = chunkId;
+            this.splitStart = splitStart;
+            this.splitEnd = splitEnd;
+            this.highWatermark = highWatermark;
+        }
+    }
+
+    private static class TestIndex
+            extends AbstractFinishedSnapshotSplitIndex<TestSplit, Object[], Long> {
+
+        private TestIndex(List<TestSplit> splits) {
+            super(splits);
+        }
+
+        @Override
+        protected int getChunkId(TestSplit split) {
+            return split.chunkId;
+        }
+
+        @Override
+        protected Object[] getSplitStart(TestSplit split) {
+            return split.splitStart;
+        }
+
+        @Override
+        protected Object[] getSplitEnd(TestSplit split) {
+            return split.splitEnd;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected boolean isKeyBetween(Object[] key, Object[] splitStart, Object[] splitEnd) {
+            Comparable<Object> value = (Comparable<Object>) key[0];
+            return (splitStart == null || value.compareTo(splitStart[0]) >= 0)
+                    && (splitEnd == null || value.compareTo(splitEnd[0]) < 0);
+        }
+
+        @Override
+        protected boolean isAfterHighWatermark(Long position, TestSplit split) {
+            return position > split.highWatermark;
+        }
+    }
+}
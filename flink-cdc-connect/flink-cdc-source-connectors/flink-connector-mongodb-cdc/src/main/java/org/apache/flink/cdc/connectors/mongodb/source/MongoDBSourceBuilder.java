@@ -235,6 +235,17 @@ public class MongoDBSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * Whether to carry the documents as raw BSON bytes instead of JSON strings in the {@link
+     * org.apache.kafka.connect.source.SourceRecord}s, so that each document is decoded at most
+     * once. The 'fullDocument', 'fullDocumentBeforeChange' and 'documentKey' fields are bytes when
+     * enabled, the deserializer must accept them. Defaults to false.
+     */
+    public MongoDBSourceBuilder<T> binaryPassthrough(boolean binaryPassthrough) {
+        this.configFactory.binaryPassthrough(binaryPassthrough);
+        return this;
+    }
+
     /**
      * The deserializer used to convert from consumed {@link
      * org.apache.kafka.connect.source.SourceRecord}.
@@ -277,6 +288,15 @@ public class MongoDBSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The maximum number of records of a snapshot chunk kept in memory while merging the change
+     * stream events of the chunk, the following records are spilled to disk.
+     */
+    public MongoDBSourceBuilder<T> snapshotChunkSpillThreshold(int snapshotChunkSpillThreshold) {
+        this.configFactory.snapshotChunkSpillThreshold(snapshotChunkSpillThreshold);
+        return this;
+    }
+
     /**
      * Build the {@link MongoDBSource}.
      *
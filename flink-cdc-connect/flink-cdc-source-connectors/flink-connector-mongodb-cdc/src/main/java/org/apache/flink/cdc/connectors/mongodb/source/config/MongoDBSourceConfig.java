@@ -56,6 +56,8 @@ public class MongoDBSourceConfig implements SourceConfig {
     private final boolean skipSnapshotBackfill;
     private final boolean isScanNewlyAddedTableEnabled;
     private final boolean assignUnboundedChunkFirst;
+    private final int snapshotChunkSpillThreshold;
+    private final boolean binaryPassthrough;
 
     MongoDBSourceConfig(
             String scheme,
@@ -79,7 +81,9 @@ public class MongoDBSourceConfig implements SourceConfig {
             boolean disableCursorTimeout,
             boolean skipSnapshotBackfill,
             boolean isScanNewlyAddedTableEnabled,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int snapshotChunkSpillThreshold,
+            boolean binaryPassthrough) {
         this.scheme = checkNotNull(scheme);
         this.hosts = checkNotNull(hosts);
         this.username = username;
@@ -103,6 +107,8 @@ public class MongoDBSourceConfig implements SourceConfig {
         this.skipSnapshotBackfill = skipSnapshotBackfill;
         this.isScanNewlyAddedTableEnabled = isScanNewlyAddedTableEnabled;
         this.assignUnboundedChunkFirst = assignUnboundedChunkFirst;
+        this.snapshotChunkSpillThreshold = snapshotChunkSpillThreshold;
+        this.binaryPassthrough = binaryPassthrough;
     }
 
     public String getScheme() {
@@ -207,6 +213,15 @@ public class MongoDBSourceConfig implements SourceConfig {
         return assignUnboundedChunkFirst;
     }
 
+    @Override
+    public int getSnapshotChunkSpillThreshold() {
+        return snapshotChunkSpillThreshold;
+    }
+
+    public boolean isBinaryPassthrough() {
+        return binaryPassthrough;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
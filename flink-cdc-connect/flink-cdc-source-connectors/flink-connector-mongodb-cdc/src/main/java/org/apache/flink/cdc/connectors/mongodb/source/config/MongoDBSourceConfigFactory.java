@@ -25,6 +25,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.apache.flink.cdc.connectors.base.options.SourceOptions.CHUNK_META_GROUP_SIZE;
+import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD;
 import static org.apache.flink.cdc.connectors.base.utils.EnvironmentUtils.checkSupportCheckpointsAfterTasksFinished;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.MONGODB_SCHEME;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.MONGODB_SRV_SCHEME;
@@ -63,6 +64,9 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
     protected boolean skipSnapshotBackfill = false;
     protected boolean scanNewlyAddedTableEnabled = false;
     protected boolean assignUnboundedChunkFirst = false;
+    protected int snapshotChunkSpillThreshold =
+            SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD.defaultValue();
+    private boolean binaryPassthrough = false;
 
     /** The protocol connected to MongoDB. For example mongodb or mongodb+srv. */
     public MongoDBSourceConfigFactory scheme(String scheme) {
@@ -280,6 +284,25 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
         return this;
     }
 
+    /**
+     * The maximum number of records of a snapshot chunk kept in memory while merging the change
+     * stream events of the chunk, the following records are spilled to disk. Defaults to keeping
+     * all the records in memory.
+     */
+    public MongoDBSourceConfigFactory snapshotChunkSpillThreshold(int snapshotChunkSpillThreshold) {
+        this.snapshotChunkSpillThreshold = snapshotChunkSpillThreshold;
+        return this;
+    }
+
+    /**
+     * Whether to carry the documents as raw BSON bytes instead of JSON strings in the emitted
+     * records. Defaults to false.
+     */
+    public MongoDBSourceConfigFactory binaryPassthrough(boolean binaryPassthrough) {
+        this.binaryPassthrough = binaryPassthrough;
+        return this;
+    }
+
     /** Creates a new {@link MongoDBSourceConfig} for the given subtask {@code subtaskId}. */
     @Override
     public MongoDBSourceConfig create(int subtaskId) {
@@ -306,6 +329,8 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
                 disableCursorTimeout,
                 skipSnapshotBackfill,
                 scanNewlyAddedTableEnabled,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                snapshotChunkSpillThreshold,
+                binaryPassthrough);
     }
 }
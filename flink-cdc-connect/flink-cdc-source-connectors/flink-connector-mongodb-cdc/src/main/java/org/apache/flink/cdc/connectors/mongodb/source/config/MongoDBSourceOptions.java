@@ -157,4 +157,14 @@ public class MongoDBSourceOptions {
                     .defaultValue(true)
                     .withDescription(
                             "MongoDB server normally times out idle cursors after an inactivity period (10 minutes) to prevent excess memory use. Set this option to true to prevent that.");
+
+    @Experimental
+    public static final ConfigOption<Boolean> SCAN_BINARY_PASSTHROUGH =
+            ConfigOptions.key("scan.binary-passthrough")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to carry the documents as raw BSON bytes instead of JSON strings from MongoDB to the deserializer, "
+                                    + "so that each document is decoded at most once. The 'fullDocument', 'fullDocumentBeforeChange' and 'documentKey' fields "
+                                    + "of the emitted SourceRecord are bytes instead of strings when enabled. Defaults to false.");
 }
@@ -47,6 +47,7 @@ import org.bson.BsonInt64;
 import org.bson.BsonString;
 import org.bson.BsonTimestamp;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -172,7 +173,8 @@ public class MongoDBStreamFetchTask implements FetchTask<SourceSplitBase> {
                                                     resumeToken, false),
                                             namespace.getFullName(),
                                             changeStreamDocument.getDocument(ID_FIELD),
-                                            valueDocument);
+                                            valueDocument,
+                                            sourceConfig.isBinaryPassthrough());
                             break;
                         default:
                             // Ignore drop、drop_database、rename and other record to prevent
@@ -281,9 +283,12 @@ public class MongoDBStreamFetchTask implements FetchTask<SourceSplitBase> {
             }
         }
 
+        // The raw documents are kept undecoded until they are deserialized in binary passthrough
+        Class<? extends BsonDocument> documentClass =
+                sourceConfig.isBinaryPassthrough() ? RawBsonDocument.class : BsonDocument.class;
         try {
             return (MongoChangeStreamCursor<BsonDocument>)
-                    changeStreamIterable.withDocumentClass(BsonDocument.class).cursor();
+                    changeStreamIterable.withDocumentClass(documentClass).cursor();
         } catch (MongoCommandException e) {
             if (e.getErrorCode() == FAILED_TO_PARSE_ERROR
                     || e.getErrorCode() == UNKNOWN_FIELD_ERROR) {
@@ -334,6 +339,13 @@ public class MongoDBStreamFetchTask implements FetchTask<SourceSplitBase> {
     }
 
     private BsonDocument normalizeChangeStreamDocument(BsonDocument changeStreamDocument) {
+        if (changeStreamDocument instanceof RawBsonDocument) {
+            // The raw document is immutable, only its top-level fields are copied
+            changeStreamDocument =
+                    MongoRecordUtils.copyRawChangeStreamDocument(
+                            (RawBsonDocument) changeStreamDocument);
+        }
+
         // _id: primary key of change document.
         changeStreamDocument.put(ID_FIELD, normalizeKeyDocument(changeStreamDocument));
 
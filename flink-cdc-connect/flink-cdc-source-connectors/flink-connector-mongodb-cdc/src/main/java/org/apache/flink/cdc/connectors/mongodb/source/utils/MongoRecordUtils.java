@@ -23,14 +23,19 @@ import com.mongodb.kafka.connect.source.schema.BsonValueToSchemaAndValue;
 import io.debezium.data.Envelope;
 import io.debezium.relational.TableId;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaAndValue;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
 import org.bson.json.JsonWriterSettings;
 
+import javax.annotation.Nullable;
+
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
@@ -42,6 +47,7 @@ import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.H
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.ID_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.JSON_WRITER_SETTINGS_STRICT;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.NAMESPACE_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SOURCE_RECORD_BINARY_VALUE_SCHEMA;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SOURCE_RECORD_KEY_SCHEMA;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SOURCE_RECORD_VALUE_SCHEMA;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.TIMESTAMP_KEY_FIELD;
@@ -74,7 +80,40 @@ public class MongoRecordUtils {
     /** Return the documentKey from change stream event. */
     public static BsonDocument getDocumentKey(SourceRecord sourceRecord) {
         Struct value = (Struct) sourceRecord.value();
-        return BsonDocument.parse(value.getString(MongoDBEnvelope.DOCUMENT_KEY_FIELD));
+        return getDocument(value, MongoDBEnvelope.DOCUMENT_KEY_FIELD);
+    }
+
+    /**
+     * Return the document field of a record, which is a JSON string, or raw BSON bytes in the
+     * binary passthrough mode. The raw BSON bytes are wrapped as a {@link RawBsonDocument} without
+     * being decoded, whose fields are decoded when they are accessed.
+     */
+    @Nullable
+    public static BsonDocument getDocument(Struct value, String fieldName) {
+        Object document = value.get(fieldName);
+        if (document == null) {
+            return null;
+        }
+        if (document instanceof byte[]) {
+            return new RawBsonDocument((byte[]) document);
+        }
+        return BsonDocument.parse((String) document);
+    }
+
+    /**
+     * Return a mutable copy of the top-level fields of a change stream document which are kept in
+     * the {@link SourceRecord}, the nested documents are kept as raw BSON slices of the original
+     * document.
+     */
+    public static BsonDocument copyRawChangeStreamDocument(RawBsonDocument changeStreamDocument) {
+        BsonDocument document = new BsonDocument();
+        for (Field field : SOURCE_RECORD_BINARY_VALUE_SCHEMA.fields()) {
+            BsonValue fieldValue = changeStreamDocument.get(field.name());
+            if (fieldValue != null) {
+                document.put(field.name(), fieldValue);
+            }
+        }
+        return document;
     }
 
     public static String getOffsetValue(SourceRecord sourceRecord, String key) {
@@ -144,6 +183,27 @@ public class MongoRecordUtils {
                 JSON_WRITER_SETTINGS_STRICT);
     }
 
+    /**
+     * Creates a record whose documents are raw BSON bytes when {@code binaryPassthrough} is
+     * enabled, or JSON strings otherwise.
+     */
+    public static SourceRecord createSourceRecord(
+            final Map<String, String> partition,
+            final Map<String, String> sourceOffset,
+            final String topicName,
+            final BsonDocument keyDocument,
+            final BsonDocument valueDocument,
+            final boolean binaryPassthrough) {
+        return createSourceRecord(
+                partition,
+                sourceOffset,
+                topicName,
+                keyDocument,
+                valueDocument,
+                binaryPassthrough ? SOURCE_RECORD_BINARY_VALUE_SCHEMA : SOURCE_RECORD_VALUE_SCHEMA,
+                JSON_WRITER_SETTINGS_STRICT);
+    }
+
     public static SourceRecord createSourceRecord(
             final Map<String, String> partition,
             final Map<String, String> sourceOffset,
@@ -151,12 +211,30 @@ public class MongoRecordUtils {
             final BsonDocument keyDocument,
             final BsonDocument valueDocument,
             final JsonWriterSettings jsonWriterSettings) {
+        return createSourceRecord(
+                partition,
+                sourceOffset,
+                topicName,
+                keyDocument,
+                valueDocument,
+                SOURCE_RECORD_VALUE_SCHEMA,
+                jsonWriterSettings);
+    }
+
+    private static SourceRecord createSourceRecord(
+            final Map<String, String> partition,
+            final Map<String, String> sourceOffset,
+            final String topicName,
+            final BsonDocument keyDocument,
+            final BsonDocument valueDocument,
+            final Schema valueSchema,
+            final JsonWriterSettings jsonWriterSettings) {
         BsonValueToSchemaAndValue schemaAndValue =
                 new BsonValueToSchemaAndValue(jsonWriterSettings);
         SchemaAndValue keySchemaAndValue =
                 schemaAndValue.toSchemaAndValue(SOURCE_RECORD_KEY_SCHEMA, keyDocument);
         SchemaAndValue valueSchemaAndValue =
-                schemaAndValue.toSchemaAndValue(SOURCE_RECORD_VALUE_SCHEMA, valueDocument);
+                schemaAndValue.toSchemaAndValue(valueSchema, valueDocument);
 
         return new SourceRecord(
                 partition,
@@ -20,6 +20,7 @@ package org.apache.flink.cdc.connectors.mongodb.table;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.cdc.common.annotation.PublicEvolving;
 import org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope;
+import org.apache.flink.cdc.connectors.mongodb.source.utils.MongoRecordUtils;
 import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
 import org.apache.flink.cdc.debezium.table.AppendMetadataCollector;
 import org.apache.flink.cdc.debezium.table.MetadataConverter;
@@ -174,12 +175,14 @@ public class MongoDBConnectorDeserializationSchema
         return (GenericRowData) physicalConverter.convert(document);
     }
 
+    /**
+     * Extracts a document of the record, which is a JSON string, or raw BSON bytes in the binary
+     * passthrough mode. The raw BSON bytes are not decoded here, the converters only decode the
+     * fields of the physical columns.
+     */
     protected BsonDocument extractBsonDocument(Struct value, Schema valueSchema, String fieldName) {
         if (valueSchema.field(fieldName) != null) {
-            String docString = value.getString(fieldName);
-            if (docString != null) {
-                return BsonDocument.parse(docString);
-            }
+            return MongoRecordUtils.getDocument(value, fieldName);
         }
         return null;
     }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mongodb.source.utils;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.DOCUMENT_KEY_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.FULL_DOCUMENT_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.ID_FIELD;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Unit test for {@link MongoRecordUtils}. */
+public class MongoRecordUtilsTest {
+
+    private static final RawBsonDocument FULL_DOCUMENT =
+            RawBsonDocument.parse(
+                    "{\"_id\": {\"$oid\": \"6357b05f35c6ae07e1e6c739\"}, \"name\": \"Alice\","
+                            + " \"address\": {\"city\": \"Hangzhou\", \"zip\": 310000}}");
+
+    private static final RawBsonDocument CHANGE_STREAM_DOCUMENT =
+            RawBsonDocument.parse(
+                    "{\"_id\": {\"_data\": \"826357B0840000000129295A1004\"},"
+                            + " \"operationType\": \"insert\","
+                            + " \"clusterTime\": {\"$timestamp\": {\"t\": 1666691204, \"i\": 1}},"
+                            + " \"wallTime\": {\"$date\": 1666691204000},"
+                            + " \"fullDocument\": "
+                            + FULL_DOCUMENT.toJson()
+                            + ","
+                            + " \"ns\": {\"db\": \"inventory\", \"coll\": \"customers\"},"
+                            + " \"documentKey\": {\"_id\": {\"$oid\": \"6357b05f35c6ae07e1e6c739\"}}}");
+
+    @Test
+    public void testCreateJsonSourceRecord() {
+        SourceRecord record = createSourceRecord(false);
+        Struct value = (Struct) record.value();
+
+        assertEquals(
+                Schema.Type.STRING,
+                record.valueSchema().field(FULL_DOCUMENT_FIELD).schema().type());
+        assertEquals(FULL_DOCUMENT, MongoRecordUtils.getDocument(value, FULL_DOCUMENT_FIELD));
+        assertEquals(
+                CHANGE_STREAM_DOCUMENT.getDocument(DOCUMENT_KEY_FIELD),
+                MongoRecordUtils.getDocumentKey(record));
+    }
+
+    @Test
+    public void testCreateBinarySourceRecord() {
+        SourceRecord record = createSourceRecord(true);
+        Struct value = (Struct) record.value();
+
+        assertEquals(
+                Schema.Type.BYTES, record.valueSchema().field(FULL_DOCUMENT_FIELD).schema().type());
+        BsonDocument fullDocument = MongoRecordUtils.getDocument(value, FULL_DOCUMENT_FIELD);
+        assertTrue(fullDocument instanceof RawBsonDocument);
+        assertEquals(FULL_DOCUMENT, fullDocument);
+        assertEquals("Hangzhou", fullDocument.getDocument("address").getString("city").getValue());
+        assertEquals(
+                CHANGE_STREAM_DOCUMENT.getDocument(DOCUMENT_KEY_FIELD),
+                MongoRecordUtils.getDocumentKey(record));
+    }
+
+    @Test
+    public void testCopyRawChangeStreamDocument() {
+        BsonDocument document =
+                MongoRecordUtils.copyRawChangeStreamDocument(CHANGE_STREAM_DOCUMENT);
+
+        // Only the fields of the record are copied, and the nested documents are kept raw
+        assertFalse(document.containsKey("wallTime"));
+        assertTrue(document.get(FULL_DOCUMENT_FIELD) instanceof RawBsonDocument);
+        assertEquals(FULL_DOCUMENT, document.getDocument(FULL_DOCUMENT_FIELD));
+        assertEquals(
+                CHANGE_STREAM_DOCUMENT.getTimestamp("clusterTime"),
+                document.getTimestamp("clusterTime"));
+
+        // The copy is mutable
+        document.put(ID_FIELD, new BsonDocument(ID_FIELD, document.getDocument(ID_FIELD)));
+        assertEquals(
+                CHANGE_STREAM_DOCUMENT.getDocument(ID_FIELD),
+                document.getDocument(ID_FIELD).getDocument(ID_FIELD));
+    }
+
+    private static SourceRecord createSourceRecord(boolean binaryPassthrough) {
+        BsonDocument valueDocument =
+                MongoRecordUtils.copyRawChangeStreamDocument(CHANGE_STREAM_DOCUMENT);
+        return MongoRecordUtils.createSourceRecord(
+                MongoRecordUtils.createPartitionMap(
+                        "mongodb", "localhost", "inventory", "customers"),
+                Collections.singletonMap(ID_FIELD, valueDocument.getDocument(ID_FIELD).toJson()),
+                "inventory.customers",
+                new BsonDocument(ID_FIELD, valueDocument.getDocument(ID_FIELD)),
+                valueDocument,
+                binaryPassthrough);
+    }
+}
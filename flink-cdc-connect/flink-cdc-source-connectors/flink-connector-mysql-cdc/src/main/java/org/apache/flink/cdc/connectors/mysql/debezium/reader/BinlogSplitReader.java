@@ -81,7 +81,7 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
 
     private MySqlBinlogSplitReadTask binlogSplitReadTask;
     private MySqlBinlogSplit currentBinlogSplit;
-    private Map<TableId, List<FinishedSnapshotSplitInfo>> finishedSplitsInfo;
+    private Map<TableId, FinishedSnapshotSplitIndex> finishedSplitsIndex;
     // tableId -> the max splitHighWatermark
     private Map<TableId, BinlogOffset> maxSplitHighWatermarkMap;
     private final Set<TableId> pureBinlogPhaseTables;
@@ -256,7 +256,7 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
             }
 
             // only the table who captured snapshot splits need to filter
-            if (finishedSplitsInfo.containsKey(tableId)) {
+            if (finishedSplitsIndex.containsKey(tableId)) {
                 RowType splitKeyType =
                         ChunkUtils.getChunkKeyColumnType(
                                 statefulTaskContext.getDatabaseSchema().tableFor(tableId),
@@ -267,13 +267,7 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
                 Object[] chunkKey =
                         RecordUtils.getSplitKey(
                                 splitKeyType, statefulTaskContext.getSchemaNameAdjuster(), target);
-                for (FinishedSnapshotSplitInfo splitInfo : finishedSplitsInfo.get(tableId)) {
-                    if (RecordUtils.splitKeyRangeContains(
-                                    chunkKey, splitInfo.getSplitStart(), splitInfo.getSplitEnd())
-                            && position.isAfter(splitInfo.getHighWatermark())) {
-                        return true;
-                    }
-                }
+                return finishedSplitsIndex.get(tableId).shouldEmit(chunkKey, position);
             }
             // not in the monitored splits scope, do not emit
             return false;
@@ -335,7 +329,11 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
                 }
             }
         }
-        this.finishedSplitsInfo = splitsInfoMap;
+        Map<TableId, FinishedSnapshotSplitIndex> splitsIndexMap = new HashMap<>();
+        for (Map.Entry<TableId, List<FinishedSnapshotSplitInfo>> entry : splitsInfoMap.entrySet()) {
+            splitsIndexMap.put(entry.getKey(), new FinishedSnapshotSplitIndex(entry.getValue()));
+        }
+        this.finishedSplitsIndex = splitsIndexMap;
         this.maxSplitHighWatermarkMap = tableIdBinlogPositionMap;
         this.pureBinlogPhaseTables.clear();
     }
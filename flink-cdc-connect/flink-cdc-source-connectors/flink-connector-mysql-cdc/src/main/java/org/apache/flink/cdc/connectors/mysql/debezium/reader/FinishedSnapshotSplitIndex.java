@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.debezium.reader;
+
+import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffset;
+import org.apache.flink.cdc.connectors.mysql.source.split.FinishedSnapshotSplitInfo;
+import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import org.apache.flink.cdc.connectors.mysql.source.utils.RecordUtils;
+import org.apache.flink.cdc.debezium.utils.AbstractFinishedSnapshotSplitIndex;
+
+import java.util.List;
+
+/**
+ * An index over the {@link FinishedSnapshotSplitInfo}s of one table, used by {@link
+ * BinlogSplitReader} to find the snapshot split that the chunk key of a binlog record belongs to.
+ */
+public class FinishedSnapshotSplitIndex
+        extends AbstractFinishedSnapshotSplitIndex<
+                FinishedSnapshotSplitInfo, Object[], BinlogOffset> {
+
+    public FinishedSnapshotSplitIndex(List<FinishedSnapshotSplitInfo> splitInfos) {
+        super(splitInfos);
+    }
+
+    @Override
+    protected int getChunkId(FinishedSnapshotSplitInfo split) {
+        return MySqlSnapshotSplit.extractChunkId(split.getSplitId());
+    }
+
+    @Override
+    protected Object[] getSplitStart(FinishedSnapshotSplitInfo split) {
+        return split.getSplitStart();
+    }
+
+    @Override
+    protected Object[] getSplitEnd(FinishedSnapshotSplitInfo split) {
+        return split.getSplitEnd();
+    }
+
+    @Override
+    protected boolean isKeyBetween(Object[] chunkKey, Object[] splitStart, Object[] splitEnd) {
+        return RecordUtils.splitKeyRangeContains(chunkKey, splitStart, splitEnd);
+    }
+
+    @Override
+    protected boolean isAfterHighWatermark(BinlogOffset position, FinishedSnapshotSplitInfo split) {
+        return position.isAfter(split.getHighWatermark());
+    }
+}
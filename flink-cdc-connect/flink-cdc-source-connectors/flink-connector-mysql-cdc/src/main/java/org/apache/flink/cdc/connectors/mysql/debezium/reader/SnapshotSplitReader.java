@@ -30,9 +30,11 @@ import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSplit;
 import org.apache.flink.cdc.connectors.mysql.source.split.SourceRecords;
 import org.apache.flink.cdc.connectors.mysql.source.utils.RecordUtils;
 import org.apache.flink.cdc.connectors.mysql.source.utils.hooks.SnapshotPhaseHooks;
+import org.apache.flink.cdc.debezium.internal.SnapshotChunkBuffer;
 import org.apache.flink.util.FlinkRuntimeException;
 import org.apache.flink.util.Preconditions;
 
+import org.apache.flink.shaded.guava31.com.google.common.collect.Iterators;
 import org.apache.flink.shaded.guava31.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import io.debezium.config.Configuration;
@@ -53,19 +55,14 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
 
 import static org.apache.flink.cdc.connectors.mysql.debezium.DebeziumUtils.createBinaryClient;
 import static org.apache.flink.cdc.connectors.mysql.debezium.DebeziumUtils.createMySqlConnection;
@@ -80,6 +77,9 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
     private final StatefulTaskContext statefulTaskContext;
     private final ExecutorService executorService;
     private final SnapshotPhaseHooks hooks;
+    private final String[] spillDirectories;
+    // the buffers of the chunks whose spilled records might not be fully read yet
+    private final List<SnapshotChunkBuffer> spilledBuffers = new ArrayList<>();
 
     private volatile ChangeEventQueue<DataChangeEvent> queue;
     private volatile boolean currentTaskRunning;
@@ -96,21 +96,44 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
             new StoppableChangeEventSourceContext();
 
     private static final long READER_CLOSE_TIMEOUT = 30L;
+    private static final int SPILLED_RECORDS_BATCH_SIZE = 1024;
 
     public SnapshotSplitReader(
             MySqlSourceConfig sourceConfig, int subtaskId, SnapshotPhaseHooks hooks) {
+        this(sourceConfig, subtaskId, hooks, SnapshotChunkBuffer.getDefaultSpillDirectories());
+    }
+
+    public SnapshotSplitReader(
+            MySqlSourceConfig sourceConfig,
+            int subtaskId,
+            SnapshotPhaseHooks hooks,
+            String[] spillDirectories) {
         this(
                 new StatefulTaskContext(
                         sourceConfig,
                         createBinaryClient(sourceConfig.getDbzConfiguration()),
                         createMySqlConnection(sourceConfig)),
                 subtaskId,
-                hooks);
+                hooks,
+                spillDirectories);
     }
 
     public SnapshotSplitReader(
             StatefulTaskContext statefulTaskContext, int subtaskId, SnapshotPhaseHooks hooks) {
+        this(
+                statefulTaskContext,
+                subtaskId,
+                hooks,
+                SnapshotChunkBuffer.getDefaultSpillDirectories());
+    }
+
+    public SnapshotSplitReader(
+            StatefulTaskContext statefulTaskContext,
+            int subtaskId,
+            SnapshotPhaseHooks hooks,
+            String[] spillDirectories) {
         this.statefulTaskContext = statefulTaskContext;
+        this.spillDirectories = spillDirectories;
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder()
                         .setNameFormat("debezium-reader-" + subtaskId)
@@ -290,7 +313,13 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
             SourceRecord lowWatermark = null;
             SourceRecord highWatermark = null;
 
-            Map<Struct, List<SourceRecord>> snapshotRecords = new HashMap<>();
+            SnapshotChunkBuffer snapshotRecords =
+                    new SnapshotChunkBuffer(
+                            statefulTaskContext.getSourceConfig().getSnapshotChunkSpillThreshold(),
+                            spillDirectories);
+            // the buffers are closed once fully read, the remaining ones are closed with the reader
+            spilledBuffers.removeIf(buffer -> buffer.isClosed() || !buffer.isSpilled());
+            spilledBuffers.add(snapshotRecords);
             while (!reachBinlogEnd) {
                 checkReadException();
                 List<DataChangeEvent> batch = queue.poll();
@@ -317,13 +346,9 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
 
                     if (!reachBinlogStart) {
                         if (record.key() != null) {
-                            snapshotRecords.put(
-                                    (Struct) record.key(), Collections.singletonList(record));
+                            snapshotRecords.put((Struct) record.key(), record);
                         } else {
-                            List<SourceRecord> records =
-                                    snapshotRecords.computeIfAbsent(
-                                            (Struct) record.value(), key -> new LinkedList<>());
-                            records.add(record);
+                            snapshotRecords.add((Struct) record.value(), record);
                         }
                     } else {
                         RecordUtils.upsertBinlog(
@@ -339,13 +364,23 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
             // snapshot split return its data once
             hasNextElement.set(false);
 
+            if (snapshotRecords.isSpilled()) {
+                // read back the spilled records lazily in batches
+                return Iterators.concat(
+                        Iterators.singletonIterator(
+                                new SourceRecords(Collections.singletonList(lowWatermark))),
+                        Iterators.transform(
+                                snapshotRecords.batchIterator(SPILLED_RECORDS_BATCH_SIZE),
+                                batch ->
+                                        new SourceRecords(
+                                                RecordUtils.formatMessageTimestamp(batch))),
+                        Iterators.singletonIterator(
+                                new SourceRecords(Collections.singletonList(highWatermark))));
+            }
+
             final List<SourceRecord> normalizedRecords = new ArrayList<>();
             normalizedRecords.add(lowWatermark);
-            normalizedRecords.addAll(
-                    RecordUtils.formatMessageTimestamp(
-                            snapshotRecords.values().stream()
-                                    .flatMap(Collection::stream)
-                                    .collect(Collectors.toList())));
+            normalizedRecords.addAll(RecordUtils.formatMessageTimestamp(snapshotRecords.records()));
             normalizedRecords.add(highWatermark);
 
             final List<SourceRecords> sourceRecordsSet = new ArrayList<>();
@@ -392,6 +427,8 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
     public void close() {
         try {
             stopCurrentTask();
+            spilledBuffers.forEach(SnapshotChunkBuffer::close);
+            spilledBuffers.clear();
             if (statefulTaskContext != null) {
                 statefulTaskContext.close();
             }
@@ -292,6 +292,24 @@ public class MySqlSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The maximum number of records of a snapshot chunk kept in memory while merging the binlog
+     * events of the chunk, the following records are spilled to disk.
+     */
+    public MySqlSourceBuilder<T> snapshotChunkSpillThreshold(int snapshotChunkSpillThreshold) {
+        this.configFactory.snapshotChunkSpillThreshold(snapshotChunkSpillThreshold);
+        return this;
+    }
+
+    /**
+     * The number of tables split into chunks concurrently, each with its own connection to the
+     * database. The chunks are still assigned in the order of the tables.
+     */
+    public MySqlSourceBuilder<T> chunkSplittingParallelism(int chunkSplittingParallelism) {
+        this.configFactory.chunkSplittingParallelism(chunkSplittingParallelism);
+        return this;
+    }
+
     /**
      * Build the {@link MySqlSource}.
      *
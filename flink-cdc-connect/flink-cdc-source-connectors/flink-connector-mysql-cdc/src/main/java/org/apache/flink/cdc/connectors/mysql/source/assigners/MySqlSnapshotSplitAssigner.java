@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.mysql.source.assigners;
 
 import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.cdc.connectors.mysql.debezium.DebeziumUtils;
 import org.apache.flink.cdc.connectors.mysql.schema.MySqlSchema;
 import org.apache.flink.cdc.connectors.mysql.source.assigners.state.ChunkSplitterState;
@@ -44,8 +45,10 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -56,9 +59,13 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.stream.Collectors;
 
@@ -91,6 +98,15 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
     private boolean isTableIdCaseSensitive;
     private ExecutorService executor;
 
+    // --------------------------------------------------------------------------------------------
+    // Parallel splitting, only used when the chunk splitting parallelism is greater than one
+    // --------------------------------------------------------------------------------------------
+    private final int chunkSplittingParallelism;
+    private final BlockingQueue<MySqlChunkSplitter> idleParallelSplitters =
+            new LinkedBlockingQueue<>();
+    private final List<MySqlChunkSplitter> parallelSplitters = new ArrayList<>();
+    private ExecutorService parallelSplittingExecutor;
+
     @Nullable private Long checkpointIdToFinish;
 
     public MySqlSnapshotSplitAssigner(
@@ -176,6 +192,7 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
         this.partition =
                 new MySqlPartition(sourceConfig.getMySqlConnectorConfig().getLogicalName());
         this.enumeratorContext = enumeratorContext;
+        this.chunkSplittingParallelism = sourceConfig.getChunkSplittingParallelism();
     }
 
     @Override
@@ -318,22 +335,10 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
                             "Error when splitting chunks for " + nextTable, e);
                 }
 
-                if (!hasRecordSchema && !splits.isEmpty()) {
-                    hasRecordSchema = true;
-                    final Map<TableId, TableChanges.TableChange> tableSchema = new HashMap<>();
-                    tableSchema.putAll(splits.iterator().next().getTableSchemas());
-                    tableSchemas.putAll(tableSchema);
-                }
-                final List<MySqlSchemalessSnapshotSplit> schemaLessSnapshotSplits =
-                        splits.stream()
-                                .map(MySqlSnapshotSplit::toSchemalessSnapshotSplit)
-                                .collect(Collectors.toList());
+                addSplitsOfTable(
+                        nextTable, splits, !hasRecordSchema, !chunkSplitter.hasNextChunk());
+                hasRecordSchema = hasRecordSchema || !splits.isEmpty();
                 chunkNum += splits.size();
-                remainingSplits.addAll(schemaLessSnapshotSplits);
-                if (!chunkSplitter.hasNextChunk()) {
-                    remainingTables.remove(nextTable);
-                }
-                lock.notify();
             }
         } while (chunkSplitter.hasNextChunk());
         long end = System.currentTimeMillis();
@@ -344,6 +349,112 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
                 end - start);
     }
 
+    /**
+     * Adds the splits of a table to the remaining splits, the table is removed from the remaining
+     * tables once all its splits have been added. The caller must hold the lock.
+     */
+    private void addSplitsOfTable(
+            TableId table,
+            List<MySqlSnapshotSplit> splits,
+            boolean recordSchema,
+            boolean isLastSplitsOfTable) {
+        if (recordSchema && !splits.isEmpty()) {
+            final Map<TableId, TableChanges.TableChange> tableSchema = new HashMap<>();
+            tableSchema.putAll(splits.iterator().next().getTableSchemas());
+            tableSchemas.putAll(tableSchema);
+        }
+        final List<MySqlSchemalessSnapshotSplit> schemaLessSnapshotSplits =
+                splits.stream()
+                        .map(MySqlSnapshotSplit::toSchemalessSnapshotSplit)
+                        .collect(Collectors.toList());
+        remainingSplits.addAll(schemaLessSnapshotSplits);
+        if (isLastSplitsOfTable) {
+            remainingTables.remove(table);
+        }
+        lock.notify();
+    }
+
+    /**
+     * Splits the given tables concurrently with the parallel splitters. A table is split entirely
+     * by one splitter, and the splits of the tables are added in the order of the given tables, so
+     * the remaining splits and remaining tables are the same as splitting them one by one. The
+     * tables split ahead but not added yet are still remaining tables, and are split again after a
+     * restore.
+     */
+    private void splitTablesInParallel(List<TableId> tables) {
+        Deque<Tuple2<TableId, Future<List<MySqlSnapshotSplit>>>> splittingTables =
+                new ArrayDeque<>();
+        Iterator<TableId> tablesToSplit = tables.iterator();
+        while (tablesToSplit.hasNext() || !splittingTables.isEmpty()) {
+            // keep at most as many tables being split as the number of splitters
+            while (tablesToSplit.hasNext() && splittingTables.size() < chunkSplittingParallelism) {
+                TableId table = tablesToSplit.next();
+                splittingTables.add(
+                        Tuple2.of(
+                                table,
+                                parallelSplittingExecutor.submit(() -> splitTableEntirely(table))));
+            }
+
+            Tuple2<TableId, Future<List<MySqlSnapshotSplit>>> splittingTable =
+                    splittingTables.poll();
+            List<MySqlSnapshotSplit> splits;
+            try {
+                splits = splittingTable.f1.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(
+                        "Error when splitting chunks for " + splittingTable.f0, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FlinkRuntimeException(
+                        "Interrupted while waiting for the chunks of " + splittingTable.f0, e);
+            }
+            synchronized (lock) {
+                addSplitsOfTable(splittingTable.f0, splits, true, true);
+            }
+        }
+    }
+
+    private List<MySqlSnapshotSplit> splitTableEntirely(TableId table) throws Exception {
+        MySqlChunkSplitter splitter = idleParallelSplitters.take();
+        try {
+            LOG.info("Start splitting table {} into chunks...", table);
+            long start = System.currentTimeMillis();
+            List<MySqlSnapshotSplit> splits = new ArrayList<>();
+            do {
+                splits.addAll(splitter.splitChunks(partition, table));
+            } while (splitter.hasNextChunk());
+            LOG.info(
+                    "Split table {} into {} chunks, time cost: {}ms.",
+                    table,
+                    splits.size(),
+                    System.currentTimeMillis() - start);
+            return splits;
+        } finally {
+            idleParallelSplitters.put(splitter);
+        }
+    }
+
+    private void openParallelSplitters() {
+        if (parallelSplittingExecutor == null) {
+            ThreadFactory threadFactory =
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("snapshot-parallel-splitting-%d")
+                            .build();
+            this.parallelSplittingExecutor =
+                    Executors.newFixedThreadPool(chunkSplittingParallelism, threadFactory);
+            for (int i = 0; i < chunkSplittingParallelism; i++) {
+                MySqlChunkSplitter splitter =
+                        createChunkSplitter(
+                                sourceConfig,
+                                isTableIdCaseSensitive,
+                                ChunkSplitterState.NO_SPLITTING_TABLE_STATE);
+                parallelSplitters.add(splitter);
+                splitter.open();
+                idleParallelSplitters.add(splitter);
+            }
+        }
+    }
+
     @Override
     public Optional<MySqlSplit> getNext() {
         waitTableDiscoveryReady();
@@ -503,6 +614,9 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
         if (chunkSplitter != null) {
             try {
                 chunkSplitter.close();
+                for (MySqlChunkSplitter splitter : parallelSplitters) {
+                    splitter.close();
+                }
                 // clear jdbc connection pools
                 JdbcConnectionPools.getInstance().clear();
             } catch (Exception e) {
@@ -515,6 +629,9 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
         if (executor != null) {
             executor.shutdown();
         }
+        if (parallelSplittingExecutor != null) {
+            parallelSplittingExecutor.shutdown();
+        }
     }
 
     private void addAlreadyProcessedTablesIfNotExists(TableId tableId) {
@@ -580,8 +697,13 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
             }
 
             // split the remaining tables
-            for (TableId nextTable : remainingTables) {
-                splitTable(nextTable);
+            if (chunkSplittingParallelism > 1) {
+                openParallelSplitters();
+                splitTablesInParallel(new ArrayList<>(remainingTables));
+            } else {
+                for (TableId nextTable : remainingTables) {
+                    splitTable(nextTable);
+                }
             }
         } catch (Throwable e) {
             synchronized (lock) {
@@ -69,6 +69,8 @@ public class MySqlSourceConfig implements Serializable {
     private final boolean parseOnLineSchemaChanges;
     public static boolean useLegacyJsonFormat = true;
     private final boolean assignUnboundedChunkFirst;
+    private final int snapshotChunkSpillThreshold;
+    private final int chunkSplittingParallelism;
 
     // --------------------------------------------------------------------------------------------
     // Debezium Configurations
@@ -107,7 +109,9 @@ public class MySqlSourceConfig implements Serializable {
             boolean parseOnLineSchemaChanges,
             boolean treatTinyInt1AsBoolean,
             boolean useLegacyJsonFormat,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int snapshotChunkSpillThreshold,
+            int chunkSplittingParallelism) {
         this.hostname = checkNotNull(hostname);
         this.port = port;
         this.username = checkNotNull(username);
@@ -139,6 +143,8 @@ public class MySqlSourceConfig implements Serializable {
         this.treatTinyInt1AsBoolean = treatTinyInt1AsBoolean;
         this.useLegacyJsonFormat = useLegacyJsonFormat;
         this.assignUnboundedChunkFirst = assignUnboundedChunkFirst;
+        this.snapshotChunkSpillThreshold = snapshotChunkSpillThreshold;
+        this.chunkSplittingParallelism = chunkSplittingParallelism;
     }
 
     public String getHostname() {
@@ -230,6 +236,14 @@ public class MySqlSourceConfig implements Serializable {
         return assignUnboundedChunkFirst;
     }
 
+    public int getSnapshotChunkSpillThreshold() {
+        return snapshotChunkSpillThreshold;
+    }
+
+    public int getChunkSplittingParallelism() {
+        return chunkSplittingParallelism;
+    }
+
     public Properties getDbzProperties() {
         return dbzProperties;
     }
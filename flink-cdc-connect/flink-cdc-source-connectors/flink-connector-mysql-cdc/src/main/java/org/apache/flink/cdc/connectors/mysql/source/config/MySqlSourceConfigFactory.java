@@ -74,6 +74,10 @@ public class MySqlSourceConfigFactory implements Serializable {
     private boolean treatTinyInt1AsBoolean = true;
     private boolean useLegacyJsonFormat = true;
     private boolean assignUnboundedChunkFirst = false;
+    private int snapshotChunkSpillThreshold =
+            MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD.defaultValue();
+    private int chunkSplittingParallelism =
+            MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTING_PARALLELISM.defaultValue();
 
     public MySqlSourceConfigFactory hostname(String hostname) {
         this.hostname = hostname;
@@ -324,6 +328,25 @@ public class MySqlSourceConfigFactory implements Serializable {
         return this;
     }
 
+    /**
+     * The maximum number of records of a snapshot chunk kept in memory while merging the binlog
+     * events of the chunk, the following records are spilled to disk. Defaults to keeping all the
+     * records in memory.
+     */
+    public MySqlSourceConfigFactory snapshotChunkSpillThreshold(int snapshotChunkSpillThreshold) {
+        this.snapshotChunkSpillThreshold = snapshotChunkSpillThreshold;
+        return this;
+    }
+
+    /**
+     * The number of tables split into chunks concurrently, each with its own connection to the
+     * database. Defaults to 1, i.e. the tables are split one by one.
+     */
+    public MySqlSourceConfigFactory chunkSplittingParallelism(int chunkSplittingParallelism) {
+        this.chunkSplittingParallelism = chunkSplittingParallelism;
+        return this;
+    }
+
     /** Creates a new {@link MySqlSourceConfig} for the given subtask {@code subtaskId}. */
     public MySqlSourceConfig createConfig(int subtaskId) {
         // hard code server name, because we don't need to distinguish it, docs:
@@ -421,6 +444,8 @@ public class MySqlSourceConfigFactory implements Serializable {
                 parseOnLineSchemaChanges,
                 treatTinyInt1AsBoolean,
                 useLegacyJsonFormat,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                snapshotChunkSpillThreshold,
+                chunkSplittingParallelism);
     }
 }
@@ -44,6 +44,10 @@ public class MySqlSourceReaderMetrics {
                 MetricNames.CURRENT_FETCH_EVENT_TIME_LAG, (Gauge<Long>) this::getFetchDelay);
     }
 
+    public MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
     public long getFetchDelay() {
         return fetchDelay;
     }
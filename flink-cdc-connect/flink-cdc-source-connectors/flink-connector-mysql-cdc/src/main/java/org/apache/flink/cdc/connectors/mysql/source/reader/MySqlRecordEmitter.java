@@ -24,6 +24,7 @@ import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSplitState;
 import org.apache.flink.cdc.connectors.mysql.source.split.SourceRecords;
 import org.apache.flink.cdc.connectors.mysql.source.utils.RecordUtils;
 import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
+import org.apache.flink.cdc.debezium.event.DebeziumEventDeserializationSchema;
 import org.apache.flink.cdc.debezium.history.FlinkJsonTableChangeSerializer;
 import org.apache.flink.connector.base.source.reader.RecordEmitter;
 import org.apache.flink.util.Collector;
@@ -62,6 +63,10 @@ public class MySqlRecordEmitter<T> implements RecordEmitter<SourceRecords, T, My
         this.sourceReaderMetrics = sourceReaderMetrics;
         this.includeSchemaChanges = includeSchemaChanges;
         this.outputCollector = new OutputCollector<>();
+        if (debeziumDeserializationSchema instanceof DebeziumEventDeserializationSchema) {
+            ((DebeziumEventDeserializationSchema) debeziumDeserializationSchema)
+                    .registerMetrics(sourceReaderMetrics.getMetricGroup());
+        }
     }
 
     @Override
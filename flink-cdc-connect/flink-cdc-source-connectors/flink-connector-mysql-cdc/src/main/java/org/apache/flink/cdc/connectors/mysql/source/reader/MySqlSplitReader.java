@@ -28,6 +28,7 @@ import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
 import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSplit;
 import org.apache.flink.cdc.connectors.mysql.source.split.SourceRecords;
 import org.apache.flink.cdc.connectors.mysql.source.utils.hooks.SnapshotPhaseHooks;
+import org.apache.flink.configuration.ConfigurationUtils;
 import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
@@ -229,7 +230,13 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
 
     private SnapshotSplitReader getSnapshotSplitReader() {
         if (reusedSnapshotReader == null) {
-            reusedSnapshotReader = new SnapshotSplitReader(sourceConfig, subtaskId, snapshotHooks);
+            reusedSnapshotReader =
+                    new SnapshotSplitReader(
+                            sourceConfig,
+                            subtaskId,
+                            snapshotHooks,
+                            ConfigurationUtils.parseTempDirectories(
+                                    context.getSourceReaderContext().getConfiguration()));
         }
         return reusedSnapshotReader;
     }
@@ -23,6 +23,7 @@ import org.apache.flink.cdc.connectors.mysql.debezium.reader.DebeziumReader;
 import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffset;
 import org.apache.flink.cdc.connectors.mysql.source.split.FinishedSnapshotSplitInfo;
 import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import org.apache.flink.cdc.debezium.internal.SnapshotChunkBuffer;
 import org.apache.flink.table.types.logical.RowType;
 
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonProcessingException;
@@ -48,9 +49,7 @@ import java.sql.SQLException;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -101,7 +100,7 @@ public class RecordUtils {
 
     /** upsert binlog events to snapshot events collection. */
     public static void upsertBinlog(
-            Map<Struct, List<SourceRecord>> snapshotRecords,
+            SnapshotChunkBuffer snapshotRecords,
             SourceRecord binlogRecord,
             RowType splitBoundaryType,
             SchemaNameAdjuster nameAdjuster,
@@ -178,20 +177,19 @@ public class RecordUtils {
     }
 
     private static void upsertBinlog(
-            Map<Struct, List<SourceRecord>> snapshotRecords,
+            SnapshotChunkBuffer snapshotRecords,
             SourceRecord binlogRecord,
             Struct keyStruct,
             boolean isDelete) {
         boolean hasPrimaryKey = binlogRecord.key() != null;
-        List<SourceRecord> records = snapshotRecords.get(keyStruct);
         if (isDelete) {
-            if (records == null || records.isEmpty()) {
+            if (!snapshotRecords.containsKey(keyStruct)) {
                 LOG.error(
                         "Deleting a record which is not in its split for tables without primary keys. This may happen when the chunk key column is updated in another snapshot split.");
             } else if (hasPrimaryKey) {
                 snapshotRecords.remove(keyStruct);
             } else {
-                snapshotRecords.get(keyStruct).remove(0);
+                snapshotRecords.removeFirst(keyStruct);
             }
         } else {
             SourceRecord record =
@@ -205,13 +203,9 @@ public class RecordUtils {
                             binlogRecord.valueSchema(),
                             createReadOpValue(binlogRecord, Envelope.FieldName.AFTER));
             if (hasPrimaryKey) {
-                snapshotRecords.put(keyStruct, Collections.singletonList(record));
+                snapshotRecords.put(keyStruct, record);
             } else {
-                if (records == null) {
-                    snapshotRecords.put(keyStruct, new LinkedList<>());
-                    records = snapshotRecords.get(keyStruct);
-                }
-                records.add(record);
+                snapshotRecords.add(keyStruct, record);
             }
         }
     }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.debezium.reader;
+
+import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffset;
+import org.apache.flink.cdc.connectors.mysql.source.split.FinishedSnapshotSplitInfo;
+import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+
+import io.debezium.relational.TableId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Tests for {@link FinishedSnapshotSplitIndex}. */
+public class FinishedSnapshotSplitIndexTest {
+
+    private static final TableId TABLE_ID = new TableId("db", null, "tab");
+
+    @Test
+    public void testLookupAcrossShuffledSplits() {
+        // [null, 100) [100, 200) ... [900, null) with high watermark 1000 + chunk id
+        List<FinishedSnapshotSplitInfo> splits = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            splits.add(
+                    split(
+                            i,
+                            i == 0 ? null : new Object[] {i * 100L},
+                            i == 9 ? null : new Object[] {(i + 1) * 100L},
+                            1000 + i));
+        }
+        Collections.shuffle(splits);
+        FinishedSnapshotSplitIndex index = new FinishedSnapshotSplitIndex(splits);
+
+        for (long key = -50; key < 1050; key += 25) {
+            int chunkId = (int) Math.min(9, Math.max(0, key / 100));
+            assertFalse(index.shouldEmit(new Object[] {key}, offset(1000 + chunkId)));
+        }
+        for (long key = -50; key < 1050; key += 25) {
+            int chunkId = (int) Math.min(9, Math.max(0, key / 100));
+            assertTrue(index.shouldEmit(new Object[] {key}, offset(1001 + chunkId)));
+        }
+    }
+
+    @Test
+    public void testKeyOutOfFinishedSplits() {
+        // the split [100, 200) is not finished
+        FinishedSnapshotSplitIndex index =
+                new FinishedSnapshotSplitIndex(
+                        Arrays.asList(
+                                split(0, null, new Object[] {100L}, 10),
+                                split(2, new Object[] {200L}, null, 10)));
+
+        assertTrue(index.shouldEmit(new Object[] {50L}, offset(11)));
+        assertFalse(index.shouldEmit(new Object[] {150L}, offset(11)));
+        assertTrue(index.shouldEmit(new Object[] {250L}, offset(11)));
+    }
+
+    @Test
+    public void testSplitEntersPureBinlogPhase() {
+        FinishedSnapshotSplitIndex index =
+                new FinishedSnapshotSplitIndex(Collections.singletonList(split(0, null, null, 10)));
+
+        assertFalse(index.shouldEmit(new Object[] {1L}, offset(5)));
+        assertTrue(index.shouldEmit(new Object[] {1L}, offset(11)));
+        // the split has caught up, the offset is not compared anymore
+        assertTrue(index.shouldEmit(new Object[] {2L}, offset(5)));
+    }
+
+    private static FinishedSnapshotSplitInfo split(
+            int chunkId, Object[] splitStart, Object[] splitEnd, long highWatermark) {
+        return new FinishedSnapshotSplitInfo(
+                TABLE_ID,
+                MySqlSnapshotSplit.generateSplitId(TABLE_ID, chunkId),
+                splitStart,
+                splitEnd,
+                offset(highWatermark));
+    }
+
+    private static BinlogOffset offset(long position) {
+        return BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", position);
+    }
+}
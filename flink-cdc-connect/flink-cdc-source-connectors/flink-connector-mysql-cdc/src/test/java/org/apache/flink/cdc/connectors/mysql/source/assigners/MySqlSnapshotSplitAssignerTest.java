@@ -114,6 +114,43 @@ public class MySqlSnapshotSplitAssignerTest extends MySqlSourceTestBase {
         assertEquals(expected, splits);
     }
 
+    @Test
+    public void testAssignMultipleTableSplitsInParallel() {
+        String[] captureTables =
+                new String[] {"customers_even_dist", "customers_sparse_dist", "customers"};
+        MySqlSourceConfig configuration =
+                getConfig(
+                        customerDatabase,
+                        4,
+                        CHUNK_KEY_EVEN_DISTRIBUTION_FACTOR_UPPER_BOUND.defaultValue(),
+                        CHUNK_KEY_EVEN_DISTRIBUTION_FACTOR_LOWER_BOUND.defaultValue(),
+                        captureTables,
+                        null,
+                        false,
+                        2);
+        List<TableId> remainingTables =
+                Arrays.stream(captureTables)
+                        .map(t -> customerDatabase.getDatabaseName() + "." + t)
+                        .map(TableId::parse)
+                        .collect(Collectors.toList());
+        final MySqlSnapshotSplitAssigner assigner =
+                new MySqlSnapshotSplitAssigner(
+                        configuration,
+                        DEFAULT_PARALLELISM,
+                        remainingTables,
+                        false,
+                        getMySqlSplitEnumeratorContext());
+
+        // The splits are assigned in the order of the tables, as if they were split one by one
+        assertEquals(
+                getTestAssignSnapshotSplits(
+                        4,
+                        CHUNK_KEY_EVEN_DISTRIBUTION_FACTOR_UPPER_BOUND.defaultValue(),
+                        CHUNK_KEY_EVEN_DISTRIBUTION_FACTOR_LOWER_BOUND.defaultValue(),
+                        captureTables),
+                getSplitsFromAssigner(assigner));
+    }
+
     @Test
     public void testAssignCompositePkTableSplitsUnevenlyWithChunkKeyColumn() {
         List<String> expected =
@@ -696,6 +733,26 @@ public class MySqlSnapshotSplitAssignerTest extends MySqlSourceTestBase {
             String[] captureTables,
             String chunkKeyColumn,
             boolean scanNewlyAddedTableEnabled) {
+        return getConfig(
+                database,
+                splitSize,
+                distributionFactorUpper,
+                distributionLower,
+                captureTables,
+                chunkKeyColumn,
+                scanNewlyAddedTableEnabled,
+                1);
+    }
+
+    private MySqlSourceConfig getConfig(
+            UniqueDatabase database,
+            int splitSize,
+            double distributionFactorUpper,
+            double distributionLower,
+            String[] captureTables,
+            String chunkKeyColumn,
+            boolean scanNewlyAddedTableEnabled,
+            int chunkSplittingParallelism) {
         Map<ObjectPath, String> chunkKeys = new HashMap<>();
         for (String table : captureTables) {
             chunkKeys.put(new ObjectPath(database.getDatabaseName(), table), chunkKeyColumn);
@@ -719,6 +776,7 @@ public class MySqlSnapshotSplitAssignerTest extends MySqlSourceTestBase {
                 .serverTimeZone(ZoneId.of("UTC").toString())
                 .chunkKeyColumn(chunkKeys)
                 .scanNewlyAddedTableEnabled(scanNewlyAddedTableEnabled)
+                .chunkSplittingParallelism(chunkSplittingParallelism)
                 .createConfig(0);
     }
 }
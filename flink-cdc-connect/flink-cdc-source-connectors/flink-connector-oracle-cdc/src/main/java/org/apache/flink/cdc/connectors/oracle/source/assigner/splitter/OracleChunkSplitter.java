@@ -83,6 +83,12 @@ public class OracleChunkSplitter extends JdbcSourceChunkSplitter {
                 jdbc, tableId, splitColumn.name(), chunkSize, includedLowerBound);
     }
 
+    @Override
+    protected String buildSplitColumnSampleQuery(
+            JdbcConnection jdbc, TableId tableId, Column splitColumn, int rowsPerSample) {
+        return OracleUtils.buildSampleQuery(tableId, splitColumn.name(), rowsPerSample);
+    }
+
     @Override
     protected Long queryApproximateRowCnt(JdbcConnection jdbc, TableId tableId)
             throws SQLException {
@@ -33,6 +33,7 @@ import io.debezium.schema.TopicSelector;
 import io.debezium.util.SchemaNameAdjuster;
 import org.apache.kafka.connect.source.SourceRecord;
 
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -103,6 +104,26 @@ public class OracleUtils {
                 });
     }
 
+    /**
+     * Builds the query of the split column values sampled from about one out of every <code>
+     * rowsPerSample</code> rows, which reads a part of the blocks of the table by <code>
+     * SAMPLE BLOCK</code>.
+     */
+    public static String buildSampleQuery(
+            TableId tableId, String splitColumnName, int rowsPerSample) {
+        String quotedColumn = quote(splitColumnName);
+        // the sample percent of oracle must be less than 100
+        String sampleClause =
+                rowsPerSample > 1
+                        ? String.format(
+                                " SAMPLE BLOCK (%s)",
+                                BigDecimal.valueOf(100.0 / rowsPerSample).toPlainString())
+                        : "";
+        return String.format(
+                "SELECT %s FROM %s%s ORDER BY %s",
+                quotedColumn, quoteSchemaAndTable(tableId), sampleClause, quotedColumn);
+    }
+
     public static String buildSplitScanQuery(
             TableId tableId, RowType pkRowType, boolean isFirstSplit, boolean isLastSplit) {
         return buildSplitQuery(tableId, pkRowType, isFirstSplit, isLastSplit, -1, true);
@@ -72,6 +72,13 @@ public class PostgresChunkSplitter extends JdbcSourceChunkSplitter {
         return PostgresQueryUtils.queryMin(jdbc, tableId, splitColumn, excludedLowerBound);
     }
 
+    /** Postgres chunk split overrides it to sample the table by TABLESAMPLE. */
+    @Override
+    protected String buildSplitColumnSampleQuery(
+            JdbcConnection jdbc, TableId tableId, Column splitColumn, int rowsPerSample) {
+        return PostgresQueryUtils.buildSampleQuery(tableId, splitColumn, rowsPerSample);
+    }
+
     // --------------------------------------------------------------------------------------------
     // Utilities
     // --------------------------------------------------------------------------------------------
@@ -283,6 +283,24 @@ public class PostgresSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The maximum number of records of a snapshot chunk kept in memory while merging the change log
+     * events of the chunk, the following records are spilled to disk.
+     */
+    public PostgresSourceBuilder<T> snapshotChunkSpillThreshold(int snapshotChunkSpillThreshold) {
+        this.configFactory.snapshotChunkSpillThreshold(snapshotChunkSpillThreshold);
+        return this;
+    }
+
+    /**
+     * Whether to compute the boundaries of the unevenly-sized chunks of a table from a single
+     * sampling query, instead of querying the end of every chunk one by one.
+     */
+    public PostgresSourceBuilder<T> chunkSamplingEnabled(boolean chunkSamplingEnabled) {
+        this.configFactory.chunkSamplingEnabled(chunkSamplingEnabled);
+        return this;
+    }
+
     /** Set the {@code LSN} checkpoints delay number for Postgres to commit the offsets. */
     public PostgresSourceBuilder<T> lsnCommitCheckpointsDelay(int lsnCommitDelay) {
         this.configFactory.setLsnCommitCheckpointsDelay(lsnCommitDelay);
@@ -25,6 +25,7 @@ import io.debezium.relational.TableId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -145,6 +146,20 @@ public class PostgresQueryUtils {
                 });
     }
 
+    /**
+     * Builds the query of the split column values sampled from about one out of every <code>
+     * rowsPerSample</code> rows, which reads a part of the blocks of the table by <code>
+     * TABLESAMPLE SYSTEM</code>.
+     */
+    public static String buildSampleQuery(TableId tableId, Column splitColumn, int rowsPerSample) {
+        return String.format(
+                "SELECT %s FROM %s TABLESAMPLE SYSTEM (%s) ORDER BY %s",
+                quoteForMinMax(splitColumn),
+                quote(tableId),
+                BigDecimal.valueOf(100.0 / rowsPerSample).toPlainString(),
+                quote(splitColumn.name()));
+    }
+
     public static String buildSplitScanQuery(
             TableId tableId,
             RowType pkRowType,
@@ -238,6 +238,24 @@ public class SqlServerSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The maximum number of records of a snapshot chunk kept in memory while merging the change log
+     * events of the chunk, the following records are spilled to disk.
+     */
+    public SqlServerSourceBuilder<T> snapshotChunkSpillThreshold(int snapshotChunkSpillThreshold) {
+        this.configFactory.snapshotChunkSpillThreshold(snapshotChunkSpillThreshold);
+        return this;
+    }
+
+    /**
+     * Whether to compute the boundaries of the unevenly-sized chunks of a table from a single
+     * sampling query, instead of querying the end of every chunk one by one.
+     */
+    public SqlServerSourceBuilder<T> chunkSamplingEnabled(boolean chunkSamplingEnabled) {
+        this.configFactory.chunkSamplingEnabled(chunkSamplingEnabled);
+        return this;
+    }
+
     /**
      * Build the {@link SqlServerIncrementalSource}.
      *
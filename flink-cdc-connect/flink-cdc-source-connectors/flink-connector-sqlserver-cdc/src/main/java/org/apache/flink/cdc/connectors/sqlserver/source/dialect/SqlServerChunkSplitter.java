@@ -63,6 +63,12 @@ public class SqlServerChunkSplitter extends JdbcSourceChunkSplitter {
                 jdbc, tableId, splitColumn.name(), chunkSize, includedLowerBound);
     }
 
+    @Override
+    protected String buildSplitColumnSampleQuery(
+            JdbcConnection jdbc, TableId tableId, Column splitColumn, int rowsPerSample) {
+        return SqlServerUtils.buildSampleQuery(tableId, splitColumn.name(), rowsPerSample);
+    }
+
     @Override
     protected Long queryApproximateRowCnt(JdbcConnection jdbc, TableId tableId)
             throws SQLException {
@@ -41,6 +41,7 @@ import org.apache.kafka.connect.source.SourceRecord;
 
 import javax.annotation.Nullable;
 
+import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -123,6 +124,22 @@ public class SqlServerUtils {
                 });
     }
 
+    /**
+     * Builds the query of the split column values sampled from about one out of every <code>
+     * rowsPerSample</code> rows, which reads a part of the pages of the table by <code>
+     * TABLESAMPLE</code>.
+     */
+    public static String buildSampleQuery(
+            TableId tableId, String splitColumnName, int rowsPerSample) {
+        String quotedColumn = quote(splitColumnName);
+        return String.format(
+                "SELECT %s FROM %s TABLESAMPLE (%s PERCENT) ORDER BY %s",
+                quotedColumn,
+                quote(tableId),
+                BigDecimal.valueOf(100.0 / rowsPerSample).toPlainString(),
+                quotedColumn);
+    }
+
     public static Column getSplitColumn(Table table, @Nullable String chunkKeyColumn) {
         List<Column> primaryKeys = table.primaryKeyColumns();
         if (primaryKeys.isEmpty()) {
@@ -21,6 +21,7 @@ import org.apache.flink.cdc.connectors.tidb.table.utils.UriHostMapping;
 import org.apache.flink.configuration.ConfigOption;
 import org.apache.flink.configuration.ConfigOptions;
 import org.apache.flink.configuration.Configuration;
+import org.apache.flink.configuration.MemorySize;
 
 import org.tikv.common.ConfigUtils;
 import org.tikv.common.TiConfiguration;
@@ -65,6 +66,26 @@ public class TDBSourceOptions {
                     .noDefaultValue()
                     .withDescription(
                             "TiKV cluster's host-mapping used to configure public IP and intranet IP mapping. When the TiKV cluster is running on the intranet, you can map a set of intranet IPs to public IPs for an outside Flink cluster to access. The format is {Intranet IP1}:{Public IP1};{Intranet IP2}:{Public IP2}, e.g. 192.168.0.2:8.8.8.8;192.168.0.3:9.9.9.9.");
+
+    public static final ConfigOption<MemorySize> SCAN_INCREMENTAL_BUFFER_MEMORY_SIZE =
+            ConfigOptions.key("scan.incremental.buffer.memory-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("64mb"))
+                    .withDescription(
+                            "The maximum size of the change rows kept in memory by each of the prewrite and commit buffers of a source subtask,"
+                                    + " which hold the rows of a transaction until the resolved timestamp passes its commit timestamp."
+                                    + " The following rows are spilled to a local file in the temporary directories of Flink (io.tmp.dirs) until they are emitted."
+                                    + " The limit only covers the serialized rows, the keys of all the buffered rows are kept in memory.");
+
+    public static final ConfigOption<Boolean> SCAN_INCREMENTAL_SNAPSHOT_ENABLED =
+            ConfigOptions.key("scan.incremental.snapshot.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to read the table by the incremental snapshot source, which splits the snapshot by the TiKV regions of the table"
+                                    + " and assigns the splits to all the source subtasks dynamically."
+                                    + " The splits are read at their own snapshot versions and the change log is read from them without backfill.");
+
     public static final ConfigOption<Long> TIKV_GRPC_TIMEOUT =
             ConfigOptions.key(ConfigUtils.TIKV_GRPC_TIMEOUT)
                     .longType()
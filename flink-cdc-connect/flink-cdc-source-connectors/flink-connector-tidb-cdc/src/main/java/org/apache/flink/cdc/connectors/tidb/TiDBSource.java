@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.tidb;
 
 import org.apache.flink.cdc.connectors.tidb.table.StartupOptions;
+import org.apache.flink.configuration.MemorySize;
 import org.apache.flink.streaming.api.functions.source.RichParallelSourceFunction;
 
 import org.tikv.common.TiConfiguration;
@@ -35,6 +36,8 @@ public class TiDBSource {
         private String tableName;
         private StartupOptions startupOptions = StartupOptions.initial();
         private TiConfiguration tiConf;
+        private MemorySize bufferMemorySize =
+                TDBSourceOptions.SCAN_INCREMENTAL_BUFFER_MEMORY_SIZE.defaultValue();
 
         private TiKVSnapshotEventDeserializationSchema<T> snapshotEventDeserializationSchema;
         private TiKVChangeEventDeserializationSchema<T> changeEventDeserializationSchema;
@@ -77,6 +80,15 @@ public class TiDBSource {
             return this;
         }
 
+        /**
+         * The maximum size of the change rows kept in memory by each of the prewrite and commit
+         * buffers, the following rows are spilled to a local file.
+         */
+        public Builder<T> bufferMemorySize(MemorySize bufferMemorySize) {
+            this.bufferMemorySize = bufferMemorySize;
+            return this;
+        }
+
         public RichParallelSourceFunction<T> build() {
 
             return new TiKVRichParallelSourceFunction<>(
@@ -85,7 +97,8 @@ public class TiDBSource {
                     tiConf,
                     startupOptions.startupMode,
                     database,
-                    tableName);
+                    tableName,
+                    bufferMemorySize.getBytes());
         }
     }
 }
@@ -32,6 +32,7 @@ import org.apache.flink.runtime.state.FunctionInitializationContext;
 import org.apache.flink.runtime.state.FunctionSnapshotContext;
 import org.apache.flink.streaming.api.checkpoint.CheckpointedFunction;
 import org.apache.flink.streaming.api.functions.source.RichParallelSourceFunction;
+import org.apache.flink.streaming.api.operators.StreamingRuntimeContext;
 import org.apache.flink.util.Collector;
 import org.apache.flink.util.Preconditions;
 
@@ -52,8 +53,6 @@ import org.tikv.shade.com.google.protobuf.ByteString;
 import org.tikv.txn.KVClient;
 
 import java.util.List;
-import java.util.Objects;
-import java.util.TreeMap;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -79,6 +78,7 @@ public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunctio
     private final StartupMode startupMode;
     private final String database;
     private final String tableName;
+    private final long bufferMemorySize;
 
     /** Task local variables. */
     private transient TiSession session = null;
@@ -87,8 +87,8 @@ public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunctio
     private transient CDCClient cdcClient = null;
     private transient SourceContext<T> sourceContext = null;
     private transient volatile long resolvedTs = -1L;
-    private transient TreeMap<RowKeyWithTs, Cdcpb.Event.Row> prewrites = null;
-    private transient TreeMap<RowKeyWithTs, Cdcpb.Event.Row> commits = null;
+    private transient TiKVRowBuffer<TiKVRowKeyWithTs> prewrites = null;
+    private transient TiKVRowBuffer<TiKVRowKeyWithTs> commits = null;
     private transient BlockingQueue<Cdcpb.Event.Row> committedEvents = null;
     private transient OutputCollector<T> outputCollector;
 
@@ -108,12 +108,31 @@ public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunctio
             StartupMode startupMode,
             String database,
             String tableName) {
+        this(
+                snapshotEventDeserializationSchema,
+                changeEventDeserializationSchema,
+                tiConf,
+                startupMode,
+                database,
+                tableName,
+                TDBSourceOptions.SCAN_INCREMENTAL_BUFFER_MEMORY_SIZE.defaultValue().getBytes());
+    }
+
+    public TiKVRichParallelSourceFunction(
+            TiKVSnapshotEventDeserializationSchema<T> snapshotEventDeserializationSchema,
+            TiKVChangeEventDeserializationSchema<T> changeEventDeserializationSchema,
+            TiConfiguration tiConf,
+            StartupMode startupMode,
+            String database,
+            String tableName,
+            long bufferMemorySize) {
         this.snapshotEventDeserializationSchema = snapshotEventDeserializationSchema;
         this.changeEventDeserializationSchema = changeEventDeserializationSchema;
         this.tiConf = tiConf;
         this.startupMode = startupMode;
         this.database = database;
         this.tableName = tableName;
+        this.bufferMemorySize = bufferMemorySize;
     }
 
     @Override
@@ -132,8 +151,13 @@ public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunctio
                         getRuntimeContext().getNumberOfParallelSubtasks(),
                         getRuntimeContext().getIndexOfThisSubtask());
         cdcClient = new CDCClient(session, keyRange);
-        prewrites = new TreeMap<>();
-        commits = new TreeMap<>();
+        // rows of large transactions or lagging regions are spilled beyond the memory size
+        String[] spillDirectories =
+                ((StreamingRuntimeContext) getRuntimeContext())
+                        .getTaskManagerRuntimeInfo()
+                        .getTmpDirectories();
+        prewrites = new TiKVRowBuffer<>("prewrite buffer", bufferMemorySize, spillDirectories);
+        commits = new TiKVRowBuffer<>("commit buffer", bufferMemorySize, spillDirectories);
         // cdc event will lose if pull cdc event block when region split
         // use queue to separate read and write to ensure pull event unblock.
         // since sink jdbc is slow, 5000W queue size may be safe size.
@@ -153,6 +177,7 @@ public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunctio
         final MetricGroup metricGroup = getRuntimeContext().getMetricGroup();
         sourceMetrics = new TiDBSourceMetrics(metricGroup);
         sourceMetrics.registerMetrics();
+        sourceMetrics.registerBufferMetrics(prewrites, commits);
     }
 
     @Override
@@ -183,17 +208,17 @@ public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunctio
         LOG.debug("binlog record, type: {}, data: {}", row.getType(), row);
         switch (row.getType()) {
             case COMMITTED:
-                prewrites.put(RowKeyWithTs.ofStart(row), row);
-                commits.put(RowKeyWithTs.ofCommit(row), row);
+                prewrites.put(TiKVRowKeyWithTs.ofStart(row), row);
+                commits.put(TiKVRowKeyWithTs.ofCommit(row), row);
                 break;
             case COMMIT:
-                commits.put(RowKeyWithTs.ofCommit(row), row);
+                commits.put(TiKVRowKeyWithTs.ofCommit(row), row);
                 break;
             case PREWRITE:
-                prewrites.put(RowKeyWithTs.ofStart(row), row);
+                prewrites.put(TiKVRowKeyWithTs.ofStart(row), row);
                 break;
             case ROLLBACK:
-                prewrites.remove(RowKeyWithTs.ofStart(row));
+                prewrites.remove(TiKVRowKeyWithTs.ofStart(row));
                 break;
             default:
                 LOG.warn("Unsupported row type:" + row.getType());
@@ -255,7 +280,7 @@ public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunctio
                 handleRow(row);
             }
             resolvedTs = cdcClient.getMaxResolvedTs();
-            if (commits.size() > 0) {
+            if (!commits.isEmpty()) {
                 flushRows(resolvedTs);
             }
         }
@@ -264,10 +289,10 @@ public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunctio
     protected void flushRows(final long timestamp) throws Exception {
         Preconditions.checkState(sourceContext != null, "sourceContext shouldn't be null");
         synchronized (sourceContext) {
-            while (!commits.isEmpty() && commits.firstKey().timestamp <= timestamp) {
-                final Cdcpb.Event.Row commitRow = commits.pollFirstEntry().getValue();
+            while (!commits.isEmpty() && commits.firstKey().getTimestamp() <= timestamp) {
+                final Cdcpb.Event.Row commitRow = commits.pollFirst();
                 final Cdcpb.Event.Row prewriteRow =
-                        prewrites.remove(RowKeyWithTs.ofStart(commitRow));
+                        prewrites.remove(TiKVRowKeyWithTs.ofStart(commitRow));
                 // if pull cdc event block when region split, cdc event will lose.
                 committedEvents.offer(prewriteRow);
             }
@@ -294,6 +319,17 @@ public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunctio
         }
     }
 
+    @Override
+    public void close() throws Exception {
+        if (prewrites != null) {
+            prewrites.close();
+        }
+        if (commits != null) {
+            commits.close();
+        }
+        super.close();
+    }
+
     @Override
     public void snapshotState(final FunctionSnapshotContext context) throws Exception {
         LOG.info(
@@ -338,54 +374,6 @@ public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunctio
     // ---------------------------------------
     // static Utils classes
     // ---------------------------------------
-    private static class RowKeyWithTs implements Comparable<RowKeyWithTs> {
-        private final long timestamp;
-        private final RowKey rowKey;
-
-        private RowKeyWithTs(final long timestamp, final RowKey rowKey) {
-            this.timestamp = timestamp;
-            this.rowKey = rowKey;
-        }
-
-        private RowKeyWithTs(final long timestamp, final byte[] key) {
-            this(timestamp, RowKey.decode(key));
-        }
-
-        @Override
-        public int compareTo(final RowKeyWithTs that) {
-            int res = Long.compare(this.timestamp, that.timestamp);
-            if (res == 0) {
-                res = Long.compare(this.rowKey.getTableId(), that.rowKey.getTableId());
-            }
-            if (res == 0) {
-                res = Long.compare(this.rowKey.getHandle(), that.rowKey.getHandle());
-            }
-            return res;
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(this.timestamp, this.rowKey.getTableId(), this.rowKey.getHandle());
-        }
-
-        @Override
-        public boolean equals(final Object thatObj) {
-            if (thatObj instanceof RowKeyWithTs) {
-                final RowKeyWithTs that = (RowKeyWithTs) thatObj;
-                return this.timestamp == that.timestamp && this.rowKey.equals(that.rowKey);
-            }
-            return false;
-        }
-
-        static RowKeyWithTs ofStart(final Cdcpb.Event.Row row) {
-            return new RowKeyWithTs(row.getStartTs(), row.getKey().toByteArray());
-        }
-
-        static RowKeyWithTs ofCommit(final Cdcpb.Event.Row row) {
-            return new RowKeyWithTs(row.getCommitTs(), row.getKey().toByteArray());
-        }
-    }
-
     private static class OutputCollector<T> implements Collector<T> {
 
         private SourceContext<T> context;
@@ -0,0 +1,352 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.configuration.ConfigurationUtils;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tikv.kvproto.Cdcpb;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.apache.flink.util.Preconditions.checkArgument;
+
+/**
+ * A sorted buffer of the TiKV change rows of uncommitted or unresolved transactions.
+ *
+ * <p>The rows are indexed by a sorted on-heap key, which is needed for both the point lookups of
+ * the prewritten rows and the ordered polling of the committed rows. The serialized rows take up to
+ * {@code memoryLimit} bytes on heap, the following rows are written to a local spill file and only
+ * their file position is kept in memory. Note that the memory limit only covers the serialized
+ * rows: the key and the index entry of every buffered row are always kept on heap, so the heap used
+ * by the index grows with the number of buffered rows, spilled or not.
+ *
+ * <p>The spill file is created in one of the given spill directories, which are usually the
+ * temporary directories of Flink ({@code io.tmp.dirs}). The rows are appended to the file and
+ * removed rows leave holes in it. The file is truncated once all the spilled rows have been
+ * removed, and its live rows are compacted into a new file once the holes take more space than the
+ * live rows, so the file takes at most about twice the size of the spilled rows.
+ *
+ * @param <K> the type of the sorted key of the rows
+ */
+@Internal
+public class TiKVRowBuffer<K extends Comparable<K>> implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TiKVRowBuffer.class);
+
+    private static final String SPILL_FILE_PREFIX = "flink-cdc-tikv-rows-";
+
+    /** The spill file is not compacted before its holes take at least this size. */
+    private static final long MIN_COMPACTION_BYTES = 16 * 1024 * 1024;
+
+    private final String name;
+    private final long memoryLimit;
+    private final String[] spillDirectories;
+    private final long minCompactionBytes;
+    private final TreeMap<K, Slot> index = new TreeMap<>();
+
+    private long bytes;
+    private long inMemoryBytes;
+    private int spilledRows;
+
+    // --------------------------------------------------------------------------------------------
+    // Spilling, created lazily once the memory limit has been reached
+    // --------------------------------------------------------------------------------------------
+    @Nullable private Path spillFile;
+    @Nullable private FileChannel spillChannel;
+    private long spillPosition;
+
+    public TiKVRowBuffer(String name, long memoryLimit, String[] spillDirectories) {
+        this(name, memoryLimit, spillDirectories, MIN_COMPACTION_BYTES);
+    }
+
+    @VisibleForTesting
+    TiKVRowBuffer(
+            String name, long memoryLimit, String[] spillDirectories, long minCompactionBytes) {
+        checkArgument(memoryLimit >= 0, "The memory limit must not be negative.");
+        checkArgument(spillDirectories.length > 0, "The spill directories must not be empty.");
+        this.name = name;
+        this.memoryLimit = memoryLimit;
+        this.spillDirectories = spillDirectories;
+        this.minCompactionBytes = minCompactionBytes;
+    }
+
+    /** Returns the default temporary directories of Flink. */
+    public static String[] getDefaultSpillDirectories() {
+        return ConfigurationUtils.parseTempDirectories(new Configuration());
+    }
+
+    /** Puts the row of the given key, replacing the row held by the key. */
+    public void put(K key, Cdcpb.Event.Row row) {
+        Slot previous = index.put(key, newSlot(row));
+        if (previous != null) {
+            release(previous);
+        }
+    }
+
+    /** Removes the row of the given key, returns null if the key is absent. */
+    @Nullable
+    public Cdcpb.Event.Row remove(K key) {
+        Slot removed = index.remove(key);
+        if (removed == null) {
+            return null;
+        }
+        Cdcpb.Event.Row row = read(removed);
+        release(removed);
+        return row;
+    }
+
+    /** Returns the smallest key of the buffer, or null if the buffer is empty. */
+    @Nullable
+    public K firstKey() {
+        return index.isEmpty() ? null : index.firstKey();
+    }
+
+    /** Removes the row of the smallest key, returns null if the buffer is empty. */
+    @Nullable
+    public Cdcpb.Event.Row pollFirst() {
+        Map.Entry<K, Slot> first = index.pollFirstEntry();
+        if (first == null) {
+            return null;
+        }
+        Cdcpb.Event.Row row = read(first.getValue());
+        release(first.getValue());
+        return row;
+    }
+
+    public boolean isEmpty() {
+        return index.isEmpty();
+    }
+
+    /** Returns the number of buffered rows. */
+    public int size() {
+        return index.size();
+    }
+
+    /** Returns the serialized size of the buffered rows, including the spilled ones. */
+    public long bytes() {
+        return bytes;
+    }
+
+    /** Returns the serialized size of the buffered rows which have been spilled to disk. */
+    public long spilledBytes() {
+        return bytes - inMemoryBytes;
+    }
+
+    /** Returns the size of the spill file, including the holes of the removed rows. */
+    @VisibleForTesting
+    long spillFileBytes() {
+        return spillPosition;
+    }
+
+    @VisibleForTesting
+    @Nullable
+    Path getSpillFile() {
+        return spillFile;
+    }
+
+    @Override
+    public void close() {
+        index.clear();
+        bytes = 0;
+        inMemoryBytes = 0;
+        spilledRows = 0;
+        spillPosition = 0;
+        if (spillChannel != null) {
+            deleteSpillFile(spillFile, spillChannel);
+            spillFile = null;
+            spillChannel = null;
+        }
+    }
+
+    // --------------------------------------------------------------------------------------------
+
+    private Slot newSlot(Cdcpb.Event.Row row) {
+        int length = row.getSerializedSize();
+        bytes += length;
+        if (inMemoryBytes + length <= memoryLimit) {
+            inMemoryBytes += length;
+            return new Slot(row, length);
+        }
+        try {
+            return spill(row, length);
+        } catch (IOException e) {
+            throw new FlinkRuntimeException("Failed to spill a row of the " + name + ".", e);
+        }
+    }
+
+    private void release(Slot slot) {
+        bytes -= slot.length;
+        if (slot.row != null) {
+            inMemoryBytes -= slot.length;
+        } else if (--spilledRows == 0) {
+            // all the spilled rows have been removed, the spill file can be reused from scratch
+            try {
+                spillChannel.truncate(0);
+            } catch (IOException e) {
+                throw new FlinkRuntimeException(
+                        "Failed to truncate the " + name + " spill file.", e);
+            }
+            spillPosition = 0;
+        } else if (spillPosition - spilledBytes() > Math.max(spilledBytes(), minCompactionBytes)) {
+            // the holes of the removed rows take more space than the live rows
+            try {
+                compact();
+            } catch (IOException e) {
+                throw new FlinkRuntimeException(
+                        "Failed to compact the " + name + " spill file.", e);
+            }
+        }
+    }
+
+    private Slot spill(Cdcpb.Event.Row row, int length) throws IOException {
+        if (spillChannel == null) {
+            spillFile = createSpillFile();
+            spillChannel = openSpillFile(spillFile);
+            LOG.info(
+                    "The {} holds more than {} bytes, spilling rows to {}.",
+                    name,
+                    memoryLimit,
+                    spillFile);
+        }
+        long position = spillPosition;
+        spillPosition = write(spillChannel, ByteBuffer.wrap(row.toByteArray()), spillPosition);
+        spilledRows++;
+        return new Slot(position, length);
+    }
+
+    /**
+     * Copies the live spilled rows into a new spill file and deletes the old one. The copying is
+     * paid for by the removed rows, which take at least as many bytes as the copied ones.
+     */
+    private void compact() throws IOException {
+        Path compactedFile = createSpillFile();
+        FileChannel compactedChannel = openSpillFile(compactedFile);
+        long compactedPosition = 0;
+        try {
+            for (Map.Entry<K, Slot> entry : index.entrySet()) {
+                Slot slot = entry.getValue();
+                if (slot.row == null) {
+                    ByteBuffer buffer = readBytes(slot);
+                    buffer.flip();
+                    entry.setValue(new Slot(compactedPosition, slot.length));
+                    compactedPosition = write(compactedChannel, buffer, compactedPosition);
+                }
+            }
+        } catch (IOException e) {
+            deleteSpillFile(compactedFile, compactedChannel);
+            throw e;
+        }
+        LOG.debug(
+                "Compacted the {} spill file from {} to {} bytes.",
+                name,
+                spillPosition,
+                compactedPosition);
+        deleteSpillFile(spillFile, spillChannel);
+        spillFile = compactedFile;
+        spillChannel = compactedChannel;
+        spillPosition = compactedPosition;
+    }
+
+    private Cdcpb.Event.Row read(Slot slot) {
+        if (slot.row != null) {
+            return slot.row;
+        }
+        try {
+            return Cdcpb.Event.Row.parseFrom(readBytes(slot).array());
+        } catch (IOException e) {
+            throw new FlinkRuntimeException("Failed to read a spilled row of the " + name + ".", e);
+        }
+    }
+
+    private ByteBuffer readBytes(Slot slot) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(slot.length);
+        while (buffer.hasRemaining()) {
+            if (spillChannel.read(buffer, slot.position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of the spill file " + spillFile);
+            }
+        }
+        return buffer;
+    }
+
+    private Path createSpillFile() throws IOException {
+        Path spillDirectory =
+                Paths.get(
+                        spillDirectories[
+                                ThreadLocalRandom.current().nextInt(spillDirectories.length)]);
+        return Files.createTempFile(spillDirectory, SPILL_FILE_PREFIX, ".spill");
+    }
+
+    private static FileChannel openSpillFile(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static long write(FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        return position;
+    }
+
+    private void deleteSpillFile(Path file, FileChannel channel) {
+        try {
+            channel.close();
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Failed to delete the {} spill file {}.", name, file, e);
+        }
+    }
+
+    /** A row held in memory, or the position of a row in the spill file. */
+    private static final class Slot {
+
+        @Nullable private final Cdcpb.Event.Row row;
+        private final long position;
+        private final int length;
+
+        private Slot(Cdcpb.Event.Row row, int length) {
+            this.row = row;
+            this.position = -1;
+            this.length = length;
+        }
+
+        private Slot(long position, int length) {
+            this.row = null;
+            this.position = position;
+            this.length = length;
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.tidb.metrics;
 
 import org.apache.flink.cdc.connectors.tidb.TiKVRichParallelSourceFunction;
+import org.apache.flink.cdc.connectors.tidb.TiKVRowBuffer;
 import org.apache.flink.metrics.Gauge;
 import org.apache.flink.metrics.MetricGroup;
 
@@ -28,6 +29,15 @@ import static org.apache.flink.runtime.metrics.MetricNames.SOURCE_IDLE_TIME;
 /** A collection class for handling metrics in {@link TiKVRichParallelSourceFunction}. */
 public class TiDBSourceMetrics {
 
+    /** The number of change rows buffered until their transactions are committed and resolved. */
+    public static final String BUFFERED_ROWS = "bufferedRows";
+
+    /** The serialized size of the buffered change rows, including the spilled ones. */
+    public static final String BUFFERED_BYTES = "bufferedBytes";
+
+    /** The serialized size of the buffered change rows which have been spilled to disk. */
+    public static final String SPILLED_BYTES = "spilledBytes";
+
     private final MetricGroup metricGroup;
 
     /**
@@ -60,6 +70,16 @@ public class TiDBSourceMetrics {
         metricGroup.gauge(SOURCE_IDLE_TIME, (Gauge<Long>) this::getIdleTime);
     }
 
+    /** Registers the metrics of the prewrite and commit buffers of the change rows. */
+    public void registerBufferMetrics(TiKVRowBuffer<?> prewrites, TiKVRowBuffer<?> commits) {
+        metricGroup.gauge(
+                BUFFERED_ROWS, (Gauge<Long>) () -> (long) prewrites.size() + commits.size());
+        metricGroup.gauge(BUFFERED_BYTES, (Gauge<Long>) () -> prewrites.bytes() + commits.bytes());
+        metricGroup.gauge(
+                SPILLED_BYTES,
+                (Gauge<Long>) () -> prewrites.spilledBytes() + commits.spilledBytes());
+    }
+
     public long getFetchDelay() {
         return fetchDelay;
     }
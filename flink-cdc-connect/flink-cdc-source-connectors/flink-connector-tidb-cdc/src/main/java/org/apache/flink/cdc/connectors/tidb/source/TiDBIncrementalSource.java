@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source;
+
+import org.apache.flink.api.connector.source.SourceReaderContext;
+import org.apache.flink.cdc.common.annotation.Experimental;
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+import org.apache.flink.cdc.connectors.base.config.SourceConfig;
+import org.apache.flink.cdc.connectors.base.source.IncrementalSource;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceRecords;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitState;
+import org.apache.flink.cdc.connectors.base.source.metrics.SourceReaderMetrics;
+import org.apache.flink.cdc.connectors.base.source.reader.IncrementalSourceReader;
+import org.apache.flink.cdc.connectors.tidb.source.config.TiDBSourceConfig;
+import org.apache.flink.cdc.connectors.tidb.source.config.TiDBSourceConfigFactory;
+import org.apache.flink.cdc.connectors.tidb.source.dialect.TiDBDialect;
+import org.apache.flink.cdc.connectors.tidb.source.offset.TiKVOffsetFactory;
+import org.apache.flink.cdc.connectors.tidb.source.reader.TiDBRecordEmitter;
+import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
+import org.apache.flink.configuration.ConfigurationUtils;
+import org.apache.flink.connector.base.source.reader.RecordEmitter;
+
+/**
+ * The TiDB CDC Source based on FLIP-27 which supports parallel reading snapshot of table and then
+ * continue to capture data change from the TiKV change log.
+ *
+ * <pre>
+ *     1. The snapshot of a table is split by its TiKV regions, which are assigned to the readers
+ *        dynamically.
+ *     2. The source supports checkpoint in split level when read snapshot data.
+ *     3. Every split is read at a consistent snapshot version, so the change log is read from the
+ *        snapshot versions without any backfill.
+ * </pre>
+ *
+ * <pre>{@code
+ * TiDBIncrementalSource
+ *     .<RowData>builder()
+ *     .database("mydb")
+ *     .tableName("products")
+ *     .tiConf(TDBSourceOptions.getTiConfiguration("localhost:2399", null, new HashMap<>()))
+ *     .snapshotEventDeserializer(snapshotEventDeserializer)
+ *     .changeEventDeserializer(changeEventDeserializer)
+ *     .build();
+ * }</pre>
+ *
+ * <p>See {@link TiDBSourceBuilder} for more details.
+ *
+ * @param <T> the output type of the source.
+ */
+@Internal
+@Experimental
+public class TiDBIncrementalSource<T> extends IncrementalSource<T, TiDBSourceConfig> {
+
+    private static final long serialVersionUID = 1L;
+
+    TiDBIncrementalSource(
+            TiDBSourceConfigFactory configFactory,
+            DebeziumDeserializationSchema<T> deserializationSchema) {
+        super(configFactory, deserializationSchema, new TiKVOffsetFactory(), new TiDBDialect());
+    }
+
+    /**
+     * Get a TiDBSourceBuilder to build a {@link TiDBIncrementalSource}.
+     *
+     * @return a TiDB parallel source builder.
+     */
+    @PublicEvolving
+    public static <T> TiDBSourceBuilder<T> builder() {
+        return new TiDBSourceBuilder<>();
+    }
+
+    @Override
+    public IncrementalSourceReader<T, TiDBSourceConfig> createReader(
+            SourceReaderContext readerContext) throws Exception {
+        // the change log buffers of the stream split spill to the temporary directories of Flink
+        ((TiDBDialect) dataSourceDialect)
+                .setSpillDirectories(
+                        ConfigurationUtils.parseTempDirectories(readerContext.getConfiguration()));
+        return super.createReader(readerContext);
+    }
+
+    @Override
+    protected RecordEmitter<SourceRecords, T, SourceSplitState> createRecordEmitter(
+            SourceConfig sourceConfig, SourceReaderMetrics sourceReaderMetrics) {
+        return new TiDBRecordEmitter<>(deserializationSchema, sourceReaderMetrics, offsetFactory);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source;
+
+import org.apache.flink.cdc.common.annotation.Experimental;
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+import org.apache.flink.cdc.connectors.base.options.StartupOptions;
+import org.apache.flink.cdc.connectors.tidb.TiKVChangeEventDeserializationSchema;
+import org.apache.flink.cdc.connectors.tidb.TiKVSnapshotEventDeserializationSchema;
+import org.apache.flink.cdc.connectors.tidb.source.config.TiDBSourceConfigFactory;
+import org.apache.flink.configuration.MemorySize;
+
+import org.tikv.common.TiConfiguration;
+
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/**
+ * The builder class for {@link TiDBIncrementalSource} to make it easier for the users to construct
+ * a {@link TiDBIncrementalSource}.
+ *
+ * <pre>{@code
+ * TiDBIncrementalSource
+ *     .<RowData>builder()
+ *     .database("mydb")
+ *     .tableName("products")
+ *     .tiConf(TDBSourceOptions.getTiConfiguration("localhost:2399", null, new HashMap<>()))
+ *     .snapshotEventDeserializer(snapshotEventDeserializer)
+ *     .changeEventDeserializer(changeEventDeserializer)
+ *     .build();
+ * }</pre>
+ *
+ * <p>Check the Java docs of each individual method to learn more about the settings to build a
+ * {@link TiDBIncrementalSource}.
+ */
+@Experimental
+@PublicEvolving
+public class TiDBSourceBuilder<T> {
+
+    private final TiDBSourceConfigFactory configFactory = new TiDBSourceConfigFactory();
+    private TiKVSnapshotEventDeserializationSchema<T> snapshotEventDeserializer;
+    private TiKVChangeEventDeserializationSchema<T> changeEventDeserializer;
+
+    /** Database name to be monitored. */
+    public TiDBSourceBuilder<T> database(String database) {
+        this.configFactory.database(database);
+        return this;
+    }
+
+    /** TableName name to be monitored. */
+    public TiDBSourceBuilder<T> tableName(String tableName) {
+        this.configFactory.tableName(tableName);
+        return this;
+    }
+
+    /** TiDB config. */
+    public TiDBSourceBuilder<T> tiConf(TiConfiguration tiConf) {
+        this.configFactory.tiConf(tiConf);
+        return this;
+    }
+
+    /** Specifies the startup options. */
+    public TiDBSourceBuilder<T> startupOptions(StartupOptions startupOptions) {
+        this.configFactory.startupOptions(startupOptions);
+        return this;
+    }
+
+    /**
+     * The group size of split meta, if the meta size exceeds the group size, the meta will be
+     * divided into multiple groups.
+     */
+    public TiDBSourceBuilder<T> splitMetaGroupSize(int splitMetaGroupSize) {
+        this.configFactory.splitMetaGroupSize(splitMetaGroupSize);
+        return this;
+    }
+
+    /**
+     * Whether to close idle readers at the end of the snapshot phase. This feature depends on
+     * FLIP-147: Support Checkpoints After Tasks Finished. The flink version is required to be
+     * greater than or equal to 1.14 when enabling this feature.
+     */
+    public TiDBSourceBuilder<T> closeIdleReaders(boolean closeIdleReaders) {
+        this.configFactory.closeIdleReaders(closeIdleReaders);
+        return this;
+    }
+
+    /**
+     * The maximum number of records of a snapshot split kept in memory, the following records are
+     * spilled to disk.
+     */
+    public TiDBSourceBuilder<T> snapshotChunkSpillThreshold(int snapshotChunkSpillThreshold) {
+        this.configFactory.snapshotChunkSpillThreshold(snapshotChunkSpillThreshold);
+        return this;
+    }
+
+    /** The memory size of each of the prewrite and commit buffers of the change stream. */
+    public TiDBSourceBuilder<T> bufferMemorySize(MemorySize bufferMemorySize) {
+        this.configFactory.bufferMemorySize(bufferMemorySize.getBytes());
+        return this;
+    }
+
+    /** The deserializer used to convert from consumed snapshot event from TiKV. */
+    public TiDBSourceBuilder<T> snapshotEventDeserializer(
+            TiKVSnapshotEventDeserializationSchema<T> snapshotEventDeserializer) {
+        this.snapshotEventDeserializer = snapshotEventDeserializer;
+        return this;
+    }
+
+    /** The deserializer used to convert from consumed change event from TiKV. */
+    public TiDBSourceBuilder<T> changeEventDeserializer(
+            TiKVChangeEventDeserializationSchema<T> changeEventDeserializer) {
+        this.changeEventDeserializer = changeEventDeserializer;
+        return this;
+    }
+
+    /**
+     * Build the {@link TiDBIncrementalSource}.
+     *
+     * @return a TiDBIncrementalSource with the settings made for this builder.
+     */
+    public TiDBIncrementalSource<T> build() {
+        return new TiDBIncrementalSource<>(
+                configFactory,
+                new TiKVSourceRecordDeserializationSchema<>(
+                        checkNotNull(snapshotEventDeserializer),
+                        checkNotNull(changeEventDeserializer)));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.connectors.tidb.TiKVChangeEventDeserializationSchema;
+import org.apache.flink.cdc.connectors.tidb.TiKVSnapshotEventDeserializationSchema;
+import org.apache.flink.cdc.connectors.tidb.source.utils.TiKVRecordUtils;
+import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
+import org.apache.flink.util.Collector;
+
+import org.apache.kafka.connect.source.SourceRecord;
+
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/**
+ * A {@link DebeziumDeserializationSchema} which decodes the TiKV key-value pairs and change rows
+ * carried by the records of the {@link TiDBIncrementalSource}, and hands them over to the TiKV
+ * deserialization schemas of the snapshot and the change events.
+ */
+@Internal
+public class TiKVSourceRecordDeserializationSchema<T> implements DebeziumDeserializationSchema<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final TiKVSnapshotEventDeserializationSchema<T> snapshotEventDeserializationSchema;
+    private final TiKVChangeEventDeserializationSchema<T> changeEventDeserializationSchema;
+
+    public TiKVSourceRecordDeserializationSchema(
+            TiKVSnapshotEventDeserializationSchema<T> snapshotEventDeserializationSchema,
+            TiKVChangeEventDeserializationSchema<T> changeEventDeserializationSchema) {
+        this.snapshotEventDeserializationSchema = checkNotNull(snapshotEventDeserializationSchema);
+        this.changeEventDeserializationSchema = checkNotNull(changeEventDeserializationSchema);
+    }
+
+    @Override
+    public void deserialize(SourceRecord record, Collector<T> out) throws Exception {
+        if (TiKVRecordUtils.isSnapshotRecord(record)) {
+            snapshotEventDeserializationSchema.deserialize(TiKVRecordUtils.getKvPair(record), out);
+        } else {
+            changeEventDeserializationSchema.deserialize(TiKVRecordUtils.getRow(record), out);
+        }
+    }
+
+    @Override
+    public TypeInformation<T> getProducedType() {
+        return snapshotEventDeserializationSchema.getProducedType();
+    }
+}
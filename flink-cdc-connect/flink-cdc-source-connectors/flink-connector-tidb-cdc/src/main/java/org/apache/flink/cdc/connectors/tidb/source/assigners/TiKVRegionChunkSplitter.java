@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source.assigners;
+
+import org.apache.flink.cdc.common.annotation.Experimental;
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
+import org.apache.flink.cdc.connectors.base.source.assigner.splitter.ChunkSplitter;
+import org.apache.flink.cdc.connectors.base.source.assigner.state.ChunkSplitterState;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
+import org.apache.flink.cdc.connectors.tidb.source.config.TiDBSourceConfig;
+import org.apache.flink.cdc.connectors.tidb.source.dialect.TiDBDialect;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.logical.RowType;
+
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tikv.common.TiSession;
+import org.tikv.common.key.Key;
+import org.tikv.common.util.RangeSplitter;
+import org.tikv.kvproto.Coprocessor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.flink.cdc.connectors.tidb.source.utils.TiKVRecordUtils.ROW_KEY_FIELD;
+
+/**
+ * The splitter used to split a TiDB table into a set of chunks, which follow the TiKV regions of
+ * the table. Every region is read by a snapshot split, so that the splits are assigned dynamically
+ * to the readers and a region is scanned by a single TiKV store.
+ */
+@Experimental
+public class TiKVRegionChunkSplitter implements ChunkSplitter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TiKVRegionChunkSplitter.class);
+
+    private static final RowType SPLIT_KEY_TYPE =
+            (RowType)
+                    DataTypes.ROW(DataTypes.FIELD(ROW_KEY_FIELD, DataTypes.BYTES()))
+                            .getLogicalType();
+
+    private final TiDBSourceConfig sourceConfig;
+    private TiSession session;
+
+    public TiKVRegionChunkSplitter(TiDBSourceConfig sourceConfig) {
+        this.sourceConfig = sourceConfig;
+    }
+
+    @Override
+    public void open() {
+        if (session == null) {
+            session = TiSession.create(sourceConfig.getTiConf());
+        }
+    }
+
+    @Override
+    public Collection<SnapshotSplit> generateSplits(TableId tableId) {
+        open();
+        Coprocessor.KeyRange tableKeyRange = TiDBDialect.tableKeyRange(session, sourceConfig);
+        List<Coprocessor.KeyRange> regionRanges = new ArrayList<>();
+        for (RangeSplitter.RegionTask task :
+                RangeSplitter.newSplitter(session.getRegionManager())
+                        .splitRangeByRegion(Collections.singletonList(tableKeyRange))) {
+            regionRanges.addAll(task.getRanges());
+        }
+        List<SnapshotSplit> splits = createSplits(tableId, regionRanges);
+        LOG.info("Split table {} into {} chunks by its TiKV regions.", tableId, splits.size());
+        return splits;
+    }
+
+    /**
+     * Creates a snapshot split for every key range. The splits are ordered by the key ranges, as
+     * the ids of the finished splits are used to look up the split of a change record.
+     */
+    @VisibleForTesting
+    public static List<SnapshotSplit> createSplits(
+            TableId tableId, List<Coprocessor.KeyRange> keyRanges) {
+        List<Coprocessor.KeyRange> sortedRanges = new ArrayList<>(keyRanges);
+        sortedRanges.sort(Comparator.comparing(range -> Key.toRawKey(range.getStart())));
+
+        Map<TableId, TableChange> schema =
+                Collections.singletonMap(tableId, TiDBDialect.tableSchema(tableId));
+        List<SnapshotSplit> splits = new ArrayList<>(sortedRanges.size());
+        for (int i = 0; i < sortedRanges.size(); i++) {
+            Coprocessor.KeyRange range = sortedRanges.get(i);
+            splits.add(
+                    new SnapshotSplit(
+                            tableId,
+                            i,
+                            SPLIT_KEY_TYPE,
+                            new Object[] {range.getStart().toByteArray()},
+                            new Object[] {range.getEnd().toByteArray()},
+                            null,
+                            schema));
+        }
+        return splits;
+    }
+
+    @Override
+    public boolean hasNextChunk() {
+        // the regions of a table are split at once.
+        return false;
+    }
+
+    @Override
+    public ChunkSplitterState snapshotState(long checkpointId) {
+        return ChunkSplitterState.NO_SPLITTING_TABLE_STATE;
+    }
+
+    @Override
+    public TableId getCurrentSplittingTableId() {
+        return null;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (session != null) {
+            session.close();
+            session = null;
+        }
+    }
+}
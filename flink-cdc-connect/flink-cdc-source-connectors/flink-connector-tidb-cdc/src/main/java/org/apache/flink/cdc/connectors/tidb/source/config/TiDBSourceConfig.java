@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source.config;
+
+import org.apache.flink.cdc.connectors.base.config.SourceConfig;
+import org.apache.flink.cdc.connectors.base.options.StartupOptions;
+import org.apache.flink.cdc.connectors.tidb.source.TiDBIncrementalSource;
+
+import org.tikv.common.TiConfiguration;
+
+import java.util.Objects;
+
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/** A TiDB Source configuration which is used by {@link TiDBIncrementalSource}. */
+public class TiDBSourceConfig implements SourceConfig {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String database;
+    private final String tableName;
+    private final TiConfiguration tiConf;
+    private final StartupOptions startupOptions;
+    private final int splitMetaGroupSize;
+    private final boolean closeIdleReaders;
+    private final int snapshotChunkSpillThreshold;
+    private final long bufferMemorySize;
+
+    TiDBSourceConfig(
+            String database,
+            String tableName,
+            TiConfiguration tiConf,
+            StartupOptions startupOptions,
+            int splitMetaGroupSize,
+            boolean closeIdleReaders,
+            int snapshotChunkSpillThreshold,
+            long bufferMemorySize) {
+        this.database = checkNotNull(database);
+        this.tableName = checkNotNull(tableName);
+        this.tiConf = checkNotNull(tiConf);
+        this.startupOptions = checkNotNull(startupOptions);
+        this.splitMetaGroupSize = splitMetaGroupSize;
+        this.closeIdleReaders = closeIdleReaders;
+        this.snapshotChunkSpillThreshold = snapshotChunkSpillThreshold;
+        this.bufferMemorySize = bufferMemorySize;
+    }
+
+    public String getDatabase() {
+        return database;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public TiConfiguration getTiConf() {
+        return tiConf;
+    }
+
+    /** The memory in bytes of the TiKV transaction buffers of the change stream. */
+    public long getBufferMemorySize() {
+        return bufferMemorySize;
+    }
+
+    @Override
+    public StartupOptions getStartupOptions() {
+        return startupOptions;
+    }
+
+    /** The snapshot splits follow the TiKV regions, so they are not sized by the source. */
+    @Override
+    public int getSplitSize() {
+        return 1;
+    }
+
+    @Override
+    public int getSplitMetaGroupSize() {
+        return splitMetaGroupSize;
+    }
+
+    @Override
+    public boolean isIncludeSchemaChanges() {
+        return false;
+    }
+
+    @Override
+    public boolean isCloseIdleReaders() {
+        return closeIdleReaders;
+    }
+
+    /**
+     * A snapshot split is read at the version of its low watermark, which is a consistent MVCC
+     * snapshot of the split. The high watermark is therefore equal to the low watermark and no
+     * change stream needs to be backfilled.
+     */
+    @Override
+    public boolean isSkipSnapshotBackfill() {
+        return true;
+    }
+
+    @Override
+    public boolean isScanNewlyAddedTableEnabled() {
+        return false;
+    }
+
+    @Override
+    public boolean isAssignUnboundedChunkFirst() {
+        return false;
+    }
+
+    @Override
+    public int getSnapshotChunkSpillThreshold() {
+        return snapshotChunkSpillThreshold;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TiDBSourceConfig that = (TiDBSourceConfig) o;
+        return splitMetaGroupSize == that.splitMetaGroupSize
+                && closeIdleReaders == that.closeIdleReaders
+                && snapshotChunkSpillThreshold == that.snapshotChunkSpillThreshold
+                && bufferMemorySize == that.bufferMemorySize
+                && Objects.equals(database, that.database)
+                && Objects.equals(tableName, that.tableName)
+                && Objects.equals(startupOptions, that.startupOptions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                database,
+                tableName,
+                startupOptions,
+                splitMetaGroupSize,
+                closeIdleReaders,
+                snapshotChunkSpillThreshold,
+                bufferMemorySize);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source.config;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.connectors.base.config.SourceConfig.Factory;
+import org.apache.flink.cdc.connectors.base.options.StartupOptions;
+import org.apache.flink.cdc.connectors.tidb.TDBSourceOptions;
+
+import org.tikv.common.TiConfiguration;
+
+import static org.apache.flink.cdc.connectors.base.options.SourceOptions.CHUNK_META_GROUP_SIZE;
+import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD;
+import static org.apache.flink.cdc.connectors.base.utils.EnvironmentUtils.checkSupportCheckpointsAfterTasksFinished;
+import static org.apache.flink.util.Preconditions.checkArgument;
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/** A factory to construct {@link TiDBSourceConfig}. */
+@Internal
+public class TiDBSourceConfigFactory implements Factory<TiDBSourceConfig> {
+
+    private static final long serialVersionUID = 1L;
+
+    private String database;
+    private String tableName;
+    private TiConfiguration tiConf;
+    private StartupOptions startupOptions = StartupOptions.initial();
+    private int splitMetaGroupSize = CHUNK_META_GROUP_SIZE.defaultValue();
+    private boolean closeIdleReaders = false;
+    private int snapshotChunkSpillThreshold =
+            SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD.defaultValue();
+    private long bufferMemorySize =
+            TDBSourceOptions.SCAN_INCREMENTAL_BUFFER_MEMORY_SIZE.defaultValue().getBytes();
+
+    /** The database of the TiDB table to read. */
+    public TiDBSourceConfigFactory database(String database) {
+        this.database = database;
+        return this;
+    }
+
+    /** The name of the TiDB table to read. */
+    public TiDBSourceConfigFactory tableName(String tableName) {
+        this.tableName = tableName;
+        return this;
+    }
+
+    /** The TiKV client configuration, which contains the PD addresses. */
+    public TiDBSourceConfigFactory tiConf(TiConfiguration tiConf) {
+        this.tiConf = tiConf;
+        return this;
+    }
+
+    /**
+     * scan.startup.mode
+     *
+     * <p>Optional startup mode for TiDB CDC consumer, valid enumerations are initial, snapshot,
+     * latest-offset, timestamp. Default: initial
+     */
+    public TiDBSourceConfigFactory startupOptions(StartupOptions startupOptions) {
+        checkNotNull(startupOptions);
+        switch (startupOptions.startupMode) {
+            case INITIAL:
+            case SNAPSHOT:
+            case LATEST_OFFSET:
+            case TIMESTAMP:
+                this.startupOptions = startupOptions;
+                return this;
+            default:
+                throw new IllegalArgumentException(
+                        "Unsupported startup mode " + startupOptions.startupMode);
+        }
+    }
+
+    /**
+     * The group size of split meta, if the meta size exceeds the group size, the meta will be
+     * divided into multiple groups.
+     */
+    public TiDBSourceConfigFactory splitMetaGroupSize(int splitMetaGroupSize) {
+        checkArgument(splitMetaGroupSize > 0);
+        this.splitMetaGroupSize = splitMetaGroupSize;
+        return this;
+    }
+
+    /**
+     * Whether to close idle readers at the end of the snapshot phase. This feature depends on
+     * FLIP-147: Support Checkpoints After Tasks Finished. The flink version is required to be
+     * greater than or equal to 1.14, and the configuration <code>
+     * 'execution.checkpointing.checkpoints-after-tasks-finish.enabled'</code> needs to be set to
+     * true.
+     */
+    public TiDBSourceConfigFactory closeIdleReaders(boolean closeIdleReaders) {
+        this.closeIdleReaders = closeIdleReaders;
+        return this;
+    }
+
+    /**
+     * The maximum number of records of a snapshot split kept in memory, the following records are
+     * spilled to disk. Defaults to keeping all the records in memory.
+     */
+    public TiDBSourceConfigFactory snapshotChunkSpillThreshold(int snapshotChunkSpillThreshold) {
+        this.snapshotChunkSpillThreshold = snapshotChunkSpillThreshold;
+        return this;
+    }
+
+    /**
+     * scan.incremental.buffer.memory-size
+     *
+     * <p>The memory in bytes of the prewrite and commit buffers of the change stream, the following
+     * rows are spilled to disk. Default: 64mb.
+     */
+    public TiDBSourceConfigFactory bufferMemorySize(long bufferMemorySize) {
+        checkArgument(bufferMemorySize >= 0);
+        this.bufferMemorySize = bufferMemorySize;
+        return this;
+    }
+
+    /** Creates a new {@link TiDBSourceConfig} for the given subtask {@code subtaskId}. */
+    @Override
+    public TiDBSourceConfig create(int subtaskId) {
+        checkSupportCheckpointsAfterTasksFinished(closeIdleReaders);
+        return new TiDBSourceConfig(
+                database,
+                tableName,
+                tiConf,
+                startupOptions,
+                splitMetaGroupSize,
+                closeIdleReaders,
+                snapshotChunkSpillThreshold,
+                bufferMemorySize);
+    }
+}
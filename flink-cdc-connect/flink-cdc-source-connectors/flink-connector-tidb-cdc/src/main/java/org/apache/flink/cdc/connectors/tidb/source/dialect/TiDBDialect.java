@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source.dialect;
+
+import org.apache.flink.cdc.common.annotation.Experimental;
+import org.apache.flink.cdc.connectors.base.dialect.DataSourceDialect;
+import org.apache.flink.cdc.connectors.base.source.assigner.splitter.ChunkSplitter;
+import org.apache.flink.cdc.connectors.base.source.assigner.state.ChunkSplitterState;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import org.apache.flink.cdc.connectors.base.source.reader.external.FetchTask;
+import org.apache.flink.cdc.connectors.tidb.TiKVRowBuffer;
+import org.apache.flink.cdc.connectors.tidb.source.assigners.TiKVRegionChunkSplitter;
+import org.apache.flink.cdc.connectors.tidb.source.config.TiDBSourceConfig;
+import org.apache.flink.cdc.connectors.tidb.source.offset.TiKVOffset;
+import org.apache.flink.cdc.connectors.tidb.source.reader.fetch.TiDBFetchTaskContext;
+import org.apache.flink.cdc.connectors.tidb.source.reader.fetch.TiDBScanFetchTask;
+import org.apache.flink.cdc.connectors.tidb.source.reader.fetch.TiDBStreamFetchTask;
+import org.apache.flink.cdc.connectors.tidb.table.utils.TableKeyRangeUtils;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges;
+import io.debezium.relational.history.TableChanges.TableChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tikv.common.TiSession;
+import org.tikv.common.meta.TiTableInfo;
+import org.tikv.kvproto.Coprocessor;
+
+import javax.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.flink.cdc.connectors.tidb.source.utils.TiKVRecordUtils.ROW_KEY_FIELD;
+
+/** The {@link DataSourceDialect} implementation for TiDB datasource. */
+@Experimental
+public class TiDBDialect implements DataSourceDialect<TiDBSourceConfig> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOG = LoggerFactory.getLogger(TiDBDialect.class);
+
+    // the temporary directories of the task manager, set by the source reader
+    @Nullable private transient String[] spillDirectories;
+
+    @Override
+    public String getName() {
+        return "TiDB";
+    }
+
+    @Override
+    public List<TableId> discoverDataCollections(TiDBSourceConfig sourceConfig) {
+        return Collections.singletonList(tableId(sourceConfig));
+    }
+
+    @Override
+    public Map<TableId, TableChange> discoverDataCollectionSchemas(TiDBSourceConfig sourceConfig) {
+        TableId tableId = tableId(sourceConfig);
+        return Collections.singletonMap(tableId, tableSchema(tableId));
+    }
+
+    public static TableId tableId(TiDBSourceConfig sourceConfig) {
+        return new TableId(sourceConfig.getDatabase(), null, sourceConfig.getTableName());
+    }
+
+    /**
+     * The rows are decoded by the TiKV deserializers, the schema of a table only describes the row
+     * key which the snapshot splits are keyed by.
+     */
+    public static TableChange tableSchema(TableId tableId) {
+        Table table =
+                Table.editor()
+                        .tableId(tableId)
+                        .addColumn(Column.editor().name(ROW_KEY_FIELD).optional(false).create())
+                        .setPrimaryKeyNames(ROW_KEY_FIELD)
+                        .create();
+        return new TableChange(TableChanges.TableChangeType.CREATE, table);
+    }
+
+    /** Returns the key range of the records of the captured table. */
+    public static Coprocessor.KeyRange tableKeyRange(
+            TiSession session, TiDBSourceConfig sourceConfig) {
+        TiTableInfo tableInfo =
+                session.getCatalog()
+                        .getTable(sourceConfig.getDatabase(), sourceConfig.getTableName());
+        if (tableInfo == null) {
+            throw new FlinkRuntimeException(
+                    String.format(
+                            "Table %s.%s does not exist.",
+                            sourceConfig.getDatabase(), sourceConfig.getTableName()));
+        }
+        return TableKeyRangeUtils.getTableKeyRange(tableInfo.getId());
+    }
+
+    /** Returns the current timestamp of the TiDB cluster, which is a consistent snapshot. */
+    @Override
+    public TiKVOffset displayCurrentOffset(TiDBSourceConfig sourceConfig) {
+        try (TiSession session = TiSession.create(sourceConfig.getTiConf())) {
+            TiKVOffset offset = new TiKVOffset(session.getTimestamp().getVersion());
+            LOG.debug("Current TiKV offset : {}", offset);
+            return offset;
+        } catch (Exception e) {
+            throw new FlinkRuntimeException("Failed to get the current timestamp of TiDB", e);
+        }
+    }
+
+    @Override
+    public boolean isDataCollectionIdCaseSensitive(TiDBSourceConfig sourceConfig) {
+        // The table key range is looked up by the configured names as they are.
+        return true;
+    }
+
+    @Deprecated
+    @Override
+    public ChunkSplitter createChunkSplitter(TiDBSourceConfig sourceConfig) {
+        return new TiKVRegionChunkSplitter(sourceConfig);
+    }
+
+    @Override
+    public ChunkSplitter createChunkSplitter(
+            TiDBSourceConfig sourceConfig, ChunkSplitterState chunkSplitterState) {
+        return createChunkSplitter(sourceConfig);
+    }
+
+    @Override
+    public FetchTask<SourceSplitBase> createFetchTask(SourceSplitBase sourceSplitBase) {
+        if (sourceSplitBase.isSnapshotSplit()) {
+            return new TiDBScanFetchTask(sourceSplitBase.asSnapshotSplit());
+        } else {
+            return new TiDBStreamFetchTask(sourceSplitBase.asStreamSplit());
+        }
+    }
+
+    @Override
+    public TiDBFetchTaskContext createFetchTaskContext(TiDBSourceConfig sourceConfig) {
+        return new TiDBFetchTaskContext(
+                this,
+                sourceConfig,
+                spillDirectories == null
+                        ? TiKVRowBuffer.getDefaultSpillDirectories()
+                        : spillDirectories);
+    }
+
+    /** Sets the directories in which the fetch tasks spill the rows they can not keep in memory. */
+    public void setSpillDirectories(String[] spillDirectories) {
+        this.spillDirectories = spillDirectories;
+    }
+
+    @Override
+    public boolean isIncludeDataCollection(TiDBSourceConfig sourceConfig, TableId tableId) {
+        return tableId(sourceConfig).equals(tableId);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source.offset;
+
+import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A structure describes an offset in the TiKV change log, which is a TSO timestamp of TiKV.
+ *
+ * <p>The changes of all the transactions committed at or before the timestamp have been read, the
+ * change log is resumed from the transactions committed after the timestamp.
+ */
+public class TiKVOffset extends Offset {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String TIMESTAMP_FIELD = "ts";
+
+    public static final TiKVOffset NO_STOPPING_OFFSET = new TiKVOffset(Long.MAX_VALUE);
+
+    public TiKVOffset(Map<String, String> offset) {
+        this.offset = offset;
+    }
+
+    public TiKVOffset(long timestamp) {
+        Map<String, String> offsetMap = new HashMap<>();
+        offsetMap.put(TIMESTAMP_FIELD, String.valueOf(timestamp));
+        this.offset = offsetMap;
+    }
+
+    public long getTimestamp() {
+        return longOffsetValue(offset, TIMESTAMP_FIELD);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TiKVOffset)) {
+            return false;
+        }
+        TiKVOffset that = (TiKVOffset) o;
+        return offset.equals(that.offset);
+    }
+
+    @Override
+    public int compareTo(Offset offset) {
+        if (offset == null) {
+            return -1;
+        }
+        TiKVOffset that = (TiKVOffset) offset;
+        return Long.compare(this.getTimestamp(), that.getTimestamp());
+    }
+}
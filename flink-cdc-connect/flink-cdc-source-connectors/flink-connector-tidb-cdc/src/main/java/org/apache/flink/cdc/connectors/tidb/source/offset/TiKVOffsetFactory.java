@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source.offset;
+
+import org.apache.flink.cdc.connectors.base.source.meta.offset.OffsetFactory;
+
+import org.tikv.common.meta.TiTimestamp;
+
+import java.util.Map;
+
+/** An offset factory class create {@link TiKVOffset} instance. */
+public class TiKVOffsetFactory extends OffsetFactory {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public TiKVOffset newOffset(Map<String, String> offset) {
+        return new TiKVOffset(offset);
+    }
+
+    @Override
+    public TiKVOffset newOffset(String filename, Long position) {
+        throw new UnsupportedOperationException(
+                "not supported create new Offset by filename and position.");
+    }
+
+    @Override
+    public TiKVOffset newOffset(Long position) {
+        return new TiKVOffset(position);
+    }
+
+    @Override
+    public TiKVOffset createTimestampOffset(long timestampMillis) {
+        // the physical part of a TSO is the epoch millis, the following transactions are read
+        return new TiKVOffset(new TiTimestamp(timestampMillis, 0).getVersion());
+    }
+
+    @Override
+    public TiKVOffset createInitialOffset() {
+        return new TiKVOffset(0L);
+    }
+
+    @Override
+    public TiKVOffset createNoStoppingOffset() {
+        return TiKVOffset.NO_STOPPING_OFFSET;
+    }
+}
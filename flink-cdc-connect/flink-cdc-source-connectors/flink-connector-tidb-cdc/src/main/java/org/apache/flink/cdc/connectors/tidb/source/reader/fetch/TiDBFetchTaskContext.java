@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source.reader.fetch;
+
+import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import org.apache.flink.cdc.connectors.base.source.reader.external.FetchTask;
+import org.apache.flink.cdc.connectors.tidb.source.config.TiDBSourceConfig;
+import org.apache.flink.cdc.connectors.tidb.source.dialect.TiDBDialect;
+import org.apache.flink.cdc.connectors.tidb.source.utils.TiKVRecordUtils;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.util.LoggingContext;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.tikv.common.TiSession;
+import org.tikv.kvproto.Cdcpb;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/** The context of the fetch tasks of TiDB, which shares a {@link TiSession} between the tasks. */
+public class TiDBFetchTaskContext implements FetchTask.Context {
+
+    private static final int QUEUE_SIZE = 8192;
+    private static final int MAX_BATCH_SIZE = 2048;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    private final TiDBDialect dialect;
+    private final TiDBSourceConfig sourceConfig;
+    private final String[] spillDirectories;
+    private ChangeEventQueue<DataChangeEvent> changeEventQueue;
+    private TiSession session;
+
+    public TiDBFetchTaskContext(
+            TiDBDialect dialect, TiDBSourceConfig sourceConfig, String[] spillDirectories) {
+        this.dialect = dialect;
+        this.sourceConfig = sourceConfig;
+        this.spillDirectories = spillDirectories;
+    }
+
+    @Override
+    public void configure(SourceSplitBase sourceSplitBase) {
+        this.changeEventQueue =
+                new ChangeEventQueue.Builder<DataChangeEvent>()
+                        .pollInterval(POLL_INTERVAL)
+                        .maxBatchSize(MAX_BATCH_SIZE)
+                        .maxQueueSize(QUEUE_SIZE)
+                        .loggingContextSupplier(
+                                () ->
+                                        LoggingContext.forConnector(
+                                                "tidb-cdc",
+                                                "tidb-cdc-connector",
+                                                "tidb-cdc-connector-task"))
+                        // do not buffer any element, we use signal event
+                        .build();
+    }
+
+    /** Returns the {@link TiSession} of the fetch tasks, which is created at the first use. */
+    public synchronized TiSession getSession() {
+        if (session == null) {
+            session = TiSession.create(sourceConfig.getTiConf());
+        }
+        return session;
+    }
+
+    /** Returns the temporary directories of Flink, in which the change log buffers are spilled. */
+    public String[] getSpillDirectories() {
+        return spillDirectories;
+    }
+
+    @Override
+    public TiDBSourceConfig getSourceConfig() {
+        return sourceConfig;
+    }
+
+    @Override
+    public TiDBDialect getDataSourceDialect() {
+        return dialect;
+    }
+
+    @Override
+    public ChangeEventQueue<DataChangeEvent> getQueue() {
+        return changeEventQueue;
+    }
+
+    @Override
+    public TableId getTableId(SourceRecord record) {
+        return TiKVRecordUtils.getTableId(record);
+    }
+
+    @Override
+    public Tables.TableFilter getTableFilter() {
+        // Only the key range of the captured table is read.
+        return Tables.TableFilter.includeAll();
+    }
+
+    /**
+     * Returns the commit timestamp of a change record. A change record of a split is emitted if it
+     * is committed after the high watermark, which is the snapshot version of the split.
+     */
+    @Override
+    public Offset getStreamOffset(SourceRecord record) {
+        return TiKVRecordUtils.getCommitOffset(record);
+    }
+
+    @Override
+    public boolean isDataChangeRecord(SourceRecord record) {
+        return TiKVRecordUtils.isDataChangeRecord(record);
+    }
+
+    @Override
+    public boolean isRecordBetween(SourceRecord record, Object[] splitStart, Object[] splitEnd) {
+        return TiKVRecordUtils.isKeyBetween(
+                TiKVRecordUtils.getRowKey(record), (byte[]) splitStart[0], (byte[]) splitEnd[0]);
+    }
+
+    @Override
+    public void rewriteOutputBuffer(
+            Map<Struct, SourceRecord> outputBuffer, SourceRecord changeRecord) {
+        // The snapshot splits skip the backfill, as they are read at their low watermark. The
+        // change records are still merged here in case a backfill is read.
+        Struct key = (Struct) changeRecord.key();
+        Cdcpb.Event.Row row;
+        try {
+            row = TiKVRecordUtils.getRow(changeRecord);
+        } catch (Exception e) {
+            throw new FlinkRuntimeException(
+                    "Failed to decode the change record " + changeRecord, e);
+        }
+        switch (row.getOpType()) {
+            case PUT:
+                outputBuffer.put(key, changeRecord);
+                break;
+            case DELETE:
+                outputBuffer.remove(key);
+                break;
+            default:
+                throw new IllegalStateException(
+                        String.format(
+                                "Data change record meet UNKNOWN operation, the record is %s.",
+                                changeRecord));
+        }
+    }
+
+    @Override
+    public List<SourceRecord> formatMessageTimestamp(Collection<SourceRecord> snapshotRecords) {
+        // The snapshot records carry no commit timestamp already.
+        return new ArrayList<>(snapshotRecords);
+    }
+
+    @Override
+    public synchronized void close() throws Exception {
+        if (session != null) {
+            session.close();
+            session = null;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source.reader.fetch;
+
+import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+import org.apache.flink.cdc.connectors.base.source.meta.wartermark.WatermarkEvent;
+import org.apache.flink.cdc.connectors.base.source.meta.wartermark.WatermarkKind;
+import org.apache.flink.cdc.connectors.base.source.reader.external.AbstractScanFetchTask;
+import org.apache.flink.cdc.connectors.tidb.source.offset.TiKVOffset;
+import org.apache.flink.cdc.connectors.tidb.table.utils.TableKeyRangeUtils;
+
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.TableId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tikv.common.key.Key;
+import org.tikv.kvproto.Kvrpcpb;
+import org.tikv.shade.com.google.protobuf.ByteString;
+import org.tikv.txn.KVClient;
+
+import java.util.List;
+
+import static org.apache.flink.cdc.connectors.tidb.source.utils.TiKVRecordUtils.WATERMARK_TOPIC_NAME;
+import static org.apache.flink.cdc.connectors.tidb.source.utils.TiKVRecordUtils.createPartitionMap;
+import static org.apache.flink.cdc.connectors.tidb.source.utils.TiKVRecordUtils.createSnapshotRecord;
+
+/**
+ * The task to read a snapshot split of TiDB. The key range of the split is scanned at the version
+ * of the low watermark, which is a consistent snapshot of the split, so the high watermark equals
+ * the low watermark and the changes committed after it are read by the stream split.
+ */
+public class TiDBScanFetchTask extends AbstractScanFetchTask {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TiDBScanFetchTask.class);
+
+    private long snapshotVersion;
+
+    public TiDBScanFetchTask(SnapshotSplit snapshotSplit) {
+        super(snapshotSplit);
+    }
+
+    @Override
+    protected void executeDataSnapshot(Context context) throws Exception {
+        TiDBFetchTaskContext taskContext = (TiDBFetchTaskContext) context;
+        ChangeEventQueue<DataChangeEvent> changeEventQueue = taskContext.getQueue();
+        TableId tableId = snapshotSplit.getTableId();
+        ByteString start = ByteString.copyFrom((byte[]) snapshotSplit.getSplitStart()[0]);
+        ByteString end = ByteString.copyFrom((byte[]) snapshotSplit.getSplitEnd()[0]);
+
+        long count = 0;
+        try (KVClient scanClient = taskContext.getSession().createKVClient()) {
+            while (taskRunning) {
+                List<Kvrpcpb.KvPair> segment = scanClient.scan(start, end, snapshotVersion);
+                if (segment.isEmpty()) {
+                    break;
+                }
+                for (Kvrpcpb.KvPair pair : segment) {
+                    if (TableKeyRangeUtils.isRecordKey(pair.getKey().toByteArray())) {
+                        changeEventQueue.enqueue(
+                                new DataChangeEvent(
+                                        createSnapshotRecord(tableId, pair, snapshotVersion)));
+                        count++;
+                    }
+                }
+                start =
+                        Key.toRawKey(segment.get(segment.size() - 1).getKey())
+                                .next()
+                                .toByteString();
+            }
+        }
+        LOG.info(
+                "Scanned {} rows of split {} at version {}.",
+                count,
+                snapshotSplit.splitId(),
+                snapshotVersion);
+    }
+
+    @Override
+    protected void executeBackfillTask(Context context, StreamSplit backfillStreamSplit)
+            throws Exception {
+        TiDBStreamFetchTask backfillStreamTask = new TiDBStreamFetchTask(backfillStreamSplit);
+        backfillStreamTask.execute(context);
+    }
+
+    @Override
+    protected void dispatchLowWaterMarkEvent(
+            Context context, SourceSplitBase split, Offset lowWatermark)
+            throws InterruptedException {
+        // the split is read at the snapshot of the low watermark
+        snapshotVersion = ((TiKVOffset) lowWatermark).getTimestamp();
+        dispatchWatermarkEvent(context, split, WatermarkKind.LOW, lowWatermark);
+    }
+
+    @Override
+    protected void dispatchHighWaterMarkEvent(
+            Context context, SourceSplitBase split, Offset highWatermark)
+            throws InterruptedException {
+        dispatchWatermarkEvent(context, split, WatermarkKind.HIGH, highWatermark);
+    }
+
+    @Override
+    protected void dispatchEndWaterMarkEvent(
+            Context context, SourceSplitBase split, Offset endWatermark)
+            throws InterruptedException {
+        dispatchWatermarkEvent(context, split, WatermarkKind.END, endWatermark);
+    }
+
+    private void dispatchWatermarkEvent(
+            Context context, SourceSplitBase split, WatermarkKind watermarkKind, Offset watermark)
+            throws InterruptedException {
+        context.getQueue()
+                .enqueue(
+                        new DataChangeEvent(
+                                WatermarkEvent.create(
+                                        createPartitionMap(snapshotSplit.getTableId()),
+                                        WATERMARK_TOPIC_NAME,
+                                        split.splitId(),
+                                        watermarkKind,
+                                        watermark)));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source.reader.fetch;
+
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+import org.apache.flink.cdc.connectors.base.source.meta.wartermark.WatermarkEvent;
+import org.apache.flink.cdc.connectors.base.source.meta.wartermark.WatermarkKind;
+import org.apache.flink.cdc.connectors.base.source.reader.external.FetchTask;
+import org.apache.flink.cdc.connectors.tidb.source.config.TiDBSourceConfig;
+import org.apache.flink.cdc.connectors.tidb.source.dialect.TiDBDialect;
+import org.apache.flink.cdc.connectors.tidb.source.offset.TiKVOffset;
+
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.TableId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tikv.cdc.CDCClient;
+import org.tikv.common.TiSession;
+import org.tikv.kvproto.Cdcpb;
+
+import static org.apache.flink.cdc.connectors.tidb.source.utils.TiKVRecordUtils.WATERMARK_TOPIC_NAME;
+import static org.apache.flink.cdc.connectors.tidb.source.utils.TiKVRecordUtils.createChangeRecord;
+import static org.apache.flink.cdc.connectors.tidb.source.utils.TiKVRecordUtils.createHeartbeatRecord;
+import static org.apache.flink.cdc.connectors.tidb.source.utils.TiKVRecordUtils.createPartitionMap;
+
+/**
+ * The task to read the change log of TiDB through the TiKV CDC client. The rows of a transaction
+ * are buffered until the resolved timestamp of all the regions passes its commit timestamp, then
+ * the committed rows are emitted in the order of their commit timestamps, followed by a heartbeat
+ * which carries the resolved timestamp as the offset of the stream split.
+ */
+public class TiDBStreamFetchTask implements FetchTask<SourceSplitBase> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TiDBStreamFetchTask.class);
+
+    private static final int MAX_ROWS_PER_POLL = 1000;
+    private static final long IDLE_WAIT_MILLIS = 100L;
+
+    private final StreamSplit streamSplit;
+    private volatile boolean taskRunning = false;
+
+    public TiDBStreamFetchTask(StreamSplit streamSplit) {
+        this.streamSplit = streamSplit;
+    }
+
+    @Override
+    public void execute(Context context) throws Exception {
+        TiDBFetchTaskContext taskContext = (TiDBFetchTaskContext) context;
+        TiDBSourceConfig sourceConfig = taskContext.getSourceConfig();
+        ChangeEventQueue<DataChangeEvent> queue = taskContext.getQueue();
+        TiSession session = taskContext.getSession();
+        TableId tableId = TiDBDialect.tableId(sourceConfig);
+
+        long resolvedTs = ((TiKVOffset) streamSplit.getStartingOffset()).getTimestamp();
+        long endingTs =
+                streamSplit.getEndingOffset() == null
+                        ? Long.MAX_VALUE
+                        : ((TiKVOffset) streamSplit.getEndingOffset()).getTimestamp();
+
+        taskRunning = true;
+        TiKVChangeLogBuffer changeLogBuffer =
+                new TiKVChangeLogBuffer(
+                        sourceConfig.getBufferMemorySize(), taskContext.getSpillDirectories());
+        CDCClient cdcClient =
+                new CDCClient(session, TiDBDialect.tableKeyRange(session, sourceConfig));
+        try {
+            LOG.info("Read change events of {} from resolvedTs: {}", tableId, resolvedTs);
+            cdcClient.start(resolvedTs);
+            while (taskRunning) {
+                int count = 0;
+                for (; count < MAX_ROWS_PER_POLL; count++) {
+                    Cdcpb.Event.Row row = cdcClient.get();
+                    if (row == null) {
+                        break;
+                    }
+                    changeLogBuffer.add(row);
+                }
+
+                // the changes of all the regions are received up to the min resolved timestamp
+                long nextResolvedTs = Math.min(cdcClient.getMinResolvedTs(), endingTs);
+                if (nextResolvedTs > resolvedTs) {
+                    Cdcpb.Event.Row committedRow;
+                    while ((committedRow = changeLogBuffer.pollCommitted(nextResolvedTs)) != null) {
+                        queue.enqueue(
+                                new DataChangeEvent(createChangeRecord(tableId, committedRow)));
+                    }
+                    resolvedTs = nextResolvedTs;
+                    queue.enqueue(new DataChangeEvent(createHeartbeatRecord(tableId, resolvedTs)));
+                }
+
+                if (resolvedTs >= endingTs) {
+                    // the bounded stream split is read to its end
+                    queue.enqueue(
+                            new DataChangeEvent(
+                                    WatermarkEvent.create(
+                                            createPartitionMap(tableId),
+                                            WATERMARK_TOPIC_NAME,
+                                            streamSplit.splitId(),
+                                            WatermarkKind.END,
+                                            streamSplit.getEndingOffset())));
+                    break;
+                }
+                if (count == 0) {
+                    Thread.sleep(IDLE_WAIT_MILLIS);
+                }
+            }
+        } finally {
+            taskRunning = false;
+            cdcClient.close();
+            changeLogBuffer.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return taskRunning;
+    }
+
+    @Override
+    public StreamSplit getSplit() {
+        return streamSplit;
+    }
+
+    @Override
+    public void close() {
+        taskRunning = false;
+    }
+}
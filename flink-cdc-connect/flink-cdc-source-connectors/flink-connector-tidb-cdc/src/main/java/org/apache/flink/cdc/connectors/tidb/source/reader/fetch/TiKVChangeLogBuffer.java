@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source.reader.fetch;
+
+import org.apache.flink.cdc.connectors.tidb.TiKVRowBuffer;
+import org.apache.flink.cdc.connectors.tidb.TiKVRowKeyWithTs;
+import org.apache.flink.cdc.connectors.tidb.table.utils.TableKeyRangeUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tikv.kvproto.Cdcpb;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+
+/**
+ * Buffers the rows of the TiKV change log until their transactions are resolved. A prewritten row
+ * carries the values and a commit row the commit timestamp, the committed rows are polled in the
+ * order of their commit timestamps once the resolved timestamp passes them.
+ */
+public class TiKVChangeLogBuffer implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TiKVChangeLogBuffer.class);
+
+    private final TiKVRowBuffer<TiKVRowKeyWithTs> prewrites;
+    private final TiKVRowBuffer<TiKVRowKeyWithTs> commits;
+
+    public TiKVChangeLogBuffer(long memoryLimit, String[] spillDirectories) {
+        this.prewrites = new TiKVRowBuffer<>("prewrite buffer", memoryLimit, spillDirectories);
+        this.commits = new TiKVRowBuffer<>("commit buffer", memoryLimit, spillDirectories);
+    }
+
+    /** Adds a row received from the change log, the rows of the index keys are skipped. */
+    public void add(Cdcpb.Event.Row row) {
+        if (!TableKeyRangeUtils.isRecordKey(row.getKey().toByteArray())) {
+            // Don't handle index key for now
+            return;
+        }
+        LOG.debug("binlog record, type: {}, data: {}", row.getType(), row);
+        switch (row.getType()) {
+            case COMMITTED:
+                prewrites.put(TiKVRowKeyWithTs.ofStart(row), row);
+                commits.put(TiKVRowKeyWithTs.ofCommit(row), row);
+                break;
+            case COMMIT:
+                commits.put(TiKVRowKeyWithTs.ofCommit(row), row);
+                break;
+            case PREWRITE:
+                prewrites.put(TiKVRowKeyWithTs.ofStart(row), row);
+                break;
+            case ROLLBACK:
+                prewrites.remove(TiKVRowKeyWithTs.ofStart(row));
+                break;
+            default:
+                LOG.warn("Unsupported row type:" + row.getType());
+        }
+    }
+
+    /**
+     * Polls the next row committed at or before the resolved timestamp, which carries the values of
+     * its prewritten row and its commit timestamp.
+     *
+     * @return the next committed row, or null if all the rows up to the resolved timestamp have
+     *     been polled.
+     */
+    @Nullable
+    public Cdcpb.Event.Row pollCommitted(long resolvedTs) {
+        while (!commits.isEmpty() && commits.firstKey().getTimestamp() <= resolvedTs) {
+            final Cdcpb.Event.Row commitRow = commits.pollFirst();
+            final Cdcpb.Event.Row prewriteRow =
+                    prewrites.remove(TiKVRowKeyWithTs.ofStart(commitRow));
+            if (prewriteRow == null) {
+                LOG.warn("Skip the commit of a row which is not prewritten: {}", commitRow);
+                continue;
+            }
+            return prewriteRow.toBuilder().setCommitTs(commitRow.getCommitTs()).build();
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        prewrites.close();
+        commits.close();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source.utils;
+
+import org.apache.flink.cdc.connectors.tidb.source.offset.TiKVOffset;
+
+import io.debezium.relational.TableId;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.tikv.common.key.Key;
+import org.tikv.common.meta.TiTimestamp;
+import org.tikv.kvproto.Cdcpb;
+import org.tikv.kvproto.Kvrpcpb;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Utility class to create and read the {@link SourceRecord}s of the TiDB incremental source.
+ *
+ * <p>A record carries a TiKV {@link Kvrpcpb.KvPair} of the snapshot, or a committed TiKV {@link
+ * Cdcpb.Event.Row} of the change log, as serialized protobuf bytes. The records are keyed by the
+ * raw row key, so that the snapshot records can be buffered and compared with the split ranges.
+ */
+public class TiKVRecordUtils {
+
+    public static final String DATABASE_FIELD = "database";
+    public static final String TABLE_FIELD = "table";
+
+    public static final String ROW_KEY_FIELD = "row_key";
+    public static final String PAYLOAD_FIELD = "payload";
+    public static final String SNAPSHOT_FIELD = "snapshot";
+    public static final String COMMIT_TS_FIELD = "commit_ts";
+    public static final String TIMESTAMP_KEY_FIELD = "ts_ms";
+
+    public static final String WATERMARK_TOPIC_NAME = "__tidb_watermarks";
+    public static final String HEARTBEAT_TOPIC_NAME = "__tidb_heartbeats";
+
+    public static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("org.apache.flink.cdc.connectors.tidb.source.Key")
+                    .field(ROW_KEY_FIELD, Schema.BYTES_SCHEMA)
+                    .build();
+
+    public static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("org.apache.flink.cdc.connectors.tidb.source.Value")
+                    .field(PAYLOAD_FIELD, Schema.BYTES_SCHEMA)
+                    .field(SNAPSHOT_FIELD, Schema.BOOLEAN_SCHEMA)
+                    .field(COMMIT_TS_FIELD, Schema.INT64_SCHEMA)
+                    .field(TIMESTAMP_KEY_FIELD, Schema.INT64_SCHEMA)
+                    .build();
+
+    private TiKVRecordUtils() {}
+
+    /** Creates the record of a key-value pair read from the snapshot of a table. */
+    public static SourceRecord createSnapshotRecord(
+            TableId tableId, Kvrpcpb.KvPair pair, long snapshotTs) {
+        return createSourceRecord(
+                tableId,
+                new TiKVOffset(snapshotTs),
+                pair.getKey().toByteArray(),
+                pair.toByteArray(),
+                true,
+                0L);
+    }
+
+    /**
+     * Creates the record of a committed row of the change log.
+     *
+     * <p>Several rows may share the commit timestamp of a transaction, the offset of the record is
+     * the timestamp right before the commit, so that a transaction which is partially emitted
+     * before a checkpoint is read again after a restore.
+     */
+    public static SourceRecord createChangeRecord(TableId tableId, Cdcpb.Event.Row row) {
+        return createSourceRecord(
+                tableId,
+                new TiKVOffset(row.getCommitTs() - 1),
+                row.getKey().toByteArray(),
+                row.toByteArray(),
+                false,
+                row.getCommitTs());
+    }
+
+    /**
+     * Creates a heartbeat record which tells that all the transactions committed at or before the
+     * resolved timestamp have been emitted.
+     */
+    public static SourceRecord createHeartbeatRecord(TableId tableId, long resolvedTs) {
+        return new SourceRecord(
+                createPartitionMap(tableId),
+                new TiKVOffset(resolvedTs).getOffset(),
+                HEARTBEAT_TOPIC_NAME,
+                null,
+                null);
+    }
+
+    private static SourceRecord createSourceRecord(
+            TableId tableId,
+            TiKVOffset offset,
+            byte[] rowKey,
+            byte[] payload,
+            boolean snapshot,
+            long commitTs) {
+        Struct key = new Struct(KEY_SCHEMA);
+        key.put(ROW_KEY_FIELD, rowKey);
+        Struct value = new Struct(VALUE_SCHEMA);
+        value.put(PAYLOAD_FIELD, payload);
+        value.put(SNAPSHOT_FIELD, snapshot);
+        value.put(COMMIT_TS_FIELD, commitTs);
+        value.put(TIMESTAMP_KEY_FIELD, System.currentTimeMillis());
+        return new SourceRecord(
+                createPartitionMap(tableId),
+                offset.getOffset(),
+                tableId.identifier(),
+                KEY_SCHEMA,
+                key,
+                VALUE_SCHEMA,
+                value);
+    }
+
+    public static Map<String, String> createPartitionMap(TableId tableId) {
+        Map<String, String> partitionMap = new HashMap<>();
+        partitionMap.put(DATABASE_FIELD, tableId.catalog());
+        partitionMap.put(TABLE_FIELD, tableId.table());
+        return partitionMap;
+    }
+
+    public static boolean isDataChangeRecord(SourceRecord record) {
+        return record.valueSchema() != null
+                && VALUE_SCHEMA.name().equals(record.valueSchema().name());
+    }
+
+    public static boolean isHeartbeatEvent(SourceRecord record) {
+        return HEARTBEAT_TOPIC_NAME.equals(record.topic());
+    }
+
+    public static boolean isSnapshotRecord(SourceRecord record) {
+        return ((Struct) record.value()).getBoolean(SNAPSHOT_FIELD);
+    }
+
+    public static TableId getTableId(SourceRecord record) {
+        Map<String, ?> partition = record.sourcePartition();
+        return new TableId(
+                (String) partition.get(DATABASE_FIELD), null, (String) partition.get(TABLE_FIELD));
+    }
+
+    public static byte[] getRowKey(SourceRecord record) {
+        return ((Struct) record.key()).getBytes(ROW_KEY_FIELD);
+    }
+
+    /** Returns the commit timestamp of a change record, which is compared with the watermarks. */
+    public static TiKVOffset getCommitOffset(SourceRecord record) {
+        return new TiKVOffset(((Struct) record.value()).getInt64(COMMIT_TS_FIELD));
+    }
+
+    public static Kvrpcpb.KvPair getKvPair(SourceRecord record) throws Exception {
+        return Kvrpcpb.KvPair.parseFrom(((Struct) record.value()).getBytes(PAYLOAD_FIELD));
+    }
+
+    public static Cdcpb.Event.Row getRow(SourceRecord record) throws Exception {
+        return Cdcpb.Event.Row.parseFrom(((Struct) record.value()).getBytes(PAYLOAD_FIELD));
+    }
+
+    /** Returns the commit time of a change record, or 0 for the snapshot records. */
+    public static Long getMessageTimestamp(SourceRecord record) {
+        return TiTimestamp.extractPhysical(((Struct) record.value()).getInt64(COMMIT_TS_FIELD));
+    }
+
+    public static Long getFetchTimestamp(SourceRecord record) {
+        return ((Struct) record.value()).getInt64(TIMESTAMP_KEY_FIELD);
+    }
+
+    /** Returns whether the row key is in the key range [start, end). */
+    public static boolean isKeyBetween(byte[] rowKey, byte[] start, byte[] end) {
+        Key key = Key.toRawKey(rowKey);
+        return key.compareTo(Key.toRawKey(start)) >= 0 && key.compareTo(Key.toRawKey(end)) < 0;
+    }
+}
@@ -20,11 +20,14 @@ package org.apache.flink.cdc.connectors.tidb.table;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.cdc.connectors.tidb.TDBSourceOptions;
 import org.apache.flink.cdc.connectors.tidb.TiDBSource;
+import org.apache.flink.cdc.connectors.tidb.source.TiDBIncrementalSource;
+import org.apache.flink.configuration.MemorySize;
 import org.apache.flink.table.catalog.ResolvedSchema;
 import org.apache.flink.table.connector.ChangelogMode;
 import org.apache.flink.table.connector.source.DynamicTableSource;
 import org.apache.flink.table.connector.source.ScanTableSource;
 import org.apache.flink.table.connector.source.SourceFunctionProvider;
+import org.apache.flink.table.connector.source.SourceProvider;
 import org.apache.flink.table.connector.source.abilities.SupportsReadingMetadata;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.types.DataType;
@@ -56,6 +59,8 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
     private final String pdAddresses;
     @Nullable private final String hostMapping;
     private final StartupOptions startupOptions;
+    private final MemorySize bufferMemorySize;
+    private final boolean enableParallelRead;
     private final Map<String, String> options;
 
     // --------------------------------------------------------------------------------------------
@@ -75,6 +80,8 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
             String pdAddresses,
             String hostMapping,
             StartupOptions startupOptions,
+            MemorySize bufferMemorySize,
+            boolean enableParallelRead,
             Map<String, String> options) {
         this.physicalSchema = physicalSchema;
         this.database = checkNotNull(database);
@@ -82,6 +89,8 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
         this.pdAddresses = checkNotNull(pdAddresses);
         this.hostMapping = hostMapping;
         this.startupOptions = startupOptions;
+        this.bufferMemorySize = bufferMemorySize;
+        this.enableParallelRead = enableParallelRead;
         this.producedDataType = physicalSchema.toPhysicalRowDataType();
         this.options = options;
         this.metadataKeys = Collections.emptyList();
@@ -123,17 +132,39 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
                         metadataConverters,
                         physicalDataType);
 
+        if (enableParallelRead) {
+            TiDBIncrementalSource<RowData> parallelSource =
+                    TiDBIncrementalSource.<RowData>builder()
+                            .database(database)
+                            .tableName(tableName)
+                            .startupOptions(getParallelStartupOptions())
+                            .tiConf(tiConf)
+                            .bufferMemorySize(bufferMemorySize)
+                            .snapshotEventDeserializer(snapshotEventDeserializationSchema)
+                            .changeEventDeserializer(changeEventDeserializationSchema)
+                            .build();
+            return SourceProvider.of(parallelSource);
+        }
+
         TiDBSource.Builder<RowData> builder =
                 TiDBSource.<RowData>builder()
                         .database(database)
                         .tableName(tableName)
                         .startupOptions(startupOptions)
                         .tiConf(tiConf)
+                        .bufferMemorySize(bufferMemorySize)
                         .snapshotEventDeserializer(snapshotEventDeserializationSchema)
                         .changeEventDeserializer(changeEventDeserializationSchema);
         return SourceFunctionProvider.of(builder.build(), false);
     }
 
+    private org.apache.flink.cdc.connectors.base.options.StartupOptions
+            getParallelStartupOptions() {
+        return startupOptions.startupMode == StartupMode.LATEST_OFFSET
+                ? org.apache.flink.cdc.connectors.base.options.StartupOptions.latest()
+                : org.apache.flink.cdc.connectors.base.options.StartupOptions.initial();
+    }
+
     @Override
     public DynamicTableSource copy() {
         TiDBTableSource source =
@@ -144,6 +175,8 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
                         pdAddresses,
                         hostMapping,
                         startupOptions,
+                        bufferMemorySize,
+                        enableParallelRead,
                         options);
         source.producedDataType = producedDataType;
         source.metadataKeys = metadataKeys;
@@ -182,6 +215,8 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
                 && Objects.equals(tableName, that.tableName)
                 && Objects.equals(pdAddresses, that.pdAddresses)
                 && Objects.equals(startupOptions, that.startupOptions)
+                && Objects.equals(bufferMemorySize, that.bufferMemorySize)
+                && enableParallelRead == that.enableParallelRead
                 && Objects.equals(options, that.options)
                 && Objects.equals(producedDataType, that.producedDataType)
                 && Objects.equals(metadataKeys, that.metadataKeys);
@@ -195,6 +230,8 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
                 tableName,
                 pdAddresses,
                 startupOptions,
+                bufferMemorySize,
+                enableParallelRead,
                 options,
                 producedDataType,
                 metadataKeys);
@@ -35,6 +35,8 @@ import java.util.Set;
 import static org.apache.flink.cdc.connectors.tidb.TDBSourceOptions.DATABASE_NAME;
 import static org.apache.flink.cdc.connectors.tidb.TDBSourceOptions.HOST_MAPPING;
 import static org.apache.flink.cdc.connectors.tidb.TDBSourceOptions.PD_ADDRESSES;
+import static org.apache.flink.cdc.connectors.tidb.TDBSourceOptions.SCAN_INCREMENTAL_BUFFER_MEMORY_SIZE;
+import static org.apache.flink.cdc.connectors.tidb.TDBSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ENABLED;
 import static org.apache.flink.cdc.connectors.tidb.TDBSourceOptions.SCAN_STARTUP_MODE;
 import static org.apache.flink.cdc.connectors.tidb.TDBSourceOptions.TABLE_NAME;
 import static org.apache.flink.cdc.connectors.tidb.TDBSourceOptions.TIKV_BATCH_GET_CONCURRENCY;
@@ -71,6 +73,8 @@ public class TiDBTableSourceFactory implements DynamicTableSourceFactory {
                 pdAddresses,
                 hostMapping,
                 startupOptions,
+                config.get(SCAN_INCREMENTAL_BUFFER_MEMORY_SIZE),
+                config.get(SCAN_INCREMENTAL_SNAPSHOT_ENABLED),
                 TiKVOptions.getTiKVOptions(context.getCatalogTable().getOptions()));
     }
 
@@ -93,6 +97,8 @@ public class TiDBTableSourceFactory implements DynamicTableSourceFactory {
         Set<ConfigOption<?>> options = new HashSet<>();
         options.add(SCAN_STARTUP_MODE);
         options.add(HOST_MAPPING);
+        options.add(SCAN_INCREMENTAL_BUFFER_MEMORY_SIZE);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_ENABLED);
         options.add(TIKV_GRPC_TIMEOUT);
         options.add(TIKV_GRPC_SCAN_TIMEOUT);
         options.add(TIKV_BATCH_GET_CONCURRENCY);
@@ -64,6 +64,9 @@ public class TiDBTestBase extends AbstractTestBaseJUnit4 {
     public static final String TIDB_USER = "root";
     public static final String TIDB_PASSWORD = "";
 
+    /** The parallelism of the incremental snapshot source, which fits the slots of the cluster. */
+    public static final int DEFAULT_PARALLELISM = 4;
+
     public static final int TIDB_PORT = 4000;
     public static final int TIKV_PORT_ORIGIN = 20160;
     public static final int PD_PORT_ORIGIN = 2379;
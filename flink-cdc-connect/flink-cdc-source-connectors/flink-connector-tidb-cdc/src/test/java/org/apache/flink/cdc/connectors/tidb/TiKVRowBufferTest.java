@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.tikv.kvproto.Cdcpb;
+import org.tikv.shade.com.google.protobuf.ByteString;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** Unit tests for {@link TiKVRowBuffer}. */
+public class TiKVRowBufferTest {
+
+    @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testPollInKeyOrder() {
+        try (TiKVRowBuffer<Long> buffer =
+                new TiKVRowBuffer<>("test buffer", 1024 * 1024, spillDirectories())) {
+            buffer.put(3L, row(3L));
+            buffer.put(1L, row(1L));
+            buffer.put(2L, row(2L));
+
+            assertEquals(3, buffer.size());
+            assertEquals(Long.valueOf(1L), buffer.firstKey());
+            assertEquals(row(1L), buffer.pollFirst());
+            assertEquals(row(2L), buffer.pollFirst());
+            assertEquals(row(3L), buffer.pollFirst());
+            assertTrue(buffer.isEmpty());
+            assertNull(buffer.firstKey());
+            assertNull(buffer.pollFirst());
+            assertEquals(0L, buffer.bytes());
+        }
+    }
+
+    @Test
+    public void testSpillBeyondMemoryLimit() {
+        int rowSize = row(0L).getSerializedSize();
+        try (TiKVRowBuffer<Long> buffer =
+                new TiKVRowBuffer<>("test buffer", rowSize * 2L, spillDirectories())) {
+            for (long i = 9; i >= 0; i--) {
+                buffer.put(i, row(i));
+            }
+            assertEquals(10, buffer.size());
+            assertEquals(rowSize * 10L, buffer.bytes());
+            assertEquals(rowSize * 8L, buffer.spilledBytes());
+
+            // point lookups read the spilled rows back
+            assertEquals(row(5L), buffer.remove(5L));
+            assertNull(buffer.remove(5L));
+            for (long i = 0; i < 10; i++) {
+                if (i != 5) {
+                    assertEquals(row(i), buffer.pollFirst());
+                }
+            }
+            assertTrue(buffer.isEmpty());
+            assertEquals(0L, buffer.bytes());
+            assertEquals(0L, buffer.spilledBytes());
+
+            // the spill file is reused once it has been drained
+            buffer.put(1L, row(1L));
+            buffer.put(2L, row(2L));
+            buffer.put(3L, row(3L));
+            assertEquals(rowSize, buffer.spilledBytes());
+            assertEquals(row(1L), buffer.pollFirst());
+            assertEquals(row(2L), buffer.pollFirst());
+            assertEquals(row(3L), buffer.pollFirst());
+        }
+    }
+
+    @Test
+    public void testReplaceRow() {
+        try (TiKVRowBuffer<Long> buffer =
+                new TiKVRowBuffer<>("test buffer", 0, spillDirectories())) {
+            buffer.put(1L, row(1L));
+            buffer.put(1L, row(2L));
+
+            assertEquals(1, buffer.size());
+            assertEquals(row(2L).getSerializedSize(), buffer.bytes());
+            assertEquals(row(2L), buffer.remove(1L));
+            assertNull(buffer.remove(1L));
+        }
+    }
+
+    @Test
+    public void testSpillFileInSpillDirectory() {
+        Path spillFile;
+        try (TiKVRowBuffer<Long> buffer =
+                new TiKVRowBuffer<>("test buffer", 0, spillDirectories())) {
+            buffer.put(1L, row(1L));
+            spillFile = buffer.getSpillFile();
+            assertNotNull(spillFile);
+            assertEquals(temporaryFolder.getRoot().toPath(), spillFile.getParent());
+            assertTrue(Files.exists(spillFile));
+        }
+        // the spill file is deleted with the buffer
+        assertFalse(Files.exists(spillFile));
+    }
+
+    @Test
+    public void testCompactSpillFile() throws Exception {
+        int rowSize = row(0L).getSerializedSize();
+        try (TiKVRowBuffer<Long> buffer =
+                new TiKVRowBuffer<>("test buffer", 0, spillDirectories(), 4L * rowSize)) {
+            // a long-running transaction keeps its first row buffered while the following rows
+            // are added and removed, so the spill file is never drained
+            buffer.put(0L, row(0L));
+            for (long i = 1; i <= 100; i++) {
+                buffer.put(i, row(i));
+                assertEquals(row(i), buffer.remove(i));
+                // the removed rows are reclaimed before their holes outgrow the threshold
+                assertTrue(buffer.spillFileBytes() <= 6L * rowSize);
+                assertEquals(rowSize, buffer.spilledBytes());
+            }
+            Path spillFile = buffer.getSpillFile();
+            assertEquals(buffer.spillFileBytes(), Files.size(spillFile));
+            try (Stream<Path> files = Files.list(temporaryFolder.getRoot().toPath())) {
+                assertEquals(1, files.count());
+            }
+
+            // the rows are read back from the compacted spill file
+            buffer.put(2L, row(2L));
+            buffer.put(1L, row(1L));
+            assertEquals(row(0L), buffer.pollFirst());
+            assertEquals(row(1L), buffer.pollFirst());
+            assertEquals(row(2L), buffer.pollFirst());
+            assertTrue(buffer.isEmpty());
+            assertEquals(0L, buffer.spillFileBytes());
+        }
+    }
+
+    private String[] spillDirectories() {
+        return new String[] {temporaryFolder.getRoot().getPath()};
+    }
+
+    private static Cdcpb.Event.Row row(long ts) {
+        return Cdcpb.Event.Row.newBuilder()
+                .setStartTs(1000 + ts)
+                .setCommitTs(1001 + ts)
+                .setType(Cdcpb.Event.LogType.PREWRITE)
+                .setOpType(Cdcpb.Event.Row.OpType.PUT)
+                .setKey(ByteString.copyFromUtf8("key-" + ts))
+                .setValue(ByteString.copyFromUtf8("value-" + ts))
+                .build();
+    }
+}
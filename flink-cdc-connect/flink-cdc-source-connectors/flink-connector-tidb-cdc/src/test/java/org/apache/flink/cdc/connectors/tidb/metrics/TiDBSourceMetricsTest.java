@@ -17,14 +17,20 @@
 
 package org.apache.flink.cdc.connectors.tidb.metrics;
 
+import org.apache.flink.cdc.connectors.tidb.TiKVRowBuffer;
 import org.apache.flink.metrics.Gauge;
 import org.apache.flink.metrics.testutils.MetricListener;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.tikv.kvproto.Cdcpb;
+import org.tikv.shade.com.google.protobuf.ByteString;
 
 import java.util.Optional;
 
+import static org.apache.flink.cdc.connectors.tidb.metrics.TiDBSourceMetrics.BUFFERED_BYTES;
+import static org.apache.flink.cdc.connectors.tidb.metrics.TiDBSourceMetrics.BUFFERED_ROWS;
+import static org.apache.flink.cdc.connectors.tidb.metrics.TiDBSourceMetrics.SPILLED_BYTES;
 import static org.apache.flink.runtime.metrics.MetricNames.CURRENT_EMIT_EVENT_TIME_LAG;
 import static org.apache.flink.runtime.metrics.MetricNames.CURRENT_FETCH_EVENT_TIME_LAG;
 import static org.junit.Assert.assertEquals;
@@ -54,6 +60,35 @@ public class TiDBSourceMetricsTest {
         assertGauge(metricListener, CURRENT_EMIT_EVENT_TIME_LAG, 3L);
     }
 
+    @Test
+    public void testBufferTracking() {
+        Cdcpb.Event.Row row =
+                Cdcpb.Event.Row.newBuilder()
+                        .setKey(ByteString.copyFromUtf8("key"))
+                        .setValue(ByteString.copyFromUtf8("value"))
+                        .build();
+        long rowSize = row.getSerializedSize();
+        try (TiKVRowBuffer<Long> prewrites =
+                        new TiKVRowBuffer<>(
+                                "prewrite buffer",
+                                rowSize,
+                                TiKVRowBuffer.getDefaultSpillDirectories());
+                TiKVRowBuffer<Long> commits =
+                        new TiKVRowBuffer<>(
+                                "commit buffer",
+                                rowSize,
+                                TiKVRowBuffer.getDefaultSpillDirectories())) {
+            sourceMetrics.registerBufferMetrics(prewrites, commits);
+            prewrites.put(1L, row);
+            prewrites.put(2L, row);
+            commits.put(1L, row);
+
+            assertGauge(metricListener, BUFFERED_ROWS, 3L);
+            assertGauge(metricListener, BUFFERED_BYTES, rowSize * 3);
+            assertGauge(metricListener, SPILLED_BYTES, rowSize);
+        }
+    }
+
     private void assertGauge(MetricListener metricListener, String identifier, long expected) {
         Optional<Gauge<Object>> gauge = metricListener.getGauge(identifier);
         assertTrue(gauge.isPresent());
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source.assigners;
+
+import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
+import org.apache.flink.cdc.connectors.tidb.table.utils.TableKeyRangeUtils;
+
+import io.debezium.relational.TableId;
+import org.junit.Test;
+import org.tikv.kvproto.Coprocessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apache.flink.cdc.connectors.tidb.source.utils.TiKVRecordUtils.isKeyBetween;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Unit tests for {@link TiKVRegionChunkSplitter}. */
+public class TiKVRegionChunkSplitterTest {
+
+    private static final TableId TABLE_ID = new TableId("inventory", null, "products");
+
+    @Test
+    public void testSplitsFollowKeyOrder() {
+        List<Coprocessor.KeyRange> keyRanges = TableKeyRangeUtils.getTableKeyRanges(42L, 4);
+        List<Coprocessor.KeyRange> shuffledRanges = new ArrayList<>(keyRanges);
+        Collections.reverse(shuffledRanges);
+
+        List<SnapshotSplit> splits = TiKVRegionChunkSplitter.createSplits(TABLE_ID, shuffledRanges);
+
+        assertEquals(keyRanges.size(), splits.size());
+        for (int i = 0; i < splits.size(); i++) {
+            SnapshotSplit split = splits.get(i);
+            assertEquals(TABLE_ID, split.getTableId());
+            assertEquals(SnapshotSplit.generateSplitId(TABLE_ID, i), split.splitId());
+            assertArrayEquals(
+                    keyRanges.get(i).getStart().toByteArray(), (byte[]) split.getSplitStart()[0]);
+            assertArrayEquals(
+                    keyRanges.get(i).getEnd().toByteArray(), (byte[]) split.getSplitEnd()[0]);
+            assertTrue(split.getTableSchemas().containsKey(TABLE_ID));
+        }
+    }
+
+    @Test
+    public void testRowKeyBelongsToOneSplit() {
+        List<SnapshotSplit> splits =
+                TiKVRegionChunkSplitter.createSplits(
+                        TABLE_ID, TableKeyRangeUtils.getTableKeyRanges(42L, 3));
+        byte[] rowKey = (byte[]) splits.get(1).getSplitStart()[0];
+
+        assertFalse(isKeyBetween(rowKey, splitStart(splits.get(0)), splitEnd(splits.get(0))));
+        assertTrue(isKeyBetween(rowKey, splitStart(splits.get(1)), splitEnd(splits.get(1))));
+        assertFalse(isKeyBetween(rowKey, splitStart(splits.get(2)), splitEnd(splits.get(2))));
+    }
+
+    private static byte[] splitStart(SnapshotSplit split) {
+        return (byte[]) split.getSplitStart()[0];
+    }
+
+    private static byte[] splitEnd(SnapshotSplit split) {
+        return (byte[]) split.getSplitEnd()[0];
+    }
+}
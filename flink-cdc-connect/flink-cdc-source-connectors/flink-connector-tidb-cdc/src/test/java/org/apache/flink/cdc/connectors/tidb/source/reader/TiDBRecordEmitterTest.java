@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source.reader;
+
+import org.apache.flink.api.common.eventtime.Watermark;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.connector.source.SourceOutput;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceRecords;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplitState;
+import org.apache.flink.cdc.connectors.base.source.metrics.SourceReaderMetrics;
+import org.apache.flink.cdc.connectors.tidb.source.offset.TiKVOffset;
+import org.apache.flink.cdc.connectors.tidb.source.offset.TiKVOffsetFactory;
+import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
+import org.apache.flink.util.Collector;
+
+import io.debezium.relational.TableId;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+import org.tikv.common.key.RowKey;
+import org.tikv.kvproto.Cdcpb;
+import org.tikv.shade.com.google.protobuf.ByteString;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.apache.flink.cdc.connectors.tidb.source.utils.TiKVRecordUtils.createChangeRecord;
+import static org.apache.flink.cdc.connectors.tidb.source.utils.TiKVRecordUtils.createHeartbeatRecord;
+import static org.junit.Assert.assertEquals;
+
+/** Unit tests for {@link TiDBRecordEmitter}. */
+public class TiDBRecordEmitterTest {
+
+    private static final TableId TABLE_ID = new TableId("inventory", null, "products");
+
+    @Test
+    public void testStreamSplitOffset() throws Exception {
+        TiDBRecordEmitter<String> emitter =
+                new TiDBRecordEmitter<>(
+                        new TopicDeserializationSchema(),
+                        new SourceReaderMetrics(
+                                UnregisteredMetricsGroup.createSourceReaderMetricGroup()),
+                        new TiKVOffsetFactory());
+        StreamSplitState splitState =
+                new StreamSplitState(
+                        new StreamSplit(
+                                "stream-split",
+                                new TiKVOffset(100L),
+                                TiKVOffset.NO_STOPPING_OFFSET,
+                                Collections.emptyList(),
+                                new HashMap<>(),
+                                0));
+        ListOutput output = new ListOutput();
+
+        // the two rows of a transaction committed at 110
+        emitter.emitRecord(
+                new SourceRecords(
+                        Arrays.asList(
+                                createChangeRecord(TABLE_ID, row(1L, 110L)),
+                                createChangeRecord(TABLE_ID, row(2L, 110L)))),
+                output,
+                splitState);
+
+        // a checkpoint taken within the transaction resumes the change log right before its
+        // commit, so the transaction is read again after a restore
+        assertEquals(2, output.records.size());
+        assertEquals(new TiKVOffset(109L), splitState.getStartingOffset());
+
+        // the heartbeat tells that the changes up to the resolved timestamp are emitted
+        emitter.emitRecord(
+                new SourceRecords(Collections.singletonList(createHeartbeatRecord(TABLE_ID, 120L))),
+                output,
+                splitState);
+        assertEquals(2, output.records.size());
+        assertEquals(new TiKVOffset(120L), splitState.getStartingOffset());
+    }
+
+    private static Cdcpb.Event.Row row(long handle, long commitTs) {
+        return Cdcpb.Event.Row.newBuilder()
+                .setType(Cdcpb.Event.LogType.PREWRITE)
+                .setOpType(Cdcpb.Event.Row.OpType.PUT)
+                .setStartTs(commitTs - 5)
+                .setCommitTs(commitTs)
+                .setKey(ByteString.copyFrom(RowKey.toRowKey(42L, handle).getBytes()))
+                .setValue(ByteString.copyFromUtf8("value-" + handle))
+                .build();
+    }
+
+    /** A {@link DebeziumDeserializationSchema} which emits the topics of the records. */
+    private static class TopicDeserializationSchema
+            implements DebeziumDeserializationSchema<String> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void deserialize(SourceRecord record, Collector<String> out) {
+            out.collect(record.topic());
+        }
+
+        @Override
+        public TypeInformation<String> getProducedType() {
+            return Types.STRING;
+        }
+    }
+
+    /** A {@link SourceOutput} collecting the records. */
+    private static class ListOutput implements SourceOutput<String> {
+
+        private final List<String> records = new ArrayList<>();
+
+        @Override
+        public void collect(String record) {
+            records.add(record);
+        }
+
+        @Override
+        public void collect(String record, long timestamp) {
+            records.add(record);
+        }
+
+        @Override
+        public void emitWatermark(Watermark watermark) {}
+
+        @Override
+        public void markIdle() {}
+
+        @Override
+        public void markActive() {}
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source.reader.fetch;
+
+import org.apache.flink.cdc.connectors.base.source.meta.split.FinishedSnapshotSplitInfo;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
+import org.apache.flink.cdc.connectors.base.source.reader.external.FinishedSnapshotSplitIndex;
+import org.apache.flink.cdc.connectors.tidb.TiKVRowBuffer;
+import org.apache.flink.cdc.connectors.tidb.source.assigners.TiKVRegionChunkSplitter;
+import org.apache.flink.cdc.connectors.tidb.source.dialect.TiDBDialect;
+import org.apache.flink.cdc.connectors.tidb.source.offset.TiKVOffset;
+import org.apache.flink.cdc.connectors.tidb.source.offset.TiKVOffsetFactory;
+import org.apache.flink.cdc.connectors.tidb.table.utils.TableKeyRangeUtils;
+
+import io.debezium.relational.TableId;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+import org.tikv.common.key.RowKey;
+import org.tikv.kvproto.Cdcpb;
+import org.tikv.shade.com.google.protobuf.ByteString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.flink.cdc.connectors.tidb.source.utils.TiKVRecordUtils.createChangeRecord;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link TiDBFetchTaskContext}, which tells the stream split which change records
+ * follow the snapshot splits.
+ */
+public class TiDBFetchTaskContextTest {
+
+    private static final TableId TABLE_ID = new TableId("inventory", null, "products");
+    private static final long PHYSICAL_TABLE_ID = 42L;
+
+    private final TiDBFetchTaskContext context =
+            new TiDBFetchTaskContext(
+                    new TiDBDialect(), null, TiKVRowBuffer.getDefaultSpillDirectories());
+
+    @Test
+    public void testChangeRecordsAfterHighWatermark() {
+        // two snapshot splits divided at the handle -1, read at the snapshot versions 100 and 200
+        List<SnapshotSplit> splits =
+                TiKVRegionChunkSplitter.createSplits(
+                        TABLE_ID, TableKeyRangeUtils.getTableKeyRanges(PHYSICAL_TABLE_ID, 2));
+        List<FinishedSnapshotSplitInfo> splitInfos = new ArrayList<>();
+        splitInfos.add(splitInfo(splits.get(0), 100L));
+        splitInfos.add(splitInfo(splits.get(1), 200L));
+        FinishedSnapshotSplitIndex index = new FinishedSnapshotSplitIndex(splitInfos, context);
+
+        // a change committed at the snapshot version of its split is in the snapshot already
+        assertFalse(shouldEmit(index, -2L, 100L));
+        assertTrue(shouldEmit(index, -2L, 101L));
+        assertFalse(shouldEmit(index, 1L, 101L));
+        assertFalse(shouldEmit(index, 1L, 200L));
+        assertTrue(shouldEmit(index, 1L, 201L));
+    }
+
+    @Test
+    public void testStreamOffsetIsCommitTimestamp() {
+        SourceRecord record = createChangeRecord(TABLE_ID, row(1L, 110L));
+
+        // the change is filtered by its commit timestamp, not by the offset of the record
+        assertEquals(new TiKVOffset(110L), context.getStreamOffset(record));
+        assertTrue(context.isDataChangeRecord(record));
+        assertEquals(TABLE_ID, context.getTableId(record));
+    }
+
+    private boolean shouldEmit(FinishedSnapshotSplitIndex index, long handle, long commitTs) {
+        SourceRecord record = createChangeRecord(TABLE_ID, row(handle, commitTs));
+        return index.shouldEmit(record, context.getStreamOffset(record));
+    }
+
+    private static FinishedSnapshotSplitInfo splitInfo(SnapshotSplit split, long highWatermark) {
+        return new FinishedSnapshotSplitInfo(
+                TABLE_ID,
+                split.splitId(),
+                split.getSplitStart(),
+                split.getSplitEnd(),
+                new TiKVOffset(highWatermark),
+                new TiKVOffsetFactory());
+    }
+
+    private static Cdcpb.Event.Row row(long handle, long commitTs) {
+        return Cdcpb.Event.Row.newBuilder()
+                .setType(Cdcpb.Event.LogType.PREWRITE)
+                .setOpType(Cdcpb.Event.Row.OpType.PUT)
+                .setStartTs(commitTs - 5)
+                .setCommitTs(commitTs)
+                .setKey(ByteString.copyFrom(RowKey.toRowKey(PHYSICAL_TABLE_ID, handle).getBytes()))
+                .setValue(ByteString.copyFromUtf8("value-" + handle))
+                .build();
+    }
+}
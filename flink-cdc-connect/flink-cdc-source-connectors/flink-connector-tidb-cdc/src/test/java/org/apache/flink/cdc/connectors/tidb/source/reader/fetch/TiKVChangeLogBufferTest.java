@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.source.reader.fetch;
+
+import org.apache.flink.cdc.connectors.tidb.TiKVRowBuffer;
+
+import org.junit.Test;
+import org.tikv.common.key.RowKey;
+import org.tikv.kvproto.Cdcpb;
+import org.tikv.shade.com.google.protobuf.ByteString;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/** Unit tests for {@link TiKVChangeLogBuffer}. */
+public class TiKVChangeLogBufferTest {
+
+    private static final long TABLE_ID = 42L;
+
+    @Test
+    public void testPollUpToResolvedTs() {
+        try (TiKVChangeLogBuffer buffer =
+                new TiKVChangeLogBuffer(1024 * 1024, TiKVRowBuffer.getDefaultSpillDirectories())) {
+            // two rows of a transaction committed at 110, and a row committed at 105
+            buffer.add(row(Cdcpb.Event.LogType.PREWRITE, 1L, 100L, 0L, "a"));
+            buffer.add(row(Cdcpb.Event.LogType.PREWRITE, 2L, 100L, 0L, "b"));
+            buffer.add(row(Cdcpb.Event.LogType.PREWRITE, 3L, 102L, 0L, "c"));
+            buffer.add(row(Cdcpb.Event.LogType.COMMIT, 3L, 102L, 105L, null));
+            buffer.add(row(Cdcpb.Event.LogType.COMMIT, 2L, 100L, 110L, null));
+            buffer.add(row(Cdcpb.Event.LogType.COMMIT, 1L, 100L, 110L, null));
+
+            // nothing is committed at or before the resolved ts
+            assertNull(buffer.pollCommitted(104L));
+
+            // the rows are emitted in commit order with the values of their prewrites
+            assertEquals(
+                    row(Cdcpb.Event.LogType.PREWRITE, 3L, 102L, 105L, "c"),
+                    buffer.pollCommitted(109L));
+            assertNull(buffer.pollCommitted(109L));
+            assertEquals(
+                    row(Cdcpb.Event.LogType.PREWRITE, 1L, 100L, 110L, "a"),
+                    buffer.pollCommitted(110L));
+            assertEquals(
+                    row(Cdcpb.Event.LogType.PREWRITE, 2L, 100L, 110L, "b"),
+                    buffer.pollCommitted(110L));
+            assertNull(buffer.pollCommitted(Long.MAX_VALUE));
+        }
+    }
+
+    @Test
+    public void testCommittedRowsAndRollbacks() {
+        try (TiKVChangeLogBuffer buffer =
+                new TiKVChangeLogBuffer(1024 * 1024, TiKVRowBuffer.getDefaultSpillDirectories())) {
+            // a row of a single-region transaction is received committed
+            buffer.add(row(Cdcpb.Event.LogType.COMMITTED, 1L, 100L, 101L, "a"));
+            // a rolled back prewrite is dropped, a commit without prewrite is skipped
+            buffer.add(row(Cdcpb.Event.LogType.PREWRITE, 2L, 102L, 0L, "b"));
+            buffer.add(row(Cdcpb.Event.LogType.ROLLBACK, 2L, 102L, 0L, null));
+            buffer.add(row(Cdcpb.Event.LogType.COMMIT, 3L, 103L, 104L, null));
+            // the rows of index keys are ignored
+            buffer.add(
+                    Cdcpb.Event.Row.newBuilder()
+                            .setType(Cdcpb.Event.LogType.COMMITTED)
+                            .setStartTs(100L)
+                            .setCommitTs(101L)
+                            .setKey(
+                                    ByteString.copyFrom(
+                                            new byte[] {'t', 0, 0, 0, 0, 0, 0, 0, 42, '_', 'i', 1}))
+                            .build());
+
+            assertEquals(
+                    row(Cdcpb.Event.LogType.COMMITTED, 1L, 100L, 101L, "a"),
+                    buffer.pollCommitted(200L));
+            assertNull(buffer.pollCommitted(200L));
+        }
+    }
+
+    private static Cdcpb.Event.Row row(
+            Cdcpb.Event.LogType type, long handle, long startTs, long commitTs, String value) {
+        Cdcpb.Event.Row.Builder builder =
+                Cdcpb.Event.Row.newBuilder()
+                        .setType(type)
+                        .setOpType(Cdcpb.Event.Row.OpType.PUT)
+                        .setStartTs(startTs)
+                        .setCommitTs(commitTs)
+                        .setKey(ByteString.copyFrom(RowKey.toRowKey(TABLE_ID, handle).getBytes()));
+        if (value != null) {
+            builder.setValue(ByteString.copyFromUtf8(value));
+        }
+        return builder.build();
+    }
+}
@@ -28,6 +28,8 @@ import org.apache.flink.table.utils.LegacyRowResource;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +45,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /** Integration tests for TiDB change stream event SQL source. */
+@RunWith(Parameterized.class)
 public class TiDBConnectorITCase extends TiDBTestBase {
 
     private static final Logger LOG = LoggerFactory.getLogger(TiDBConnectorITCase.class);
@@ -54,10 +57,26 @@ public class TiDBConnectorITCase extends TiDBTestBase {
 
     @ClassRule public static LegacyRowResource usesLegacyRows = LegacyRowResource.INSTANCE;
 
+    private final boolean incrementalSnapshot;
+
+    public TiDBConnectorITCase(boolean incrementalSnapshot) {
+        this.incrementalSnapshot = incrementalSnapshot;
+    }
+
+    @Parameterized.Parameters(name = "incrementalSnapshot: {0}")
+    public static Object[] parameters() {
+        return new Object[][] {new Object[] {false}, new Object[] {true}};
+    }
+
     @Before
     public void before() {
         TestValuesTableFactory.clearAllData();
-        env.setParallelism(1);
+        if (incrementalSnapshot) {
+            env.setParallelism(DEFAULT_PARALLELISM);
+            env.enableCheckpointing(200);
+        } else {
+            env.setParallelism(1);
+        }
     }
 
     @Test
@@ -76,11 +95,13 @@ public class TiDBConnectorITCase extends TiDBTestBase {
                                 + " 'tikv.grpc.timeout_in_ms' = '20000',"
                                 + " 'pd-addresses' = '%s',"
                                 + " 'database-name' = '%s',"
-                                + " 'table-name' = '%s'"
+                                + " 'table-name' = '%s',"
+                                + " 'scan.incremental.snapshot.enabled' = '%s'"
                                 + ")",
                         PD.getContainerIpAddress() + ":" + PD.getMappedPort(PD_PORT_ORIGIN),
                         "inventory",
-                        "products");
+                        "products",
+                        incrementalSnapshot);
 
         String sinkDDL =
                 "CREATE TABLE sink ("
@@ -181,11 +202,13 @@ public class TiDBConnectorITCase extends TiDBTestBase {
                                 + " 'tikv.grpc.timeout_in_ms' = '20000',"
                                 + " 'pd-addresses' = '%s',"
                                 + " 'database-name' = '%s',"
-                                + " 'table-name' = '%s'"
+                                + " 'table-name' = '%s',"
+                                + " 'scan.incremental.snapshot.enabled' = '%s'"
                                 + ")",
                         PD.getContainerIpAddress() + ":" + PD.getMappedPort(PD_PORT_ORIGIN),
                         "inventory",
-                        "products");
+                        "products",
+                        incrementalSnapshot);
 
         String sinkDDL =
                 "CREATE TABLE sink ("
@@ -260,11 +283,13 @@ public class TiDBConnectorITCase extends TiDBTestBase {
                                 + " 'tikv.grpc.timeout_in_ms' = '20000',"
                                 + " 'pd-addresses' = '%s',"
                                 + " 'database-name' = '%s',"
-                                + " 'table-name' = '%s'"
+                                + " 'table-name' = '%s',"
+                                + " 'scan.incremental.snapshot.enabled' = '%s'"
                                 + ")",
                         PD.getContainerIpAddress() + ":" + PD.getMappedPort(PD_PORT_ORIGIN),
                         "inventory",
-                        "products");
+                        "products",
+                        incrementalSnapshot);
 
         String sinkDDL =
                 "CREATE TABLE sink ("
@@ -348,11 +373,13 @@ public class TiDBConnectorITCase extends TiDBTestBase {
                                 + " 'tikv.grpc.timeout_in_ms' = '20000',"
                                 + " 'pd-addresses' = '%s',"
                                 + " 'database-name' = '%s',"
-                                + " 'table-name' = '%s'"
+                                + " 'table-name' = '%s',"
+                                + " 'scan.incremental.snapshot.enabled' = '%s'"
                                 + ")",
                         PD.getContainerIpAddress() + ":" + PD.getMappedPort(PD_PORT_ORIGIN),
                         "inventory",
-                        "products");
+                        "products",
+                        incrementalSnapshot);
 
         String sinkDDL =
                 "CREATE TABLE sink ("
@@ -458,11 +485,13 @@ public class TiDBConnectorITCase extends TiDBTestBase {
                                 + " 'tikv.grpc.timeout_in_ms' = '20000',"
                                 + " 'pd-addresses' = '%s',"
                                 + " 'database-name' = '%s',"
-                                + " 'table-name' = '%s'"
+                                + " 'table-name' = '%s',"
+                                + " 'scan.incremental.snapshot.enabled' = '%s'"
                                 + ")",
                         PD.getContainerIpAddress() + ":" + PD.getMappedPort(PD_PORT_ORIGIN),
                         "column_type_test",
-                        "full_types");
+                        "full_types",
+                        incrementalSnapshot);
 
         String sinkDDL =
                 "CREATE TABLE sink ("
@@ -571,11 +600,13 @@ public class TiDBConnectorITCase extends TiDBTestBase {
                                 + " 'tikv.grpc.timeout_in_ms' = '20000',"
                                 + " 'pd-addresses' = '%s',"
                                 + " 'database-name' = '%s',"
-                                + " 'table-name' = '%s'"
+                                + " 'table-name' = '%s',"
+                                + " 'scan.incremental.snapshot.enabled' = '%s'"
                                 + ")",
                         PD.getContainerIpAddress() + ":" + PD.getMappedPort(PD_PORT_ORIGIN),
                         "column_type_test",
-                        "full_types");
+                        "full_types",
+                        incrementalSnapshot);
 
         String sinkDDL =
                 "CREATE TABLE sink ("
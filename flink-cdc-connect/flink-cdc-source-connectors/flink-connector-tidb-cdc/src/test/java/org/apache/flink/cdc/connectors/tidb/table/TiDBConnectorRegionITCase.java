@@ -28,6 +28,8 @@ import org.apache.flink.table.utils.LegacyRowResource;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +38,7 @@ import java.sql.ResultSet;
 import java.sql.Statement;
 
 /** Integration tests for TiDB change stream event SQL source. */
+@RunWith(Parameterized.class)
 public class TiDBConnectorRegionITCase extends TiDBTestBase {
 
     private static final Logger LOG = LoggerFactory.getLogger(TiDBConnectorRegionITCase.class);
@@ -47,10 +50,26 @@ public class TiDBConnectorRegionITCase extends TiDBTestBase {
 
     @ClassRule public static LegacyRowResource usesLegacyRows = LegacyRowResource.INSTANCE;
 
+    private final boolean incrementalSnapshot;
+
+    public TiDBConnectorRegionITCase(boolean incrementalSnapshot) {
+        this.incrementalSnapshot = incrementalSnapshot;
+    }
+
+    @Parameterized.Parameters(name = "incrementalSnapshot: {0}")
+    public static Object[] parameters() {
+        return new Object[][] {new Object[] {false}, new Object[] {true}};
+    }
+
     @Before
     public void before() {
         TestValuesTableFactory.clearAllData();
-        env.setParallelism(1);
+        if (incrementalSnapshot) {
+            env.setParallelism(DEFAULT_PARALLELISM);
+            env.enableCheckpointing(200);
+        } else {
+            env.setParallelism(1);
+        }
     }
 
     @Test
@@ -67,11 +86,13 @@ public class TiDBConnectorRegionITCase extends TiDBTestBase {
                                 + " 'tikv.grpc.timeout_in_ms' = '20000',"
                                 + " 'pd-addresses' = '%s',"
                                 + " 'database-name' = '%s',"
-                                + " 'table-name' = '%s'"
+                                + " 'table-name' = '%s',"
+                                + " 'scan.incremental.snapshot.enabled' = '%s'"
                                 + ")",
                         PD.getContainerIpAddress() + ":" + PD.getMappedPort(PD_PORT_ORIGIN),
                         "region_switch_test",
-                        "t1");
+                        "t1",
+                        incrementalSnapshot);
 
         String sinkDDL =
                 "CREATE TABLE sink ("
@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.tidb.table;
+
+import org.apache.flink.api.common.restartstrategy.RestartStrategies;
+import org.apache.flink.cdc.connectors.tidb.TiDBTestBase;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.execution.JobClient;
+import org.apache.flink.runtime.checkpoint.CheckpointException;
+import org.apache.flink.runtime.jobgraph.SavepointConfigOptions;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.table.api.EnvironmentSettings;
+import org.apache.flink.table.api.bridge.java.StreamTableEnvironment;
+import org.apache.flink.table.planner.factories.TestValuesTableFactory;
+import org.apache.flink.table.utils.LegacyRowResource;
+import org.apache.flink.util.ExceptionUtils;
+
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import static org.apache.flink.cdc.connectors.tidb.table.TiDBConnectorITCase.assertEqualsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Integration tests for the incremental snapshot source of TiDB, which reads the regions of a table
+ * in parallel and then continues from their snapshot versions with the change log.
+ */
+public class TiDBIncrementalSourceITCase extends TiDBTestBase {
+
+    @ClassRule public static LegacyRowResource usesLegacyRows = LegacyRowResource.INSTANCE;
+
+    @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Before
+    public void before() {
+        TestValuesTableFactory.clearAllData();
+    }
+
+    @Test
+    public void testSnapshotToStreamHandoff() throws Exception {
+        initializeTidbTable("inventory");
+        splitTable();
+
+        StreamTableEnvironment tEnv = createTableEnvironment(null);
+        tEnv.executeSql(sourceDDL());
+        tEnv.executeSql(sinkDDL());
+        JobClient jobClient =
+                tEnv.executeSql("INSERT INTO sink SELECT * FROM tidb_source").getJobClient().get();
+
+        // the rows of all the regions are changed while the regions are being read, every change
+        // committed after the snapshot version of its region is read from the change log
+        CompletableFuture<Void> changes =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try (Connection connection = getJdbcConnection("inventory");
+                                    Statement statement = connection.createStatement()) {
+                                for (int i = 0; i < 5; i++) {
+                                    statement.execute(
+                                            "UPDATE products SET weight = weight + 1 WHERE id IN (101, 105, 109);");
+                                    statement.execute(
+                                            String.format(
+                                                    "INSERT INTO products VALUES (%d,'item-%d','new item',%d);",
+                                                    110 + i, i, i));
+                                }
+                                statement.execute("DELETE FROM products WHERE id=107;");
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        changes.get();
+
+        List<String> expected =
+                Arrays.asList(
+                        "+I(101,scooter,Small 2-wheel scooter,8.1400000000)",
+                        "+I(102,car battery,12V car battery,8.1000000000)",
+                        "+I(103,12-pack drill bits,12-pack of drill bits with sizes ranging from #40 to #3,0.8000000000)",
+                        "+I(104,hammer,12oz carpenter's hammer,0.7500000000)",
+                        "+I(105,hammer,14oz carpenter's hammer,5.8750000000)",
+                        "+I(106,hammer,16oz carpenter's hammer,1.0000000000)",
+                        "+I(108,jacket,water resistent black wind breaker,0.1000000000)",
+                        "+I(109,spare tire,24 inch spare tire,27.2000000000)",
+                        "+I(110,item-0,new item,0E-10)",
+                        "+I(111,item-1,new item,1.0000000000)",
+                        "+I(112,item-2,new item,2.0000000000)",
+                        "+I(113,item-3,new item,3.0000000000)",
+                        "+I(114,item-4,new item,4.0000000000)");
+        waitForSinkResult("sink", expected);
+
+        // a row is either read from the snapshot or inserted by the change log, but never both
+        Map<String, Long> inserts = countInsertsById(rawResults("sink"));
+        for (Map.Entry<String, Long> entry : inserts.entrySet()) {
+            assertEquals("Duplicate inserts of id " + entry.getKey(), 1L, (long) entry.getValue());
+        }
+        jobClient.cancel().get();
+    }
+
+    @Test
+    public void testRestoreFromSavepoint() throws Exception {
+        initializeTidbTable("inventory");
+        splitTable();
+        String savepointDirectory = temporaryFolder.newFolder().toURI().toString();
+
+        StreamTableEnvironment tEnv = createTableEnvironment(null);
+        tEnv.executeSql(sourceDDL());
+        tEnv.executeSql(sinkDDL());
+        JobClient jobClient =
+                tEnv.executeSql("INSERT INTO sink SELECT * FROM tidb_source").getJobClient().get();
+        waitForSinkSize("sink", 9);
+
+        try (Connection connection = getJdbcConnection("inventory");
+                Statement statement = connection.createStatement()) {
+            // a transaction which changes the rows of two regions
+            connection.setAutoCommit(false);
+            statement.execute(
+                    "UPDATE products SET description='18oz carpenter hammer' WHERE id=106;");
+            statement.execute(
+                    "INSERT INTO products VALUES (110,'jacket','water resistent white wind breaker',0.2);");
+            connection.commit();
+        }
+        waitForSinkSize("sink", 11);
+
+        String savepointPath = triggerSavepointWithRetry(jobClient, savepointDirectory);
+        jobClient.cancel().get();
+        int rawSizeBeforeRestore = rawResults("sink").size();
+
+        // the changes committed while the job is stopped, in two regions and in one transaction
+        try (Connection connection = getJdbcConnection("inventory");
+                Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            statement.execute("UPDATE products SET weight='5.1' WHERE id=107;");
+            statement.execute("UPDATE products SET weight='0.5' WHERE id=110;");
+            statement.execute("DELETE FROM products WHERE id=101;");
+            connection.commit();
+        }
+
+        tEnv = createTableEnvironment(savepointPath);
+        tEnv.executeSql(sourceDDL());
+        tEnv.executeSql(sinkDDL());
+        jobClient =
+                tEnv.executeSql("INSERT INTO sink SELECT * FROM tidb_source").getJobClient().get();
+
+        List<String> expected =
+                Arrays.asList(
+                        "+I(102,car battery,12V car battery,8.1000000000)",
+                        "+I(103,12-pack drill bits,12-pack of drill bits with sizes ranging from #40 to #3,0.8000000000)",
+                        "+I(104,hammer,12oz carpenter's hammer,0.7500000000)",
+                        "+I(105,hammer,14oz carpenter's hammer,0.8750000000)",
+                        "+I(106,hammer,18oz carpenter hammer,1.0000000000)",
+                        "+I(107,rocks,box of assorted rocks,5.1000000000)",
+                        "+I(108,jacket,water resistent black wind breaker,0.1000000000)",
+                        "+I(109,spare tire,24 inch spare tire,22.2000000000)",
+                        "+I(110,jacket,water resistent white wind breaker,0.5000000000)");
+        waitForSinkResult("sink", expected);
+
+        // the restored job continues with the change log, the snapshot is not read again
+        List<String> restoredResults = rawResults("sink");
+        List<String> newResults =
+                restoredResults.subList(rawSizeBeforeRestore, restoredResults.size());
+        assertFalse(newResults.isEmpty());
+        for (String result : newResults) {
+            assertFalse("Snapshot read again: " + result, result.startsWith("+I"));
+        }
+        assertTrue(newResults.contains("-D(101,scooter,Small 2-wheel scooter,3.1400000000)"));
+        jobClient.cancel().get();
+    }
+
+    /** Splits the table into several regions, so that it is read by several snapshot splits. */
+    private void splitTable() throws Exception {
+        try (Connection connection = getJdbcConnection("inventory");
+                Statement statement = connection.createStatement()) {
+            statement.execute("SPLIT TABLE products BETWEEN (100) AND (116) REGIONS 4;");
+        }
+    }
+
+    private String sourceDDL() {
+        return String.format(
+                "CREATE TABLE tidb_source ("
+                        + " `id` INT NOT NULL,"
+                        + " name STRING,"
+                        + " description STRING,"
+                        + " weight DECIMAL(20, 10),"
+                        + " PRIMARY KEY (`id`) NOT ENFORCED"
+                        + ") WITH ("
+                        + " 'connector' = 'tidb-cdc',"
+                        + " 'tikv.grpc.timeout_in_ms' = '20000',"
+                        + " 'pd-addresses' = '%s',"
+                        + " 'database-name' = '%s',"
+                        + " 'table-name' = '%s',"
+                        + " 'scan.incremental.snapshot.enabled' = 'true'"
+                        + ")",
+                PD.getContainerIpAddress() + ":" + PD.getMappedPort(PD_PORT_ORIGIN),
+                "inventory",
+                "products");
+    }
+
+    private static String sinkDDL() {
+        return "CREATE TABLE sink ("
+                + " `id` INT NOT NULL,"
+                + " name STRING,"
+                + " description STRING,"
+                + " weight DECIMAL(20, 10),"
+                + " PRIMARY KEY (`id`) NOT ENFORCED"
+                + ") WITH ("
+                + " 'connector' = 'values',"
+                + " 'sink-insert-only' = 'false'"
+                + ")";
+    }
+
+    private static StreamTableEnvironment createTableEnvironment(String savepointPath)
+            throws Exception {
+        StreamExecutionEnvironment env = StreamExecutionEnvironment.getExecutionEnvironment();
+        if (savepointPath != null) {
+            // restore from savepoint
+            // hack for test to visit protected TestStreamEnvironment#getConfiguration() method
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            Class<?> clazz =
+                    classLoader.loadClass(
+                            "org.apache.flink.streaming.api.environment.StreamExecutionEnvironment");
+            Field field = clazz.getDeclaredField("configuration");
+            field.setAccessible(true);
+            Configuration configuration = (Configuration) field.get(env);
+            configuration.setString(SavepointConfigOptions.SAVEPOINT_PATH, savepointPath);
+        }
+        env.setParallelism(DEFAULT_PARALLELISM);
+        env.enableCheckpointing(200L);
+        env.setRestartStrategy(RestartStrategies.noRestart());
+        return StreamTableEnvironment.create(
+                env, EnvironmentSettings.newInstance().inStreamingMode().build());
+    }
+
+    private static String triggerSavepointWithRetry(JobClient jobClient, String savepointDirectory)
+            throws ExecutionException, InterruptedException {
+        int retryTimes = 0;
+        // retry 600 times, it takes 100 milliseconds per time, at most retry 1 minute
+        while (retryTimes < 600) {
+            try {
+                return jobClient.triggerSavepoint(savepointDirectory).get();
+            } catch (Exception e) {
+                Optional<CheckpointException> exception =
+                        ExceptionUtils.findThrowable(e, CheckpointException.class);
+                if (exception.isPresent()
+                        && exception.get().getMessage().contains("Checkpoint triggering task")) {
+                    Thread.sleep(100);
+                    retryTimes++;
+                } else {
+                    throw e;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, Long> countInsertsById(List<String> rawResults) {
+        Map<String, Long> inserts = new HashMap<>();
+        for (String result : rawResults) {
+            if (result.startsWith("+I(")) {
+                inserts.merge(result.substring(3, result.indexOf(',')), 1L, Long::sum);
+            }
+        }
+        return inserts;
+    }
+
+    private static void waitForSinkResult(String sinkName, List<String> expected)
+            throws InterruptedException {
+        List<String> sortedExpected = expected.stream().sorted().collect(Collectors.toList());
+        while (!sortedExpected.equals(
+                results(sinkName).stream().sorted().collect(Collectors.toList()))) {
+            Thread.sleep(100);
+        }
+        assertEqualsInAnyOrder(expected, results(sinkName));
+    }
+
+    private static void waitForSinkSize(String sinkName, int expectedSize)
+            throws InterruptedException {
+        while (rawResults(sinkName).size() < expectedSize) {
+            Thread.sleep(100);
+        }
+    }
+
+    private static List<String> results(String sinkName) {
+        synchronized (TestValuesTableFactory.class) {
+            try {
+                return TestValuesTableFactory.getResultsAsStrings(sinkName);
+            } catch (IllegalArgumentException e) {
+                // job is not started yet
+                return new ArrayList<>();
+            }
+        }
+    }
+
+    private static List<String> rawResults(String sinkName) {
+        synchronized (TestValuesTableFactory.class) {
+            try {
+                return TestValuesTableFactory.getRawResultsAsStrings(sinkName);
+            } catch (IllegalArgumentException e) {
+                // job is not started yet
+                return new ArrayList<>();
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.tidb.table;
 
 import org.apache.flink.configuration.Configuration;
+import org.apache.flink.configuration.MemorySize;
 import org.apache.flink.table.api.DataTypes;
 import org.apache.flink.table.api.Schema;
 import org.apache.flink.table.catalog.CatalogTable;
@@ -37,6 +38,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.apache.flink.cdc.connectors.tidb.TDBSourceOptions.SCAN_INCREMENTAL_BUFFER_MEMORY_SIZE;
 import static org.junit.Assert.assertEquals;
 
 /** Unit tests for TiDB table source factory. */
@@ -88,6 +90,8 @@ public class TiDBTableSourceFactoryTest {
                         PD_ADDRESS,
                         HOST_MAPPING,
                         StartupOptions.latest(),
+                        SCAN_INCREMENTAL_BUFFER_MEMORY_SIZE.defaultValue(),
+                        false,
                         OPTIONS);
         assertEquals(expectedSource, actualSource);
     }
@@ -96,6 +100,8 @@ public class TiDBTableSourceFactoryTest {
     public void testOptionalProperties() {
         Map<String, String> properties = getAllOptions();
         properties.put("host-mapping", "host1:1;host2:2;host3:3");
+        properties.put("scan.incremental.buffer.memory-size", "16mb");
+        properties.put("scan.incremental.snapshot.enabled", "true");
         properties.put("tikv.grpc.timeout_in_ms", "20000");
         properties.put("tikv.grpc.scan_timeout_in_ms", "20000");
         properties.put("tikv.batch_get_concurrency", "4");
@@ -120,6 +126,8 @@ public class TiDBTableSourceFactoryTest {
                         PD_ADDRESS,
                         HOST_MAPPING,
                         StartupOptions.latest(),
+                        MemorySize.parse("16mb"),
+                        true,
                         options);
         assertEquals(expectedSource, actualSource);
     }
@@ -21,7 +21,10 @@ import org.apache.flink.cdc.common.data.DecimalData;
 import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
 import org.apache.flink.cdc.common.data.TimestampData;
 import org.apache.flink.cdc.common.data.ZonedTimestampData;
+import org.apache.flink.cdc.common.data.binary.BinarySegmentUtils;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
 import org.apache.flink.cdc.common.utils.DateTimeUtils;
+import org.apache.flink.cdc.common.utils.ThreadLocalCache;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +32,7 @@ import org.slf4j.LoggerFactory;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
@@ -51,6 +55,25 @@ public class SystemFunctionUtils {
 
     private static final Logger LOG = LoggerFactory.getLogger(SystemFunctionUtils.class);
 
+    /**
+     * The patterns, formats and time zones of the functions are literals of the transform rules in
+     * most cases, so they are compiled once per thread rather than for every record.
+     */
+    private static final ThreadLocalCache<String, Pattern> PATTERN_CACHE =
+            ThreadLocalCache.of(Pattern::compile);
+
+    /** SimpleDateFormat is not thread-safe, so the formats are cached per thread. */
+    private static final ThreadLocalCache<String, SimpleDateFormat> FORMATTER_CACHE =
+            ThreadLocalCache.of(SimpleDateFormat::new);
+
+    private static final ThreadLocalCache<String, TimeZone> TIME_ZONE_CACHE =
+            ThreadLocalCache.of(TimeZone::getTimeZone);
+
+    private static final ThreadLocalCache<String, ZoneId> ZONE_ID_CACHE =
+            ThreadLocalCache.of(ZoneId::of);
+
+    private static final byte[] NULL_UTF8_BYTES = "null".getBytes(StandardCharsets.UTF_8);
+
     public static LocalZonedTimestampData currentTimestamp(long epochTime) {
         return LocalZonedTimestampData.fromEpochMillis(epochTime);
     }
@@ -62,7 +85,9 @@ public class SystemFunctionUtils {
 
     public static TimestampData localtimestamp(long epochTime, String timezone) {
         return TimestampData.fromLocalDateTime(
-                Instant.ofEpochMilli(epochTime).atZone(ZoneId.of(timezone)).toLocalDateTime());
+                Instant.ofEpochMilli(epochTime)
+                        .atZone(ZONE_ID_CACHE.get(timezone))
+                        .toLocalDateTime());
     }
 
     public static int localtime(long epochTime, String timezone) {
@@ -80,11 +105,11 @@ public class SystemFunctionUtils {
     }
 
     public static String fromUnixtime(long seconds, String timezone) {
-        return DateTimeUtils.formatUnixTimestamp(seconds, TimeZone.getTimeZone(timezone));
+        return DateTimeUtils.formatUnixTimestamp(seconds, TIME_ZONE_CACHE.get(timezone));
     }
 
     public static String fromUnixtime(long seconds, String format, String timezone) {
-        return DateTimeUtils.formatUnixTimestamp(seconds, format, TimeZone.getTimeZone(timezone));
+        return DateTimeUtils.formatUnixTimestamp(seconds, format, TIME_ZONE_CACHE.get(timezone));
     }
 
     public static long unixTimestamp(long epochTime, String timezone) {
@@ -92,17 +117,17 @@ public class SystemFunctionUtils {
     }
 
     public static long unixTimestamp(String dateTimeStr, long epochTime, String timezone) {
-        return DateTimeUtils.unixTimestamp(dateTimeStr, TimeZone.getTimeZone(timezone));
+        return DateTimeUtils.unixTimestamp(dateTimeStr, TIME_ZONE_CACHE.get(timezone));
     }
 
     public static long unixTimestamp(
             String dateTimeStr, String format, long epochTime, String timezone) {
-        return DateTimeUtils.unixTimestamp(dateTimeStr, format, TimeZone.getTimeZone(timezone));
+        return DateTimeUtils.unixTimestamp(dateTimeStr, format, TIME_ZONE_CACHE.get(timezone));
     }
 
     public static String dateFormat(TimestampData timestamp, String format) {
         return DateTimeUtils.formatTimestampMillis(
-                timestamp.getMillisecond(), format, TimeZone.getTimeZone("UTC"));
+                timestamp.getMillisecond(), format, TIME_ZONE_CACHE.get("UTC"));
     }
 
     public static int toDate(String str, String timezone) {
@@ -118,8 +143,8 @@ public class SystemFunctionUtils {
     }
 
     public static TimestampData toTimestamp(String str, String format, String timezone) {
-        SimpleDateFormat dateFormat = new SimpleDateFormat(format);
-        dateFormat.setTimeZone(TimeZone.getTimeZone(timezone));
+        SimpleDateFormat dateFormat = FORMATTER_CACHE.get(format);
+        dateFormat.setTimeZone(TIME_ZONE_CACHE.get(timezone));
         try {
             return TimestampData.fromMillis(dateFormat.parse(str).getTime());
         } catch (ParseException e) {
@@ -407,10 +432,37 @@ public class SystemFunctionUtils {
         return !in(value, values);
     }
 
+    public static boolean in(BinaryStringData value, String... values) {
+        for (String item : values) {
+            if (item != null && equalsString(value, item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean notIn(BinaryStringData value, String... values) {
+        return !in(value, values);
+    }
+
     public static int charLength(String str) {
         return str.length();
     }
 
+    /** Returns the number of UTF-16 chars of a binary string, like {@link String#length()}. */
+    public static int charLength(BinaryStringData str) {
+        int length = 0;
+        int sizeInBytes = str.getSizeInBytes();
+        for (int i = 0; i < sizeInBytes; i++) {
+            byte b = str.byteAt(i);
+            if ((b & 0xC0) != 0x80) {
+                // The code points of four bytes are encoded as surrogate pairs in UTF-16
+                length += (b & 0xF8) == 0xF0 ? 2 : 1;
+            }
+        }
+        return length;
+    }
+
     public static String trim(String symbol, String target, String str) {
         return str.trim();
     }
@@ -424,7 +476,10 @@ public class SystemFunctionUtils {
             return null;
         }
         try {
-            return str.replaceAll(regex, Matcher.quoteReplacement(replacement));
+            return PATTERN_CACHE
+                    .get(regex)
+                    .matcher(str)
+                    .replaceAll(Matcher.quoteReplacement(replacement));
         } catch (Exception e) {
             LOG.error(
                     String.format(
@@ -440,8 +495,29 @@ public class SystemFunctionUtils {
         return String.join("", str);
     }
 
+    public static BinaryStringData concat(BinaryStringData... str) {
+        int sizeInBytes = 0;
+        for (BinaryStringData item : str) {
+            sizeInBytes += item == null ? NULL_UTF8_BYTES.length : item.getSizeInBytes();
+        }
+        byte[] bytes = new byte[sizeInBytes];
+        int offset = 0;
+        for (BinaryStringData item : str) {
+            if (item == null) {
+                // Keep the behavior of String#join
+                System.arraycopy(NULL_UTF8_BYTES, 0, bytes, offset, NULL_UTF8_BYTES.length);
+                offset += NULL_UTF8_BYTES.length;
+            } else {
+                BinarySegmentUtils.copyToBytes(
+                        item.getSegments(), item.getOffset(), bytes, offset, item.getSizeInBytes());
+                offset += item.getSizeInBytes();
+            }
+        }
+        return BinaryStringData.fromBytes(bytes);
+    }
+
     public static boolean like(String str, String regex) {
-        return Pattern.compile(regex).matcher(str).find();
+        return PATTERN_CACHE.get(regex).matcher(str).find();
     }
 
     public static boolean notLike(String str, String regex) {
@@ -509,14 +585,58 @@ public class SystemFunctionUtils {
         return str.substring(startPos, endPos);
     }
 
+    public static BinaryStringData substr(BinaryStringData str, int beginIndex) {
+        return substring(str, beginIndex);
+    }
+
+    public static BinaryStringData substr(BinaryStringData str, int beginIndex, int length) {
+        return substring(str, beginIndex, length);
+    }
+
+    public static BinaryStringData substring(BinaryStringData str, int beginIndex) {
+        return substring(str, beginIndex, Integer.MAX_VALUE);
+    }
+
+    /**
+     * The binary string version of {@link #substring(String, int, int)}. The indices of ASCII
+     * strings are byte offsets, the other strings are substringed as decoded strings.
+     */
+    public static BinaryStringData substring(BinaryStringData str, int beginIndex, int length) {
+        if (length < 0 || !isAscii(str)) {
+            return BinaryStringData.fromString(substring(str.toString(), beginIndex, length));
+        }
+        int sizeInBytes = str.getSizeInBytes();
+        int startPos;
+        if (beginIndex > 0) {
+            startPos = beginIndex - 1;
+        } else if (beginIndex < 0) {
+            startPos = sizeInBytes + beginIndex;
+        } else {
+            startPos = 0;
+        }
+        if (startPos < 0 || startPos >= sizeInBytes) {
+            return BinaryStringData.EMPTY_UTF8;
+        }
+        int endPos = sizeInBytes - startPos < length ? sizeInBytes : startPos + length;
+        return str.substring(startPos, endPos);
+    }
+
     public static String upper(String str) {
         return str.toUpperCase();
     }
 
+    public static BinaryStringData upper(BinaryStringData str) {
+        return str.toUpperCase();
+    }
+
     public static String lower(String str) {
         return str.toLowerCase();
     }
 
+    public static BinaryStringData lower(BinaryStringData str) {
+        return str.toLowerCase();
+    }
+
     /** SQL <code>ABS</code> operator applied to byte values. */
     public static Byte abs(Byte value) {
         if (value == null) {
@@ -737,6 +857,11 @@ public class SystemFunctionUtils {
     }
 
     public static boolean valueEquals(Object object1, Object object2) {
+        if (object1 instanceof BinaryStringData && object2 instanceof String) {
+            return equalsString((BinaryStringData) object1, (String) object2);
+        } else if (object1 instanceof String && object2 instanceof BinaryStringData) {
+            return equalsString((BinaryStringData) object2, (String) object1);
+        }
         return (object1 != null && object2 != null) && object1.equals(object2);
     }
 
@@ -1020,11 +1145,13 @@ public class SystemFunctionUtils {
         if (object instanceof LocalZonedTimestampData) {
             return TimestampData.fromLocalDateTime(
                     LocalDateTime.ofInstant(
-                            ((LocalZonedTimestampData) object).toInstant(), ZoneId.of(timezone)));
+                            ((LocalZonedTimestampData) object).toInstant(),
+                            ZONE_ID_CACHE.get(timezone)));
         } else if (object instanceof ZonedTimestampData) {
             return TimestampData.fromLocalDateTime(
                     LocalDateTime.ofInstant(
-                            ((ZonedTimestampData) object).toInstant(), ZoneId.of(timezone)));
+                            ((ZonedTimestampData) object).toInstant(),
+                            ZONE_ID_CACHE.get(timezone)));
         } else {
             return TimestampData.fromLocalDateTime(
                     LocalDateTime.parse(castObjectIntoString(object)));
@@ -1039,6 +1166,15 @@ public class SystemFunctionUtils {
     }
 
     private static int universalCompares(Object lhs, Object rhs) {
+        if (lhs instanceof BinaryStringData || rhs instanceof BinaryStringData) {
+            if (lhs instanceof String) {
+                return -compareString((BinaryStringData) rhs, (String) lhs);
+            } else if (rhs instanceof String) {
+                return compareString((BinaryStringData) lhs, (String) rhs);
+            } else if (lhs instanceof BinaryStringData && rhs instanceof BinaryStringData) {
+                return compareBinaryStrings((BinaryStringData) lhs, (BinaryStringData) rhs);
+            }
+        }
         Class<?> leftClass = lhs.getClass();
         Class<?> rightClass = rhs.getClass();
         if (leftClass.equals(rightClass) && lhs instanceof Comparable) {
@@ -1081,4 +1217,78 @@ public class SystemFunctionUtils {
         }
         return universalCompares(lhs, rhs) <= 0;
     }
+
+    // --------------------------------------------------------------------------------------------
+    // Binary strings
+    // --------------------------------------------------------------------------------------------
+
+    private static boolean isAscii(BinaryStringData str) {
+        int sizeInBytes = str.getSizeInBytes();
+        for (int i = 0; i < sizeInBytes; i++) {
+            if (str.byteAt(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns whether a binary string equals a string, without decoding ASCII strings. */
+    private static boolean equalsString(BinaryStringData binaryString, String string) {
+        int length = string.length();
+        for (int i = 0; i < length; i++) {
+            if (string.charAt(i) >= 0x80) {
+                return binaryString.toString().equals(string);
+            }
+        }
+        if (binaryString.getSizeInBytes() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (binaryString.byteAt(i) != string.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares a binary string with a string in the order of {@link String#compareTo}, without
+     * decoding ASCII strings.
+     */
+    private static int compareString(BinaryStringData binaryString, String string) {
+        int sizeInBytes = binaryString.getSizeInBytes();
+        int length = Math.min(sizeInBytes, string.length());
+        for (int i = 0; i < length; i++) {
+            byte b = binaryString.byteAt(i);
+            char c = string.charAt(i);
+            if (b < 0 || c >= 0x80) {
+                return binaryString.toString().compareTo(string);
+            }
+            if (b != c) {
+                return b - c;
+            }
+        }
+        return Integer.compare(sizeInBytes, string.length());
+    }
+
+    /**
+     * Compares two binary strings in the order of {@link String#compareTo}, which differs from the
+     * order of UTF-8 bytes for supplementary characters, without decoding ASCII strings.
+     */
+    private static int compareBinaryStrings(BinaryStringData lhs, BinaryStringData rhs) {
+        int lhsSizeInBytes = lhs.getSizeInBytes();
+        int rhsSizeInBytes = rhs.getSizeInBytes();
+        int length = Math.min(lhsSizeInBytes, rhsSizeInBytes);
+        for (int i = 0; i < length; i++) {
+            byte lhsByte = lhs.byteAt(i);
+            byte rhsByte = rhs.byteAt(i);
+            if (lhsByte < 0 || rhsByte < 0) {
+                return lhs.toString().compareTo(rhs.toString());
+            }
+            if (lhsByte != rhsByte) {
+                return lhsByte - rhsByte;
+            }
+        }
+        return Integer.compare(lhsSizeInBytes, rhsSizeInBytes);
+    }
 }
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.schema.common;
+
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.utils.SchemaMergingUtils;
+import org.apache.flink.cdc.runtime.serializer.InternalSerializers;
+import org.apache.flink.cdc.runtime.serializer.data.writer.BinaryRecordDataWriter;
+import org.apache.flink.cdc.runtime.serializer.data.writer.BinaryWriter;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Coerces the records of an upstream schema into an evolved schema. The coercion of every evolved
+ * column is planned once per pair of schemas: the fixed-length columns of unchanged types are
+ * copied with primitive accessors, the other columns of unchanged types are copied as they are, and
+ * only the columns whose types have changed are converted.
+ *
+ * <p>Note: It does not hold any reference to the schemas, as it is cached by schema identity.
+ */
+class DataRecordCoercer {
+
+    private static final int NULL = 0;
+    private static final int COPY = 1;
+    private static final int CONVERT = 2;
+    private static final int COPY_BOOLEAN = 3;
+    private static final int COPY_BYTE = 4;
+    private static final int COPY_SHORT = 5;
+    private static final int COPY_INT = 6;
+    private static final int COPY_LONG = 7;
+    private static final int COPY_FLOAT = 8;
+    private static final int COPY_DOUBLE = 9;
+
+    private final boolean identical;
+    private final int[] kinds;
+    private final int[] upstreamPositions;
+    private final RecordData.FieldGetter[] upstreamFieldGetters;
+    private final DataType[] upstreamTypes;
+    private final DataType[] evolvedTypes;
+    private final TypeSerializer[] evolvedSerializers;
+
+    private final BinaryRecordData reuseRecordData;
+    private final BinaryRecordDataWriter reuseWriter;
+
+    DataRecordCoercer(Schema upstreamSchema, Schema evolvedSchema) {
+        this.identical = upstreamSchema.equals(evolvedSchema);
+        List<Column> evolvedColumns = evolvedSchema.getColumns();
+        int columnCount = evolvedColumns.size();
+        this.kinds = new int[columnCount];
+        this.upstreamPositions = new int[columnCount];
+        this.upstreamFieldGetters = new RecordData.FieldGetter[columnCount];
+        this.upstreamTypes = new DataType[columnCount];
+        this.evolvedTypes = new DataType[columnCount];
+        this.evolvedSerializers = new TypeSerializer[columnCount];
+
+        List<String> upstreamColumnNames = upstreamSchema.getColumnNames();
+        for (int i = 0; i < columnCount; i++) {
+            Column evolvedColumn = evolvedColumns.get(i);
+            evolvedTypes[i] = evolvedColumn.getType();
+            evolvedSerializers[i] = InternalSerializers.create(evolvedTypes[i]);
+            int upstreamPosition = upstreamColumnNames.indexOf(evolvedColumn.getName());
+            upstreamPositions[i] = upstreamPosition;
+            if (upstreamPosition == -1) {
+                kinds[i] = NULL;
+                continue;
+            }
+            upstreamTypes[i] = upstreamSchema.getColumns().get(upstreamPosition).getType();
+            upstreamFieldGetters[i] =
+                    RecordData.createFieldGetter(upstreamTypes[i], upstreamPosition);
+            kinds[i] =
+                    Objects.equals(upstreamTypes[i], evolvedTypes[i])
+                            ? copyKindOf(evolvedTypes[i])
+                            : CONVERT;
+        }
+
+        this.reuseRecordData = new BinaryRecordData(columnCount);
+        this.reuseWriter = new BinaryRecordDataWriter(reuseRecordData);
+    }
+
+    /** Returns whether the records are kept unchanged, as both schemas are equal. */
+    boolean isIdentical() {
+        return identical;
+    }
+
+    /** Coerces a record of the upstream schema into a record of the evolved schema. */
+    BinaryRecordData coerce(String timezone, RecordData record) {
+        reuseWriter.reset();
+        for (int i = 0; i < kinds.length; i++) {
+            int kind = kinds[i];
+            int upstreamPosition = upstreamPositions[i];
+            if (kind == NULL || record.isNullAt(upstreamPosition)) {
+                reuseWriter.setNullAt(i);
+                continue;
+            }
+            switch (kind) {
+                case COPY_BOOLEAN:
+                    reuseWriter.writeBoolean(i, record.getBoolean(upstreamPosition));
+                    break;
+                case COPY_BYTE:
+                    reuseWriter.writeByte(i, record.getByte(upstreamPosition));
+                    break;
+                case COPY_SHORT:
+                    reuseWriter.writeShort(i, record.getShort(upstreamPosition));
+                    break;
+                case COPY_INT:
+                    reuseWriter.writeInt(i, record.getInt(upstreamPosition));
+                    break;
+                case COPY_LONG:
+                    reuseWriter.writeLong(i, record.getLong(upstreamPosition));
+                    break;
+                case COPY_FLOAT:
+                    reuseWriter.writeFloat(i, record.getFloat(upstreamPosition));
+                    break;
+                case COPY_DOUBLE:
+                    reuseWriter.writeDouble(i, record.getDouble(upstreamPosition));
+                    break;
+                case COPY:
+                    write(i, upstreamFieldGetters[i].getFieldOrNull(record));
+                    break;
+                default:
+                    write(i, convert(timezone, record, i));
+            }
+        }
+        reuseWriter.complete();
+        return reuseRecordData.copy();
+    }
+
+    private Object convert(String timezone, RecordData record, int pos) {
+        try {
+            return SchemaMergingUtils.coerceObject(
+                    timezone,
+                    upstreamFieldGetters[pos].getFieldOrNull(record),
+                    upstreamTypes[pos],
+                    evolvedTypes[pos]);
+        } catch (IllegalArgumentException e) {
+            // Keep the tolerance mode of SchemaMergingUtils#coerceRow
+            return null;
+        }
+    }
+
+    private void write(int pos, Object field) {
+        if (field == null) {
+            reuseWriter.setNullAt(pos);
+        } else {
+            BinaryWriter.write(reuseWriter, pos, field, evolvedTypes[pos], evolvedSerializers[pos]);
+        }
+    }
+
+    private static int copyKindOf(DataType type) {
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+                return COPY_BOOLEAN;
+            case TINYINT:
+                return COPY_BYTE;
+            case SMALLINT:
+                return COPY_SHORT;
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                return COPY_INT;
+            case BIGINT:
+                return COPY_LONG;
+            case FLOAT:
+                return COPY_FLOAT;
+            case DOUBLE:
+                return COPY_DOUBLE;
+            default:
+                return COPY;
+        }
+    }
+}
@@ -17,7 +17,6 @@
 
 package org.apache.flink.cdc.runtime.operators.schema.common;
 
-import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.event.AddColumnEvent;
 import org.apache.flink.cdc.common.event.AlterColumnTypeEvent;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
@@ -32,10 +31,8 @@ import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.sink.MetadataApplier;
 import org.apache.flink.cdc.common.types.DataType;
-import org.apache.flink.cdc.common.utils.SchemaMergingUtils;
-import org.apache.flink.cdc.common.utils.SchemaUtils;
-import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
 
+import org.apache.flink.shaded.guava31.com.google.common.cache.Cache;
 import org.apache.flink.shaded.guava31.com.google.common.cache.CacheBuilder;
 import org.apache.flink.shaded.guava31.com.google.common.cache.CacheLoader;
 import org.apache.flink.shaded.guava31.com.google.common.cache.LoadingCache;
@@ -47,13 +44,13 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -62,34 +59,28 @@ public class SchemaDerivator {
 
     private static final Logger LOG = LoggerFactory.getLogger(SchemaDerivator.class);
 
-    private static final Duration CACHE_EXPIRE_DURATION = Duration.ofDays(1);
-    private final LoadingCache<Schema, List<RecordData.FieldGetter>> upstreamRecordGetterCache;
-    private final LoadingCache<Schema, BinaryRecordDataGenerator> evolvedRecordWriterCache;
+    /**
+     * The coercers of the upstream and evolved schemas. The schemas are immutable and replaced on
+     * every schema change, so they are compared by identity instead of deep equality, and the
+     * entries are released once the schemas have been replaced.
+     */
+    private final LoadingCache<Schema, Cache<Schema, DataRecordCoercer>> coercerCache;
 
-    public SchemaDerivator() {
-        upstreamRecordGetterCache =
-                CacheBuilder.newBuilder()
-                        .expireAfterAccess(CACHE_EXPIRE_DURATION)
-                        .build(
-                                new CacheLoader<Schema, List<RecordData.FieldGetter>>() {
-                                    @Override
-                                    public @Nonnull List<RecordData.FieldGetter> load(
-                                            @Nonnull Schema schema) {
-                                        return SchemaUtils.createFieldGetters(schema);
-                                    }
-                                });
+    // The coercer of the last coerced pair of schemas, as consecutive records mostly share them
+    @Nullable private Schema lastUpstreamSchema;
+    @Nullable private Schema lastEvolvedSchema;
+    @Nullable private DataRecordCoercer lastCoercer;
 
-        evolvedRecordWriterCache =
+    public SchemaDerivator() {
+        coercerCache =
                 CacheBuilder.newBuilder()
-                        .expireAfterAccess(CACHE_EXPIRE_DURATION)
+                        .weakKeys()
                         .build(
-                                new CacheLoader<Schema, BinaryRecordDataGenerator>() {
+                                new CacheLoader<Schema, Cache<Schema, DataRecordCoercer>>() {
                                     @Override
-                                    public @Nonnull BinaryRecordDataGenerator load(
-                                            @Nonnull Schema schema) {
-                                        return new BinaryRecordDataGenerator(
-                                                schema.getColumnDataTypes()
-                                                        .toArray(new DataType[0]));
+                                    public @Nonnull Cache<Schema, DataRecordCoercer> load(
+                                            @Nonnull Schema upstreamSchema) {
+                                        return CacheBuilder.newBuilder().weakKeys().build();
                                     }
                                 });
     }
@@ -304,41 +295,47 @@ public class SchemaDerivator {
             return Optional.empty();
         }
 
-        if (upstreamSchema.equals(evolvedSchema)) {
+        DataRecordCoercer coercer = getCoercer(upstreamSchema, evolvedSchema);
+        if (coercer.isIdentical()) {
             // If there's no schema difference, just return the original event.
             return Optional.of(dataChangeEvent);
         }
 
-        List<RecordData.FieldGetter> upstreamSchemaReader =
-                upstreamRecordGetterCache.getUnchecked(upstreamSchema);
-        BinaryRecordDataGenerator evolvedSchemaWriter =
-                evolvedRecordWriterCache.getUnchecked(evolvedSchema);
-
         // Coerce binary data records
         if (dataChangeEvent.before() != null) {
-            List<Object> upstreamFields =
-                    SchemaUtils.restoreOriginalData(dataChangeEvent.before(), upstreamSchemaReader);
-            Object[] coercedRow =
-                    SchemaMergingUtils.coerceRow(
-                            timezone, evolvedSchema, upstreamSchema, upstreamFields);
-
             dataChangeEvent =
                     DataChangeEvent.projectBefore(
-                            dataChangeEvent, evolvedSchemaWriter.generate(coercedRow));
+                            dataChangeEvent, coercer.coerce(timezone, dataChangeEvent.before()));
         }
 
         if (dataChangeEvent.after() != null) {
-            List<Object> upstreamFields =
-                    SchemaUtils.restoreOriginalData(dataChangeEvent.after(), upstreamSchemaReader);
-            Object[] coercedRow =
-                    SchemaMergingUtils.coerceRow(
-                            timezone, evolvedSchema, upstreamSchema, upstreamFields);
-
             dataChangeEvent =
                     DataChangeEvent.projectAfter(
-                            dataChangeEvent, evolvedSchemaWriter.generate(coercedRow));
+                            dataChangeEvent, coercer.coerce(timezone, dataChangeEvent.after()));
         }
 
         return Optional.of(dataChangeEvent);
     }
+
+    private DataRecordCoercer getCoercer(Schema upstreamSchema, Schema evolvedSchema) {
+        if (upstreamSchema != lastUpstreamSchema || evolvedSchema != lastEvolvedSchema) {
+            try {
+                lastCoercer =
+                        coercerCache
+                                .getUnchecked(upstreamSchema)
+                                .get(
+                                        evolvedSchema,
+                                        () -> new DataRecordCoercer(upstreamSchema, evolvedSchema));
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(
+                        String.format(
+                                "Unable to coerce data records from schema %s to %s",
+                                upstreamSchema, evolvedSchema),
+                        e.getCause());
+            }
+            lastUpstreamSchema = upstreamSchema;
+            lastEvolvedSchema = evolvedSchema;
+        }
+        return lastCoercer;
+    }
 }
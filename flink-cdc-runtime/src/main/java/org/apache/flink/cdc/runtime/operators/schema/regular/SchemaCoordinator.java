@@ -75,6 +75,12 @@ public class SchemaCoordinator extends SchemaRegistry {
     /** Executor service to execute schema change. */
     private final ExecutorService schemaChangeThreadPool;
 
+    /**
+     * Parallelism of the sink writers which acknowledge the flush events, or {@code -1} if the sink
+     * runs with the parallelism of the schema operator.
+     */
+    private final int sinkParallelism;
+
     /**
      * Sink writers which have sent flush success events for the request.<br>
      * {@code MapEntry.Key} is an {@code Integer}, indicating the upstream subTaskId that initiates
@@ -102,6 +108,26 @@ public class SchemaCoordinator extends SchemaRegistry {
             List<RouteRule> routes,
             SchemaChangeBehavior schemaChangeBehavior,
             Duration rpcTimeout) {
+        this(
+                operatorName,
+                context,
+                coordinatorExecutor,
+                metadataApplier,
+                routes,
+                schemaChangeBehavior,
+                rpcTimeout,
+                -1);
+    }
+
+    public SchemaCoordinator(
+            String operatorName,
+            OperatorCoordinator.Context context,
+            ExecutorService coordinatorExecutor,
+            MetadataApplier metadataApplier,
+            List<RouteRule> routes,
+            SchemaChangeBehavior schemaChangeBehavior,
+            Duration rpcTimeout,
+            int sinkParallelism) {
         super(
                 context,
                 operatorName,
@@ -111,6 +137,7 @@ public class SchemaCoordinator extends SchemaRegistry {
                 schemaChangeBehavior,
                 rpcTimeout);
         this.schemaChangeThreadPool = Executors.newSingleThreadExecutor();
+        this.sinkParallelism = sinkParallelism;
     }
 
     @Override
@@ -210,7 +237,8 @@ public class SchemaCoordinator extends SchemaRegistry {
                 sourceSubtask,
                 flushedSinkWriters.get(sourceSubtask));
 
-        if (flushedSinkWriters.get(sourceSubtask).size() >= currentParallelism) {
+        int expectedSinkWriters = sinkParallelism > 0 ? sinkParallelism : currentParallelism;
+        if (flushedSinkWriters.get(sourceSubtask).size() >= expectedSinkWriters) {
             LOG.info(
                     "Source SubTask {} have collected enough flush success event. Will start evolving schema changes...",
                     sourceSubtask);
@@ -41,6 +41,7 @@ public class SchemaCoordinatorProvider implements OperatorCoordinator.Provider {
     private final List<RouteRule> routingRules;
     private final SchemaChangeBehavior schemaChangeBehavior;
     private final Duration rpcTimeout;
+    private final int sinkParallelism;
 
     public SchemaCoordinatorProvider(
             OperatorID operatorID,
@@ -49,12 +50,31 @@ public class SchemaCoordinatorProvider implements OperatorCoordinator.Provider {
             List<RouteRule> routingRules,
             SchemaChangeBehavior schemaChangeBehavior,
             Duration rpcTimeout) {
+        this(
+                operatorID,
+                operatorName,
+                metadataApplier,
+                routingRules,
+                schemaChangeBehavior,
+                rpcTimeout,
+                -1);
+    }
+
+    public SchemaCoordinatorProvider(
+            OperatorID operatorID,
+            String operatorName,
+            MetadataApplier metadataApplier,
+            List<RouteRule> routingRules,
+            SchemaChangeBehavior schemaChangeBehavior,
+            Duration rpcTimeout,
+            int sinkParallelism) {
         this.operatorID = operatorID;
         this.operatorName = operatorName;
         this.metadataApplier = metadataApplier;
         this.routingRules = routingRules;
         this.schemaChangeBehavior = schemaChangeBehavior;
         this.rpcTimeout = rpcTimeout;
+        this.sinkParallelism = sinkParallelism;
     }
 
     @Override
@@ -76,6 +96,7 @@ public class SchemaCoordinatorProvider implements OperatorCoordinator.Provider {
                 metadataApplier,
                 routingRules,
                 schemaChangeBehavior,
-                rpcTimeout);
+                rpcTimeout,
+                sinkParallelism);
     }
 }
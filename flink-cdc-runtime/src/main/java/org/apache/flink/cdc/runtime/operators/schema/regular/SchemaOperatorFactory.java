@@ -42,6 +42,7 @@ public class SchemaOperatorFactory extends SimpleOperatorFactory<Event>
     private final List<RouteRule> routingRules;
     private final SchemaChangeBehavior schemaChangeBehavior;
     private final Duration rpcTimeout;
+    private final int sinkParallelism;
 
     public SchemaOperatorFactory(
             MetadataApplier metadataApplier,
@@ -49,11 +50,26 @@ public class SchemaOperatorFactory extends SimpleOperatorFactory<Event>
             Duration rpcTimeout,
             SchemaChangeBehavior schemaChangeBehavior,
             String timezone) {
+        this(metadataApplier, routingRules, rpcTimeout, schemaChangeBehavior, timezone, -1);
+    }
+
+    /**
+     * Creates the factory of a schema operator whose downstream sink runs with {@code
+     * sinkParallelism}, which might differ from the parallelism of the schema operator itself.
+     */
+    public SchemaOperatorFactory(
+            MetadataApplier metadataApplier,
+            List<RouteRule> routingRules,
+            Duration rpcTimeout,
+            SchemaChangeBehavior schemaChangeBehavior,
+            String timezone,
+            int sinkParallelism) {
         super(new SchemaOperator(routingRules, rpcTimeout, schemaChangeBehavior, timezone));
         this.metadataApplier = metadataApplier;
         this.routingRules = routingRules;
         this.schemaChangeBehavior = schemaChangeBehavior;
         this.rpcTimeout = rpcTimeout;
+        this.sinkParallelism = sinkParallelism;
     }
 
     @Override
@@ -65,6 +81,7 @@ public class SchemaOperatorFactory extends SimpleOperatorFactory<Event>
                 metadataApplier,
                 routingRules,
                 schemaChangeBehavior,
-                rpcTimeout);
+                rpcTimeout,
+                sinkParallelism);
     }
 }
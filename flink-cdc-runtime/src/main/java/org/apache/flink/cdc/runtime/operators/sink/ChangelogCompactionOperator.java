@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.sink;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.FlushEvent;
+import org.apache.flink.cdc.common.event.OperationType;
+import org.apache.flink.cdc.common.event.SchemaChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.runtime.jobgraph.OperatorID;
+import org.apache.flink.runtime.jobgraph.tasks.TaskOperatorEventGateway;
+import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
+import org.apache.flink.streaming.api.operators.BoundedOneInput;
+import org.apache.flink.streaming.api.operators.ChainingStrategy;
+import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+import org.apache.flink.streaming.runtime.tasks.ProcessingTimeService;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Operator that compacts the changelog of each primary key before it is written into the sink.
+ *
+ * <p>The {@link DataChangeEvent}s of tables with primary keys are buffered by table and primary
+ * key, and the events of the same key are merged into a single event, which holds the latest image
+ * of the row. As the events are partitioned by primary key before the sink, all events of a key
+ * pass through the same subtask in order.
+ *
+ * <p>The buffered events are emitted before any {@link FlushEvent} and before any {@link
+ * SchemaChangeEvent} of their table, so that the sink has written them before the schema evolves.
+ * They are also emitted before each checkpoint barrier, at the end of the input, when the number of
+ * buffered events reaches the configured maximum, and after the configured interval, so the
+ * operator does not hold any state.
+ */
+@Internal
+public class ChangelogCompactionOperator extends AbstractStreamOperator<Event>
+        implements OneInputStreamOperator<Event, Event>, BoundedOneInput, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final OperatorID schemaOperatorId;
+    private final int maxBufferedRecords;
+    private final long intervalMillis;
+
+    private transient SchemaEvolutionClient schemaEvolutionClient;
+    // Table buffers are dropped on schema changes, and recreated lazily with the latest schema
+    private transient Map<TableId, TableBuffer> tableBuffers;
+    private transient int numBufferedRecords;
+    private transient boolean timerRegistered;
+    private transient Counter numRecordsCompactedCounter;
+
+    public ChangelogCompactionOperator(
+            OperatorID schemaOperatorId, int maxBufferedRecords, long intervalMillis) {
+        this.chainingStrategy = ChainingStrategy.ALWAYS;
+        this.schemaOperatorId = schemaOperatorId;
+        this.maxBufferedRecords = maxBufferedRecords;
+        this.intervalMillis = intervalMillis;
+    }
+
+    @Override
+    public void open() throws Exception {
+        super.open();
+        TaskOperatorEventGateway toCoordinator =
+                getContainingTask().getEnvironment().getOperatorCoordinatorEventGateway();
+        schemaEvolutionClient = new SchemaEvolutionClient(toCoordinator, schemaOperatorId);
+        tableBuffers = new HashMap<>();
+        numRecordsCompactedCounter = getMetricGroup().counter("numRecordsCompacted");
+    }
+
+    @Override
+    public void processElement(StreamRecord<Event> element) throws Exception {
+        Event event = element.getValue();
+        if (event instanceof DataChangeEvent) {
+            compact((DataChangeEvent) event, element);
+        } else if (event instanceof SchemaChangeEvent) {
+            TableBuffer tableBuffer = tableBuffers.remove(((SchemaChangeEvent) event).tableId());
+            if (tableBuffer != null) {
+                emit(tableBuffer);
+            }
+            output.collect(element);
+        } else {
+            // FlushEvent requires the sink to write all the preceding events
+            emitAll();
+            output.collect(element);
+        }
+    }
+
+    @Override
+    public void prepareSnapshotPreBarrier(long checkpointId) throws Exception {
+        super.prepareSnapshotPreBarrier(checkpointId);
+        emitAll();
+    }
+
+    @Override
+    public void endInput() throws Exception {
+        emitAll();
+    }
+
+    private void compact(DataChangeEvent event, StreamRecord<Event> element) {
+        TableBuffer tableBuffer = tableBuffers.get(event.tableId());
+        if (tableBuffer == null) {
+            tableBuffer = new TableBuffer(loadLatestSchemaFromRegistry(event.tableId()));
+            tableBuffers.put(event.tableId(), tableBuffer);
+        }
+        if (!tableBuffer.hasPrimaryKeys()) {
+            output.collect(element);
+            return;
+        }
+
+        Object key = tableBuffer.getKey(event);
+        DataChangeEvent buffered = tableBuffer.events.get(key);
+        if (buffered == null) {
+            tableBuffer.events.put(key, event);
+            numBufferedRecords++;
+        } else {
+            tableBuffer.events.put(key, merge(buffered, event));
+            numRecordsCompactedCounter.inc();
+        }
+
+        if (numBufferedRecords >= maxBufferedRecords) {
+            emitAll();
+        } else if (intervalMillis > 0 && !timerRegistered) {
+            ProcessingTimeService timeService = getProcessingTimeService();
+            timeService.registerTimer(
+                    timeService.getCurrentProcessingTime() + intervalMillis,
+                    timestamp -> {
+                        timerRegistered = false;
+                        emitAll();
+                    });
+            timerRegistered = true;
+        }
+    }
+
+    /**
+     * Merges two successive events of the same primary key into one event, which leads the sink
+     * from the row before the first event to the row after the second event.
+     *
+     * <p>An insertion followed by a deletion is merged into a deletion instead of being dropped, as
+     * the insertion may have overwritten an existing row, for example when it is replayed after a
+     * failover.
+     */
+    @VisibleForTesting
+    static DataChangeEvent merge(DataChangeEvent first, DataChangeEvent second) {
+        TableId tableId = second.tableId();
+        Map<String, String> meta = second.meta();
+        if (second.op() == OperationType.DELETE) {
+            RecordData before =
+                    first.op() == OperationType.UPDATE || first.op() == OperationType.DELETE
+                            ? first.before()
+                            : first.after();
+            return DataChangeEvent.deleteEvent(
+                    tableId, before != null ? before : second.before(), meta);
+        }
+        switch (first.op()) {
+            case INSERT:
+                return DataChangeEvent.insertEvent(tableId, second.after(), meta);
+            case REPLACE:
+                return DataChangeEvent.replaceEvent(tableId, second.after(), meta);
+            default:
+                return DataChangeEvent.updateEvent(tableId, first.before(), second.after(), meta);
+        }
+    }
+
+    private void emitAll() {
+        if (numBufferedRecords == 0) {
+            return;
+        }
+        for (TableBuffer tableBuffer : tableBuffers.values()) {
+            emit(tableBuffer);
+        }
+    }
+
+    private void emit(TableBuffer tableBuffer) {
+        for (DataChangeEvent event : tableBuffer.events.values()) {
+            output.collect(new StreamRecord<>(event));
+        }
+        numBufferedRecords -= tableBuffer.events.size();
+        tableBuffer.events.clear();
+    }
+
+    private Schema loadLatestSchemaFromRegistry(TableId tableId) {
+        Optional<Schema> schema;
+        try {
+            schema = schemaEvolutionClient.getLatestEvolvedSchema(tableId);
+        } catch (Exception e) {
+            throw new RuntimeException(
+                    String.format("Failed to request latest schema for table \"%s\"", tableId), e);
+        }
+        if (!schema.isPresent()) {
+            throw new IllegalStateException(
+                    String.format(
+                            "Schema is never registered or outdated for table \"%s\"", tableId));
+        }
+        return schema.get();
+    }
+
+    /** The buffered events of a table, in the order of the first event of each primary key. */
+    private static class TableBuffer {
+
+        private final RecordData.FieldGetter[] primaryKeyGetters;
+        private final Map<Object, DataChangeEvent> events = new LinkedHashMap<>();
+
+        private TableBuffer(Schema schema) {
+            List<String> primaryKeys = schema.primaryKeys();
+            List<String> columnNames = schema.getColumnNames();
+            this.primaryKeyGetters = new RecordData.FieldGetter[primaryKeys.size()];
+            for (int i = 0; i < primaryKeys.size(); i++) {
+                int position = columnNames.indexOf(primaryKeys.get(i));
+                primaryKeyGetters[i] =
+                        RecordData.createFieldGetter(
+                                schema.getColumns().get(position).getType(), position);
+            }
+        }
+
+        private boolean hasPrimaryKeys() {
+            return primaryKeyGetters.length > 0;
+        }
+
+        private Object getKey(DataChangeEvent event) {
+            RecordData record = event.op() == OperationType.DELETE ? event.before() : event.after();
+            if (primaryKeyGetters.length == 1) {
+                return primaryKeyGetters[0].getFieldOrNull(record);
+            }
+            Object[] key = new Object[primaryKeyGetters.length];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = primaryKeyGetters[i].getFieldOrNull(record);
+            }
+            return Arrays.asList(key);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+
+import javax.annotation.Nullable;
+
+import java.util.Map;
+
+/**
+ * The fused filter and projection of a transform rule for a table, which is implemented by a class
+ * generated by {@link PostTransformEvaluatorGenerator}. It reads each referenced field of a record
+ * once, and evaluates the filter and the projection expressions on the read fields directly.
+ *
+ * <p>The projected fields are the fields of the post-transformed schema, which are converted to
+ * their internal data structures.
+ */
+public interface PostTransformEvaluator {
+
+    /** Sets the field getters, data types, metadata columns and UDF instances of the evaluator. */
+    void open(Object[] references);
+
+    /** Returns whether the record is kept by the filter, which is true if there is no filter. */
+    boolean filter(
+            BinaryRecordData record, long epochTime, String opType, Map<String, String> meta);
+
+    /** Returns the projected fields of the record, or null if it is filtered out. */
+    @Nullable
+    Object[] filterAndProject(
+            BinaryRecordData record, long epochTime, String opType, Map<String, String> meta);
+
+    /** Returns the projected fields of the record without evaluating the filter. */
+    Object[] project(
+            BinaryRecordData record, long epochTime, String opType, Map<String, String> meta);
+}
@@ -0,0 +1,428 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.runtime.parser.JaninoCompiler;
+import org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns;
+import org.apache.flink.cdc.runtime.typeutils.DataTypeConverter;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the {@link PostTransformEvaluator} of a transform rule for a table, which fuses the
+ * filter and the projection of the rule into one class.
+ *
+ * <p>The expressions are taken from the compiled filter and projection processors, together with
+ * the binary string arguments and return types they were compiled with. Each expression becomes a
+ * static method of the generated class. The evaluation methods read each field and metadata column
+ * referenced by any of the expressions once per record, pass them to the expression methods and
+ * write the projected fields directly. The columns only referenced by the projection are not read
+ * for the records which are filtered out.
+ */
+class PostTransformEvaluatorGenerator {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(PostTransformEvaluatorGenerator.class);
+
+    private static final String SYSTEM_FUNCTION_IMPORT = JaninoCompiler.loadSystemFunction("");
+    private static final String RECORD_PARAMETERS =
+            "(org.apache.flink.cdc.common.data.binary.BinaryRecordData record, long epochTime,"
+                    + " String opType, java.util.Map meta)";
+
+    private final PostTransformChangeInfo tableInfo;
+    private final Map<String, SupportedMetadataColumn> supportedMetadataColumns = new HashMap<>();
+    private final List<UserDefinedFunctionDescriptor> udfDescriptors;
+
+    // The fields of the generated class, which are bound to the references when it is opened
+    private final StringBuilder fields = new StringBuilder();
+    private final StringBuilder open = new StringBuilder();
+    private final List<Object> references = new ArrayList<>();
+    private final Map<String, String> namedReferences = new HashMap<>();
+    private final List<String> udfReferences = new ArrayList<>();
+    private final List<String> udfTypeNames = new ArrayList<>();
+    private String timezoneReference;
+
+    private final StringBuilder expressionMethods = new StringBuilder();
+    private final Map<TransformExpressionKey, String> expressionMethodNames =
+            new IdentityHashMap<>();
+
+    private PostTransformEvaluatorGenerator(
+            PostTransformChangeInfo tableInfo,
+            SupportedMetadataColumn[] supportedMetadataColumns,
+            List<UserDefinedFunctionDescriptor> udfDescriptors) {
+        this.tableInfo = tableInfo;
+        for (SupportedMetadataColumn supportedMetadataColumn : supportedMetadataColumns) {
+            this.supportedMetadataColumns.putIfAbsent(
+                    supportedMetadataColumn.getName(), supportedMetadataColumn);
+        }
+        this.udfDescriptors = udfDescriptors;
+    }
+
+    /**
+     * Generates the evaluator of a transform rule with a filter, a projection or both.
+     *
+     * @return the opened evaluator, or null if the generated class fails to compile, in which case
+     *     the processors evaluate the expressions one by one.
+     */
+    @Nullable
+    static PostTransformEvaluator generate(
+            PostTransformChangeInfo tableInfo,
+            PostTransformer transform,
+            @Nullable TransformFilterProcessor filterProcessor,
+            @Nullable TransformProjectionProcessor projectionProcessor,
+            String timezone,
+            List<UserDefinedFunctionDescriptor> udfDescriptors,
+            List<Object> udfFunctionInstances) {
+        PostTransformEvaluatorGenerator generator =
+                new PostTransformEvaluatorGenerator(
+                        tableInfo, transform.getSupportedMetadataColumns(), udfDescriptors);
+        String code;
+        Class<?> evaluatorClass;
+        try {
+            code =
+                    generator.generateCode(
+                            filterProcessor, projectionProcessor, timezone, udfFunctionInstances);
+        } catch (ClassNotFoundException e) {
+            throw new FlinkRuntimeException(e.getMessage(), e);
+        }
+        try {
+            evaluatorClass = TransformExpressionCompiler.compileEvaluator(code);
+        } catch (FlinkRuntimeException e) {
+            LOG.warn(
+                    "Table:{} transform rule (projection: {}, filter: {}) can not be fused, "
+                            + "its filter and projection are evaluated one by one.",
+                    tableInfo.getName(),
+                    transform.getProjection().map(TransformProjection::getProjection).orElse(null),
+                    transform.getFilter().map(TransformFilter::getExpression).orElse(null),
+                    e);
+            LOG.debug("The generated evaluator of table:{} is\n{}", tableInfo.getName(), code);
+            return null;
+        }
+        PostTransformEvaluator evaluator;
+        try {
+            evaluator = (PostTransformEvaluator) evaluatorClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new FlinkRuntimeException(e.getMessage(), e);
+        }
+        evaluator.open(generator.references.toArray());
+        return evaluator;
+    }
+
+    private String generateCode(
+            @Nullable TransformFilterProcessor filterProcessor,
+            @Nullable TransformProjectionProcessor projectionProcessor,
+            String timezone,
+            List<Object> udfFunctionInstances)
+            throws ClassNotFoundException {
+        timezoneReference = reference("String", timezone);
+        for (int i = 0; i < udfDescriptors.size(); i++) {
+            String udfTypeName = typeName(Class.forName(udfDescriptors.get(i).getClasspath()));
+            udfTypeNames.add(udfTypeName);
+            udfReferences.add(reference(udfTypeName, udfFunctionInstances.get(i)));
+        }
+
+        StringBuilder code = new StringBuilder(SYSTEM_FUNCTION_IMPORT).append('\n');
+
+        RecordReader filter = new RecordReader();
+        String condition =
+                filterProcessor == null
+                        ? "true"
+                        : invoke(filter, filterProcessor.getTransformExpressionKey())
+                                + ".booleanValue()";
+        filter.code.append("  return ").append(condition).append(";\n");
+        appendMethod(code, "public boolean filter", filter);
+
+        // the columns of the projection are read after the filter has kept the record
+        RecordReader filterAndProject = new RecordReader();
+        if (filterProcessor != null) {
+            String filterAndProjectCondition =
+                    invoke(filterAndProject, filterProcessor.getTransformExpressionKey());
+            filterAndProject
+                    .code
+                    .append("  if (!")
+                    .append(filterAndProjectCondition)
+                    .append(".booleanValue()) {\n")
+                    .append("    return null;\n")
+                    .append("  }\n");
+        }
+        generateProjection(filterAndProject, projectionProcessor);
+        appendMethod(code, "public Object[] filterAndProject", filterAndProject);
+
+        RecordReader project = new RecordReader();
+        generateProjection(project, projectionProcessor);
+        appendMethod(code, "public Object[] project", project);
+
+        code.append("public void open(Object[] references) {\n").append(open).append("}\n");
+        return code.append(fields).append(expressionMethods).toString();
+    }
+
+    private static void appendMethod(StringBuilder code, String signature, RecordReader body) {
+        code.append(signature).append(RECORD_PARAMETERS).append(" {\n");
+        code.append(body.code).append("}\n");
+    }
+
+    private void generateProjection(
+            RecordReader reader, @Nullable TransformProjectionProcessor projectionProcessor) {
+        if (projectionProcessor == null) {
+            reader.code.append(
+                    "  throw new IllegalStateException(\"The transform rule has no projection.\");\n");
+            return;
+        }
+        List<Column> columns = tableInfo.getPostTransformedSchema().getColumns();
+        List<ProjectionColumnProcessor> projectionColumnProcessors =
+                projectionProcessor.getProjectionColumnProcessors();
+        int[] preTransformedPositions = projectionProcessor.getPreTransformedPositions();
+        reader.code.append("  Object[] fields = new Object[").append(columns.size()).append("];\n");
+        for (int i = 0; i < columns.size(); i++) {
+            ProjectionColumnProcessor projectionColumnProcessor = projectionColumnProcessors.get(i);
+            String value;
+            DataType dataType;
+            if (projectionColumnProcessor != null) {
+                value = invoke(reader, projectionColumnProcessor.getTransformExpressionKey());
+                dataType = projectionColumnProcessor.getProjectionColumn().getDataType();
+            } else if (preTransformedPositions[i] != -1) {
+                value = reader.readField(preTransformedPositions[i]);
+                dataType = columns.get(i).getType();
+            } else {
+                continue;
+            }
+            reader.code
+                    .append("  fields[")
+                    .append(i)
+                    .append("] = ")
+                    .append(DataTypeConverter.class.getName())
+                    .append(".convert(")
+                    .append(value)
+                    .append(", ")
+                    .append(reference(DataType.class.getName(), dataType))
+                    .append(");\n");
+        }
+        reader.code.append("  return fields;\n");
+    }
+
+    /**
+     * Generates the static method of a compiled expression, and returns its invocation with the
+     * arguments read by the given reader.
+     */
+    private String invoke(RecordReader reader, TransformExpressionKey key) {
+        String expression = key.getExpression();
+        List<String> argumentNames = key.getArgumentNames();
+        List<Class<?>> argumentClasses = key.getArgumentClasses();
+        // the arguments are followed by the time zone, the epoch time and the UDF instances
+        int argumentCount = argumentNames.indexOf(JaninoCompiler.DEFAULT_TIME_ZONE);
+        if (!expression.startsWith(SYSTEM_FUNCTION_IMPORT) || argumentCount < 0) {
+            throw new IllegalArgumentException("Unexpected expression " + expression);
+        }
+
+        List<String> parameters = new ArrayList<>();
+        List<String> arguments = new ArrayList<>();
+        for (int i = 0; i < argumentCount; i++) {
+            parameters.add(typeName(argumentClasses.get(i)) + " " + argumentNames.get(i));
+            arguments.add(reader.readArgument(argumentNames.get(i), argumentClasses.get(i)));
+        }
+        parameters.add("String " + JaninoCompiler.DEFAULT_TIME_ZONE);
+        arguments.add(timezoneReference);
+        parameters.add("Long " + JaninoCompiler.DEFAULT_EPOCH_TIME);
+        arguments.add(reader.readEpochTime());
+        for (int i = 0; i < udfDescriptors.size(); i++) {
+            parameters.add(
+                    udfTypeNames.get(i) + " __instanceOf" + udfDescriptors.get(i).getClassName());
+            arguments.add(udfReferences.get(i));
+        }
+
+        String methodName = expressionMethodNames.get(key);
+        if (methodName == null) {
+            methodName = "expression" + expressionMethodNames.size();
+            expressionMethodNames.put(key, methodName);
+            appendExpressionMethod(methodName, key, parameters);
+        }
+        return methodName + "(" + String.join(", ", arguments) + ")";
+    }
+
+    private void appendExpressionMethod(
+            String methodName, TransformExpressionKey key, List<String> parameters) {
+        expressionMethods
+                .append("private static ")
+                .append(typeName(key.getReturnClass()))
+                .append(' ')
+                .append(methodName)
+                .append('(')
+                .append(String.join(", ", parameters))
+                .append(") {\n")
+                .append("  return ")
+                .append(key.getExpression().substring(SYSTEM_FUNCTION_IMPORT.length()))
+                .append(";\n")
+                .append("}\n");
+    }
+
+    /** Adds a field of the generated class, which is bound to the value when it is opened. */
+    private String reference(String typeName, Object value) {
+        String name = "reference" + references.size();
+        fields.append("private ").append(typeName).append(' ').append(name).append(";\n");
+        open.append("  ")
+                .append(name)
+                .append(" = (")
+                .append(typeName)
+                .append(") references[")
+                .append(references.size())
+                .append("];\n");
+        references.add(value);
+        return name;
+    }
+
+    /** Adds a field of the generated class once for the given key. */
+    private String namedReference(String key, String typeName, Object value) {
+        String name = namedReferences.get(key);
+        if (name == null) {
+            name = reference(typeName, value);
+            namedReferences.put(key, name);
+        }
+        return name;
+    }
+
+    private static String typeName(Class<?> clazz) {
+        String typeName = clazz.getCanonicalName();
+        if (typeName == null) {
+            throw new IllegalArgumentException("Class " + clazz + " has no canonical name.");
+        }
+        return typeName;
+    }
+
+    /** The statements of a generated method, which read each field of the record at most once. */
+    private class RecordReader {
+
+        private final StringBuilder code = new StringBuilder();
+        private final Set<String> variables = new HashSet<>();
+
+        /** Returns the variable of the field at the given position, in its internal structure. */
+        private String readField(int position) {
+            String variable = "field" + position;
+            if (variables.add(variable)) {
+                String fieldGetter =
+                        namedReference(
+                                variable,
+                                RecordData.FieldGetter.class.getCanonicalName(),
+                                tableInfo.getPreTransformedFieldGetters()[position]);
+                declare("Object", variable, fieldGetter + ".getFieldOrNull(record)");
+            }
+            return variable;
+        }
+
+        /**
+         * Returns the variable of an expression argument, see {@link TransformExpressionArguments}.
+         */
+        private String readArgument(String argumentName, Class<?> argumentClass) {
+            switch (argumentName) {
+                case MetadataColumns.DEFAULT_NAMESPACE_NAME:
+                    return namedReference(argumentName, "String", tableInfo.getNamespace());
+                case MetadataColumns.DEFAULT_SCHEMA_NAME:
+                    return namedReference(argumentName, "String", tableInfo.getSchemaName());
+                case MetadataColumns.DEFAULT_TABLE_NAME:
+                    return namedReference(argumentName, "String", tableInfo.getTableName());
+                case MetadataColumns.DEFAULT_DATA_EVENT_TYPE:
+                    return "opType";
+            }
+
+            String typeName = typeName(argumentClass);
+            SupportedMetadataColumn supportedMetadataColumn =
+                    supportedMetadataColumns.get(argumentName);
+            if (supportedMetadataColumn != null) {
+                String metadataColumn =
+                        namedReference(
+                                "metadata:" + argumentName,
+                                SupportedMetadataColumn.class.getName(),
+                                supportedMetadataColumn);
+                String variable = metadataColumn + "Value";
+                if (variables.add(variable)) {
+                    declare(
+                            typeName,
+                            variable,
+                            "(" + typeName + ") " + metadataColumn + ".read(meta)");
+                }
+                return variable;
+            }
+
+            List<Column> columns = tableInfo.getPreTransformedSchema().getColumns();
+            for (int i = 0; i < columns.size(); i++) {
+                if (columns.get(i).getName().equals(argumentName)) {
+                    String field = readField(i);
+                    if (argumentClass == BinaryStringData.class) {
+                        String variable = "binaryString" + i;
+                        if (variables.add(variable)) {
+                            declare(typeName, variable, "(" + typeName + ") " + field);
+                        }
+                        return variable;
+                    }
+                    String variable = "original" + i;
+                    if (variables.add(variable)) {
+                        String dataType =
+                                namedReference(
+                                        "type:" + i,
+                                        DataType.class.getName(),
+                                        columns.get(i).getType());
+                        declare(
+                                typeName,
+                                variable,
+                                String.format(
+                                        "(%s) %s.convertToOriginal(%s, %s)",
+                                        typeName,
+                                        DataTypeConverter.class.getName(),
+                                        field,
+                                        dataType));
+                    }
+                    return variable;
+                }
+            }
+            throw new IllegalArgumentException("Failed to evaluate argument " + argumentName);
+        }
+
+        private String readEpochTime() {
+            if (variables.add("epoch")) {
+                declare("Long", "epoch", "Long.valueOf(epochTime)");
+            }
+            return "epoch";
+        }
+
+        private void declare(String typeName, String variable, String value) {
+            code.append("  ")
+                    .append(typeName)
+                    .append(' ')
+                    .append(variable)
+                    .append(" = ")
+                    .append(value)
+                    .append(";\n");
+        }
+    }
+}
@@ -17,7 +17,7 @@
 
 package org.apache.flink.cdc.runtime.operators.transform;
 
-import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.annotation.VisibleForTesting;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.cdc.common.configuration.Configuration;
 import org.apache.flink.cdc.common.data.RecordData;
@@ -55,7 +55,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -70,6 +69,9 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
 
     private static final long serialVersionUID = 1L;
 
+    private static final String[] BEFORE_ROW_KINDS = rowKindsOf('-');
+    private static final String[] AFTER_ROW_KINDS = rowKindsOf('+');
+
     private final String timezone;
     private final List<TransformRule> transformRules;
     private transient List<PostTransformer> transforms;
@@ -81,10 +83,9 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
     private List<UserDefinedFunctionDescriptor> udfDescriptors;
     private transient Map<String, Object> udfFunctionInstances;
 
-    private transient Map<Tuple2<TableId, String>, TransformProjectionProcessor>
-            transformProjectionProcessorMap;
-    private transient Map<Tuple2<TableId, TransformFilter>, TransformFilterProcessor>
-            transformFilterProcessorMap;
+    /** keep the post-transform plan of each table, which is replaced on schema changes. */
+    private transient Map<TableId, PostTransformPlan> postTransformPlanMap;
+
     private final Map<TableId, Boolean> hasAsteriskMap;
     private final Map<TableId, List<String>> projectedColumnsMap;
 
@@ -163,8 +164,7 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
         this.transformRules = transformRules;
         this.timezone = timezone;
         this.postTransformChangeInfoMap = new ConcurrentHashMap<>();
-        this.transformFilterProcessorMap = new ConcurrentHashMap<>();
-        this.transformProjectionProcessorMap = new ConcurrentHashMap<>();
+        this.postTransformPlanMap = new HashMap<>();
         this.udfFunctions = udfFunctions;
         this.udfFunctionInstances = new ConcurrentHashMap<>();
         this.hasAsteriskMap = new HashMap<>();
@@ -208,8 +208,7 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
                                             transformRule.getSupportedMetadataColumns());
                                 })
                         .collect(Collectors.toList());
-        this.transformProjectionProcessorMap = new ConcurrentHashMap<>();
-        this.transformFilterProcessorMap = new ConcurrentHashMap<>();
+        this.postTransformPlanMap = new HashMap<>();
         this.udfFunctionInstances = new ConcurrentHashMap<>();
         udfDescriptors.forEach(
                 udf -> {
@@ -246,12 +245,6 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
         Event event = element.getValue();
         if (event instanceof SchemaChangeEvent) {
             SchemaChangeEvent schemaChangeEvent = (SchemaChangeEvent) event;
-            transformProjectionProcessorMap
-                    .keySet()
-                    .removeIf(e -> Objects.equals(e.f0, schemaChangeEvent.tableId()));
-            transformFilterProcessorMap
-                    .keySet()
-                    .removeIf(e -> Objects.equals(e.f0, schemaChangeEvent.tableId()));
             cacheSchema(schemaChangeEvent).ifPresent(e -> output.collect(new StreamRecord<>(e)));
         } else if (event instanceof DataChangeEvent) {
             Optional<DataChangeEvent> dataChangeEventOptional =
@@ -326,9 +319,17 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
                             getPostTransformChangeInfo(tableId).getPreTransformedSchema(), event);
         }
 
-        Schema projectedSchema = transformSchema(tableId, schema);
-        postTransformChangeInfoMap.put(
-                tableId, PostTransformChangeInfo.of(tableId, projectedSchema, schema));
+        List<PostTransformer> matchedTransforms =
+                transforms.stream()
+                        .filter(t -> t.getSelectors().isMatch(tableId))
+                        .collect(Collectors.toList());
+        Map<PostTransformer, TransformProjection> transformProjections = new HashMap<>();
+        Schema projectedSchema = transformSchema(schema, matchedTransforms, transformProjections);
+        PostTransformChangeInfo tableInfo =
+                PostTransformChangeInfo.of(tableId, projectedSchema, schema);
+        postTransformChangeInfoMap.put(tableId, tableInfo);
+        postTransformPlanMap.put(
+                tableId, new PostTransformPlan(tableInfo, matchedTransforms, transformProjections));
 
         if (event instanceof CreateTableEvent) {
             return Optional.of(new CreateTableEvent(tableId, projectedSchema));
@@ -350,33 +351,39 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
         return tableInfo;
     }
 
-    private Schema transformSchema(TableId tableId, Schema schema) {
+    @VisibleForTesting
+    PostTransformPlan getPostTransformPlan(TableId tableId) {
+        PostTransformPlan plan = postTransformPlanMap.get(tableId);
+        if (plan == null) {
+            throw new RuntimeException(
+                    "Schema for " + tableId + " not found. This shouldn't happen.");
+        }
+        return plan;
+    }
+
+    private Schema transformSchema(
+            Schema schema,
+            List<PostTransformer> matchedTransforms,
+            Map<PostTransformer, TransformProjection> transformProjections) {
         List<Schema> newSchemas = new ArrayList<>();
-        for (PostTransformer transform : transforms) {
-            Selectors selectors = transform.getSelectors();
-            if (selectors.isMatch(tableId) && transform.getProjection().isPresent()) {
+        for (PostTransformer transform : matchedTransforms) {
+            if (transform.getProjection().isPresent()) {
                 TransformProjection transformProjection =
                         TransformProjection.of(transform.getProjection().get().getProjection())
                                 .get();
                 if (transformProjection.isValid()) {
-                    if (!transformProjectionProcessorMap.containsKey(
-                            Tuple2.of(tableId, transformProjection.getProjection()))) {
-                        transformProjectionProcessorMap.put(
-                                Tuple2.of(tableId, transformProjection.getProjection()),
-                                TransformProjectionProcessor.of(
-                                        transformProjection,
-                                        timezone,
-                                        udfDescriptors,
-                                        getUdfFunctionInstances(),
-                                        transform.getSupportedMetadataColumns()));
-                    }
                     TransformProjectionProcessor postTransformProcessor =
-                            transformProjectionProcessorMap.get(
-                                    Tuple2.of(tableId, transformProjection.getProjection()));
+                            TransformProjectionProcessor.of(
+                                    transformProjection,
+                                    timezone,
+                                    udfDescriptors,
+                                    getUdfFunctionInstances(),
+                                    transform.getSupportedMetadataColumns());
                     // update the columns of projection and add the column of projection into Schema
                     newSchemas.add(
                             postTransformProcessor.processSchema(
                                     schema, transform.getSupportedMetadataColumns()));
+                    transformProjections.put(transform, transformProjection);
                 }
             }
         }
@@ -395,105 +402,52 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
 
     private Optional<DataChangeEvent> processDataChangeEvent(DataChangeEvent dataChangeEvent)
             throws Exception {
-        TableId tableId = dataChangeEvent.tableId();
-        PostTransformChangeInfo tableInfo = getPostTransformChangeInfo(tableId);
-        List<Optional<DataChangeEvent>> transformedDataChangeEventOptionalList = new ArrayList<>();
-        long epochTime = System.currentTimeMillis();
-        for (PostTransformer transform : transforms) {
-            Selectors selectors = transform.getSelectors();
-
-            if (selectors.isMatch(tableId)) {
-                Optional<DataChangeEvent> dataChangeEventOptional = Optional.of(dataChangeEvent);
-                Optional<TransformProjection> transformProjectionOptional =
-                        transform.getProjection();
-                Optional<TransformFilter> transformFilterOptional = transform.getFilter();
-
-                if (transformFilterOptional.isPresent()
-                        && transformFilterOptional.get().isVaild()) {
-                    TransformFilter transformFilter = transformFilterOptional.get();
-                    if (!transformFilterProcessorMap.containsKey(
-                            Tuple2.of(tableId, transformFilter))) {
-                        transformFilterProcessorMap.put(
-                                Tuple2.of(tableId, transformFilter),
-                                TransformFilterProcessor.of(
-                                        tableInfo,
-                                        transformFilter,
-                                        timezone,
-                                        udfDescriptors,
-                                        getUdfFunctionInstances(),
-                                        transform.getSupportedMetadataColumns()));
-                    }
-                    TransformFilterProcessor transformFilterProcessor =
-                            transformFilterProcessorMap.get(Tuple2.of(tableId, transformFilter));
-                    dataChangeEventOptional =
-                            processFilter(
-                                    transformFilterProcessor,
-                                    dataChangeEventOptional.get(),
-                                    epochTime);
-                }
-                if (dataChangeEventOptional.isPresent()
-                        && transformProjectionOptional.isPresent()
-                        && transformProjectionOptional.get().isValid()) {
-                    TransformProjection transformProjection = transformProjectionOptional.get();
-                    if (!transformProjectionProcessorMap.containsKey(
-                            Tuple2.of(tableId, transformProjection.getProjection()))) {
-                        transformProjectionProcessorMap.put(
-                                Tuple2.of(tableId, transformProjection.getProjection()),
-                                TransformProjectionProcessor.of(
-                                        tableInfo,
-                                        transformProjection,
-                                        timezone,
-                                        udfDescriptors,
-                                        getUdfFunctionInstances(),
-                                        transform.getSupportedMetadataColumns()));
-                    } else if (!transformProjectionProcessorMap
-                            .get(Tuple2.of(tableId, transformProjection.getProjection()))
-                            .hasTableInfo()) {
-                        TransformProjectionProcessor transformProjectionProcessorWithoutTableInfo =
-                                transformProjectionProcessorMap.get(
-                                        Tuple2.of(tableId, transformProjection.getProjection()));
-                        transformProjectionProcessorMap.put(
-                                Tuple2.of(tableId, transformProjection.getProjection()),
-                                TransformProjectionProcessor.of(
-                                        tableInfo,
-                                        transformProjectionProcessorWithoutTableInfo
-                                                .getTransformProjection(),
-                                        timezone,
-                                        udfDescriptors,
-                                        getUdfFunctionInstances(),
-                                        transform.getSupportedMetadataColumns()));
-                    }
-                    TransformProjectionProcessor postTransformProcessor =
-                            transformProjectionProcessorMap.get(
-                                    Tuple2.of(tableId, transformProjection.getProjection()));
-                    dataChangeEventOptional =
-                            processProjection(
-                                    postTransformProcessor,
-                                    dataChangeEventOptional.get(),
-                                    epochTime);
-                }
-                if (dataChangeEventOptional.isPresent()
-                        && transform.getPostTransformConverter().isPresent()) {
-                    dataChangeEventOptional =
-                            convertDataChangeEvent(
-                                    dataChangeEventOptional.get(),
-                                    transform.getPostTransformConverter().get());
-                }
-                transformedDataChangeEventOptionalList.add(dataChangeEventOptional);
-            }
+        PostTransformPlan plan = getPostTransformPlan(dataChangeEvent.tableId());
+        if (plan.isNotTransformed()) {
+            return processPostProjection(plan, dataChangeEvent);
         }
 
-        if (transformedDataChangeEventOptionalList.isEmpty()) {
-            return processPostProjection(tableInfo, dataChangeEvent);
-        } else {
-            for (Optional<DataChangeEvent> dataChangeEventOptional :
-                    transformedDataChangeEventOptionalList) {
-                if (dataChangeEventOptional.isPresent()) {
-                    return processPostProjection(tableInfo, dataChangeEventOptional.get());
+        // The first transform rule which keeps the event takes effect, the following rules are
+        // not evaluated.
+        long epochTime = System.currentTimeMillis();
+        for (PostTransformPlan.Stage stage :
+                plan.getStages(timezone, udfDescriptors, getUdfFunctionInstances())) {
+            Optional<DataChangeEvent> dataChangeEventOptional = Optional.of(dataChangeEvent);
+            if (stage.getEvaluator() != null) {
+                dataChangeEventOptional =
+                        processFused(
+                                plan.getTableInfo(),
+                                stage.getEvaluator(),
+                                stage.getProjectionProcessor() != null,
+                                dataChangeEvent,
+                                epochTime);
+            } else if (stage.getFilterProcessor() != null) {
+                dataChangeEventOptional =
+                        processFilter(stage.getFilterProcessor(), dataChangeEvent, epochTime);
+            }
+            if (dataChangeEventOptional.isPresent()
+                    && stage.getEvaluator() == null
+                    && stage.getProjectionProcessor() != null) {
+                dataChangeEventOptional =
+                        processProjection(
+                                stage.getProjectionProcessor(),
+                                dataChangeEventOptional.get(),
+                                epochTime);
+            }
+            if (dataChangeEventOptional.isPresent() && stage.getPostTransformConverter() != null) {
+                dataChangeEventOptional =
+                        convertDataChangeEvent(
+                                dataChangeEventOptional.get(), stage.getPostTransformConverter());
+            }
+            if (dataChangeEventOptional.isPresent()) {
+                if (stage.getProjectionProcessor() != null) {
+                    // The projection has written the records of the post-transformed schema
+                    return dataChangeEventOptional;
                 }
+                return processPostProjection(plan, dataChangeEventOptional.get());
             }
-            return Optional.empty();
         }
+        return Optional.empty();
     }
 
     private Optional<DataChangeEvent> convertDataChangeEvent(
@@ -501,6 +455,82 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
         return postTransformConverter.convert(dataChangeEvent);
     }
 
+    /**
+     * Filters and projects a data change event by the fused evaluator of a transform rule. Like
+     * {@link #processFilter}, the filter is evaluated on the after record of insert and update
+     * events and on the before record of delete events.
+     */
+    private Optional<DataChangeEvent> processFused(
+            PostTransformChangeInfo tableInfo,
+            PostTransformEvaluator evaluator,
+            boolean projected,
+            DataChangeEvent dataChangeEvent,
+            long epochTime) {
+        try {
+            return evaluateFused(tableInfo, evaluator, projected, dataChangeEvent, epochTime);
+        } catch (RuntimeException e) {
+            LOG.error("Table:{} transform rule execute failed. {}", tableInfo.getName(), e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Optional<DataChangeEvent> evaluateFused(
+            PostTransformChangeInfo tableInfo,
+            PostTransformEvaluator evaluator,
+            boolean projected,
+            DataChangeEvent dataChangeEvent,
+            long epochTime) {
+        BinaryRecordData before = (BinaryRecordData) dataChangeEvent.before();
+        BinaryRecordData after = (BinaryRecordData) dataChangeEvent.after();
+        Map<String, String> meta = dataChangeEvent.meta();
+        String beforeRowKind = opTypeToRowKind(dataChangeEvent.op(), '-');
+        String afterRowKind = opTypeToRowKind(dataChangeEvent.op(), '+');
+        if (!projected) {
+            if (after != null) {
+                return evaluator.filter(after, epochTime, afterRowKind, meta)
+                        ? Optional.of(dataChangeEvent)
+                        : Optional.empty();
+            } else if (before != null) {
+                return evaluator.filter(before, epochTime, beforeRowKind, meta)
+                        ? Optional.of(dataChangeEvent)
+                        : Optional.empty();
+            }
+            return Optional.empty();
+        }
+
+        if (after != null) {
+            Object[] afterFields = evaluator.filterAndProject(after, epochTime, afterRowKind, meta);
+            if (afterFields == null) {
+                return Optional.empty();
+            }
+            if (before != null) {
+                dataChangeEvent =
+                        DataChangeEvent.projectBefore(
+                                dataChangeEvent,
+                                tableInfo
+                                        .getRecordDataGenerator()
+                                        .generate(
+                                                evaluator.project(
+                                                        before, epochTime, beforeRowKind, meta)));
+            }
+            return Optional.of(
+                    DataChangeEvent.projectAfter(
+                            dataChangeEvent,
+                            tableInfo.getRecordDataGenerator().generate(afterFields)));
+        } else if (before != null) {
+            Object[] beforeFields =
+                    evaluator.filterAndProject(before, epochTime, beforeRowKind, meta);
+            if (beforeFields == null) {
+                return Optional.empty();
+            }
+            return Optional.of(
+                    DataChangeEvent.projectBefore(
+                            dataChangeEvent,
+                            tableInfo.getRecordDataGenerator().generate(beforeFields)));
+        }
+        return Optional.empty();
+    }
+
     private Optional<DataChangeEvent> processFilter(
             TransformFilterProcessor transformFilterProcessor,
             DataChangeEvent dataChangeEvent,
@@ -556,7 +586,11 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
     }
 
     private Optional<DataChangeEvent> processPostProjection(
-            PostTransformChangeInfo tableInfo, DataChangeEvent dataChangeEvent) throws Exception {
+            PostTransformPlan plan, DataChangeEvent dataChangeEvent) throws Exception {
+        if (plan.isPostProjectionIdentical()) {
+            return Optional.of(dataChangeEvent);
+        }
+        PostTransformChangeInfo tableInfo = plan.getTableInfo();
         BinaryRecordData before = (BinaryRecordData) dataChangeEvent.before();
         BinaryRecordData after = (BinaryRecordData) dataChangeEvent.after();
         if (before != null) {
@@ -572,22 +606,18 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
 
     private BinaryRecordData projectRecord(
             PostTransformChangeInfo tableInfo, BinaryRecordData recordData) {
-        List<Object> valueList = new ArrayList<>();
         RecordData.FieldGetter[] fieldGetters = tableInfo.getPostTransformedFieldGetters();
-
-        for (RecordData.FieldGetter fieldGetter : fieldGetters) {
-            valueList.add(fieldGetter.getFieldOrNull(recordData));
+        Object[] fields = new Object[fieldGetters.length];
+        for (int i = 0; i < fieldGetters.length; i++) {
+            fields[i] = fieldGetters[i].getFieldOrNull(recordData);
         }
 
-        return tableInfo
-                .getRecordDataGenerator()
-                .generate(valueList.toArray(new Object[valueList.size()]));
+        return tableInfo.getRecordDataGenerator().generate(fields);
     }
 
     private void clearOperator() {
         this.transforms = null;
-        this.transformProjectionProcessorMap = null;
-        this.transformFilterProcessorMap = null;
+        this.postTransformPlanMap = null;
         TransformExpressionCompiler.cleanUp();
     }
 
@@ -639,6 +669,18 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
     }
 
     private String opTypeToRowKind(OperationType opType, char beforeOrAfter) {
-        return String.format("%c%c", beforeOrAfter, opType.name().charAt(0));
+        return beforeOrAfter == '+'
+                ? AFTER_ROW_KINDS[opType.ordinal()]
+                : BEFORE_ROW_KINDS[opType.ordinal()];
+    }
+
+    private static String[] rowKindsOf(char beforeOrAfter) {
+        OperationType[] opTypes = OperationType.values();
+        String[] rowKinds = new String[opTypes.length];
+        for (OperationType opType : opTypes) {
+            rowKinds[opType.ordinal()] =
+                    String.format("%c%c", beforeOrAfter, opType.name().charAt(0));
+        }
+        return rowKinds;
     }
 }
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.runtime.operators.transform.converter.PostTransformConverter;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The post-transform plan of a table, which is resolved once per schema of the table. It holds the
+ * transform rules matching the table in their declaration order, and compiles the filter and
+ * projection processors of them when the first data change event of the schema is processed, so
+ * that no rule is matched and no processor is looked up per data change event. The filter and the
+ * projection of each rule are fused into a generated {@link PostTransformEvaluator} if possible.
+ */
+class PostTransformPlan {
+
+    private final PostTransformChangeInfo tableInfo;
+    private final List<PostTransformer> matchedTransforms;
+    private final Map<PostTransformer, TransformProjection> transformProjections;
+    private final boolean postProjectionIdentical;
+
+    @Nullable private List<Stage> stages;
+
+    PostTransformPlan(
+            PostTransformChangeInfo tableInfo,
+            List<PostTransformer> matchedTransforms,
+            Map<PostTransformer, TransformProjection> transformProjections) {
+        this.tableInfo = tableInfo;
+        this.matchedTransforms = matchedTransforms;
+        this.transformProjections = transformProjections;
+        this.postProjectionIdentical =
+                tableInfo
+                        .getPreTransformedSchema()
+                        .getColumnDataTypes()
+                        .equals(tableInfo.getPostTransformedSchema().getColumnDataTypes());
+    }
+
+    PostTransformChangeInfo getTableInfo() {
+        return tableInfo;
+    }
+
+    /** Returns whether no transform rule matches the table. */
+    boolean isNotTransformed() {
+        return matchedTransforms.isEmpty();
+    }
+
+    /**
+     * Returns whether the records of the pre-transformed schema have the same layout as those of
+     * the post-transformed schema, so that the records which are not projected are kept as they
+     * are.
+     */
+    boolean isPostProjectionIdentical() {
+        return postProjectionIdentical;
+    }
+
+    /** Returns the stages of the matched transform rules, compiling them on the first call. */
+    List<Stage> getStages(
+            String timezone,
+            List<UserDefinedFunctionDescriptor> udfDescriptors,
+            List<Object> udfFunctionInstances) {
+        if (stages == null) {
+            List<Stage> compiledStages = new ArrayList<>(matchedTransforms.size());
+            for (PostTransformer transform : matchedTransforms) {
+                TransformFilterProcessor filterProcessor = null;
+                if (transform.getFilter().isPresent() && transform.getFilter().get().isVaild()) {
+                    filterProcessor =
+                            TransformFilterProcessor.of(
+                                    tableInfo,
+                                    transform.getFilter().get(),
+                                    timezone,
+                                    udfDescriptors,
+                                    udfFunctionInstances,
+                                    transform.getSupportedMetadataColumns());
+                }
+                TransformProjectionProcessor projectionProcessor = null;
+                TransformProjection transformProjection = transformProjections.get(transform);
+                if (transformProjection != null) {
+                    projectionProcessor =
+                            TransformProjectionProcessor.of(
+                                    tableInfo,
+                                    transformProjection,
+                                    timezone,
+                                    udfDescriptors,
+                                    udfFunctionInstances,
+                                    transform.getSupportedMetadataColumns());
+                }
+                PostTransformEvaluator evaluator = null;
+                if (filterProcessor != null || projectionProcessor != null) {
+                    evaluator =
+                            PostTransformEvaluatorGenerator.generate(
+                                    tableInfo,
+                                    transform,
+                                    filterProcessor,
+                                    projectionProcessor,
+                                    timezone,
+                                    udfDescriptors,
+                                    udfFunctionInstances);
+                }
+                compiledStages.add(
+                        new Stage(
+                                filterProcessor,
+                                projectionProcessor,
+                                evaluator,
+                                transform.getPostTransformConverter().orElse(null)));
+            }
+            stages = compiledStages;
+        }
+        return stages;
+    }
+
+    /**
+     * The compiled filter, projection and converter of a transform rule matching the table. The
+     * fused evaluator, if present, evaluates the filter and the projection in place of their
+     * processors.
+     */
+    static class Stage {
+        @Nullable private final TransformFilterProcessor filterProcessor;
+        @Nullable private final TransformProjectionProcessor projectionProcessor;
+        @Nullable private final PostTransformEvaluator evaluator;
+        @Nullable private final PostTransformConverter postTransformConverter;
+
+        Stage(
+                @Nullable TransformFilterProcessor filterProcessor,
+                @Nullable TransformProjectionProcessor projectionProcessor,
+                @Nullable PostTransformEvaluator evaluator,
+                @Nullable PostTransformConverter postTransformConverter) {
+            this.filterProcessor = filterProcessor;
+            this.projectionProcessor = projectionProcessor;
+            this.evaluator = evaluator;
+            this.postTransformConverter = postTransformConverter;
+        }
+
+        @Nullable
+        TransformFilterProcessor getFilterProcessor() {
+            return filterProcessor;
+        }
+
+        @Nullable
+        TransformProjectionProcessor getProjectionProcessor() {
+            return projectionProcessor;
+        }
+
+        @Nullable
+        PostTransformEvaluator getEvaluator() {
+            return evaluator;
+        }
+
+        @Nullable
+        PostTransformConverter getPostTransformConverter() {
+            return postTransformConverter;
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.flink.cdc.runtime.operators.transform;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.common.utils.StringUtils;
+import org.apache.flink.cdc.runtime.typeutils.DataTypeConverter;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -40,6 +41,10 @@ import java.util.List;
  *       expression.
  *   <li>originalColumnNames: a list for recording the name of all columns used by the column
  *       expression.
+ *   <li>binaryStringArgumentNames: a list for recording the name of the columns which can be passed
+ *       to the script expression as binary strings.
+ *   <li>binaryStringResult: whether the script expression returns a binary string when these
+ *       columns are passed as binary strings.
  * </ul>
  */
 public class ProjectionColumn implements Serializable {
@@ -48,6 +53,8 @@ public class ProjectionColumn implements Serializable {
     private final String expression;
     private final String scriptExpression;
     private final List<String> originalColumnNames;
+    private final List<String> binaryStringArgumentNames;
+    private final boolean binaryStringResult;
     private TransformExpressionKey transformExpressionKey;
 
     public ProjectionColumn(
@@ -55,10 +62,28 @@ public class ProjectionColumn implements Serializable {
             String expression,
             String scriptExpression,
             List<String> originalColumnNames) {
+        this(
+                column,
+                expression,
+                scriptExpression,
+                originalColumnNames,
+                Collections.emptyList(),
+                false);
+    }
+
+    public ProjectionColumn(
+            Column column,
+            String expression,
+            String scriptExpression,
+            List<String> originalColumnNames,
+            List<String> binaryStringArgumentNames,
+            boolean binaryStringResult) {
         this.column = column;
         this.expression = expression;
         this.scriptExpression = scriptExpression;
         this.originalColumnNames = originalColumnNames;
+        this.binaryStringArgumentNames = binaryStringArgumentNames;
+        this.binaryStringResult = binaryStringResult;
     }
 
     public ProjectionColumn copy() {
@@ -66,7 +91,9 @@ public class ProjectionColumn implements Serializable {
                 column.copy(column.getName()),
                 expression,
                 scriptExpression,
-                new ArrayList<>(originalColumnNames));
+                new ArrayList<>(originalColumnNames),
+                new ArrayList<>(binaryStringArgumentNames),
+                binaryStringResult);
     }
 
     public Column getColumn() {
@@ -89,6 +116,14 @@ public class ProjectionColumn implements Serializable {
         return originalColumnNames;
     }
 
+    public List<String> getBinaryStringArgumentNames() {
+        return binaryStringArgumentNames;
+    }
+
+    public boolean isBinaryStringResult() {
+        return binaryStringResult;
+    }
+
     public void setTransformExpressionKey(TransformExpressionKey transformExpressionKey) {
         this.transformExpressionKey = transformExpressionKey;
     }
@@ -104,7 +139,14 @@ public class ProjectionColumn implements Serializable {
      */
     public static ProjectionColumn ofForwarded(Column column) {
         String name = column.getName();
-        return new ProjectionColumn(column, name, name, Collections.singletonList(name));
+        boolean binaryString = isStringColumn(column);
+        return new ProjectionColumn(
+                column,
+                name,
+                name,
+                Collections.singletonList(name),
+                binaryString ? Collections.singletonList(name) : Collections.emptyList(),
+                binaryString);
     }
 
     /**
@@ -114,11 +156,14 @@ public class ProjectionColumn implements Serializable {
      */
     public static ProjectionColumn ofAliased(Column column, String newName) {
         String originalName = column.getName();
+        boolean binaryString = isStringColumn(column);
         return new ProjectionColumn(
                 column.copy(newName),
                 originalName,
                 originalName,
-                Collections.singletonList(originalName));
+                Collections.singletonList(originalName),
+                binaryString ? Collections.singletonList(originalName) : Collections.emptyList(),
+                binaryString);
     }
 
     /**
@@ -132,11 +177,35 @@ public class ProjectionColumn implements Serializable {
             String expression,
             String scriptExpression,
             List<String> originalColumnNames) {
+        return ofCalculated(
+                columnName,
+                dataType,
+                expression,
+                scriptExpression,
+                originalColumnNames,
+                Collections.emptyList(),
+                false);
+    }
+
+    public static ProjectionColumn ofCalculated(
+            String columnName,
+            DataType dataType,
+            String expression,
+            String scriptExpression,
+            List<String> originalColumnNames,
+            List<String> binaryStringArgumentNames,
+            boolean binaryStringResult) {
         return new ProjectionColumn(
                 Column.physicalColumn(columnName, dataType),
                 expression,
                 scriptExpression,
-                originalColumnNames);
+                originalColumnNames,
+                binaryStringArgumentNames,
+                binaryStringResult);
+    }
+
+    private static boolean isStringColumn(Column column) {
+        return DataTypeConverter.convertOriginalClass(column.getType()) == String.class;
     }
 
     @Override
@@ -17,12 +17,11 @@
 
 package org.apache.flink.cdc.runtime.operators.transform;
 
-import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
 import org.apache.flink.cdc.runtime.parser.JaninoCompiler;
-import org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns;
 import org.apache.flink.cdc.runtime.typeutils.DataTypeConverter;
 
 import org.codehaus.janino.ExpressionEvaluator;
@@ -31,9 +30,12 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns.METADATA_COLUMNS;
@@ -53,6 +55,7 @@ public class ProjectionColumnProcessor {
     private final SupportedMetadataColumn[] supportedMetadataColumns;
     private final transient List<Object> udfFunctionInstances;
     private transient ExpressionEvaluator expressionEvaluator;
+    private final transient TransformExpressionArguments expressionArguments;
 
     public ProjectionColumnProcessor(
             PostTransformChangeInfo tableInfo,
@@ -66,11 +69,20 @@ public class ProjectionColumnProcessor {
         this.timezone = timezone;
         this.udfDescriptors = udfDescriptors;
         this.supportedMetadataColumns = supportedMetadataColumns;
-        this.transformExpressionKey = generateTransformExpressionKey();
-        this.expressionEvaluator =
-                TransformExpressionCompiler.compileExpression(
-                        transformExpressionKey, udfDescriptors);
+        Map<String, SupportedMetadataColumn> supportedMetadataColumnsMap =
+                supportedMetadataColumnsByName(supportedMetadataColumns);
+        Set<String> binaryStringArgumentNames =
+                new HashSet<>(projectionColumn.getBinaryStringArgumentNames());
+        compileExpression(binaryStringArgumentNames);
         this.udfFunctionInstances = udfFunctionInstances;
+        this.expressionArguments =
+                new TransformExpressionArguments(
+                        tableInfo,
+                        new LinkedHashSet<>(projectionColumn.getOriginalColumnNames()),
+                        binaryStringArgumentNames,
+                        supportedMetadataColumnsMap,
+                        timezone,
+                        udfFunctionInstances);
     }
 
     public static ProjectionColumnProcessor of(
@@ -93,10 +105,15 @@ public class ProjectionColumnProcessor {
         return projectionColumn;
     }
 
+    TransformExpressionKey getTransformExpressionKey() {
+        return transformExpressionKey;
+    }
+
     public Object evaluate(
             BinaryRecordData record, long epochTime, String opType, Map<String, String> meta) {
         try {
-            return expressionEvaluator.evaluate(generateParams(record, epochTime, opType, meta));
+            return expressionEvaluator.evaluate(
+                    expressionArguments.generateParams(record, epochTime, opType, meta));
         } catch (InvocationTargetException e) {
             LOG.error(
                     "Table:{} column:{} projection:{} execute failed. {}",
@@ -108,70 +125,35 @@ public class ProjectionColumnProcessor {
         }
     }
 
-    private Object[] generateParams(
-            BinaryRecordData record, long epochTime, String opType, Map<String, String> meta) {
-        List<Object> params = new ArrayList<>();
-        List<Column> columns = tableInfo.getPreTransformedSchema().getColumns();
-
-        // 1 - Add referenced columns
-        RecordData.FieldGetter[] fieldGetters = tableInfo.getPreTransformedFieldGetters();
-        LinkedHashSet<String> originalColumnNames =
-                new LinkedHashSet<>(projectionColumn.getOriginalColumnNames());
-        for (String originalColumnName : originalColumnNames) {
-            switch (originalColumnName) {
-                case MetadataColumns.DEFAULT_NAMESPACE_NAME:
-                    params.add(tableInfo.getNamespace());
-                    continue;
-                case MetadataColumns.DEFAULT_SCHEMA_NAME:
-                    params.add(tableInfo.getSchemaName());
-                    continue;
-                case MetadataColumns.DEFAULT_TABLE_NAME:
-                    params.add(tableInfo.getTableName());
-                    continue;
-                case MetadataColumns.DEFAULT_DATA_EVENT_TYPE:
-                    params.add(opType);
-                    continue;
-            }
-
-            boolean foundInMeta = false;
-            for (SupportedMetadataColumn supportedMetadataColumn : supportedMetadataColumns) {
-                if (supportedMetadataColumn.getName().equals(originalColumnName)) {
-                    params.add(supportedMetadataColumn.read(meta));
-                    foundInMeta = true;
-                    break;
-                }
-            }
-            if (foundInMeta) {
-                continue;
-            }
-
-            boolean argumentFound = false;
-            for (int i = 0; i < columns.size(); i++) {
-                Column column = columns.get(i);
-                if (column.getName().equals(originalColumnName)) {
-                    params.add(
-                            DataTypeConverter.convertToOriginal(
-                                    fieldGetters[i].getFieldOrNull(record), column.getType()));
-                    argumentFound = true;
-                    break;
-                }
-            }
-            if (!argumentFound) {
-                throw new IllegalArgumentException(
-                        "Failed to evaluate argument " + originalColumnName);
-            }
+    private static Map<String, SupportedMetadataColumn> supportedMetadataColumnsByName(
+            SupportedMetadataColumn[] supportedMetadataColumns) {
+        Map<String, SupportedMetadataColumn> supportedMetadataColumnsMap = new HashMap<>();
+        for (SupportedMetadataColumn supportedMetadataColumn : supportedMetadataColumns) {
+            supportedMetadataColumnsMap.putIfAbsent(
+                    supportedMetadataColumn.getName(), supportedMetadataColumn);
         }
+        return supportedMetadataColumnsMap;
+    }
 
-        // 2 - Add time-sensitive function arguments
-        params.add(timezone);
-        params.add(epochTime);
-
-        // 3 - Add UDF function instances
-        params.addAll(udfFunctionInstances);
-        return params.toArray();
+    /**
+     * Compiles the expression with the string columns which the parser found can be taken as binary
+     * strings. A string projection then also returns a binary string if the parser found so, which
+     * is written to the record as it is.
+     */
+    private void compileExpression(Set<String> binaryStringArgumentNames) {
+        Class<?> returnClass =
+                projectionColumn.isBinaryStringResult()
+                        ? BinaryStringData.class
+                        : DataTypeConverter.convertOriginalClass(projectionColumn.getDataType());
+        this.transformExpressionKey =
+                generateTransformExpressionKey(binaryStringArgumentNames, returnClass);
+        this.expressionEvaluator =
+                TransformExpressionCompiler.compileExpression(
+                        transformExpressionKey, udfDescriptors);
     }
 
-    private TransformExpressionKey generateTransformExpressionKey() {
+    private TransformExpressionKey generateTransformExpressionKey(
+            Set<String> binaryStringArgumentNames, Class<?> returnClass) {
         List<String> argumentNames = new ArrayList<>();
         List<Class<?>> paramTypes = new ArrayList<>();
         List<Column> columns = tableInfo.getPreTransformedSchema().getColumns();
@@ -182,7 +164,10 @@ public class ProjectionColumnProcessor {
             for (Column column : columns) {
                 if (column.getName().equals(originalColumnName)) {
                     argumentNames.add(originalColumnName);
-                    paramTypes.add(DataTypeConverter.convertOriginalClass(column.getType()));
+                    paramTypes.add(
+                            binaryStringArgumentNames.contains(originalColumnName)
+                                    ? BinaryStringData.class
+                                    : DataTypeConverter.convertOriginalClass(column.getType()));
                     break;
                 }
             }
@@ -214,6 +199,6 @@ public class ProjectionColumnProcessor {
                 JaninoCompiler.loadSystemFunction(scriptExpression),
                 argumentNames,
                 paramTypes,
-                DataTypeConverter.convertOriginalClass(projectionColumn.getDataType()));
+                returnClass);
     }
 }
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns;
+import org.apache.flink.cdc.runtime.typeutils.DataTypeConverter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The arguments of a compiled transform expression, which are bound once to the pre-transformed
+ * schema of a table. Evaluating the arguments of a record only reads the referenced fields and
+ * metadata, and the parameter array is reused for every record. The string columns whose names are
+ * bound as binary strings are passed as {@link BinaryStringData} without being decoded.
+ */
+class TransformExpressionArguments {
+
+    private final ArgumentGetter[] argumentGetters;
+    private final Object[] params;
+
+    TransformExpressionArguments(
+            PostTransformChangeInfo tableInfo,
+            Collection<String> argumentNames,
+            Set<String> binaryStringArgumentNames,
+            Map<String, SupportedMetadataColumn> supportedMetadataColumns,
+            String timezone,
+            List<Object> udfFunctionInstances) {
+        this.argumentGetters = new ArgumentGetter[argumentNames.size()];
+        int i = 0;
+        for (String argumentName : argumentNames) {
+            argumentGetters[i++] =
+                    createArgumentGetter(
+                            tableInfo,
+                            argumentName,
+                            binaryStringArgumentNames.contains(argumentName),
+                            supportedMetadataColumns);
+        }
+
+        // The arguments are followed by the time-sensitive function arguments and the UDF
+        // function instances
+        this.params = new Object[argumentGetters.length + 2 + udfFunctionInstances.size()];
+        params[argumentGetters.length] = timezone;
+        for (int j = 0; j < udfFunctionInstances.size(); j++) {
+            params[argumentGetters.length + 2 + j] = udfFunctionInstances.get(j);
+        }
+    }
+
+    /** Returns the parameters of the expression for the given record. */
+    Object[] generateParams(
+            BinaryRecordData record, long epochTime, String opType, Map<String, String> meta) {
+        for (int i = 0; i < argumentGetters.length; i++) {
+            params[i] = argumentGetters[i].get(record, opType, meta);
+        }
+        params[argumentGetters.length + 1] = epochTime;
+        return params;
+    }
+
+    private static ArgumentGetter createArgumentGetter(
+            PostTransformChangeInfo tableInfo,
+            String argumentName,
+            boolean binaryString,
+            Map<String, SupportedMetadataColumn> supportedMetadataColumns) {
+        switch (argumentName) {
+            case MetadataColumns.DEFAULT_NAMESPACE_NAME:
+                String namespace = tableInfo.getNamespace();
+                return (record, opType, meta) -> namespace;
+            case MetadataColumns.DEFAULT_SCHEMA_NAME:
+                String schemaName = tableInfo.getSchemaName();
+                return (record, opType, meta) -> schemaName;
+            case MetadataColumns.DEFAULT_TABLE_NAME:
+                String tableName = tableInfo.getTableName();
+                return (record, opType, meta) -> tableName;
+            case MetadataColumns.DEFAULT_DATA_EVENT_TYPE:
+                return (record, opType, meta) -> opType;
+        }
+
+        SupportedMetadataColumn supportedMetadataColumn =
+                supportedMetadataColumns.get(argumentName);
+        if (supportedMetadataColumn != null) {
+            return (record, opType, meta) -> supportedMetadataColumn.read(meta);
+        }
+
+        List<Column> columns = tableInfo.getPreTransformedSchema().getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getName().equals(argumentName)) {
+                RecordData.FieldGetter fieldGetter = tableInfo.getPreTransformedFieldGetters()[i];
+                if (binaryString) {
+                    return (record, opType, meta) -> fieldGetter.getFieldOrNull(record);
+                }
+                DataType dataType = columns.get(i).getType();
+                return (record, opType, meta) ->
+                        DataTypeConverter.convertToOriginal(
+                                fieldGetter.getFieldOrNull(record), dataType);
+            }
+        }
+
+        return (record, opType, meta) -> {
+            throw new IllegalArgumentException("Failed to evaluate argument " + argumentName);
+        };
+    }
+
+    /** Reads an argument of the expression from a record and its metadata. */
+    @FunctionalInterface
+    private interface ArgumentGetter {
+        Object get(BinaryRecordData record, String opType, Map<String, String> meta);
+    }
+}
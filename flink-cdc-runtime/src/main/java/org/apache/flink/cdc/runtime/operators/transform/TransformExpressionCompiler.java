@@ -24,6 +24,7 @@ import org.apache.flink.shaded.guava31.com.google.common.cache.Cache;
 import org.apache.flink.shaded.guava31.com.google.common.cache.CacheBuilder;
 
 import org.codehaus.commons.compiler.CompileException;
+import org.codehaus.janino.ClassBodyEvaluator;
 import org.codehaus.janino.ExpressionEvaluator;
 
 import java.util.List;
@@ -37,12 +38,36 @@ public class TransformExpressionCompiler {
     static final Cache<TransformExpressionKey, ExpressionEvaluator> COMPILED_EXPRESSION_CACHE =
             CacheBuilder.newBuilder().softValues().build();
 
+    static final Cache<String, Class<?>> COMPILED_EVALUATOR_CACHE =
+            CacheBuilder.newBuilder().softValues().build();
+
     /** Triggers internal garbage collection of expired cache entries. */
     public static void cleanUp() {
         // com.google.common.cache.Cache from Guava isn't guaranteed to clear all cached records
         // when invoking Cache#cleanUp, which may cause classloader leakage. Use #invalidateAll
         // instead to ensure all key / value pairs to be correctly discarded.
         COMPILED_EXPRESSION_CACHE.invalidateAll();
+        COMPILED_EVALUATOR_CACHE.invalidateAll();
+    }
+
+    /**
+     * Compiles the class body of a {@link PostTransformEvaluator}, which is shared by the tables
+     * whose transform rules generate the same code.
+     */
+    public static Class<?> compileEvaluator(String classBody) {
+        try {
+            return COMPILED_EVALUATOR_CACHE.get(
+                    classBody,
+                    () -> {
+                        ClassBodyEvaluator classBodyEvaluator = new ClassBodyEvaluator();
+                        classBodyEvaluator.setImplementedInterfaces(
+                                new Class[] {PostTransformEvaluator.class});
+                        classBodyEvaluator.cook(classBody);
+                        return classBodyEvaluator.getClazz();
+                    });
+        } catch (Exception e) {
+            throw new FlinkRuntimeException(e.getMessage(), e);
+        }
     }
 
     /** Compiles an expression code to a janino {@link ExpressionEvaluator}. */
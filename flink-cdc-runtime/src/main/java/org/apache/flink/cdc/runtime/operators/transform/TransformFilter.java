@@ -68,7 +68,7 @@ public class TransformFilter implements Serializable {
         List<String> columnNames = TransformParser.parseFilterColumnNameList(filterExpression);
         String scriptExpression =
                 TransformParser.translateFilterExpressionToJaninoExpression(
-                        filterExpression, udfDescriptors);
+                        filterExpression, udfDescriptors, true);
         return Optional.of(new TransformFilter(filterExpression, scriptExpression, columnNames));
     }
 
@@ -18,12 +18,12 @@
 package org.apache.flink.cdc.runtime.operators.transform;
 
 import org.apache.flink.api.java.tuple.Tuple2;
-import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
 import org.apache.flink.cdc.runtime.parser.JaninoCompiler;
-import org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns;
+import org.apache.flink.cdc.runtime.parser.TransformParser;
 import org.apache.flink.cdc.runtime.typeutils.DataTypeConverter;
 
 import org.codehaus.janino.ExpressionEvaluator;
@@ -36,6 +36,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns.METADATA_COLUMNS;
 
@@ -49,6 +50,7 @@ public class TransformFilterProcessor {
     private final transient List<Object> udfFunctionInstances;
     private transient ExpressionEvaluator expressionEvaluator;
     private final Map<String, SupportedMetadataColumn> supportedMetadataColumns;
+    private final transient TransformExpressionArguments expressionArguments;
 
     public TransformFilterProcessor(
             PostTransformChangeInfo tableInfo,
@@ -61,11 +63,29 @@ public class TransformFilterProcessor {
         this.transformFilter = transformFilter;
         this.timezone = timezone;
         this.supportedMetadataColumns = supportedMetadataColumns;
-        this.transformExpressionKey = generateTransformExpressionKey();
-        this.udfFunctionInstances = udfFunctionInstances;
+        Set<String> binaryStringArgumentNames =
+                TransformParser.parseFilterBinaryStringArgumentNames(
+                        transformFilter.getExpression(),
+                        udfDescriptors,
+                        TransformParser.binaryStringColumns(
+                                tableInfo.getPreTransformedSchema().getColumns(),
+                                supportedMetadataColumns
+                                        .values()
+                                        .toArray(new SupportedMetadataColumn[0])));
+        this.transformExpressionKey =
+                generateTransformExpressionKey(generateArguments(binaryStringArgumentNames));
         this.expressionEvaluator =
                 TransformExpressionCompiler.compileExpression(
                         transformExpressionKey, udfDescriptors);
+        this.expressionArguments =
+                new TransformExpressionArguments(
+                        tableInfo,
+                        generateArguments(binaryStringArgumentNames).f0,
+                        binaryStringArgumentNames,
+                        supportedMetadataColumns,
+                        timezone,
+                        udfFunctionInstances);
+        this.udfFunctionInstances = udfFunctionInstances;
     }
 
     public static TransformFilterProcessor of(
@@ -89,11 +109,16 @@ public class TransformFilterProcessor {
                 supportedMetadataColumnsMap);
     }
 
+    TransformExpressionKey getTransformExpressionKey() {
+        return transformExpressionKey;
+    }
+
     public boolean process(
             BinaryRecordData record, long epochTime, String opType, Map<String, String> meta) {
         try {
             return (Boolean)
-                    expressionEvaluator.evaluate(generateParams(record, epochTime, opType, meta));
+                    expressionEvaluator.evaluate(
+                            expressionArguments.generateParams(record, epochTime, opType, meta));
         } catch (InvocationTargetException e) {
             LOG.error(
                     "Table:{} filter:{} execute failed. {}",
@@ -104,7 +129,8 @@ public class TransformFilterProcessor {
         }
     }
 
-    private Tuple2<List<String>, List<Class<?>>> generateArguments() {
+    private Tuple2<List<String>, List<Class<?>>> generateArguments(
+            Set<String> binaryStringArgumentNames) {
         List<String> argNames = new ArrayList<>();
         List<Class<?>> argTypes = new ArrayList<>();
         String scriptExpression = transformFilter.getScriptExpression();
@@ -114,7 +140,10 @@ public class TransformFilterProcessor {
             for (Column column : columns) {
                 if (column.getName().equals(columnName)) {
                     argNames.add(columnName);
-                    argTypes.add(DataTypeConverter.convertOriginalClass(column.getType()));
+                    argTypes.add(
+                            binaryStringArgumentNames.contains(columnName)
+                                    ? BinaryStringData.class
+                                    : DataTypeConverter.convertOriginalClass(column.getType()));
                     break;
                 }
             }
@@ -141,58 +170,8 @@ public class TransformFilterProcessor {
         return Tuple2.of(argNames, argTypes);
     }
 
-    private Object[] generateParams(
-            BinaryRecordData record, long epochTime, String opType, Map<String, String> meta) {
-        List<Object> params = new ArrayList<>();
-        List<Column> columns = tableInfo.getPreTransformedSchema().getColumns();
-
-        // 1 - Add referenced columns
-        Tuple2<List<String>, List<Class<?>>> args = generateArguments();
-        RecordData.FieldGetter[] fieldGetters = tableInfo.getPreTransformedFieldGetters();
-        for (String columnName : args.f0) {
-            switch (columnName) {
-                case MetadataColumns.DEFAULT_NAMESPACE_NAME:
-                    params.add(tableInfo.getNamespace());
-                    continue;
-                case MetadataColumns.DEFAULT_SCHEMA_NAME:
-                    params.add(tableInfo.getSchemaName());
-                    continue;
-                case MetadataColumns.DEFAULT_TABLE_NAME:
-                    params.add(tableInfo.getTableName());
-                    continue;
-                case MetadataColumns.DEFAULT_DATA_EVENT_TYPE:
-                    params.add(opType);
-                    continue;
-            }
-
-            if (supportedMetadataColumns.containsKey(columnName)) {
-                params.add(supportedMetadataColumns.get(columnName).read(meta));
-                continue;
-            }
-
-            for (int i = 0; i < columns.size(); i++) {
-                Column column = columns.get(i);
-                if (column.getName().equals(columnName)) {
-                    params.add(
-                            DataTypeConverter.convertToOriginal(
-                                    fieldGetters[i].getFieldOrNull(record), column.getType()));
-                    break;
-                }
-            }
-        }
-
-        // 2 - Add time-sensitive function arguments
-        params.add(timezone);
-        params.add(epochTime);
-
-        // 3 - Add UDF function instances
-        params.addAll(udfFunctionInstances);
-        return params.toArray();
-    }
-
-    private TransformExpressionKey generateTransformExpressionKey() {
-        Tuple2<List<String>, List<Class<?>>> args = generateArguments();
-
+    private TransformExpressionKey generateTransformExpressionKey(
+            Tuple2<List<String>, List<Class<?>>> args) {
         args.f0.add(JaninoCompiler.DEFAULT_TIME_ZONE);
         args.f1.add(String.class);
         args.f0.add(JaninoCompiler.DEFAULT_EPOCH_TIME);
@@ -22,7 +22,6 @@ import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
-import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.runtime.parser.TransformParser;
 import org.apache.flink.cdc.runtime.typeutils.DataTypeConverter;
 
@@ -55,6 +54,7 @@ public class TransformProjectionProcessor {
     private final TransformProjection transformProjection;
     private final String timezone;
     private final List<ProjectionColumnProcessor> cachedProjectionColumnProcessors;
+    private final int[] preTransformedPositions;
     private final List<UserDefinedFunctionDescriptor> udfDescriptors;
     private final transient List<Object> udfFunctionInstances;
 
@@ -75,6 +75,7 @@ public class TransformProjectionProcessor {
         this.cachedProjectionColumnProcessors =
                 cacheProjectionColumnProcessors(
                         postTransformChangeInfo, transformProjection, supportedMetadataColumns);
+        this.preTransformedPositions = resolvePreTransformedPositions(postTransformChangeInfo);
     }
 
     public boolean hasTableInfo() {
@@ -130,6 +131,16 @@ public class TransformProjectionProcessor {
                 supportedMetadataColumns);
     }
 
+    /** Returns the processors of the post-transformed columns, which are null if not computed. */
+    List<ProjectionColumnProcessor> getProjectionColumnProcessors() {
+        return cachedProjectionColumnProcessors;
+    }
+
+    /** Returns the pre-transformed positions of the post-transformed columns, -1 if missing. */
+    int[] getPreTransformedPositions() {
+        return preTransformedPositions;
+    }
+
     public Schema processSchema(Schema schema, SupportedMetadataColumn[] supportedMetadataColumns) {
         List<ProjectionColumn> projectionColumns =
                 TransformParser.generateProjectionColumns(
@@ -156,49 +167,49 @@ public class TransformProjectionProcessor {
 
     public BinaryRecordData processData(
             BinaryRecordData payload, long epochTime, String opType, Map<String, String> meta) {
-        List<Object> valueList = new ArrayList<>();
         List<Column> columns = postTransformChangeInfo.getPostTransformedSchema().getColumns();
+        RecordData.FieldGetter[] preTransformedFieldGetters =
+                postTransformChangeInfo.getPreTransformedFieldGetters();
+        Object[] fields = new Object[columns.size()];
 
         for (int i = 0; i < columns.size(); i++) {
             ProjectionColumnProcessor projectionColumnProcessor =
                     cachedProjectionColumnProcessors.get(i);
             if (projectionColumnProcessor != null) {
                 ProjectionColumn projectionColumn = projectionColumnProcessor.getProjectionColumn();
-                valueList.add(
+                fields[i] =
                         DataTypeConverter.convert(
                                 projectionColumnProcessor.evaluate(
                                         payload, epochTime, opType, meta),
-                                projectionColumn.getDataType()));
-            } else {
-                Column column = columns.get(i);
-                valueList.add(
-                        getValueFromBinaryRecordData(
-                                column.getName(),
-                                column.getType(),
-                                payload,
-                                postTransformChangeInfo.getPreTransformedSchema().getColumns(),
-                                postTransformChangeInfo.getPreTransformedFieldGetters()));
+                                projectionColumn.getDataType());
+            } else if (preTransformedPositions[i] != -1) {
+                fields[i] =
+                        DataTypeConverter.convert(
+                                preTransformedFieldGetters[preTransformedPositions[i]]
+                                        .getFieldOrNull(payload),
+                                columns.get(i).getType());
             }
         }
 
-        return postTransformChangeInfo
-                .getRecordDataGenerator()
-                .generate(valueList.toArray(new Object[0]));
+        return postTransformChangeInfo.getRecordDataGenerator().generate(fields);
     }
 
-    private Object getValueFromBinaryRecordData(
-            String columnName,
-            DataType expectedType,
-            BinaryRecordData binaryRecordData,
-            List<Column> columns,
-            RecordData.FieldGetter[] fieldGetters) {
+    /**
+     * Resolves the position of each post-transformed column in the pre-transformed schema, which is
+     * -1 if the column is missing.
+     */
+    private static int[] resolvePreTransformedPositions(PostTransformChangeInfo tableInfo) {
+        if (tableInfo == null) {
+            return new int[0];
+        }
+        List<String> preTransformedColumnNames =
+                tableInfo.getPreTransformedSchema().getColumnNames();
+        List<Column> columns = tableInfo.getPostTransformedSchema().getColumns();
+        int[] positions = new int[columns.size()];
         for (int i = 0; i < columns.size(); i++) {
-            if (columnName.equals(columns.get(i).getName())) {
-                return DataTypeConverter.convert(
-                        fieldGetters[i].getFieldOrNull(binaryRecordData), expectedType);
-            }
+            positions[i] = preTransformedColumnNames.indexOf(columns.get(i).getName());
         }
-        return null;
+        return positions;
     }
 
     private List<ProjectionColumnProcessor> cacheProjectionColumnProcessors(
@@ -28,11 +28,14 @@ import org.apache.calcite.sql.SqlBasicTypeNameSpec;
 import org.apache.calcite.sql.SqlCharStringLiteral;
 import org.apache.calcite.sql.SqlDataTypeSpec;
 import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.sql.SqlLiteral;
 import org.apache.calcite.sql.SqlNode;
 import org.apache.calcite.sql.SqlNodeList;
 import org.apache.calcite.sql.SqlNumericLiteral;
+import org.apache.calcite.sql.SqlWriter;
 import org.apache.calcite.sql.fun.SqlCase;
+import org.apache.calcite.sql.parser.SqlParserPos;
 import org.apache.calcite.sql.type.SqlTypeName;
 import org.codehaus.commons.compiler.CompileException;
 import org.codehaus.commons.compiler.Location;
@@ -41,8 +44,11 @@ import org.codehaus.janino.Java;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Use Janino compiler to compiler the statement of flink cdc pipeline transform into the executable
@@ -76,6 +82,16 @@ public class JaninoCompiler {
                     "TIMESTAMPDIFF",
                     "TIMESTAMP_DIFF");
 
+    /** The functions which have binary string overloads of their first argument. */
+    private static final List<String> BINARY_STRING_FUNCTIONS = Arrays.asList("CHAR_LENGTH");
+
+    /** The functions which have binary string overloads returning binary strings. */
+    private static final List<String> BINARY_STRING_RESULT_FUNCTIONS =
+            Arrays.asList("UPPER", "LOWER", "SUBSTR", "SUBSTRING");
+
+    /** The functions which are not folded, as they return different results for every call. */
+    private static final List<String> NON_DETERMINISTIC_FUNCTIONS = Arrays.asList("UUID");
+
     public static final String DEFAULT_EPOCH_TIME = "__epoch_time__";
     public static final String DEFAULT_TIME_ZONE = "__time_zone__";
 
@@ -127,6 +143,270 @@ public class JaninoCompiler {
         return null;
     }
 
+    /**
+     * Folds the constant subexpressions of an expression, which only depend on literals, into the
+     * literals of their results. The subexpressions are evaluated once here rather than for every
+     * record. The subexpressions whose results have no literals, or which fail to be evaluated, are
+     * kept as they are, so that they behave the same as before for every record.
+     *
+     * <p>Note: The calls of the expression are modified in place.
+     *
+     * @return the folded expression
+     */
+    public static SqlNode foldConstants(
+            SqlNode expression, List<UserDefinedFunctionDescriptor> udfDescriptors) {
+        if (expression instanceof SqlBasicCall) {
+            SqlBasicCall sqlBasicCall = (SqlBasicCall) expression;
+            List<SqlNode> operandList = sqlBasicCall.getOperandList();
+            boolean constant =
+                    !operandList.isEmpty() && isDeterministic(sqlBasicCall, udfDescriptors);
+            for (int i = 0; i < operandList.size(); i++) {
+                SqlNode operand = operandList.get(i);
+                SqlNode foldedOperand = foldConstants(operand, udfDescriptors);
+                if (foldedOperand != operand) {
+                    sqlBasicCall.setOperand(i, foldedOperand);
+                }
+                constant &=
+                        foldedOperand instanceof SqlLiteral
+                                || foldedOperand instanceof SqlDataTypeSpec;
+            }
+            if (constant) {
+                return foldConstantCall(sqlBasicCall, udfDescriptors);
+            }
+        } else if (expression instanceof SqlCase) {
+            SqlCase sqlCase = (SqlCase) expression;
+            List<SqlNode> operandList = sqlCase.getOperandList();
+            for (int i = 0; i < operandList.size(); i++) {
+                SqlNode operand = operandList.get(i);
+                SqlNode foldedOperand = foldConstants(operand, udfDescriptors);
+                if (foldedOperand != operand) {
+                    sqlCase.setOperand(i, foldedOperand);
+                }
+            }
+        } else if (expression instanceof SqlNodeList) {
+            SqlNodeList sqlNodeList = (SqlNodeList) expression;
+            for (int i = 0; i < sqlNodeList.size(); i++) {
+                sqlNodeList.set(i, foldConstants(sqlNodeList.get(i), udfDescriptors));
+            }
+        }
+        return expression;
+    }
+
+    /**
+     * Returns whether a call returns the same result for the same operands. The temporal functions
+     * also depend on the time and the time zone of the pipeline.
+     */
+    private static boolean isDeterministic(
+            SqlBasicCall sqlBasicCall, List<UserDefinedFunctionDescriptor> udfDescriptors) {
+        String operatorName = sqlBasicCall.getOperator().getName().toUpperCase();
+        return !NON_DETERMINISTIC_FUNCTIONS.contains(operatorName)
+                && !TIMEZONE_FREE_TEMPORAL_FUNCTIONS.contains(operatorName)
+                && !TIMEZONE_REQUIRED_TEMPORAL_FUNCTIONS.contains(operatorName)
+                && !TIMEZONE_FREE_TEMPORAL_CONVERSION_FUNCTIONS.contains(operatorName)
+                && !TIMEZONE_REQUIRED_TEMPORAL_CONVERSION_FUNCTIONS.contains(operatorName)
+                && udfDescriptors.stream()
+                        .noneMatch(udf -> udf.getName().equalsIgnoreCase(operatorName));
+    }
+
+    private static SqlNode foldConstantCall(
+            SqlBasicCall sqlBasicCall, List<UserDefinedFunctionDescriptor> udfDescriptors) {
+        String expression = translateSqlBasicCall(sqlBasicCall, udfDescriptors).toString();
+        if (expression.contains(DEFAULT_EPOCH_TIME) || expression.contains(DEFAULT_TIME_ZONE)) {
+            return sqlBasicCall;
+        }
+        Object result;
+        try {
+            ExpressionEvaluator expressionEvaluator = new ExpressionEvaluator();
+            expressionEvaluator.setExpressionType(Object.class);
+            expressionEvaluator.cook(loadSystemFunction(expression));
+            result = expressionEvaluator.evaluate();
+        } catch (Exception e) {
+            return sqlBasicCall;
+        }
+        String literal;
+        if (result instanceof String) {
+            literal = toJavaStringLiteral((String) result);
+        } else if (result instanceof Boolean || result instanceof Integer) {
+            literal = result.toString();
+        } else if (result instanceof Long) {
+            literal = result + "L";
+        } else if (result instanceof Double && Double.isFinite((Double) result)) {
+            literal = result + "D";
+        } else {
+            return sqlBasicCall;
+        }
+        if (literal.startsWith("-")) {
+            literal = "(" + literal + ")";
+        }
+        return new FoldedLiteral(sqlBasicCall, literal);
+    }
+
+    /**
+     * Finds the identifiers of an expression which can be passed as {@link
+     * org.apache.flink.cdc.common.data.binary.BinaryStringData} rather than decoded {@link String},
+     * because each of their occurrences is an operand of a function having a binary string overload
+     * in {@link org.apache.flink.cdc.runtime.functions.SystemFunctionUtils}. The functions
+     * returning strings only take binary strings when their own results are accepted as binary
+     * strings, which the root of an expression is if {@code binaryStringResult} is set.
+     *
+     * <p>Only the identifiers of the string columns, as tested by {@code binaryStringColumns}, are
+     * passed as binary strings. The operands of a concatenation are either all binary strings or
+     * all decoded, so the names are narrowed until every concatenation agrees, and the expression
+     * compiles with the returned names.
+     */
+    public static Set<String> findBinaryStringArgumentNames(
+            SqlNode expression,
+            boolean binaryStringResult,
+            List<UserDefinedFunctionDescriptor> udfDescriptors,
+            Predicate<String> binaryStringColumns) {
+        Set<String> binaryStringNames = null;
+        Predicate<String> candidates = binaryStringColumns;
+        while (true) {
+            Set<String> names = new HashSet<>();
+            Set<String> stringNames = new HashSet<>();
+            collectBinaryStringArgumentNames(
+                    expression, binaryStringResult, udfDescriptors, candidates, names, stringNames);
+            names.removeAll(stringNames);
+            if (names.equals(binaryStringNames)) {
+                return names;
+            }
+            // The candidates only shrink, so the names converge
+            binaryStringNames = names;
+            candidates = names::contains;
+        }
+    }
+
+    /**
+     * Returns whether an expression evaluates to a {@link
+     * org.apache.flink.cdc.common.data.binary.BinaryStringData} when the given identifiers are
+     * passed as binary strings.
+     */
+    public static boolean isBinaryStringResult(
+            SqlNode expression,
+            List<UserDefinedFunctionDescriptor> udfDescriptors,
+            Predicate<String> binaryStringNames) {
+        if (expression instanceof SqlIdentifier) {
+            SqlIdentifier sqlIdentifier = (SqlIdentifier) expression;
+            return binaryStringNames.test(sqlIdentifier.names.get(sqlIdentifier.names.size() - 1));
+        } else if (!(expression instanceof SqlBasicCall)) {
+            return false;
+        }
+        SqlBasicCall sqlBasicCall = (SqlBasicCall) expression;
+        List<SqlNode> operandList = sqlBasicCall.getOperandList();
+        String functionName = sqlBasicCall.getOperator().getName().toUpperCase();
+        if ((sqlBasicCall.getKind() == SqlKind.OTHER && "||".equals(functionName))
+                || (sqlBasicCall.getKind() == SqlKind.OTHER_FUNCTION
+                        && "CONCAT".equals(functionName)
+                        && !isUdf(functionName, udfDescriptors))) {
+            return !operandList.isEmpty()
+                    && operandList.stream()
+                            .allMatch(
+                                    operand ->
+                                            !(operand instanceof SqlLiteral)
+                                                    && isBinaryStringResult(
+                                                            operand,
+                                                            udfDescriptors,
+                                                            binaryStringNames));
+        } else if (sqlBasicCall.getKind() == SqlKind.OTHER_FUNCTION
+                && BINARY_STRING_RESULT_FUNCTIONS.contains(functionName)
+                && !isUdf(functionName, udfDescriptors)) {
+            return isBinaryStringResult(operandList.get(0), udfDescriptors, binaryStringNames);
+        }
+        return false;
+    }
+
+    private static boolean isUdf(
+            String functionName, List<UserDefinedFunctionDescriptor> udfDescriptors) {
+        return udfDescriptors.stream()
+                .anyMatch(udf -> udf.getName().equalsIgnoreCase(functionName));
+    }
+
+    private static void collectBinaryStringArgumentNames(
+            SqlNode sqlNode,
+            boolean acceptsBinaryString,
+            List<UserDefinedFunctionDescriptor> udfDescriptors,
+            Predicate<String> candidates,
+            Set<String> binaryStringNames,
+            Set<String> stringNames) {
+        if (sqlNode instanceof SqlIdentifier) {
+            SqlIdentifier sqlIdentifier = (SqlIdentifier) sqlNode;
+            String name = sqlIdentifier.names.get(sqlIdentifier.names.size() - 1);
+            (acceptsBinaryString && candidates.test(name) ? binaryStringNames : stringNames)
+                    .add(name);
+        } else if (sqlNode instanceof SqlBasicCall) {
+            SqlBasicCall sqlBasicCall = (SqlBasicCall) sqlNode;
+            List<SqlNode> operandList = sqlBasicCall.getOperandList();
+            boolean operandsAcceptBinaryString;
+            boolean firstOperandOnly = false;
+            switch (sqlBasicCall.getKind()) {
+                case EQUALS:
+                case NOT_EQUALS:
+                case LESS_THAN:
+                case GREATER_THAN:
+                case LESS_THAN_OR_EQUAL:
+                case GREATER_THAN_OR_EQUAL:
+                case IS_NULL:
+                case IS_NOT_NULL:
+                    // evaluated by the methods taking objects
+                    operandsAcceptBinaryString = true;
+                    break;
+                case IN:
+                case NOT_IN:
+                    operandsAcceptBinaryString = true;
+                    firstOperandOnly = true;
+                    break;
+                case OTHER:
+                    // 'a || b' takes binary strings only if all of its operands are binary strings
+                    operandsAcceptBinaryString =
+                            acceptsBinaryString
+                                    && isBinaryStringResult(
+                                            sqlBasicCall, udfDescriptors, candidates);
+                    break;
+                case OTHER_FUNCTION:
+                    String functionName = sqlBasicCall.getOperator().getName().toUpperCase();
+                    if (isUdf(functionName, udfDescriptors)) {
+                        operandsAcceptBinaryString = false;
+                    } else if (BINARY_STRING_FUNCTIONS.contains(functionName)) {
+                        operandsAcceptBinaryString = true;
+                        firstOperandOnly = true;
+                    } else if (BINARY_STRING_RESULT_FUNCTIONS.contains(functionName)) {
+                        // the functions have overloads of both strings and binary strings
+                        operandsAcceptBinaryString = acceptsBinaryString;
+                        firstOperandOnly = true;
+                    } else if ("CONCAT".equals(functionName)) {
+                        operandsAcceptBinaryString =
+                                acceptsBinaryString
+                                        && isBinaryStringResult(
+                                                sqlBasicCall, udfDescriptors, candidates);
+                    } else {
+                        operandsAcceptBinaryString = false;
+                    }
+                    break;
+                default:
+                    operandsAcceptBinaryString = false;
+            }
+            for (int i = 0; i < operandList.size(); i++) {
+                collectBinaryStringArgumentNames(
+                        operandList.get(i),
+                        operandsAcceptBinaryString && (i == 0 || !firstOperandOnly),
+                        udfDescriptors,
+                        candidates,
+                        binaryStringNames,
+                        stringNames);
+            }
+        } else if (sqlNode instanceof SqlNodeList) {
+            for (SqlNode node : (SqlNodeList) sqlNode) {
+                collectBinaryStringArgumentNames(
+                        node, false, udfDescriptors, candidates, binaryStringNames, stringNames);
+            }
+        } else if (sqlNode instanceof SqlCase) {
+            for (SqlNode node : ((SqlCase) sqlNode).getOperandList()) {
+                collectBinaryStringArgumentNames(
+                        node, false, udfDescriptors, candidates, binaryStringNames, stringNames);
+            }
+        }
+    }
+
     private static Java.Rvalue translateSqlIdentifier(SqlIdentifier sqlIdentifier) {
         String columnName = sqlIdentifier.names.get(sqlIdentifier.names.size() - 1);
         if (TIMEZONE_FREE_TEMPORAL_FUNCTIONS.contains(columnName.toUpperCase())) {
@@ -144,6 +424,10 @@ public class JaninoCompiler {
     }
 
     private static Java.Rvalue translateSqlSqlLiteral(SqlLiteral sqlLiteral) {
+        if (sqlLiteral instanceof FoldedLiteral) {
+            return new Java.AmbiguousName(
+                    Location.NOWHERE, new String[] {((FoldedLiteral) sqlLiteral).javaLiteral});
+        }
         if (sqlLiteral.getValue() == null) {
             return new Java.NullLiteral(Location.NOWHERE);
         }
@@ -187,6 +471,21 @@ public class JaninoCompiler {
                 sqlBasicCall, atoms.toArray(new Java.Rvalue[0]), udfDescriptors);
     }
 
+    private static String toJavaStringLiteral(String value) {
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20 || c == 0x7F) {
+                builder.append(String.format("\\%03o", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.append('"').toString();
+    }
+
     private static Java.Rvalue translateSqlCase(
             SqlCase sqlCase, List<UserDefinedFunctionDescriptor> udfDescriptors) {
         SqlNodeList whenOperands = sqlCase.getWhenOperands();
@@ -583,4 +882,30 @@ public class JaninoCompiler {
             return String.format("__instanceOf%s.eval", udfFunction.getClassName());
         }
     }
+
+    /**
+     * The literal of the result of a folded constant expression, which is unparsed as the original
+     * expression and translated into the Janino literal of the result.
+     */
+    private static class FoldedLiteral extends SqlLiteral {
+
+        private final SqlNode expression;
+        private final String javaLiteral;
+
+        private FoldedLiteral(SqlNode expression, String javaLiteral) {
+            super(null, SqlTypeName.NULL, expression.getParserPosition());
+            this.expression = expression;
+            this.javaLiteral = javaLiteral;
+        }
+
+        @Override
+        public void unparse(SqlWriter writer, int leftPrec, int rightPrec) {
+            expression.unparse(writer, leftPrec, rightPrec);
+        }
+
+        @Override
+        public SqlLiteral clone(SqlParserPos pos) {
+            return new FoldedLiteral(expression.clone(pos), javaLiteral);
+        }
+    }
 }
@@ -82,6 +82,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -334,15 +335,28 @@ public class TransformParser {
                                     columnName,
                                     supportedMetadataColumns);
                 } else {
+                    String expression = exprNode.toString();
+                    exprNode = JaninoCompiler.foldConstants(exprNode, udfDescriptors);
+                    Set<String> binaryStringArgumentNames =
+                            JaninoCompiler.findBinaryStringArgumentNames(
+                                    exprNode,
+                                    true,
+                                    udfDescriptors,
+                                    binaryStringColumns(columns, supportedMetadataColumns));
                     projectionColumn =
                             ProjectionColumn.ofCalculated(
                                     columnName,
                                     DataTypeConverter.convertCalciteRelDataTypeToDataType(
                                             relDataTypeMap.get(columnName)),
-                                    exprNode.toString(),
+                                    expression,
                                     JaninoCompiler.translateSqlNodeToJaninoExpression(
                                             exprNode, udfDescriptors),
-                                    parseColumnNameList(exprNode));
+                                    parseColumnNameList(exprNode),
+                                    new ArrayList<>(binaryStringArgumentNames),
+                                    JaninoCompiler.isBinaryStringResult(
+                                            exprNode,
+                                            udfDescriptors,
+                                            binaryStringArgumentNames::contains));
                 }
             }
             // ... or an existing column's name identifier.
@@ -412,6 +426,18 @@ public class TransformParser {
 
     public static String translateFilterExpressionToJaninoExpression(
             String filterExpression, List<UserDefinedFunctionDescriptor> udfDescriptors) {
+        return translateFilterExpressionToJaninoExpression(filterExpression, udfDescriptors, false);
+    }
+
+    /**
+     * Translates a filter expression into a Janino expression, whose constant subexpressions are
+     * folded into literals if {@code foldConstants} is set, see {@link
+     * JaninoCompiler#foldConstants}.
+     */
+    public static String translateFilterExpressionToJaninoExpression(
+            String filterExpression,
+            List<UserDefinedFunctionDescriptor> udfDescriptors,
+            boolean foldConstants) {
         if (isNullOrWhitespaceOnly(filterExpression)) {
             return "";
         }
@@ -420,9 +446,50 @@ public class TransformParser {
             return "";
         }
         SqlNode where = sqlSelect.getWhere();
+        if (foldConstants) {
+            where = JaninoCompiler.foldConstants(where, udfDescriptors);
+        }
         return JaninoCompiler.translateSqlNodeToJaninoExpression(where, udfDescriptors);
     }
 
+    /**
+     * Parses the columns of a filter expression which can be passed to its constant folded script
+     * expression as binary strings, see {@link JaninoCompiler#findBinaryStringArgumentNames}.
+     */
+    public static Set<String> parseFilterBinaryStringArgumentNames(
+            String filterExpression,
+            List<UserDefinedFunctionDescriptor> udfDescriptors,
+            Predicate<String> binaryStringColumns) {
+        if (isNullOrWhitespaceOnly(filterExpression)) {
+            return new HashSet<>();
+        }
+        SqlSelect sqlSelect = TransformParser.parseFilterExpression(filterExpression);
+        if (!sqlSelect.hasWhere()) {
+            return new HashSet<>();
+        }
+        return JaninoCompiler.findBinaryStringArgumentNames(
+                JaninoCompiler.foldConstants(sqlSelect.getWhere(), udfDescriptors),
+                false,
+                udfDescriptors,
+                binaryStringColumns);
+    }
+
+    /**
+     * Returns whether a name refers to a string column which can be read as a binary string, that
+     * is a column of the given string columns which is not shadowed by metadata.
+     */
+    public static Predicate<String> binaryStringColumns(
+            List<Column> columns, SupportedMetadataColumn[] supportedMetadataColumns) {
+        Set<String> names = new HashSet<>();
+        for (Column column : columns) {
+            if (DataTypeConverter.convertOriginalClass(column.getType()) == String.class
+                    && !isMetadataColumn(column.getName(), supportedMetadataColumns)) {
+                names.add(column.getName());
+            }
+        }
+        return names::contains;
+    }
+
     public static List<String> parseComputedColumnNames(
             String projection, SupportedMetadataColumn[] supportedMetadataColumns) {
         List<String> columnNames = new ArrayList<>();
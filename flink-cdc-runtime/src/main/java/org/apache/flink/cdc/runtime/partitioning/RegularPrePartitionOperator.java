@@ -17,6 +17,8 @@
 
 package org.apache.flink.cdc.runtime.partitioning;
 
+import org.apache.flink.api.common.state.ListState;
+import org.apache.flink.api.common.state.ListStateDescriptor;
 import org.apache.flink.cdc.common.annotation.Internal;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
@@ -31,19 +33,20 @@ import org.apache.flink.cdc.runtime.operators.sink.SchemaEvolutionClient;
 import org.apache.flink.cdc.runtime.serializer.event.EventSerializer;
 import org.apache.flink.runtime.jobgraph.OperatorID;
 import org.apache.flink.runtime.jobgraph.tasks.TaskOperatorEventGateway;
+import org.apache.flink.runtime.state.StateInitializationContext;
 import org.apache.flink.runtime.state.StateSnapshotContext;
 import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
 import org.apache.flink.streaming.api.operators.ChainingStrategy;
 import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 
-import org.apache.flink.shaded.guava31.com.google.common.cache.CacheBuilder;
-import org.apache.flink.shaded.guava31.com.google.common.cache.CacheLoader;
-import org.apache.flink.shaded.guava31.com.google.common.cache.LoadingCache;
-
 import java.io.Serializable;
-import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Operator for processing events from {@link SchemaOperator} before {@link EventPartitioner} with
@@ -54,23 +57,62 @@ public class RegularPrePartitionOperator extends AbstractStreamOperator<Partitio
         implements OneInputStreamOperator<Event, PartitioningEvent>, Serializable {
 
     private static final long serialVersionUID = 1L;
-    private static final Duration CACHE_EXPIRE_DURATION = Duration.ofDays(1);
 
     private final OperatorID schemaOperatorId;
     private final int downstreamParallelism;
     private final HashFunctionProvider<DataChangeEvent> hashFunctionProvider;
+    private final boolean skewAware;
 
     private transient SchemaEvolutionClient schemaEvolutionClient;
-    private transient LoadingCache<TableId, HashFunction<DataChangeEvent>> cachedHashFunctions;
+    // Hash functions are only recreated on schema changes, or loaded lazily after a restore
+    private transient Map<TableId, HashFunction<DataChangeEvent>> cachedHashFunctions;
+    private transient SkewAwareChannelSelector channelSelector;
+    private transient Set<TableId> tablesWithoutPrimaryKeys;
+    private transient ListState<byte[]> channelSelectorState;
 
     public RegularPrePartitionOperator(
             OperatorID schemaOperatorId,
             int downstreamParallelism,
             HashFunctionProvider<DataChangeEvent> hashFunctionProvider) {
+        this(schemaOperatorId, downstreamParallelism, hashFunctionProvider, false);
+    }
+
+    /**
+     * Creates the operator, which spreads the hot tables without primary keys across several
+     * downstream subtasks if {@code skewAware} is set. See {@link SkewAwareChannelSelector}.
+     */
+    public RegularPrePartitionOperator(
+            OperatorID schemaOperatorId,
+            int downstreamParallelism,
+            HashFunctionProvider<DataChangeEvent> hashFunctionProvider,
+            boolean skewAware) {
         this.chainingStrategy = ChainingStrategy.ALWAYS;
         this.schemaOperatorId = schemaOperatorId;
         this.downstreamParallelism = downstreamParallelism;
         this.hashFunctionProvider = hashFunctionProvider;
+        this.skewAware = skewAware;
+    }
+
+    @Override
+    public void initializeState(StateInitializationContext context) throws Exception {
+        super.initializeState(context);
+        if (!skewAware) {
+            return;
+        }
+        channelSelector = new SkewAwareChannelSelector(downstreamParallelism);
+        channelSelectorState =
+                context.getOperatorStateStore()
+                        .getListState(
+                                new ListStateDescriptor<>("channelSelectorState", byte[].class));
+        if (context.isRestored()) {
+            // Each subtask gets its own state back unless the job is rescaled, in which case the
+            // routing is restored from any state taken with the same downstream parallelism
+            for (byte[] snapshot : channelSelectorState.get()) {
+                if (channelSelector.restore(snapshot)) {
+                    break;
+                }
+            }
+        }
     }
 
     @Override
@@ -79,7 +121,8 @@ public class RegularPrePartitionOperator extends AbstractStreamOperator<Partitio
         TaskOperatorEventGateway toCoordinator =
                 getContainingTask().getEnvironment().getOperatorCoordinatorEventGateway();
         schemaEvolutionClient = new SchemaEvolutionClient(toCoordinator, schemaOperatorId);
-        cachedHashFunctions = createCache();
+        cachedHashFunctions = new HashMap<>();
+        tablesWithoutPrimaryKeys = new HashSet<>();
     }
 
     @Override
@@ -100,15 +143,22 @@ public class RegularPrePartitionOperator extends AbstractStreamOperator<Partitio
         }
     }
 
-    private void partitionBy(DataChangeEvent dataChangeEvent) throws Exception {
-        output.collect(
-                new StreamRecord<>(
-                        PartitioningEvent.ofRegular(
+    private void partitionBy(DataChangeEvent dataChangeEvent) {
+        TableId tableId = dataChangeEvent.tableId();
+        HashFunction<DataChangeEvent> hashFunction = cachedHashFunctions.get(tableId);
+        if (hashFunction == null) {
+            hashFunction = recreateHashFunction(tableId);
+            cachedHashFunctions.put(tableId, hashFunction);
+        }
+        int hashcode = hashFunction.hashcode(dataChangeEvent);
+        int target =
+                channelSelector != null
+                        ? channelSelector.select(
                                 dataChangeEvent,
-                                cachedHashFunctions
-                                                .get(dataChangeEvent.tableId())
-                                                .hashcode(dataChangeEvent)
-                                        % downstreamParallelism)));
+                                hashcode,
+                                !tablesWithoutPrimaryKeys.contains(tableId))
+                        : hashcode % downstreamParallelism;
+        output.collect(new StreamRecord<>(PartitioningEvent.ofRegular(dataChangeEvent, target)));
     }
 
     private void broadcastEvent(Event toBroadcast) {
@@ -137,24 +187,21 @@ public class RegularPrePartitionOperator extends AbstractStreamOperator<Partitio
     }
 
     private HashFunction<DataChangeEvent> recreateHashFunction(TableId tableId) {
-        return hashFunctionProvider.getHashFunction(tableId, loadLatestSchemaFromRegistry(tableId));
-    }
-
-    private LoadingCache<TableId, HashFunction<DataChangeEvent>> createCache() {
-        return CacheBuilder.newBuilder()
-                .expireAfterAccess(CACHE_EXPIRE_DURATION)
-                .build(
-                        new CacheLoader<TableId, HashFunction<DataChangeEvent>>() {
-                            @Override
-                            public HashFunction<DataChangeEvent> load(TableId key) {
-                                return recreateHashFunction(key);
-                            }
-                        });
+        Schema schema = loadLatestSchemaFromRegistry(tableId);
+        if (schema.primaryKeys().isEmpty()) {
+            tablesWithoutPrimaryKeys.add(tableId);
+        } else {
+            tablesWithoutPrimaryKeys.remove(tableId);
+        }
+        return hashFunctionProvider.getHashFunction(tableId, schema);
     }
 
     @Override
     public void snapshotState(StateSnapshotContext context) throws Exception {
-        // Needless to do anything, since AbstractStreamOperator#snapshotState and #processElement
-        // is guaranteed not to be mixed together.
+        // AbstractStreamOperator#snapshotState and #processElement is guaranteed not to be mixed
+        // together, so only the routing of the hot tables needs to be recorded.
+        if (channelSelectorState != null) {
+            channelSelectorState.update(Collections.singletonList(channelSelector.snapshot()));
+        }
     }
 }
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.partitioning;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.OperationType;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Selects the downstream channels of the data change events in regular topology, and spreads the
+ * hot tables without primary keys across several channels.
+ *
+ * <p>The events of a table with primary keys are routed by the hash code of the table and their
+ * primary keys, so the events of a primary key always go to the same channel and keep their order,
+ * while the keys of a hot table are already distributed across all the channels. A table without
+ * primary keys has a single hash code, so all its events would go to a single channel. Such a table
+ * is spread by the hash code of its records instead when it carries more than a fair share of the
+ * load.
+ *
+ * <p>The load of each table is estimated with a count-min sketch over a window of events. At the
+ * end of each window, every hot table without primary keys is assigned a number of channels
+ * proportional to its load, which are used during the next window, starting from the channel the
+ * table is hashed to.
+ *
+ * <p>The channels only depend on the events processed by this subtask and the restored state, so
+ * the routing is deterministic when the events are replayed. Flush and schema change events are
+ * still broadcast to every channel, which flushes all the channels a table is spread to.
+ */
+@Internal
+public class SkewAwareChannelSelector {
+
+    private static final int VERSION = 1;
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 256;
+    private static final int MAX_HOT_TABLES = 64;
+    private static final int DEFAULT_WINDOW_SIZE = 10000;
+
+    private final int downstreamParallelism;
+    private final int windowSize;
+    private final long[] sketch;
+    private final Set<Integer> hotTableCandidates;
+    private int windowCount;
+    private Map<Integer, Integer> spreadWidths;
+
+    public SkewAwareChannelSelector(int downstreamParallelism) {
+        this(downstreamParallelism, DEFAULT_WINDOW_SIZE);
+    }
+
+    @VisibleForTesting
+    SkewAwareChannelSelector(int downstreamParallelism, int windowSize) {
+        this.downstreamParallelism = downstreamParallelism;
+        this.windowSize = windowSize;
+        this.sketch = new long[SKETCH_DEPTH * SKETCH_WIDTH];
+        this.hotTableCandidates = new LinkedHashSet<>();
+        this.spreadWidths = new HashMap<>();
+    }
+
+    /**
+     * Returns the downstream channel of a data change event.
+     *
+     * @param hashcode the hash code of the event given by the hash function of its table
+     * @param hasPrimaryKeys whether the table of the event has primary keys
+     */
+    public int select(DataChangeEvent dataChangeEvent, int hashcode, boolean hasPrimaryKeys) {
+        int tableKey = dataChangeEvent.tableId().hashCode();
+        int channel = hashcode % downstreamParallelism;
+        if (!hasPrimaryKeys) {
+            Integer spreadWidth = spreadWidths.get(tableKey);
+            if (spreadWidth != null) {
+                // A deleted row is routed like the row it deletes
+                RecordData record =
+                        dataChangeEvent.op() == OperationType.DELETE
+                                ? dataChangeEvent.before()
+                                : dataChangeEvent.after();
+                channel =
+                        (channel + Math.floorMod(record.hashCode(), spreadWidth))
+                                % downstreamParallelism;
+            }
+        }
+        record(tableKey, !hasPrimaryKeys);
+        return channel;
+    }
+
+    /** Returns the number of channels the table is spread to in the current window. */
+    @VisibleForTesting
+    int getSpreadWidth(TableId tableId) {
+        return spreadWidths.getOrDefault(tableId.hashCode(), 1);
+    }
+
+    private void record(int tableKey, boolean spreadable) {
+        long estimate = Long.MAX_VALUE;
+        for (int i = 0; i < SKETCH_DEPTH; i++) {
+            int index = i * SKETCH_WIDTH + bucketOf(tableKey, i);
+            estimate = Math.min(estimate, ++sketch[index]);
+        }
+        // A table is only a candidate once it exceeds the fair share of a whole window
+        if (spreadable
+                && estimate * downstreamParallelism > windowSize
+                && hotTableCandidates.size() < MAX_HOT_TABLES) {
+            hotTableCandidates.add(tableKey);
+        }
+        if (++windowCount >= windowSize) {
+            rollWindow();
+        }
+    }
+
+    private void rollWindow() {
+        Map<Integer, Integer> newSpreadWidths = new HashMap<>();
+        for (int tableKey : hotTableCandidates) {
+            long fairShares = estimate(tableKey) * downstreamParallelism / windowCount;
+            int spreadWidth = (int) Math.min(downstreamParallelism, fairShares);
+            if (spreadWidth > 1) {
+                newSpreadWidths.put(tableKey, spreadWidth);
+            }
+        }
+        spreadWidths = newSpreadWidths;
+        hotTableCandidates.clear();
+        Arrays.fill(sketch, 0L);
+        windowCount = 0;
+    }
+
+    private long estimate(int tableKey) {
+        long estimate = Long.MAX_VALUE;
+        for (int i = 0; i < SKETCH_DEPTH; i++) {
+            estimate = Math.min(estimate, sketch[i * SKETCH_WIDTH + bucketOf(tableKey, i)]);
+        }
+        return estimate;
+    }
+
+    private static int bucketOf(int tableKey, int row) {
+        // Mixes the table key with a different seed for each row of the sketch
+        int hash = (tableKey ^ (row * 0x9E3779B9)) * 0x85EBCA6B;
+        hash ^= hash >>> 15;
+        return hash & (SKETCH_WIDTH - 1);
+    }
+
+    // ------------------------------------------------------------------------
+    // State
+    // ------------------------------------------------------------------------
+
+    /** Serializes the sketch of the current window and the spread tables. */
+    public byte[] snapshot() throws IOException {
+        DataOutputSerializer out = new DataOutputSerializer(sketch.length * 8 + 64);
+        out.writeInt(VERSION);
+        out.writeInt(downstreamParallelism);
+        out.writeInt(windowSize);
+        out.writeInt(windowCount);
+        for (long count : sketch) {
+            out.writeLong(count);
+        }
+        out.writeInt(hotTableCandidates.size());
+        for (int tableKey : hotTableCandidates) {
+            out.writeInt(tableKey);
+        }
+        out.writeInt(spreadWidths.size());
+        for (Map.Entry<Integer, Integer> entry : spreadWidths.entrySet()) {
+            out.writeInt(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+        return out.getCopyOfBuffer();
+    }
+
+    /**
+     * Restores a snapshot taken by {@link #snapshot()}. Returns {@code false} and keeps the routing
+     * unchanged if the snapshot was taken with another downstream parallelism or window size.
+     */
+    public boolean restore(byte[] snapshot) throws IOException {
+        DataInputDeserializer in = new DataInputDeserializer(snapshot);
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unknown version of skew-aware routing state: " + version);
+        }
+        if (in.readInt() != downstreamParallelism || in.readInt() != windowSize) {
+            return false;
+        }
+        windowCount = in.readInt();
+        for (int i = 0; i < sketch.length; i++) {
+            sketch[i] = in.readLong();
+        }
+        hotTableCandidates.clear();
+        int candidateCount = in.readInt();
+        for (int i = 0; i < candidateCount; i++) {
+            hotTableCandidates.add(in.readInt());
+        }
+        spreadWidths = new HashMap<>();
+        int spreadCount = in.readInt();
+        for (int i = 0; i < spreadCount; i++) {
+            spreadWidths.put(in.readInt(), in.readInt());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,473 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.serializer.event;
+
+import org.apache.flink.api.common.typeutils.SimpleTypeSerializerSnapshot;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.FlushEvent;
+import org.apache.flink.cdc.common.event.OperationType;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.runtime.partitioning.PartitioningEvent;
+import org.apache.flink.cdc.runtime.serializer.StringSerializer;
+import org.apache.flink.cdc.runtime.serializer.TableIdSerializer;
+import org.apache.flink.cdc.runtime.serializer.data.RecordDataSerializer;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A compact {@link TypeSerializer} for {@link PartitioningEvent}, which encodes the {@link TableId}
+ * and the metadata keys of {@link DataChangeEvent}s as integer ids instead of strings.
+ *
+ * <p>The ids are assigned by the serializing side, and each id is announced in-band to a target
+ * partition before its first use, in the same record. The table ids of {@link CreateTableEvent}s
+ * and {@link FlushEvent}s, which are broadcast to all the partitions, are announced with them. As a
+ * partition receives the records of several upstream serializers, each record is prefixed with the
+ * random id of its serializer, which scopes the dictionaries of the deserializing side. The id can
+ * not be replaced by the source partition of the events, which is not set in regular topology, nor
+ * be written once per channel, as the deserializer of a task is shared by all its input channels
+ * and only sees the interleaved records. It costs 8 bytes per record, which is less than the table
+ * id it replaces.
+ *
+ * <p>The serializer is stateful: records must be deserialized in the order they were serialized for
+ * each partition, so it must not be used for state nor with unaligned checkpoints.
+ */
+@Internal
+public class CompactPartitioningEventSerializer extends TypeSerializer<PartitioningEvent> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final byte OTHER_EVENT = 0;
+    private static final byte DATA_CHANGE_EVENT = 1;
+
+    private static final byte TABLE_ID_ENTRY = 0;
+    private static final byte META_KEY_ENTRY = 1;
+
+    private static final OperationType[] OPERATION_TYPES = OperationType.values();
+
+    private final EventSerializer eventSerializer = EventSerializer.INSTANCE;
+    private final TableIdSerializer tableIdSerializer = TableIdSerializer.INSTANCE;
+    private final StringSerializer stringSerializer = StringSerializer.INSTANCE;
+    private final RecordDataSerializer recordDataSerializer = RecordDataSerializer.INSTANCE;
+
+    // --------------------------------------------------------------------------------------------
+    // Serializing side
+    // --------------------------------------------------------------------------------------------
+    private transient long serializerId;
+    private transient Map<TableId, Integer> tableIds;
+    private transient Map<String, Integer> metaKeys;
+    private transient List<Announcements> announcements;
+
+    // --------------------------------------------------------------------------------------------
+    // Deserializing side, by id of the serializing side
+    // --------------------------------------------------------------------------------------------
+    private transient Map<Long, Dictionary> dictionaries;
+
+    @Override
+    public boolean isImmutableType() {
+        return false;
+    }
+
+    @Override
+    public TypeSerializer<PartitioningEvent> duplicate() {
+        return new CompactPartitioningEventSerializer();
+    }
+
+    @Override
+    public PartitioningEvent createInstance() {
+        return PartitioningEvent.ofDistributed(null, -1, -1);
+    }
+
+    @Override
+    public PartitioningEvent copy(PartitioningEvent from) {
+        return PartitioningEventSerializer.INSTANCE.copy(from);
+    }
+
+    @Override
+    public PartitioningEvent copy(PartitioningEvent from, PartitioningEvent reuse) {
+        return copy(from);
+    }
+
+    @Override
+    public int getLength() {
+        return -1;
+    }
+
+    @Override
+    public void serialize(PartitioningEvent record, DataOutputView target) throws IOException {
+        if (tableIds == null) {
+            serializerId = ThreadLocalRandom.current().nextLong();
+            tableIds = new HashMap<>();
+            metaKeys = new HashMap<>();
+            announcements = new ArrayList<>();
+        }
+        int targetPartition = record.getTargetPartition();
+        target.writeInt(record.getSourcePartition());
+        target.writeInt(targetPartition);
+        target.writeLong(serializerId);
+
+        Announcements announced = getAnnouncements(targetPartition);
+        Event payload = record.getPayload();
+        if (payload instanceof DataChangeEvent) {
+            DataChangeEvent event = (DataChangeEvent) payload;
+            Map<String, String> meta = event.meta();
+            int tableId = idOf(tableIds, event.tableId());
+            int entries = announced.tableIds.get(tableId) ? 0 : 1;
+            if (meta != null) {
+                for (String key : meta.keySet()) {
+                    if (!announced.metaKeys.get(idOf(metaKeys, key))) {
+                        entries++;
+                    }
+                }
+            }
+            writeVarInt(entries, target);
+            if (entries > 0) {
+                announceTableId(event.tableId(), announced, target);
+                if (meta != null) {
+                    for (String key : meta.keySet()) {
+                        announceMetaKey(key, announced, target);
+                    }
+                }
+            }
+            target.writeByte(DATA_CHANGE_EVENT);
+            serializeDataChangeEvent(event, tableId, meta, target);
+        } else {
+            List<TableId> announcedTableIds = getAnnouncedTableIds(payload);
+            int entries = 0;
+            for (int i = 0; i < announcedTableIds.size(); i++) {
+                TableId tableId = announcedTableIds.get(i);
+                if (!announced.tableIds.get(idOf(tableIds, tableId))
+                        && announcedTableIds.indexOf(tableId) == i) {
+                    entries++;
+                }
+            }
+            writeVarInt(entries, target);
+            for (TableId tableId : announcedTableIds) {
+                announceTableId(tableId, announced, target);
+            }
+            target.writeByte(OTHER_EVENT);
+            eventSerializer.serialize(payload, target);
+        }
+    }
+
+    @Override
+    public PartitioningEvent deserialize(DataInputView source) throws IOException {
+        if (dictionaries == null) {
+            dictionaries = new HashMap<>();
+        }
+        int sourcePartition = source.readInt();
+        int targetPartition = source.readInt();
+        Dictionary dictionary =
+                dictionaries.computeIfAbsent(source.readLong(), id -> new Dictionary());
+
+        int entries = readVarInt(source);
+        for (int i = 0; i < entries; i++) {
+            byte entryType = source.readByte();
+            int id = readVarInt(source);
+            if (entryType == TABLE_ID_ENTRY) {
+                dictionary.put(dictionary.tableIds, id, tableIdSerializer.deserialize(source));
+            } else if (entryType == META_KEY_ENTRY) {
+                dictionary.put(dictionary.metaKeys, id, stringSerializer.deserialize(source));
+            } else {
+                throw new IOException("Unknown dictionary entry type " + entryType);
+            }
+        }
+
+        Event payload;
+        byte eventType = source.readByte();
+        if (eventType == DATA_CHANGE_EVENT) {
+            payload = deserializeDataChangeEvent(dictionary, source);
+        } else if (eventType == OTHER_EVENT) {
+            payload = eventSerializer.deserialize(source);
+        } else {
+            throw new IOException("Unknown event type " + eventType);
+        }
+        return PartitioningEvent.ofDistributed(payload, sourcePartition, targetPartition);
+    }
+
+    @Override
+    public PartitioningEvent deserialize(PartitioningEvent reuse, DataInputView source)
+            throws IOException {
+        return deserialize(source);
+    }
+
+    @Override
+    public void copy(DataInputView source, DataOutputView target) throws IOException {
+        // the bytes are copied as they are, the ids of the record still refer to the dictionaries
+        // of its serializer, so neither side of this serializer is involved
+        target.writeInt(source.readInt());
+        target.writeInt(source.readInt());
+        target.writeLong(source.readLong());
+
+        int entries = copyVarInt(source, target);
+        for (int i = 0; i < entries; i++) {
+            byte entryType = source.readByte();
+            target.writeByte(entryType);
+            copyVarInt(source, target);
+            if (entryType == TABLE_ID_ENTRY) {
+                tableIdSerializer.copy(source, target);
+            } else if (entryType == META_KEY_ENTRY) {
+                stringSerializer.copy(source, target);
+            } else {
+                throw new IOException("Unknown dictionary entry type " + entryType);
+            }
+        }
+
+        byte eventType = source.readByte();
+        target.writeByte(eventType);
+        if (eventType == DATA_CHANGE_EVENT) {
+            copyDataChangeEvent(source, target);
+        } else if (eventType == OTHER_EVENT) {
+            eventSerializer.copy(source, target);
+        } else {
+            throw new IOException("Unknown event type " + eventType);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj == this || (obj != null && obj.getClass() == getClass());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public TypeSerializerSnapshot<PartitioningEvent> snapshotConfiguration() {
+        return new CompactPartitioningEventSerializerSnapshot();
+    }
+
+    // --------------------------------------------------------------------------------------------
+
+    private void serializeDataChangeEvent(
+            DataChangeEvent event, int tableId, Map<String, String> meta, DataOutputView target)
+            throws IOException {
+        target.writeByte(event.op().ordinal());
+        writeVarInt(tableId, target);
+        if (event.before() != null) {
+            recordDataSerializer.serialize(event.before(), target);
+        }
+        if (event.after() != null) {
+            recordDataSerializer.serialize(event.after(), target);
+        }
+        if (meta == null) {
+            writeVarInt(0, target);
+            return;
+        }
+        writeVarInt(meta.size() + 1, target);
+        for (Map.Entry<String, String> entry : meta.entrySet()) {
+            writeVarInt(metaKeys.get(entry.getKey()), target);
+            target.writeBoolean(entry.getValue() != null);
+            if (entry.getValue() != null) {
+                stringSerializer.serialize(entry.getValue(), target);
+            }
+        }
+    }
+
+    private DataChangeEvent deserializeDataChangeEvent(Dictionary dictionary, DataInputView source)
+            throws IOException {
+        OperationType op = OPERATION_TYPES[source.readByte()];
+        TableId tableId = dictionary.get(dictionary.tableIds, readVarInt(source));
+        switch (op) {
+            case DELETE:
+                return DataChangeEvent.deleteEvent(
+                        tableId,
+                        recordDataSerializer.deserialize(source),
+                        deserializeMeta(dictionary, source));
+            case INSERT:
+                return DataChangeEvent.insertEvent(
+                        tableId,
+                        recordDataSerializer.deserialize(source),
+                        deserializeMeta(dictionary, source));
+            case UPDATE:
+                return DataChangeEvent.updateEvent(
+                        tableId,
+                        recordDataSerializer.deserialize(source),
+                        recordDataSerializer.deserialize(source),
+                        deserializeMeta(dictionary, source));
+            case REPLACE:
+                return DataChangeEvent.replaceEvent(
+                        tableId,
+                        recordDataSerializer.deserialize(source),
+                        deserializeMeta(dictionary, source));
+            default:
+                throw new IllegalArgumentException("Unsupported data change event: " + op);
+        }
+    }
+
+    private void copyDataChangeEvent(DataInputView source, DataOutputView target)
+            throws IOException {
+        byte op = source.readByte();
+        target.writeByte(op);
+        copyVarInt(source, target);
+        recordDataSerializer.copy(source, target);
+        if (OPERATION_TYPES[op] == OperationType.UPDATE) {
+            recordDataSerializer.copy(source, target);
+        }
+        int size = copyVarInt(source, target) - 1;
+        for (int i = 0; i < size; i++) {
+            copyVarInt(source, target);
+            boolean hasValue = source.readBoolean();
+            target.writeBoolean(hasValue);
+            if (hasValue) {
+                stringSerializer.copy(source, target);
+            }
+        }
+    }
+
+    private Map<String, String> deserializeMeta(Dictionary dictionary, DataInputView source)
+            throws IOException {
+        int size = readVarInt(source) - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, String> meta = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String key = dictionary.get(dictionary.metaKeys, readVarInt(source));
+            meta.put(key, source.readBoolean() ? stringSerializer.deserialize(source) : null);
+        }
+        return meta;
+    }
+
+    private void announceTableId(TableId tableId, Announcements announced, DataOutputView target)
+            throws IOException {
+        int id = tableIds.get(tableId);
+        if (!announced.tableIds.get(id)) {
+            target.writeByte(TABLE_ID_ENTRY);
+            writeVarInt(id, target);
+            tableIdSerializer.serialize(tableId, target);
+            announced.tableIds.set(id);
+        }
+    }
+
+    private void announceMetaKey(String key, Announcements announced, DataOutputView target)
+            throws IOException {
+        int id = metaKeys.get(key);
+        if (!announced.metaKeys.get(id)) {
+            target.writeByte(META_KEY_ENTRY);
+            writeVarInt(id, target);
+            stringSerializer.serialize(key, target);
+            announced.metaKeys.set(id);
+        }
+    }
+
+    private Announcements getAnnouncements(int targetPartition) {
+        while (announcements.size() <= targetPartition) {
+            announcements.add(new Announcements());
+        }
+        return announcements.get(targetPartition);
+    }
+
+    private static List<TableId> getAnnouncedTableIds(Event event) {
+        if (event instanceof CreateTableEvent) {
+            return Collections.singletonList(((CreateTableEvent) event).tableId());
+        } else if (event instanceof FlushEvent && ((FlushEvent) event).getTableIds() != null) {
+            return ((FlushEvent) event).getTableIds();
+        }
+        return Collections.emptyList();
+    }
+
+    private static <T> int idOf(Map<T, Integer> ids, T value) {
+        Integer id = ids.get(value);
+        if (id == null) {
+            id = ids.size();
+            ids.put(value, id);
+        }
+        return id;
+    }
+
+    private static void writeVarInt(int value, DataOutputView target) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            target.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        target.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputView source) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = source.readByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static int copyVarInt(DataInputView source, DataOutputView target) throws IOException {
+        int value = readVarInt(source);
+        writeVarInt(value, target);
+        return value;
+    }
+
+    /** The ids announced to a target partition. */
+    private static final class Announcements {
+        private final BitSet tableIds = new BitSet();
+        private final BitSet metaKeys = new BitSet();
+    }
+
+    /** The ids announced by a serializing side. */
+    private static final class Dictionary {
+        private final List<TableId> tableIds = new ArrayList<>();
+        private final List<String> metaKeys = new ArrayList<>();
+
+        private <T> void put(List<T> values, int id, T value) {
+            while (values.size() <= id) {
+                values.add(null);
+            }
+            values.set(id, value);
+        }
+
+        private <T> T get(List<T> values, int id) throws IOException {
+            T value = id < values.size() ? values.get(id) : null;
+            if (value == null) {
+                throw new IOException(
+                        "Id "
+                                + id
+                                + " has never been announced, the events are probably restored from unaligned checkpoints.");
+            }
+            return value;
+        }
+    }
+
+    /** {@link TypeSerializerSnapshot} for {@link CompactPartitioningEventSerializer}. */
+    public static final class CompactPartitioningEventSerializerSnapshot
+            extends SimpleTypeSerializerSnapshot<PartitioningEvent> {
+
+        public CompactPartitioningEventSerializerSnapshot() {
+            super(CompactPartitioningEventSerializer::new);
+        }
+    }
+}
@@ -22,12 +22,27 @@ import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.common.typeutils.TypeSerializer;
 import org.apache.flink.cdc.common.annotation.Internal;
 import org.apache.flink.cdc.runtime.partitioning.PartitioningEvent;
+import org.apache.flink.cdc.runtime.serializer.event.CompactPartitioningEventSerializer;
 import org.apache.flink.cdc.runtime.serializer.event.PartitioningEventSerializer;
 
 /** Type information for {@link PartitioningEvent}. */
 @Internal
 public class PartitioningEventTypeInfo extends TypeInformation<PartitioningEvent> {
 
+    private final boolean compactSerialization;
+
+    public PartitioningEventTypeInfo() {
+        this(false);
+    }
+
+    /**
+     * Creates the type information of {@link PartitioningEvent}, which is serialized with {@link
+     * CompactPartitioningEventSerializer} if {@code compactSerialization} is enabled.
+     */
+    public PartitioningEventTypeInfo(boolean compactSerialization) {
+        this.compactSerialization = compactSerialization;
+    }
+
     @Override
     public boolean isBasicType() {
         return false;
@@ -60,6 +75,9 @@ public class PartitioningEventTypeInfo extends TypeInformation<PartitioningEvent
 
     @Override
     public TypeSerializer<PartitioningEvent> createSerializer(ExecutionConfig config) {
+        if (compactSerialization) {
+            return new CompactPartitioningEventSerializer();
+        }
         return PartitioningEventSerializer.INSTANCE;
     }
 
@@ -70,16 +88,17 @@ public class PartitioningEventTypeInfo extends TypeInformation<PartitioningEvent
 
     @Override
     public boolean equals(Object obj) {
-        return obj instanceof PartitioningEvent;
+        return obj instanceof PartitioningEventTypeInfo
+                && ((PartitioningEventTypeInfo) obj).compactSerialization == compactSerialization;
     }
 
     @Override
     public int hashCode() {
-        return getClass().hashCode();
+        return 31 * getClass().hashCode() + Boolean.hashCode(compactSerialization);
     }
 
     @Override
     public boolean canEqual(Object obj) {
-        return obj instanceof PartitioningEvent;
+        return obj instanceof PartitioningEventTypeInfo;
     }
 }
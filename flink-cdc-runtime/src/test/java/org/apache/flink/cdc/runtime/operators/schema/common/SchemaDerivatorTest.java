@@ -17,9 +17,12 @@
 
 package org.apache.flink.cdc.runtime.operators.schema.common;
 
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
 import org.apache.flink.cdc.common.event.AddColumnEvent;
 import org.apache.flink.cdc.common.event.AlterColumnTypeEvent;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.DropColumnEvent;
 import org.apache.flink.cdc.common.event.DropTableEvent;
 import org.apache.flink.cdc.common.event.RenameColumnEvent;
@@ -30,7 +33,9 @@ import org.apache.flink.cdc.common.pipeline.SchemaChangeBehavior;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.sink.MetadataApplier;
+import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
 
 import org.apache.flink.shaded.guava31.com.google.common.collect.HashBasedTable;
 import org.apache.flink.shaded.guava31.com.google.common.collect.Table;
@@ -599,4 +604,70 @@ public class SchemaDerivatorTest extends SchemaTestBase {
                                 new DropTableEvent(NORMALIZE_TEST_TABLE_ID)))
                 .isEmpty();
     }
+
+    @Test
+    void testCoerceDataRecord() {
+        Schema upstreamSchema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT())
+                        .physicalColumn("name", DataTypes.VARCHAR(128))
+                        .physicalColumn("age", DataTypes.FLOAT())
+                        .physicalColumn("flag", DataTypes.BOOLEAN())
+                        .physicalColumn("birthday", DataTypes.TIMESTAMP(3))
+                        .physicalColumn("notes", DataTypes.STRING())
+                        .build();
+        Schema evolvedSchema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.BIGINT())
+                        .physicalColumn("name", DataTypes.VARCHAR(128))
+                        .physicalColumn("added", DataTypes.INT())
+                        .physicalColumn("age", DataTypes.DOUBLE())
+                        .physicalColumn("flag", DataTypes.BOOLEAN())
+                        .physicalColumn("birthday", DataTypes.TIMESTAMP(3))
+                        .build();
+        BinaryRecordDataGenerator upstreamGenerator =
+                new BinaryRecordDataGenerator(
+                        upstreamSchema.getColumnDataTypes().toArray(new DataType[0]));
+        BinaryRecordDataGenerator evolvedGenerator =
+                new BinaryRecordDataGenerator(
+                        evolvedSchema.getColumnDataTypes().toArray(new DataType[0]));
+        TableId tableId = TableId.parse("foo.bar.baz");
+        DataChangeEvent updateEvent =
+                DataChangeEvent.updateEvent(
+                        tableId,
+                        upstreamGenerator.generate(
+                                new Object[] {
+                                    1,
+                                    BinaryStringData.fromString("Alice"),
+                                    17.5f,
+                                    true,
+                                    TimestampData.fromMillis(1000L),
+                                    BinaryStringData.fromString("notes")
+                                }),
+                        upstreamGenerator.generate(
+                                new Object[] {1, null, 18.5f, null, null, null}));
+
+        SchemaDerivator derivator = new SchemaDerivator();
+        assertThat(derivator.coerceDataRecord("UTC", updateEvent, upstreamSchema, evolvedSchema))
+                .contains(
+                        DataChangeEvent.updateEvent(
+                                tableId,
+                                evolvedGenerator.generate(
+                                        new Object[] {
+                                            1L,
+                                            BinaryStringData.fromString("Alice"),
+                                            null,
+                                            17.5d,
+                                            true,
+                                            TimestampData.fromMillis(1000L)
+                                        }),
+                                evolvedGenerator.generate(
+                                        new Object[] {1L, null, null, 18.5d, null, null})));
+
+        // Records of equal schemas are not coerced
+        Schema equalSchema = upstreamSchema.copy(upstreamSchema.getColumns());
+        assertThat(derivator.coerceDataRecord("UTC", updateEvent, upstreamSchema, equalSchema))
+                .containsSame(updateEvent);
+        assertThat(derivator.coerceDataRecord("UTC", updateEvent, upstreamSchema, null)).isEmpty();
+    }
 }
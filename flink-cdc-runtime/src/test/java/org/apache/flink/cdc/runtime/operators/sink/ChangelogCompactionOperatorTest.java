@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.sink;
+
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.FlushEvent;
+import org.apache.flink.cdc.common.event.SchemaChangeEventType;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.testutils.operators.RegularEventOperatorTestHarness;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for {@link ChangelogCompactionOperator}. */
+class ChangelogCompactionOperatorTest {
+    private static final TableId CUSTOMERS =
+            TableId.tableId("my_company", "my_branch", "customers");
+    private static final TableId LOGS = TableId.tableId("my_company", "my_branch", "logs");
+    private static final Schema CUSTOMERS_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .primaryKey("id")
+                    .build();
+    private static final Schema LOGS_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT())
+                    .physicalColumn("message", DataTypes.STRING())
+                    .build();
+    private static final BinaryRecordDataGenerator GENERATOR =
+            new BinaryRecordDataGenerator((RowType) CUSTOMERS_SCHEMA.toRowDataType());
+
+    @Test
+    void testCompactEventsOfSameKeyUntilFlush() throws Exception {
+        try (RegularEventOperatorTestHarness<ChangelogCompactionOperator, Event> testHarness =
+                createTestHarness(100)) {
+            testHarness.open();
+            testHarness.registerTableSchema(CUSTOMERS, CUSTOMERS_SCHEMA);
+            ChangelogCompactionOperator operator = testHarness.getOperator();
+
+            processElements(
+                    operator,
+                    DataChangeEvent.insertEvent(CUSTOMERS, customer(1, "Alice")),
+                    DataChangeEvent.insertEvent(CUSTOMERS, customer(2, "Bob")),
+                    DataChangeEvent.updateEvent(
+                            CUSTOMERS, customer(1, "Alice"), customer(1, "Alicia")),
+                    DataChangeEvent.updateEvent(
+                            CUSTOMERS, customer(2, "Bob"), customer(2, "Robert")),
+                    DataChangeEvent.updateEvent(
+                            CUSTOMERS, customer(1, "Alicia"), customer(1, "Ally")),
+                    DataChangeEvent.deleteEvent(CUSTOMERS, customer(3, "Carol")));
+            assertThat(testHarness.getOutputRecords()).isEmpty();
+
+            FlushEvent flushEvent =
+                    new FlushEvent(
+                            0,
+                            Collections.singletonList(CUSTOMERS),
+                            SchemaChangeEventType.ADD_COLUMN);
+            operator.processElement(new StreamRecord<>(flushEvent));
+            assertThat(outputEvents(testHarness))
+                    .containsExactly(
+                            DataChangeEvent.insertEvent(CUSTOMERS, customer(1, "Ally")),
+                            DataChangeEvent.insertEvent(CUSTOMERS, customer(2, "Robert")),
+                            DataChangeEvent.deleteEvent(CUSTOMERS, customer(3, "Carol")),
+                            flushEvent);
+        }
+    }
+
+    @Test
+    void testMergeEvents() {
+        DataChangeEvent insert = DataChangeEvent.insertEvent(CUSTOMERS, customer(1, "Alice"));
+        DataChangeEvent update =
+                DataChangeEvent.updateEvent(CUSTOMERS, customer(1, "Alice"), customer(1, "Bob"));
+        DataChangeEvent delete = DataChangeEvent.deleteEvent(CUSTOMERS, customer(1, "Bob"));
+        DataChangeEvent replace = DataChangeEvent.replaceEvent(CUSTOMERS, customer(1, "Carol"));
+
+        assertThat(ChangelogCompactionOperator.merge(insert, update))
+                .isEqualTo(DataChangeEvent.insertEvent(CUSTOMERS, customer(1, "Bob")));
+        assertThat(ChangelogCompactionOperator.merge(insert, delete))
+                .isEqualTo(DataChangeEvent.deleteEvent(CUSTOMERS, customer(1, "Alice")));
+        assertThat(
+                        ChangelogCompactionOperator.merge(
+                                update,
+                                DataChangeEvent.updateEvent(
+                                        CUSTOMERS, customer(1, "Bob"), customer(1, "Carol"))))
+                .isEqualTo(
+                        DataChangeEvent.updateEvent(
+                                CUSTOMERS, customer(1, "Alice"), customer(1, "Carol")));
+        assertThat(ChangelogCompactionOperator.merge(update, delete))
+                .isEqualTo(DataChangeEvent.deleteEvent(CUSTOMERS, customer(1, "Alice")));
+        assertThat(
+                        ChangelogCompactionOperator.merge(
+                                delete,
+                                DataChangeEvent.insertEvent(CUSTOMERS, customer(1, "Carol"))))
+                .isEqualTo(
+                        DataChangeEvent.updateEvent(
+                                CUSTOMERS, customer(1, "Bob"), customer(1, "Carol")));
+        assertThat(ChangelogCompactionOperator.merge(replace, update))
+                .isEqualTo(DataChangeEvent.replaceEvent(CUSTOMERS, customer(1, "Bob")));
+    }
+
+    @Test
+    void testEmitBufferedEventsBeforeSchemaChange() throws Exception {
+        try (RegularEventOperatorTestHarness<ChangelogCompactionOperator, Event> testHarness =
+                createTestHarness(100)) {
+            testHarness.open();
+            testHarness.registerTableSchema(CUSTOMERS, CUSTOMERS_SCHEMA);
+            ChangelogCompactionOperator operator = testHarness.getOperator();
+
+            processElements(
+                    operator,
+                    DataChangeEvent.insertEvent(CUSTOMERS, customer(1, "Alice")),
+                    DataChangeEvent.updateEvent(
+                            CUSTOMERS, customer(1, "Alice"), customer(1, "Bob")));
+
+            AddColumnEvent addColumnEvent =
+                    new AddColumnEvent(
+                            CUSTOMERS,
+                            Collections.singletonList(
+                                    new AddColumnEvent.ColumnWithPosition(
+                                            Column.physicalColumn("phone", DataTypes.BIGINT()))));
+            operator.processElement(new StreamRecord<>(addColumnEvent));
+            assertThat(outputEvents(testHarness))
+                    .containsExactly(
+                            DataChangeEvent.insertEvent(CUSTOMERS, customer(1, "Bob")),
+                            addColumnEvent);
+
+            // The events after the schema change are keyed by the evolved schema
+            Schema evolvedSchema =
+                    Schema.newBuilder()
+                            .physicalColumn("phone", DataTypes.BIGINT())
+                            .physicalColumn("id", DataTypes.INT())
+                            .physicalColumn("name", DataTypes.STRING())
+                            .primaryKey("id")
+                            .build();
+            testHarness.registerEvolvedSchema(CUSTOMERS, evolvedSchema);
+            BinaryRecordDataGenerator evolvedGenerator =
+                    new BinaryRecordDataGenerator((RowType) evolvedSchema.toRowDataType());
+            processElements(
+                    operator,
+                    DataChangeEvent.insertEvent(
+                            CUSTOMERS,
+                            evolvedGenerator.generate(
+                                    new Object[] {1L, 2, BinaryStringData.fromString("Carol")})),
+                    DataChangeEvent.insertEvent(
+                            CUSTOMERS,
+                            evolvedGenerator.generate(
+                                    new Object[] {1L, 3, BinaryStringData.fromString("Dave")})));
+            operator.prepareSnapshotPreBarrier(1L);
+            assertThat(outputEvents(testHarness)).hasSize(2);
+        }
+    }
+
+    @Test
+    void testEmitBufferedEventsBeforeCheckpoint() throws Exception {
+        try (RegularEventOperatorTestHarness<ChangelogCompactionOperator, Event> testHarness =
+                createTestHarness(100)) {
+            testHarness.open();
+            testHarness.registerTableSchema(CUSTOMERS, CUSTOMERS_SCHEMA);
+            ChangelogCompactionOperator operator = testHarness.getOperator();
+
+            processElements(
+                    operator,
+                    DataChangeEvent.insertEvent(CUSTOMERS, customer(1, "Alice")),
+                    DataChangeEvent.deleteEvent(CUSTOMERS, customer(1, "Alice")));
+            operator.prepareSnapshotPreBarrier(1L);
+            assertThat(outputEvents(testHarness))
+                    .containsExactly(DataChangeEvent.deleteEvent(CUSTOMERS, customer(1, "Alice")));
+
+            // Nothing is left to be emitted at the end of the input
+            operator.endInput();
+            assertThat(testHarness.getOutputRecords()).isEmpty();
+        }
+    }
+
+    @Test
+    void testEmitBufferedEventsWhenBufferIsFull() throws Exception {
+        try (RegularEventOperatorTestHarness<ChangelogCompactionOperator, Event> testHarness =
+                createTestHarness(2)) {
+            testHarness.open();
+            testHarness.registerTableSchema(CUSTOMERS, CUSTOMERS_SCHEMA);
+            ChangelogCompactionOperator operator = testHarness.getOperator();
+
+            processElements(
+                    operator,
+                    DataChangeEvent.insertEvent(CUSTOMERS, customer(1, "Alice")),
+                    DataChangeEvent.updateEvent(
+                            CUSTOMERS, customer(1, "Alice"), customer(1, "Bob")));
+            assertThat(testHarness.getOutputRecords()).isEmpty();
+
+            processElements(operator, DataChangeEvent.insertEvent(CUSTOMERS, customer(2, "Carol")));
+            assertThat(outputEvents(testHarness))
+                    .containsExactly(
+                            DataChangeEvent.insertEvent(CUSTOMERS, customer(1, "Bob")),
+                            DataChangeEvent.insertEvent(CUSTOMERS, customer(2, "Carol")));
+        }
+    }
+
+    @Test
+    void testForwardEventsOfTableWithoutPrimaryKeys() throws Exception {
+        try (RegularEventOperatorTestHarness<ChangelogCompactionOperator, Event> testHarness =
+                createTestHarness(100)) {
+            testHarness.open();
+            testHarness.registerTableSchema(LOGS, LOGS_SCHEMA);
+            ChangelogCompactionOperator operator = testHarness.getOperator();
+
+            CreateTableEvent createTableEvent = new CreateTableEvent(LOGS, LOGS_SCHEMA);
+            DataChangeEvent insertEvent = DataChangeEvent.insertEvent(LOGS, customer(1, "a"));
+            DataChangeEvent updateEvent =
+                    DataChangeEvent.updateEvent(LOGS, customer(1, "a"), customer(1, "b"));
+            processElements(operator, createTableEvent, insertEvent, updateEvent);
+            assertThat(outputEvents(testHarness))
+                    .containsExactly(createTableEvent, insertEvent, updateEvent);
+        }
+    }
+
+    private static RegularEventOperatorTestHarness<ChangelogCompactionOperator, Event>
+            createTestHarness(int maxBufferedRecords) {
+        return RegularEventOperatorTestHarness.with(
+                new ChangelogCompactionOperator(
+                        RegularEventOperatorTestHarness.SCHEMA_OPERATOR_ID, maxBufferedRecords, 0),
+                1);
+    }
+
+    private static void processElements(ChangelogCompactionOperator operator, Event... events)
+            throws Exception {
+        for (Event event : events) {
+            operator.processElement(new StreamRecord<>(event));
+        }
+    }
+
+    private static List<Event> outputEvents(
+            RegularEventOperatorTestHarness<ChangelogCompactionOperator, Event> testHarness) {
+        List<Event> events =
+                testHarness.getOutputRecords().stream()
+                        .map(StreamRecord::getValue)
+                        .collect(Collectors.toList());
+        testHarness.clearOutputRecords();
+        return events;
+    }
+
+    private static BinaryRecordData customer(int id, String name) {
+        return GENERATOR.generate(new Object[] {id, BinaryStringData.fromString(name)});
+    }
+}
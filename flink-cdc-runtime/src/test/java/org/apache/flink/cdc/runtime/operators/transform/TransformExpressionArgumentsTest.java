@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.runtime.parser.TransformParser;
+import org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.flink.cdc.runtime.typeutils.DataTypeConverter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Unit tests for {@link TransformExpressionArguments}. */
+class TransformExpressionArgumentsTest {
+
+    private static final TableId TABLE_ID = TableId.tableId("my_company", "my_branch", "users");
+
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("age", DataTypes.INT())
+                    .primaryKey("id")
+                    .build();
+
+    private static final Map<String, SupportedMetadataColumn> OP_TS_METADATA =
+            Collections.singletonMap("op_ts", new OpTsMetadataColumn());
+
+    @Test
+    void testArgumentsFollowTheGivenOrder() {
+        PostTransformChangeInfo tableInfo = PostTransformChangeInfo.of(TABLE_ID, SCHEMA, SCHEMA);
+        Object udf = new Object();
+        TransformExpressionArguments arguments =
+                new TransformExpressionArguments(
+                        tableInfo,
+                        Arrays.asList(
+                                "age",
+                                MetadataColumns.DEFAULT_TABLE_NAME,
+                                "name",
+                                "op_ts",
+                                MetadataColumns.DEFAULT_DATA_EVENT_TYPE,
+                                "id",
+                                MetadataColumns.DEFAULT_NAMESPACE_NAME,
+                                MetadataColumns.DEFAULT_SCHEMA_NAME),
+                        Collections.singleton("name"),
+                        OP_TS_METADATA,
+                        "UTC",
+                        Collections.singletonList(udf));
+
+        Object[] params =
+                arguments.generateParams(
+                        record(SCHEMA, 1, "Alice", 18),
+                        1000L,
+                        "+I",
+                        Collections.singletonMap("op_ts", "42"));
+
+        // the arguments are followed by the time zone, the epoch time and the UDF instances
+        assertThat(params)
+                .containsExactly(
+                        18,
+                        "users",
+                        BinaryStringData.fromString("Alice"),
+                        42L,
+                        "+I",
+                        1,
+                        "my_company",
+                        "my_branch",
+                        "UTC",
+                        1000L,
+                        udf);
+    }
+
+    @Test
+    void testParamsAreReusedAcrossRecords() {
+        PostTransformChangeInfo tableInfo = PostTransformChangeInfo.of(TABLE_ID, SCHEMA, SCHEMA);
+        TransformExpressionArguments arguments =
+                new TransformExpressionArguments(
+                        tableInfo,
+                        Arrays.asList("name", "age"),
+                        Collections.emptySet(),
+                        Collections.emptyMap(),
+                        "UTC",
+                        Collections.emptyList());
+
+        Object[] first =
+                arguments.generateParams(
+                        record(SCHEMA, 1, "Alice", 18), 1L, "+I", Collections.emptyMap());
+        assertThat(first).containsExactly("Alice", 18, "UTC", 1L);
+
+        Object[] second =
+                arguments.generateParams(
+                        record(SCHEMA, 2, null, null), 2L, "-D", Collections.emptyMap());
+        assertThat(second).isSameAs(first);
+        // the values of the previous record are overwritten, including by nulls
+        assertThat(second).containsExactly(null, null, "UTC", 2L);
+    }
+
+    @Test
+    void testArgumentsAreBoundToTheSchema() {
+        Schema newSchema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT())
+                        .physicalColumn("email", DataTypes.STRING())
+                        .physicalColumn("age", DataTypes.STRING())
+                        .physicalColumn("name", DataTypes.STRING())
+                        .primaryKey("id")
+                        .build();
+        List<String> argumentNames = Arrays.asList("name", "age");
+
+        PostTransformChangeInfo oldInfo = PostTransformChangeInfo.of(TABLE_ID, SCHEMA, SCHEMA);
+        PostTransformChangeInfo newInfo =
+                PostTransformChangeInfo.of(TABLE_ID, newSchema, newSchema);
+        assertThat(argumentNames)
+                .filteredOn(
+                        TransformParser.binaryStringColumns(
+                                SCHEMA.getColumns(), new SupportedMetadataColumn[0]))
+                .containsExactly("name");
+        assertThat(argumentNames)
+                .filteredOn(
+                        TransformParser.binaryStringColumns(
+                                newSchema.getColumns(), new SupportedMetadataColumn[0]))
+                .containsExactlyInAnyOrder("name", "age");
+
+        TransformExpressionArguments oldArguments =
+                new TransformExpressionArguments(
+                        oldInfo,
+                        argumentNames,
+                        Collections.emptySet(),
+                        Collections.emptyMap(),
+                        "UTC",
+                        Collections.emptyList());
+        assertThat(
+                        oldArguments.generateParams(
+                                record(SCHEMA, 1, "Alice", 18), 1L, "+I", Collections.emptyMap()))
+                .containsExactly("Alice", 18, "UTC", 1L);
+
+        // the arguments bound to the new schema read the moved and retyped columns
+        TransformExpressionArguments newArguments =
+                new TransformExpressionArguments(
+                        newInfo,
+                        argumentNames,
+                        Collections.emptySet(),
+                        Collections.emptyMap(),
+                        "UTC",
+                        Collections.emptyList());
+        assertThat(
+                        newArguments.generateParams(
+                                record(newSchema, 1, "alice@example.com", "eighteen", "Alice"),
+                                1L,
+                                "+U",
+                                Collections.emptyMap()))
+                .containsExactly("Alice", "eighteen", "UTC", 1L);
+    }
+
+    @Test
+    void testMetadataShadowsColumns() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT())
+                        .physicalColumn("op_ts", DataTypes.STRING())
+                        .physicalColumn(MetadataColumns.DEFAULT_TABLE_NAME, DataTypes.STRING())
+                        .primaryKey("id")
+                        .build();
+        PostTransformChangeInfo tableInfo = PostTransformChangeInfo.of(TABLE_ID, schema, schema);
+        List<String> argumentNames = Arrays.asList("op_ts", MetadataColumns.DEFAULT_TABLE_NAME);
+        assertThat(argumentNames)
+                .filteredOn(
+                        TransformParser.binaryStringColumns(
+                                schema.getColumns(),
+                                OP_TS_METADATA.values().toArray(new SupportedMetadataColumn[0])))
+                .isEmpty();
+
+        TransformExpressionArguments arguments =
+                new TransformExpressionArguments(
+                        tableInfo,
+                        argumentNames,
+                        Collections.emptySet(),
+                        OP_TS_METADATA,
+                        "UTC",
+                        Collections.emptyList());
+        assertThat(
+                        arguments.generateParams(
+                                record(schema, 1, "column", "column"),
+                                1L,
+                                "+I",
+                                Collections.singletonMap("op_ts", "42")))
+                .containsExactly(42L, "users", "UTC", 1L);
+    }
+
+    @Test
+    void testUnknownArgument() {
+        PostTransformChangeInfo tableInfo = PostTransformChangeInfo.of(TABLE_ID, SCHEMA, SCHEMA);
+        TransformExpressionArguments arguments =
+                new TransformExpressionArguments(
+                        tableInfo,
+                        Collections.singletonList("unknown"),
+                        Collections.emptySet(),
+                        Collections.emptyMap(),
+                        "UTC",
+                        Collections.emptyList());
+        assertThatThrownBy(
+                        () ->
+                                arguments.generateParams(
+                                        record(SCHEMA, 1, "Alice", 18),
+                                        1L,
+                                        "+I",
+                                        Collections.emptyMap()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Failed to evaluate argument unknown");
+    }
+
+    private static BinaryRecordData record(Schema schema, Object... values) {
+        Object[] fields = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            fields[i] =
+                    values[i] instanceof String
+                            ? BinaryStringData.fromString((String) values[i])
+                            : values[i];
+        }
+        return new BinaryRecordDataGenerator(DataTypeConverter.toRowType(schema.getColumns()))
+                .generate(fields);
+    }
+
+    /** A metadata column reading the operation timestamp. */
+    private static class OpTsMetadataColumn implements SupportedMetadataColumn {
+
+        @Override
+        public String getName() {
+            return "op_ts";
+        }
+
+        @Override
+        public DataType getType() {
+            return DataTypes.BIGINT().notNull();
+        }
+
+        @Override
+        public Class<?> getJavaClass() {
+            return Long.class;
+        }
+
+        @Override
+        public Object read(Map<String, String> metadata) {
+            return Long.parseLong(metadata.get("op_ts"));
+        }
+    }
+}
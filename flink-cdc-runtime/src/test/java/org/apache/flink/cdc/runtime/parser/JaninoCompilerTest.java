@@ -18,7 +18,9 @@
 package org.apache.flink.cdc.runtime.parser;
 
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
 
+import org.apache.calcite.sql.SqlNode;
 import org.codehaus.commons.compiler.CompileException;
 import org.codehaus.commons.compiler.Location;
 import org.codehaus.janino.ExpressionEvaluator;
@@ -35,7 +37,10 @@ import java.io.StringWriter;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -126,6 +131,144 @@ public class JaninoCompilerTest {
         Assert.assertEquals(3.0, evaluate);
     }
 
+    @Test
+    public void testFindBinaryStringArgumentNames() {
+        Predicate<String> allStrings = name -> true;
+        assertThat(
+                        TransformParser.parseFilterBinaryStringArgumentNames(
+                                "col1 = 'a' AND col2 > col3 AND col4 IS NOT NULL",
+                                new ArrayList<>(),
+                                allStrings))
+                .containsExactlyInAnyOrder("col1", "col2", "col3", "col4");
+        assertThat(
+                        TransformParser.parseFilterBinaryStringArgumentNames(
+                                "CHAR_LENGTH(col1) > 3 AND UPPER(col2) = 'A' AND col3 IN ('a', 'b')",
+                                new ArrayList<>(),
+                                allStrings))
+                .containsExactlyInAnyOrder("col1", "col2", "col3");
+        // The functions without binary string overloads take decoded strings
+        assertThat(
+                        TransformParser.parseFilterBinaryStringArgumentNames(
+                                "col1 LIKE 'a%' AND col2 = 'a' AND REGEXP_REPLACE(col2, 'a', 'b') = 'b'",
+                                new ArrayList<>(), allStrings))
+                .isEmpty();
+        // The literals are strings, so the strings concatenated with them are decoded
+        assertThat(
+                        TransformParser.parseFilterBinaryStringArgumentNames(
+                                "col1 || col2 = 'ab' AND col3 || 'b' = 'ab'",
+                                new ArrayList<>(),
+                                allStrings))
+                .containsExactlyInAnyOrder("col1", "col2");
+        // Only the string columns are candidates, and the strings concatenated with other columns
+        // are decoded
+        Predicate<String> stringColumns = name -> !name.equals("col3");
+        assertThat(
+                        TransformParser.parseFilterBinaryStringArgumentNames(
+                                "col1 = 'a' AND col3 > 1 AND col2 || col3 = 'b3'",
+                                new ArrayList<>(),
+                                stringColumns))
+                .containsExactly("col1");
+        // A column taken as a binary string somewhere is decoded nowhere, so the concatenation
+        // takes decoded strings for all of its operands
+        assertThat(
+                        TransformParser.parseFilterBinaryStringArgumentNames(
+                                "col1 || col2 = 'ab' AND col2 || col3 = 'b3'",
+                                new ArrayList<>(),
+                                stringColumns))
+                .isEmpty();
+    }
+
+    @Test
+    public void testIsBinaryStringResult() {
+        Set<String> binaryStringColumns = new HashSet<>(Arrays.asList("col1", "col2"));
+        Stream.of(
+                        Tuple2.of("col1", true),
+                        Tuple2.of("UPPER(col1 || col2)", true),
+                        Tuple2.of("SUBSTR(col1, 1, 2)", true),
+                        Tuple2.of("col1 || 'a'", false),
+                        Tuple2.of("col1 || col3", false),
+                        Tuple2.of("CHAR_LENGTH(col1)", false),
+                        Tuple2.of("REGEXP_REPLACE(col1, 'a', 'b')", false))
+                .forEach(
+                        t -> {
+                            SqlNode node =
+                                    TransformParser.parseSelect("SELECT " + t.f0 + " FROM TB")
+                                            .getSelectList()
+                                            .get(0);
+                            assertThat(
+                                            JaninoCompiler.isBinaryStringResult(
+                                                    node,
+                                                    new ArrayList<>(),
+                                                    binaryStringColumns::contains))
+                                    .as(t.f0)
+                                    .isEqualTo(t.f1);
+                        });
+    }
+
+    @Test
+    public void testBinaryStringFunctions() throws InvocationTargetException {
+        List<String> columnNames = Arrays.asList("col1", "col2");
+        List<Class<?>> paramTypes = Arrays.asList(BinaryStringData.class, BinaryStringData.class);
+        Stream.of(
+                        Tuple2.of("valueEquals(col1, \"abc\")", true),
+                        Tuple2.of("valueEquals(col2, \"abc\")", false),
+                        Tuple2.of("valueEquals(col2, \"\u00e9t\u00e9\")", true),
+                        Tuple2.of("greaterThan(col1, col2)", false),
+                        Tuple2.of("lessThan(col1, \"abd\")", true),
+                        Tuple2.of("greaterThanOrEqual(col2, \"\u00e9t\u00e9\")", true),
+                        Tuple2.of("in(col1, \"a\", \"abc\")", true),
+                        Tuple2.of("charLength(col2) == 3", true))
+                .forEach(
+                        t -> {
+                            ExpressionEvaluator expressionEvaluator =
+                                    JaninoCompiler.compileExpression(
+                                            JaninoCompiler.loadSystemFunction(t.f0),
+                                            columnNames,
+                                            paramTypes,
+                                            Boolean.class);
+                            try {
+                                assertThat(
+                                                expressionEvaluator.evaluate(
+                                                        new Object[] {
+                                                            BinaryStringData.fromString("abc"),
+                                                            BinaryStringData.fromString(
+                                                                    "\u00e9t\u00e9")
+                                                        }))
+                                        .isEqualTo(t.f1);
+                            } catch (InvocationTargetException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+
+        Stream.of(
+                        Tuple2.of("upper(col1)", "ABC"),
+                        Tuple2.of("substr(col1, 2)", "bc"),
+                        Tuple2.of("substring(col1, -2, 1)", "b"),
+                        Tuple2.of("substr(col2, 2, 1)", "t"),
+                        Tuple2.of("concat(col1, col2)", "abc\u00e9t\u00e9"))
+                .forEach(
+                        t -> {
+                            ExpressionEvaluator expressionEvaluator =
+                                    JaninoCompiler.compileExpression(
+                                            JaninoCompiler.loadSystemFunction(t.f0),
+                                            columnNames,
+                                            paramTypes,
+                                            BinaryStringData.class);
+                            try {
+                                assertThat(
+                                                expressionEvaluator.evaluate(
+                                                        new Object[] {
+                                                            BinaryStringData.fromString("abc"),
+                                                            BinaryStringData.fromString(
+                                                                    "\u00e9t\u00e9")
+                                                        }))
+                                        .isEqualTo(BinaryStringData.fromString(t.f1));
+                            } catch (InvocationTargetException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+    }
+
     @Test
     public void testLargeNumericLiterals() {
         // Test parsing integer literals
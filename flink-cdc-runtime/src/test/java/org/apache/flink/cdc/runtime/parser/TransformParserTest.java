@@ -683,6 +683,42 @@ public class TransformParserTest {
                 .hasMessageContaining("Numeric literal '-9223372036854775809' out of range");
     }
 
+    @Test
+    public void testFoldConstantsOfFilterExpression() {
+        testFoldedFilterExpression("id > 1 + 2", "greaterThan(id, 3)");
+        testFoldedFilterExpression("id = 1 - 3", "valueEquals(id, (-2))");
+        testFoldedFilterExpression("id = 2147483647 + 1", "valueEquals(id, (-2147483648))");
+        testFoldedFilterExpression("id = 4294967296 * 2", "valueEquals(id, 8589934592L)");
+        testFoldedFilterExpression("id = 1.5 * 2", "valueEquals(id, 3.0D)");
+        testFoldedFilterExpression("abs(uniq_id) > abs(-10)", "greaterThan(abs(uniq_id), 10)");
+        testFoldedFilterExpression("name = upper('abc')", "valueEquals(name, \"ABC\")");
+        testFoldedFilterExpression("name = concat('a', 'b') || 'c'", "valueEquals(name, \"abc\")");
+        testFoldedFilterExpression(
+                "upper(name) = substr(lower('ABC'), 2)", "valueEquals(upper(name), \"bc\")");
+        testFoldedFilterExpression("char_length('abc') > 2", "true");
+        testFoldedFilterExpression(
+                "id = cast('1' as bigint) and name = cast(1 as string)",
+                "valueEquals(id, 1L) && valueEquals(name, \"1\")");
+        testFoldedFilterExpression("name like concat('^', 'a')", "like(name, \"^a\")");
+        testFoldedFilterExpression(
+                "case id when 1 + 1 then 'a' else upper('b') end = name",
+                "valueEquals((valueEquals(id, 2) ? \"a\" : \"B\"), name)");
+        // The non-deterministic and temporal functions are evaluated for every record
+        testFoldedFilterExpression("name = uuid()", "valueEquals(name, uuid())");
+        testFoldedFilterExpression(
+                "dt > to_timestamp('2024-01-01 00:00:00')",
+                "greaterThan(dt, toTimestamp(\"2024-01-01 00:00:00\", __time_zone__))");
+        // The expressions failing to be evaluated fail for every record
+        testFoldedFilterExpression("id = 1 / 0", "valueEquals(id, 1 / 0)");
+    }
+
+    private void testFoldedFilterExpression(String expression, String expressionExpect) {
+        String janinoExpression =
+                TransformParser.translateFilterExpressionToJaninoExpression(
+                        expression, Collections.emptyList(), true);
+        Assertions.assertThat(janinoExpression).isEqualTo(expressionExpect);
+    }
+
     private void testFilterExpression(String expression, String expressionExpect) {
         String janinoExpression =
                 TransformParser.translateFilterExpressionToJaninoExpression(
@@ -17,13 +17,25 @@
 
 package org.apache.flink.cdc.runtime.partitioning;
 
+import org.apache.flink.cdc.common.data.ArrayData;
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.MapData;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.StringData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.ZonedTimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
 import org.apache.flink.cdc.common.data.binary.BinaryStringData;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.FlushEvent;
 import org.apache.flink.cdc.common.event.SchemaChangeEventType;
 import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.function.HashFunction;
+import org.apache.flink.cdc.common.function.HashFunctionProvider;
 import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.sink.BinaryDataChangeEventHashFunctionProvider;
 import org.apache.flink.cdc.common.sink.DefaultDataChangeEventHashFunctionProvider;
 import org.apache.flink.cdc.common.types.DataTypes;
 import org.apache.flink.cdc.common.types.RowType;
@@ -34,6 +46,7 @@ import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -136,6 +149,185 @@ class PrePartitionOperatorTest {
         }
     }
 
+    @Test
+    void testPartitioningDataChangeEventWithBinaryHash() throws Exception {
+        HashFunctionProvider<DataChangeEvent> hashFunctionProvider =
+                new BinaryDataChangeEventHashFunctionProvider();
+        try (RegularEventOperatorTestHarness<RegularPrePartitionOperator, PartitioningEvent>
+                testHarness = createTestHarness(hashFunctionProvider)) {
+            // Initialization
+            testHarness.open();
+            testHarness.registerTableSchema(CUSTOMERS, CUSTOMERS_SCHEMA);
+
+            // DataChangeEvent without any preceding SchemaChangeEvent, like after a restore
+            RegularPrePartitionOperator operator = testHarness.getOperator();
+            BinaryRecordDataGenerator recordDataGenerator =
+                    new BinaryRecordDataGenerator(((RowType) CUSTOMERS_SCHEMA.toRowDataType()));
+            DataChangeEvent insertEvent =
+                    DataChangeEvent.insertEvent(
+                            CUSTOMERS,
+                            recordDataGenerator.generate(
+                                    new Object[] {1, new BinaryStringData("Alice"), 12345678L}));
+            DataChangeEvent deleteEvent =
+                    DataChangeEvent.deleteEvent(
+                            CUSTOMERS,
+                            recordDataGenerator.generate(
+                                    new Object[] {1, new BinaryStringData("Bob"), 12345689L}));
+            operator.processElement(new StreamRecord<>(insertEvent));
+            operator.processElement(new StreamRecord<>(deleteEvent));
+            int target =
+                    hashFunctionProvider
+                                    .getHashFunction(CUSTOMERS, CUSTOMERS_SCHEMA)
+                                    .hashcode(insertEvent)
+                            % DOWNSTREAM_PARALLELISM;
+            assertThat(testHarness.getOutputRecords().poll())
+                    .isEqualTo(
+                            new StreamRecord<>(PartitioningEvent.ofRegular(insertEvent, target)));
+            assertThat(testHarness.getOutputRecords().poll())
+                    .isEqualTo(
+                            new StreamRecord<>(PartitioningEvent.ofRegular(deleteEvent, target)));
+        }
+    }
+
+    @Test
+    void testBinaryHashOfPrimaryKeys() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.BIGINT())
+                        .physicalColumn("code", DataTypes.STRING())
+                        .physicalColumn("amount", DataTypes.DECIMAL(30, 2))
+                        .physicalColumn("ts", DataTypes.TIMESTAMP(6))
+                        .physicalColumn("payload", DataTypes.STRING())
+                        .primaryKey("id", "code", "amount", "ts")
+                        .build();
+        HashFunction<DataChangeEvent> hashFunction =
+                new BinaryDataChangeEventHashFunctionProvider().getHashFunction(CUSTOMERS, schema);
+        BinaryRecordDataGenerator recordDataGenerator =
+                new BinaryRecordDataGenerator(((RowType) schema.toRowDataType()));
+
+        // Equal primary keys are hashed equally, whatever the other fields and their layout
+        int hash =
+                hashFunction.hashcode(
+                        DataChangeEvent.insertEvent(
+                                CUSTOMERS,
+                                recordDataGenerator.generate(
+                                        new Object[] {
+                                            1L,
+                                            new BinaryStringData("a long primary key value"),
+                                            DecimalData.fromBigDecimal(
+                                                    new BigDecimal("1234.56"), 30, 2),
+                                            TimestampData.fromMillis(1700000000000L, 123),
+                                            new BinaryStringData("short")
+                                        })));
+        assertThat(hash).isNotNegative();
+        assertThat(
+                        hashFunction.hashcode(
+                                DataChangeEvent.updateEvent(
+                                        CUSTOMERS,
+                                        recordDataGenerator.generate(
+                                                new Object[] {2L, null, null, null, null}),
+                                        recordDataGenerator.generate(
+                                                new Object[] {
+                                                    1L,
+                                                    new BinaryStringData(
+                                                            "a long primary key value"),
+                                                    DecimalData.fromBigDecimal(
+                                                            new BigDecimal("1234.56"), 30, 2),
+                                                    TimestampData.fromMillis(1700000000000L, 123),
+                                                    new BinaryStringData(
+                                                            "a much longer payload value")
+                                                }))))
+                .isEqualTo(hash);
+
+        // Different primary keys are hashed differently
+        assertThat(
+                        hashFunction.hashcode(
+                                DataChangeEvent.insertEvent(
+                                        CUSTOMERS,
+                                        recordDataGenerator.generate(
+                                                new Object[] {
+                                                    1L,
+                                                    new BinaryStringData(
+                                                            "a long primary key value"),
+                                                    DecimalData.fromBigDecimal(
+                                                            new BigDecimal("1234.56"), 30, 2),
+                                                    TimestampData.fromMillis(1700000000000L, 124),
+                                                    new BinaryStringData("short")
+                                                }))))
+                .isNotEqualTo(hash);
+    }
+
+    @Test
+    void testBinaryHashIsTheSameForEveryRecordRepresentation() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("c_boolean", DataTypes.BOOLEAN())
+                        .physicalColumn("c_tinyint", DataTypes.TINYINT())
+                        .physicalColumn("c_smallint", DataTypes.SMALLINT())
+                        .physicalColumn("c_int", DataTypes.INT())
+                        .physicalColumn("c_bigint", DataTypes.BIGINT())
+                        .physicalColumn("c_float", DataTypes.FLOAT())
+                        .physicalColumn("c_double", DataTypes.DOUBLE())
+                        .physicalColumn("c_date", DataTypes.DATE())
+                        .physicalColumn("c_compact_decimal", DataTypes.DECIMAL(10, 2))
+                        .physicalColumn("c_decimal", DataTypes.DECIMAL(30, 2))
+                        .physicalColumn("c_short_string", DataTypes.STRING())
+                        .physicalColumn("c_string", DataTypes.STRING())
+                        .physicalColumn("c_bytes", DataTypes.BYTES())
+                        .physicalColumn("c_timestamp", DataTypes.TIMESTAMP(6))
+                        .physicalColumn("c_timestamp_ltz", DataTypes.TIMESTAMP_LTZ(6))
+                        .physicalColumn("c_null", DataTypes.STRING())
+                        .primaryKey(
+                                "c_boolean",
+                                "c_tinyint",
+                                "c_smallint",
+                                "c_int",
+                                "c_bigint",
+                                "c_float",
+                                "c_double",
+                                "c_date",
+                                "c_compact_decimal",
+                                "c_decimal",
+                                "c_short_string",
+                                "c_string",
+                                "c_bytes",
+                                "c_timestamp",
+                                "c_timestamp_ltz",
+                                "c_null")
+                        .build();
+        Object[] fields = {
+            true,
+            (byte) 1,
+            (short) 2,
+            3,
+            4L,
+            5.5f,
+            6.6d,
+            19000,
+            DecimalData.fromBigDecimal(new BigDecimal("1234.56"), 10, 2),
+            DecimalData.fromBigDecimal(new BigDecimal("123456789012345678901234.56"), 30, 2),
+            BinaryStringData.fromString("short"),
+            BinaryStringData.fromString("a long primary key value"),
+            new byte[] {1, 2, 3},
+            TimestampData.fromMillis(1700000000000L, 123),
+            LocalZonedTimestampData.fromEpochMillis(1700000000000L, 456),
+            null
+        };
+        HashFunction<DataChangeEvent> hashFunction =
+                new BinaryDataChangeEventHashFunctionProvider().getHashFunction(CUSTOMERS, schema);
+
+        int binaryHash =
+                hashFunction.hashcode(
+                        DataChangeEvent.insertEvent(
+                                CUSTOMERS,
+                                new BinaryRecordDataGenerator((RowType) schema.toRowDataType())
+                                        .generate(fields)));
+        int genericHash =
+                hashFunction.hashcode(
+                        DataChangeEvent.insertEvent(CUSTOMERS, new GenericRecordData(fields)));
+        assertThat(genericHash).isEqualTo(binaryHash);
+    }
+
     private int getPartitioningTarget(Schema schema, DataChangeEvent dataChangeEvent) {
         return new DefaultDataChangeEventHashFunctionProvider()
                         .getHashFunction(null, schema)
@@ -145,11 +337,115 @@ class PrePartitionOperatorTest {
 
     private RegularEventOperatorTestHarness<RegularPrePartitionOperator, PartitioningEvent>
             createTestHarness() {
+        return createTestHarness(new DefaultDataChangeEventHashFunctionProvider());
+    }
+
+    private RegularEventOperatorTestHarness<RegularPrePartitionOperator, PartitioningEvent>
+            createTestHarness(HashFunctionProvider<DataChangeEvent> hashFunctionProvider) {
         RegularPrePartitionOperator operator =
                 new RegularPrePartitionOperator(
                         TestingSchemaRegistryGateway.SCHEMA_OPERATOR_ID,
                         DOWNSTREAM_PARALLELISM,
-                        new DefaultDataChangeEventHashFunctionProvider());
+                        hashFunctionProvider);
         return RegularEventOperatorTestHarness.with(operator, DOWNSTREAM_PARALLELISM);
     }
+
+    /** A {@link RecordData} which is not a {@link BinaryRecordData}, holding the fields as is. */
+    private static class GenericRecordData implements RecordData {
+        private final Object[] fields;
+
+        private GenericRecordData(Object[] fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public int getArity() {
+            return fields.length;
+        }
+
+        @Override
+        public boolean isNullAt(int pos) {
+            return fields[pos] == null;
+        }
+
+        @Override
+        public boolean getBoolean(int pos) {
+            return (boolean) fields[pos];
+        }
+
+        @Override
+        public byte getByte(int pos) {
+            return (byte) fields[pos];
+        }
+
+        @Override
+        public short getShort(int pos) {
+            return (short) fields[pos];
+        }
+
+        @Override
+        public int getInt(int pos) {
+            return (int) fields[pos];
+        }
+
+        @Override
+        public long getLong(int pos) {
+            return (long) fields[pos];
+        }
+
+        @Override
+        public float getFloat(int pos) {
+            return (float) fields[pos];
+        }
+
+        @Override
+        public double getDouble(int pos) {
+            return (double) fields[pos];
+        }
+
+        @Override
+        public byte[] getBinary(int pos) {
+            return (byte[]) fields[pos];
+        }
+
+        @Override
+        public StringData getString(int pos) {
+            return (StringData) fields[pos];
+        }
+
+        @Override
+        public DecimalData getDecimal(int pos, int precision, int scale) {
+            return (DecimalData) fields[pos];
+        }
+
+        @Override
+        public TimestampData getTimestamp(int pos, int precision) {
+            return (TimestampData) fields[pos];
+        }
+
+        @Override
+        public ZonedTimestampData getZonedTimestamp(int pos, int precision) {
+            return (ZonedTimestampData) fields[pos];
+        }
+
+        @Override
+        public LocalZonedTimestampData getLocalZonedTimestampData(int pos, int precision) {
+            return (LocalZonedTimestampData) fields[pos];
+        }
+
+        @Override
+        public ArrayData getArray(int pos) {
+            return (ArrayData) fields[pos];
+        }
+
+        @Override
+        public MapData getMap(int pos) {
+            return (MapData) fields[pos];
+        }
+
+        @Override
+        public RecordData getRow(int pos, int numFields) {
+            return (RecordData) fields[pos];
+        }
+    }
 }
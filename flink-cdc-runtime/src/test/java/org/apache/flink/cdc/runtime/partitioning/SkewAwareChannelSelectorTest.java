@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.partitioning;
+
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for {@link SkewAwareChannelSelector}. */
+class SkewAwareChannelSelectorTest {
+    private static final TableId LOGS = TableId.tableId("my_company", "my_branch", "logs");
+    private static final TableId ORDERS = TableId.tableId("my_company", "my_branch", "orders");
+    private static final RowType ROW_TYPE = RowType.of(DataTypes.INT(), DataTypes.STRING());
+    private static final int DOWNSTREAM_PARALLELISM = 4;
+    private static final int WINDOW_SIZE = 100;
+    private static final int TABLE_HASH = 7;
+
+    private final BinaryRecordDataGenerator recordDataGenerator =
+            new BinaryRecordDataGenerator(ROW_TYPE);
+
+    @Test
+    void testUniformLoadIsNotSpread() {
+        SkewAwareChannelSelector selector =
+                new SkewAwareChannelSelector(DOWNSTREAM_PARALLELISM, WINDOW_SIZE);
+        for (int i = 0; i < WINDOW_SIZE * 3; i++) {
+            TableId tableId = TableId.tableId("my_company", "my_branch", "table_" + (i % 16));
+            DataChangeEvent event = insertEvent(tableId, i);
+            assertThat(selector.select(event, i % 16, false))
+                    .isEqualTo((i % 16) % DOWNSTREAM_PARALLELISM);
+        }
+        for (int i = 0; i < 16; i++) {
+            assertThat(
+                            selector.getSpreadWidth(
+                                    TableId.tableId("my_company", "my_branch", "table_" + i)))
+                    .isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testHotTableIsSpreadInNextWindow() {
+        SkewAwareChannelSelector selector =
+                new SkewAwareChannelSelector(DOWNSTREAM_PARALLELISM, WINDOW_SIZE);
+        // The first window routes the hot table to its hashed channel only
+        Set<Integer> channels = new HashSet<>();
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            channels.add(selector.select(insertEvent(LOGS, i), TABLE_HASH, false));
+        }
+        assertThat(channels).containsExactly(TABLE_HASH % DOWNSTREAM_PARALLELISM);
+        assertThat(selector.getSpreadWidth(LOGS)).isEqualTo(DOWNSTREAM_PARALLELISM);
+
+        // The next window spreads it across all channels
+        channels.clear();
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            channels.add(selector.select(insertEvent(LOGS, i), TABLE_HASH, false));
+        }
+        assertThat(channels).containsExactlyInAnyOrder(0, 1, 2, 3);
+    }
+
+    @Test
+    void testHotTableIsSpreadByLoad() {
+        SkewAwareChannelSelector selector =
+                new SkewAwareChannelSelector(DOWNSTREAM_PARALLELISM, WINDOW_SIZE);
+        // The hot table carries half of the load, which is two fair shares
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            if (i % 2 == 0) {
+                selector.select(insertEvent(LOGS, i), TABLE_HASH, false);
+            } else {
+                selector.select(insertEvent(ORDERS, i), i, true);
+            }
+        }
+        assertThat(selector.getSpreadWidth(LOGS)).isEqualTo(2);
+        assertThat(selector.getSpreadWidth(ORDERS)).isEqualTo(1);
+    }
+
+    @Test
+    void testHotTableWithPrimaryKeysIsRoutedByPrimaryKeys() {
+        SkewAwareChannelSelector selector =
+                new SkewAwareChannelSelector(DOWNSTREAM_PARALLELISM, WINDOW_SIZE);
+        // All the events of the hot table are routed by the hash code of their primary keys,
+        // so the events of the same key always go to the same channel in order
+        for (int i = 0; i < WINDOW_SIZE * 3; i++) {
+            int keyHash = i % 10;
+            DataChangeEvent event =
+                    i % 3 == 2 ? deleteEvent(ORDERS, keyHash) : insertEvent(ORDERS, i);
+            assertThat(selector.select(event, keyHash, true))
+                    .isEqualTo(keyHash % DOWNSTREAM_PARALLELISM);
+        }
+        assertThat(selector.getSpreadWidth(ORDERS)).isEqualTo(1);
+    }
+
+    @Test
+    void testDeletedRowIsRoutedToSameChannel() {
+        SkewAwareChannelSelector selector =
+                new SkewAwareChannelSelector(DOWNSTREAM_PARALLELISM, WINDOW_SIZE);
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            selector.select(insertEvent(LOGS, i), TABLE_HASH, false);
+        }
+        int channel = selector.select(insertEvent(LOGS, 42), TABLE_HASH, false);
+        assertThat(selector.select(deleteEvent(LOGS, 42), TABLE_HASH, false)).isEqualTo(channel);
+    }
+
+    @Test
+    void testSnapshotAndRestore() throws Exception {
+        SkewAwareChannelSelector selector =
+                new SkewAwareChannelSelector(DOWNSTREAM_PARALLELISM, WINDOW_SIZE);
+        for (int i = 0; i < WINDOW_SIZE + WINDOW_SIZE / 2; i++) {
+            selector.select(insertEvent(LOGS, i), TABLE_HASH, false);
+        }
+        byte[] snapshot = selector.snapshot();
+
+        SkewAwareChannelSelector restored =
+                new SkewAwareChannelSelector(DOWNSTREAM_PARALLELISM, WINDOW_SIZE);
+        assertThat(restored.restore(snapshot)).isTrue();
+        // The restored selector routes the replayed events to the same channels
+        for (int i = 0; i < WINDOW_SIZE * 2; i++) {
+            boolean hot = i % 3 == 0;
+            DataChangeEvent event = insertEvent(hot ? LOGS : ORDERS, i);
+            int hashcode = hot ? TABLE_HASH : i;
+            assertThat(restored.select(event, hashcode, !hot))
+                    .isEqualTo(selector.select(event, hashcode, !hot));
+        }
+    }
+
+    @Test
+    void testRestoreWithAnotherParallelism() throws Exception {
+        SkewAwareChannelSelector selector =
+                new SkewAwareChannelSelector(DOWNSTREAM_PARALLELISM, WINDOW_SIZE);
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            selector.select(insertEvent(LOGS, i), TABLE_HASH, false);
+        }
+
+        SkewAwareChannelSelector restored =
+                new SkewAwareChannelSelector(DOWNSTREAM_PARALLELISM * 2, WINDOW_SIZE);
+        assertThat(restored.restore(selector.snapshot())).isFalse();
+        assertThat(restored.getSpreadWidth(LOGS)).isEqualTo(1);
+    }
+
+    private DataChangeEvent insertEvent(TableId tableId, int id) {
+        return DataChangeEvent.insertEvent(
+                tableId,
+                recordDataGenerator.generate(new Object[] {id, new BinaryStringData("log")}));
+    }
+
+    private DataChangeEvent deleteEvent(TableId tableId, int id) {
+        return DataChangeEvent.deleteEvent(
+                tableId,
+                recordDataGenerator.generate(new Object[] {id, new BinaryStringData("log")}));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.serializer.event;
+
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.FlushEvent;
+import org.apache.flink.cdc.common.event.SchemaChangeEventType;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.runtime.partitioning.PartitioningEvent;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Unit test for {@link CompactPartitioningEventSerializer}. */
+class CompactPartitioningEventSerializerTest {
+
+    @Test
+    void testEventsOfSeveralUpstreamSerializers() throws IOException {
+        TypeSerializer<PartitioningEvent> upstreamA = new CompactPartitioningEventSerializer();
+        TypeSerializer<PartitioningEvent> upstreamB = upstreamA.duplicate();
+        TypeSerializer<PartitioningEvent> downstream = upstreamA.duplicate();
+
+        List<PartitioningEvent> events = new ArrayList<>();
+        events.add(
+                PartitioningEvent.ofRegular(
+                        new FlushEvent(
+                                0,
+                                Arrays.asList(
+                                        TableId.tableId("namespace", "schema", "table"),
+                                        TableId.tableId("namespace", "schema", "table")),
+                                SchemaChangeEventType.CREATE_TABLE),
+                        1));
+        for (Event event : new SchemaChangeEventSerializerTest().getTestData()) {
+            events.add(PartitioningEvent.ofRegular(event, 1));
+        }
+        for (DataChangeEvent event : new DataChangeEventSerializerTest().getTestData()) {
+            events.add(PartitioningEvent.ofRegular(event, 1));
+            events.add(PartitioningEvent.ofDistributed(event, 3, 1));
+        }
+
+        // The events of both upstream serializers are interleaved in the same downstream input
+        DataOutputSerializer out = new DataOutputSerializer(1024);
+        for (PartitioningEvent event : events) {
+            upstreamA.serialize(event, out);
+            upstreamB.serialize(event, out);
+        }
+        DataInputDeserializer in = new DataInputDeserializer(out.getCopyOfBuffer());
+        List<PartitioningEvent> deserialized = new ArrayList<>();
+        while (in.available() > 0) {
+            deserialized.add(downstream.deserialize(in));
+        }
+
+        List<PartitioningEvent> expected = new ArrayList<>();
+        for (PartitioningEvent event : events) {
+            expected.add(event);
+            expected.add(event);
+        }
+        assertThat(deserialized).isEqualTo(expected);
+
+        // The table ids are only sent once per upstream serializer and target partition
+        DataOutputSerializer regularOut = new DataOutputSerializer(1024);
+        for (PartitioningEvent event : events) {
+            PartitioningEventSerializer.INSTANCE.serialize(event, regularOut);
+        }
+        assertThat(out.length()).isLessThan(2 * regularOut.length());
+    }
+
+    @Test
+    void testAnnouncementsArePerTargetPartition() throws IOException {
+        TypeSerializer<PartitioningEvent> upstream = new CompactPartitioningEventSerializer();
+        DataChangeEvent event = new DataChangeEventSerializerTest().getTestData()[1];
+
+        DataOutputSerializer firstPartition = new DataOutputSerializer(128);
+        upstream.serialize(PartitioningEvent.ofRegular(event, 0), firstPartition);
+        upstream.serialize(PartitioningEvent.ofRegular(event, 0), firstPartition);
+        DataOutputSerializer secondPartition = new DataOutputSerializer(128);
+        upstream.serialize(PartitioningEvent.ofRegular(event, 1), secondPartition);
+
+        TypeSerializer<PartitioningEvent> downstream = upstream.duplicate();
+        assertThat(
+                        downstream.deserialize(
+                                new DataInputDeserializer(secondPartition.getCopyOfBuffer())))
+                .isEqualTo(PartitioningEvent.ofRegular(event, 1));
+
+        // The second event of the first partition refers to the ids announced by the first one
+        DataInputDeserializer in = new DataInputDeserializer(firstPartition.getCopyOfBuffer());
+        TypeSerializer<PartitioningEvent> restored =
+                upstream.snapshotConfiguration().restoreSerializer();
+        assertThat(restored.deserialize(in)).isEqualTo(PartitioningEvent.ofRegular(event, 0));
+        TypeSerializer<PartitioningEvent> missingAnnouncements = upstream.duplicate();
+        assertThatThrownBy(() -> missingAnnouncements.deserialize(in))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("has never been announced");
+    }
+
+    @Test
+    void testCopyDoesNotTouchDictionaries() throws IOException {
+        TypeSerializer<PartitioningEvent> upstream = new CompactPartitioningEventSerializer();
+        List<PartitioningEvent> events = new ArrayList<>();
+        for (Event event : new SchemaChangeEventSerializerTest().getTestData()) {
+            events.add(PartitioningEvent.ofRegular(event, 0));
+        }
+        for (DataChangeEvent event : new DataChangeEventSerializerTest().getTestData()) {
+            events.add(PartitioningEvent.ofRegular(event, 0));
+            events.add(PartitioningEvent.ofDistributed(event, 2, 0));
+        }
+        DataOutputSerializer out = new DataOutputSerializer(1024);
+        for (PartitioningEvent event : events) {
+            upstream.serialize(event, out);
+        }
+
+        // The copying serializer has never seen the announcements, nor does it record them
+        TypeSerializer<PartitioningEvent> copier = upstream.duplicate();
+        DataInputDeserializer in = new DataInputDeserializer(out.getCopyOfBuffer());
+        DataOutputSerializer copied = new DataOutputSerializer(1024);
+        while (in.available() > 0) {
+            copier.copy(in, copied);
+        }
+        assertThat(copied.getCopyOfBuffer()).isEqualTo(out.getCopyOfBuffer());
+
+        DataInputDeserializer copiedIn = new DataInputDeserializer(copied.getCopyOfBuffer());
+        List<PartitioningEvent> deserialized = new ArrayList<>();
+        while (copiedIn.available() > 0) {
+            deserialized.add(copier.deserialize(copiedIn));
+        }
+        assertThat(deserialized).isEqualTo(events);
+    }
+}